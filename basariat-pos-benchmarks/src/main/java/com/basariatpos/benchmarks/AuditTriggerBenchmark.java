@@ -0,0 +1,110 @@
+package com.basariatpos.benchmarks;
+
+import org.jooq.DSLContext;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+
+/**
+ * The audit trigger's share of a checkout (migration V8): {@link CheckoutBenchmark#checkout()}
+ * with the audit triggers of every audited table
+ * <ul>
+ * <li>{@code off}: disabled, the baseline;</li>
+ * <li>{@code legacy}: running the original {@code audit_changes_trigger_function} of the
+ *     database script, which looks up the primary key column in the catalog and reads it with
+ *     a dynamic {@code EXECUTE} for every row, and serializes the values to text;</li>
+ * <li>{@code current}: running {@code audit_row_change}, as in production.</li>
+ * </ul>
+ * The triggers are swapped in the benchmark database for the trial and restored afterwards, so
+ * do not run other benchmarks against the same database at the same time.
+ */
+public class AuditTriggerBenchmark extends CheckoutBenchmark {
+
+    /**
+     * The original trigger function, except that the text values are cast back to JSONB, which
+     * AuditLog stores since V8.
+     */
+    private static final String LEGACY_FUNCTION = """
+            CREATE OR REPLACE FUNCTION benchmark_legacy_audit() RETURNS TRIGGER AS $$
+            DECLARE
+              v_user_id INT; v_record_pk TEXT; v_old_data JSONB; v_new_data JSONB;
+              v_excluded_cols TEXT[] := ARRAY['created_at', 'updated_at']; pk_column_name TEXT;
+            BEGIN
+              v_user_id := get_current_app_user_id();
+              SELECT a.attname INTO pk_column_name FROM pg_index i JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = ANY(i.indkey)
+              WHERE i.indrelid = TG_RELID AND i.indisprimary LIMIT 1;
+              IF (TG_OP = 'UPDATE') THEN
+                IF pk_column_name IS NOT NULL THEN EXECUTE format('SELECT ($1).%I::TEXT', pk_column_name) INTO v_record_pk USING OLD; END IF;
+                v_old_data := to_jsonb(OLD) - v_excluded_cols; v_new_data := to_jsonb(NEW) - v_excluded_cols;
+                IF v_old_data IS DISTINCT FROM v_new_data THEN
+                  INSERT INTO AuditLog (table_name, record_pk, old_value, new_value, action_type, user_id)
+                  VALUES (TG_TABLE_NAME, COALESCE(v_record_pk, OLD.ctid::text), v_old_data::TEXT::JSONB, v_new_data::TEXT::JSONB, TG_OP, v_user_id);
+                END IF;
+                RETURN NEW;
+              ELSIF (TG_OP = 'DELETE') THEN
+                IF pk_column_name IS NOT NULL THEN EXECUTE format('SELECT ($1).%I::TEXT', pk_column_name) INTO v_record_pk USING OLD; END IF;
+                v_old_data := to_jsonb(OLD) - v_excluded_cols;
+                INSERT INTO AuditLog (table_name, record_pk, old_value, action_type, user_id)
+                VALUES (TG_TABLE_NAME, COALESCE(v_record_pk, OLD.ctid::text), v_old_data::TEXT::JSONB, TG_OP, v_user_id);
+                RETURN OLD;
+              ELSIF (TG_OP = 'INSERT') THEN
+                IF pk_column_name IS NOT NULL THEN EXECUTE format('SELECT ($1).%I::TEXT', pk_column_name) INTO v_record_pk USING NEW; END IF;
+                v_new_data := to_jsonb(NEW) - v_excluded_cols;
+                INSERT INTO AuditLog (table_name, record_pk, new_value, action_type, user_id)
+                VALUES (TG_TABLE_NAME, COALESCE(v_record_pk, NEW.ctid::text), v_new_data::TEXT::JSONB, TG_OP, v_user_id);
+                RETURN NEW;
+              END IF;
+              RETURN NULL;
+            END;
+            $$ LANGUAGE plpgsql""";
+
+    @Param({"off", "legacy", "current"})
+    public String audit;
+
+    private DSLContext dsl;
+    private List<String> triggers;
+
+    @Setup
+    public void installAudit(BenchmarkDatabase database) {
+        dsl = database.dsl();
+        // Triggers of partitioned tables are listed once, on the table, not on each partition
+        triggers = dsl.resultQuery("SELECT pg_get_triggerdef(oid) FROM pg_trigger "
+                + "WHERE tgname LIKE 'trg\\_audit\\_%' AND tgparentid = 0 ORDER BY tgname").fetch(0, String.class);
+        switch (audit) {
+            case "off" -> forEachTrigger("ALTER TABLE {0} DISABLE TRIGGER {1}");
+            case "legacy" -> {
+                dsl.execute(LEGACY_FUNCTION);
+                forEachTrigger("DROP TRIGGER {1} ON {0}");
+                for (String trigger : triggers) {
+                    dsl.execute(trigger.replaceFirst("audit_row_change\\('\\w+'\\)", "benchmark_legacy_audit()"));
+                }
+            }
+            case "current" -> { }
+            default -> throw new IllegalArgumentException("Unknown audit mode: " + audit);
+        }
+    }
+
+    @TearDown
+    public void restoreAudit() {
+        switch (audit) {
+            case "off" -> forEachTrigger("ALTER TABLE {0} ENABLE TRIGGER {1}");
+            case "legacy" -> {
+                forEachTrigger("DROP TRIGGER {1} ON {0}");
+                triggers.forEach(dsl::execute);
+                dsl.execute("DROP FUNCTION benchmark_legacy_audit()");
+            }
+            default -> { }
+        }
+    }
+
+    /** Runs a statement for every audit trigger, with the table as {0} and the trigger as {1}. */
+    private void forEachTrigger(String statement) {
+        dsl.resultQuery("SELECT tgrelid::regclass::text, tgname FROM pg_trigger "
+                        + "WHERE tgname LIKE 'trg\\_audit\\_%' AND tgparentid = 0 ORDER BY tgname")
+                .fetch()
+                .forEach(r -> dsl.execute(statement.replace("{0}", r.get(0, String.class))
+                        .replace("{1}", r.get(1, String.class))));
+    }
+}
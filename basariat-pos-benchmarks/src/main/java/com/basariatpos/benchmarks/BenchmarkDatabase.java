@@ -0,0 +1,129 @@
+package com.basariatpos.benchmarks;
+
+import com.basariatpos.config.AppSessionContext;
+import com.basariatpos.config.DatabaseConfig;
+import com.basariatpos.config.DslContextFactory;
+import com.basariatpos.config.PooledDataSource;
+import com.basariatpos.db.generated.Routines;
+import org.jooq.DSLContext;
+import org.jooq.Record2;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.math.BigDecimal;
+
+import static com.basariatpos.db.generated.Tables.SHIFTS;
+import static com.basariatpos.db.generated.Tables.USERS;
+
+/**
+ * Connection to the benchmark database, shared by all benchmarks of one fork.
+ * <p>
+ * The database must already contain the schema (the full database script plus the
+ * migrations in {@code db/migration}); it is seeded with {@link SyntheticDataset} on first
+ * use. Connections go through the application's {@link PooledDataSource} with a dedicated
+ * {@code benchmark} user and an active shift, exactly as a signed-in cashier would.
+ * <p>
+ * Connection settings are read from the system properties {@code bench.db.url} (default
+ * {@code jdbc:postgresql://localhost:5433/basariat_pos_bench}), {@code bench.db.username}
+ * and {@code bench.db.password}. Forked benchmark JVMs inherit them from the launching JVM.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkDatabase {
+
+    /** Username of the account that owns the seeded data and the benchmark shift. */
+    public static final String BENCHMARK_USERNAME = "benchmark";
+
+    private final AppSessionContext sessionContext = new AppSessionContext();
+    private PooledDataSource dataSource;
+    private DSLContext dsl;
+    private SyntheticDataset dataset;
+    private int userId;
+    private int shiftId;
+
+    @Setup
+    public void open() {
+        DatabaseConfig config = new DatabaseConfig(
+                System.getProperty("bench.db.url", "jdbc:postgresql://localhost:5433/basariat_pos_bench"),
+                System.getProperty("bench.db.username", "basariat_pos_user"),
+                System.getProperty("bench.db.password", "POST"),
+                DatabaseConfig.DEFAULT_MAX_POOL_SIZE, DatabaseConfig.DEFAULT_CONNECTION_TIMEOUT);
+        dataSource = new PooledDataSource(config, sessionContext);
+        dsl = DslContextFactory.create(dataSource);
+
+        userId = ensureUser();
+        sessionContext.setCurrentUser(userId);
+        shiftId = ensureActiveShift();
+        sessionContext.setCurrentShift(shiftId);
+
+        dataset = SyntheticDataset.fromSystemProperties();
+        dataset.ensureLoaded(dsl);
+    }
+
+    @TearDown
+    public void close() {
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+
+    /**
+     * @return a context on the pool, carrying the benchmark user and shift.
+     */
+    public DSLContext dsl() {
+        return dsl;
+    }
+
+    /**
+     * @return the pool behind {@link #dsl()}, for benchmarks that manage their own transaction.
+     */
+    public PooledDataSource dataSource() {
+        return dataSource;
+    }
+
+    /**
+     * @return the dataset the database was seeded with.
+     */
+    public SyntheticDataset dataset() {
+        return dataset;
+    }
+
+    /**
+     * @return the ID of the {@value #BENCHMARK_USERNAME} user.
+     */
+    public int userId() {
+        return userId;
+    }
+
+    /**
+     * @return the ID of the benchmark user's active shift.
+     */
+    public int shiftId() {
+        return shiftId;
+    }
+
+    private int ensureUser() {
+        dsl.insertInto(USERS, USERS.USERNAME, USERS.PASSWORD_HASH, USERS.FULL_NAME, USERS.ROLE)
+                .values(BENCHMARK_USERNAME, "!", "Benchmark", "Admin")
+                .onConflict(USERS.USERNAME).doNothing()
+                .execute();
+        return dsl.select(USERS.USER_ID).from(USERS).where(USERS.USERNAME.eq(BENCHMARK_USERNAME)).fetchSingle(USERS.USER_ID);
+    }
+
+    /** Reuses the user's open shift, resuming it if paused, or starts a new one. */
+    private int ensureActiveShift() {
+        Record2<Integer, String> open = dsl.select(SHIFTS.SHIFT_ID, SHIFTS.STATUS)
+                .from(SHIFTS)
+                .where(SHIFTS.STARTED_BY_USER_ID.eq(userId))
+                .and(SHIFTS.STATUS.in("Active", "Paused"))
+                .fetchOne();
+        if (open == null) {
+            return Routines.startshift(dsl.configuration(), userId, new BigDecimal("500.00"));
+        }
+        if ("Paused".equals(open.value2())) {
+            Routines.resumeshift(dsl.configuration(), open.value1(), userId);
+        }
+        return open.value1();
+    }
+}
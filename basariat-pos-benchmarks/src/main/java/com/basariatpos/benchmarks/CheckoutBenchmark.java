@@ -0,0 +1,88 @@
+package com.basariatpos.benchmarks;
+
+import com.basariatpos.db.generated.Routines;
+import com.basariatpos.db.generated.tables.pojos.Salesorderitems;
+import com.basariatpos.db.generated.tables.pojos.Salesorders;
+import com.basariatpos.repository.SalesOrderRepository;
+import org.jooq.Record2;
+import org.jooq.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.basariatpos.db.generated.Tables.INVENTORYITEMS;
+
+/**
+ * A cashier checkout: one sales order with its lines saved through
+ * {@link SalesOrderRepository}, then paid in full in cash with
+ * {@code RecordPaymentAndUpdateSalesOrder}. Every trigger on the way (active shift, order
+ * subtotal, shift totals, audit) fires as in production.
+ * <p>
+ * Orders are committed, so each run adds to the benchmark database; stock items are seeded
+ * with enough quantity that this never matters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CheckoutBenchmark {
+
+    @Param({"3"})
+    public int lines;
+
+    private BenchmarkDatabase database;
+    private SalesOrderRepository repository;
+    private Result<Record2<Integer, BigDecimal>> items;
+    private int next;
+
+    @Setup
+    public void prepare(BenchmarkDatabase database) {
+        this.database = database;
+        repository = new SalesOrderRepository(database.dsl());
+        items = database.dsl().select(INVENTORYITEMS.INVENTORY_ITEM_ID, INVENTORYITEMS.SELLING_PRICE)
+                .from(INVENTORYITEMS)
+                .where(INVENTORYITEMS.IS_ACTIVE)
+                .orderBy(INVENTORYITEMS.INVENTORY_ITEM_ID)
+                .limit(100)
+                .fetch();
+    }
+
+    @Benchmark
+    public int checkout() {
+        Salesorders order = new Salesorders();
+        order.setStatus("Pending");
+        order.setCreatedByUserId(database.userId());
+
+        List<Salesorderitems> orderLines = new ArrayList<>(lines);
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < lines; i++) {
+            Record2<Integer, BigDecimal> item = items.get(next++ % items.size());
+            Salesorderitems line = new Salesorderitems();
+            line.setInventoryItemId(item.value1());
+            line.setQuantity(1);
+            line.setUnitPrice(item.value2());
+            orderLines.add(line);
+            total = total.add(item.value2());
+        }
+        repository.saveOrderWithItems(order, orderLines);
+
+        Routines.recordpaymentandupdatesalesorder(database.dsl().configuration(), order.getSalesOrderId(),
+                total, "Cash", null, null, database.userId(), null);
+        return order.getSalesOrderId();
+    }
+}
@@ -0,0 +1,94 @@
+package com.basariatpos.benchmarks;
+
+import com.basariatpos.db.generated.tables.daos.PatientsDao;
+import com.basariatpos.db.generated.tables.pojos.Patients;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserting patients through the generated {@link PatientsDao}: one {@code insert(Collection)}
+ * call, which jOOQ sends as a JDBC batch, against one {@code insert(Object)} call per row.
+ * <p>
+ * Each invocation runs in a transaction that is rolled back, so the table size and the
+ * {@code system_patient_id} values stay the same across iterations; the rollback, and the
+ * audit trigger rows it discards, are part of the measured time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DaoBatchInsertBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int batchSize;
+
+    private Connection connection;
+    private PatientsDao dao;
+    private int userId;
+
+    @Setup
+    public void open(BenchmarkDatabase database) throws SQLException {
+        connection = database.dataSource().getConnection();
+        connection.setAutoCommit(false);
+        dao = new PatientsDao(DSL.using(connection, SQLDialect.POSTGRES).configuration());
+        userId = database.userId();
+    }
+
+    @TearDown
+    public void close() throws SQLException {
+        connection.rollback();
+        connection.close();
+    }
+
+    @Benchmark
+    public List<Patients> insertCollection() throws SQLException {
+        List<Patients> patients = newPatients();
+        dao.insert(patients);
+        connection.rollback();
+        return patients;
+    }
+
+    @Benchmark
+    public List<Patients> insertOneByOne() throws SQLException {
+        List<Patients> patients = newPatients();
+        for (Patients patient : patients) {
+            dao.insert(patient);
+        }
+        connection.rollback();
+        return patients;
+    }
+
+    private List<Patients> newPatients() {
+        List<Patients> patients = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            Patients patient = new Patients();
+            patient.setSystemPatientId("BENCH-DAO-" + i);
+            patient.setFullName("Dao Patient " + i);
+            patient.setPhoneNumber("0790" + String.format("%06d", i));
+            patient.setWhatsappOptIn(false);
+            patient.setCreatedByUserId(userId);
+            patients.add(patient);
+        }
+        return patients;
+    }
+}
@@ -0,0 +1,133 @@
+package com.basariatpos.benchmarks;
+
+import com.basariatpos.db.generated.Routines;
+import com.basariatpos.db.generated.tables.pojos.Salesorderitems;
+import com.basariatpos.db.generated.tables.pojos.Salesorders;
+import com.basariatpos.repository.SalesOrderRepository;
+import org.jooq.Record2;
+import org.jooq.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.basariatpos.db.generated.Tables.INVENTORYITEMS;
+import static com.basariatpos.db.generated.Tables.SALESORDERS;
+
+/**
+ * Several cashiers completing orders for the same few stock items at once: each order is
+ * saved through {@link SalesOrderRepository}, then marked completed and passed to
+ * {@code ProcessOrderCompletionStockUpdate} in one transaction, as the checkout screen does.
+ * <p>
+ * Lines pick their items from a small hot set in random order, and may repeat an item, so
+ * concurrent completions contend for the same stock rows and cost layers with opposite line
+ * orders. A deadlock or serialization failure fails the benchmark. When the trial ends the
+ * stock of the hot items must have dropped by exactly the quantities completed; otherwise the
+ * tear-down fails with {@link IllegalStateException}.
+ * <p>
+ * Orders are committed, like those of {@link CheckoutBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class OrderCompletionBenchmark {
+
+    @Param({"4"})
+    public int lines;
+
+    /** Number of stock items all orders draw from; fewer items means more contention. */
+    @Param({"8"})
+    public int hotItems;
+
+    private BenchmarkDatabase database;
+    private SalesOrderRepository repository;
+    private Result<Record2<Integer, BigDecimal>> items;
+    private final Map<Integer, Integer> stockBefore = new HashMap<>();
+    private final Map<Integer, AtomicLong> completed = new ConcurrentHashMap<>();
+
+    @Setup(Level.Trial)
+    public void prepare(BenchmarkDatabase database) {
+        this.database = database;
+        repository = new SalesOrderRepository(database.dsl());
+        items = database.dsl().select(INVENTORYITEMS.INVENTORY_ITEM_ID, INVENTORYITEMS.SELLING_PRICE)
+                .from(INVENTORYITEMS)
+                .where(INVENTORYITEMS.IS_ACTIVE)
+                .orderBy(INVENTORYITEMS.INVENTORY_ITEM_ID)
+                .limit(hotItems)
+                .fetch();
+        stockBefore.putAll(stock());
+        items.forEach(item -> completed.put(item.value1(), new AtomicLong()));
+    }
+
+    @TearDown(Level.Trial)
+    public void verifyStock() {
+        Map<Integer, Integer> stockAfter = stock();
+        for (Map.Entry<Integer, AtomicLong> item : completed.entrySet()) {
+            long expected = stockBefore.get(item.getKey()) - item.getValue().get();
+            if (stockAfter.get(item.getKey()) != expected) {
+                throw new IllegalStateException("Stock of item " + item.getKey() + " is "
+                        + stockAfter.get(item.getKey()) + ", expected " + expected);
+            }
+        }
+    }
+
+    @Benchmark
+    public int completeOrder() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Salesorders order = new Salesorders();
+        order.setStatus("Pending");
+        order.setCreatedByUserId(database.userId());
+
+        List<Salesorderitems> orderLines = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            Record2<Integer, BigDecimal> item = items.get(random.nextInt(items.size()));
+            Salesorderitems line = new Salesorderitems();
+            line.setInventoryItemId(item.value1());
+            line.setQuantity(1 + random.nextInt(3));
+            line.setUnitPrice(item.value2());
+            orderLines.add(line);
+        }
+        repository.saveOrderWithItems(order, orderLines);
+
+        database.dsl().transaction(configuration -> {
+            configuration.dsl().update(SALESORDERS)
+                    .set(SALESORDERS.STATUS, "Completed")
+                    .where(SALESORDERS.SALES_ORDER_ID.eq(order.getSalesOrderId()))
+                    .execute();
+            Routines.processordercompletionstockupdate(configuration, order.getSalesOrderId());
+        });
+        orderLines.forEach(line -> completed.get(line.getInventoryItemId()).addAndGet(line.getQuantity()));
+        return order.getSalesOrderId();
+    }
+
+    private Map<Integer, Integer> stock() {
+        return database.dsl().select(INVENTORYITEMS.INVENTORY_ITEM_ID, INVENTORYITEMS.QUANTITY_ON_HAND)
+                .from(INVENTORYITEMS)
+                .where(INVENTORYITEMS.INVENTORY_ITEM_ID.in(items.getValues(INVENTORYITEMS.INVENTORY_ITEM_ID)))
+                .fetchMap(INVENTORYITEMS.INVENTORY_ITEM_ID, INVENTORYITEMS.QUANTITY_ON_HAND);
+    }
+}
@@ -0,0 +1,91 @@
+package com.basariatpos.benchmarks;
+
+import com.basariatpos.model.PatientSearchResult;
+import com.basariatpos.service.PatientSearchService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * {@link PatientSearchService#search(String, int)} with the result limit of the patient lookup
+ * screen, for search text of each kind the service handles:
+ * <ul>
+ * <li>{@code محمد}: a common first name, served by the prefix tier alone;</li>
+ * <li>{@code احمد}: the same with the hamza dropped, which only matches after normalization;</li>
+ * <li>{@code khatib}: part of a family name, needing the substring tier;</li>
+ * <li>{@code Mansur}: a misspelt family name, needing the fuzzy tier;</li>
+ * <li>{@code 0795}: part of a phone number.</li>
+ * </ul>
+ * {@link #searchAsYouType} searches every prefix of the text in turn, the worst case of a
+ * search box whose keystrokes are not debounced.
+ * <p>
+ * The searches are meant to be measured on {@value #TARGET_PATIENTS} patients; run them on a
+ * database of their own seeded with {@code -Dbench.patients=500000}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PatientSearchBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(PatientSearchBenchmark.class);
+
+    /** Number of patients the search is sized for. */
+    public static final int TARGET_PATIENTS = 500_000;
+
+    /** Results shown by the patient lookup screen. */
+    private static final int LIMIT = 20;
+
+    @Param({"محمد", "احمد", "khatib", "Mansur", "0795"})
+    public String text;
+
+    private PatientSearchService service;
+    private List<String> keystrokes;
+
+    @Setup
+    public void prepare(BenchmarkDatabase database) {
+        if (database.dataset().patients() < TARGET_PATIENTS) {
+            logger.warn("Searching {} patients; run with -Dbench.patients={} on a database of its own for the sized figures",
+                    database.dataset().patients(), TARGET_PATIENTS);
+        }
+        service = new PatientSearchService(database.dsl(), PatientSearchService.DEFAULT_DEBOUNCE, Runnable::run);
+        keystrokes = IntStream.rangeClosed(1, text.codePointCount(0, text.length()))
+                .mapToObj(n -> text.substring(0, text.offsetByCodePoints(0, n)))
+                .toList();
+    }
+
+    @TearDown
+    public void close() {
+        service.close();
+    }
+
+    @Benchmark
+    public List<PatientSearchResult> search() {
+        return service.search(text, LIMIT);
+    }
+
+    @Benchmark
+    public void searchAsYouType(Blackhole blackhole) {
+        for (String typed : keystrokes) {
+            blackhole.consume(service.search(typed, LIMIT));
+        }
+    }
+}
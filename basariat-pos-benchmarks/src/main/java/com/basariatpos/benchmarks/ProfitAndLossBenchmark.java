@@ -0,0 +1,62 @@
+package com.basariatpos.benchmarks;
+
+import com.basariatpos.db.generated.Routines;
+import com.basariatpos.db.generated.tables.records.GenerateprofitandlossstatementRecord;
+import com.basariatpos.model.ProfitAndLossStatement;
+import com.basariatpos.service.ProfitAndLossService;
+import org.jooq.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A profit and loss statement over the last {@code days} days, ending today: the
+ * {@code GenerateProfitAndLossStatement} function as the financial reports screen calls it,
+ * and {@link ProfitAndLossService} streaming the expense lines.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProfitAndLossBenchmark {
+
+    @Param({"1", "30", "365"})
+    public int days;
+
+    private BenchmarkDatabase database;
+    private LocalDate start;
+    private LocalDate end;
+    private ProfitAndLossService service;
+
+    @Setup
+    public void prepare(BenchmarkDatabase database) {
+        this.database = database;
+        end = LocalDate.now();
+        start = end.minusDays(days - 1L);
+        service = new ProfitAndLossService(database.dsl());
+    }
+
+    @Benchmark
+    public Result<GenerateprofitandlossstatementRecord> generateStatement() {
+        return Routines.generateprofitandlossstatement(database.dsl().configuration(), start, end);
+    }
+
+    @Benchmark
+    public ProfitAndLossStatement streamStatement(Blackhole blackhole) {
+        return service.generate(start, end, blackhole::consume);
+    }
+}
@@ -0,0 +1,99 @@
+package com.basariatpos.benchmarks;
+
+import com.basariatpos.db.generated.tables.pojos.Inventorysummaryview;
+import com.basariatpos.db.generated.tables.pojos.Salesdetailedview;
+import com.basariatpos.db.generated.tables.records.InventorysummaryviewRecord;
+import com.basariatpos.db.generated.tables.records.SalesdetailedviewRecord;
+import org.jooq.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.basariatpos.db.generated.Tables.INVENTORYSUMMARYVIEW;
+import static com.basariatpos.db.generated.Tables.SALESDETAILEDVIEW;
+
+/**
+ * Cost of turning fetched jOOQ records into the generated POJOs, without the database.
+ * <p>
+ * {@code *ResultInto} maps a whole {@link Result} with one {@code RecordMapper}, as
+ * {@code fetchInto(Class)} does; {@code *RecordInto} calls {@code into(Class)} per record,
+ * which looks the mapper up again for every row. {@link #inventorySummaryFetchInto} adds the
+ * query round trip for comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecordMappingBenchmark {
+
+    /** Rows per result; capped by what the dataset holds. */
+    @Param({"500"})
+    public int rows;
+
+    private BenchmarkDatabase database;
+    private Result<SalesdetailedviewRecord> sales;
+    private Result<InventorysummaryviewRecord> inventory;
+
+    @Setup
+    public void fetch(BenchmarkDatabase database) {
+        this.database = database;
+        sales = database.dsl().selectFrom(SALESDETAILEDVIEW)
+                .orderBy(SALESDETAILEDVIEW.SALES_ORDER_ID.desc())
+                .limit(rows)
+                .fetch();
+        inventory = database.dsl().selectFrom(INVENTORYSUMMARYVIEW)
+                .orderBy(INVENTORYSUMMARYVIEW.INVENTORY_ITEM_ID)
+                .limit(rows)
+                .fetch();
+    }
+
+    @Benchmark
+    public List<Salesdetailedview> salesDetailedResultInto() {
+        return sales.into(Salesdetailedview.class);
+    }
+
+    @Benchmark
+    public List<Salesdetailedview> salesDetailedRecordInto() {
+        List<Salesdetailedview> mapped = new ArrayList<>(sales.size());
+        for (SalesdetailedviewRecord record : sales) {
+            mapped.add(record.into(Salesdetailedview.class));
+        }
+        return mapped;
+    }
+
+    @Benchmark
+    public List<Inventorysummaryview> inventorySummaryResultInto() {
+        return inventory.into(Inventorysummaryview.class);
+    }
+
+    @Benchmark
+    public List<Inventorysummaryview> inventorySummaryRecordInto() {
+        List<Inventorysummaryview> mapped = new ArrayList<>(inventory.size());
+        for (InventorysummaryviewRecord record : inventory) {
+            mapped.add(record.into(Inventorysummaryview.class));
+        }
+        return mapped;
+    }
+
+    @Benchmark
+    public List<Inventorysummaryview> inventorySummaryFetchInto() {
+        return database.dsl().selectFrom(INVENTORYSUMMARYVIEW)
+                .orderBy(INVENTORYSUMMARYVIEW.INVENTORY_ITEM_ID)
+                .limit(rows)
+                .fetchInto(Inventorysummaryview.class);
+    }
+}
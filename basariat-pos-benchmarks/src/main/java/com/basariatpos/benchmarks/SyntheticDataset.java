@@ -0,0 +1,120 @@
+package com.basariatpos.benchmarks;
+
+import com.basariatpos.util.datagen.DataGenConfig;
+import com.basariatpos.util.datagen.SyntheticDataGenerator;
+import org.jooq.DSLContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import static com.basariatpos.db.generated.Tables.APPLICATIONSETTINGS;
+import static com.basariatpos.db.generated.Tables.SALESORDERS;
+
+/**
+ * Size and random seed of the data the benchmarks run against.
+ * <p>
+ * The rows are written by the application's {@link SyntheticDataGenerator}, so the same
+ * settings produce the same rows on every machine, and derived tables (order subtotals,
+ * shift totals, daily rollups) are consistent with what the application would have
+ * written. Every item opens with {@value #BASE_STOCK} units or more, so checkout benchmarks
+ * never run out; stock levels are not reduced for seeded orders.
+ * <p>
+ * The settings are stored in {@code ApplicationSettings} under {@link #SETTING_KEY}; a
+ * database is only seeded while it has no sales orders, and a database seeded with other
+ * settings is rejected rather than silently mixed.
+ *
+ * @param patients       number of patients.
+ * @param inventoryItems number of stock items, spread over one product per five items.
+ * @param salesOrders    number of sales orders.
+ * @param days           orders, payments and expenses are dated within this many days before today.
+ * @param seed           the random seed.
+ */
+public record SyntheticDataset(int patients, int inventoryItems, int salesOrders, int days, long seed) {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataset.class);
+
+    /** {@code ApplicationSettings} key recording which dataset a database holds. */
+    public static final String SETTING_KEY = "benchmark.dataset";
+
+    /** Stock every seeded item opens with, at least. */
+    public static final int BASE_STOCK = 1_000_000;
+
+    private static final int CASHIERS = 4;
+    private static final int SHIFTS_PER_DAY = 2;
+    private static final int EXPENSES_PER_DAY = 2;
+
+    public SyntheticDataset {
+        if (patients < 1 || inventoryItems < 1 || salesOrders < 1 || days < 1) {
+            throw new IllegalArgumentException("Dataset sizes must be positive: " + describe(patients, inventoryItems, salesOrders, days, seed));
+        }
+    }
+
+    /**
+     * Reads the dataset settings from system properties: {@code bench.patients} (default
+     * 20000), {@code bench.items} (500), {@code bench.orders} (50000), {@code bench.days}
+     * (365) and {@code bench.seed} (42).
+     *
+     * @return the configured dataset.
+     * @throws IllegalArgumentException if a value is not a positive number.
+     */
+    public static SyntheticDataset fromSystemProperties() {
+        return new SyntheticDataset(
+                Integer.getInteger("bench.patients", 20_000),
+                Integer.getInteger("bench.items", 500),
+                Integer.getInteger("bench.orders", 50_000),
+                Integer.getInteger("bench.days", 365),
+                Long.getLong("bench.seed", 42L));
+    }
+
+    /**
+     * Seeds the database unless it already holds this dataset. The generator disables the
+     * triggers of the tables it loads, so the connecting user must own them.
+     *
+     * @param dsl a context on the benchmark database.
+     * @throws IllegalStateException if the database holds other data.
+     */
+    public void ensureLoaded(DSLContext dsl) {
+        String loaded = dsl.select(APPLICATIONSETTINGS.SETTING_VALUE)
+                .from(APPLICATIONSETTINGS)
+                .where(APPLICATIONSETTINGS.SETTING_KEY.eq(SETTING_KEY))
+                .fetchOne(APPLICATIONSETTINGS.SETTING_VALUE);
+        if (toString().equals(loaded)) {
+            return;
+        }
+        if (loaded != null || dsl.fetchExists(SALESORDERS)) {
+            throw new IllegalStateException("Benchmark database already holds other data (" + (loaded == null ? "not seeded by the benchmarks" : loaded)
+                    + "); use an empty database or the same dataset settings as before");
+        }
+
+        long started = System.nanoTime();
+        logger.info("Seeding benchmark database with {}", this);
+        DataGenConfig config = toDataGenConfig();
+        dsl.connection(connection -> new SyntheticDataGenerator(config).generate(connection));
+        dsl.insertInto(APPLICATIONSETTINGS, APPLICATIONSETTINGS.SETTING_KEY, APPLICATIONSETTINGS.SETTING_VALUE, APPLICATIONSETTINGS.DESCRIPTION)
+                .values(SETTING_KEY, toString(), "Synthetic dataset loaded by basariat-pos-benchmarks")
+                .execute();
+        dsl.execute("ANALYZE");
+        logger.info("Seeded benchmark database in {} s", (System.nanoTime() - started) / 1_000_000_000L);
+    }
+
+    /**
+     * @return the generator settings for this dataset, with its history ending yesterday.
+     */
+    public DataGenConfig toDataGenConfig() {
+        ZoneId zone = ZoneId.systemDefault();
+        return new DataGenConfig(patients, (inventoryItems + 4) / 5, inventoryItems, BASE_STOCK, CASHIERS,
+                days, SHIFTS_PER_DAY, salesOrders, EXPENSES_PER_DAY, LocalDate.now(zone).minusDays(1), zone, seed);
+    }
+
+    @Override
+    public String toString() {
+        return describe(patients, inventoryItems, salesOrders, days, seed);
+    }
+
+    private static String describe(int patients, int inventoryItems, int salesOrders, int days, long seed) {
+        return "patients=" + patients + ", items=" + inventoryItems + ", orders=" + salesOrders
+                + ", days=" + days + ", seed=" + seed;
+    }
+}
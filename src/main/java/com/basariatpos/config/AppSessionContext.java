@@ -0,0 +1,87 @@
+package com.basariatpos.config;
+
+import java.util.Objects;
+
+/**
+ * Holds the application session context (the logged-in user and the active shift)
+ * that the database expects to find in every session through {@code set_app_user}
+ * and {@code set_app_shift}.
+ * <p>
+ * The context lives on the client side only; {@link PooledDataSource} compares it with
+ * the context last applied to a pooled connection and replays it when they differ.
+ * Updates are atomic so a connection never sees a user from one login paired with a
+ * shift from another.
+ */
+public class AppSessionContext {
+
+    /**
+     * An immutable view of the session context at one point in time.
+     *
+     * @param userId  the logged-in user ID, or {@code null} if nobody is logged in.
+     * @param shiftId the active shift ID, or {@code null} if no shift is active.
+     */
+    public record Snapshot(Integer userId, Integer shiftId) {
+
+        /** The context of a session before login. */
+        public static final Snapshot EMPTY = new Snapshot(null, null);
+
+        /**
+         * Checks whether the given snapshot carries the same user as this one.
+         *
+         * @param other the snapshot to compare with.
+         * @return {@code true} if both user IDs are equal (including both {@code null}).
+         */
+        public boolean sameUser(Snapshot other) {
+            return Objects.equals(userId, other.userId);
+        }
+
+        /**
+         * Checks whether the given snapshot carries the same shift as this one.
+         *
+         * @param other the snapshot to compare with.
+         * @return {@code true} if both shift IDs are equal (including both {@code null}).
+         */
+        public boolean sameShift(Snapshot other) {
+            return Objects.equals(shiftId, other.shiftId);
+        }
+    }
+
+    private volatile Snapshot current = Snapshot.EMPTY;
+
+    /**
+     * Returns the current session context.
+     *
+     * @return the current snapshot, never {@code null}.
+     */
+    public Snapshot snapshot() {
+        return current;
+    }
+
+    /**
+     * Sets the logged-in user. Changing the user clears the active shift, because a
+     * shift always belongs to the user who started it.
+     *
+     * @param userId the user ID, or {@code null} on logout.
+     */
+    public synchronized void setCurrentUser(Integer userId) {
+        if (!Objects.equals(current.userId(), userId)) {
+            current = new Snapshot(userId, null);
+        }
+    }
+
+    /**
+     * Sets the active shift of the logged-in user.
+     *
+     * @param shiftId the shift ID, or {@code null} when the shift is paused or ended.
+     */
+    public synchronized void setCurrentShift(Integer shiftId) {
+        current = new Snapshot(current.userId(), shiftId);
+    }
+
+    /**
+     * Clears both the user and the shift, e.g. on logout.
+     */
+    public synchronized void clear() {
+        current = Snapshot.EMPTY;
+    }
+}
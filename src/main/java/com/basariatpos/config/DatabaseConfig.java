@@ -0,0 +1,68 @@
+package com.basariatpos.config;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * Connection settings for the center's PostgreSQL server.
+ *
+ * @param url               the JDBC URL, e.g. {@code jdbc:postgresql://192.168.1.10:5432/basariat_pos_db}.
+ * @param username          the database user.
+ * @param password          the database password.
+ * @param maxPoolSize       the maximum number of physical connections kept by the pool.
+ * @param connectionTimeout how long a caller waits for a free pooled connection.
+ */
+public record DatabaseConfig(String url, String username, String password,
+                             int maxPoolSize, Duration connectionTimeout) {
+
+    /** Default pool size; a POS terminal rarely runs more than a few queries at once. */
+    public static final int DEFAULT_MAX_POOL_SIZE = 4;
+
+    /** Default time to wait for a pooled connection before failing. */
+    public static final Duration DEFAULT_CONNECTION_TIMEOUT = Duration.ofSeconds(10);
+
+    public DatabaseConfig {
+        Objects.requireNonNull(url, "url");
+        Objects.requireNonNull(username, "username");
+        Objects.requireNonNull(connectionTimeout, "connectionTimeout");
+        if (maxPoolSize < 1) {
+            throw new IllegalArgumentException("maxPoolSize must be at least 1, was " + maxPoolSize);
+        }
+    }
+
+    /**
+     * Reads the settings from the application properties file. Recognised keys are
+     * {@code db.url}, {@code db.username}, {@code db.password}, {@code db.pool.maxSize}
+     * and {@code db.pool.connectionTimeoutMs}.
+     *
+     * @param properties the loaded properties.
+     * @return the database configuration.
+     * @throws IllegalArgumentException if a required key is missing or a number is invalid.
+     */
+    public static DatabaseConfig fromProperties(Properties properties) {
+        String url = required(properties, "db.url");
+        String username = required(properties, "db.username");
+        String password = properties.getProperty("db.password", "");
+        int maxPoolSize = Integer.parseInt(properties.getProperty("db.pool.maxSize",
+                String.valueOf(DEFAULT_MAX_POOL_SIZE)).trim());
+        Duration timeout = Duration.ofMillis(Long.parseLong(properties.getProperty("db.pool.connectionTimeoutMs",
+                String.valueOf(DEFAULT_CONNECTION_TIMEOUT.toMillis())).trim()));
+        return new DatabaseConfig(url, username, password, maxPoolSize, timeout);
+    }
+
+    private static String required(Properties properties, String key) {
+        String value = properties.getProperty(key);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing required database property: " + key);
+        }
+        return value.trim();
+    }
+
+    @Override
+    public String toString() {
+        // Never print the password to logs.
+        return "DatabaseConfig[url=" + url + ", username=" + username + ", maxPoolSize=" + maxPoolSize
+                + ", connectionTimeout=" + connectionTimeout + "]";
+    }
+}
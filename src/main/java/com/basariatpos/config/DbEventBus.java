@@ -0,0 +1,311 @@
+package com.basariatpos.config;
+
+import com.basariatpos.model.DbEvent;
+import com.basariatpos.model.DbEvent.Operation;
+import com.basariatpos.model.DbEvent.Table;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * Tells caches and open screens when any terminal changes sales, payments, stock, patients and
+ * the other shared tables, so that nothing has to re-query on a timer.
+ * <p>
+ * The bus holds one dedicated connection, outside the pool, that {@code LISTEN}s on
+ * {@link #CHANNEL}, fed by the statement-level triggers of migration V15. Notifications are
+ * collected for a short window after the first one arrives and merged per table into one
+ * {@link DbEvent}, so a checkout that writes an order, its lines, payments and stock is
+ * delivered as one event per table rather than one per statement.
+ * <p>
+ * Notifications sent while the bus is disconnected are lost. Whenever the listening connection
+ * is (re)established, every subscriber therefore receives an event with
+ * {@link DbEvent#allRows()} set for each of its tables and should reload what it shows.
+ * <p>
+ * Listeners run on the bus's dispatch thread, one event at a time in the order received,
+ * unless they subscribe with their own executor, e.g. {@code Platform::runLater} for views.
+ */
+public final class DbEventBus implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(DbEventBus.class);
+
+    /** Notification channel fed by the change event triggers (migration V15). */
+    public static final String CHANNEL = "db_events";
+
+    /** How long notifications are collected before they are delivered, unless set otherwise. */
+    public static final Duration DEFAULT_COALESCE_WINDOW = Duration.ofMillis(100);
+
+    /** IDs kept per table and event; beyond this, the event covers all rows. */
+    private static final int MAX_IDS_PER_EVENT = 1000;
+
+    /** How long the listener waits for notifications before checking whether it was closed. */
+    private static final int RECEIVE_TIMEOUT_MILLIS = 1000;
+    private static final long RECONNECT_DELAY_MILLIS = 5000;
+
+    private final PooledDataSource dataSource;
+    private final long coalesceWindowNanos;
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("db-event-dispatch").daemon(true).factory());
+
+    private Thread listenerThread; // guarded by this
+    private volatile boolean connected;
+    private volatile boolean closed;
+
+    /**
+     * Creates a bus with the {@link #DEFAULT_COALESCE_WINDOW}; call {@link #start()} to connect.
+     *
+     * @param dataSource supplies the dedicated listening connection.
+     */
+    public DbEventBus(PooledDataSource dataSource) {
+        this(dataSource, DEFAULT_COALESCE_WINDOW);
+    }
+
+    /**
+     * @param dataSource     supplies the dedicated listening connection.
+     * @param coalesceWindow how long notifications are collected before they are delivered;
+     *                       longer windows merge more, shorter ones deliver sooner.
+     */
+    public DbEventBus(PooledDataSource dataSource, Duration coalesceWindow) {
+        this.dataSource = Objects.requireNonNull(dataSource, "dataSource");
+        this.coalesceWindowNanos = coalesceWindow.toNanos();
+    }
+
+    /**
+     * Starts the listener thread, which connects in the background and reconnects after
+     * failures. Calling it again does nothing.
+     *
+     * @throws IllegalStateException if the bus has been closed.
+     */
+    public synchronized void start() {
+        if (closed) {
+            throw new IllegalStateException("Event bus has been closed");
+        }
+        if (listenerThread != null) {
+            return;
+        }
+        listenerThread = Thread.ofPlatform().name("db-event-listener").daemon(true).start(this::listenLoop);
+    }
+
+    /**
+     * Delivers the events of some tables on the bus's dispatch thread.
+     *
+     * @param tables   the tables to receive events of.
+     * @param listener receives the events; it should return quickly and must not throw.
+     * @return the subscription; close it to stop receiving events.
+     */
+    public Subscription subscribe(Set<Table> tables, Consumer<DbEvent> listener) {
+        return subscribe(tables, dispatcher, listener);
+    }
+
+    /**
+     * Delivers the events of some tables through an executor, e.g. {@code Platform::runLater}
+     * for a view. The executor should keep the order of what it is given.
+     *
+     * @param tables   the tables to receive events of.
+     * @param executor runs the listener.
+     * @param listener receives the events.
+     * @return the subscription; close it to stop receiving events.
+     */
+    public Subscription subscribe(Set<Table> tables, Executor executor, Consumer<DbEvent> listener) {
+        Subscription subscription = new Subscription(EnumSet.copyOf(tables), executor, listener);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * @return whether the bus is currently listening; while it is not, changes go unnoticed
+     *         until it reconnects.
+     */
+    public boolean isConnected() {
+        return connected;
+    }
+
+    /**
+     * Stops listening and delivering. Events already handed to a subscriber's executor may still
+     * run.
+     */
+    @Override
+    public void close() {
+        Thread thread;
+        synchronized (this) {
+            closed = true;
+            thread = listenerThread;
+        }
+        if (thread != null) {
+            thread.interrupt();
+        }
+        subscriptions.clear();
+        dispatcher.shutdown();
+    }
+
+    private void listenLoop() {
+        while (!closed) {
+            try (Connection connection = dataSource.openUnpooledConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                connected = true;
+                logger.info("Listening for database changes on channel {}", CHANNEL);
+                publish(resyncEvents());
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (!closed) {
+                    PGNotification[] first = pgConnection.getNotifications(RECEIVE_TIMEOUT_MILLIS);
+                    if (first == null || first.length == 0) {
+                        continue;
+                    }
+                    Batch batch = new Batch();
+                    batch.add(first);
+                    long deadline = System.nanoTime() + coalesceWindowNanos;
+                    long remaining;
+                    while ((remaining = deadline - System.nanoTime()) > 0) {
+                        batch.add(pgConnection.getNotifications((int) Math.max(1, remaining / 1_000_000)));
+                    }
+                    publish(batch.events());
+                }
+            } catch (SQLException e) {
+                connected = false;
+                if (closed) {
+                    return;
+                }
+                logger.warn("Database change listener lost its connection; retrying in {} ms",
+                        RECONNECT_DELAY_MILLIS, e);
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+        connected = false;
+    }
+
+    private static List<DbEvent> resyncEvents() {
+        List<DbEvent> events = new ArrayList<>();
+        for (Table table : Table.values()) {
+            events.add(new DbEvent(table, EnumSet.allOf(Operation.class), Set.of(), true));
+        }
+        return events;
+    }
+
+    private void publish(List<DbEvent> events) {
+        for (DbEvent event : events) {
+            for (Subscription subscription : subscriptions) {
+                if (subscription.tables.contains(event.table())) {
+                    subscription.deliver(event);
+                }
+            }
+        }
+    }
+
+    /** A listener registered with {@link #subscribe(Set, Consumer)}. */
+    public final class Subscription implements AutoCloseable {
+
+        private final Set<Table> tables;
+        private final Executor executor;
+        private final Consumer<DbEvent> listener;
+
+        private Subscription(Set<Table> tables, Executor executor, Consumer<DbEvent> listener) {
+            this.tables = tables;
+            this.executor = Objects.requireNonNull(executor, "executor");
+            this.listener = Objects.requireNonNull(listener, "listener");
+        }
+
+        /**
+         * Stops delivering events to the listener.
+         */
+        @Override
+        public void close() {
+            subscriptions.remove(this);
+        }
+
+        private void deliver(DbEvent event) {
+            try {
+                executor.execute(() -> {
+                    try {
+                        listener.accept(event);
+                    } catch (RuntimeException e) {
+                        logger.warn("Listener failed on {} change event", event.table(), e);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                logger.trace("Executor closed; {} change event dropped", event.table());
+            }
+        }
+    }
+
+    /** Notifications received within one window, merged per table. */
+    private static final class Batch {
+
+        private final Map<Table, EnumSet<Operation>> operations = new EnumMap<>(Table.class);
+        private final Map<Table, Set<Long>> ids = new EnumMap<>(Table.class);
+        private final Set<Table> allRows = EnumSet.noneOf(Table.class);
+
+        void add(PGNotification[] notifications) {
+            if (notifications == null) {
+                return;
+            }
+            for (PGNotification notification : notifications) {
+                add(notification.getParameter());
+            }
+        }
+
+        /** Parses a payload of the form {@code table:op:id,id,...} or {@code table:op:*}. */
+        private void add(String payload) {
+            String[] parts = payload.split(":", 3);
+            Table table = parts.length == 3 ? Table.ofSqlName(parts[0]) : null;
+            if (table == null || parts[1].length() != 1) {
+                logger.debug("Ignoring change notification '{}'", payload);
+                return;
+            }
+            try {
+                operations.computeIfAbsent(table, t -> EnumSet.noneOf(Operation.class))
+                        .add(Operation.ofCode(parts[1].charAt(0)));
+                if (allRows.contains(table)) {
+                    return;
+                }
+                Set<Long> tableIds = ids.computeIfAbsent(table, t -> new HashSet<>());
+                if (parts[2].equals("*")) {
+                    allRows.add(table);
+                    ids.remove(table);
+                    return;
+                }
+                for (String id : parts[2].split(",")) {
+                    tableIds.add(Long.parseLong(id));
+                }
+                if (tableIds.size() > MAX_IDS_PER_EVENT) {
+                    allRows.add(table);
+                    ids.remove(table);
+                }
+            } catch (IllegalArgumentException e) {
+                logger.debug("Ignoring malformed change notification '{}'", payload);
+            }
+        }
+
+        List<DbEvent> events() {
+            List<DbEvent> events = new ArrayList<>(operations.size());
+            operations.forEach((table, tableOperations) -> events.add(new DbEvent(table, tableOperations,
+                    ids.getOrDefault(table, Set.of()), allRows.contains(table))));
+            return events;
+        }
+    }
+}
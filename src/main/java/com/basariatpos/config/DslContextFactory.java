@@ -0,0 +1,93 @@
+package com.basariatpos.config;
+
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.conf.ParamType;
+import org.jooq.conf.Settings;
+import org.jooq.conf.StatementType;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+
+import javax.sql.DataSource;
+import java.util.Objects;
+
+/**
+ * Creates the jOOQ contexts the application runs its queries with.
+ * <p>
+ * The settings keep the SQL text of a query stable between calls so that the PostgreSQL driver
+ * can reuse a server-side prepared statement for it instead of parsing and planning it again:
+ * values are always sent as bind values, never inlined, and {@code IN} lists are padded to the
+ * next power of two so that a list of 5 and a list of 7 IDs share one statement. The driver
+ * side of this is set up by {@link PooledDataSource}, which asks for server-side preparation
+ * from the first execution, and counts how often the driver reuses one, see
+ * {@link PoolMetrics#statementCacheHits()}. Queries that run on every scan or order are
+ * additionally built and rendered only once, see {@link com.basariatpos.repository.QueryTemplate}.
+ * <p>
+ * Every context reports its queries to the process-wide {@link #diagnostics()}.
+ */
+public final class DslContextFactory {
+
+    /** {@code IN} lists are padded to a power of this base. */
+    private static final int IN_LIST_PAD_BASE = 2;
+
+    private static final QueryDiagnostics DIAGNOSTICS = new QueryDiagnostics();
+
+    private DslContextFactory() {
+    }
+
+    /**
+     * Returns the settings used by {@link #create(DataSource)}, for callers that build their own
+     * {@link org.jooq.Configuration}.
+     *
+     * @return new settings.
+     */
+    public static Settings settings() {
+        return new Settings()
+                .withStatementType(StatementType.PREPARED_STATEMENT)
+                .withParamType(ParamType.INDEXED)
+                .withInListPadding(true)
+                .withInListPadBase(IN_LIST_PAD_BASE)
+                .withRenderFormatted(false)
+                .withRenderCatalog(false)
+                .withReflectionCaching(true)
+                .withCacheRecordMappers(true);
+    }
+
+    /**
+     * Creates a context that borrows a connection from {@code dataSource} for each statement or
+     * transaction.
+     *
+     * @param dataSource the data source, normally a {@link PooledDataSource}.
+     * @return the jOOQ context.
+     */
+    public static DSLContext create(DataSource dataSource) {
+        return create(dataSource, DIAGNOSTICS);
+    }
+
+    /**
+     * Creates a context like {@link #create(DataSource)} that reports its queries to the given
+     * diagnostics instead of the shared ones, e.g. to measure one job on its own.
+     *
+     * @param dataSource  the data source, normally a {@link PooledDataSource}.
+     * @param diagnostics the diagnostics to report to.
+     * @return the jOOQ context.
+     */
+    public static DSLContext create(DataSource dataSource, QueryDiagnostics diagnostics) {
+        Objects.requireNonNull(dataSource, "dataSource");
+        Objects.requireNonNull(diagnostics, "diagnostics");
+        return DSL.using(new DefaultConfiguration()
+                .set(dataSource)
+                .set(SQLDialect.POSTGRES)
+                .set(settings())
+                .set(new DefaultExecuteListenerProvider(diagnostics)));
+    }
+
+    /**
+     * @return the diagnostics every context from {@link #create(DataSource)} reports to, shown
+     *         by the diagnostics panel and the metrics endpoint.
+     */
+    public static QueryDiagnostics diagnostics() {
+        return DIAGNOSTICS;
+    }
+}
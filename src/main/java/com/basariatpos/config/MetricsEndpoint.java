@@ -0,0 +1,207 @@
+package com.basariatpos.config;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.ToLongFunction;
+
+/**
+ * Serves {@link QueryDiagnostics} and, optionally, {@link PooledDataSource} statistics at
+ * {@code http://127.0.0.1:<port>/metrics} in the Prometheus text format, for a local Prometheus
+ * agent or a quick look with {@code curl}.
+ * <p>
+ * The endpoint listens on the loopback interface only: the SQL it shows is not meant for the
+ * shop's network. Query shapes are labelled with {@link QueryStats#id()}; the
+ * {@code basariat_query_info} series maps each ID to its SQL.
+ */
+public final class MetricsEndpoint implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricsEndpoint.class);
+
+    /** The path metrics are served at. */
+    public static final String PATH = "/metrics";
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final HttpServer server;
+    private final ExecutorService handler = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("metrics-endpoint").daemon(true).factory());
+    private final QueryDiagnostics diagnostics;
+    private final PooledDataSource pool;
+
+    private MetricsEndpoint(HttpServer server, QueryDiagnostics diagnostics, PooledDataSource pool) {
+        this.server = server;
+        this.diagnostics = diagnostics;
+        this.pool = pool;
+    }
+
+    /**
+     * Starts serving metrics on the loopback interface.
+     *
+     * @param port        the port, or 0 for any free port; see {@link #port()}.
+     * @param diagnostics the query diagnostics to serve.
+     * @param pool        the pool whose statistics to serve as well, or {@code null}.
+     * @return the running endpoint; close it to stop serving.
+     * @throws IOException if the port cannot be bound.
+     */
+    public static MetricsEndpoint start(int port, QueryDiagnostics diagnostics, PooledDataSource pool)
+            throws IOException {
+        Objects.requireNonNull(diagnostics, "diagnostics");
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        MetricsEndpoint endpoint = new MetricsEndpoint(server, diagnostics, pool);
+        server.createContext(PATH, endpoint::handle);
+        server.setExecutor(endpoint.handler);
+        server.start();
+        logger.info("Serving metrics at http://{}:{}{}", server.getAddress().getHostString(),
+                server.getAddress().getPort(), PATH);
+        return endpoint;
+    }
+
+    /**
+     * @return the port the endpoint listens on.
+     */
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Renders the current metrics as served.
+     *
+     * @return the metrics in the Prometheus text format 0.0.4.
+     */
+    public String render() {
+        StringBuilder out = new StringBuilder(8192);
+        List<QueryStats> stats = diagnostics.snapshot();
+
+        header(out, "basariat_query_duration_seconds", "summary",
+                "Duration of database queries per query shape; quantiles within 12.5%.");
+        for (QueryStats query : stats) {
+            String id = query.id();
+            quantile(out, id, "0.5", query.p50Nanos());
+            quantile(out, id, "0.95", query.p95Nanos());
+            quantile(out, id, "0.99", query.p99Nanos());
+            sample(out, "basariat_query_duration_seconds_sum", id, seconds(query.totalNanos()));
+            sample(out, "basariat_query_duration_seconds_count", id, Long.toString(query.count()));
+        }
+        counter(out, stats, "basariat_query_failures_total", "Query executions that threw.", QueryStats::failures);
+        counter(out, stats, "basariat_query_rows_total", "Rows fetched, or affected by DML.", QueryStats::rows);
+        counter(out, stats, "basariat_query_mapped_bytes_total", "Estimated bytes of values fetched into records.",
+                QueryStats::bytesMapped);
+        counter(out, stats, "basariat_query_repeated_actions_total",
+                "User actions that ran the query often enough to look like an N+1 pattern.",
+                QueryStats::repeatedInAction);
+        header(out, "basariat_query_info", "gauge", "The SQL of each query shape.");
+        for (QueryStats query : stats) {
+            out.append("basariat_query_info{query=\"").append(query.id()).append("\",sql=\"");
+            escapeLabel(out, query.sql());
+            out.append("\"} 1\n");
+        }
+
+        if (pool != null) {
+            PoolMetrics metrics = pool.metrics();
+            gauge(out, "basariat_pool_active_connections", "Connections lent out.", metrics.activeConnections());
+            gauge(out, "basariat_pool_idle_connections", "Connections waiting in the pool.",
+                    metrics.idleConnections());
+            gauge(out, "basariat_pool_max_connections", "The pool's size limit.", metrics.maxPoolSize());
+            total(out, "basariat_pool_checkouts_total", "Connections lent out so far.", metrics.checkouts());
+            total(out, "basariat_pool_checkout_timeouts_total", "Checkouts that gave up waiting.",
+                    metrics.checkoutTimeouts());
+            header(out, "basariat_pool_checkout_wait_seconds_total", "counter", "Time spent waiting for connections.");
+            out.append("basariat_pool_checkout_wait_seconds_total ").append(seconds(metrics.totalWaitNanos()))
+                    .append('\n');
+            total(out, "basariat_pool_statement_cache_hits_total",
+                    "Statements the driver had prepared on the server already.", metrics.statementCacheHits());
+            total(out, "basariat_pool_server_prepares_total",
+                    "Statements the driver parsed and planned on the server.", metrics.serverPrepares());
+        }
+        return out.toString();
+    }
+
+    /**
+     * Stops serving; a request being answered is given a second to finish.
+     */
+    @Override
+    public void close() {
+        server.stop(1);
+        handler.shutdown();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = render().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream response = exchange.getResponseBody()) {
+                response.write(body);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Could not serve metrics", e);
+            throw e;
+        }
+    }
+
+    private static void header(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void quantile(StringBuilder out, String id, String quantile, long nanos) {
+        out.append("basariat_query_duration_seconds{query=\"").append(id).append("\",quantile=\"").append(quantile)
+                .append("\"} ").append(seconds(nanos)).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, String id, String value) {
+        out.append(name).append("{query=\"").append(id).append("\"} ").append(value).append('\n');
+    }
+
+    private static void counter(StringBuilder out, List<QueryStats> stats, String name, String help,
+                                ToLongFunction<QueryStats> value) {
+        header(out, name, "counter", help);
+        for (QueryStats query : stats) {
+            sample(out, name, query.id(), Long.toString(value.applyAsLong(query)));
+        }
+    }
+
+    private static void gauge(StringBuilder out, String name, String help, long value) {
+        header(out, name, "gauge", help);
+        out.append(name).append(' ').append(value).append('\n');
+    }
+
+    private static void total(StringBuilder out, String name, String help, long value) {
+        header(out, name, "counter", help);
+        out.append(name).append(' ').append(value).append('\n');
+    }
+
+    private static String seconds(long nanos) {
+        return String.format(Locale.ROOT, "%.6f", nanos / NANOS_PER_SECOND);
+    }
+
+    private static void escapeLabel(StringBuilder out, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> out.append("\\\\");
+                case '"' -> out.append("\\\"");
+                case '\n' -> out.append("\\n");
+                default -> out.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.basariatpos.config;
+
+import java.time.Duration;
+
+/**
+ * A point-in-time snapshot of {@link PooledDataSource} statistics.
+ *
+ * @param activeConnections     connections currently checked out.
+ * @param idleConnections       open connections waiting in the pool.
+ * @param maxPoolSize           the configured upper bound of physical connections.
+ * @param checkouts             total successful {@code getConnection()} calls.
+ * @param checkoutTimeouts      calls that gave up waiting for a free connection.
+ * @param totalWaitNanos        accumulated time callers spent waiting for a connection.
+ * @param maxWaitNanos          the longest single wait observed.
+ * @param connectionsOpened     physical connections opened since start.
+ * @param connectionsDiscarded  physical connections closed because they were broken or stale.
+ * @param contextReplays        checkouts that had to send {@code set_app_user}/{@code set_app_shift}.
+ * @param contextReplaysSkipped checkouts whose connection already carried the right context.
+ * @param statementCacheHits    statements prepared with SQL the connection had prepared on the
+ *                              server already, so the driver skipped parsing and planning it.
+ * @param serverPrepares        statements prepared with SQL new to the connection, which the
+ *                              driver parses and plans on the server at their first execution.
+ */
+public record PoolMetrics(int activeConnections, int idleConnections, int maxPoolSize,
+                          long checkouts, long checkoutTimeouts,
+                          long totalWaitNanos, long maxWaitNanos,
+                          long connectionsOpened, long connectionsDiscarded,
+                          long contextReplays, long contextReplaysSkipped,
+                          long statementCacheHits, long serverPrepares) {
+
+    /**
+     * @return the number of open physical connections (active plus idle).
+     */
+    public int totalConnections() {
+        return activeConnections + idleConnections;
+    }
+
+    /**
+     * @return the mean time a successful checkout waited, or zero before the first checkout.
+     */
+    public Duration averageWait() {
+        return checkouts == 0 ? Duration.ZERO : Duration.ofNanos(totalWaitNanos / checkouts);
+    }
+
+    /**
+     * @return the longest time a single checkout waited.
+     */
+    public Duration maxWait() {
+        return Duration.ofNanos(maxWaitNanos);
+    }
+
+    /**
+     * @return the share of prepared statements the driver found prepared already, between 0
+     *         and 1, or zero before the first one.
+     */
+    public double statementCacheHitRatio() {
+        long prepared = statementCacheHits + serverPrepares;
+        return prepared == 0 ? 0 : (double) statementCacheHits / prepared;
+    }
+}
@@ -0,0 +1,531 @@
+package com.basariatpos.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * A small connection pool for the center's PostgreSQL server that keeps the
+ * application session context in sync with each pooled connection.
+ * <p>
+ * Audit triggers and the shift procedures read {@code app.current_user_id} and
+ * {@code app.current_shift_id} through {@code get_current_app_user_id()} and
+ * {@code get_current_app_shift_id()}. Those settings are session-local, so every
+ * physical connection remembers the context it was last given. On checkout the pool
+ * compares that with {@link AppSessionContext#snapshot()} and only sends
+ * {@code CALL set_app_user(?)} / {@code CALL set_app_shift(?)} for the parts that
+ * differ; when both differ they go out in a single round trip.
+ * <p>
+ * Connections are always handed out in auto-commit mode so the replayed settings
+ * survive a later rollback. A connection returned with an open transaction is rolled
+ * back and its context is treated as unknown. The same happens when a caller prepares
+ * or executes SQL that may change the settings server-side: a call to one of the shift
+ * procedures, any {@code set_config()}, a {@code SET} of an {@code app.*} setting, or a
+ * {@code RESET} or {@code DISCARD}. Plain statements from {@code createStatement()} are
+ * checked as they execute.
+ * <p>
+ * The driver keeps the statements it prepared server-side per connection, by SQL text, and
+ * reuses them without parsing or planning again. It reports neither, so the pool keeps the
+ * same record of every connection's prepared SQL texts and counts, per
+ * {@code prepareStatement()} call, whether the driver finds the statement prepared already or
+ * has to prepare it on the server; see {@link PoolMetrics}.
+ */
+public class PooledDataSource implements DataSource, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PooledDataSource.class);
+
+    /** Idle connections older than this are validated with a server round trip before reuse. */
+    private static final long VALIDATION_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    /**
+     * Executions of a statement after which the driver prepares it server-side. The driver's
+     * default of 5 re-parses and re-plans every query on each of the first four runs on every
+     * connection; pooled connections live long, so preparing from the first run pays off.
+     */
+    private static final String PREPARE_THRESHOLD = "1";
+
+    /** Prepared statements the driver keeps per connection, by SQL text. */
+    private static final int PREPARED_STATEMENT_CACHE_SIZE = 256;
+    private static final String PREPARED_STATEMENT_CACHE_QUERIES = Integer.toString(PREPARED_STATEMENT_CACHE_SIZE);
+
+    /** Statements that change the session context behind the pool's back. */
+    private static final Pattern CONTEXT_CHANGING_SQL = Pattern.compile(
+            "set_app_user|set_app_shift|startshift|pauseshift|resumeshift|endshift"
+            + "|set_config|\\bset\\s+(session\\s+|local\\s+)?app\\.|\\breset\\b|\\bdiscard\\b");
+
+    private final DatabaseConfig config;
+    private final AppSessionContext sessionContext;
+    private final Properties connectionProperties;
+
+    /** Used as a stack so the most recently returned (warmest) connection is reused first. */
+    private final LinkedBlockingDeque<PooledConnection> idleConnections = new LinkedBlockingDeque<>();
+    /** One permit per connection that may be checked out. */
+    private final Semaphore checkoutPermits;
+
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final LongAdder checkouts = new LongAdder();
+    private final LongAdder checkoutTimeouts = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final LongAdder connectionsOpened = new LongAdder();
+    private final LongAdder connectionsDiscarded = new LongAdder();
+    private final LongAdder contextReplays = new LongAdder();
+    private final LongAdder contextReplaysSkipped = new LongAdder();
+    private final LongAdder statementCacheHits = new LongAdder();
+    private final LongAdder serverPrepares = new LongAdder();
+
+    private volatile boolean closed;
+
+    /**
+     * Creates a pool. No connection is opened until the first checkout.
+     *
+     * @param config         the database connection settings.
+     * @param sessionContext the application session context to replay on checkout.
+     */
+    public PooledDataSource(DatabaseConfig config, AppSessionContext sessionContext) {
+        this.config = config;
+        this.sessionContext = sessionContext;
+        this.checkoutPermits = new Semaphore(config.maxPoolSize(), true);
+        this.connectionProperties = new Properties();
+        connectionProperties.setProperty("user", config.username());
+        connectionProperties.setProperty("password", config.password() == null ? "" : config.password());
+        connectionProperties.setProperty("ApplicationName", "Basariat POS");
+        // Parameters in the JDBC URL take precedence over these
+        connectionProperties.setProperty("prepareThreshold", PREPARE_THRESHOLD);
+        connectionProperties.setProperty("preparedStatementCacheQueries", PREPARED_STATEMENT_CACHE_QUERIES);
+    }
+
+    /**
+     * Checks out a connection whose session context matches the current
+     * {@link AppSessionContext}. Closing the returned connection gives it back to the pool.
+     *
+     * @return a pooled connection in auto-commit mode.
+     * @throws SQLTransientConnectionException if no connection became free within the
+     *                                         configured timeout.
+     * @throws SQLException                    if a new connection could not be opened or
+     *                                         the context could not be applied.
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool has been closed");
+        }
+        long waitStart = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = checkoutPermits.tryAcquire(config.connectionTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+        if (!acquired) {
+            checkoutTimeouts.increment();
+            throw new SQLTransientConnectionException("No database connection became available within "
+                    + config.connectionTimeout().toMillis() + " ms (pool size " + config.maxPoolSize() + ")");
+        }
+        recordWait(System.nanoTime() - waitStart);
+
+        PooledConnection pooled = null;
+        try {
+            pooled = takeIdleConnection();
+            if (pooled == null) {
+                pooled = openConnection();
+            }
+            applySessionContext(pooled);
+            activeCount.incrementAndGet();
+            checkouts.increment();
+            return pooled.newHandle();
+        } catch (SQLException | RuntimeException e) {
+            if (pooled != null) {
+                discard(pooled);
+            }
+            checkoutPermits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Not supported: all connections use the credentials from {@link DatabaseConfig}.
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("PooledDataSource only supports the configured credentials");
+    }
+
+    /**
+     * Opens a physical connection that is not managed by the pool, for long-lived
+     * uses such as {@code LISTEN} that would otherwise hold a pooled slot forever.
+     * The session context is not applied; the caller owns and must close the connection.
+     *
+     * @return a new connection with the configured credentials.
+     * @throws SQLException if the connection could not be opened.
+     */
+    public Connection openUnpooledConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool has been closed");
+        }
+        return DriverManager.getConnection(config.url(), connectionProperties);
+    }
+
+    /**
+     * Returns the current pool statistics.
+     *
+     * @return a consistent-enough snapshot for diagnostics; counters are read without locking.
+     */
+    public PoolMetrics metrics() {
+        return new PoolMetrics(activeCount.get(), idleConnections.size(), config.maxPoolSize(),
+                checkouts.sum(), checkoutTimeouts.sum(), totalWaitNanos.sum(), maxWaitNanos.get(),
+                connectionsOpened.sum(), connectionsDiscarded.sum(),
+                contextReplays.sum(), contextReplaysSkipped.sum(),
+                statementCacheHits.sum(), serverPrepares.sum());
+    }
+
+    /**
+     * Closes all idle connections and makes the pool reject new checkouts. Connections
+     * still in use are closed when they are returned.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        PooledConnection pooled;
+        while ((pooled = idleConnections.pollFirst()) != null) {
+            closeQuietly(pooled);
+        }
+        logger.info("Connection pool closed. Final metrics: {}", metrics());
+    }
+
+    private void recordWait(long waitNanos) {
+        totalWaitNanos.add(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    private PooledConnection takeIdleConnection() {
+        PooledConnection pooled;
+        while ((pooled = idleConnections.pollFirst()) != null) {
+            if (isUsable(pooled)) {
+                return pooled;
+            }
+            discard(pooled);
+        }
+        return null;
+    }
+
+    private boolean isUsable(PooledConnection pooled) {
+        try {
+            if (pooled.physical.isClosed()) {
+                return false;
+            }
+            if (System.nanoTime() - pooled.lastReturnedNanos > VALIDATION_INTERVAL_NANOS) {
+                return pooled.physical.isValid(VALIDATION_TIMEOUT_SECONDS);
+            }
+            return true;
+        } catch (SQLException e) {
+            logger.debug("Pooled connection failed validation", e);
+            return false;
+        }
+    }
+
+    private PooledConnection openConnection() throws SQLException {
+        Connection physical = DriverManager.getConnection(config.url(), connectionProperties);
+        connectionsOpened.increment();
+        logger.debug("Opened new database connection ({} opened so far)", connectionsOpened.sum());
+        // A brand-new session has neither setting, which is exactly the empty context.
+        return new PooledConnection(physical, AppSessionContext.Snapshot.EMPTY);
+    }
+
+    private void applySessionContext(PooledConnection pooled) throws SQLException {
+        AppSessionContext.Snapshot wanted = sessionContext.snapshot();
+        AppSessionContext.Snapshot applied = pooled.appliedContext;
+        boolean userStale = applied == null || !applied.sameUser(wanted);
+        boolean shiftStale = applied == null || !applied.sameShift(wanted);
+        if (!userStale && !shiftStale) {
+            contextReplaysSkipped.increment();
+            return;
+        }
+
+        String sql = userStale && shiftStale
+                ? "CALL set_app_user(?); CALL set_app_shift(?)"
+                : userStale ? "CALL set_app_user(?)" : "CALL set_app_shift(?)";
+        pooled.appliedContext = null;
+        try (PreparedStatement statement = pooled.physical.prepareStatement(sql)) {
+            int index = 1;
+            if (userStale) {
+                statement.setObject(index++, wanted.userId(), Types.INTEGER);
+            }
+            if (shiftStale) {
+                statement.setObject(index, wanted.shiftId(), Types.INTEGER);
+            }
+            statement.execute();
+        }
+        pooled.appliedContext = wanted;
+        contextReplays.increment();
+    }
+
+    private void release(PooledConnection pooled) {
+        activeCount.decrementAndGet();
+        try {
+            if (closed || pooled.broken || pooled.physical.isClosed()) {
+                discard(pooled);
+                return;
+            }
+            if (!pooled.physical.getAutoCommit()) {
+                // An unfinished transaction may have rolled back a set_config() call.
+                pooled.physical.rollback();
+                pooled.physical.setAutoCommit(true);
+                pooled.appliedContext = null;
+            }
+            if (pooled.physical.isReadOnly()) {
+                pooled.physical.setReadOnly(false);
+            }
+            pooled.physical.clearWarnings();
+            pooled.lastReturnedNanos = System.nanoTime();
+            idleConnections.offerFirst(pooled);
+        } catch (SQLException e) {
+            logger.warn("Discarding database connection that could not be reset", e);
+            discard(pooled);
+        } finally {
+            checkoutPermits.release();
+        }
+    }
+
+    private void discard(PooledConnection pooled) {
+        connectionsDiscarded.increment();
+        closeQuietly(pooled);
+    }
+
+    private static void closeQuietly(PooledConnection pooled) {
+        try {
+            pooled.physical.close();
+        } catch (SQLException e) {
+            logger.debug("Error while closing database connection", e);
+        }
+    }
+
+    // --- DataSource boilerplate -------------------------------------------------
+
+    @Override
+    public PrintWriter getLogWriter() {
+        return null;
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) {
+        // Logging goes through SLF4J.
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) {
+        DriverManager.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() {
+        return DriverManager.getLoginTimeout();
+    }
+
+    @Override
+    public java.util.logging.Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException("PooledDataSource logs through SLF4J");
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("PooledDataSource does not wrap " + iface.getName());
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return iface.isInstance(this);
+    }
+
+    /**
+     * A physical connection plus the session context it currently carries.
+     */
+    private final class PooledConnection {
+
+        final Connection physical;
+        /** {@code null} means unknown; the next checkout replays the full context. */
+        volatile AppSessionContext.Snapshot appliedContext;
+        volatile boolean broken;
+        volatile long lastReturnedNanos = System.nanoTime();
+        private final PreparedSql preparedSql = new PreparedSql();
+
+        PooledConnection(Connection physical, AppSessionContext.Snapshot appliedContext) {
+            this.physical = physical;
+            this.appliedContext = appliedContext;
+        }
+
+        /** Records that the driver is asked to prepare {@code sql} and counts a hit or a prepare. */
+        synchronized void recordPrepare(String sql) {
+            if (preparedSql.put(sql, Boolean.TRUE) == null) {
+                serverPrepares.increment();
+            } else {
+                statementCacheHits.increment();
+            }
+        }
+
+        Connection newHandle() {
+            return (Connection) Proxy.newProxyInstance(PooledDataSource.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, new Handle(this));
+        }
+    }
+
+    /**
+     * The SQL texts the driver holds prepared on one connection, least recently used first, as it
+     * evicts them.
+     */
+    private static final class PreparedSql extends LinkedHashMap<String, Boolean> {
+
+        private static final long serialVersionUID = 1L;
+
+        PreparedSql() {
+            super(16, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > PREPARED_STATEMENT_CACHE_SIZE;
+        }
+    }
+
+    /**
+     * The caller-facing side of a checkout. {@code close()} returns the physical
+     * connection to the pool exactly once; any other call after that fails.
+     */
+    private final class Handle implements InvocationHandler {
+
+        private PooledConnection pooled;
+
+        Handle(PooledConnection pooled) {
+            this.pooled = pooled;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "close" -> {
+                    if (pooled != null) {
+                        PooledConnection returning = pooled;
+                        pooled = null;
+                        release(returning);
+                    }
+                    return null;
+                }
+                case "isClosed" -> {
+                    return pooled == null || pooled.physical.isClosed();
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "PooledConnection[" + (pooled == null ? "closed" : pooled.physical) + "]";
+                }
+                default -> {
+                    // Fall through to the physical connection below.
+                }
+            }
+            PooledConnection current = pooled;
+            if (current == null) {
+                throw new SQLException("Connection has already been returned to the pool");
+            }
+            if ((name.equals("prepareCall") || name.equals("prepareStatement"))
+                    && args != null && args.length > 0 && args[0] instanceof String sql) {
+                checkContextChange(current, sql);
+                current.recordPrepare(sql);
+            }
+            Object result = invokeOn(current, current.physical, method, args);
+            if (name.equals("createStatement") && result instanceof Statement statement) {
+                return Proxy.newProxyInstance(PooledDataSource.class.getClassLoader(),
+                        new Class<?>[]{Statement.class}, new StatementHandle(current, statement));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * A plain statement of a checkout, whose SQL is only known when it is executed or batched.
+     */
+    private final class StatementHandle implements InvocationHandler {
+
+        private final PooledConnection pooled;
+        private final Statement statement;
+
+        StatementHandle(PooledConnection pooled, Statement statement) {
+            this.pooled = pooled;
+            this.statement = statement;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if ((name.startsWith("execute") || name.equals("addBatch"))
+                    && args != null && args.length > 0 && args[0] instanceof String sql) {
+                checkContextChange(pooled, sql);
+            }
+            return switch (name) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> invokeOn(pooled, statement, method, args);
+            };
+        }
+    }
+
+    private static void checkContextChange(PooledConnection pooled, String sql) {
+        if (CONTEXT_CHANGING_SQL.matcher(sql.toLowerCase(Locale.ROOT)).find()) {
+            pooled.appliedContext = null;
+        }
+    }
+
+    /** Calls the physical connection or statement, marking the connection broken on a connection error. */
+    private static Object invokeOn(PooledConnection pooled, Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException sqlException && isConnectionError(sqlException)) {
+                pooled.broken = true;
+            }
+            throw cause;
+        }
+    }
+
+    private static boolean isConnectionError(SQLException e) {
+        // SQLSTATE class 08 is "connection exception"; 57P01..57P03 are admin shutdowns.
+        String state = e.getSQLState();
+        return state != null && (state.startsWith("08") || state.startsWith("57P"));
+    }
+}
@@ -0,0 +1,397 @@
+package com.basariatpos.config;
+
+import org.jooq.Attachable;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.JSONB;
+import org.jooq.Query;
+import org.jooq.Record;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Records what the application asks of the database, for the diagnostics panel and the local
+ * metrics endpoint. {@link DslContextFactory} attaches one instance to every context it creates.
+ * <p>
+ * Queries are grouped by shape: their SQL text with a {@code ?} for every bind value, which the
+ * settings of {@link DslContextFactory} keep stable between calls. Per shape it counts
+ * executions, failures, rows fetched or affected and an estimate of the bytes mapped into
+ * records, and keeps a latency histogram with log-linear buckets, as HdrHistogram does: eight
+ * buckets per power of two, so percentiles are within 12.5% from a microsecond to days, in a
+ * fixed 2.5 KB per shape. A duration runs from rendering the query to the end of fetching; for
+ * a lazy cursor it includes the time the caller spends on each row.
+ * <p>
+ * Executions slower than the threshold are logged to {@value #SLOW_QUERY_LOGGER} at WARN with
+ * their SQL. Bind values are never logged, only their number and types, since they hold patient
+ * names, phone numbers and amounts.
+ * <p>
+ * Work wrapped in an {@link #action(String)}, which every
+ * {@link com.basariatpos.util.BackgroundExecutor} task is, counts its executions per shape. A
+ * shape run {@link #DEFAULT_REPEAT_THRESHOLD} or more times by one action, typically a DAO
+ * {@code fetchOneBy...} call in a loop over the rows of another query, is an N+1 pattern: it is
+ * logged and listed by {@link #repeatedQueries()}.
+ * <p>
+ * Instances are thread-safe.
+ */
+public final class QueryDiagnostics implements ExecuteListener {
+
+    /** jOOQ listeners are {@link java.io.Serializable}; diagnostics are never serialized. */
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryDiagnostics.class);
+
+    /** Name of the logger slow queries are written to, so they can be routed to their own file. */
+    public static final String SLOW_QUERY_LOGGER = "com.basariatpos.sql.slow";
+
+    private static final Logger slowQueryLogger = LoggerFactory.getLogger(SLOW_QUERY_LOGGER);
+
+    /** Executions at least this long are logged as slow unless another threshold is given. */
+    public static final Duration DEFAULT_SLOW_QUERY_THRESHOLD = Duration.ofMillis(250);
+
+    /** Executions of one shape within one action from which it is reported as an N+1 pattern. */
+    public static final int DEFAULT_REPEAT_THRESHOLD = 10;
+
+    /** Shapes tracked separately; further shapes, e.g. of SQL with inlined values, are pooled. */
+    public static final int MAX_SHAPES = 2000;
+
+    /** Shape under which executions beyond {@link #MAX_SHAPES} are recorded. */
+    public static final String OTHER_SHAPES = "(other queries)";
+
+    private static final int MAX_REPEATED_QUERIES = 100;
+    private static final int MAX_LOGGED_SQL_LENGTH = 2000;
+    private static final Object EXECUTION = new Object();
+
+    /**
+     * An N+1 pattern found by an action.
+     *
+     * @param action     the action's name, e.g. a {@link com.basariatpos.util.BackgroundExecutor}
+     *                   operation.
+     * @param sql        the repeated shape.
+     * @param executions how often the action ran it.
+     * @param at         when the action ended.
+     */
+    public record RepeatedQuery(String action, String sql, int executions, Instant at) {
+    }
+
+    private final long slowQueryThresholdNanos;
+    private final int repeatThreshold;
+    @SuppressWarnings("serial")
+    private final ConcurrentMap<String, ShapeRecorder> shapes = new ConcurrentHashMap<>();
+    @SuppressWarnings("serial")
+    private final Deque<RepeatedQuery> repeatedQueries = new ArrayDeque<>(); // guarded by itself
+    @SuppressWarnings("serial")
+    private final ThreadLocal<Action> currentAction = new ThreadLocal<>();
+
+    /**
+     * Creates diagnostics with the default slow query and repeat thresholds.
+     */
+    public QueryDiagnostics() {
+        this(DEFAULT_SLOW_QUERY_THRESHOLD, DEFAULT_REPEAT_THRESHOLD);
+    }
+
+    /**
+     * @param slowQueryThreshold executions at least this long are logged.
+     * @param repeatThreshold    executions of one shape within one action from which it is
+     *                           reported as an N+1 pattern, at least 2.
+     * @throws IllegalArgumentException if {@code repeatThreshold} is less than 2.
+     */
+    public QueryDiagnostics(Duration slowQueryThreshold, int repeatThreshold) {
+        if (repeatThreshold < 2) {
+            throw new IllegalArgumentException("Repeat threshold must be at least 2, was " + repeatThreshold);
+        }
+        this.slowQueryThresholdNanos = slowQueryThreshold.toNanos();
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    /**
+     * Starts counting the queries of one user action on the current thread, e.g. opening a
+     * patient, until the returned action is closed. An action started while another is open on
+     * the thread is part of the outer one.
+     *
+     * @param name the action's name, used in reports.
+     * @return the action; close it when the work is done, e.g. with try-with-resources.
+     */
+    public Action action(String name) {
+        Objects.requireNonNull(name, "name");
+        Action outer = currentAction.get();
+        Action action = new Action(name, outer);
+        if (outer == null) {
+            currentAction.set(action);
+        }
+        return action;
+    }
+
+    /**
+     * @return a snapshot of every query shape, the ones with the most total time first.
+     */
+    public List<QueryStats> snapshot() {
+        List<QueryStats> stats = new ArrayList<>(shapes.size());
+        shapes.forEach((sql, recorder) -> stats.add(recorder.snapshot(sql)));
+        stats.sort(Comparator.comparingLong(QueryStats::totalNanos).reversed());
+        return stats;
+    }
+
+    /**
+     * @return the latest N+1 patterns found, newest first; at most 100.
+     */
+    public List<RepeatedQuery> repeatedQueries() {
+        synchronized (repeatedQueries) {
+            return List.copyOf(repeatedQueries);
+        }
+    }
+
+    /**
+     * Forgets everything recorded so far, e.g. before measuring one screen.
+     */
+    public void reset() {
+        shapes.clear();
+        synchronized (repeatedQueries) {
+            repeatedQueries.clear();
+        }
+    }
+
+    @Override
+    public void start(ExecuteContext ctx) {
+        ctx.data(EXECUTION, new Execution(System.nanoTime()));
+    }
+
+    @Override
+    public void recordEnd(ExecuteContext ctx) {
+        if (ctx.data(EXECUTION) instanceof Execution execution && ctx.record() != null) {
+            execution.rows++;
+            execution.bytes += estimateBytes(ctx.record());
+        }
+    }
+
+    @Override
+    public void exception(ExecuteContext ctx) {
+        if (ctx.data(EXECUTION) instanceof Execution execution) {
+            execution.failed = true;
+        }
+    }
+
+    @Override
+    public void end(ExecuteContext ctx) {
+        if (!(ctx.data(EXECUTION) instanceof Execution execution)) {
+            return;
+        }
+        long nanos = System.nanoTime() - execution.startNanos;
+        String sql = shapeOf(ctx);
+        long rows = execution.rows > 0 ? execution.rows : Math.max(ctx.rows(), 0);
+        ShapeRecorder recorder = shapes.get(sql);
+        if (recorder == null) {
+            if (shapes.size() >= MAX_SHAPES) {
+                sql = OTHER_SHAPES;
+            }
+            recorder = shapes.computeIfAbsent(sql, s -> new ShapeRecorder());
+        }
+        recorder.record(nanos, rows, execution.bytes, execution.failed);
+
+        if (nanos >= slowQueryThresholdNanos) {
+            slowQueryLogger.warn("Slow query: {} ms, {} rows{}, binds {}: {}", nanos / 1_000_000, rows,
+                    execution.failed ? ", failed" : "", redactedBinds(ctx), abbreviate(sql));
+        }
+        Action action = currentAction.get();
+        if (action != null) {
+            action.counts.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    private static String shapeOf(ExecuteContext ctx) {
+        if (ctx.sql() != null) {
+            return ctx.sql();
+        }
+        String[] batch = ctx.batchSQL();
+        if (batch != null && batch.length > 0 && batch[0] != null) {
+            return batch[0];
+        }
+        return OTHER_SHAPES;
+    }
+
+    private static String redactedBinds(ExecuteContext ctx) {
+        Attachable source = ctx.query() != null ? ctx.query() : ctx.routine();
+        if (!(source instanceof Query query)) {
+            return "[redacted]";
+        }
+        return query.getBindValues().stream()
+                .map(value -> value == null ? "null" : value.getClass().getSimpleName())
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    private static String abbreviate(String sql) {
+        return sql.length() <= MAX_LOGGED_SQL_LENGTH ? sql : sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+
+    private static long estimateBytes(Record record) {
+        long bytes = 0;
+        for (int i = 0, size = record.size(); i < size; i++) {
+            bytes += switch (record.get(i)) {
+                case null -> 0;
+                case String text -> 2L * text.length();
+                case JSONB json -> 2L * json.data().length();
+                case byte[] binary -> binary.length;
+                default -> Long.BYTES;
+            };
+        }
+        return bytes;
+    }
+
+    private void reportRepeated(Action action) {
+        action.counts.forEach((sql, executions) -> {
+            if (executions < repeatThreshold) {
+                return;
+            }
+            ShapeRecorder recorder = shapes.get(sql);
+            if (recorder != null) {
+                recorder.repeatedInAction.increment();
+            }
+            RepeatedQuery repeated = new RepeatedQuery(action.name, sql, executions, Instant.now());
+            synchronized (repeatedQueries) {
+                repeatedQueries.addFirst(repeated);
+                if (repeatedQueries.size() > MAX_REPEATED_QUERIES) {
+                    repeatedQueries.removeLast();
+                }
+            }
+            logger.warn("Action '{}' ran the same query {} times, an N+1 pattern; fetch the rows with one query: {}",
+                    action.name, executions, abbreviate(sql));
+        });
+    }
+
+    /** The queries of one user action on one thread; see {@link #action(String)}. */
+    public final class Action implements AutoCloseable {
+
+        private final String name;
+        private final Action outer;
+        private final Map<String, Integer> counts = new HashMap<>();
+
+        private Action(String name, Action outer) {
+            this.name = name;
+            this.outer = outer;
+        }
+
+        /**
+         * Ends the action and reports the shapes it repeated; closing an inner action does
+         * nothing. Must be called on the thread that started the action.
+         */
+        @Override
+        public void close() {
+            if (outer != null || currentAction.get() != this) {
+                return;
+            }
+            currentAction.remove();
+            reportRepeated(this);
+        }
+    }
+
+    /** Per-execution state, kept in the {@link ExecuteContext}. */
+    private static final class Execution {
+
+        private final long startNanos;
+        private long rows;
+        private long bytes;
+        private boolean failed;
+
+        Execution(long startNanos) {
+            this.startNanos = startNanos;
+        }
+    }
+
+    /** Counters and the latency histogram of one shape. */
+    static final class ShapeRecorder {
+
+        /** Buckets per power of two; 2^3 gives a relative error of at most 1/8. */
+        private static final int SUB_BUCKETS = 8;
+        private static final int SUB_BUCKET_BITS = 3;
+        /** Durations are clamped to 2^40 microseconds, about 12 days. */
+        private static final int MAX_EXPONENT = 40;
+        private static final int BUCKETS = SUB_BUCKETS + (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder repeatedInAction = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+        void record(long nanos, long rowCount, long byteCount, boolean failed) {
+            count.increment();
+            if (failed) {
+                failures.increment();
+            }
+            rows.add(rowCount);
+            bytes.add(byteCount);
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            buckets.incrementAndGet(bucketOf(nanos / 1_000));
+        }
+
+        QueryStats snapshot(String sql) {
+            long[] counts = new long[BUCKETS];
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = buckets.get(i);
+                total += counts[i];
+            }
+            long max = maxNanos.get();
+            return new QueryStats(sql, count.sum(), failures.sum(), rows.sum(), bytes.sum(), totalNanos.sum(), max,
+                    percentile(counts, total, 50, max), percentile(counts, total, 95, max),
+                    percentile(counts, total, 99, max), repeatedInAction.sum());
+        }
+
+        /** Values below 8 µs get a bucket each; above, each power of two is split in eight. */
+        static int bucketOf(long micros) {
+            long clamped = Math.min(Math.max(micros, 0), (1L << (MAX_EXPONENT + 1)) - 1);
+            if (clamped < SUB_BUCKETS) {
+                return (int) clamped;
+            }
+            int exponent = 63 - Long.numberOfLeadingZeros(clamped);
+            int subBucket = (int) (clamped >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+            return SUB_BUCKETS + (exponent - SUB_BUCKET_BITS) * SUB_BUCKETS + subBucket;
+        }
+
+        /** The largest duration in microseconds that falls into a bucket. */
+        static long upperBoundMicros(int bucket) {
+            if (bucket < SUB_BUCKETS) {
+                return bucket;
+            }
+            int exponent = (bucket - SUB_BUCKETS) / SUB_BUCKETS + SUB_BUCKET_BITS;
+            int subBucket = (bucket - SUB_BUCKETS) % SUB_BUCKETS;
+            return ((long) (SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+        }
+
+        /** The upper bound of the bucket the percentile falls in, never above the maximum. */
+        private static long percentile(long[] counts, long total, double percentile, long maxNanos) {
+            if (total == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(total * percentile / 100);
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min((upperBoundMicros(i) + 1) * 1_000 - 1, maxNanos);
+                }
+            }
+            return maxNanos;
+        }
+    }
+}
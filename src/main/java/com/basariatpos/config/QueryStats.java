@@ -0,0 +1,39 @@
+package com.basariatpos.config;
+
+import java.time.Duration;
+
+/**
+ * A point-in-time snapshot of what {@link QueryDiagnostics} recorded for one query shape.
+ *
+ * @param sql              the shape: the SQL text with {@code ?} for every bind value.
+ * @param count            executions that ended, successfully or not.
+ * @param failures         of those, executions that threw.
+ * @param rows             rows fetched, or affected by DML, over all executions.
+ * @param bytesMapped      estimated size of the values fetched into records; strings count two
+ *                         bytes per character.
+ * @param totalNanos       the accumulated duration of all executions.
+ * @param maxNanos         the longest single duration.
+ * @param p50Nanos         the median duration, within 12.5%.
+ * @param p95Nanos         the 95th percentile duration, within 12.5%.
+ * @param p99Nanos         the 99th percentile duration, within 12.5%.
+ * @param repeatedInAction actions that ran this shape so often that they look like an N+1
+ *                         pattern; see {@link QueryDiagnostics#action(String)}.
+ */
+public record QueryStats(String sql, long count, long failures, long rows, long bytesMapped,
+                         long totalNanos, long maxNanos, long p50Nanos, long p95Nanos, long p99Nanos,
+                         long repeatedInAction) {
+
+    /**
+     * @return the mean duration, or zero before the first execution.
+     */
+    public Duration mean() {
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos / count);
+    }
+
+    /**
+     * @return a short, stable identifier of the shape, e.g. for metric labels.
+     */
+    public String id() {
+        return String.format("%08x", sql.hashCode());
+    }
+}
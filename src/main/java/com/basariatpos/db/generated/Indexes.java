@@ -7,8 +7,8 @@ package com.basariatpos.db.generated;
 import com.basariatpos.db.generated.tables.Appointments;
 import com.basariatpos.db.generated.tables.Auditlog;
 import com.basariatpos.db.generated.tables.Expenses;
+import com.basariatpos.db.generated.tables.Inventorycostlayers;
 import com.basariatpos.db.generated.tables.Inventoryitems;
-import com.basariatpos.db.generated.tables.Opticaldiagnostics;
 import com.basariatpos.db.generated.tables.Patients;
 import com.basariatpos.db.generated.tables.Payments;
 import com.basariatpos.db.generated.tables.Products;
@@ -16,6 +16,7 @@ import com.basariatpos.db.generated.tables.Salesorderitems;
 import com.basariatpos.db.generated.tables.Salesorders;
 import com.basariatpos.db.generated.tables.Shiftpauselog;
 import com.basariatpos.db.generated.tables.Shifts;
+import com.basariatpos.db.generated.tables.Stockreservations;
 
 import org.jooq.Index;
 import org.jooq.OrderField;
@@ -35,30 +36,36 @@ public class Indexes {
 
     public static final Index IDX_APPOINTMENTS_DATETIME = Internal.createIndex(DSL.name("idx_appointments_datetime"), Appointments.APPOINTMENTS, new OrderField[] { Appointments.APPOINTMENTS.APPOINTMENT_DATETIME }, false);
     public static final Index IDX_APPOINTMENTS_STATUS = Internal.createIndex(DSL.name("idx_appointments_status"), Appointments.APPOINTMENTS, new OrderField[] { Appointments.APPOINTMENTS.STATUS }, false);
-    public static final Index IDX_AUDITLOG_ACTION_TIMESTAMP = Internal.createIndex(DSL.name("idx_auditlog_action_timestamp"), Auditlog.AUDITLOG, new OrderField[] { Auditlog.AUDITLOG.ACTION_TIMESTAMP }, false);
     public static final Index IDX_AUDITLOG_TABLE_RECORD = Internal.createIndex(DSL.name("idx_auditlog_table_record"), Auditlog.AUDITLOG, new OrderField[] { Auditlog.AUDITLOG.TABLE_NAME, Auditlog.AUDITLOG.RECORD_PK }, false);
     public static final Index IDX_AUDITLOG_USER_TIMESTAMP = Internal.createIndex(DSL.name("idx_auditlog_user_timestamp"), Auditlog.AUDITLOG, new OrderField[] { Auditlog.AUDITLOG.USER_ID, Auditlog.AUDITLOG.ACTION_TIMESTAMP }, false);
     public static final Index IDX_EXPENSES_CATEGORYID = Internal.createIndex(DSL.name("idx_expenses_categoryid"), Expenses.EXPENSES, new OrderField[] { Expenses.EXPENSES.EXPENSE_CATEGORY_ID }, false);
     public static final Index IDX_EXPENSES_DATE = Internal.createIndex(DSL.name("idx_expenses_date"), Expenses.EXPENSES, new OrderField[] { Expenses.EXPENSES.EXPENSE_DATE }, false);
     public static final Index IDX_EXPENSES_SHIFTID = Internal.createIndex(DSL.name("idx_expenses_shiftid"), Expenses.EXPENSES, new OrderField[] { Expenses.EXPENSES.SHIFT_ID }, false);
+    public static final Index IDX_INVENTORYCOSTLAYERS_OPEN = Internal.createIndex(DSL.name("idx_inventorycostlayers_open"), Inventorycostlayers.INVENTORYCOSTLAYERS, new OrderField[] { Inventorycostlayers.INVENTORYCOSTLAYERS.INVENTORY_ITEM_ID, Inventorycostlayers.INVENTORYCOSTLAYERS.COST_LAYER_ID }, false);
+    public static final Index IDX_INVENTORYCOSTLAYERS_PO_ITEM = Internal.createIndex(DSL.name("idx_inventorycostlayers_po_item"), Inventorycostlayers.INVENTORYCOSTLAYERS, new OrderField[] { Inventorycostlayers.INVENTORYCOSTLAYERS.PO_ITEM_ID }, false);
+    public static final Index IDX_INVENTORYITEMS_CHANGE_XID = Internal.createIndex(DSL.name("idx_inventoryitems_change_xid"), Inventoryitems.INVENTORYITEMS, new OrderField[] { Inventoryitems.INVENTORYITEMS.CHANGE_XID }, false);
     public static final Index IDX_INVENTORYITEMS_NAME_AR = Internal.createIndex(DSL.name("idx_inventoryitems_name_ar"), Inventoryitems.INVENTORYITEMS, new OrderField[] { Inventoryitems.INVENTORYITEMS.ITEM_SPECIFIC_NAME_AR }, false);
     public static final Index IDX_INVENTORYITEMS_NAME_EN = Internal.createIndex(DSL.name("idx_inventoryitems_name_en"), Inventoryitems.INVENTORYITEMS, new OrderField[] { Inventoryitems.INVENTORYITEMS.ITEM_SPECIFIC_NAME_EN }, false);
     public static final Index IDX_INVENTORYITEMS_PRODUCTID = Internal.createIndex(DSL.name("idx_inventoryitems_productid"), Inventoryitems.INVENTORYITEMS, new OrderField[] { Inventoryitems.INVENTORYITEMS.PRODUCT_ID }, false);
-    public static final Index IDX_OPTICALDIAGNOSTICS_PATIENTID = Internal.createIndex(DSL.name("idx_opticaldiagnostics_patientid"), Opticaldiagnostics.OPTICALDIAGNOSTICS, new OrderField[] { Opticaldiagnostics.OPTICALDIAGNOSTICS.PATIENT_ID }, false);
-    public static final Index IDX_PATIENTS_NAME = Internal.createIndex(DSL.name("idx_patients_name"), Patients.PATIENTS, new OrderField[] { Patients.PATIENTS.FULL_NAME }, false);
+    public static final Index IDX_PATIENTS_NAME_ID = Internal.createIndex(DSL.name("idx_patients_name_id"), Patients.PATIENTS, new OrderField[] { Patients.PATIENTS.FULL_NAME, Patients.PATIENTS.PATIENT_ID }, false);
     public static final Index IDX_PATIENTS_PHONE = Internal.createIndex(DSL.name("idx_patients_phone"), Patients.PATIENTS, new OrderField[] { Patients.PATIENTS.PHONE_NUMBER }, false);
     public static final Index IDX_PAYMENTS_PAYMENT_DATE = Internal.createIndex(DSL.name("idx_payments_payment_date"), Payments.PAYMENTS, new OrderField[] { Payments.PAYMENTS.PAYMENT_DATE }, false);
     public static final Index IDX_PAYMENTS_SALESORDERID = Internal.createIndex(DSL.name("idx_payments_salesorderid"), Payments.PAYMENTS, new OrderField[] { Payments.PAYMENTS.SALES_ORDER_ID }, false);
     public static final Index IDX_PAYMENTS_SHIFTID = Internal.createIndex(DSL.name("idx_payments_shiftid"), Payments.PAYMENTS, new OrderField[] { Payments.PAYMENTS.SHIFT_ID }, false);
+    public static final Index IDX_PRODUCTS_CHANGE_XID = Internal.createIndex(DSL.name("idx_products_change_xid"), Products.PRODUCTS, new OrderField[] { Products.PRODUCTS.CHANGE_XID }, false);
     public static final Index IDX_PRODUCTS_NAME_AR = Internal.createIndex(DSL.name("idx_products_name_ar"), Products.PRODUCTS, new OrderField[] { Products.PRODUCTS.PRODUCT_NAME_AR }, false);
     public static final Index IDX_PRODUCTS_NAME_EN = Internal.createIndex(DSL.name("idx_products_name_en"), Products.PRODUCTS, new OrderField[] { Products.PRODUCTS.PRODUCT_NAME_EN }, false);
     public static final Index IDX_SALESORDERITEMS_SALESORDERID = Internal.createIndex(DSL.name("idx_salesorderitems_salesorderid"), Salesorderitems.SALESORDERITEMS, new OrderField[] { Salesorderitems.SALESORDERITEMS.SALES_ORDER_ID }, false);
-    public static final Index IDX_SALESORDERS_ORDER_DATE = Internal.createIndex(DSL.name("idx_salesorders_order_date"), Salesorders.SALESORDERS, new OrderField[] { Salesorders.SALESORDERS.ORDER_DATE }, false);
+    public static final Index IDX_SALESORDERS_DELIVERY_APPOINTMENT = Internal.createIndex(DSL.name("idx_salesorders_delivery_appointment"), Salesorders.SALESORDERS, new OrderField[] { Salesorders.SALESORDERS.DELIVERY_APPOINTMENT_ID }, false);
+    public static final Index IDX_SALESORDERS_ORDER_DATE_ID = Internal.createIndex(DSL.name("idx_salesorders_order_date_id"), Salesorders.SALESORDERS, new OrderField[] { Salesorders.SALESORDERS.ORDER_DATE, Salesorders.SALESORDERS.SALES_ORDER_ID }, false);
     public static final Index IDX_SALESORDERS_PATIENTID = Internal.createIndex(DSL.name("idx_salesorders_patientid"), Salesorders.SALESORDERS, new OrderField[] { Salesorders.SALESORDERS.PATIENT_ID }, false);
     public static final Index IDX_SALESORDERS_SHIFTID = Internal.createIndex(DSL.name("idx_salesorders_shiftid"), Salesorders.SALESORDERS, new OrderField[] { Salesorders.SALESORDERS.SHIFT_ID }, false);
     public static final Index IDX_SALESORDERS_STATUS_VAL = Internal.createIndex(DSL.name("idx_salesorders_status_val"), Salesorders.SALESORDERS, new OrderField[] { Salesorders.SALESORDERS.STATUS }, false);
     public static final Index IDX_SHIFTPAUSELOG_SHIFTID = Internal.createIndex(DSL.name("idx_shiftpauselog_shiftid"), Shiftpauselog.SHIFTPAUSELOG, new OrderField[] { Shiftpauselog.SHIFTPAUSELOG.SHIFT_ID }, false);
     public static final Index IDX_SHIFTS_START_TIME = Internal.createIndex(DSL.name("idx_shifts_start_time"), Shifts.SHIFTS, new OrderField[] { Shifts.SHIFTS.START_TIME }, false);
     public static final Index IDX_SHIFTS_USER_STATUS = Internal.createIndex(DSL.name("idx_shifts_user_status"), Shifts.SHIFTS, new OrderField[] { Shifts.SHIFTS.STARTED_BY_USER_ID, Shifts.SHIFTS.STATUS }, false);
+    public static final Index IDX_STOCKRESERVATIONS_EXPIRES_AT = Internal.createIndex(DSL.name("idx_stockreservations_expires_at"), Stockreservations.STOCKRESERVATIONS, new OrderField[] { Stockreservations.STOCKRESERVATIONS.EXPIRES_AT }, false);
+    public static final Index IDX_STOCKRESERVATIONS_INVENTORYITEMID = Internal.createIndex(DSL.name("idx_stockreservations_inventoryitemid"), Stockreservations.STOCKRESERVATIONS, new OrderField[] { Stockreservations.STOCKRESERVATIONS.INVENTORY_ITEM_ID }, false);
+    public static final Index IDX_STOCKRESERVATIONS_SALESORDERID = Internal.createIndex(DSL.name("idx_stockreservations_salesorderid"), Stockreservations.STOCKRESERVATIONS, new OrderField[] { Stockreservations.STOCKRESERVATIONS.SALES_ORDER_ID }, false);
     public static final Index IDX_UNIQUE_ACTIVE_PAUSED_SHIFT_PER_USER = Internal.createIndex(DSL.name("idx_unique_active_paused_shift_per_user"), Shifts.SHIFTS, new OrderField[] { Shifts.SHIFTS.STARTED_BY_USER_ID }, true);
 }
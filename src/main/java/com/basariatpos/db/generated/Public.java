@@ -9,14 +9,23 @@ import com.basariatpos.db.generated.tables.Appointments;
 import com.basariatpos.db.generated.tables.Auditlog;
 import com.basariatpos.db.generated.tables.Banknames;
 import com.basariatpos.db.generated.tables.Centerprofile;
+import com.basariatpos.db.generated.tables.Dailycategorysalesrollup;
+import com.basariatpos.db.generated.tables.Dailyexpenserollup;
+import com.basariatpos.db.generated.tables.Dailyrollupqueue;
+import com.basariatpos.db.generated.tables.Dailysalesrollup;
 import com.basariatpos.db.generated.tables.Expensecategories;
 import com.basariatpos.db.generated.tables.Expenses;
+import com.basariatpos.db.generated.tables.Findsalesordersubtotalmismatches;
+import com.basariatpos.db.generated.tables.Findshifttotalsmismatches;
 import com.basariatpos.db.generated.tables.Generateprofitandlossstatement;
+import com.basariatpos.db.generated.tables.Inventorycostlayers;
 import com.basariatpos.db.generated.tables.Inventoryitems;
 import com.basariatpos.db.generated.tables.Inventorysummaryview;
 import com.basariatpos.db.generated.tables.Lowstockitemsview;
 import com.basariatpos.db.generated.tables.Opticaldiagnostics;
 import com.basariatpos.db.generated.tables.Outstandingpaymentsview;
+import com.basariatpos.db.generated.tables.PartitionBounds;
+import com.basariatpos.db.generated.tables.Partitionedtables;
 import com.basariatpos.db.generated.tables.Patients;
 import com.basariatpos.db.generated.tables.Payments;
 import com.basariatpos.db.generated.tables.Productcategories;
@@ -30,9 +39,16 @@ import com.basariatpos.db.generated.tables.Shiftpauselog;
 import com.basariatpos.db.generated.tables.Shiftreportdetailedtransactionsview;
 import com.basariatpos.db.generated.tables.Shiftreportsummaryview;
 import com.basariatpos.db.generated.tables.Shifts;
+import com.basariatpos.db.generated.tables.Shifttotals;
+import com.basariatpos.db.generated.tables.Shifttotalsrecomputedview;
+import com.basariatpos.db.generated.tables.Stockreservations;
+import com.basariatpos.db.generated.tables.Stockreservationtotals;
 import com.basariatpos.db.generated.tables.Userpermissions;
 import com.basariatpos.db.generated.tables.Users;
+import com.basariatpos.db.generated.tables.records.FindsalesordersubtotalmismatchesRecord;
+import com.basariatpos.db.generated.tables.records.FindshifttotalsmismatchesRecord;
 import com.basariatpos.db.generated.tables.records.GenerateprofitandlossstatementRecord;
+import com.basariatpos.db.generated.tables.records.PartitionBoundsRecord;
 
 import java.time.LocalDate;
 import java.util.Arrays;
@@ -84,6 +100,26 @@ public class Public extends SchemaImpl {
      */
     public final Centerprofile CENTERPROFILE = Centerprofile.CENTERPROFILE;
 
+    /**
+     * The table <code>public.dailycategorysalesrollup</code>.
+     */
+    public final Dailycategorysalesrollup DAILYCATEGORYSALESROLLUP = Dailycategorysalesrollup.DAILYCATEGORYSALESROLLUP;
+
+    /**
+     * The table <code>public.dailyexpenserollup</code>.
+     */
+    public final Dailyexpenserollup DAILYEXPENSEROLLUP = Dailyexpenserollup.DAILYEXPENSEROLLUP;
+
+    /**
+     * The table <code>public.dailyrollupqueue</code>.
+     */
+    public final Dailyrollupqueue DAILYROLLUPQUEUE = Dailyrollupqueue.DAILYROLLUPQUEUE;
+
+    /**
+     * The table <code>public.dailysalesrollup</code>.
+     */
+    public final Dailysalesrollup DAILYSALESROLLUP = Dailysalesrollup.DAILYSALESROLLUP;
+
     /**
      * The table <code>public.expensecategories</code>.
      */
@@ -94,6 +130,52 @@ public class Public extends SchemaImpl {
      */
     public final Expenses EXPENSES = Expenses.EXPENSES;
 
+    /**
+     * The table <code>public.findsalesordersubtotalmismatches</code>.
+     */
+    public final Findsalesordersubtotalmismatches FINDSALESORDERSUBTOTALMISMATCHES = Findsalesordersubtotalmismatches.FINDSALESORDERSUBTOTALMISMATCHES;
+
+    /**
+     * Call <code>public.findsalesordersubtotalmismatches</code>.
+     */
+    public static Result<FindsalesordersubtotalmismatchesRecord> FINDSALESORDERSUBTOTALMISMATCHES(
+          Configuration configuration
+    ) {
+        return configuration.dsl().selectFrom(com.basariatpos.db.generated.tables.Findsalesordersubtotalmismatches.FINDSALESORDERSUBTOTALMISMATCHES.call(
+        )).fetch();
+    }
+
+    /**
+     * Get <code>public.findsalesordersubtotalmismatches</code> as a table.
+     */
+    public static Findsalesordersubtotalmismatches FINDSALESORDERSUBTOTALMISMATCHES() {
+        return com.basariatpos.db.generated.tables.Findsalesordersubtotalmismatches.FINDSALESORDERSUBTOTALMISMATCHES.call(
+        );
+    }
+
+    /**
+     * The table <code>public.findshifttotalsmismatches</code>.
+     */
+    public final Findshifttotalsmismatches FINDSHIFTTOTALSMISMATCHES = Findshifttotalsmismatches.FINDSHIFTTOTALSMISMATCHES;
+
+    /**
+     * Call <code>public.findshifttotalsmismatches</code>.
+     */
+    public static Result<FindshifttotalsmismatchesRecord> FINDSHIFTTOTALSMISMATCHES(
+          Configuration configuration
+    ) {
+        return configuration.dsl().selectFrom(com.basariatpos.db.generated.tables.Findshifttotalsmismatches.FINDSHIFTTOTALSMISMATCHES.call(
+        )).fetch();
+    }
+
+    /**
+     * Get <code>public.findshifttotalsmismatches</code> as a table.
+     */
+    public static Findshifttotalsmismatches FINDSHIFTTOTALSMISMATCHES() {
+        return com.basariatpos.db.generated.tables.Findshifttotalsmismatches.FINDSHIFTTOTALSMISMATCHES.call(
+        );
+    }
+
     /**
      * The table <code>public.generateprofitandlossstatement</code>.
      */
@@ -139,6 +221,11 @@ public class Public extends SchemaImpl {
         );
     }
 
+    /**
+     * The table <code>public.inventorycostlayers</code>.
+     */
+    public final Inventorycostlayers INVENTORYCOSTLAYERS = Inventorycostlayers.INVENTORYCOSTLAYERS;
+
     /**
      * The table <code>public.inventoryitems</code>.
      */
@@ -164,6 +251,50 @@ public class Public extends SchemaImpl {
      */
     public final Outstandingpaymentsview OUTSTANDINGPAYMENTSVIEW = Outstandingpaymentsview.OUTSTANDINGPAYMENTSVIEW;
 
+    /**
+     * The table <code>public.partition_bounds</code>.
+     */
+    public final PartitionBounds PARTITION_BOUNDS = PartitionBounds.PARTITION_BOUNDS;
+
+    /**
+     * Call <code>public.partition_bounds</code>.
+     */
+    public static Result<PartitionBoundsRecord> PARTITION_BOUNDS(
+          Configuration configuration
+        , String pTable
+    ) {
+        return configuration.dsl().selectFrom(com.basariatpos.db.generated.tables.PartitionBounds.PARTITION_BOUNDS.call(
+              pTable
+        )).fetch();
+    }
+
+    /**
+     * Get <code>public.partition_bounds</code> as a table.
+     */
+    public static PartitionBounds PARTITION_BOUNDS(
+          String pTable
+    ) {
+        return com.basariatpos.db.generated.tables.PartitionBounds.PARTITION_BOUNDS.call(
+            pTable
+        );
+    }
+
+    /**
+     * Get <code>public.partition_bounds</code> as a table.
+     */
+    public static PartitionBounds PARTITION_BOUNDS(
+          Field<String> pTable
+    ) {
+        return com.basariatpos.db.generated.tables.PartitionBounds.PARTITION_BOUNDS.call(
+            pTable
+        );
+    }
+
+    /**
+     * The table <code>public.partitionedtables</code>.
+     */
+    public final Partitionedtables PARTITIONEDTABLES = Partitionedtables.PARTITIONEDTABLES;
+
     /**
      * The table <code>public.patients</code>.
      */
@@ -229,6 +360,26 @@ public class Public extends SchemaImpl {
      */
     public final Shifts SHIFTS = Shifts.SHIFTS;
 
+    /**
+     * The table <code>public.shifttotals</code>.
+     */
+    public final Shifttotals SHIFTTOTALS = Shifttotals.SHIFTTOTALS;
+
+    /**
+     * The table <code>public.shifttotalsrecomputedview</code>.
+     */
+    public final Shifttotalsrecomputedview SHIFTTOTALSRECOMPUTEDVIEW = Shifttotalsrecomputedview.SHIFTTOTALSRECOMPUTEDVIEW;
+
+    /**
+     * The table <code>public.stockreservations</code>.
+     */
+    public final Stockreservations STOCKRESERVATIONS = Stockreservations.STOCKRESERVATIONS;
+
+    /**
+     * The table <code>public.stockreservationtotals</code>.
+     */
+    public final Stockreservationtotals STOCKRESERVATIONTOTALS = Stockreservationtotals.STOCKRESERVATIONTOTALS;
+
     /**
      * The table <code>public.userpermissions</code>.
      */
@@ -260,14 +411,23 @@ public class Public extends SchemaImpl {
             Auditlog.AUDITLOG,
             Banknames.BANKNAMES,
             Centerprofile.CENTERPROFILE,
+            Dailycategorysalesrollup.DAILYCATEGORYSALESROLLUP,
+            Dailyexpenserollup.DAILYEXPENSEROLLUP,
+            Dailyrollupqueue.DAILYROLLUPQUEUE,
+            Dailysalesrollup.DAILYSALESROLLUP,
             Expensecategories.EXPENSECATEGORIES,
             Expenses.EXPENSES,
+            Findsalesordersubtotalmismatches.FINDSALESORDERSUBTOTALMISMATCHES,
+            Findshifttotalsmismatches.FINDSHIFTTOTALSMISMATCHES,
             Generateprofitandlossstatement.GENERATEPROFITANDLOSSSTATEMENT,
+            Inventorycostlayers.INVENTORYCOSTLAYERS,
             Inventoryitems.INVENTORYITEMS,
             Inventorysummaryview.INVENTORYSUMMARYVIEW,
             Lowstockitemsview.LOWSTOCKITEMSVIEW,
             Opticaldiagnostics.OPTICALDIAGNOSTICS,
             Outstandingpaymentsview.OUTSTANDINGPAYMENTSVIEW,
+            PartitionBounds.PARTITION_BOUNDS,
+            Partitionedtables.PARTITIONEDTABLES,
             Patients.PATIENTS,
             Payments.PAYMENTS,
             Productcategories.PRODUCTCATEGORIES,
@@ -281,6 +441,10 @@ public class Public extends SchemaImpl {
             Shiftreportdetailedtransactionsview.SHIFTREPORTDETAILEDTRANSACTIONSVIEW,
             Shiftreportsummaryview.SHIFTREPORTSUMMARYVIEW,
             Shifts.SHIFTS,
+            Shifttotals.SHIFTTOTALS,
+            Shifttotalsrecomputedview.SHIFTTOTALSRECOMPUTEDVIEW,
+            Stockreservations.STOCKRESERVATIONS,
+            Stockreservationtotals.STOCKRESERVATIONTOTALS,
             Userpermissions.USERPERMISSIONS,
             Users.USERS
         );
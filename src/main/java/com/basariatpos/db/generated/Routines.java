@@ -4,26 +4,53 @@
 package com.basariatpos.db.generated;
 
 
+import com.basariatpos.db.generated.routines.ApplyShiftTotalsDelta;
+import com.basariatpos.db.generated.routines.ApplyStockReservationDeltas;
+import com.basariatpos.db.generated.routines.Archivefiscalyear;
+import com.basariatpos.db.generated.routines.Checkoutorder;
+import com.basariatpos.db.generated.routines.ConsumeCostLayers;
+import com.basariatpos.db.generated.routines.CreateAuditLogPartition;
+import com.basariatpos.db.generated.routines.CreateDbEventTriggers;
+import com.basariatpos.db.generated.routines.CreateRangePartition;
 import com.basariatpos.db.generated.routines.Endshift;
+import com.basariatpos.db.generated.routines.Ensureauditlogpartitions;
+import com.basariatpos.db.generated.routines.Ensurepartitions;
+import com.basariatpos.db.generated.routines.Expirestockreservations;
 import com.basariatpos.db.generated.routines.GetCurrentAppShiftId;
 import com.basariatpos.db.generated.routines.GetCurrentAppUserId;
+import com.basariatpos.db.generated.routines.NormalizePhone;
+import com.basariatpos.db.generated.routines.NormalizeSearchText;
 import com.basariatpos.db.generated.routines.Pauseshift;
 import com.basariatpos.db.generated.routines.Processabandonedorder;
 import com.basariatpos.db.generated.routines.Processordercompletionstockupdate;
+import com.basariatpos.db.generated.routines.QueueDailyRollups;
+import com.basariatpos.db.generated.routines.Rebuilddailyrollups;
+import com.basariatpos.db.generated.routines.Rebuildshifttotals;
 import com.basariatpos.db.generated.routines.Recalculatesalesordersubtotal;
+import com.basariatpos.db.generated.routines.Recalculatesalesordersubtotals;
 import com.basariatpos.db.generated.routines.Recordpaymentandupdatesalesorder;
+import com.basariatpos.db.generated.routines.Refreshdailyrollups;
 import com.basariatpos.db.generated.routines.Resumeshift;
 import com.basariatpos.db.generated.routines.SetAppShift;
 import com.basariatpos.db.generated.routines.SetAppUser;
 import com.basariatpos.db.generated.routines.Startshift;
+import com.basariatpos.db.generated.routines.TriggerTableName;
+import com.basariatpos.db.generated.routines.Tryrefreshdailyrollups;
+import com.basariatpos.db.generated.tables.Findsalesordersubtotalmismatches;
+import com.basariatpos.db.generated.tables.Findshifttotalsmismatches;
 import com.basariatpos.db.generated.tables.Generateprofitandlossstatement;
+import com.basariatpos.db.generated.tables.PartitionBounds;
+import com.basariatpos.db.generated.tables.records.FindsalesordersubtotalmismatchesRecord;
+import com.basariatpos.db.generated.tables.records.FindshifttotalsmismatchesRecord;
 import com.basariatpos.db.generated.tables.records.GenerateprofitandlossstatementRecord;
+import com.basariatpos.db.generated.tables.records.PartitionBoundsRecord;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
 import org.jooq.Configuration;
 import org.jooq.Field;
+import org.jooq.JSONB;
 import org.jooq.Result;
 
 
@@ -33,6 +60,187 @@ import org.jooq.Result;
 @SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
 public class Routines {
 
+    /**
+     * Call <code>public.apply_shift_totals_delta</code>
+     */
+    public static void applyShiftTotalsDelta(
+          Configuration configuration
+        , Integer pShiftId
+        , BigDecimal pCashReceived
+        , BigDecimal pBankReceived
+        , BigDecimal pCashExpenses
+        , Integer pSalesOrders
+        , BigDecimal pDiscounts
+    ) {
+        ApplyShiftTotalsDelta p = new ApplyShiftTotalsDelta();
+        p.setPShiftId(pShiftId);
+        p.setPCashReceived(pCashReceived);
+        p.setPBankReceived(pBankReceived);
+        p.setPCashExpenses(pCashExpenses);
+        p.setPSalesOrders(pSalesOrders);
+        p.setPDiscounts(pDiscounts);
+
+        p.execute(configuration);
+    }
+
+    /**
+     * Call <code>public.apply_stock_reservation_deltas</code>
+     */
+    public static void applyStockReservationDeltas(
+          Configuration configuration
+        , Integer[] pItemIds
+        , Integer[] pQuantities
+    ) {
+        ApplyStockReservationDeltas p = new ApplyStockReservationDeltas();
+        p.setPItemIds(pItemIds);
+        p.setPQuantities(pQuantities);
+
+        p.execute(configuration);
+    }
+
+    /**
+     * Call <code>public.archivefiscalyear</code>
+     */
+    public static String[] archivefiscalyear(
+          Configuration configuration
+        , Integer pYear
+    ) {
+        Archivefiscalyear f = new Archivefiscalyear();
+        f.setPYear(pYear);
+
+        f.execute(configuration);
+        return f.getReturnValue();
+    }
+
+    /**
+     * Get <code>public.archivefiscalyear</code> as a field.
+     */
+    public static Field<String[]> archivefiscalyear(
+          Integer pYear
+    ) {
+        Archivefiscalyear f = new Archivefiscalyear();
+        f.setPYear(pYear);
+
+        return f.asField();
+    }
+
+    /**
+     * Get <code>public.archivefiscalyear</code> as a field.
+     */
+    public static Field<String[]> archivefiscalyear(
+          Field<Integer> pYear
+    ) {
+        Archivefiscalyear f = new Archivefiscalyear();
+        f.setPYear(pYear);
+
+        return f.asField();
+    }
+
+    /**
+     * Call <code>public.checkoutorder</code>
+     */
+    public static Checkoutorder checkoutorder(
+          Configuration configuration
+        , JSONB pOrder
+    ) {
+        Checkoutorder p = new Checkoutorder();
+        p.setPOrder(pOrder);
+
+        p.execute(configuration);
+        return p;
+    }
+
+    /**
+     * Call <code>public.consume_cost_layers</code>
+     */
+    public static void consumeCostLayers(
+          Configuration configuration
+        , Integer pSalesOrderId
+    ) {
+        ConsumeCostLayers p = new ConsumeCostLayers();
+        p.setPSalesOrderId(pSalesOrderId);
+
+        p.execute(configuration);
+    }
+
+    /**
+     * Call <code>public.create_audit_log_partition</code>
+     */
+    public static void createAuditLogPartition(
+          Configuration configuration
+        , LocalDate pMonth
+    ) {
+        CreateAuditLogPartition p = new CreateAuditLogPartition();
+        p.setPMonth(pMonth);
+
+        p.execute(configuration);
+    }
+
+    /**
+     * @deprecated Unknown data type. Parameter type or return type is unknown.
+     * If this is a qualified, user-defined type, it may have been excluded from
+     * code generation. If this is a built-in type, you can define an explicit
+     * {@link org.jooq.Binding} to specify how this type should be handled.
+     * Deprecation can be turned off using {@literal
+     * <deprecationOnUnknownTypes/>} in your code generator configuration.
+     */
+    @Deprecated
+    public static void createDbEventTriggers(
+          Configuration configuration
+        , Object pTable
+        , String pKeyColumn
+    ) {
+        CreateDbEventTriggers p = new CreateDbEventTriggers();
+        p.setPTable(pTable);
+        p.setPKeyColumn(pKeyColumn);
+
+        p.execute(configuration);
+    }
+
+    /**
+     * Call <code>public.create_range_partition</code>
+     */
+    public static Boolean createRangePartition(
+          Configuration configuration
+        , String pTable
+        , LocalDate pPeriod
+    ) {
+        CreateRangePartition f = new CreateRangePartition();
+        f.setPTable(pTable);
+        f.setPPeriod(pPeriod);
+
+        f.execute(configuration);
+        return f.getReturnValue();
+    }
+
+    /**
+     * Get <code>public.create_range_partition</code> as a field.
+     */
+    public static Field<Boolean> createRangePartition(
+          String pTable
+        , LocalDate pPeriod
+    ) {
+        CreateRangePartition f = new CreateRangePartition();
+        f.setPTable(pTable);
+        f.setPPeriod(pPeriod);
+
+        return f.asField();
+    }
+
+    /**
+     * Get <code>public.create_range_partition</code> as a field.
+     */
+    public static Field<Boolean> createRangePartition(
+          Field<String> pTable
+        , Field<LocalDate> pPeriod
+    ) {
+        CreateRangePartition f = new CreateRangePartition();
+        f.setPTable(pTable);
+        f.setPPeriod(pPeriod);
+
+        return f.asField();
+    }
+
     /**
      * Call <code>public.endshift</code>
      */
@@ -52,6 +260,61 @@ public class Routines {
         p.execute(configuration);
     }
 
+    /**
+     * Call <code>public.ensureauditlogpartitions</code>
+     */
+    public static void ensureauditlogpartitions(
+          Configuration configuration
+        , Integer pMonthsAhead
+    ) {
+        Ensureauditlogpartitions p = new Ensureauditlogpartitions();
+        p.setPMonthsAhead(pMonthsAhead);
+
+        p.execute(configuration);
+    }
+
+    /**
+     * Call <code>public.ensurepartitions</code>
+     */
+    public static Integer ensurepartitions(
+          Configuration configuration
+    ) {
+        Ensurepartitions f = new Ensurepartitions();
+
+        f.execute(configuration);
+        return f.getReturnValue();
+    }
+
+    /**
+     * Get <code>public.ensurepartitions</code> as a field.
+     */
+    public static Field<Integer> ensurepartitions() {
+        Ensurepartitions f = new Ensurepartitions();
+
+        return f.asField();
+    }
+
+    /**
+     * Call <code>public.expirestockreservations</code>
+     */
+    public static Integer expirestockreservations(
+          Configuration configuration
+    ) {
+        Expirestockreservations f = new Expirestockreservations();
+
+        f.execute(configuration);
+        return f.getReturnValue();
+    }
+
+    /**
+     * Get <code>public.expirestockreservations</code> as a field.
+     */
+    public static Field<Integer> expirestockreservations() {
+        Expirestockreservations f = new Expirestockreservations();
+
+        return f.asField();
+    }
+
     /**
      * Call <code>public.get_current_app_shift_id</code>
      */
@@ -94,6 +357,82 @@ public class Routines {
         return f.asField();
     }
 
+    /**
+     * Call <code>public.normalize_phone</code>
+     */
+    public static String normalizePhone(
+          Configuration configuration
+        , String pPhone
+    ) {
+        NormalizePhone f = new NormalizePhone();
+        f.setPPhone(pPhone);
+
+        f.execute(configuration);
+        return f.getReturnValue();
+    }
+
+    /**
+     * Get <code>public.normalize_phone</code> as a field.
+     */
+    public static Field<String> normalizePhone(
+          String pPhone
+    ) {
+        NormalizePhone f = new NormalizePhone();
+        f.setPPhone(pPhone);
+
+        return f.asField();
+    }
+
+    /**
+     * Get <code>public.normalize_phone</code> as a field.
+     */
+    public static Field<String> normalizePhone(
+          Field<String> pPhone
+    ) {
+        NormalizePhone f = new NormalizePhone();
+        f.setPPhone(pPhone);
+
+        return f.asField();
+    }
+
+    /**
+     * Call <code>public.normalize_search_text</code>
+     */
+    public static String normalizeSearchText(
+          Configuration configuration
+        , String pText
+    ) {
+        NormalizeSearchText f = new NormalizeSearchText();
+        f.setPText(pText);
+
+        f.execute(configuration);
+        return f.getReturnValue();
+    }
+
+    /**
+     * Get <code>public.normalize_search_text</code> as a field.
+     */
+    public static Field<String> normalizeSearchText(
+          String pText
+    ) {
+        NormalizeSearchText f = new NormalizeSearchText();
+        f.setPText(pText);
+
+        return f.asField();
+    }
+
+    /**
+     * Get <code>public.normalize_search_text</code> as a field.
+     */
+    public static Field<String> normalizeSearchText(
+          Field<String> pText
+    ) {
+        NormalizeSearchText f = new NormalizeSearchText();
+        f.setPText(pText);
+
+        return f.asField();
+    }
+
     /**
      * Call <code>public.pauseshift</code>
      */
@@ -139,6 +478,74 @@ public class Routines {
         p.execute(configuration);
     }
 
+    /**
+     * Call <code>public.queue_daily_rollups</code>
+     */
+    public static void queueDailyRollups(
+          Configuration configuration
+        , LocalDate[] pDates
+    ) {
+        QueueDailyRollups p = new QueueDailyRollups();
+        p.setPDates(pDates);
+
+        p.execute(configuration);
+    }
+
+    /**
+     * Call <code>public.rebuilddailyrollups</code>
+     */
+    public static Integer rebuilddailyrollups(
+          Configuration configuration
+        , LocalDate pStartDate
+        , LocalDate pEndDate
+    ) {
+        Rebuilddailyrollups f = new Rebuilddailyrollups();
+        f.setPStartDate(pStartDate);
+        f.setPEndDate(pEndDate);
+
+        f.execute(configuration);
+        return f.getReturnValue();
+    }
+
+    /**
+     * Get <code>public.rebuilddailyrollups</code> as a field.
+     */
+    public static Field<Integer> rebuilddailyrollups(
+          LocalDate pStartDate
+        , LocalDate pEndDate
+    ) {
+        Rebuilddailyrollups f = new Rebuilddailyrollups();
+        f.setPStartDate(pStartDate);
+        f.setPEndDate(pEndDate);
+
+        return f.asField();
+    }
+
+    /**
+     * Get <code>public.rebuilddailyrollups</code> as a field.
+     */
+    public static Field<Integer> rebuilddailyrollups(
+          Field<LocalDate> pStartDate
+        , Field<LocalDate> pEndDate
+    ) {
+        Rebuilddailyrollups f = new Rebuilddailyrollups();
+        f.setPStartDate(pStartDate);
+        f.setPEndDate(pEndDate);
+
+        return f.asField();
+    }
+
+    /**
+     * Call <code>public.rebuildshifttotals</code>
+     */
+    public static void rebuildshifttotals(
+          Configuration configuration
+    ) {
+        Rebuildshifttotals p = new Rebuildshifttotals();
+
+        p.execute(configuration);
+    }
+
     /**
      * Call <code>public.recalculatesalesordersubtotal</code>
      */
@@ -152,6 +559,19 @@ public class Routines {
         p.execute(configuration);
     }
 
+    /**
+     * Call <code>public.recalculatesalesordersubtotals</code>
+     */
+    public static void recalculatesalesordersubtotals(
+          Configuration configuration
+        , Integer[] pSalesOrderIds
+    ) {
+        Recalculatesalesordersubtotals p = new Recalculatesalesordersubtotals();
+        p.setPSalesOrderIds(pSalesOrderIds);
+
+        p.execute(configuration);
+    }
+
     /**
      * Call <code>public.recordpaymentandupdatesalesorder</code>
      */
@@ -177,6 +597,27 @@ public class Routines {
         p.execute(configuration);
     }
 
+    /**
+     * Call <code>public.refreshdailyrollups</code>
+     */
+    public static Integer refreshdailyrollups(
+          Configuration configuration
+    ) {
+        Refreshdailyrollups f = new Refreshdailyrollups();
+
+        f.execute(configuration);
+        return f.getReturnValue();
+    }
+
+    /**
+     * Get <code>public.refreshdailyrollups</code> as a field.
+     */
+    public static Field<Integer> refreshdailyrollups() {
+        Refreshdailyrollups f = new Refreshdailyrollups();
+
+        return f.asField();
+    }
+
     /**
      * Call <code>public.resumeshift</code>
      */
@@ -234,6 +675,101 @@ public class Routines {
         return p.getPShiftId();
     }
 
+    /**
+     * Call <code>public.trigger_table_name</code>
+     */
+    public static String triggerTableName(
+          Configuration configuration
+        , Long pRelid
+    ) {
+        TriggerTableName f = new TriggerTableName();
+        f.setPRelid(pRelid);
+
+        f.execute(configuration);
+        return f.getReturnValue();
+    }
+
+    /**
+     * Get <code>public.trigger_table_name</code> as a field.
+     */
+    public static Field<String> triggerTableName(
+          Long pRelid
+    ) {
+        TriggerTableName f = new TriggerTableName();
+        f.setPRelid(pRelid);
+
+        return f.asField();
+    }
+
+    /**
+     * Get <code>public.trigger_table_name</code> as a field.
+     */
+    public static Field<String> triggerTableName(
+          Field<Long> pRelid
+    ) {
+        TriggerTableName f = new TriggerTableName();
+        f.setPRelid(pRelid);
+
+        return f.asField();
+    }
+
+    /**
+     * Call <code>public.tryrefreshdailyrollups</code>
+     */
+    public static Integer tryrefreshdailyrollups(
+          Configuration configuration
+    ) {
+        Tryrefreshdailyrollups f = new Tryrefreshdailyrollups();
+
+        f.execute(configuration);
+        return f.getReturnValue();
+    }
+
+    /**
+     * Get <code>public.tryrefreshdailyrollups</code> as a field.
+     */
+    public static Field<Integer> tryrefreshdailyrollups() {
+        Tryrefreshdailyrollups f = new Tryrefreshdailyrollups();
+
+        return f.asField();
+    }
+
+    /**
+     * Call <code>public.findsalesordersubtotalmismatches</code>.
+     */
+    public static Result<FindsalesordersubtotalmismatchesRecord> findsalesordersubtotalmismatches(
+          Configuration configuration
+    ) {
+        return configuration.dsl().selectFrom(com.basariatpos.db.generated.tables.Findsalesordersubtotalmismatches.FINDSALESORDERSUBTOTALMISMATCHES.call(
+        )).fetch();
+    }
+
+    /**
+     * Get <code>public.findsalesordersubtotalmismatches</code> as a table.
+     */
+    public static Findsalesordersubtotalmismatches findsalesordersubtotalmismatches() {
+        return com.basariatpos.db.generated.tables.Findsalesordersubtotalmismatches.FINDSALESORDERSUBTOTALMISMATCHES.call(
+        );
+    }
+
+    /**
+     * Call <code>public.findshifttotalsmismatches</code>.
+     */
+    public static Result<FindshifttotalsmismatchesRecord> findshifttotalsmismatches(
+          Configuration configuration
+    ) {
+        return configuration.dsl().selectFrom(com.basariatpos.db.generated.tables.Findshifttotalsmismatches.FINDSHIFTTOTALSMISMATCHES.call(
+        )).fetch();
+    }
+
+    /**
+     * Get <code>public.findshifttotalsmismatches</code> as a table.
+     */
+    public static Findshifttotalsmismatches findshifttotalsmismatches() {
+        return com.basariatpos.db.generated.tables.Findshifttotalsmismatches.FINDSHIFTTOTALSMISMATCHES.call(
+        );
+    }
+
     /**
      * Call <code>public.generateprofitandlossstatement</code>.
      */
@@ -273,4 +809,38 @@ public class Routines {
             pEndDate
         );
     }
+
+    /**
+     * Call <code>public.partition_bounds</code>.
+     */
+    public static Result<PartitionBoundsRecord> partitionBounds(
+          Configuration configuration
+        , String pTable
+    ) {
+        return configuration.dsl().selectFrom(com.basariatpos.db.generated.tables.PartitionBounds.PARTITION_BOUNDS.call(
+              pTable
+        )).fetch();
+    }
+
+    /**
+     * Get <code>public.partition_bounds</code> as a table.
+     */
+    public static PartitionBounds partitionBounds(
+          String pTable
+    ) {
+        return com.basariatpos.db.generated.tables.PartitionBounds.PARTITION_BOUNDS.call(
+            pTable
+        );
+    }
+
+    /**
+     * Get <code>public.partition_bounds</code> as a table.
+     */
+    public static PartitionBounds partitionBounds(
+          Field<String> pTable
+    ) {
+        return com.basariatpos.db.generated.tables.PartitionBounds.PARTITION_BOUNDS.call(
+            pTable
+        );
+    }
 }
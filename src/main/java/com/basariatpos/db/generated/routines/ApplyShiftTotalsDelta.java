@@ -0,0 +1,114 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.routines;
+
+
+import com.basariatpos.db.generated.Public;
+
+import java.math.BigDecimal;
+
+import org.jooq.Parameter;
+import org.jooq.impl.AbstractRoutine;
+import org.jooq.impl.Internal;
+import org.jooq.impl.SQLDataType;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class ApplyShiftTotalsDelta extends AbstractRoutine<java.lang.Void> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The parameter <code>public.apply_shift_totals_delta.p_shift_id</code>.
+     */
+    public static final Parameter<Integer> P_SHIFT_ID = Internal.createParameter("p_shift_id", SQLDataType.INTEGER, false, false);
+
+    /**
+     * The parameter
+     * <code>public.apply_shift_totals_delta.p_cash_received</code>.
+     */
+    public static final Parameter<BigDecimal> P_CASH_RECEIVED = Internal.createParameter("p_cash_received", SQLDataType.NUMERIC, false, false);
+
+    /**
+     * The parameter
+     * <code>public.apply_shift_totals_delta.p_bank_received</code>.
+     */
+    public static final Parameter<BigDecimal> P_BANK_RECEIVED = Internal.createParameter("p_bank_received", SQLDataType.NUMERIC, false, false);
+
+    /**
+     * The parameter
+     * <code>public.apply_shift_totals_delta.p_cash_expenses</code>.
+     */
+    public static final Parameter<BigDecimal> P_CASH_EXPENSES = Internal.createParameter("p_cash_expenses", SQLDataType.NUMERIC, false, false);
+
+    /**
+     * The parameter
+     * <code>public.apply_shift_totals_delta.p_sales_orders</code>.
+     */
+    public static final Parameter<Integer> P_SALES_ORDERS = Internal.createParameter("p_sales_orders", SQLDataType.INTEGER, false, false);
+
+    /**
+     * The parameter <code>public.apply_shift_totals_delta.p_discounts</code>.
+     */
+    public static final Parameter<BigDecimal> P_DISCOUNTS = Internal.createParameter("p_discounts", SQLDataType.NUMERIC, false, false);
+
+    /**
+     * Create a new routine call instance
+     */
+    public ApplyShiftTotalsDelta() {
+        super("apply_shift_totals_delta", Public.PUBLIC);
+
+        addInParameter(P_SHIFT_ID);
+        addInParameter(P_CASH_RECEIVED);
+        addInParameter(P_BANK_RECEIVED);
+        addInParameter(P_CASH_EXPENSES);
+        addInParameter(P_SALES_ORDERS);
+        addInParameter(P_DISCOUNTS);
+    }
+
+    /**
+     * Set the <code>p_shift_id</code> parameter IN value to the routine
+     */
+    public void setPShiftId(Integer value) {
+        setValue(P_SHIFT_ID, value);
+    }
+
+    /**
+     * Set the <code>p_cash_received</code> parameter IN value to the routine
+     */
+    public void setPCashReceived(BigDecimal value) {
+        setValue(P_CASH_RECEIVED, value);
+    }
+
+    /**
+     * Set the <code>p_bank_received</code> parameter IN value to the routine
+     */
+    public void setPBankReceived(BigDecimal value) {
+        setValue(P_BANK_RECEIVED, value);
+    }
+
+    /**
+     * Set the <code>p_cash_expenses</code> parameter IN value to the routine
+     */
+    public void setPCashExpenses(BigDecimal value) {
+        setValue(P_CASH_EXPENSES, value);
+    }
+
+    /**
+     * Set the <code>p_sales_orders</code> parameter IN value to the routine
+     */
+    public void setPSalesOrders(Integer value) {
+        setValue(P_SALES_ORDERS, value);
+    }
+
+    /**
+     * Set the <code>p_discounts</code> parameter IN value to the routine
+     */
+    public void setPDiscounts(BigDecimal value) {
+        setValue(P_DISCOUNTS, value);
+    }
+}
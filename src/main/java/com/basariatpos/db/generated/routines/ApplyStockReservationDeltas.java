@@ -0,0 +1,58 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.routines;
+
+
+import com.basariatpos.db.generated.Public;
+
+import org.jooq.Parameter;
+import org.jooq.impl.AbstractRoutine;
+import org.jooq.impl.Internal;
+import org.jooq.impl.SQLDataType;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class ApplyStockReservationDeltas extends AbstractRoutine<java.lang.Void> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The parameter
+     * <code>public.apply_stock_reservation_deltas.p_item_ids</code>.
+     */
+    public static final Parameter<Integer[]> P_ITEM_IDS = Internal.createParameter("p_item_ids", SQLDataType.INTEGER.array(), false, false);
+
+    /**
+     * The parameter
+     * <code>public.apply_stock_reservation_deltas.p_quantities</code>.
+     */
+    public static final Parameter<Integer[]> P_QUANTITIES = Internal.createParameter("p_quantities", SQLDataType.INTEGER.array(), false, false);
+
+    /**
+     * Create a new routine call instance
+     */
+    public ApplyStockReservationDeltas() {
+        super("apply_stock_reservation_deltas", Public.PUBLIC);
+
+        addInParameter(P_ITEM_IDS);
+        addInParameter(P_QUANTITIES);
+    }
+
+    /**
+     * Set the <code>p_item_ids</code> parameter IN value to the routine
+     */
+    public void setPItemIds(Integer[] value) {
+        setValue(P_ITEM_IDS, value);
+    }
+
+    /**
+     * Set the <code>p_quantities</code> parameter IN value to the routine
+     */
+    public void setPQuantities(Integer[] value) {
+        setValue(P_QUANTITIES, value);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.routines;
+
+
+import com.basariatpos.db.generated.Public;
+
+import org.jooq.Field;
+import org.jooq.Parameter;
+import org.jooq.impl.AbstractRoutine;
+import org.jooq.impl.Internal;
+import org.jooq.impl.SQLDataType;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class Archivefiscalyear extends AbstractRoutine<String[]> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The parameter <code>public.archivefiscalyear.RETURN_VALUE</code>.
+     */
+    public static final Parameter<String[]> RETURN_VALUE = Internal.createParameter("RETURN_VALUE", SQLDataType.CLOB.array(), false, false);
+
+    /**
+     * The parameter <code>public.archivefiscalyear.p_year</code>.
+     */
+    public static final Parameter<Integer> P_YEAR = Internal.createParameter("p_year", SQLDataType.INTEGER, false, false);
+
+    /**
+     * Create a new routine call instance
+     */
+    public Archivefiscalyear() {
+        super("archivefiscalyear", Public.PUBLIC, SQLDataType.CLOB.array());
+
+        setReturnParameter(RETURN_VALUE);
+        addInParameter(P_YEAR);
+    }
+
+    /**
+     * Set the <code>p_year</code> parameter IN value to the routine
+     */
+    public void setPYear(Integer value) {
+        setValue(P_YEAR, value);
+    }
+
+    /**
+     * Set the <code>p_year</code> parameter to the function to be used with a
+     * {@link org.jooq.Select} statement
+     */
+    public void setPYear(Field<Integer> field) {
+        setField(P_YEAR, field);
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.routines;
+
+
+import com.basariatpos.db.generated.Public;
+
+import java.math.BigDecimal;
+
+import org.jooq.JSONB;
+import org.jooq.Parameter;
+import org.jooq.impl.AbstractRoutine;
+import org.jooq.impl.Internal;
+import org.jooq.impl.SQLDataType;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class Checkoutorder extends AbstractRoutine<java.lang.Void> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The parameter <code>public.checkoutorder.p_order</code>.
+     */
+    public static final Parameter<JSONB> P_ORDER = Internal.createParameter("p_order", SQLDataType.JSONB, false, false);
+
+    /**
+     * The parameter <code>public.checkoutorder.sales_order_id</code>.
+     */
+    public static final Parameter<Integer> SALES_ORDER_ID = Internal.createParameter("sales_order_id", SQLDataType.INTEGER, false, false);
+
+    /**
+     * The parameter <code>public.checkoutorder.so_item_ids</code>.
+     */
+    public static final Parameter<Integer[]> SO_ITEM_IDS = Internal.createParameter("so_item_ids", SQLDataType.INTEGER.array(), false, false);
+
+    /**
+     * The parameter <code>public.checkoutorder.payment_ids</code>.
+     */
+    public static final Parameter<Integer[]> PAYMENT_IDS = Internal.createParameter("payment_ids", SQLDataType.INTEGER.array(), false, false);
+
+    /**
+     * The parameter <code>public.checkoutorder.reservations_held</code>.
+     */
+    public static final Parameter<Integer> RESERVATIONS_HELD = Internal.createParameter("reservations_held", SQLDataType.INTEGER, false, false);
+
+    /**
+     * The parameter <code>public.checkoutorder.status</code>.
+     */
+    public static final Parameter<String> STATUS = Internal.createParameter("status", SQLDataType.VARCHAR, false, false);
+
+    /**
+     * The parameter <code>public.checkoutorder.subtotal_amount</code>.
+     */
+    public static final Parameter<BigDecimal> SUBTOTAL_AMOUNT = Internal.createParameter("subtotal_amount", SQLDataType.NUMERIC, false, false);
+
+    /**
+     * The parameter <code>public.checkoutorder.discount_amount</code>.
+     */
+    public static final Parameter<BigDecimal> DISCOUNT_AMOUNT = Internal.createParameter("discount_amount", SQLDataType.NUMERIC, false, false);
+
+    /**
+     * The parameter <code>public.checkoutorder.total_amount</code>.
+     */
+    public static final Parameter<BigDecimal> TOTAL_AMOUNT = Internal.createParameter("total_amount", SQLDataType.NUMERIC, false, false);
+
+    /**
+     * The parameter <code>public.checkoutorder.amount_paid</code>.
+     */
+    public static final Parameter<BigDecimal> AMOUNT_PAID = Internal.createParameter("amount_paid", SQLDataType.NUMERIC, false, false);
+
+    /**
+     * The parameter <code>public.checkoutorder.balance_due</code>.
+     */
+    public static final Parameter<BigDecimal> BALANCE_DUE = Internal.createParameter("balance_due", SQLDataType.NUMERIC, false, false);
+
+    /**
+     * Create a new routine call instance
+     */
+    public Checkoutorder() {
+        super("checkoutorder", Public.PUBLIC);
+
+        addInParameter(P_ORDER);
+        addOutParameter(SALES_ORDER_ID);
+        addOutParameter(SO_ITEM_IDS);
+        addOutParameter(PAYMENT_IDS);
+        addOutParameter(RESERVATIONS_HELD);
+        addOutParameter(STATUS);
+        addOutParameter(SUBTOTAL_AMOUNT);
+        addOutParameter(DISCOUNT_AMOUNT);
+        addOutParameter(TOTAL_AMOUNT);
+        addOutParameter(AMOUNT_PAID);
+        addOutParameter(BALANCE_DUE);
+    }
+
+    /**
+     * Set the <code>p_order</code> parameter IN value to the routine
+     */
+    public void setPOrder(JSONB value) {
+        setValue(P_ORDER, value);
+    }
+
+    /**
+     * Get the <code>sales_order_id</code> parameter OUT value from the routine
+     */
+    public Integer getSalesOrderId() {
+        return get(SALES_ORDER_ID);
+    }
+
+    /**
+     * Get the <code>so_item_ids</code> parameter OUT value from the routine
+     */
+    public Integer[] getSoItemIds() {
+        return get(SO_ITEM_IDS);
+    }
+
+    /**
+     * Get the <code>payment_ids</code> parameter OUT value from the routine
+     */
+    public Integer[] getPaymentIds() {
+        return get(PAYMENT_IDS);
+    }
+
+    /**
+     * Get the <code>reservations_held</code> parameter OUT value from the
+     * routine
+     */
+    public Integer getReservationsHeld() {
+        return get(RESERVATIONS_HELD);
+    }
+
+    /**
+     * Get the <code>status</code> parameter OUT value from the routine
+     */
+    public String getStatus() {
+        return get(STATUS);
+    }
+
+    /**
+     * Get the <code>subtotal_amount</code> parameter OUT value from the routine
+     */
+    public BigDecimal getSubtotalAmount() {
+        return get(SUBTOTAL_AMOUNT);
+    }
+
+    /**
+     * Get the <code>discount_amount</code> parameter OUT value from the routine
+     */
+    public BigDecimal getDiscountAmount() {
+        return get(DISCOUNT_AMOUNT);
+    }
+
+    /**
+     * Get the <code>total_amount</code> parameter OUT value from the routine
+     */
+    public BigDecimal getTotalAmount() {
+        return get(TOTAL_AMOUNT);
+    }
+
+    /**
+     * Get the <code>amount_paid</code> parameter OUT value from the routine
+     */
+    public BigDecimal getAmountPaid() {
+        return get(AMOUNT_PAID);
+    }
+
+    /**
+     * Get the <code>balance_due</code> parameter OUT value from the routine
+     */
+    public BigDecimal getBalanceDue() {
+        return get(BALANCE_DUE);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.routines;
+
+
+import com.basariatpos.db.generated.Public;
+
+import org.jooq.Parameter;
+import org.jooq.impl.AbstractRoutine;
+import org.jooq.impl.Internal;
+import org.jooq.impl.SQLDataType;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class ConsumeCostLayers extends AbstractRoutine<java.lang.Void> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The parameter <code>public.consume_cost_layers.p_sales_order_id</code>.
+     */
+    public static final Parameter<Integer> P_SALES_ORDER_ID = Internal.createParameter("p_sales_order_id", SQLDataType.INTEGER, false, false);
+
+    /**
+     * Create a new routine call instance
+     */
+    public ConsumeCostLayers() {
+        super("consume_cost_layers", Public.PUBLIC);
+
+        addInParameter(P_SALES_ORDER_ID);
+    }
+
+    /**
+     * Set the <code>p_sales_order_id</code> parameter IN value to the routine
+     */
+    public void setPSalesOrderId(Integer value) {
+        setValue(P_SALES_ORDER_ID, value);
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.routines;
+
+
+import com.basariatpos.db.generated.Public;
+
+import java.time.LocalDate;
+
+import org.jooq.Parameter;
+import org.jooq.impl.AbstractRoutine;
+import org.jooq.impl.Internal;
+import org.jooq.impl.SQLDataType;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class CreateAuditLogPartition extends AbstractRoutine<java.lang.Void> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The parameter <code>public.create_audit_log_partition.p_month</code>.
+     */
+    public static final Parameter<LocalDate> P_MONTH = Internal.createParameter("p_month", SQLDataType.LOCALDATE, false, false);
+
+    /**
+     * Create a new routine call instance
+     */
+    public CreateAuditLogPartition() {
+        super("create_audit_log_partition", Public.PUBLIC);
+
+        addInParameter(P_MONTH);
+    }
+
+    /**
+     * Set the <code>p_month</code> parameter IN value to the routine
+     */
+    public void setPMonth(LocalDate value) {
+        setValue(P_MONTH, value);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.routines;
+
+
+import com.basariatpos.db.generated.Public;
+
+import org.jooq.Parameter;
+import org.jooq.impl.AbstractRoutine;
+import org.jooq.impl.DefaultDataType;
+import org.jooq.impl.Internal;
+import org.jooq.impl.SQLDataType;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class CreateDbEventTriggers extends AbstractRoutine<java.lang.Void> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * @deprecated Unknown data type. If this is a qualified, user-defined type,
+     * it may have been excluded from code generation. If this is a built-in
+     * type, you can define an explicit {@link org.jooq.Binding} to specify how
+     * this type should be handled. Deprecation can be turned off using
+     * {@literal <deprecationOnUnknownTypes/>} in your code generator
+     * configuration.
+     */
+    @Deprecated
+    public static final Parameter<Object> P_TABLE = Internal.createParameter("p_table", DefaultDataType.getDefaultDataType("\"pg_catalog\".\"regclass\""), false, false);
+
+    /**
+     * The parameter <code>public.create_db_event_triggers.p_key_column</code>.
+     */
+    public static final Parameter<String> P_KEY_COLUMN = Internal.createParameter("p_key_column", SQLDataType.CLOB, false, false);
+
+    /**
+     * Create a new routine call instance
+     */
+    public CreateDbEventTriggers() {
+        super("create_db_event_triggers", Public.PUBLIC);
+
+        addInParameter(P_TABLE);
+        addInParameter(P_KEY_COLUMN);
+    }
+
+    /**
+     * Set the <code>p_table</code> parameter IN value to the routine
+     */
+    public void setPTable(Object value) {
+        setValue(P_TABLE, value);
+    }
+
+    /**
+     * Set the <code>p_key_column</code> parameter IN value to the routine
+     */
+    public void setPKeyColumn(String value) {
+        setValue(P_KEY_COLUMN, value);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.routines;
+
+
+import com.basariatpos.db.generated.Public;
+
+import java.time.LocalDate;
+
+import org.jooq.Field;
+import org.jooq.Parameter;
+import org.jooq.impl.AbstractRoutine;
+import org.jooq.impl.Internal;
+import org.jooq.impl.SQLDataType;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class CreateRangePartition extends AbstractRoutine<Boolean> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The parameter <code>public.create_range_partition.RETURN_VALUE</code>.
+     */
+    public static final Parameter<Boolean> RETURN_VALUE = Internal.createParameter("RETURN_VALUE", SQLDataType.BOOLEAN, false, false);
+
+    /**
+     * The parameter <code>public.create_range_partition.p_table</code>.
+     */
+    public static final Parameter<String> P_TABLE = Internal.createParameter("p_table", SQLDataType.CLOB, false, false);
+
+    /**
+     * The parameter <code>public.create_range_partition.p_period</code>.
+     */
+    public static final Parameter<LocalDate> P_PERIOD = Internal.createParameter("p_period", SQLDataType.LOCALDATE, false, false);
+
+    /**
+     * Create a new routine call instance
+     */
+    public CreateRangePartition() {
+        super("create_range_partition", Public.PUBLIC, SQLDataType.BOOLEAN);
+
+        setReturnParameter(RETURN_VALUE);
+        addInParameter(P_TABLE);
+        addInParameter(P_PERIOD);
+    }
+
+    /**
+     * Set the <code>p_table</code> parameter IN value to the routine
+     */
+    public void setPTable(String value) {
+        setValue(P_TABLE, value);
+    }
+
+    /**
+     * Set the <code>p_table</code> parameter to the function to be used with a
+     * {@link org.jooq.Select} statement
+     */
+    public void setPTable(Field<String> field) {
+        setField(P_TABLE, field);
+    }
+
+    /**
+     * Set the <code>p_period</code> parameter IN value to the routine
+     */
+    public void setPPeriod(LocalDate value) {
+        setValue(P_PERIOD, value);
+    }
+
+    /**
+     * Set the <code>p_period</code> parameter to the function to be used with a
+     * {@link org.jooq.Select} statement
+     */
+    public void setPPeriod(Field<LocalDate> field) {
+        setField(P_PERIOD, field);
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.routines;
+
+
+import com.basariatpos.db.generated.Public;
+
+import org.jooq.Parameter;
+import org.jooq.impl.AbstractRoutine;
+import org.jooq.impl.DSL;
+import org.jooq.impl.Internal;
+import org.jooq.impl.SQLDataType;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class Ensureauditlogpartitions extends AbstractRoutine<java.lang.Void> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The parameter
+     * <code>public.ensureauditlogpartitions.p_months_ahead</code>.
+     */
+    public static final Parameter<Integer> P_MONTHS_AHEAD = Internal.createParameter("p_months_ahead", SQLDataType.INTEGER.defaultValue(DSL.field(DSL.raw("3"), SQLDataType.INTEGER)), true, false);
+
+    /**
+     * Create a new routine call instance
+     */
+    public Ensureauditlogpartitions() {
+        super("ensureauditlogpartitions", Public.PUBLIC);
+
+        addInParameter(P_MONTHS_AHEAD);
+        setSQLUsable(false);
+    }
+
+    /**
+     * Set the <code>p_months_ahead</code> parameter IN value to the routine
+     */
+    public void setPMonthsAhead(Integer value) {
+        setValue(P_MONTHS_AHEAD, value);
+    }
+}
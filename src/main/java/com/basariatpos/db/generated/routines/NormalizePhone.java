@@ -0,0 +1,58 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.routines;
+
+
+import com.basariatpos.db.generated.Public;
+
+import org.jooq.Field;
+import org.jooq.Parameter;
+import org.jooq.impl.AbstractRoutine;
+import org.jooq.impl.Internal;
+import org.jooq.impl.SQLDataType;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class NormalizePhone extends AbstractRoutine<String> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The parameter <code>public.normalize_phone.RETURN_VALUE</code>.
+     */
+    public static final Parameter<String> RETURN_VALUE = Internal.createParameter("RETURN_VALUE", SQLDataType.CLOB, false, false);
+
+    /**
+     * The parameter <code>public.normalize_phone.p_phone</code>.
+     */
+    public static final Parameter<String> P_PHONE = Internal.createParameter("p_phone", SQLDataType.CLOB, false, false);
+
+    /**
+     * Create a new routine call instance
+     */
+    public NormalizePhone() {
+        super("normalize_phone", Public.PUBLIC, SQLDataType.CLOB);
+
+        setReturnParameter(RETURN_VALUE);
+        addInParameter(P_PHONE);
+    }
+
+    /**
+     * Set the <code>p_phone</code> parameter IN value to the routine
+     */
+    public void setPPhone(String value) {
+        setValue(P_PHONE, value);
+    }
+
+    /**
+     * Set the <code>p_phone</code> parameter to the function to be used with a
+     * {@link org.jooq.Select} statement
+     */
+    public void setPPhone(Field<String> field) {
+        setField(P_PHONE, field);
+    }
+}
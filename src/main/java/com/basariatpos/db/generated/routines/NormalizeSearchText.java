@@ -0,0 +1,58 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.routines;
+
+
+import com.basariatpos.db.generated.Public;
+
+import org.jooq.Field;
+import org.jooq.Parameter;
+import org.jooq.impl.AbstractRoutine;
+import org.jooq.impl.Internal;
+import org.jooq.impl.SQLDataType;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class NormalizeSearchText extends AbstractRoutine<String> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The parameter <code>public.normalize_search_text.RETURN_VALUE</code>.
+     */
+    public static final Parameter<String> RETURN_VALUE = Internal.createParameter("RETURN_VALUE", SQLDataType.CLOB, false, false);
+
+    /**
+     * The parameter <code>public.normalize_search_text.p_text</code>.
+     */
+    public static final Parameter<String> P_TEXT = Internal.createParameter("p_text", SQLDataType.CLOB, false, false);
+
+    /**
+     * Create a new routine call instance
+     */
+    public NormalizeSearchText() {
+        super("normalize_search_text", Public.PUBLIC, SQLDataType.CLOB);
+
+        setReturnParameter(RETURN_VALUE);
+        addInParameter(P_TEXT);
+    }
+
+    /**
+     * Set the <code>p_text</code> parameter IN value to the routine
+     */
+    public void setPText(String value) {
+        setValue(P_TEXT, value);
+    }
+
+    /**
+     * Set the <code>p_text</code> parameter to the function to be used with a
+     * {@link org.jooq.Select} statement
+     */
+    public void setPText(Field<String> field) {
+        setField(P_TEXT, field);
+    }
+}
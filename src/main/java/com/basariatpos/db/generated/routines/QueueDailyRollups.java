@@ -0,0 +1,45 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.routines;
+
+
+import com.basariatpos.db.generated.Public;
+
+import java.time.LocalDate;
+
+import org.jooq.Parameter;
+import org.jooq.impl.AbstractRoutine;
+import org.jooq.impl.Internal;
+import org.jooq.impl.SQLDataType;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class QueueDailyRollups extends AbstractRoutine<java.lang.Void> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The parameter <code>public.queue_daily_rollups.p_dates</code>.
+     */
+    public static final Parameter<LocalDate[]> P_DATES = Internal.createParameter("p_dates", SQLDataType.LOCALDATE.array(), false, false);
+
+    /**
+     * Create a new routine call instance
+     */
+    public QueueDailyRollups() {
+        super("queue_daily_rollups", Public.PUBLIC);
+
+        addInParameter(P_DATES);
+    }
+
+    /**
+     * Set the <code>p_dates</code> parameter IN value to the routine
+     */
+    public void setPDates(LocalDate[] value) {
+        setValue(P_DATES, value);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.routines;
+
+
+import com.basariatpos.db.generated.Public;
+
+import java.time.LocalDate;
+
+import org.jooq.Field;
+import org.jooq.Parameter;
+import org.jooq.impl.AbstractRoutine;
+import org.jooq.impl.Internal;
+import org.jooq.impl.SQLDataType;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class Rebuilddailyrollups extends AbstractRoutine<Integer> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The parameter <code>public.rebuilddailyrollups.RETURN_VALUE</code>.
+     */
+    public static final Parameter<Integer> RETURN_VALUE = Internal.createParameter("RETURN_VALUE", SQLDataType.INTEGER, false, false);
+
+    /**
+     * The parameter <code>public.rebuilddailyrollups.p_start_date</code>.
+     */
+    public static final Parameter<LocalDate> P_START_DATE = Internal.createParameter("p_start_date", SQLDataType.LOCALDATE, false, false);
+
+    /**
+     * The parameter <code>public.rebuilddailyrollups.p_end_date</code>.
+     */
+    public static final Parameter<LocalDate> P_END_DATE = Internal.createParameter("p_end_date", SQLDataType.LOCALDATE, false, false);
+
+    /**
+     * Create a new routine call instance
+     */
+    public Rebuilddailyrollups() {
+        super("rebuilddailyrollups", Public.PUBLIC, SQLDataType.INTEGER);
+
+        setReturnParameter(RETURN_VALUE);
+        addInParameter(P_START_DATE);
+        addInParameter(P_END_DATE);
+    }
+
+    /**
+     * Set the <code>p_start_date</code> parameter IN value to the routine
+     */
+    public void setPStartDate(LocalDate value) {
+        setValue(P_START_DATE, value);
+    }
+
+    /**
+     * Set the <code>p_start_date</code> parameter to the function to be used
+     * with a {@link org.jooq.Select} statement
+     */
+    public void setPStartDate(Field<LocalDate> field) {
+        setField(P_START_DATE, field);
+    }
+
+    /**
+     * Set the <code>p_end_date</code> parameter IN value to the routine
+     */
+    public void setPEndDate(LocalDate value) {
+        setValue(P_END_DATE, value);
+    }
+
+    /**
+     * Set the <code>p_end_date</code> parameter to the function to be used with
+     * a {@link org.jooq.Select} statement
+     */
+    public void setPEndDate(Field<LocalDate> field) {
+        setField(P_END_DATE, field);
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.routines;
+
+
+import com.basariatpos.db.generated.Public;
+
+import org.jooq.impl.AbstractRoutine;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class Rebuildshifttotals extends AbstractRoutine<java.lang.Void> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Create a new routine call instance
+     */
+    public Rebuildshifttotals() {
+        super("rebuildshifttotals", Public.PUBLIC);
+        setSQLUsable(false);
+    }
+}
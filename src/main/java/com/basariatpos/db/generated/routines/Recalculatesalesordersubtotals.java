@@ -0,0 +1,45 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.routines;
+
+
+import com.basariatpos.db.generated.Public;
+
+import org.jooq.Parameter;
+import org.jooq.impl.AbstractRoutine;
+import org.jooq.impl.Internal;
+import org.jooq.impl.SQLDataType;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class Recalculatesalesordersubtotals extends AbstractRoutine<java.lang.Void> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The parameter
+     * <code>public.recalculatesalesordersubtotals.p_sales_order_ids</code>.
+     */
+    public static final Parameter<Integer[]> P_SALES_ORDER_IDS = Internal.createParameter("p_sales_order_ids", SQLDataType.INTEGER.array(), false, false);
+
+    /**
+     * Create a new routine call instance
+     */
+    public Recalculatesalesordersubtotals() {
+        super("recalculatesalesordersubtotals", Public.PUBLIC);
+
+        addInParameter(P_SALES_ORDER_IDS);
+        setSQLUsable(false);
+    }
+
+    /**
+     * Set the <code>p_sales_order_ids</code> parameter IN value to the routine
+     */
+    public void setPSalesOrderIds(Integer[] value) {
+        setValue(P_SALES_ORDER_IDS, value);
+    }
+}
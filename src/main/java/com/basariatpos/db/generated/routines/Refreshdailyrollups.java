@@ -0,0 +1,36 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.routines;
+
+
+import com.basariatpos.db.generated.Public;
+
+import org.jooq.Parameter;
+import org.jooq.impl.AbstractRoutine;
+import org.jooq.impl.Internal;
+import org.jooq.impl.SQLDataType;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class Refreshdailyrollups extends AbstractRoutine<Integer> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The parameter <code>public.refreshdailyrollups.RETURN_VALUE</code>.
+     */
+    public static final Parameter<Integer> RETURN_VALUE = Internal.createParameter("RETURN_VALUE", SQLDataType.INTEGER, false, false);
+
+    /**
+     * Create a new routine call instance
+     */
+    public Refreshdailyrollups() {
+        super("refreshdailyrollups", Public.PUBLIC, SQLDataType.INTEGER);
+
+        setReturnParameter(RETURN_VALUE);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.routines;
+
+
+import com.basariatpos.db.generated.Public;
+
+import org.jooq.Field;
+import org.jooq.Parameter;
+import org.jooq.impl.AbstractRoutine;
+import org.jooq.impl.Internal;
+import org.jooq.impl.SQLDataType;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class TriggerTableName extends AbstractRoutine<String> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The parameter <code>public.trigger_table_name.RETURN_VALUE</code>.
+     */
+    public static final Parameter<String> RETURN_VALUE = Internal.createParameter("RETURN_VALUE", SQLDataType.CLOB, false, false);
+
+    /**
+     * The parameter <code>public.trigger_table_name.p_relid</code>.
+     */
+    public static final Parameter<Long> P_RELID = Internal.createParameter("p_relid", SQLDataType.BIGINT, false, false);
+
+    /**
+     * Create a new routine call instance
+     */
+    public TriggerTableName() {
+        super("trigger_table_name", Public.PUBLIC, SQLDataType.CLOB);
+
+        setReturnParameter(RETURN_VALUE);
+        addInParameter(P_RELID);
+    }
+
+    /**
+     * Set the <code>p_relid</code> parameter IN value to the routine
+     */
+    public void setPRelid(Long value) {
+        setValue(P_RELID, value);
+    }
+
+    /**
+     * Set the <code>p_relid</code> parameter to the function to be used with a
+     * {@link org.jooq.Select} statement
+     */
+    public void setPRelid(Field<Long> field) {
+        setField(P_RELID, field);
+    }
+}
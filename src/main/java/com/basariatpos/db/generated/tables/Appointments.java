@@ -185,19 +185,7 @@ public class Appointments extends TableImpl<AppointmentsRecord> {
 
     @Override
     public List<ForeignKey<AppointmentsRecord, ?>> getReferences() {
-        return Arrays.asList(Keys.APPOINTMENTS__APPOINTMENTS_SALES_ORDER_ID_FKEY, Keys.APPOINTMENTS__APPOINTMENTS_CREATED_BY_USER_ID_FKEY);
-    }
-
-    private transient SalesordersPath _salesorders;
-
-    /**
-     * Get the implicit join path to the <code>public.salesorders</code> table.
-     */
-    public SalesordersPath salesorders() {
-        if (_salesorders == null)
-            _salesorders = new SalesordersPath(this, Keys.APPOINTMENTS__APPOINTMENTS_SALES_ORDER_ID_FKEY, null);
-
-        return _salesorders;
+        return Arrays.asList(Keys.APPOINTMENTS__APPOINTMENTS_CREATED_BY_USER_ID_FKEY);
     }
 
     private transient UsersPath _users;
@@ -212,6 +200,19 @@ public class Appointments extends TableImpl<AppointmentsRecord> {
         return _users;
     }
 
+    private transient SalesordersPath _salesorders;
+
+    /**
+     * Get the implicit to-many join path to the <code>public.salesorders</code>
+     * table
+     */
+    public SalesordersPath salesorders() {
+        if (_salesorders == null)
+            _salesorders = new SalesordersPath(this, null, Keys.SALESORDERS__FK_DELIVERY_APPOINTMENT.getInverseKey());
+
+        return _salesorders;
+    }
+
     @Override
     public List<Check<AppointmentsRecord>> getChecks() {
         return Arrays.asList(
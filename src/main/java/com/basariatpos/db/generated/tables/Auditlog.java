@@ -22,6 +22,7 @@ import org.jooq.ForeignKey;
 import org.jooq.Identity;
 import org.jooq.Index;
 import org.jooq.InverseForeignKey;
+import org.jooq.JSONB;
 import org.jooq.Name;
 import org.jooq.Path;
 import org.jooq.PlainSQL;
@@ -85,12 +86,12 @@ public class Auditlog extends TableImpl<AuditlogRecord> {
     /**
      * The column <code>public.auditlog.old_value</code>.
      */
-    public final TableField<AuditlogRecord, String> OLD_VALUE = createField(DSL.name("old_value"), SQLDataType.CLOB, this, "");
+    public final TableField<AuditlogRecord, JSONB> OLD_VALUE = createField(DSL.name("old_value"), SQLDataType.JSONB, this, "");
 
     /**
      * The column <code>public.auditlog.new_value</code>.
      */
-    public final TableField<AuditlogRecord, String> NEW_VALUE = createField(DSL.name("new_value"), SQLDataType.CLOB, this, "");
+    public final TableField<AuditlogRecord, JSONB> NEW_VALUE = createField(DSL.name("new_value"), SQLDataType.JSONB, this, "");
 
     /**
      * The column <code>public.auditlog.action_type</code>.
@@ -100,7 +101,7 @@ public class Auditlog extends TableImpl<AuditlogRecord> {
     /**
      * The column <code>public.auditlog.action_timestamp</code>.
      */
-    public final TableField<AuditlogRecord, OffsetDateTime> ACTION_TIMESTAMP = createField(DSL.name("action_timestamp"), SQLDataType.TIMESTAMPWITHTIMEZONE(6).defaultValue(DSL.field(DSL.raw("CURRENT_TIMESTAMP"), SQLDataType.TIMESTAMPWITHTIMEZONE)), this, "");
+    public final TableField<AuditlogRecord, OffsetDateTime> ACTION_TIMESTAMP = createField(DSL.name("action_timestamp"), SQLDataType.TIMESTAMPWITHTIMEZONE(6).nullable(false).defaultValue(DSL.field(DSL.raw("CURRENT_TIMESTAMP"), SQLDataType.TIMESTAMPWITHTIMEZONE)), this, "");
 
     /**
      * The column <code>public.auditlog.user_id</code>.
@@ -179,7 +180,7 @@ public class Auditlog extends TableImpl<AuditlogRecord> {
 
     @Override
     public List<Index> getIndexes() {
-        return Arrays.asList(Indexes.IDX_AUDITLOG_ACTION_TIMESTAMP, Indexes.IDX_AUDITLOG_TABLE_RECORD, Indexes.IDX_AUDITLOG_USER_TIMESTAMP);
+        return Arrays.asList(Indexes.IDX_AUDITLOG_TABLE_RECORD, Indexes.IDX_AUDITLOG_USER_TIMESTAMP);
     }
 
     @Override
@@ -212,7 +213,7 @@ public class Auditlog extends TableImpl<AuditlogRecord> {
     @Override
     public List<Check<AuditlogRecord>> getChecks() {
         return Arrays.asList(
-            Internal.createCheck(this, DSL.name("auditlog_action_type_check"), "(((action_type)::text = ANY ((ARRAY['INSERT'::character varying, 'UPDATE'::character varying, 'DELETE'::character varying])::text[])))", true)
+            Internal.createCheck(this, DSL.name("auditlog_action_type_check1"), "(((action_type)::text = ANY ((ARRAY['INSERT'::character varying, 'UPDATE'::character varying, 'DELETE'::character varying])::text[])))", true)
         );
     }
 
@@ -0,0 +1,298 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables;
+
+
+import com.basariatpos.db.generated.Keys;
+import com.basariatpos.db.generated.Public;
+import com.basariatpos.db.generated.tables.Productcategories.ProductcategoriesPath;
+import com.basariatpos.db.generated.tables.records.DailycategorysalesrollupRecord;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.ForeignKey;
+import org.jooq.InverseForeignKey;
+import org.jooq.Name;
+import org.jooq.Path;
+import org.jooq.PlainSQL;
+import org.jooq.QueryPart;
+import org.jooq.Record;
+import org.jooq.SQL;
+import org.jooq.Schema;
+import org.jooq.Select;
+import org.jooq.Stringly;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.TableOptions;
+import org.jooq.UniqueKey;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.jooq.impl.TableImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class Dailycategorysalesrollup extends TableImpl<DailycategorysalesrollupRecord> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The reference instance of <code>public.dailycategorysalesrollup</code>
+     */
+    public static final Dailycategorysalesrollup DAILYCATEGORYSALESROLLUP = new Dailycategorysalesrollup();
+
+    /**
+     * The class holding records for this type
+     */
+    @Override
+    public Class<DailycategorysalesrollupRecord> getRecordType() {
+        return DailycategorysalesrollupRecord.class;
+    }
+
+    /**
+     * The column <code>public.dailycategorysalesrollup.rollup_date</code>.
+     */
+    public final TableField<DailycategorysalesrollupRecord, LocalDate> ROLLUP_DATE = createField(DSL.name("rollup_date"), SQLDataType.LOCALDATE.nullable(false), this, "");
+
+    /**
+     * The column <code>public.dailycategorysalesrollup.category_id</code>.
+     */
+    public final TableField<DailycategorysalesrollupRecord, Integer> CATEGORY_ID = createField(DSL.name("category_id"), SQLDataType.INTEGER.nullable(false), this, "");
+
+    /**
+     * The column <code>public.dailycategorysalesrollup.quantity_sold</code>.
+     */
+    public final TableField<DailycategorysalesrollupRecord, Integer> QUANTITY_SOLD = createField(DSL.name("quantity_sold"), SQLDataType.INTEGER.nullable(false).defaultValue(DSL.field(DSL.raw("0"), SQLDataType.INTEGER)), this, "");
+
+    /**
+     * The column <code>public.dailycategorysalesrollup.sales_amount</code>.
+     */
+    public final TableField<DailycategorysalesrollupRecord, BigDecimal> SALES_AMOUNT = createField(DSL.name("sales_amount"), SQLDataType.NUMERIC(14, 2).nullable(false).defaultValue(DSL.field(DSL.raw("0.00"), SQLDataType.NUMERIC)), this, "");
+
+    /**
+     * The column <code>public.dailycategorysalesrollup.cogs</code>.
+     */
+    public final TableField<DailycategorysalesrollupRecord, BigDecimal> COGS = createField(DSL.name("cogs"), SQLDataType.NUMERIC(14, 2).nullable(false).defaultValue(DSL.field(DSL.raw("0.00"), SQLDataType.NUMERIC)), this, "");
+
+    private Dailycategorysalesrollup(Name alias, Table<DailycategorysalesrollupRecord> aliased) {
+        this(alias, aliased, (Field<?>[]) null, null);
+    }
+
+    private Dailycategorysalesrollup(Name alias, Table<DailycategorysalesrollupRecord> aliased, Field<?>[] parameters, Condition where) {
+        super(alias, null, aliased, parameters, DSL.comment(""), TableOptions.table(), where);
+    }
+
+    /**
+     * Create an aliased <code>public.dailycategorysalesrollup</code> table
+     * reference
+     */
+    public Dailycategorysalesrollup(String alias) {
+        this(DSL.name(alias), DAILYCATEGORYSALESROLLUP);
+    }
+
+    /**
+     * Create an aliased <code>public.dailycategorysalesrollup</code> table
+     * reference
+     */
+    public Dailycategorysalesrollup(Name alias) {
+        this(alias, DAILYCATEGORYSALESROLLUP);
+    }
+
+    /**
+     * Create a <code>public.dailycategorysalesrollup</code> table reference
+     */
+    public Dailycategorysalesrollup() {
+        this(DSL.name("dailycategorysalesrollup"), null);
+    }
+
+    public <O extends Record> Dailycategorysalesrollup(Table<O> path, ForeignKey<O, DailycategorysalesrollupRecord> childPath, InverseForeignKey<O, DailycategorysalesrollupRecord> parentPath) {
+        super(path, childPath, parentPath, DAILYCATEGORYSALESROLLUP);
+    }
+
+    /**
+     * A subtype implementing {@link Path} for simplified path-based joins.
+     */
+    public static class DailycategorysalesrollupPath extends Dailycategorysalesrollup implements Path<DailycategorysalesrollupRecord> {
+        public <O extends Record> DailycategorysalesrollupPath(Table<O> path, ForeignKey<O, DailycategorysalesrollupRecord> childPath, InverseForeignKey<O, DailycategorysalesrollupRecord> parentPath) {
+            super(path, childPath, parentPath);
+        }
+        private DailycategorysalesrollupPath(Name alias, Table<DailycategorysalesrollupRecord> aliased) {
+            super(alias, aliased);
+        }
+
+        @Override
+        public DailycategorysalesrollupPath as(String alias) {
+            return new DailycategorysalesrollupPath(DSL.name(alias), this);
+        }
+
+        @Override
+        public DailycategorysalesrollupPath as(Name alias) {
+            return new DailycategorysalesrollupPath(alias, this);
+        }
+
+        @Override
+        public DailycategorysalesrollupPath as(Table<?> alias) {
+            return new DailycategorysalesrollupPath(alias.getQualifiedName(), this);
+        }
+    }
+
+    @Override
+    public Schema getSchema() {
+        return aliased() ? null : Public.PUBLIC;
+    }
+
+    @Override
+    public UniqueKey<DailycategorysalesrollupRecord> getPrimaryKey() {
+        return Keys.DAILYCATEGORYSALESROLLUP_PKEY;
+    }
+
+    @Override
+    public List<ForeignKey<DailycategorysalesrollupRecord, ?>> getReferences() {
+        return Arrays.asList(Keys.DAILYCATEGORYSALESROLLUP__DAILYCATEGORYSALESROLLUP_CATEGORY_ID_FKEY);
+    }
+
+    private transient ProductcategoriesPath _productcategories;
+
+    /**
+     * Get the implicit join path to the <code>public.productcategories</code>
+     * table.
+     */
+    public ProductcategoriesPath productcategories() {
+        if (_productcategories == null)
+            _productcategories = new ProductcategoriesPath(this, Keys.DAILYCATEGORYSALESROLLUP__DAILYCATEGORYSALESROLLUP_CATEGORY_ID_FKEY, null);
+
+        return _productcategories;
+    }
+
+    @Override
+    public Dailycategorysalesrollup as(String alias) {
+        return new Dailycategorysalesrollup(DSL.name(alias), this);
+    }
+
+    @Override
+    public Dailycategorysalesrollup as(Name alias) {
+        return new Dailycategorysalesrollup(alias, this);
+    }
+
+    @Override
+    public Dailycategorysalesrollup as(Table<?> alias) {
+        return new Dailycategorysalesrollup(alias.getQualifiedName(), this);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Dailycategorysalesrollup rename(String name) {
+        return new Dailycategorysalesrollup(DSL.name(name), null);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Dailycategorysalesrollup rename(Name name) {
+        return new Dailycategorysalesrollup(name, null);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Dailycategorysalesrollup rename(Table<?> name) {
+        return new Dailycategorysalesrollup(name.getQualifiedName(), null);
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Dailycategorysalesrollup where(Condition condition) {
+        return new Dailycategorysalesrollup(getQualifiedName(), aliased() ? this : null, null, condition);
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Dailycategorysalesrollup where(Collection<? extends Condition> conditions) {
+        return where(DSL.and(conditions));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Dailycategorysalesrollup where(Condition... conditions) {
+        return where(DSL.and(conditions));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Dailycategorysalesrollup where(Field<Boolean> condition) {
+        return where(DSL.condition(condition));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Dailycategorysalesrollup where(SQL condition) {
+        return where(DSL.condition(condition));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Dailycategorysalesrollup where(@Stringly.SQL String condition) {
+        return where(DSL.condition(condition));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Dailycategorysalesrollup where(@Stringly.SQL String condition, Object... binds) {
+        return where(DSL.condition(condition, binds));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Dailycategorysalesrollup where(@Stringly.SQL String condition, QueryPart... parts) {
+        return where(DSL.condition(condition, parts));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Dailycategorysalesrollup whereExists(Select<?> select) {
+        return where(DSL.exists(select));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Dailycategorysalesrollup whereNotExists(Select<?> select) {
+        return where(DSL.notExists(select));
+    }
+}
@@ -0,0 +1,314 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables;
+
+
+import com.basariatpos.db.generated.Keys;
+import com.basariatpos.db.generated.Public;
+import com.basariatpos.db.generated.tables.Expensecategories.ExpensecategoriesPath;
+import com.basariatpos.db.generated.tables.Users.UsersPath;
+import com.basariatpos.db.generated.tables.records.DailyexpenserollupRecord;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.ForeignKey;
+import org.jooq.InverseForeignKey;
+import org.jooq.Name;
+import org.jooq.Path;
+import org.jooq.PlainSQL;
+import org.jooq.QueryPart;
+import org.jooq.Record;
+import org.jooq.SQL;
+import org.jooq.Schema;
+import org.jooq.Select;
+import org.jooq.Stringly;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.TableOptions;
+import org.jooq.UniqueKey;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.jooq.impl.TableImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class Dailyexpenserollup extends TableImpl<DailyexpenserollupRecord> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The reference instance of <code>public.dailyexpenserollup</code>
+     */
+    public static final Dailyexpenserollup DAILYEXPENSEROLLUP = new Dailyexpenserollup();
+
+    /**
+     * The class holding records for this type
+     */
+    @Override
+    public Class<DailyexpenserollupRecord> getRecordType() {
+        return DailyexpenserollupRecord.class;
+    }
+
+    /**
+     * The column <code>public.dailyexpenserollup.rollup_date</code>.
+     */
+    public final TableField<DailyexpenserollupRecord, LocalDate> ROLLUP_DATE = createField(DSL.name("rollup_date"), SQLDataType.LOCALDATE.nullable(false), this, "");
+
+    /**
+     * The column <code>public.dailyexpenserollup.expense_category_id</code>.
+     */
+    public final TableField<DailyexpenserollupRecord, Integer> EXPENSE_CATEGORY_ID = createField(DSL.name("expense_category_id"), SQLDataType.INTEGER.nullable(false), this, "");
+
+    /**
+     * The column <code>public.dailyexpenserollup.user_id</code>.
+     */
+    public final TableField<DailyexpenserollupRecord, Integer> USER_ID = createField(DSL.name("user_id"), SQLDataType.INTEGER.nullable(false), this, "");
+
+    /**
+     * The column <code>public.dailyexpenserollup.expense_count</code>.
+     */
+    public final TableField<DailyexpenserollupRecord, Integer> EXPENSE_COUNT = createField(DSL.name("expense_count"), SQLDataType.INTEGER.nullable(false).defaultValue(DSL.field(DSL.raw("0"), SQLDataType.INTEGER)), this, "");
+
+    /**
+     * The column <code>public.dailyexpenserollup.cash_amount</code>.
+     */
+    public final TableField<DailyexpenserollupRecord, BigDecimal> CASH_AMOUNT = createField(DSL.name("cash_amount"), SQLDataType.NUMERIC(14, 2).nullable(false).defaultValue(DSL.field(DSL.raw("0.00"), SQLDataType.NUMERIC)), this, "");
+
+    /**
+     * The column <code>public.dailyexpenserollup.bank_amount</code>.
+     */
+    public final TableField<DailyexpenserollupRecord, BigDecimal> BANK_AMOUNT = createField(DSL.name("bank_amount"), SQLDataType.NUMERIC(14, 2).nullable(false).defaultValue(DSL.field(DSL.raw("0.00"), SQLDataType.NUMERIC)), this, "");
+
+    private Dailyexpenserollup(Name alias, Table<DailyexpenserollupRecord> aliased) {
+        this(alias, aliased, (Field<?>[]) null, null);
+    }
+
+    private Dailyexpenserollup(Name alias, Table<DailyexpenserollupRecord> aliased, Field<?>[] parameters, Condition where) {
+        super(alias, null, aliased, parameters, DSL.comment(""), TableOptions.table(), where);
+    }
+
+    /**
+     * Create an aliased <code>public.dailyexpenserollup</code> table reference
+     */
+    public Dailyexpenserollup(String alias) {
+        this(DSL.name(alias), DAILYEXPENSEROLLUP);
+    }
+
+    /**
+     * Create an aliased <code>public.dailyexpenserollup</code> table reference
+     */
+    public Dailyexpenserollup(Name alias) {
+        this(alias, DAILYEXPENSEROLLUP);
+    }
+
+    /**
+     * Create a <code>public.dailyexpenserollup</code> table reference
+     */
+    public Dailyexpenserollup() {
+        this(DSL.name("dailyexpenserollup"), null);
+    }
+
+    public <O extends Record> Dailyexpenserollup(Table<O> path, ForeignKey<O, DailyexpenserollupRecord> childPath, InverseForeignKey<O, DailyexpenserollupRecord> parentPath) {
+        super(path, childPath, parentPath, DAILYEXPENSEROLLUP);
+    }
+
+    /**
+     * A subtype implementing {@link Path} for simplified path-based joins.
+     */
+    public static class DailyexpenserollupPath extends Dailyexpenserollup implements Path<DailyexpenserollupRecord> {
+        public <O extends Record> DailyexpenserollupPath(Table<O> path, ForeignKey<O, DailyexpenserollupRecord> childPath, InverseForeignKey<O, DailyexpenserollupRecord> parentPath) {
+            super(path, childPath, parentPath);
+        }
+        private DailyexpenserollupPath(Name alias, Table<DailyexpenserollupRecord> aliased) {
+            super(alias, aliased);
+        }
+
+        @Override
+        public DailyexpenserollupPath as(String alias) {
+            return new DailyexpenserollupPath(DSL.name(alias), this);
+        }
+
+        @Override
+        public DailyexpenserollupPath as(Name alias) {
+            return new DailyexpenserollupPath(alias, this);
+        }
+
+        @Override
+        public DailyexpenserollupPath as(Table<?> alias) {
+            return new DailyexpenserollupPath(alias.getQualifiedName(), this);
+        }
+    }
+
+    @Override
+    public Schema getSchema() {
+        return aliased() ? null : Public.PUBLIC;
+    }
+
+    @Override
+    public UniqueKey<DailyexpenserollupRecord> getPrimaryKey() {
+        return Keys.DAILYEXPENSEROLLUP_PKEY;
+    }
+
+    @Override
+    public List<ForeignKey<DailyexpenserollupRecord, ?>> getReferences() {
+        return Arrays.asList(Keys.DAILYEXPENSEROLLUP__DAILYEXPENSEROLLUP_EXPENSE_CATEGORY_ID_FKEY, Keys.DAILYEXPENSEROLLUP__DAILYEXPENSEROLLUP_USER_ID_FKEY);
+    }
+
+    private transient ExpensecategoriesPath _expensecategories;
+
+    /**
+     * Get the implicit join path to the <code>public.expensecategories</code>
+     * table.
+     */
+    public ExpensecategoriesPath expensecategories() {
+        if (_expensecategories == null)
+            _expensecategories = new ExpensecategoriesPath(this, Keys.DAILYEXPENSEROLLUP__DAILYEXPENSEROLLUP_EXPENSE_CATEGORY_ID_FKEY, null);
+
+        return _expensecategories;
+    }
+
+    private transient UsersPath _users;
+
+    /**
+     * Get the implicit join path to the <code>public.users</code> table.
+     */
+    public UsersPath users() {
+        if (_users == null)
+            _users = new UsersPath(this, Keys.DAILYEXPENSEROLLUP__DAILYEXPENSEROLLUP_USER_ID_FKEY, null);
+
+        return _users;
+    }
+
+    @Override
+    public Dailyexpenserollup as(String alias) {
+        return new Dailyexpenserollup(DSL.name(alias), this);
+    }
+
+    @Override
+    public Dailyexpenserollup as(Name alias) {
+        return new Dailyexpenserollup(alias, this);
+    }
+
+    @Override
+    public Dailyexpenserollup as(Table<?> alias) {
+        return new Dailyexpenserollup(alias.getQualifiedName(), this);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Dailyexpenserollup rename(String name) {
+        return new Dailyexpenserollup(DSL.name(name), null);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Dailyexpenserollup rename(Name name) {
+        return new Dailyexpenserollup(name, null);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Dailyexpenserollup rename(Table<?> name) {
+        return new Dailyexpenserollup(name.getQualifiedName(), null);
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Dailyexpenserollup where(Condition condition) {
+        return new Dailyexpenserollup(getQualifiedName(), aliased() ? this : null, null, condition);
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Dailyexpenserollup where(Collection<? extends Condition> conditions) {
+        return where(DSL.and(conditions));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Dailyexpenserollup where(Condition... conditions) {
+        return where(DSL.and(conditions));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Dailyexpenserollup where(Field<Boolean> condition) {
+        return where(DSL.condition(condition));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Dailyexpenserollup where(SQL condition) {
+        return where(DSL.condition(condition));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Dailyexpenserollup where(@Stringly.SQL String condition) {
+        return where(DSL.condition(condition));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Dailyexpenserollup where(@Stringly.SQL String condition, Object... binds) {
+        return where(DSL.condition(condition, binds));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Dailyexpenserollup where(@Stringly.SQL String condition, QueryPart... parts) {
+        return where(DSL.condition(condition, parts));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Dailyexpenserollup whereExists(Select<?> select) {
+        return where(DSL.exists(select));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Dailyexpenserollup whereNotExists(Select<?> select) {
+        return where(DSL.notExists(select));
+    }
+}
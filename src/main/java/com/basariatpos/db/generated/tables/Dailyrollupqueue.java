@@ -0,0 +1,236 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables;
+
+
+import com.basariatpos.db.generated.Keys;
+import com.basariatpos.db.generated.Public;
+import com.basariatpos.db.generated.tables.records.DailyrollupqueueRecord;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.Identity;
+import org.jooq.Name;
+import org.jooq.PlainSQL;
+import org.jooq.QueryPart;
+import org.jooq.SQL;
+import org.jooq.Schema;
+import org.jooq.Select;
+import org.jooq.Stringly;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.TableOptions;
+import org.jooq.UniqueKey;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.jooq.impl.TableImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class Dailyrollupqueue extends TableImpl<DailyrollupqueueRecord> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The reference instance of <code>public.dailyrollupqueue</code>
+     */
+    public static final Dailyrollupqueue DAILYROLLUPQUEUE = new Dailyrollupqueue();
+
+    /**
+     * The class holding records for this type
+     */
+    @Override
+    public Class<DailyrollupqueueRecord> getRecordType() {
+        return DailyrollupqueueRecord.class;
+    }
+
+    /**
+     * The column <code>public.dailyrollupqueue.queue_id</code>.
+     */
+    public final TableField<DailyrollupqueueRecord, Long> QUEUE_ID = createField(DSL.name("queue_id"), SQLDataType.BIGINT.nullable(false).identity(true), this, "");
+
+    /**
+     * The column <code>public.dailyrollupqueue.rollup_date</code>.
+     */
+    public final TableField<DailyrollupqueueRecord, LocalDate> ROLLUP_DATE = createField(DSL.name("rollup_date"), SQLDataType.LOCALDATE.nullable(false), this, "");
+
+    /**
+     * The column <code>public.dailyrollupqueue.queued_at</code>.
+     */
+    public final TableField<DailyrollupqueueRecord, OffsetDateTime> QUEUED_AT = createField(DSL.name("queued_at"), SQLDataType.TIMESTAMPWITHTIMEZONE(6).defaultValue(DSL.field(DSL.raw("CURRENT_TIMESTAMP"), SQLDataType.TIMESTAMPWITHTIMEZONE)), this, "");
+
+    private Dailyrollupqueue(Name alias, Table<DailyrollupqueueRecord> aliased) {
+        this(alias, aliased, (Field<?>[]) null, null);
+    }
+
+    private Dailyrollupqueue(Name alias, Table<DailyrollupqueueRecord> aliased, Field<?>[] parameters, Condition where) {
+        super(alias, null, aliased, parameters, DSL.comment(""), TableOptions.table(), where);
+    }
+
+    /**
+     * Create an aliased <code>public.dailyrollupqueue</code> table reference
+     */
+    public Dailyrollupqueue(String alias) {
+        this(DSL.name(alias), DAILYROLLUPQUEUE);
+    }
+
+    /**
+     * Create an aliased <code>public.dailyrollupqueue</code> table reference
+     */
+    public Dailyrollupqueue(Name alias) {
+        this(alias, DAILYROLLUPQUEUE);
+    }
+
+    /**
+     * Create a <code>public.dailyrollupqueue</code> table reference
+     */
+    public Dailyrollupqueue() {
+        this(DSL.name("dailyrollupqueue"), null);
+    }
+
+    @Override
+    public Schema getSchema() {
+        return aliased() ? null : Public.PUBLIC;
+    }
+
+    @Override
+    public Identity<DailyrollupqueueRecord, Long> getIdentity() {
+        return (Identity<DailyrollupqueueRecord, Long>) super.getIdentity();
+    }
+
+    @Override
+    public UniqueKey<DailyrollupqueueRecord> getPrimaryKey() {
+        return Keys.DAILYROLLUPQUEUE_PKEY;
+    }
+
+    @Override
+    public Dailyrollupqueue as(String alias) {
+        return new Dailyrollupqueue(DSL.name(alias), this);
+    }
+
+    @Override
+    public Dailyrollupqueue as(Name alias) {
+        return new Dailyrollupqueue(alias, this);
+    }
+
+    @Override
+    public Dailyrollupqueue as(Table<?> alias) {
+        return new Dailyrollupqueue(alias.getQualifiedName(), this);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Dailyrollupqueue rename(String name) {
+        return new Dailyrollupqueue(DSL.name(name), null);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Dailyrollupqueue rename(Name name) {
+        return new Dailyrollupqueue(name, null);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Dailyrollupqueue rename(Table<?> name) {
+        return new Dailyrollupqueue(name.getQualifiedName(), null);
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Dailyrollupqueue where(Condition condition) {
+        return new Dailyrollupqueue(getQualifiedName(), aliased() ? this : null, null, condition);
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Dailyrollupqueue where(Collection<? extends Condition> conditions) {
+        return where(DSL.and(conditions));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Dailyrollupqueue where(Condition... conditions) {
+        return where(DSL.and(conditions));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Dailyrollupqueue where(Field<Boolean> condition) {
+        return where(DSL.condition(condition));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Dailyrollupqueue where(SQL condition) {
+        return where(DSL.condition(condition));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Dailyrollupqueue where(@Stringly.SQL String condition) {
+        return where(DSL.condition(condition));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Dailyrollupqueue where(@Stringly.SQL String condition, Object... binds) {
+        return where(DSL.condition(condition, binds));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Dailyrollupqueue where(@Stringly.SQL String condition, QueryPart... parts) {
+        return where(DSL.condition(condition, parts));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Dailyrollupqueue whereExists(Select<?> select) {
+        return where(DSL.exists(select));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Dailyrollupqueue whereNotExists(Select<?> select) {
+        return where(DSL.notExists(select));
+    }
+}
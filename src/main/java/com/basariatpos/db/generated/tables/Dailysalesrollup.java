@@ -0,0 +1,310 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables;
+
+
+import com.basariatpos.db.generated.Keys;
+import com.basariatpos.db.generated.Public;
+import com.basariatpos.db.generated.tables.Users.UsersPath;
+import com.basariatpos.db.generated.tables.records.DailysalesrollupRecord;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.ForeignKey;
+import org.jooq.InverseForeignKey;
+import org.jooq.Name;
+import org.jooq.Path;
+import org.jooq.PlainSQL;
+import org.jooq.QueryPart;
+import org.jooq.Record;
+import org.jooq.SQL;
+import org.jooq.Schema;
+import org.jooq.Select;
+import org.jooq.Stringly;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.TableOptions;
+import org.jooq.UniqueKey;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.jooq.impl.TableImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class Dailysalesrollup extends TableImpl<DailysalesrollupRecord> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The reference instance of <code>public.dailysalesrollup</code>
+     */
+    public static final Dailysalesrollup DAILYSALESROLLUP = new Dailysalesrollup();
+
+    /**
+     * The class holding records for this type
+     */
+    @Override
+    public Class<DailysalesrollupRecord> getRecordType() {
+        return DailysalesrollupRecord.class;
+    }
+
+    /**
+     * The column <code>public.dailysalesrollup.rollup_date</code>.
+     */
+    public final TableField<DailysalesrollupRecord, LocalDate> ROLLUP_DATE = createField(DSL.name("rollup_date"), SQLDataType.LOCALDATE.nullable(false), this, "");
+
+    /**
+     * The column <code>public.dailysalesrollup.user_id</code>.
+     */
+    public final TableField<DailysalesrollupRecord, Integer> USER_ID = createField(DSL.name("user_id"), SQLDataType.INTEGER.nullable(false), this, "");
+
+    /**
+     * The column <code>public.dailysalesrollup.sales_orders</code>.
+     */
+    public final TableField<DailysalesrollupRecord, Integer> SALES_ORDERS = createField(DSL.name("sales_orders"), SQLDataType.INTEGER.nullable(false).defaultValue(DSL.field(DSL.raw("0"), SQLDataType.INTEGER)), this, "");
+
+    /**
+     * The column <code>public.dailysalesrollup.gross_sales</code>.
+     */
+    public final TableField<DailysalesrollupRecord, BigDecimal> GROSS_SALES = createField(DSL.name("gross_sales"), SQLDataType.NUMERIC(14, 2).nullable(false).defaultValue(DSL.field(DSL.raw("0.00"), SQLDataType.NUMERIC)), this, "");
+
+    /**
+     * The column <code>public.dailysalesrollup.discounts</code>.
+     */
+    public final TableField<DailysalesrollupRecord, BigDecimal> DISCOUNTS = createField(DSL.name("discounts"), SQLDataType.NUMERIC(14, 2).nullable(false).defaultValue(DSL.field(DSL.raw("0.00"), SQLDataType.NUMERIC)), this, "");
+
+    /**
+     * The column <code>public.dailysalesrollup.cash_received</code>.
+     */
+    public final TableField<DailysalesrollupRecord, BigDecimal> CASH_RECEIVED = createField(DSL.name("cash_received"), SQLDataType.NUMERIC(14, 2).nullable(false).defaultValue(DSL.field(DSL.raw("0.00"), SQLDataType.NUMERIC)), this, "");
+
+    /**
+     * The column <code>public.dailysalesrollup.bank_received</code>.
+     */
+    public final TableField<DailysalesrollupRecord, BigDecimal> BANK_RECEIVED = createField(DSL.name("bank_received"), SQLDataType.NUMERIC(14, 2).nullable(false).defaultValue(DSL.field(DSL.raw("0.00"), SQLDataType.NUMERIC)), this, "");
+
+    /**
+     * The column <code>public.dailysalesrollup.revenue</code>.
+     */
+    public final TableField<DailysalesrollupRecord, BigDecimal> REVENUE = createField(DSL.name("revenue"), SQLDataType.NUMERIC(14, 2).nullable(false).defaultValue(DSL.field(DSL.raw("0.00"), SQLDataType.NUMERIC)), this, "");
+
+    private Dailysalesrollup(Name alias, Table<DailysalesrollupRecord> aliased) {
+        this(alias, aliased, (Field<?>[]) null, null);
+    }
+
+    private Dailysalesrollup(Name alias, Table<DailysalesrollupRecord> aliased, Field<?>[] parameters, Condition where) {
+        super(alias, null, aliased, parameters, DSL.comment(""), TableOptions.table(), where);
+    }
+
+    /**
+     * Create an aliased <code>public.dailysalesrollup</code> table reference
+     */
+    public Dailysalesrollup(String alias) {
+        this(DSL.name(alias), DAILYSALESROLLUP);
+    }
+
+    /**
+     * Create an aliased <code>public.dailysalesrollup</code> table reference
+     */
+    public Dailysalesrollup(Name alias) {
+        this(alias, DAILYSALESROLLUP);
+    }
+
+    /**
+     * Create a <code>public.dailysalesrollup</code> table reference
+     */
+    public Dailysalesrollup() {
+        this(DSL.name("dailysalesrollup"), null);
+    }
+
+    public <O extends Record> Dailysalesrollup(Table<O> path, ForeignKey<O, DailysalesrollupRecord> childPath, InverseForeignKey<O, DailysalesrollupRecord> parentPath) {
+        super(path, childPath, parentPath, DAILYSALESROLLUP);
+    }
+
+    /**
+     * A subtype implementing {@link Path} for simplified path-based joins.
+     */
+    public static class DailysalesrollupPath extends Dailysalesrollup implements Path<DailysalesrollupRecord> {
+        public <O extends Record> DailysalesrollupPath(Table<O> path, ForeignKey<O, DailysalesrollupRecord> childPath, InverseForeignKey<O, DailysalesrollupRecord> parentPath) {
+            super(path, childPath, parentPath);
+        }
+        private DailysalesrollupPath(Name alias, Table<DailysalesrollupRecord> aliased) {
+            super(alias, aliased);
+        }
+
+        @Override
+        public DailysalesrollupPath as(String alias) {
+            return new DailysalesrollupPath(DSL.name(alias), this);
+        }
+
+        @Override
+        public DailysalesrollupPath as(Name alias) {
+            return new DailysalesrollupPath(alias, this);
+        }
+
+        @Override
+        public DailysalesrollupPath as(Table<?> alias) {
+            return new DailysalesrollupPath(alias.getQualifiedName(), this);
+        }
+    }
+
+    @Override
+    public Schema getSchema() {
+        return aliased() ? null : Public.PUBLIC;
+    }
+
+    @Override
+    public UniqueKey<DailysalesrollupRecord> getPrimaryKey() {
+        return Keys.DAILYSALESROLLUP_PKEY;
+    }
+
+    @Override
+    public List<ForeignKey<DailysalesrollupRecord, ?>> getReferences() {
+        return Arrays.asList(Keys.DAILYSALESROLLUP__DAILYSALESROLLUP_USER_ID_FKEY);
+    }
+
+    private transient UsersPath _users;
+
+    /**
+     * Get the implicit join path to the <code>public.users</code> table.
+     */
+    public UsersPath users() {
+        if (_users == null)
+            _users = new UsersPath(this, Keys.DAILYSALESROLLUP__DAILYSALESROLLUP_USER_ID_FKEY, null);
+
+        return _users;
+    }
+
+    @Override
+    public Dailysalesrollup as(String alias) {
+        return new Dailysalesrollup(DSL.name(alias), this);
+    }
+
+    @Override
+    public Dailysalesrollup as(Name alias) {
+        return new Dailysalesrollup(alias, this);
+    }
+
+    @Override
+    public Dailysalesrollup as(Table<?> alias) {
+        return new Dailysalesrollup(alias.getQualifiedName(), this);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Dailysalesrollup rename(String name) {
+        return new Dailysalesrollup(DSL.name(name), null);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Dailysalesrollup rename(Name name) {
+        return new Dailysalesrollup(name, null);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Dailysalesrollup rename(Table<?> name) {
+        return new Dailysalesrollup(name.getQualifiedName(), null);
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Dailysalesrollup where(Condition condition) {
+        return new Dailysalesrollup(getQualifiedName(), aliased() ? this : null, null, condition);
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Dailysalesrollup where(Collection<? extends Condition> conditions) {
+        return where(DSL.and(conditions));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Dailysalesrollup where(Condition... conditions) {
+        return where(DSL.and(conditions));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Dailysalesrollup where(Field<Boolean> condition) {
+        return where(DSL.condition(condition));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Dailysalesrollup where(SQL condition) {
+        return where(DSL.condition(condition));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Dailysalesrollup where(@Stringly.SQL String condition) {
+        return where(DSL.condition(condition));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Dailysalesrollup where(@Stringly.SQL String condition, Object... binds) {
+        return where(DSL.condition(condition, binds));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Dailysalesrollup where(@Stringly.SQL String condition, QueryPart... parts) {
+        return where(DSL.condition(condition, parts));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Dailysalesrollup whereExists(Select<?> select) {
+        return where(DSL.exists(select));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Dailysalesrollup whereNotExists(Select<?> select) {
+        return where(DSL.notExists(select));
+    }
+}
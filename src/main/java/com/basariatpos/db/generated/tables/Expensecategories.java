@@ -6,6 +6,7 @@ package com.basariatpos.db.generated.tables;
 
 import com.basariatpos.db.generated.Keys;
 import com.basariatpos.db.generated.Public;
+import com.basariatpos.db.generated.tables.Dailyexpenserollup.DailyexpenserollupPath;
 import com.basariatpos.db.generated.tables.Expenses.ExpensesPath;
 import com.basariatpos.db.generated.tables.records.ExpensecategoriesRecord;
 
@@ -157,6 +158,19 @@ public class Expensecategories extends TableImpl<ExpensecategoriesRecord> {
         return Arrays.asList(Keys.EXPENSECATEGORIES_CATEGORY_NAME_EN_KEY, Keys.EXPENSECATEGORIES_CATEGORY_NAME_AR_KEY);
     }
 
+    private transient DailyexpenserollupPath _dailyexpenserollup;
+
+    /**
+     * Get the implicit to-many join path to the
+     * <code>public.dailyexpenserollup</code> table
+     */
+    public DailyexpenserollupPath dailyexpenserollup() {
+        if (_dailyexpenserollup == null)
+            _dailyexpenserollup = new DailyexpenserollupPath(this, null, Keys.DAILYEXPENSEROLLUP__DAILYEXPENSEROLLUP_EXPENSE_CATEGORY_ID_FKEY.getInverseKey());
+
+        return _dailyexpenserollup;
+    }
+
     private transient ExpensesPath _expenses;
 
     /**
@@ -207,6 +207,11 @@ public class Expenses extends TableImpl<ExpensesRecord> {
         return Keys.EXPENSES_PKEY;
     }
 
+    @Override
+    public List<UniqueKey<ExpensesRecord>> getUniqueKeys() {
+        return Arrays.asList(Keys.EXPENSES_PKEY);
+    }
+
     @Override
     public List<ForeignKey<ExpensesRecord, ?>> getReferences() {
         return Arrays.asList(Keys.EXPENSES__EXPENSES_EXPENSE_CATEGORY_ID_FKEY, Keys.EXPENSES__EXPENSES_BANK_NAME_ID_FKEY, Keys.EXPENSES__EXPENSES_CREATED_BY_USER_ID_FKEY, Keys.EXPENSES__EXPENSES_SHIFT_ID_FKEY);
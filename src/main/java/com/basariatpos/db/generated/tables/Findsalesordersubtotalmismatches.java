@@ -0,0 +1,153 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables;
+
+
+import com.basariatpos.db.generated.Public;
+import com.basariatpos.db.generated.tables.records.FindsalesordersubtotalmismatchesRecord;
+
+import java.math.BigDecimal;
+
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.Name;
+import org.jooq.Schema;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.TableOptions;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.jooq.impl.TableImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class Findsalesordersubtotalmismatches extends TableImpl<FindsalesordersubtotalmismatchesRecord> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The reference instance of
+     * <code>public.findsalesordersubtotalmismatches</code>
+     */
+    public static final Findsalesordersubtotalmismatches FINDSALESORDERSUBTOTALMISMATCHES = new Findsalesordersubtotalmismatches();
+
+    /**
+     * The class holding records for this type
+     */
+    @Override
+    public Class<FindsalesordersubtotalmismatchesRecord> getRecordType() {
+        return FindsalesordersubtotalmismatchesRecord.class;
+    }
+
+    /**
+     * The column
+     * <code>public.findsalesordersubtotalmismatches.sales_order_id</code>.
+     */
+    public final TableField<FindsalesordersubtotalmismatchesRecord, Integer> SALES_ORDER_ID = createField(DSL.name("sales_order_id"), SQLDataType.INTEGER, this, "");
+
+    /**
+     * The column
+     * <code>public.findsalesordersubtotalmismatches.stored_subtotal</code>.
+     */
+    public final TableField<FindsalesordersubtotalmismatchesRecord, BigDecimal> STORED_SUBTOTAL = createField(DSL.name("stored_subtotal"), SQLDataType.NUMERIC, this, "");
+
+    /**
+     * The column
+     * <code>public.findsalesordersubtotalmismatches.expected_subtotal</code>.
+     */
+    public final TableField<FindsalesordersubtotalmismatchesRecord, BigDecimal> EXPECTED_SUBTOTAL = createField(DSL.name("expected_subtotal"), SQLDataType.NUMERIC, this, "");
+
+    private Findsalesordersubtotalmismatches(Name alias, Table<FindsalesordersubtotalmismatchesRecord> aliased) {
+        this(alias, aliased, new Field[] {
+        });
+    }
+
+    private Findsalesordersubtotalmismatches(Name alias, Table<FindsalesordersubtotalmismatchesRecord> aliased, Field<?>[] parameters) {
+        this(alias, aliased, parameters, null);
+    }
+
+    private Findsalesordersubtotalmismatches(Name alias, Table<FindsalesordersubtotalmismatchesRecord> aliased, Field<?>[] parameters, Condition where) {
+        super(alias, null, aliased, parameters, DSL.comment(""), TableOptions.function(), where);
+    }
+
+    /**
+     * Create an aliased <code>public.findsalesordersubtotalmismatches</code>
+     * table reference
+     */
+    public Findsalesordersubtotalmismatches(String alias) {
+        this(DSL.name(alias), FINDSALESORDERSUBTOTALMISMATCHES);
+    }
+
+    /**
+     * Create an aliased <code>public.findsalesordersubtotalmismatches</code>
+     * table reference
+     */
+    public Findsalesordersubtotalmismatches(Name alias) {
+        this(alias, FINDSALESORDERSUBTOTALMISMATCHES);
+    }
+
+    /**
+     * Create a <code>public.findsalesordersubtotalmismatches</code> table
+     * reference
+     */
+    public Findsalesordersubtotalmismatches() {
+        this(DSL.name("findsalesordersubtotalmismatches"), null);
+    }
+
+    @Override
+    public Schema getSchema() {
+        return aliased() ? null : Public.PUBLIC;
+    }
+
+    @Override
+    public Findsalesordersubtotalmismatches as(String alias) {
+        return new Findsalesordersubtotalmismatches(DSL.name(alias), this, parameters);
+    }
+
+    @Override
+    public Findsalesordersubtotalmismatches as(Name alias) {
+        return new Findsalesordersubtotalmismatches(alias, this, parameters);
+    }
+
+    @Override
+    public Findsalesordersubtotalmismatches as(Table<?> alias) {
+        return new Findsalesordersubtotalmismatches(alias.getQualifiedName(), this, parameters);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Findsalesordersubtotalmismatches rename(String name) {
+        return new Findsalesordersubtotalmismatches(DSL.name(name), null, parameters);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Findsalesordersubtotalmismatches rename(Name name) {
+        return new Findsalesordersubtotalmismatches(name, null, parameters);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Findsalesordersubtotalmismatches rename(Table<?> name) {
+        return new Findsalesordersubtotalmismatches(name.getQualifiedName(), null, parameters);
+    }
+
+    /**
+     * Call this table-valued function
+     */
+    public Findsalesordersubtotalmismatches call() {
+        Findsalesordersubtotalmismatches result = new Findsalesordersubtotalmismatches(DSL.name("findsalesordersubtotalmismatches"), null, new Field[] {});
+
+        return aliased() ? result.as(getUnqualifiedName()) : result;
+    }
+}
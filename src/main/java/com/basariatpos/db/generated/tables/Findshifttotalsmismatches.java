@@ -0,0 +1,198 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables;
+
+
+import com.basariatpos.db.generated.Public;
+import com.basariatpos.db.generated.tables.records.FindshifttotalsmismatchesRecord;
+
+import java.math.BigDecimal;
+
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.Name;
+import org.jooq.Schema;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.TableOptions;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.jooq.impl.TableImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class Findshifttotalsmismatches extends TableImpl<FindshifttotalsmismatchesRecord> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The reference instance of <code>public.findshifttotalsmismatches</code>
+     */
+    public static final Findshifttotalsmismatches FINDSHIFTTOTALSMISMATCHES = new Findshifttotalsmismatches();
+
+    /**
+     * The class holding records for this type
+     */
+    @Override
+    public Class<FindshifttotalsmismatchesRecord> getRecordType() {
+        return FindshifttotalsmismatchesRecord.class;
+    }
+
+    /**
+     * The column <code>public.findshifttotalsmismatches.shift_id</code>.
+     */
+    public final TableField<FindshifttotalsmismatchesRecord, Integer> SHIFT_ID = createField(DSL.name("shift_id"), SQLDataType.INTEGER, this, "");
+
+    /**
+     * The column
+     * <code>public.findshifttotalsmismatches.stored_cash_received</code>.
+     */
+    public final TableField<FindshifttotalsmismatchesRecord, BigDecimal> STORED_CASH_RECEIVED = createField(DSL.name("stored_cash_received"), SQLDataType.NUMERIC, this, "");
+
+    /**
+     * The column
+     * <code>public.findshifttotalsmismatches.actual_cash_received</code>.
+     */
+    public final TableField<FindshifttotalsmismatchesRecord, BigDecimal> ACTUAL_CASH_RECEIVED = createField(DSL.name("actual_cash_received"), SQLDataType.NUMERIC, this, "");
+
+    /**
+     * The column
+     * <code>public.findshifttotalsmismatches.stored_bank_received</code>.
+     */
+    public final TableField<FindshifttotalsmismatchesRecord, BigDecimal> STORED_BANK_RECEIVED = createField(DSL.name("stored_bank_received"), SQLDataType.NUMERIC, this, "");
+
+    /**
+     * The column
+     * <code>public.findshifttotalsmismatches.actual_bank_received</code>.
+     */
+    public final TableField<FindshifttotalsmismatchesRecord, BigDecimal> ACTUAL_BANK_RECEIVED = createField(DSL.name("actual_bank_received"), SQLDataType.NUMERIC, this, "");
+
+    /**
+     * The column
+     * <code>public.findshifttotalsmismatches.stored_cash_expenses</code>.
+     */
+    public final TableField<FindshifttotalsmismatchesRecord, BigDecimal> STORED_CASH_EXPENSES = createField(DSL.name("stored_cash_expenses"), SQLDataType.NUMERIC, this, "");
+
+    /**
+     * The column
+     * <code>public.findshifttotalsmismatches.actual_cash_expenses</code>.
+     */
+    public final TableField<FindshifttotalsmismatchesRecord, BigDecimal> ACTUAL_CASH_EXPENSES = createField(DSL.name("actual_cash_expenses"), SQLDataType.NUMERIC, this, "");
+
+    /**
+     * The column
+     * <code>public.findshifttotalsmismatches.stored_sales_orders</code>.
+     */
+    public final TableField<FindshifttotalsmismatchesRecord, Integer> STORED_SALES_ORDERS = createField(DSL.name("stored_sales_orders"), SQLDataType.INTEGER, this, "");
+
+    /**
+     * The column
+     * <code>public.findshifttotalsmismatches.actual_sales_orders</code>.
+     */
+    public final TableField<FindshifttotalsmismatchesRecord, Integer> ACTUAL_SALES_ORDERS = createField(DSL.name("actual_sales_orders"), SQLDataType.INTEGER, this, "");
+
+    /**
+     * The column
+     * <code>public.findshifttotalsmismatches.stored_discounts</code>.
+     */
+    public final TableField<FindshifttotalsmismatchesRecord, BigDecimal> STORED_DISCOUNTS = createField(DSL.name("stored_discounts"), SQLDataType.NUMERIC, this, "");
+
+    /**
+     * The column
+     * <code>public.findshifttotalsmismatches.actual_discounts</code>.
+     */
+    public final TableField<FindshifttotalsmismatchesRecord, BigDecimal> ACTUAL_DISCOUNTS = createField(DSL.name("actual_discounts"), SQLDataType.NUMERIC, this, "");
+
+    private Findshifttotalsmismatches(Name alias, Table<FindshifttotalsmismatchesRecord> aliased) {
+        this(alias, aliased, new Field[] {
+        });
+    }
+
+    private Findshifttotalsmismatches(Name alias, Table<FindshifttotalsmismatchesRecord> aliased, Field<?>[] parameters) {
+        this(alias, aliased, parameters, null);
+    }
+
+    private Findshifttotalsmismatches(Name alias, Table<FindshifttotalsmismatchesRecord> aliased, Field<?>[] parameters, Condition where) {
+        super(alias, null, aliased, parameters, DSL.comment(""), TableOptions.function(), where);
+    }
+
+    /**
+     * Create an aliased <code>public.findshifttotalsmismatches</code> table
+     * reference
+     */
+    public Findshifttotalsmismatches(String alias) {
+        this(DSL.name(alias), FINDSHIFTTOTALSMISMATCHES);
+    }
+
+    /**
+     * Create an aliased <code>public.findshifttotalsmismatches</code> table
+     * reference
+     */
+    public Findshifttotalsmismatches(Name alias) {
+        this(alias, FINDSHIFTTOTALSMISMATCHES);
+    }
+
+    /**
+     * Create a <code>public.findshifttotalsmismatches</code> table reference
+     */
+    public Findshifttotalsmismatches() {
+        this(DSL.name("findshifttotalsmismatches"), null);
+    }
+
+    @Override
+    public Schema getSchema() {
+        return aliased() ? null : Public.PUBLIC;
+    }
+
+    @Override
+    public Findshifttotalsmismatches as(String alias) {
+        return new Findshifttotalsmismatches(DSL.name(alias), this, parameters);
+    }
+
+    @Override
+    public Findshifttotalsmismatches as(Name alias) {
+        return new Findshifttotalsmismatches(alias, this, parameters);
+    }
+
+    @Override
+    public Findshifttotalsmismatches as(Table<?> alias) {
+        return new Findshifttotalsmismatches(alias.getQualifiedName(), this, parameters);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Findshifttotalsmismatches rename(String name) {
+        return new Findshifttotalsmismatches(DSL.name(name), null, parameters);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Findshifttotalsmismatches rename(Name name) {
+        return new Findshifttotalsmismatches(name, null, parameters);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Findshifttotalsmismatches rename(Table<?> name) {
+        return new Findshifttotalsmismatches(name.getQualifiedName(), null, parameters);
+    }
+
+    /**
+     * Call this table-valued function
+     */
+    public Findshifttotalsmismatches call() {
+        Findshifttotalsmismatches result = new Findshifttotalsmismatches(DSL.name("findshifttotalsmismatches"), null, new Field[] {});
+
+        return aliased() ? result.as(getUnqualifiedName()) : result;
+    }
+}
@@ -0,0 +1,349 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables;
+
+
+import com.basariatpos.db.generated.Indexes;
+import com.basariatpos.db.generated.Keys;
+import com.basariatpos.db.generated.Public;
+import com.basariatpos.db.generated.tables.Inventoryitems.InventoryitemsPath;
+import com.basariatpos.db.generated.tables.Purchaseorderitems.PurchaseorderitemsPath;
+import com.basariatpos.db.generated.tables.records.InventorycostlayersRecord;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.jooq.Check;
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.ForeignKey;
+import org.jooq.Identity;
+import org.jooq.Index;
+import org.jooq.InverseForeignKey;
+import org.jooq.Name;
+import org.jooq.Path;
+import org.jooq.PlainSQL;
+import org.jooq.QueryPart;
+import org.jooq.Record;
+import org.jooq.SQL;
+import org.jooq.Schema;
+import org.jooq.Select;
+import org.jooq.Stringly;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.TableOptions;
+import org.jooq.UniqueKey;
+import org.jooq.impl.DSL;
+import org.jooq.impl.Internal;
+import org.jooq.impl.SQLDataType;
+import org.jooq.impl.TableImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class Inventorycostlayers extends TableImpl<InventorycostlayersRecord> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The reference instance of <code>public.inventorycostlayers</code>
+     */
+    public static final Inventorycostlayers INVENTORYCOSTLAYERS = new Inventorycostlayers();
+
+    /**
+     * The class holding records for this type
+     */
+    @Override
+    public Class<InventorycostlayersRecord> getRecordType() {
+        return InventorycostlayersRecord.class;
+    }
+
+    /**
+     * The column <code>public.inventorycostlayers.cost_layer_id</code>.
+     */
+    public final TableField<InventorycostlayersRecord, Long> COST_LAYER_ID = createField(DSL.name("cost_layer_id"), SQLDataType.BIGINT.nullable(false).identity(true), this, "");
+
+    /**
+     * The column <code>public.inventorycostlayers.inventory_item_id</code>.
+     */
+    public final TableField<InventorycostlayersRecord, Integer> INVENTORY_ITEM_ID = createField(DSL.name("inventory_item_id"), SQLDataType.INTEGER.nullable(false), this, "");
+
+    /**
+     * The column <code>public.inventorycostlayers.source</code>.
+     */
+    public final TableField<InventorycostlayersRecord, String> SOURCE = createField(DSL.name("source"), SQLDataType.VARCHAR(20).nullable(false), this, "");
+
+    /**
+     * The column <code>public.inventorycostlayers.po_item_id</code>.
+     */
+    public final TableField<InventorycostlayersRecord, Integer> PO_ITEM_ID = createField(DSL.name("po_item_id"), SQLDataType.INTEGER, this, "");
+
+    /**
+     * The column <code>public.inventorycostlayers.unit_cost</code>.
+     */
+    public final TableField<InventorycostlayersRecord, BigDecimal> UNIT_COST = createField(DSL.name("unit_cost"), SQLDataType.NUMERIC(10, 2).nullable(false), this, "");
+
+    /**
+     * The column <code>public.inventorycostlayers.quantity_received</code>.
+     */
+    public final TableField<InventorycostlayersRecord, Integer> QUANTITY_RECEIVED = createField(DSL.name("quantity_received"), SQLDataType.INTEGER.nullable(false), this, "");
+
+    /**
+     * The column <code>public.inventorycostlayers.quantity_remaining</code>.
+     */
+    public final TableField<InventorycostlayersRecord, Integer> QUANTITY_REMAINING = createField(DSL.name("quantity_remaining"), SQLDataType.INTEGER.nullable(false), this, "");
+
+    /**
+     * The column <code>public.inventorycostlayers.created_at</code>.
+     */
+    public final TableField<InventorycostlayersRecord, OffsetDateTime> CREATED_AT = createField(DSL.name("created_at"), SQLDataType.TIMESTAMPWITHTIMEZONE(6).defaultValue(DSL.field(DSL.raw("CURRENT_TIMESTAMP"), SQLDataType.TIMESTAMPWITHTIMEZONE)), this, "");
+
+    private Inventorycostlayers(Name alias, Table<InventorycostlayersRecord> aliased) {
+        this(alias, aliased, (Field<?>[]) null, null);
+    }
+
+    private Inventorycostlayers(Name alias, Table<InventorycostlayersRecord> aliased, Field<?>[] parameters, Condition where) {
+        super(alias, null, aliased, parameters, DSL.comment(""), TableOptions.table(), where);
+    }
+
+    /**
+     * Create an aliased <code>public.inventorycostlayers</code> table reference
+     */
+    public Inventorycostlayers(String alias) {
+        this(DSL.name(alias), INVENTORYCOSTLAYERS);
+    }
+
+    /**
+     * Create an aliased <code>public.inventorycostlayers</code> table reference
+     */
+    public Inventorycostlayers(Name alias) {
+        this(alias, INVENTORYCOSTLAYERS);
+    }
+
+    /**
+     * Create a <code>public.inventorycostlayers</code> table reference
+     */
+    public Inventorycostlayers() {
+        this(DSL.name("inventorycostlayers"), null);
+    }
+
+    public <O extends Record> Inventorycostlayers(Table<O> path, ForeignKey<O, InventorycostlayersRecord> childPath, InverseForeignKey<O, InventorycostlayersRecord> parentPath) {
+        super(path, childPath, parentPath, INVENTORYCOSTLAYERS);
+    }
+
+    /**
+     * A subtype implementing {@link Path} for simplified path-based joins.
+     */
+    public static class InventorycostlayersPath extends Inventorycostlayers implements Path<InventorycostlayersRecord> {
+        public <O extends Record> InventorycostlayersPath(Table<O> path, ForeignKey<O, InventorycostlayersRecord> childPath, InverseForeignKey<O, InventorycostlayersRecord> parentPath) {
+            super(path, childPath, parentPath);
+        }
+        private InventorycostlayersPath(Name alias, Table<InventorycostlayersRecord> aliased) {
+            super(alias, aliased);
+        }
+
+        @Override
+        public InventorycostlayersPath as(String alias) {
+            return new InventorycostlayersPath(DSL.name(alias), this);
+        }
+
+        @Override
+        public InventorycostlayersPath as(Name alias) {
+            return new InventorycostlayersPath(alias, this);
+        }
+
+        @Override
+        public InventorycostlayersPath as(Table<?> alias) {
+            return new InventorycostlayersPath(alias.getQualifiedName(), this);
+        }
+    }
+
+    @Override
+    public Schema getSchema() {
+        return aliased() ? null : Public.PUBLIC;
+    }
+
+    @Override
+    public List<Index> getIndexes() {
+        return Arrays.asList(Indexes.IDX_INVENTORYCOSTLAYERS_OPEN, Indexes.IDX_INVENTORYCOSTLAYERS_PO_ITEM);
+    }
+
+    @Override
+    public Identity<InventorycostlayersRecord, Long> getIdentity() {
+        return (Identity<InventorycostlayersRecord, Long>) super.getIdentity();
+    }
+
+    @Override
+    public UniqueKey<InventorycostlayersRecord> getPrimaryKey() {
+        return Keys.INVENTORYCOSTLAYERS_PKEY;
+    }
+
+    @Override
+    public List<ForeignKey<InventorycostlayersRecord, ?>> getReferences() {
+        return Arrays.asList(Keys.INVENTORYCOSTLAYERS__INVENTORYCOSTLAYERS_INVENTORY_ITEM_ID_FKEY, Keys.INVENTORYCOSTLAYERS__INVENTORYCOSTLAYERS_PO_ITEM_ID_FKEY);
+    }
+
+    private transient InventoryitemsPath _inventoryitems;
+
+    /**
+     * Get the implicit join path to the <code>public.inventoryitems</code>
+     * table.
+     */
+    public InventoryitemsPath inventoryitems() {
+        if (_inventoryitems == null)
+            _inventoryitems = new InventoryitemsPath(this, Keys.INVENTORYCOSTLAYERS__INVENTORYCOSTLAYERS_INVENTORY_ITEM_ID_FKEY, null);
+
+        return _inventoryitems;
+    }
+
+    private transient PurchaseorderitemsPath _purchaseorderitems;
+
+    /**
+     * Get the implicit join path to the <code>public.purchaseorderitems</code>
+     * table.
+     */
+    public PurchaseorderitemsPath purchaseorderitems() {
+        if (_purchaseorderitems == null)
+            _purchaseorderitems = new PurchaseorderitemsPath(this, Keys.INVENTORYCOSTLAYERS__INVENTORYCOSTLAYERS_PO_ITEM_ID_FKEY, null);
+
+        return _purchaseorderitems;
+    }
+
+    @Override
+    public List<Check<InventorycostlayersRecord>> getChecks() {
+        return Arrays.asList(
+            Internal.createCheck(this, DSL.name("inventorycostlayers_check"), "(((quantity_remaining >= 0) AND (quantity_remaining <= quantity_received)))", true),
+            Internal.createCheck(this, DSL.name("inventorycostlayers_quantity_received_check"), "((quantity_received > 0))", true),
+            Internal.createCheck(this, DSL.name("inventorycostlayers_source_check"), "(((source)::text = ANY ((ARRAY['Opening'::character varying, 'Purchase'::character varying, 'Restock'::character varying])::text[])))", true)
+        );
+    }
+
+    @Override
+    public Inventorycostlayers as(String alias) {
+        return new Inventorycostlayers(DSL.name(alias), this);
+    }
+
+    @Override
+    public Inventorycostlayers as(Name alias) {
+        return new Inventorycostlayers(alias, this);
+    }
+
+    @Override
+    public Inventorycostlayers as(Table<?> alias) {
+        return new Inventorycostlayers(alias.getQualifiedName(), this);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Inventorycostlayers rename(String name) {
+        return new Inventorycostlayers(DSL.name(name), null);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Inventorycostlayers rename(Name name) {
+        return new Inventorycostlayers(name, null);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Inventorycostlayers rename(Table<?> name) {
+        return new Inventorycostlayers(name.getQualifiedName(), null);
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Inventorycostlayers where(Condition condition) {
+        return new Inventorycostlayers(getQualifiedName(), aliased() ? this : null, null, condition);
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Inventorycostlayers where(Collection<? extends Condition> conditions) {
+        return where(DSL.and(conditions));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Inventorycostlayers where(Condition... conditions) {
+        return where(DSL.and(conditions));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Inventorycostlayers where(Field<Boolean> condition) {
+        return where(DSL.condition(condition));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Inventorycostlayers where(SQL condition) {
+        return where(DSL.condition(condition));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Inventorycostlayers where(@Stringly.SQL String condition) {
+        return where(DSL.condition(condition));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Inventorycostlayers where(@Stringly.SQL String condition, Object... binds) {
+        return where(DSL.condition(condition, binds));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Inventorycostlayers where(@Stringly.SQL String condition, QueryPart... parts) {
+        return where(DSL.condition(condition, parts));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Inventorycostlayers whereExists(Select<?> select) {
+        return where(DSL.exists(select));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Inventorycostlayers whereNotExists(Select<?> select) {
+        return where(DSL.notExists(select));
+    }
+}
@@ -7,9 +7,12 @@ package com.basariatpos.db.generated.tables;
 import com.basariatpos.db.generated.Indexes;
 import com.basariatpos.db.generated.Keys;
 import com.basariatpos.db.generated.Public;
+import com.basariatpos.db.generated.tables.Inventorycostlayers.InventorycostlayersPath;
 import com.basariatpos.db.generated.tables.Products.ProductsPath;
 import com.basariatpos.db.generated.tables.Purchaseorderitems.PurchaseorderitemsPath;
 import com.basariatpos.db.generated.tables.Salesorderitems.SalesorderitemsPath;
+import com.basariatpos.db.generated.tables.Stockreservations.StockreservationsPath;
+import com.basariatpos.db.generated.tables.Stockreservationtotals.StockreservationtotalsPath;
 import com.basariatpos.db.generated.tables.records.InventoryitemsRecord;
 
 import java.math.BigDecimal;
@@ -136,6 +139,11 @@ public class Inventoryitems extends TableImpl<InventoryitemsRecord> {
      */
     public final TableField<InventoryitemsRecord, OffsetDateTime> UPDATED_AT = createField(DSL.name("updated_at"), SQLDataType.TIMESTAMPWITHTIMEZONE(6).defaultValue(DSL.field(DSL.raw("CURRENT_TIMESTAMP"), SQLDataType.TIMESTAMPWITHTIMEZONE)), this, "");
 
+    /**
+     * The column <code>public.inventoryitems.change_xid</code>.
+     */
+    public final TableField<InventoryitemsRecord, Long> CHANGE_XID = createField(DSL.name("change_xid"), SQLDataType.BIGINT.nullable(false).defaultValue(DSL.field(DSL.raw("((pg_current_xact_id())::text)::bigint"), SQLDataType.BIGINT)), this, "");
+
     private Inventoryitems(Name alias, Table<InventoryitemsRecord> aliased) {
         this(alias, aliased, (Field<?>[]) null, null);
     }
@@ -203,7 +211,7 @@ public class Inventoryitems extends TableImpl<InventoryitemsRecord> {
 
     @Override
     public List<Index> getIndexes() {
-        return Arrays.asList(Indexes.IDX_INVENTORYITEMS_NAME_AR, Indexes.IDX_INVENTORYITEMS_NAME_EN, Indexes.IDX_INVENTORYITEMS_PRODUCTID);
+        return Arrays.asList(Indexes.IDX_INVENTORYITEMS_CHANGE_XID, Indexes.IDX_INVENTORYITEMS_NAME_AR, Indexes.IDX_INVENTORYITEMS_NAME_EN, Indexes.IDX_INVENTORYITEMS_PRODUCTID);
     }
 
     @Override
@@ -233,6 +241,19 @@ public class Inventoryitems extends TableImpl<InventoryitemsRecord> {
         return _products;
     }
 
+    private transient InventorycostlayersPath _inventorycostlayers;
+
+    /**
+     * Get the implicit to-many join path to the
+     * <code>public.inventorycostlayers</code> table
+     */
+    public InventorycostlayersPath inventorycostlayers() {
+        if (_inventorycostlayers == null)
+            _inventorycostlayers = new InventorycostlayersPath(this, null, Keys.INVENTORYCOSTLAYERS__INVENTORYCOSTLAYERS_INVENTORY_ITEM_ID_FKEY.getInverseKey());
+
+        return _inventorycostlayers;
+    }
+
     private transient PurchaseorderitemsPath _purchaseorderitems;
 
     /**
@@ -259,6 +280,32 @@ public class Inventoryitems extends TableImpl<InventoryitemsRecord> {
         return _salesorderitems;
     }
 
+    private transient StockreservationsPath _stockreservations;
+
+    /**
+     * Get the implicit to-many join path to the
+     * <code>public.stockreservations</code> table
+     */
+    public StockreservationsPath stockreservations() {
+        if (_stockreservations == null)
+            _stockreservations = new StockreservationsPath(this, null, Keys.STOCKRESERVATIONS__STOCKRESERVATIONS_INVENTORY_ITEM_ID_FKEY.getInverseKey());
+
+        return _stockreservations;
+    }
+
+    private transient StockreservationtotalsPath _stockreservationtotals;
+
+    /**
+     * Get the implicit to-many join path to the
+     * <code>public.stockreservationtotals</code> table
+     */
+    public StockreservationtotalsPath stockreservationtotals() {
+        if (_stockreservationtotals == null)
+            _stockreservationtotals = new StockreservationtotalsPath(this, null, Keys.STOCKRESERVATIONTOTALS__STOCKRESERVATIONTOTALS_INVENTORY_ITEM_ID_FKEY.getInverseKey());
+
+        return _stockreservationtotals;
+    }
+
     @Override
     public List<Check<InventoryitemsRecord>> getChecks() {
         return Arrays.asList(
@@ -4,7 +4,6 @@
 package com.basariatpos.db.generated.tables;
 
 
-import com.basariatpos.db.generated.Indexes;
 import com.basariatpos.db.generated.Keys;
 import com.basariatpos.db.generated.Public;
 import com.basariatpos.db.generated.tables.Patients.PatientsPath;
@@ -22,7 +21,6 @@ import org.jooq.Condition;
 import org.jooq.Field;
 import org.jooq.ForeignKey;
 import org.jooq.Identity;
-import org.jooq.Index;
 import org.jooq.InverseForeignKey;
 import org.jooq.Name;
 import org.jooq.Path;
@@ -213,11 +211,6 @@ public class Opticaldiagnostics extends TableImpl<OpticaldiagnosticsRecord> {
         return aliased() ? null : Public.PUBLIC;
     }
 
-    @Override
-    public List<Index> getIndexes() {
-        return Arrays.asList(Indexes.IDX_OPTICALDIAGNOSTICS_PATIENTID);
-    }
-
     @Override
     public Identity<OpticaldiagnosticsRecord, Integer> getIdentity() {
         return (Identity<OpticaldiagnosticsRecord, Integer>) super.getIdentity();
@@ -119,7 +119,7 @@ public class Outstandingpaymentsview extends TableImpl<OutstandingpaymentsviewRe
          FROM ((salesorders so
            LEFT JOIN patients p ON ((so.patient_id = p.patient_id)))
            LEFT JOIN appointments app ON ((so.delivery_appointment_id = app.appointment_id)))
-        WHERE ((so.balance_due > (0)::numeric) AND ((so.status)::text <> ALL ((ARRAY['Cancelled'::character varying, 'Abandoned'::character varying])::text[])));
+        WHERE ((so.balance_due > (0)::numeric) AND ((so.status)::text <> ALL (ARRAY[('Cancelled'::character varying)::text, ('Abandoned'::character varying)::text])));
         """), where);
     }
 
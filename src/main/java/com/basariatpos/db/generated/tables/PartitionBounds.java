@@ -0,0 +1,164 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables;
+
+
+import com.basariatpos.db.generated.Public;
+import com.basariatpos.db.generated.tables.records.PartitionBoundsRecord;
+
+import java.time.OffsetDateTime;
+
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.Name;
+import org.jooq.Schema;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.TableOptions;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.jooq.impl.TableImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class PartitionBounds extends TableImpl<PartitionBoundsRecord> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The reference instance of <code>public.partition_bounds</code>
+     */
+    public static final PartitionBounds PARTITION_BOUNDS = new PartitionBounds();
+
+    /**
+     * The class holding records for this type
+     */
+    @Override
+    public Class<PartitionBoundsRecord> getRecordType() {
+        return PartitionBoundsRecord.class;
+    }
+
+    /**
+     * The column <code>public.partition_bounds.partition_name</code>.
+     */
+    public final TableField<PartitionBoundsRecord, String> PARTITION_NAME = createField(DSL.name("partition_name"), SQLDataType.CLOB, this, "");
+
+    /**
+     * The column <code>public.partition_bounds.lower_bound</code>.
+     */
+    public final TableField<PartitionBoundsRecord, OffsetDateTime> LOWER_BOUND = createField(DSL.name("lower_bound"), SQLDataType.TIMESTAMPWITHTIMEZONE(6), this, "");
+
+    /**
+     * The column <code>public.partition_bounds.upper_bound</code>.
+     */
+    public final TableField<PartitionBoundsRecord, OffsetDateTime> UPPER_BOUND = createField(DSL.name("upper_bound"), SQLDataType.TIMESTAMPWITHTIMEZONE(6), this, "");
+
+    private PartitionBounds(Name alias, Table<PartitionBoundsRecord> aliased) {
+        this(alias, aliased, new Field[] {
+            DSL.val(null, SQLDataType.CLOB)
+        });
+    }
+
+    private PartitionBounds(Name alias, Table<PartitionBoundsRecord> aliased, Field<?>[] parameters) {
+        this(alias, aliased, parameters, null);
+    }
+
+    private PartitionBounds(Name alias, Table<PartitionBoundsRecord> aliased, Field<?>[] parameters, Condition where) {
+        super(alias, null, aliased, parameters, DSL.comment(""), TableOptions.function(), where);
+    }
+
+    /**
+     * Create an aliased <code>public.partition_bounds</code> table reference
+     */
+    public PartitionBounds(String alias) {
+        this(DSL.name(alias), PARTITION_BOUNDS);
+    }
+
+    /**
+     * Create an aliased <code>public.partition_bounds</code> table reference
+     */
+    public PartitionBounds(Name alias) {
+        this(alias, PARTITION_BOUNDS);
+    }
+
+    /**
+     * Create a <code>public.partition_bounds</code> table reference
+     */
+    public PartitionBounds() {
+        this(DSL.name("partition_bounds"), null);
+    }
+
+    @Override
+    public Schema getSchema() {
+        return aliased() ? null : Public.PUBLIC;
+    }
+
+    @Override
+    public PartitionBounds as(String alias) {
+        return new PartitionBounds(DSL.name(alias), this, parameters);
+    }
+
+    @Override
+    public PartitionBounds as(Name alias) {
+        return new PartitionBounds(alias, this, parameters);
+    }
+
+    @Override
+    public PartitionBounds as(Table<?> alias) {
+        return new PartitionBounds(alias.getQualifiedName(), this, parameters);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public PartitionBounds rename(String name) {
+        return new PartitionBounds(DSL.name(name), null, parameters);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public PartitionBounds rename(Name name) {
+        return new PartitionBounds(name, null, parameters);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public PartitionBounds rename(Table<?> name) {
+        return new PartitionBounds(name.getQualifiedName(), null, parameters);
+    }
+
+    /**
+     * Call this table-valued function
+     */
+    public PartitionBounds call(
+          String pTable
+    ) {
+        PartitionBounds result = new PartitionBounds(DSL.name("partition_bounds"), null, new Field[] {
+            DSL.val(pTable, SQLDataType.CLOB)
+        });
+
+        return aliased() ? result.as(getUnqualifiedName()) : result;
+    }
+
+    /**
+     * Call this table-valued function
+     */
+    public PartitionBounds call(
+          Field<String> pTable
+    ) {
+        PartitionBounds result = new PartitionBounds(DSL.name("partition_bounds"), null, new Field[] {
+            pTable
+        });
+
+        return aliased() ? result.as(getUnqualifiedName()) : result;
+    }
+}
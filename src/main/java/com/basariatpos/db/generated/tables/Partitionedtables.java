@@ -0,0 +1,251 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables;
+
+
+import com.basariatpos.db.generated.Keys;
+import com.basariatpos.db.generated.Public;
+import com.basariatpos.db.generated.tables.records.PartitionedtablesRecord;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.jooq.Check;
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.Name;
+import org.jooq.PlainSQL;
+import org.jooq.QueryPart;
+import org.jooq.SQL;
+import org.jooq.Schema;
+import org.jooq.Select;
+import org.jooq.Stringly;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.TableOptions;
+import org.jooq.UniqueKey;
+import org.jooq.impl.DSL;
+import org.jooq.impl.Internal;
+import org.jooq.impl.SQLDataType;
+import org.jooq.impl.TableImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class Partitionedtables extends TableImpl<PartitionedtablesRecord> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The reference instance of <code>public.partitionedtables</code>
+     */
+    public static final Partitionedtables PARTITIONEDTABLES = new Partitionedtables();
+
+    /**
+     * The class holding records for this type
+     */
+    @Override
+    public Class<PartitionedtablesRecord> getRecordType() {
+        return PartitionedtablesRecord.class;
+    }
+
+    /**
+     * The column <code>public.partitionedtables.table_name</code>.
+     */
+    public final TableField<PartitionedtablesRecord, String> TABLE_NAME = createField(DSL.name("table_name"), SQLDataType.VARCHAR(63).nullable(false), this, "");
+
+    /**
+     * The column <code>public.partitionedtables.partition_column</code>.
+     */
+    public final TableField<PartitionedtablesRecord, String> PARTITION_COLUMN = createField(DSL.name("partition_column"), SQLDataType.VARCHAR(63).nullable(false), this, "");
+
+    /**
+     * The column <code>public.partitionedtables.partition_interval</code>.
+     */
+    public final TableField<PartitionedtablesRecord, String> PARTITION_INTERVAL = createField(DSL.name("partition_interval"), SQLDataType.VARCHAR(5).nullable(false), this, "");
+
+    /**
+     * The column <code>public.partitionedtables.periods_ahead</code>.
+     */
+    public final TableField<PartitionedtablesRecord, Integer> PERIODS_AHEAD = createField(DSL.name("periods_ahead"), SQLDataType.INTEGER.nullable(false), this, "");
+
+    /**
+     * The column
+     * <code>public.partitionedtables.archive_with_fiscal_year</code>.
+     */
+    public final TableField<PartitionedtablesRecord, Boolean> ARCHIVE_WITH_FISCAL_YEAR = createField(DSL.name("archive_with_fiscal_year"), SQLDataType.BOOLEAN.nullable(false), this, "");
+
+    private Partitionedtables(Name alias, Table<PartitionedtablesRecord> aliased) {
+        this(alias, aliased, (Field<?>[]) null, null);
+    }
+
+    private Partitionedtables(Name alias, Table<PartitionedtablesRecord> aliased, Field<?>[] parameters, Condition where) {
+        super(alias, null, aliased, parameters, DSL.comment(""), TableOptions.table(), where);
+    }
+
+    /**
+     * Create an aliased <code>public.partitionedtables</code> table reference
+     */
+    public Partitionedtables(String alias) {
+        this(DSL.name(alias), PARTITIONEDTABLES);
+    }
+
+    /**
+     * Create an aliased <code>public.partitionedtables</code> table reference
+     */
+    public Partitionedtables(Name alias) {
+        this(alias, PARTITIONEDTABLES);
+    }
+
+    /**
+     * Create a <code>public.partitionedtables</code> table reference
+     */
+    public Partitionedtables() {
+        this(DSL.name("partitionedtables"), null);
+    }
+
+    @Override
+    public Schema getSchema() {
+        return aliased() ? null : Public.PUBLIC;
+    }
+
+    @Override
+    public UniqueKey<PartitionedtablesRecord> getPrimaryKey() {
+        return Keys.PARTITIONEDTABLES_PKEY;
+    }
+
+    @Override
+    public List<Check<PartitionedtablesRecord>> getChecks() {
+        return Arrays.asList(
+            Internal.createCheck(this, DSL.name("partitionedtables_partition_interval_check"), "(((partition_interval)::text = ANY ((ARRAY['month'::character varying, 'year'::character varying])::text[])))", true),
+            Internal.createCheck(this, DSL.name("partitionedtables_periods_ahead_check"), "((periods_ahead >= 1))", true)
+        );
+    }
+
+    @Override
+    public Partitionedtables as(String alias) {
+        return new Partitionedtables(DSL.name(alias), this);
+    }
+
+    @Override
+    public Partitionedtables as(Name alias) {
+        return new Partitionedtables(alias, this);
+    }
+
+    @Override
+    public Partitionedtables as(Table<?> alias) {
+        return new Partitionedtables(alias.getQualifiedName(), this);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Partitionedtables rename(String name) {
+        return new Partitionedtables(DSL.name(name), null);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Partitionedtables rename(Name name) {
+        return new Partitionedtables(name, null);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Partitionedtables rename(Table<?> name) {
+        return new Partitionedtables(name.getQualifiedName(), null);
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Partitionedtables where(Condition condition) {
+        return new Partitionedtables(getQualifiedName(), aliased() ? this : null, null, condition);
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Partitionedtables where(Collection<? extends Condition> conditions) {
+        return where(DSL.and(conditions));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Partitionedtables where(Condition... conditions) {
+        return where(DSL.and(conditions));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Partitionedtables where(Field<Boolean> condition) {
+        return where(DSL.condition(condition));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Partitionedtables where(SQL condition) {
+        return where(DSL.condition(condition));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Partitionedtables where(@Stringly.SQL String condition) {
+        return where(DSL.condition(condition));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Partitionedtables where(@Stringly.SQL String condition, Object... binds) {
+        return where(DSL.condition(condition, binds));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Partitionedtables where(@Stringly.SQL String condition, QueryPart... parts) {
+        return where(DSL.condition(condition, parts));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Partitionedtables whereExists(Select<?> select) {
+        return where(DSL.exists(select));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Partitionedtables whereNotExists(Select<?> select) {
+        return where(DSL.notExists(select));
+    }
+}
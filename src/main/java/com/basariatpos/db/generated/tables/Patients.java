@@ -174,7 +174,7 @@ public class Patients extends TableImpl<PatientsRecord> {
 
     @Override
     public List<Index> getIndexes() {
-        return Arrays.asList(Indexes.IDX_PATIENTS_NAME, Indexes.IDX_PATIENTS_PHONE);
+        return Arrays.asList(Indexes.IDX_PATIENTS_NAME_ID, Indexes.IDX_PATIENTS_PHONE);
     }
 
     @Override
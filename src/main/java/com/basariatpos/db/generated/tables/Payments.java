@@ -8,7 +8,6 @@ import com.basariatpos.db.generated.Indexes;
 import com.basariatpos.db.generated.Keys;
 import com.basariatpos.db.generated.Public;
 import com.basariatpos.db.generated.tables.Banknames.BanknamesPath;
-import com.basariatpos.db.generated.tables.Salesorders.SalesordersPath;
 import com.basariatpos.db.generated.tables.Shifts.ShiftsPath;
 import com.basariatpos.db.generated.tables.Users.UsersPath;
 import com.basariatpos.db.generated.tables.records.PaymentsRecord;
@@ -79,7 +78,7 @@ public class Payments extends TableImpl<PaymentsRecord> {
     /**
      * The column <code>public.payments.payment_date</code>.
      */
-    public final TableField<PaymentsRecord, OffsetDateTime> PAYMENT_DATE = createField(DSL.name("payment_date"), SQLDataType.TIMESTAMPWITHTIMEZONE(6).defaultValue(DSL.field(DSL.raw("CURRENT_TIMESTAMP"), SQLDataType.TIMESTAMPWITHTIMEZONE)), this, "");
+    public final TableField<PaymentsRecord, OffsetDateTime> PAYMENT_DATE = createField(DSL.name("payment_date"), SQLDataType.TIMESTAMPWITHTIMEZONE(6).nullable(false).defaultValue(DSL.field(DSL.raw("CURRENT_TIMESTAMP"), SQLDataType.TIMESTAMPWITHTIMEZONE)), this, "");
 
     /**
      * The column <code>public.payments.amount</code>.
@@ -197,20 +196,13 @@ public class Payments extends TableImpl<PaymentsRecord> {
     }
 
     @Override
-    public List<ForeignKey<PaymentsRecord, ?>> getReferences() {
-        return Arrays.asList(Keys.PAYMENTS__PAYMENTS_SALES_ORDER_ID_FKEY, Keys.PAYMENTS__PAYMENTS_BANK_NAME_ID_FKEY, Keys.PAYMENTS__PAYMENTS_RECEIVED_BY_USER_ID_FKEY, Keys.PAYMENTS__PAYMENTS_SHIFT_ID_FKEY);
+    public List<UniqueKey<PaymentsRecord>> getUniqueKeys() {
+        return Arrays.asList(Keys.PAYMENTS_PKEY);
     }
 
-    private transient SalesordersPath _salesorders;
-
-    /**
-     * Get the implicit join path to the <code>public.salesorders</code> table.
-     */
-    public SalesordersPath salesorders() {
-        if (_salesorders == null)
-            _salesorders = new SalesordersPath(this, Keys.PAYMENTS__PAYMENTS_SALES_ORDER_ID_FKEY, null);
-
-        return _salesorders;
+    @Override
+    public List<ForeignKey<PaymentsRecord, ?>> getReferences() {
+        return Arrays.asList(Keys.PAYMENTS__PAYMENTS_BANK_NAME_ID_FKEY, Keys.PAYMENTS__PAYMENTS_RECEIVED_BY_USER_ID_FKEY, Keys.PAYMENTS__PAYMENTS_SHIFT_ID_FKEY);
     }
 
     private transient BanknamesPath _banknames;
@@ -6,6 +6,7 @@ package com.basariatpos.db.generated.tables;
 
 import com.basariatpos.db.generated.Keys;
 import com.basariatpos.db.generated.Public;
+import com.basariatpos.db.generated.tables.Dailycategorysalesrollup.DailycategorysalesrollupPath;
 import com.basariatpos.db.generated.tables.Products.ProductsPath;
 import com.basariatpos.db.generated.tables.records.ProductcategoriesRecord;
 
@@ -152,6 +153,19 @@ public class Productcategories extends TableImpl<ProductcategoriesRecord> {
         return Arrays.asList(Keys.PRODUCTCATEGORIES_CATEGORY_NAME_EN_KEY, Keys.PRODUCTCATEGORIES_CATEGORY_NAME_AR_KEY);
     }
 
+    private transient DailycategorysalesrollupPath _dailycategorysalesrollup;
+
+    /**
+     * Get the implicit to-many join path to the
+     * <code>public.dailycategorysalesrollup</code> table
+     */
+    public DailycategorysalesrollupPath dailycategorysalesrollup() {
+        if (_dailycategorysalesrollup == null)
+            _dailycategorysalesrollup = new DailycategorysalesrollupPath(this, null, Keys.DAILYCATEGORYSALESROLLUP__DAILYCATEGORYSALESROLLUP_CATEGORY_ID_FKEY.getInverseKey());
+
+        return _dailycategorysalesrollup;
+    }
+
     private transient ProductsPath _products;
 
     /**
@@ -117,6 +117,11 @@ public class Products extends TableImpl<ProductsRecord> {
      */
     public final TableField<ProductsRecord, OffsetDateTime> UPDATED_AT = createField(DSL.name("updated_at"), SQLDataType.TIMESTAMPWITHTIMEZONE(6).defaultValue(DSL.field(DSL.raw("CURRENT_TIMESTAMP"), SQLDataType.TIMESTAMPWITHTIMEZONE)), this, "");
 
+    /**
+     * The column <code>public.products.change_xid</code>.
+     */
+    public final TableField<ProductsRecord, Long> CHANGE_XID = createField(DSL.name("change_xid"), SQLDataType.BIGINT.nullable(false).defaultValue(DSL.field(DSL.raw("((pg_current_xact_id())::text)::bigint"), SQLDataType.BIGINT)), this, "");
+
     private Products(Name alias, Table<ProductsRecord> aliased) {
         this(alias, aliased, (Field<?>[]) null, null);
     }
@@ -184,7 +189,7 @@ public class Products extends TableImpl<ProductsRecord> {
 
     @Override
     public List<Index> getIndexes() {
-        return Arrays.asList(Indexes.IDX_PRODUCTS_NAME_AR, Indexes.IDX_PRODUCTS_NAME_EN);
+        return Arrays.asList(Indexes.IDX_PRODUCTS_CHANGE_XID, Indexes.IDX_PRODUCTS_NAME_AR, Indexes.IDX_PRODUCTS_NAME_EN);
     }
 
     @Override
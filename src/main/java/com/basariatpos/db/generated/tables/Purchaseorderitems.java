@@ -6,6 +6,7 @@ package com.basariatpos.db.generated.tables;
 
 import com.basariatpos.db.generated.Keys;
 import com.basariatpos.db.generated.Public;
+import com.basariatpos.db.generated.tables.Inventorycostlayers.InventorycostlayersPath;
 import com.basariatpos.db.generated.tables.Inventoryitems.InventoryitemsPath;
 import com.basariatpos.db.generated.tables.Purchaseorders.PurchaseordersPath;
 import com.basariatpos.db.generated.tables.records.PurchaseorderitemsRecord;
@@ -203,6 +204,19 @@ public class Purchaseorderitems extends TableImpl<PurchaseorderitemsRecord> {
         return _inventoryitems;
     }
 
+    private transient InventorycostlayersPath _inventorycostlayers;
+
+    /**
+     * Get the implicit to-many join path to the
+     * <code>public.inventorycostlayers</code> table
+     */
+    public InventorycostlayersPath inventorycostlayers() {
+        if (_inventorycostlayers == null)
+            _inventorycostlayers = new InventorycostlayersPath(this, null, Keys.INVENTORYCOSTLAYERS__INVENTORYCOSTLAYERS_PO_ITEM_ID_FKEY.getInverseKey());
+
+        return _inventorycostlayers;
+    }
+
     @Override
     public List<Check<PurchaseorderitemsRecord>> getChecks() {
         return Arrays.asList(
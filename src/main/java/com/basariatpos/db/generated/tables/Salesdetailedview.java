@@ -205,8 +205,8 @@ public class Salesdetailedview extends TableImpl<SalesdetailedviewRecord> {
          soi.item_subtotal,
          inv.brand_name,
          inv.attributes AS item_attributes,
-         COALESCE(inv.cost_price, (0)::numeric) AS item_cost_price,
-         (soi.item_subtotal - ((soi.quantity)::numeric * COALESCE(inv.cost_price, (0)::numeric))) AS item_profit_on_item,
+         COALESCE(round((soi.cost_amount / (soi.quantity)::numeric), 2), inv.cost_price, (0)::numeric) AS item_cost_price,
+         (soi.item_subtotal - COALESCE(soi.cost_amount, ((soi.quantity)::numeric * COALESCE(inv.cost_price, (0)::numeric)))) AS item_profit_on_item,
          so.subtotal_amount AS order_subtotal,
          so.discount_amount AS order_discount,
          so.total_amount AS order_total,
@@ -9,7 +9,6 @@ import com.basariatpos.db.generated.Keys;
 import com.basariatpos.db.generated.Public;
 import com.basariatpos.db.generated.tables.Inventoryitems.InventoryitemsPath;
 import com.basariatpos.db.generated.tables.Products.ProductsPath;
-import com.basariatpos.db.generated.tables.Salesorders.SalesordersPath;
 import com.basariatpos.db.generated.tables.records.SalesorderitemsRecord;
 
 import java.math.BigDecimal;
@@ -121,6 +120,11 @@ public class Salesorderitems extends TableImpl<SalesorderitemsRecord> {
      */
     public final TableField<SalesorderitemsRecord, Boolean> IS_RESTOCKED_ON_ABANDONMENT = createField(DSL.name("is_restocked_on_abandonment"), SQLDataType.BOOLEAN.defaultValue(DSL.field(DSL.raw("false"), SQLDataType.BOOLEAN)), this, "");
 
+    /**
+     * The column <code>public.salesorderitems.cost_amount</code>.
+     */
+    public final TableField<SalesorderitemsRecord, BigDecimal> COST_AMOUNT = createField(DSL.name("cost_amount"), SQLDataType.NUMERIC(12, 2), this, "");
+
     private Salesorderitems(Name alias, Table<SalesorderitemsRecord> aliased) {
         this(alias, aliased, (Field<?>[]) null, null);
     }
@@ -203,19 +207,7 @@ public class Salesorderitems extends TableImpl<SalesorderitemsRecord> {
 
     @Override
     public List<ForeignKey<SalesorderitemsRecord, ?>> getReferences() {
-        return Arrays.asList(Keys.SALESORDERITEMS__SALESORDERITEMS_SALES_ORDER_ID_FKEY, Keys.SALESORDERITEMS__SALESORDERITEMS_INVENTORY_ITEM_ID_FKEY, Keys.SALESORDERITEMS__SALESORDERITEMS_SERVICE_PRODUCT_ID_FKEY);
-    }
-
-    private transient SalesordersPath _salesorders;
-
-    /**
-     * Get the implicit join path to the <code>public.salesorders</code> table.
-     */
-    public SalesordersPath salesorders() {
-        if (_salesorders == null)
-            _salesorders = new SalesordersPath(this, Keys.SALESORDERITEMS__SALESORDERITEMS_SALES_ORDER_ID_FKEY, null);
-
-        return _salesorders;
+        return Arrays.asList(Keys.SALESORDERITEMS__SALESORDERITEMS_INVENTORY_ITEM_ID_FKEY, Keys.SALESORDERITEMS__SALESORDERITEMS_SERVICE_PRODUCT_ID_FKEY);
     }
 
     private transient InventoryitemsPath _inventoryitems;
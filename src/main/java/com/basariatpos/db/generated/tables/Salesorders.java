@@ -9,8 +9,6 @@ import com.basariatpos.db.generated.Keys;
 import com.basariatpos.db.generated.Public;
 import com.basariatpos.db.generated.tables.Appointments.AppointmentsPath;
 import com.basariatpos.db.generated.tables.Patients.PatientsPath;
-import com.basariatpos.db.generated.tables.Payments.PaymentsPath;
-import com.basariatpos.db.generated.tables.Salesorderitems.SalesorderitemsPath;
 import com.basariatpos.db.generated.tables.Shifts.ShiftsPath;
 import com.basariatpos.db.generated.tables.Users.UsersPath;
 import com.basariatpos.db.generated.tables.records.SalesordersRecord;
@@ -81,7 +79,7 @@ public class Salesorders extends TableImpl<SalesordersRecord> {
     /**
      * The column <code>public.salesorders.order_date</code>.
      */
-    public final TableField<SalesordersRecord, OffsetDateTime> ORDER_DATE = createField(DSL.name("order_date"), SQLDataType.TIMESTAMPWITHTIMEZONE(6).defaultValue(DSL.field(DSL.raw("CURRENT_TIMESTAMP"), SQLDataType.TIMESTAMPWITHTIMEZONE)), this, "");
+    public final TableField<SalesordersRecord, OffsetDateTime> ORDER_DATE = createField(DSL.name("order_date"), SQLDataType.TIMESTAMPWITHTIMEZONE(6).nullable(false).defaultValue(DSL.field(DSL.raw("CURRENT_TIMESTAMP"), SQLDataType.TIMESTAMPWITHTIMEZONE)), this, "");
 
     /**
      * The column <code>public.salesorders.status</code>.
@@ -205,7 +203,7 @@ public class Salesorders extends TableImpl<SalesordersRecord> {
 
     @Override
     public List<Index> getIndexes() {
-        return Arrays.asList(Indexes.IDX_SALESORDERS_ORDER_DATE, Indexes.IDX_SALESORDERS_PATIENTID, Indexes.IDX_SALESORDERS_SHIFTID, Indexes.IDX_SALESORDERS_STATUS_VAL);
+        return Arrays.asList(Indexes.IDX_SALESORDERS_DELIVERY_APPOINTMENT, Indexes.IDX_SALESORDERS_ORDER_DATE_ID, Indexes.IDX_SALESORDERS_PATIENTID, Indexes.IDX_SALESORDERS_SHIFTID, Indexes.IDX_SALESORDERS_STATUS_VAL);
     }
 
     @Override
@@ -220,7 +218,7 @@ public class Salesorders extends TableImpl<SalesordersRecord> {
 
     @Override
     public List<UniqueKey<SalesordersRecord>> getUniqueKeys() {
-        return Arrays.asList(Keys.SALESORDERS_DELIVERY_APPOINTMENT_ID_KEY);
+        return Arrays.asList(Keys.SALESORDERS_PKEY);
     }
 
     @Override
@@ -276,32 +274,6 @@ public class Salesorders extends TableImpl<SalesordersRecord> {
         return _appointments;
     }
 
-    private transient PaymentsPath _payments;
-
-    /**
-     * Get the implicit to-many join path to the <code>public.payments</code>
-     * table
-     */
-    public PaymentsPath payments() {
-        if (_payments == null)
-            _payments = new PaymentsPath(this, null, Keys.PAYMENTS__PAYMENTS_SALES_ORDER_ID_FKEY.getInverseKey());
-
-        return _payments;
-    }
-
-    private transient SalesorderitemsPath _salesorderitems;
-
-    /**
-     * Get the implicit to-many join path to the
-     * <code>public.salesorderitems</code> table
-     */
-    public SalesorderitemsPath salesorderitems() {
-        if (_salesorderitems == null)
-            _salesorderitems = new SalesorderitemsPath(this, null, Keys.SALESORDERITEMS__SALESORDERITEMS_SALES_ORDER_ID_FKEY.getInverseKey());
-
-        return _salesorderitems;
-    }
-
     @Override
     public List<Check<SalesordersRecord>> getChecks() {
         return Arrays.asList(
@@ -155,23 +155,14 @@ public class Shiftreportsummaryview extends TableImpl<ShiftreportsummaryviewReco
          s.expected_cash_in_drawer,
          s.cash_variance,
          s.notes AS shift_notes,
-         ( SELECT COALESCE(sum(p.amount), (0)::numeric) AS "coalesce"
-                FROM payments p
-               WHERE ((p.shift_id = s.shift_id) AND ((p.payment_method)::text = 'Cash'::text))) AS total_cash_received_in_shift,
-         ( SELECT COALESCE(sum(p.amount), (0)::numeric) AS "coalesce"
-                FROM payments p
-               WHERE ((p.shift_id = s.shift_id) AND ((p.payment_method)::text = 'Bank Transaction'::text))) AS total_bank_received_in_shift,
-         ( SELECT COALESCE(sum(e.amount), (0)::numeric) AS "coalesce"
-                FROM expenses e
-               WHERE ((e.shift_id = s.shift_id) AND ((e.payment_method)::text = 'Cash'::text))) AS total_cash_expenses_paid_from_shift,
-         ( SELECT count(DISTINCT so.sales_order_id) AS count
-                FROM salesorders so
-               WHERE (so.shift_id = s.shift_id)) AS total_sales_orders_in_shift,
-         ( SELECT COALESCE(sum(so.discount_amount), (0)::numeric) AS "coalesce"
-                FROM salesorders so
-               WHERE (so.shift_id = s.shift_id)) AS total_discounts_in_shift
-        FROM (shifts s
-          JOIN users u ON ((s.started_by_user_id = u.user_id)));
+         COALESCE(st.total_cash_received, (0)::numeric) AS total_cash_received_in_shift,
+         COALESCE(st.total_bank_received, (0)::numeric) AS total_bank_received_in_shift,
+         COALESCE(st.total_cash_expenses, (0)::numeric) AS total_cash_expenses_paid_from_shift,
+         (COALESCE(st.total_sales_orders, 0))::bigint AS total_sales_orders_in_shift,
+         COALESCE(st.total_discounts, (0)::numeric) AS total_discounts_in_shift
+        FROM ((shifts s
+          JOIN users u ON ((s.started_by_user_id = u.user_id)))
+          LEFT JOIN shifttotals st ON ((st.shift_id = s.shift_id)));
         """), where);
     }
 
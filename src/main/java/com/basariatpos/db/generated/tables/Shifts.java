@@ -11,6 +11,7 @@ import com.basariatpos.db.generated.tables.Expenses.ExpensesPath;
 import com.basariatpos.db.generated.tables.Payments.PaymentsPath;
 import com.basariatpos.db.generated.tables.Salesorders.SalesordersPath;
 import com.basariatpos.db.generated.tables.Shiftpauselog.ShiftpauselogPath;
+import com.basariatpos.db.generated.tables.Shifttotals.ShifttotalsPath;
 import com.basariatpos.db.generated.tables.Users.UsersPath;
 import com.basariatpos.db.generated.tables.records.ShiftsRecord;
 
@@ -276,6 +277,19 @@ public class Shifts extends TableImpl<ShiftsRecord> {
         return _shiftpauselog;
     }
 
+    private transient ShifttotalsPath _shifttotals;
+
+    /**
+     * Get the implicit to-many join path to the <code>public.shifttotals</code>
+     * table
+     */
+    public ShifttotalsPath shifttotals() {
+        if (_shifttotals == null)
+            _shifttotals = new ShifttotalsPath(this, null, Keys.SHIFTTOTALS__SHIFTTOTALS_SHIFT_ID_FKEY.getInverseKey());
+
+        return _shifttotals;
+    }
+
     @Override
     public List<Check<ShiftsRecord>> getChecks() {
         return Arrays.asList(
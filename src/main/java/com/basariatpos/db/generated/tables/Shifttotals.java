@@ -0,0 +1,305 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables;
+
+
+import com.basariatpos.db.generated.Keys;
+import com.basariatpos.db.generated.Public;
+import com.basariatpos.db.generated.tables.Shifts.ShiftsPath;
+import com.basariatpos.db.generated.tables.records.ShifttotalsRecord;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.ForeignKey;
+import org.jooq.InverseForeignKey;
+import org.jooq.Name;
+import org.jooq.Path;
+import org.jooq.PlainSQL;
+import org.jooq.QueryPart;
+import org.jooq.Record;
+import org.jooq.SQL;
+import org.jooq.Schema;
+import org.jooq.Select;
+import org.jooq.Stringly;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.TableOptions;
+import org.jooq.UniqueKey;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.jooq.impl.TableImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class Shifttotals extends TableImpl<ShifttotalsRecord> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The reference instance of <code>public.shifttotals</code>
+     */
+    public static final Shifttotals SHIFTTOTALS = new Shifttotals();
+
+    /**
+     * The class holding records for this type
+     */
+    @Override
+    public Class<ShifttotalsRecord> getRecordType() {
+        return ShifttotalsRecord.class;
+    }
+
+    /**
+     * The column <code>public.shifttotals.shift_id</code>.
+     */
+    public final TableField<ShifttotalsRecord, Integer> SHIFT_ID = createField(DSL.name("shift_id"), SQLDataType.INTEGER.nullable(false), this, "");
+
+    /**
+     * The column <code>public.shifttotals.total_cash_received</code>.
+     */
+    public final TableField<ShifttotalsRecord, BigDecimal> TOTAL_CASH_RECEIVED = createField(DSL.name("total_cash_received"), SQLDataType.NUMERIC(12, 2).nullable(false).defaultValue(DSL.field(DSL.raw("0.00"), SQLDataType.NUMERIC)), this, "");
+
+    /**
+     * The column <code>public.shifttotals.total_bank_received</code>.
+     */
+    public final TableField<ShifttotalsRecord, BigDecimal> TOTAL_BANK_RECEIVED = createField(DSL.name("total_bank_received"), SQLDataType.NUMERIC(12, 2).nullable(false).defaultValue(DSL.field(DSL.raw("0.00"), SQLDataType.NUMERIC)), this, "");
+
+    /**
+     * The column <code>public.shifttotals.total_cash_expenses</code>.
+     */
+    public final TableField<ShifttotalsRecord, BigDecimal> TOTAL_CASH_EXPENSES = createField(DSL.name("total_cash_expenses"), SQLDataType.NUMERIC(12, 2).nullable(false).defaultValue(DSL.field(DSL.raw("0.00"), SQLDataType.NUMERIC)), this, "");
+
+    /**
+     * The column <code>public.shifttotals.total_sales_orders</code>.
+     */
+    public final TableField<ShifttotalsRecord, Integer> TOTAL_SALES_ORDERS = createField(DSL.name("total_sales_orders"), SQLDataType.INTEGER.nullable(false).defaultValue(DSL.field(DSL.raw("0"), SQLDataType.INTEGER)), this, "");
+
+    /**
+     * The column <code>public.shifttotals.total_discounts</code>.
+     */
+    public final TableField<ShifttotalsRecord, BigDecimal> TOTAL_DISCOUNTS = createField(DSL.name("total_discounts"), SQLDataType.NUMERIC(12, 2).nullable(false).defaultValue(DSL.field(DSL.raw("0.00"), SQLDataType.NUMERIC)), this, "");
+
+    /**
+     * The column <code>public.shifttotals.updated_at</code>.
+     */
+    public final TableField<ShifttotalsRecord, OffsetDateTime> UPDATED_AT = createField(DSL.name("updated_at"), SQLDataType.TIMESTAMPWITHTIMEZONE(6).defaultValue(DSL.field(DSL.raw("CURRENT_TIMESTAMP"), SQLDataType.TIMESTAMPWITHTIMEZONE)), this, "");
+
+    private Shifttotals(Name alias, Table<ShifttotalsRecord> aliased) {
+        this(alias, aliased, (Field<?>[]) null, null);
+    }
+
+    private Shifttotals(Name alias, Table<ShifttotalsRecord> aliased, Field<?>[] parameters, Condition where) {
+        super(alias, null, aliased, parameters, DSL.comment(""), TableOptions.table(), where);
+    }
+
+    /**
+     * Create an aliased <code>public.shifttotals</code> table reference
+     */
+    public Shifttotals(String alias) {
+        this(DSL.name(alias), SHIFTTOTALS);
+    }
+
+    /**
+     * Create an aliased <code>public.shifttotals</code> table reference
+     */
+    public Shifttotals(Name alias) {
+        this(alias, SHIFTTOTALS);
+    }
+
+    /**
+     * Create a <code>public.shifttotals</code> table reference
+     */
+    public Shifttotals() {
+        this(DSL.name("shifttotals"), null);
+    }
+
+    public <O extends Record> Shifttotals(Table<O> path, ForeignKey<O, ShifttotalsRecord> childPath, InverseForeignKey<O, ShifttotalsRecord> parentPath) {
+        super(path, childPath, parentPath, SHIFTTOTALS);
+    }
+
+    /**
+     * A subtype implementing {@link Path} for simplified path-based joins.
+     */
+    public static class ShifttotalsPath extends Shifttotals implements Path<ShifttotalsRecord> {
+        public <O extends Record> ShifttotalsPath(Table<O> path, ForeignKey<O, ShifttotalsRecord> childPath, InverseForeignKey<O, ShifttotalsRecord> parentPath) {
+            super(path, childPath, parentPath);
+        }
+        private ShifttotalsPath(Name alias, Table<ShifttotalsRecord> aliased) {
+            super(alias, aliased);
+        }
+
+        @Override
+        public ShifttotalsPath as(String alias) {
+            return new ShifttotalsPath(DSL.name(alias), this);
+        }
+
+        @Override
+        public ShifttotalsPath as(Name alias) {
+            return new ShifttotalsPath(alias, this);
+        }
+
+        @Override
+        public ShifttotalsPath as(Table<?> alias) {
+            return new ShifttotalsPath(alias.getQualifiedName(), this);
+        }
+    }
+
+    @Override
+    public Schema getSchema() {
+        return aliased() ? null : Public.PUBLIC;
+    }
+
+    @Override
+    public UniqueKey<ShifttotalsRecord> getPrimaryKey() {
+        return Keys.SHIFTTOTALS_PKEY;
+    }
+
+    @Override
+    public List<ForeignKey<ShifttotalsRecord, ?>> getReferences() {
+        return Arrays.asList(Keys.SHIFTTOTALS__SHIFTTOTALS_SHIFT_ID_FKEY);
+    }
+
+    private transient ShiftsPath _shifts;
+
+    /**
+     * Get the implicit join path to the <code>public.shifts</code> table.
+     */
+    public ShiftsPath shifts() {
+        if (_shifts == null)
+            _shifts = new ShiftsPath(this, Keys.SHIFTTOTALS__SHIFTTOTALS_SHIFT_ID_FKEY, null);
+
+        return _shifts;
+    }
+
+    @Override
+    public Shifttotals as(String alias) {
+        return new Shifttotals(DSL.name(alias), this);
+    }
+
+    @Override
+    public Shifttotals as(Name alias) {
+        return new Shifttotals(alias, this);
+    }
+
+    @Override
+    public Shifttotals as(Table<?> alias) {
+        return new Shifttotals(alias.getQualifiedName(), this);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Shifttotals rename(String name) {
+        return new Shifttotals(DSL.name(name), null);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Shifttotals rename(Name name) {
+        return new Shifttotals(name, null);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Shifttotals rename(Table<?> name) {
+        return new Shifttotals(name.getQualifiedName(), null);
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Shifttotals where(Condition condition) {
+        return new Shifttotals(getQualifiedName(), aliased() ? this : null, null, condition);
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Shifttotals where(Collection<? extends Condition> conditions) {
+        return where(DSL.and(conditions));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Shifttotals where(Condition... conditions) {
+        return where(DSL.and(conditions));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Shifttotals where(Field<Boolean> condition) {
+        return where(DSL.condition(condition));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Shifttotals where(SQL condition) {
+        return where(DSL.condition(condition));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Shifttotals where(@Stringly.SQL String condition) {
+        return where(DSL.condition(condition));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Shifttotals where(@Stringly.SQL String condition, Object... binds) {
+        return where(DSL.condition(condition, binds));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Shifttotals where(@Stringly.SQL String condition, QueryPart... parts) {
+        return where(DSL.condition(condition, parts));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Shifttotals whereExists(Select<?> select) {
+        return where(DSL.exists(select));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Shifttotals whereNotExists(Select<?> select) {
+        return where(DSL.notExists(select));
+    }
+}
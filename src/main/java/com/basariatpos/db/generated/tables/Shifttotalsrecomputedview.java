@@ -0,0 +1,266 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables;
+
+
+import com.basariatpos.db.generated.Public;
+import com.basariatpos.db.generated.tables.records.ShifttotalsrecomputedviewRecord;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.Name;
+import org.jooq.PlainSQL;
+import org.jooq.QueryPart;
+import org.jooq.SQL;
+import org.jooq.Schema;
+import org.jooq.Select;
+import org.jooq.Stringly;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.TableOptions;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.jooq.impl.TableImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class Shifttotalsrecomputedview extends TableImpl<ShifttotalsrecomputedviewRecord> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The reference instance of <code>public.shifttotalsrecomputedview</code>
+     */
+    public static final Shifttotalsrecomputedview SHIFTTOTALSRECOMPUTEDVIEW = new Shifttotalsrecomputedview();
+
+    /**
+     * The class holding records for this type
+     */
+    @Override
+    public Class<ShifttotalsrecomputedviewRecord> getRecordType() {
+        return ShifttotalsrecomputedviewRecord.class;
+    }
+
+    /**
+     * The column <code>public.shifttotalsrecomputedview.shift_id</code>.
+     */
+    public final TableField<ShifttotalsrecomputedviewRecord, Integer> SHIFT_ID = createField(DSL.name("shift_id"), SQLDataType.INTEGER, this, "");
+
+    /**
+     * The column
+     * <code>public.shifttotalsrecomputedview.total_cash_received</code>.
+     */
+    public final TableField<ShifttotalsrecomputedviewRecord, BigDecimal> TOTAL_CASH_RECEIVED = createField(DSL.name("total_cash_received"), SQLDataType.NUMERIC(12, 2), this, "");
+
+    /**
+     * The column
+     * <code>public.shifttotalsrecomputedview.total_bank_received</code>.
+     */
+    public final TableField<ShifttotalsrecomputedviewRecord, BigDecimal> TOTAL_BANK_RECEIVED = createField(DSL.name("total_bank_received"), SQLDataType.NUMERIC(12, 2), this, "");
+
+    /**
+     * The column
+     * <code>public.shifttotalsrecomputedview.total_cash_expenses</code>.
+     */
+    public final TableField<ShifttotalsrecomputedviewRecord, BigDecimal> TOTAL_CASH_EXPENSES = createField(DSL.name("total_cash_expenses"), SQLDataType.NUMERIC(12, 2), this, "");
+
+    /**
+     * The column
+     * <code>public.shifttotalsrecomputedview.total_sales_orders</code>.
+     */
+    public final TableField<ShifttotalsrecomputedviewRecord, Integer> TOTAL_SALES_ORDERS = createField(DSL.name("total_sales_orders"), SQLDataType.INTEGER, this, "");
+
+    /**
+     * The column <code>public.shifttotalsrecomputedview.total_discounts</code>.
+     */
+    public final TableField<ShifttotalsrecomputedviewRecord, BigDecimal> TOTAL_DISCOUNTS = createField(DSL.name("total_discounts"), SQLDataType.NUMERIC(12, 2), this, "");
+
+    private Shifttotalsrecomputedview(Name alias, Table<ShifttotalsrecomputedviewRecord> aliased) {
+        this(alias, aliased, (Field<?>[]) null, null);
+    }
+
+    private Shifttotalsrecomputedview(Name alias, Table<ShifttotalsrecomputedviewRecord> aliased, Field<?>[] parameters, Condition where) {
+        super(alias, null, aliased, parameters, DSL.comment(""), TableOptions.view("""
+        create view "shifttotalsrecomputedview" as  SELECT s.shift_id,
+         (COALESCE(pay.cash_received, (0)::numeric))::numeric(12,2) AS total_cash_received,
+         (COALESCE(pay.bank_received, (0)::numeric))::numeric(12,2) AS total_bank_received,
+         (COALESCE(exp.cash_expenses, (0)::numeric))::numeric(12,2) AS total_cash_expenses,
+         (COALESCE(ord.sales_orders, (0)::bigint))::integer AS total_sales_orders,
+         (COALESCE(ord.discounts, (0)::numeric))::numeric(12,2) AS total_discounts
+        FROM (((shifts s
+          LEFT JOIN ( SELECT payments.shift_id,
+                 sum(payments.amount) FILTER (WHERE ((payments.payment_method)::text = 'Cash'::text)) AS cash_received,
+                 sum(payments.amount) FILTER (WHERE ((payments.payment_method)::text = 'Bank Transaction'::text)) AS bank_received
+                FROM payments
+               GROUP BY payments.shift_id) pay ON ((pay.shift_id = s.shift_id)))
+          LEFT JOIN ( SELECT expenses.shift_id,
+                 sum(expenses.amount) AS cash_expenses
+                FROM expenses
+               WHERE ((expenses.payment_method)::text = 'Cash'::text)
+               GROUP BY expenses.shift_id) exp ON ((exp.shift_id = s.shift_id)))
+          LEFT JOIN ( SELECT salesorders.shift_id,
+                 count(*) AS sales_orders,
+                 sum(salesorders.discount_amount) AS discounts
+                FROM salesorders
+               GROUP BY salesorders.shift_id) ord ON ((ord.shift_id = s.shift_id)));
+        """), where);
+    }
+
+    /**
+     * Create an aliased <code>public.shifttotalsrecomputedview</code> table
+     * reference
+     */
+    public Shifttotalsrecomputedview(String alias) {
+        this(DSL.name(alias), SHIFTTOTALSRECOMPUTEDVIEW);
+    }
+
+    /**
+     * Create an aliased <code>public.shifttotalsrecomputedview</code> table
+     * reference
+     */
+    public Shifttotalsrecomputedview(Name alias) {
+        this(alias, SHIFTTOTALSRECOMPUTEDVIEW);
+    }
+
+    /**
+     * Create a <code>public.shifttotalsrecomputedview</code> table reference
+     */
+    public Shifttotalsrecomputedview() {
+        this(DSL.name("shifttotalsrecomputedview"), null);
+    }
+
+    @Override
+    public Schema getSchema() {
+        return aliased() ? null : Public.PUBLIC;
+    }
+
+    @Override
+    public Shifttotalsrecomputedview as(String alias) {
+        return new Shifttotalsrecomputedview(DSL.name(alias), this);
+    }
+
+    @Override
+    public Shifttotalsrecomputedview as(Name alias) {
+        return new Shifttotalsrecomputedview(alias, this);
+    }
+
+    @Override
+    public Shifttotalsrecomputedview as(Table<?> alias) {
+        return new Shifttotalsrecomputedview(alias.getQualifiedName(), this);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Shifttotalsrecomputedview rename(String name) {
+        return new Shifttotalsrecomputedview(DSL.name(name), null);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Shifttotalsrecomputedview rename(Name name) {
+        return new Shifttotalsrecomputedview(name, null);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Shifttotalsrecomputedview rename(Table<?> name) {
+        return new Shifttotalsrecomputedview(name.getQualifiedName(), null);
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Shifttotalsrecomputedview where(Condition condition) {
+        return new Shifttotalsrecomputedview(getQualifiedName(), aliased() ? this : null, null, condition);
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Shifttotalsrecomputedview where(Collection<? extends Condition> conditions) {
+        return where(DSL.and(conditions));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Shifttotalsrecomputedview where(Condition... conditions) {
+        return where(DSL.and(conditions));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Shifttotalsrecomputedview where(Field<Boolean> condition) {
+        return where(DSL.condition(condition));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Shifttotalsrecomputedview where(SQL condition) {
+        return where(DSL.condition(condition));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Shifttotalsrecomputedview where(@Stringly.SQL String condition) {
+        return where(DSL.condition(condition));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Shifttotalsrecomputedview where(@Stringly.SQL String condition, Object... binds) {
+        return where(DSL.condition(condition, binds));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Shifttotalsrecomputedview where(@Stringly.SQL String condition, QueryPart... parts) {
+        return where(DSL.condition(condition, parts));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Shifttotalsrecomputedview whereExists(Select<?> select) {
+        return where(DSL.exists(select));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Shifttotalsrecomputedview whereNotExists(Select<?> select) {
+        return where(DSL.notExists(select));
+    }
+}
@@ -0,0 +1,341 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables;
+
+
+import com.basariatpos.db.generated.Indexes;
+import com.basariatpos.db.generated.Keys;
+import com.basariatpos.db.generated.Public;
+import com.basariatpos.db.generated.tables.Inventoryitems.InventoryitemsPath;
+import com.basariatpos.db.generated.tables.Users.UsersPath;
+import com.basariatpos.db.generated.tables.records.StockreservationsRecord;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.jooq.Check;
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.ForeignKey;
+import org.jooq.Identity;
+import org.jooq.Index;
+import org.jooq.InverseForeignKey;
+import org.jooq.Name;
+import org.jooq.Path;
+import org.jooq.PlainSQL;
+import org.jooq.QueryPart;
+import org.jooq.Record;
+import org.jooq.SQL;
+import org.jooq.Schema;
+import org.jooq.Select;
+import org.jooq.Stringly;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.TableOptions;
+import org.jooq.UniqueKey;
+import org.jooq.impl.DSL;
+import org.jooq.impl.Internal;
+import org.jooq.impl.SQLDataType;
+import org.jooq.impl.TableImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class Stockreservations extends TableImpl<StockreservationsRecord> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The reference instance of <code>public.stockreservations</code>
+     */
+    public static final Stockreservations STOCKRESERVATIONS = new Stockreservations();
+
+    /**
+     * The class holding records for this type
+     */
+    @Override
+    public Class<StockreservationsRecord> getRecordType() {
+        return StockreservationsRecord.class;
+    }
+
+    /**
+     * The column <code>public.stockreservations.reservation_id</code>.
+     */
+    public final TableField<StockreservationsRecord, Long> RESERVATION_ID = createField(DSL.name("reservation_id"), SQLDataType.BIGINT.nullable(false).identity(true), this, "");
+
+    /**
+     * The column <code>public.stockreservations.inventory_item_id</code>.
+     */
+    public final TableField<StockreservationsRecord, Integer> INVENTORY_ITEM_ID = createField(DSL.name("inventory_item_id"), SQLDataType.INTEGER.nullable(false), this, "");
+
+    /**
+     * The column <code>public.stockreservations.quantity</code>.
+     */
+    public final TableField<StockreservationsRecord, Integer> QUANTITY = createField(DSL.name("quantity"), SQLDataType.INTEGER.nullable(false), this, "");
+
+    /**
+     * The column <code>public.stockreservations.sales_order_id</code>.
+     */
+    public final TableField<StockreservationsRecord, Integer> SALES_ORDER_ID = createField(DSL.name("sales_order_id"), SQLDataType.INTEGER, this, "");
+
+    /**
+     * The column <code>public.stockreservations.reserved_by_user_id</code>.
+     */
+    public final TableField<StockreservationsRecord, Integer> RESERVED_BY_USER_ID = createField(DSL.name("reserved_by_user_id"), SQLDataType.INTEGER.defaultValue(DSL.field(DSL.raw("get_current_app_user_id()"), SQLDataType.INTEGER)), this, "");
+
+    /**
+     * The column <code>public.stockreservations.expires_at</code>.
+     */
+    public final TableField<StockreservationsRecord, OffsetDateTime> EXPIRES_AT = createField(DSL.name("expires_at"), SQLDataType.TIMESTAMPWITHTIMEZONE(6), this, "");
+
+    /**
+     * The column <code>public.stockreservations.created_at</code>.
+     */
+    public final TableField<StockreservationsRecord, OffsetDateTime> CREATED_AT = createField(DSL.name("created_at"), SQLDataType.TIMESTAMPWITHTIMEZONE(6).defaultValue(DSL.field(DSL.raw("CURRENT_TIMESTAMP"), SQLDataType.TIMESTAMPWITHTIMEZONE)), this, "");
+
+    private Stockreservations(Name alias, Table<StockreservationsRecord> aliased) {
+        this(alias, aliased, (Field<?>[]) null, null);
+    }
+
+    private Stockreservations(Name alias, Table<StockreservationsRecord> aliased, Field<?>[] parameters, Condition where) {
+        super(alias, null, aliased, parameters, DSL.comment(""), TableOptions.table(), where);
+    }
+
+    /**
+     * Create an aliased <code>public.stockreservations</code> table reference
+     */
+    public Stockreservations(String alias) {
+        this(DSL.name(alias), STOCKRESERVATIONS);
+    }
+
+    /**
+     * Create an aliased <code>public.stockreservations</code> table reference
+     */
+    public Stockreservations(Name alias) {
+        this(alias, STOCKRESERVATIONS);
+    }
+
+    /**
+     * Create a <code>public.stockreservations</code> table reference
+     */
+    public Stockreservations() {
+        this(DSL.name("stockreservations"), null);
+    }
+
+    public <O extends Record> Stockreservations(Table<O> path, ForeignKey<O, StockreservationsRecord> childPath, InverseForeignKey<O, StockreservationsRecord> parentPath) {
+        super(path, childPath, parentPath, STOCKRESERVATIONS);
+    }
+
+    /**
+     * A subtype implementing {@link Path} for simplified path-based joins.
+     */
+    public static class StockreservationsPath extends Stockreservations implements Path<StockreservationsRecord> {
+        public <O extends Record> StockreservationsPath(Table<O> path, ForeignKey<O, StockreservationsRecord> childPath, InverseForeignKey<O, StockreservationsRecord> parentPath) {
+            super(path, childPath, parentPath);
+        }
+        private StockreservationsPath(Name alias, Table<StockreservationsRecord> aliased) {
+            super(alias, aliased);
+        }
+
+        @Override
+        public StockreservationsPath as(String alias) {
+            return new StockreservationsPath(DSL.name(alias), this);
+        }
+
+        @Override
+        public StockreservationsPath as(Name alias) {
+            return new StockreservationsPath(alias, this);
+        }
+
+        @Override
+        public StockreservationsPath as(Table<?> alias) {
+            return new StockreservationsPath(alias.getQualifiedName(), this);
+        }
+    }
+
+    @Override
+    public Schema getSchema() {
+        return aliased() ? null : Public.PUBLIC;
+    }
+
+    @Override
+    public List<Index> getIndexes() {
+        return Arrays.asList(Indexes.IDX_STOCKRESERVATIONS_EXPIRES_AT, Indexes.IDX_STOCKRESERVATIONS_INVENTORYITEMID, Indexes.IDX_STOCKRESERVATIONS_SALESORDERID);
+    }
+
+    @Override
+    public Identity<StockreservationsRecord, Long> getIdentity() {
+        return (Identity<StockreservationsRecord, Long>) super.getIdentity();
+    }
+
+    @Override
+    public UniqueKey<StockreservationsRecord> getPrimaryKey() {
+        return Keys.STOCKRESERVATIONS_PKEY;
+    }
+
+    @Override
+    public List<ForeignKey<StockreservationsRecord, ?>> getReferences() {
+        return Arrays.asList(Keys.STOCKRESERVATIONS__STOCKRESERVATIONS_INVENTORY_ITEM_ID_FKEY, Keys.STOCKRESERVATIONS__STOCKRESERVATIONS_RESERVED_BY_USER_ID_FKEY);
+    }
+
+    private transient InventoryitemsPath _inventoryitems;
+
+    /**
+     * Get the implicit join path to the <code>public.inventoryitems</code>
+     * table.
+     */
+    public InventoryitemsPath inventoryitems() {
+        if (_inventoryitems == null)
+            _inventoryitems = new InventoryitemsPath(this, Keys.STOCKRESERVATIONS__STOCKRESERVATIONS_INVENTORY_ITEM_ID_FKEY, null);
+
+        return _inventoryitems;
+    }
+
+    private transient UsersPath _users;
+
+    /**
+     * Get the implicit join path to the <code>public.users</code> table.
+     */
+    public UsersPath users() {
+        if (_users == null)
+            _users = new UsersPath(this, Keys.STOCKRESERVATIONS__STOCKRESERVATIONS_RESERVED_BY_USER_ID_FKEY, null);
+
+        return _users;
+    }
+
+    @Override
+    public List<Check<StockreservationsRecord>> getChecks() {
+        return Arrays.asList(
+            Internal.createCheck(this, DSL.name("stockreservations_check"), "(((expires_at IS NOT NULL) OR (sales_order_id IS NOT NULL)))", true),
+            Internal.createCheck(this, DSL.name("stockreservations_quantity_check"), "((quantity > 0))", true)
+        );
+    }
+
+    @Override
+    public Stockreservations as(String alias) {
+        return new Stockreservations(DSL.name(alias), this);
+    }
+
+    @Override
+    public Stockreservations as(Name alias) {
+        return new Stockreservations(alias, this);
+    }
+
+    @Override
+    public Stockreservations as(Table<?> alias) {
+        return new Stockreservations(alias.getQualifiedName(), this);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Stockreservations rename(String name) {
+        return new Stockreservations(DSL.name(name), null);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Stockreservations rename(Name name) {
+        return new Stockreservations(name, null);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Stockreservations rename(Table<?> name) {
+        return new Stockreservations(name.getQualifiedName(), null);
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Stockreservations where(Condition condition) {
+        return new Stockreservations(getQualifiedName(), aliased() ? this : null, null, condition);
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Stockreservations where(Collection<? extends Condition> conditions) {
+        return where(DSL.and(conditions));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Stockreservations where(Condition... conditions) {
+        return where(DSL.and(conditions));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Stockreservations where(Field<Boolean> condition) {
+        return where(DSL.condition(condition));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Stockreservations where(SQL condition) {
+        return where(DSL.condition(condition));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Stockreservations where(@Stringly.SQL String condition) {
+        return where(DSL.condition(condition));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Stockreservations where(@Stringly.SQL String condition, Object... binds) {
+        return where(DSL.condition(condition, binds));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Stockreservations where(@Stringly.SQL String condition, QueryPart... parts) {
+        return where(DSL.condition(condition, parts));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Stockreservations whereExists(Select<?> select) {
+        return where(DSL.exists(select));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Stockreservations whereNotExists(Select<?> select) {
+        return where(DSL.notExists(select));
+    }
+}
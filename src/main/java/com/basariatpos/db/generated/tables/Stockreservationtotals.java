@@ -0,0 +1,295 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables;
+
+
+import com.basariatpos.db.generated.Keys;
+import com.basariatpos.db.generated.Public;
+import com.basariatpos.db.generated.tables.Inventoryitems.InventoryitemsPath;
+import com.basariatpos.db.generated.tables.records.StockreservationtotalsRecord;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.jooq.Check;
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.ForeignKey;
+import org.jooq.InverseForeignKey;
+import org.jooq.Name;
+import org.jooq.Path;
+import org.jooq.PlainSQL;
+import org.jooq.QueryPart;
+import org.jooq.Record;
+import org.jooq.SQL;
+import org.jooq.Schema;
+import org.jooq.Select;
+import org.jooq.Stringly;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.TableOptions;
+import org.jooq.UniqueKey;
+import org.jooq.impl.DSL;
+import org.jooq.impl.Internal;
+import org.jooq.impl.SQLDataType;
+import org.jooq.impl.TableImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class Stockreservationtotals extends TableImpl<StockreservationtotalsRecord> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The reference instance of <code>public.stockreservationtotals</code>
+     */
+    public static final Stockreservationtotals STOCKRESERVATIONTOTALS = new Stockreservationtotals();
+
+    /**
+     * The class holding records for this type
+     */
+    @Override
+    public Class<StockreservationtotalsRecord> getRecordType() {
+        return StockreservationtotalsRecord.class;
+    }
+
+    /**
+     * The column <code>public.stockreservationtotals.inventory_item_id</code>.
+     */
+    public final TableField<StockreservationtotalsRecord, Integer> INVENTORY_ITEM_ID = createField(DSL.name("inventory_item_id"), SQLDataType.INTEGER.nullable(false), this, "");
+
+    /**
+     * The column <code>public.stockreservationtotals.quantity_reserved</code>.
+     */
+    public final TableField<StockreservationtotalsRecord, Integer> QUANTITY_RESERVED = createField(DSL.name("quantity_reserved"), SQLDataType.INTEGER.nullable(false).defaultValue(DSL.field(DSL.raw("0"), SQLDataType.INTEGER)), this, "");
+
+    /**
+     * The column <code>public.stockreservationtotals.version</code>.
+     */
+    public final TableField<StockreservationtotalsRecord, Long> VERSION = createField(DSL.name("version"), SQLDataType.BIGINT.nullable(false).defaultValue(DSL.field(DSL.raw("0"), SQLDataType.BIGINT)), this, "");
+
+    private Stockreservationtotals(Name alias, Table<StockreservationtotalsRecord> aliased) {
+        this(alias, aliased, (Field<?>[]) null, null);
+    }
+
+    private Stockreservationtotals(Name alias, Table<StockreservationtotalsRecord> aliased, Field<?>[] parameters, Condition where) {
+        super(alias, null, aliased, parameters, DSL.comment(""), TableOptions.table(), where);
+    }
+
+    /**
+     * Create an aliased <code>public.stockreservationtotals</code> table
+     * reference
+     */
+    public Stockreservationtotals(String alias) {
+        this(DSL.name(alias), STOCKRESERVATIONTOTALS);
+    }
+
+    /**
+     * Create an aliased <code>public.stockreservationtotals</code> table
+     * reference
+     */
+    public Stockreservationtotals(Name alias) {
+        this(alias, STOCKRESERVATIONTOTALS);
+    }
+
+    /**
+     * Create a <code>public.stockreservationtotals</code> table reference
+     */
+    public Stockreservationtotals() {
+        this(DSL.name("stockreservationtotals"), null);
+    }
+
+    public <O extends Record> Stockreservationtotals(Table<O> path, ForeignKey<O, StockreservationtotalsRecord> childPath, InverseForeignKey<O, StockreservationtotalsRecord> parentPath) {
+        super(path, childPath, parentPath, STOCKRESERVATIONTOTALS);
+    }
+
+    /**
+     * A subtype implementing {@link Path} for simplified path-based joins.
+     */
+    public static class StockreservationtotalsPath extends Stockreservationtotals implements Path<StockreservationtotalsRecord> {
+        public <O extends Record> StockreservationtotalsPath(Table<O> path, ForeignKey<O, StockreservationtotalsRecord> childPath, InverseForeignKey<O, StockreservationtotalsRecord> parentPath) {
+            super(path, childPath, parentPath);
+        }
+        private StockreservationtotalsPath(Name alias, Table<StockreservationtotalsRecord> aliased) {
+            super(alias, aliased);
+        }
+
+        @Override
+        public StockreservationtotalsPath as(String alias) {
+            return new StockreservationtotalsPath(DSL.name(alias), this);
+        }
+
+        @Override
+        public StockreservationtotalsPath as(Name alias) {
+            return new StockreservationtotalsPath(alias, this);
+        }
+
+        @Override
+        public StockreservationtotalsPath as(Table<?> alias) {
+            return new StockreservationtotalsPath(alias.getQualifiedName(), this);
+        }
+    }
+
+    @Override
+    public Schema getSchema() {
+        return aliased() ? null : Public.PUBLIC;
+    }
+
+    @Override
+    public UniqueKey<StockreservationtotalsRecord> getPrimaryKey() {
+        return Keys.STOCKRESERVATIONTOTALS_PKEY;
+    }
+
+    @Override
+    public List<ForeignKey<StockreservationtotalsRecord, ?>> getReferences() {
+        return Arrays.asList(Keys.STOCKRESERVATIONTOTALS__STOCKRESERVATIONTOTALS_INVENTORY_ITEM_ID_FKEY);
+    }
+
+    private transient InventoryitemsPath _inventoryitems;
+
+    /**
+     * Get the implicit join path to the <code>public.inventoryitems</code>
+     * table.
+     */
+    public InventoryitemsPath inventoryitems() {
+        if (_inventoryitems == null)
+            _inventoryitems = new InventoryitemsPath(this, Keys.STOCKRESERVATIONTOTALS__STOCKRESERVATIONTOTALS_INVENTORY_ITEM_ID_FKEY, null);
+
+        return _inventoryitems;
+    }
+
+    @Override
+    public List<Check<StockreservationtotalsRecord>> getChecks() {
+        return Arrays.asList(
+            Internal.createCheck(this, DSL.name("stockreservationtotals_quantity_reserved_check"), "((quantity_reserved >= 0))", true)
+        );
+    }
+
+    @Override
+    public Stockreservationtotals as(String alias) {
+        return new Stockreservationtotals(DSL.name(alias), this);
+    }
+
+    @Override
+    public Stockreservationtotals as(Name alias) {
+        return new Stockreservationtotals(alias, this);
+    }
+
+    @Override
+    public Stockreservationtotals as(Table<?> alias) {
+        return new Stockreservationtotals(alias.getQualifiedName(), this);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Stockreservationtotals rename(String name) {
+        return new Stockreservationtotals(DSL.name(name), null);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Stockreservationtotals rename(Name name) {
+        return new Stockreservationtotals(name, null);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Stockreservationtotals rename(Table<?> name) {
+        return new Stockreservationtotals(name.getQualifiedName(), null);
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Stockreservationtotals where(Condition condition) {
+        return new Stockreservationtotals(getQualifiedName(), aliased() ? this : null, null, condition);
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Stockreservationtotals where(Collection<? extends Condition> conditions) {
+        return where(DSL.and(conditions));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Stockreservationtotals where(Condition... conditions) {
+        return where(DSL.and(conditions));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Stockreservationtotals where(Field<Boolean> condition) {
+        return where(DSL.condition(condition));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Stockreservationtotals where(SQL condition) {
+        return where(DSL.condition(condition));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Stockreservationtotals where(@Stringly.SQL String condition) {
+        return where(DSL.condition(condition));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Stockreservationtotals where(@Stringly.SQL String condition, Object... binds) {
+        return where(DSL.condition(condition, binds));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    @PlainSQL
+    public Stockreservationtotals where(@Stringly.SQL String condition, QueryPart... parts) {
+        return where(DSL.condition(condition, parts));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Stockreservationtotals whereExists(Select<?> select) {
+        return where(DSL.exists(select));
+    }
+
+    /**
+     * Create an inline derived table from this table
+     */
+    @Override
+    public Stockreservationtotals whereNotExists(Select<?> select) {
+        return where(DSL.notExists(select));
+    }
+}
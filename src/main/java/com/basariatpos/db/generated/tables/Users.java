@@ -8,6 +8,8 @@ import com.basariatpos.db.generated.Keys;
 import com.basariatpos.db.generated.Public;
 import com.basariatpos.db.generated.tables.Appointments.AppointmentsPath;
 import com.basariatpos.db.generated.tables.Auditlog.AuditlogPath;
+import com.basariatpos.db.generated.tables.Dailyexpenserollup.DailyexpenserollupPath;
+import com.basariatpos.db.generated.tables.Dailysalesrollup.DailysalesrollupPath;
 import com.basariatpos.db.generated.tables.Expenses.ExpensesPath;
 import com.basariatpos.db.generated.tables.Opticaldiagnostics.OpticaldiagnosticsPath;
 import com.basariatpos.db.generated.tables.Patients.PatientsPath;
@@ -16,6 +18,7 @@ import com.basariatpos.db.generated.tables.Purchaseorders.PurchaseordersPath;
 import com.basariatpos.db.generated.tables.Salesorders.SalesordersPath;
 import com.basariatpos.db.generated.tables.Shiftpauselog.ShiftpauselogPath;
 import com.basariatpos.db.generated.tables.Shifts.ShiftsPath;
+import com.basariatpos.db.generated.tables.Stockreservations.StockreservationsPath;
 import com.basariatpos.db.generated.tables.Userpermissions.UserpermissionsPath;
 import com.basariatpos.db.generated.tables.records.UsersRecord;
 
@@ -216,6 +219,32 @@ public class Users extends TableImpl<UsersRecord> {
         return _auditlog;
     }
 
+    private transient DailyexpenserollupPath _dailyexpenserollup;
+
+    /**
+     * Get the implicit to-many join path to the
+     * <code>public.dailyexpenserollup</code> table
+     */
+    public DailyexpenserollupPath dailyexpenserollup() {
+        if (_dailyexpenserollup == null)
+            _dailyexpenserollup = new DailyexpenserollupPath(this, null, Keys.DAILYEXPENSEROLLUP__DAILYEXPENSEROLLUP_USER_ID_FKEY.getInverseKey());
+
+        return _dailyexpenserollup;
+    }
+
+    private transient DailysalesrollupPath _dailysalesrollup;
+
+    /**
+     * Get the implicit to-many join path to the
+     * <code>public.dailysalesrollup</code> table
+     */
+    public DailysalesrollupPath dailysalesrollup() {
+        if (_dailysalesrollup == null)
+            _dailysalesrollup = new DailysalesrollupPath(this, null, Keys.DAILYSALESROLLUP__DAILYSALESROLLUP_USER_ID_FKEY.getInverseKey());
+
+        return _dailysalesrollup;
+    }
+
     private transient ExpensesPath _expenses;
 
     /**
@@ -320,6 +349,19 @@ public class Users extends TableImpl<UsersRecord> {
         return _shifts;
     }
 
+    private transient StockreservationsPath _stockreservations;
+
+    /**
+     * Get the implicit to-many join path to the
+     * <code>public.stockreservations</code> table
+     */
+    public StockreservationsPath stockreservations() {
+        if (_stockreservations == null)
+            _stockreservations = new StockreservationsPath(this, null, Keys.STOCKRESERVATIONS__STOCKRESERVATIONS_RESERVED_BY_USER_ID_FKEY.getInverseKey());
+
+        return _stockreservations;
+    }
+
     private transient UserpermissionsPath _userpermissions;
 
     /**
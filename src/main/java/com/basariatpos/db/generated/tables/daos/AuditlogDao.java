@@ -9,9 +9,10 @@ import com.basariatpos.db.generated.tables.records.AuditlogRecord;
 
 import java.time.OffsetDateTime;
 import java.util.List;
-import java.util.Optional;
 
 import org.jooq.Configuration;
+import org.jooq.JSONB;
+import org.jooq.Record2;
 import org.jooq.impl.DAOImpl;
 
 
@@ -19,7 +20,7 @@ import org.jooq.impl.DAOImpl;
  * This class is generated by jOOQ.
  */
 @SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
-public class AuditlogDao extends DAOImpl<AuditlogRecord, com.basariatpos.db.generated.tables.pojos.Auditlog, Long> {
+public class AuditlogDao extends DAOImpl<AuditlogRecord, com.basariatpos.db.generated.tables.pojos.Auditlog, Record2<OffsetDateTime, Long>> {
 
     /**
      * Create a new AuditlogDao without any configuration
@@ -36,8 +37,8 @@ public class AuditlogDao extends DAOImpl<AuditlogRecord, com.basariatpos.db.gene
     }
 
     @Override
-    public Long getId(com.basariatpos.db.generated.tables.pojos.Auditlog object) {
-        return object.getAuditLogId();
+    public Record2<OffsetDateTime, Long> getId(com.basariatpos.db.generated.tables.pojos.Auditlog object) {
+        return compositeKeyRecord(object.getActionTimestamp(), object.getAuditLogId());
     }
 
     /**
@@ -55,20 +56,6 @@ public class AuditlogDao extends DAOImpl<AuditlogRecord, com.basariatpos.db.gene
         return fetch(Auditlog.AUDITLOG.AUDIT_LOG_ID, values);
     }
 
-    /**
-     * Fetch a unique record that has <code>audit_log_id = value</code>
-     */
-    public com.basariatpos.db.generated.tables.pojos.Auditlog fetchOneByAuditLogId(Long value) {
-        return fetchOne(Auditlog.AUDITLOG.AUDIT_LOG_ID, value);
-    }
-
-    /**
-     * Fetch a unique record that has <code>audit_log_id = value</code>
-     */
-    public Optional<com.basariatpos.db.generated.tables.pojos.Auditlog> fetchOptionalByAuditLogId(Long value) {
-        return fetchOptional(Auditlog.AUDITLOG.AUDIT_LOG_ID, value);
-    }
-
     /**
      * Fetch records that have <code>table_name BETWEEN lowerInclusive AND
      * upperInclusive</code>
@@ -118,14 +105,14 @@ public class AuditlogDao extends DAOImpl<AuditlogRecord, com.basariatpos.db.gene
      * Fetch records that have <code>old_value BETWEEN lowerInclusive AND
      * upperInclusive</code>
      */
-    public List<com.basariatpos.db.generated.tables.pojos.Auditlog> fetchRangeOfOldValue(String lowerInclusive, String upperInclusive) {
+    public List<com.basariatpos.db.generated.tables.pojos.Auditlog> fetchRangeOfOldValue(JSONB lowerInclusive, JSONB upperInclusive) {
         return fetchRange(Auditlog.AUDITLOG.OLD_VALUE, lowerInclusive, upperInclusive);
     }
 
     /**
      * Fetch records that have <code>old_value IN (values)</code>
      */
-    public List<com.basariatpos.db.generated.tables.pojos.Auditlog> fetchByOldValue(String... values) {
+    public List<com.basariatpos.db.generated.tables.pojos.Auditlog> fetchByOldValue(JSONB... values) {
         return fetch(Auditlog.AUDITLOG.OLD_VALUE, values);
     }
 
@@ -133,14 +120,14 @@ public class AuditlogDao extends DAOImpl<AuditlogRecord, com.basariatpos.db.gene
      * Fetch records that have <code>new_value BETWEEN lowerInclusive AND
      * upperInclusive</code>
      */
-    public List<com.basariatpos.db.generated.tables.pojos.Auditlog> fetchRangeOfNewValue(String lowerInclusive, String upperInclusive) {
+    public List<com.basariatpos.db.generated.tables.pojos.Auditlog> fetchRangeOfNewValue(JSONB lowerInclusive, JSONB upperInclusive) {
         return fetchRange(Auditlog.AUDITLOG.NEW_VALUE, lowerInclusive, upperInclusive);
     }
 
     /**
      * Fetch records that have <code>new_value IN (values)</code>
      */
-    public List<com.basariatpos.db.generated.tables.pojos.Auditlog> fetchByNewValue(String... values) {
+    public List<com.basariatpos.db.generated.tables.pojos.Auditlog> fetchByNewValue(JSONB... values) {
         return fetch(Auditlog.AUDITLOG.NEW_VALUE, values);
     }
 
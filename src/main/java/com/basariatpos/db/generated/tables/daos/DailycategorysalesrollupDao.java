@@ -0,0 +1,118 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables.daos;
+
+
+import com.basariatpos.db.generated.tables.Dailycategorysalesrollup;
+import com.basariatpos.db.generated.tables.records.DailycategorysalesrollupRecord;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.jooq.Configuration;
+import org.jooq.Record2;
+import org.jooq.impl.DAOImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class DailycategorysalesrollupDao extends DAOImpl<DailycategorysalesrollupRecord, com.basariatpos.db.generated.tables.pojos.Dailycategorysalesrollup, Record2<LocalDate, Integer>> {
+
+    /**
+     * Create a new DailycategorysalesrollupDao without any configuration
+     */
+    public DailycategorysalesrollupDao() {
+        super(Dailycategorysalesrollup.DAILYCATEGORYSALESROLLUP, com.basariatpos.db.generated.tables.pojos.Dailycategorysalesrollup.class);
+    }
+
+    /**
+     * Create a new DailycategorysalesrollupDao with an attached configuration
+     */
+    public DailycategorysalesrollupDao(Configuration configuration) {
+        super(Dailycategorysalesrollup.DAILYCATEGORYSALESROLLUP, com.basariatpos.db.generated.tables.pojos.Dailycategorysalesrollup.class, configuration);
+    }
+
+    @Override
+    public Record2<LocalDate, Integer> getId(com.basariatpos.db.generated.tables.pojos.Dailycategorysalesrollup object) {
+        return compositeKeyRecord(object.getRollupDate(), object.getCategoryId());
+    }
+
+    /**
+     * Fetch records that have <code>rollup_date BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailycategorysalesrollup> fetchRangeOfRollupDate(LocalDate lowerInclusive, LocalDate upperInclusive) {
+        return fetchRange(Dailycategorysalesrollup.DAILYCATEGORYSALESROLLUP.ROLLUP_DATE, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>rollup_date IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailycategorysalesrollup> fetchByRollupDate(LocalDate... values) {
+        return fetch(Dailycategorysalesrollup.DAILYCATEGORYSALESROLLUP.ROLLUP_DATE, values);
+    }
+
+    /**
+     * Fetch records that have <code>category_id BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailycategorysalesrollup> fetchRangeOfCategoryId(Integer lowerInclusive, Integer upperInclusive) {
+        return fetchRange(Dailycategorysalesrollup.DAILYCATEGORYSALESROLLUP.CATEGORY_ID, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>category_id IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailycategorysalesrollup> fetchByCategoryId(Integer... values) {
+        return fetch(Dailycategorysalesrollup.DAILYCATEGORYSALESROLLUP.CATEGORY_ID, values);
+    }
+
+    /**
+     * Fetch records that have <code>quantity_sold BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailycategorysalesrollup> fetchRangeOfQuantitySold(Integer lowerInclusive, Integer upperInclusive) {
+        return fetchRange(Dailycategorysalesrollup.DAILYCATEGORYSALESROLLUP.QUANTITY_SOLD, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>quantity_sold IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailycategorysalesrollup> fetchByQuantitySold(Integer... values) {
+        return fetch(Dailycategorysalesrollup.DAILYCATEGORYSALESROLLUP.QUANTITY_SOLD, values);
+    }
+
+    /**
+     * Fetch records that have <code>sales_amount BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailycategorysalesrollup> fetchRangeOfSalesAmount(BigDecimal lowerInclusive, BigDecimal upperInclusive) {
+        return fetchRange(Dailycategorysalesrollup.DAILYCATEGORYSALESROLLUP.SALES_AMOUNT, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>sales_amount IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailycategorysalesrollup> fetchBySalesAmount(BigDecimal... values) {
+        return fetch(Dailycategorysalesrollup.DAILYCATEGORYSALESROLLUP.SALES_AMOUNT, values);
+    }
+
+    /**
+     * Fetch records that have <code>cogs BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailycategorysalesrollup> fetchRangeOfCogs(BigDecimal lowerInclusive, BigDecimal upperInclusive) {
+        return fetchRange(Dailycategorysalesrollup.DAILYCATEGORYSALESROLLUP.COGS, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>cogs IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailycategorysalesrollup> fetchByCogs(BigDecimal... values) {
+        return fetch(Dailycategorysalesrollup.DAILYCATEGORYSALESROLLUP.COGS, values);
+    }
+}
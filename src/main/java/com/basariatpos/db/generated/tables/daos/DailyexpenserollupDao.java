@@ -0,0 +1,133 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables.daos;
+
+
+import com.basariatpos.db.generated.tables.Dailyexpenserollup;
+import com.basariatpos.db.generated.tables.records.DailyexpenserollupRecord;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.jooq.Configuration;
+import org.jooq.Record3;
+import org.jooq.impl.DAOImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class DailyexpenserollupDao extends DAOImpl<DailyexpenserollupRecord, com.basariatpos.db.generated.tables.pojos.Dailyexpenserollup, Record3<LocalDate, Integer, Integer>> {
+
+    /**
+     * Create a new DailyexpenserollupDao without any configuration
+     */
+    public DailyexpenserollupDao() {
+        super(Dailyexpenserollup.DAILYEXPENSEROLLUP, com.basariatpos.db.generated.tables.pojos.Dailyexpenserollup.class);
+    }
+
+    /**
+     * Create a new DailyexpenserollupDao with an attached configuration
+     */
+    public DailyexpenserollupDao(Configuration configuration) {
+        super(Dailyexpenserollup.DAILYEXPENSEROLLUP, com.basariatpos.db.generated.tables.pojos.Dailyexpenserollup.class, configuration);
+    }
+
+    @Override
+    public Record3<LocalDate, Integer, Integer> getId(com.basariatpos.db.generated.tables.pojos.Dailyexpenserollup object) {
+        return compositeKeyRecord(object.getRollupDate(), object.getExpenseCategoryId(), object.getUserId());
+    }
+
+    /**
+     * Fetch records that have <code>rollup_date BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailyexpenserollup> fetchRangeOfRollupDate(LocalDate lowerInclusive, LocalDate upperInclusive) {
+        return fetchRange(Dailyexpenserollup.DAILYEXPENSEROLLUP.ROLLUP_DATE, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>rollup_date IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailyexpenserollup> fetchByRollupDate(LocalDate... values) {
+        return fetch(Dailyexpenserollup.DAILYEXPENSEROLLUP.ROLLUP_DATE, values);
+    }
+
+    /**
+     * Fetch records that have <code>expense_category_id BETWEEN lowerInclusive
+     * AND upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailyexpenserollup> fetchRangeOfExpenseCategoryId(Integer lowerInclusive, Integer upperInclusive) {
+        return fetchRange(Dailyexpenserollup.DAILYEXPENSEROLLUP.EXPENSE_CATEGORY_ID, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>expense_category_id IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailyexpenserollup> fetchByExpenseCategoryId(Integer... values) {
+        return fetch(Dailyexpenserollup.DAILYEXPENSEROLLUP.EXPENSE_CATEGORY_ID, values);
+    }
+
+    /**
+     * Fetch records that have <code>user_id BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailyexpenserollup> fetchRangeOfUserId(Integer lowerInclusive, Integer upperInclusive) {
+        return fetchRange(Dailyexpenserollup.DAILYEXPENSEROLLUP.USER_ID, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>user_id IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailyexpenserollup> fetchByUserId(Integer... values) {
+        return fetch(Dailyexpenserollup.DAILYEXPENSEROLLUP.USER_ID, values);
+    }
+
+    /**
+     * Fetch records that have <code>expense_count BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailyexpenserollup> fetchRangeOfExpenseCount(Integer lowerInclusive, Integer upperInclusive) {
+        return fetchRange(Dailyexpenserollup.DAILYEXPENSEROLLUP.EXPENSE_COUNT, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>expense_count IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailyexpenserollup> fetchByExpenseCount(Integer... values) {
+        return fetch(Dailyexpenserollup.DAILYEXPENSEROLLUP.EXPENSE_COUNT, values);
+    }
+
+    /**
+     * Fetch records that have <code>cash_amount BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailyexpenserollup> fetchRangeOfCashAmount(BigDecimal lowerInclusive, BigDecimal upperInclusive) {
+        return fetchRange(Dailyexpenserollup.DAILYEXPENSEROLLUP.CASH_AMOUNT, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>cash_amount IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailyexpenserollup> fetchByCashAmount(BigDecimal... values) {
+        return fetch(Dailyexpenserollup.DAILYEXPENSEROLLUP.CASH_AMOUNT, values);
+    }
+
+    /**
+     * Fetch records that have <code>bank_amount BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailyexpenserollup> fetchRangeOfBankAmount(BigDecimal lowerInclusive, BigDecimal upperInclusive) {
+        return fetchRange(Dailyexpenserollup.DAILYEXPENSEROLLUP.BANK_AMOUNT, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>bank_amount IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailyexpenserollup> fetchByBankAmount(BigDecimal... values) {
+        return fetch(Dailyexpenserollup.DAILYEXPENSEROLLUP.BANK_AMOUNT, values);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables.daos;
+
+
+import com.basariatpos.db.generated.tables.Dailyrollupqueue;
+import com.basariatpos.db.generated.tables.records.DailyrollupqueueRecord;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.jooq.Configuration;
+import org.jooq.impl.DAOImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class DailyrollupqueueDao extends DAOImpl<DailyrollupqueueRecord, com.basariatpos.db.generated.tables.pojos.Dailyrollupqueue, Long> {
+
+    /**
+     * Create a new DailyrollupqueueDao without any configuration
+     */
+    public DailyrollupqueueDao() {
+        super(Dailyrollupqueue.DAILYROLLUPQUEUE, com.basariatpos.db.generated.tables.pojos.Dailyrollupqueue.class);
+    }
+
+    /**
+     * Create a new DailyrollupqueueDao with an attached configuration
+     */
+    public DailyrollupqueueDao(Configuration configuration) {
+        super(Dailyrollupqueue.DAILYROLLUPQUEUE, com.basariatpos.db.generated.tables.pojos.Dailyrollupqueue.class, configuration);
+    }
+
+    @Override
+    public Long getId(com.basariatpos.db.generated.tables.pojos.Dailyrollupqueue object) {
+        return object.getQueueId();
+    }
+
+    /**
+     * Fetch records that have <code>queue_id BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailyrollupqueue> fetchRangeOfQueueId(Long lowerInclusive, Long upperInclusive) {
+        return fetchRange(Dailyrollupqueue.DAILYROLLUPQUEUE.QUEUE_ID, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>queue_id IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailyrollupqueue> fetchByQueueId(Long... values) {
+        return fetch(Dailyrollupqueue.DAILYROLLUPQUEUE.QUEUE_ID, values);
+    }
+
+    /**
+     * Fetch a unique record that has <code>queue_id = value</code>
+     */
+    public com.basariatpos.db.generated.tables.pojos.Dailyrollupqueue fetchOneByQueueId(Long value) {
+        return fetchOne(Dailyrollupqueue.DAILYROLLUPQUEUE.QUEUE_ID, value);
+    }
+
+    /**
+     * Fetch a unique record that has <code>queue_id = value</code>
+     */
+    public Optional<com.basariatpos.db.generated.tables.pojos.Dailyrollupqueue> fetchOptionalByQueueId(Long value) {
+        return fetchOptional(Dailyrollupqueue.DAILYROLLUPQUEUE.QUEUE_ID, value);
+    }
+
+    /**
+     * Fetch records that have <code>rollup_date BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailyrollupqueue> fetchRangeOfRollupDate(LocalDate lowerInclusive, LocalDate upperInclusive) {
+        return fetchRange(Dailyrollupqueue.DAILYROLLUPQUEUE.ROLLUP_DATE, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>rollup_date IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailyrollupqueue> fetchByRollupDate(LocalDate... values) {
+        return fetch(Dailyrollupqueue.DAILYROLLUPQUEUE.ROLLUP_DATE, values);
+    }
+
+    /**
+     * Fetch records that have <code>queued_at BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailyrollupqueue> fetchRangeOfQueuedAt(OffsetDateTime lowerInclusive, OffsetDateTime upperInclusive) {
+        return fetchRange(Dailyrollupqueue.DAILYROLLUPQUEUE.QUEUED_AT, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>queued_at IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailyrollupqueue> fetchByQueuedAt(OffsetDateTime... values) {
+        return fetch(Dailyrollupqueue.DAILYROLLUPQUEUE.QUEUED_AT, values);
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables.daos;
+
+
+import com.basariatpos.db.generated.tables.Dailysalesrollup;
+import com.basariatpos.db.generated.tables.records.DailysalesrollupRecord;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.jooq.Configuration;
+import org.jooq.Record2;
+import org.jooq.impl.DAOImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class DailysalesrollupDao extends DAOImpl<DailysalesrollupRecord, com.basariatpos.db.generated.tables.pojos.Dailysalesrollup, Record2<LocalDate, Integer>> {
+
+    /**
+     * Create a new DailysalesrollupDao without any configuration
+     */
+    public DailysalesrollupDao() {
+        super(Dailysalesrollup.DAILYSALESROLLUP, com.basariatpos.db.generated.tables.pojos.Dailysalesrollup.class);
+    }
+
+    /**
+     * Create a new DailysalesrollupDao with an attached configuration
+     */
+    public DailysalesrollupDao(Configuration configuration) {
+        super(Dailysalesrollup.DAILYSALESROLLUP, com.basariatpos.db.generated.tables.pojos.Dailysalesrollup.class, configuration);
+    }
+
+    @Override
+    public Record2<LocalDate, Integer> getId(com.basariatpos.db.generated.tables.pojos.Dailysalesrollup object) {
+        return compositeKeyRecord(object.getRollupDate(), object.getUserId());
+    }
+
+    /**
+     * Fetch records that have <code>rollup_date BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailysalesrollup> fetchRangeOfRollupDate(LocalDate lowerInclusive, LocalDate upperInclusive) {
+        return fetchRange(Dailysalesrollup.DAILYSALESROLLUP.ROLLUP_DATE, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>rollup_date IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailysalesrollup> fetchByRollupDate(LocalDate... values) {
+        return fetch(Dailysalesrollup.DAILYSALESROLLUP.ROLLUP_DATE, values);
+    }
+
+    /**
+     * Fetch records that have <code>user_id BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailysalesrollup> fetchRangeOfUserId(Integer lowerInclusive, Integer upperInclusive) {
+        return fetchRange(Dailysalesrollup.DAILYSALESROLLUP.USER_ID, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>user_id IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailysalesrollup> fetchByUserId(Integer... values) {
+        return fetch(Dailysalesrollup.DAILYSALESROLLUP.USER_ID, values);
+    }
+
+    /**
+     * Fetch records that have <code>sales_orders BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailysalesrollup> fetchRangeOfSalesOrders(Integer lowerInclusive, Integer upperInclusive) {
+        return fetchRange(Dailysalesrollup.DAILYSALESROLLUP.SALES_ORDERS, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>sales_orders IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailysalesrollup> fetchBySalesOrders(Integer... values) {
+        return fetch(Dailysalesrollup.DAILYSALESROLLUP.SALES_ORDERS, values);
+    }
+
+    /**
+     * Fetch records that have <code>gross_sales BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailysalesrollup> fetchRangeOfGrossSales(BigDecimal lowerInclusive, BigDecimal upperInclusive) {
+        return fetchRange(Dailysalesrollup.DAILYSALESROLLUP.GROSS_SALES, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>gross_sales IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailysalesrollup> fetchByGrossSales(BigDecimal... values) {
+        return fetch(Dailysalesrollup.DAILYSALESROLLUP.GROSS_SALES, values);
+    }
+
+    /**
+     * Fetch records that have <code>discounts BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailysalesrollup> fetchRangeOfDiscounts(BigDecimal lowerInclusive, BigDecimal upperInclusive) {
+        return fetchRange(Dailysalesrollup.DAILYSALESROLLUP.DISCOUNTS, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>discounts IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailysalesrollup> fetchByDiscounts(BigDecimal... values) {
+        return fetch(Dailysalesrollup.DAILYSALESROLLUP.DISCOUNTS, values);
+    }
+
+    /**
+     * Fetch records that have <code>cash_received BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailysalesrollup> fetchRangeOfCashReceived(BigDecimal lowerInclusive, BigDecimal upperInclusive) {
+        return fetchRange(Dailysalesrollup.DAILYSALESROLLUP.CASH_RECEIVED, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>cash_received IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailysalesrollup> fetchByCashReceived(BigDecimal... values) {
+        return fetch(Dailysalesrollup.DAILYSALESROLLUP.CASH_RECEIVED, values);
+    }
+
+    /**
+     * Fetch records that have <code>bank_received BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailysalesrollup> fetchRangeOfBankReceived(BigDecimal lowerInclusive, BigDecimal upperInclusive) {
+        return fetchRange(Dailysalesrollup.DAILYSALESROLLUP.BANK_RECEIVED, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>bank_received IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailysalesrollup> fetchByBankReceived(BigDecimal... values) {
+        return fetch(Dailysalesrollup.DAILYSALESROLLUP.BANK_RECEIVED, values);
+    }
+
+    /**
+     * Fetch records that have <code>revenue BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailysalesrollup> fetchRangeOfRevenue(BigDecimal lowerInclusive, BigDecimal upperInclusive) {
+        return fetchRange(Dailysalesrollup.DAILYSALESROLLUP.REVENUE, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>revenue IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Dailysalesrollup> fetchByRevenue(BigDecimal... values) {
+        return fetch(Dailysalesrollup.DAILYSALESROLLUP.REVENUE, values);
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables.daos;
+
+
+import com.basariatpos.db.generated.tables.Inventorycostlayers;
+import com.basariatpos.db.generated.tables.records.InventorycostlayersRecord;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.jooq.Configuration;
+import org.jooq.impl.DAOImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class InventorycostlayersDao extends DAOImpl<InventorycostlayersRecord, com.basariatpos.db.generated.tables.pojos.Inventorycostlayers, Long> {
+
+    /**
+     * Create a new InventorycostlayersDao without any configuration
+     */
+    public InventorycostlayersDao() {
+        super(Inventorycostlayers.INVENTORYCOSTLAYERS, com.basariatpos.db.generated.tables.pojos.Inventorycostlayers.class);
+    }
+
+    /**
+     * Create a new InventorycostlayersDao with an attached configuration
+     */
+    public InventorycostlayersDao(Configuration configuration) {
+        super(Inventorycostlayers.INVENTORYCOSTLAYERS, com.basariatpos.db.generated.tables.pojos.Inventorycostlayers.class, configuration);
+    }
+
+    @Override
+    public Long getId(com.basariatpos.db.generated.tables.pojos.Inventorycostlayers object) {
+        return object.getCostLayerId();
+    }
+
+    /**
+     * Fetch records that have <code>cost_layer_id BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Inventorycostlayers> fetchRangeOfCostLayerId(Long lowerInclusive, Long upperInclusive) {
+        return fetchRange(Inventorycostlayers.INVENTORYCOSTLAYERS.COST_LAYER_ID, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>cost_layer_id IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Inventorycostlayers> fetchByCostLayerId(Long... values) {
+        return fetch(Inventorycostlayers.INVENTORYCOSTLAYERS.COST_LAYER_ID, values);
+    }
+
+    /**
+     * Fetch a unique record that has <code>cost_layer_id = value</code>
+     */
+    public com.basariatpos.db.generated.tables.pojos.Inventorycostlayers fetchOneByCostLayerId(Long value) {
+        return fetchOne(Inventorycostlayers.INVENTORYCOSTLAYERS.COST_LAYER_ID, value);
+    }
+
+    /**
+     * Fetch a unique record that has <code>cost_layer_id = value</code>
+     */
+    public Optional<com.basariatpos.db.generated.tables.pojos.Inventorycostlayers> fetchOptionalByCostLayerId(Long value) {
+        return fetchOptional(Inventorycostlayers.INVENTORYCOSTLAYERS.COST_LAYER_ID, value);
+    }
+
+    /**
+     * Fetch records that have <code>inventory_item_id BETWEEN lowerInclusive
+     * AND upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Inventorycostlayers> fetchRangeOfInventoryItemId(Integer lowerInclusive, Integer upperInclusive) {
+        return fetchRange(Inventorycostlayers.INVENTORYCOSTLAYERS.INVENTORY_ITEM_ID, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>inventory_item_id IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Inventorycostlayers> fetchByInventoryItemId(Integer... values) {
+        return fetch(Inventorycostlayers.INVENTORYCOSTLAYERS.INVENTORY_ITEM_ID, values);
+    }
+
+    /**
+     * Fetch records that have <code>source BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Inventorycostlayers> fetchRangeOfSource(String lowerInclusive, String upperInclusive) {
+        return fetchRange(Inventorycostlayers.INVENTORYCOSTLAYERS.SOURCE, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>source IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Inventorycostlayers> fetchBySource(String... values) {
+        return fetch(Inventorycostlayers.INVENTORYCOSTLAYERS.SOURCE, values);
+    }
+
+    /**
+     * Fetch records that have <code>po_item_id BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Inventorycostlayers> fetchRangeOfPoItemId(Integer lowerInclusive, Integer upperInclusive) {
+        return fetchRange(Inventorycostlayers.INVENTORYCOSTLAYERS.PO_ITEM_ID, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>po_item_id IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Inventorycostlayers> fetchByPoItemId(Integer... values) {
+        return fetch(Inventorycostlayers.INVENTORYCOSTLAYERS.PO_ITEM_ID, values);
+    }
+
+    /**
+     * Fetch records that have <code>unit_cost BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Inventorycostlayers> fetchRangeOfUnitCost(BigDecimal lowerInclusive, BigDecimal upperInclusive) {
+        return fetchRange(Inventorycostlayers.INVENTORYCOSTLAYERS.UNIT_COST, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>unit_cost IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Inventorycostlayers> fetchByUnitCost(BigDecimal... values) {
+        return fetch(Inventorycostlayers.INVENTORYCOSTLAYERS.UNIT_COST, values);
+    }
+
+    /**
+     * Fetch records that have <code>quantity_received BETWEEN lowerInclusive
+     * AND upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Inventorycostlayers> fetchRangeOfQuantityReceived(Integer lowerInclusive, Integer upperInclusive) {
+        return fetchRange(Inventorycostlayers.INVENTORYCOSTLAYERS.QUANTITY_RECEIVED, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>quantity_received IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Inventorycostlayers> fetchByQuantityReceived(Integer... values) {
+        return fetch(Inventorycostlayers.INVENTORYCOSTLAYERS.QUANTITY_RECEIVED, values);
+    }
+
+    /**
+     * Fetch records that have <code>quantity_remaining BETWEEN lowerInclusive
+     * AND upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Inventorycostlayers> fetchRangeOfQuantityRemaining(Integer lowerInclusive, Integer upperInclusive) {
+        return fetchRange(Inventorycostlayers.INVENTORYCOSTLAYERS.QUANTITY_REMAINING, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>quantity_remaining IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Inventorycostlayers> fetchByQuantityRemaining(Integer... values) {
+        return fetch(Inventorycostlayers.INVENTORYCOSTLAYERS.QUANTITY_REMAINING, values);
+    }
+
+    /**
+     * Fetch records that have <code>created_at BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Inventorycostlayers> fetchRangeOfCreatedAt(OffsetDateTime lowerInclusive, OffsetDateTime upperInclusive) {
+        return fetchRange(Inventorycostlayers.INVENTORYCOSTLAYERS.CREATED_AT, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>created_at IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Inventorycostlayers> fetchByCreatedAt(OffsetDateTime... values) {
+        return fetch(Inventorycostlayers.INVENTORYCOSTLAYERS.CREATED_AT, values);
+    }
+}
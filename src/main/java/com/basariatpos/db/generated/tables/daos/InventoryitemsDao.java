@@ -265,4 +265,19 @@ public class InventoryitemsDao extends DAOImpl<InventoryitemsRecord, com.basaria
     public List<com.basariatpos.db.generated.tables.pojos.Inventoryitems> fetchByUpdatedAt(OffsetDateTime... values) {
         return fetch(Inventoryitems.INVENTORYITEMS.UPDATED_AT, values);
     }
+
+    /**
+     * Fetch records that have <code>change_xid BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Inventoryitems> fetchRangeOfChangeXid(Long lowerInclusive, Long upperInclusive) {
+        return fetchRange(Inventoryitems.INVENTORYITEMS.CHANGE_XID, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>change_xid IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Inventoryitems> fetchByChangeXid(Long... values) {
+        return fetch(Inventoryitems.INVENTORYITEMS.CHANGE_XID, values);
+    }
 }
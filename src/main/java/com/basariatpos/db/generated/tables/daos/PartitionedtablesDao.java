@@ -0,0 +1,130 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables.daos;
+
+
+import com.basariatpos.db.generated.tables.Partitionedtables;
+import com.basariatpos.db.generated.tables.records.PartitionedtablesRecord;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.jooq.Configuration;
+import org.jooq.impl.DAOImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class PartitionedtablesDao extends DAOImpl<PartitionedtablesRecord, com.basariatpos.db.generated.tables.pojos.Partitionedtables, String> {
+
+    /**
+     * Create a new PartitionedtablesDao without any configuration
+     */
+    public PartitionedtablesDao() {
+        super(Partitionedtables.PARTITIONEDTABLES, com.basariatpos.db.generated.tables.pojos.Partitionedtables.class);
+    }
+
+    /**
+     * Create a new PartitionedtablesDao with an attached configuration
+     */
+    public PartitionedtablesDao(Configuration configuration) {
+        super(Partitionedtables.PARTITIONEDTABLES, com.basariatpos.db.generated.tables.pojos.Partitionedtables.class, configuration);
+    }
+
+    @Override
+    public String getId(com.basariatpos.db.generated.tables.pojos.Partitionedtables object) {
+        return object.getTableName();
+    }
+
+    /**
+     * Fetch records that have <code>table_name BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Partitionedtables> fetchRangeOfTableName(String lowerInclusive, String upperInclusive) {
+        return fetchRange(Partitionedtables.PARTITIONEDTABLES.TABLE_NAME, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>table_name IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Partitionedtables> fetchByTableName(String... values) {
+        return fetch(Partitionedtables.PARTITIONEDTABLES.TABLE_NAME, values);
+    }
+
+    /**
+     * Fetch a unique record that has <code>table_name = value</code>
+     */
+    public com.basariatpos.db.generated.tables.pojos.Partitionedtables fetchOneByTableName(String value) {
+        return fetchOne(Partitionedtables.PARTITIONEDTABLES.TABLE_NAME, value);
+    }
+
+    /**
+     * Fetch a unique record that has <code>table_name = value</code>
+     */
+    public Optional<com.basariatpos.db.generated.tables.pojos.Partitionedtables> fetchOptionalByTableName(String value) {
+        return fetchOptional(Partitionedtables.PARTITIONEDTABLES.TABLE_NAME, value);
+    }
+
+    /**
+     * Fetch records that have <code>partition_column BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Partitionedtables> fetchRangeOfPartitionColumn(String lowerInclusive, String upperInclusive) {
+        return fetchRange(Partitionedtables.PARTITIONEDTABLES.PARTITION_COLUMN, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>partition_column IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Partitionedtables> fetchByPartitionColumn(String... values) {
+        return fetch(Partitionedtables.PARTITIONEDTABLES.PARTITION_COLUMN, values);
+    }
+
+    /**
+     * Fetch records that have <code>partition_interval BETWEEN lowerInclusive
+     * AND upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Partitionedtables> fetchRangeOfPartitionInterval(String lowerInclusive, String upperInclusive) {
+        return fetchRange(Partitionedtables.PARTITIONEDTABLES.PARTITION_INTERVAL, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>partition_interval IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Partitionedtables> fetchByPartitionInterval(String... values) {
+        return fetch(Partitionedtables.PARTITIONEDTABLES.PARTITION_INTERVAL, values);
+    }
+
+    /**
+     * Fetch records that have <code>periods_ahead BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Partitionedtables> fetchRangeOfPeriodsAhead(Integer lowerInclusive, Integer upperInclusive) {
+        return fetchRange(Partitionedtables.PARTITIONEDTABLES.PERIODS_AHEAD, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>periods_ahead IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Partitionedtables> fetchByPeriodsAhead(Integer... values) {
+        return fetch(Partitionedtables.PARTITIONEDTABLES.PERIODS_AHEAD, values);
+    }
+
+    /**
+     * Fetch records that have <code>archive_with_fiscal_year BETWEEN
+     * lowerInclusive AND upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Partitionedtables> fetchRangeOfArchiveWithFiscalYear(Boolean lowerInclusive, Boolean upperInclusive) {
+        return fetchRange(Partitionedtables.PARTITIONEDTABLES.ARCHIVE_WITH_FISCAL_YEAR, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>archive_with_fiscal_year IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Partitionedtables> fetchByArchiveWithFiscalYear(Boolean... values) {
+        return fetch(Partitionedtables.PARTITIONEDTABLES.ARCHIVE_WITH_FISCAL_YEAR, values);
+    }
+}
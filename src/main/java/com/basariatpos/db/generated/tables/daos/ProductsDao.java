@@ -232,4 +232,19 @@ public class ProductsDao extends DAOImpl<ProductsRecord, com.basariatpos.db.gene
     public List<com.basariatpos.db.generated.tables.pojos.Products> fetchByUpdatedAt(OffsetDateTime... values) {
         return fetch(Products.PRODUCTS.UPDATED_AT, values);
     }
+
+    /**
+     * Fetch records that have <code>change_xid BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Products> fetchRangeOfChangeXid(Long lowerInclusive, Long upperInclusive) {
+        return fetchRange(Products.PRODUCTS.CHANGE_XID, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>change_xid IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Products> fetchByChangeXid(Long... values) {
+        return fetch(Products.PRODUCTS.CHANGE_XID, values);
+    }
 }
@@ -220,4 +220,19 @@ public class SalesorderitemsDao extends DAOImpl<SalesorderitemsRecord, com.basar
     public List<com.basariatpos.db.generated.tables.pojos.Salesorderitems> fetchByIsRestockedOnAbandonment(Boolean... values) {
         return fetch(Salesorderitems.SALESORDERITEMS.IS_RESTOCKED_ON_ABANDONMENT, values);
     }
+
+    /**
+     * Fetch records that have <code>cost_amount BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Salesorderitems> fetchRangeOfCostAmount(BigDecimal lowerInclusive, BigDecimal upperInclusive) {
+        return fetchRange(Salesorderitems.SALESORDERITEMS.COST_AMOUNT, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>cost_amount IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Salesorderitems> fetchByCostAmount(BigDecimal... values) {
+        return fetch(Salesorderitems.SALESORDERITEMS.COST_AMOUNT, values);
+    }
 }
@@ -235,22 +235,6 @@ public class SalesordersDao extends DAOImpl<SalesordersRecord, com.basariatpos.d
         return fetch(Salesorders.SALESORDERS.DELIVERY_APPOINTMENT_ID, values);
     }
 
-    /**
-     * Fetch a unique record that has <code>delivery_appointment_id =
-     * value</code>
-     */
-    public com.basariatpos.db.generated.tables.pojos.Salesorders fetchOneByDeliveryAppointmentId(Integer value) {
-        return fetchOne(Salesorders.SALESORDERS.DELIVERY_APPOINTMENT_ID, value);
-    }
-
-    /**
-     * Fetch a unique record that has <code>delivery_appointment_id =
-     * value</code>
-     */
-    public Optional<com.basariatpos.db.generated.tables.pojos.Salesorders> fetchOptionalByDeliveryAppointmentId(Integer value) {
-        return fetchOptional(Salesorders.SALESORDERS.DELIVERY_APPOINTMENT_ID, value);
-    }
-
     /**
      * Fetch records that have <code>remarks BETWEEN lowerInclusive AND
      * upperInclusive</code>
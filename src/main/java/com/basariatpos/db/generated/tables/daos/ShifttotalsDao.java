@@ -0,0 +1,162 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables.daos;
+
+
+import com.basariatpos.db.generated.tables.Shifttotals;
+import com.basariatpos.db.generated.tables.records.ShifttotalsRecord;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.jooq.Configuration;
+import org.jooq.impl.DAOImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class ShifttotalsDao extends DAOImpl<ShifttotalsRecord, com.basariatpos.db.generated.tables.pojos.Shifttotals, Integer> {
+
+    /**
+     * Create a new ShifttotalsDao without any configuration
+     */
+    public ShifttotalsDao() {
+        super(Shifttotals.SHIFTTOTALS, com.basariatpos.db.generated.tables.pojos.Shifttotals.class);
+    }
+
+    /**
+     * Create a new ShifttotalsDao with an attached configuration
+     */
+    public ShifttotalsDao(Configuration configuration) {
+        super(Shifttotals.SHIFTTOTALS, com.basariatpos.db.generated.tables.pojos.Shifttotals.class, configuration);
+    }
+
+    @Override
+    public Integer getId(com.basariatpos.db.generated.tables.pojos.Shifttotals object) {
+        return object.getShiftId();
+    }
+
+    /**
+     * Fetch records that have <code>shift_id BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Shifttotals> fetchRangeOfShiftId(Integer lowerInclusive, Integer upperInclusive) {
+        return fetchRange(Shifttotals.SHIFTTOTALS.SHIFT_ID, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>shift_id IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Shifttotals> fetchByShiftId(Integer... values) {
+        return fetch(Shifttotals.SHIFTTOTALS.SHIFT_ID, values);
+    }
+
+    /**
+     * Fetch a unique record that has <code>shift_id = value</code>
+     */
+    public com.basariatpos.db.generated.tables.pojos.Shifttotals fetchOneByShiftId(Integer value) {
+        return fetchOne(Shifttotals.SHIFTTOTALS.SHIFT_ID, value);
+    }
+
+    /**
+     * Fetch a unique record that has <code>shift_id = value</code>
+     */
+    public Optional<com.basariatpos.db.generated.tables.pojos.Shifttotals> fetchOptionalByShiftId(Integer value) {
+        return fetchOptional(Shifttotals.SHIFTTOTALS.SHIFT_ID, value);
+    }
+
+    /**
+     * Fetch records that have <code>total_cash_received BETWEEN lowerInclusive
+     * AND upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Shifttotals> fetchRangeOfTotalCashReceived(BigDecimal lowerInclusive, BigDecimal upperInclusive) {
+        return fetchRange(Shifttotals.SHIFTTOTALS.TOTAL_CASH_RECEIVED, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>total_cash_received IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Shifttotals> fetchByTotalCashReceived(BigDecimal... values) {
+        return fetch(Shifttotals.SHIFTTOTALS.TOTAL_CASH_RECEIVED, values);
+    }
+
+    /**
+     * Fetch records that have <code>total_bank_received BETWEEN lowerInclusive
+     * AND upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Shifttotals> fetchRangeOfTotalBankReceived(BigDecimal lowerInclusive, BigDecimal upperInclusive) {
+        return fetchRange(Shifttotals.SHIFTTOTALS.TOTAL_BANK_RECEIVED, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>total_bank_received IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Shifttotals> fetchByTotalBankReceived(BigDecimal... values) {
+        return fetch(Shifttotals.SHIFTTOTALS.TOTAL_BANK_RECEIVED, values);
+    }
+
+    /**
+     * Fetch records that have <code>total_cash_expenses BETWEEN lowerInclusive
+     * AND upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Shifttotals> fetchRangeOfTotalCashExpenses(BigDecimal lowerInclusive, BigDecimal upperInclusive) {
+        return fetchRange(Shifttotals.SHIFTTOTALS.TOTAL_CASH_EXPENSES, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>total_cash_expenses IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Shifttotals> fetchByTotalCashExpenses(BigDecimal... values) {
+        return fetch(Shifttotals.SHIFTTOTALS.TOTAL_CASH_EXPENSES, values);
+    }
+
+    /**
+     * Fetch records that have <code>total_sales_orders BETWEEN lowerInclusive
+     * AND upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Shifttotals> fetchRangeOfTotalSalesOrders(Integer lowerInclusive, Integer upperInclusive) {
+        return fetchRange(Shifttotals.SHIFTTOTALS.TOTAL_SALES_ORDERS, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>total_sales_orders IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Shifttotals> fetchByTotalSalesOrders(Integer... values) {
+        return fetch(Shifttotals.SHIFTTOTALS.TOTAL_SALES_ORDERS, values);
+    }
+
+    /**
+     * Fetch records that have <code>total_discounts BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Shifttotals> fetchRangeOfTotalDiscounts(BigDecimal lowerInclusive, BigDecimal upperInclusive) {
+        return fetchRange(Shifttotals.SHIFTTOTALS.TOTAL_DISCOUNTS, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>total_discounts IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Shifttotals> fetchByTotalDiscounts(BigDecimal... values) {
+        return fetch(Shifttotals.SHIFTTOTALS.TOTAL_DISCOUNTS, values);
+    }
+
+    /**
+     * Fetch records that have <code>updated_at BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Shifttotals> fetchRangeOfUpdatedAt(OffsetDateTime lowerInclusive, OffsetDateTime upperInclusive) {
+        return fetchRange(Shifttotals.SHIFTTOTALS.UPDATED_AT, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>updated_at IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Shifttotals> fetchByUpdatedAt(OffsetDateTime... values) {
+        return fetch(Shifttotals.SHIFTTOTALS.UPDATED_AT, values);
+    }
+}
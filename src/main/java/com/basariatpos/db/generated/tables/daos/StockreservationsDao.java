@@ -0,0 +1,161 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables.daos;
+
+
+import com.basariatpos.db.generated.tables.Stockreservations;
+import com.basariatpos.db.generated.tables.records.StockreservationsRecord;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.jooq.Configuration;
+import org.jooq.impl.DAOImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class StockreservationsDao extends DAOImpl<StockreservationsRecord, com.basariatpos.db.generated.tables.pojos.Stockreservations, Long> {
+
+    /**
+     * Create a new StockreservationsDao without any configuration
+     */
+    public StockreservationsDao() {
+        super(Stockreservations.STOCKRESERVATIONS, com.basariatpos.db.generated.tables.pojos.Stockreservations.class);
+    }
+
+    /**
+     * Create a new StockreservationsDao with an attached configuration
+     */
+    public StockreservationsDao(Configuration configuration) {
+        super(Stockreservations.STOCKRESERVATIONS, com.basariatpos.db.generated.tables.pojos.Stockreservations.class, configuration);
+    }
+
+    @Override
+    public Long getId(com.basariatpos.db.generated.tables.pojos.Stockreservations object) {
+        return object.getReservationId();
+    }
+
+    /**
+     * Fetch records that have <code>reservation_id BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Stockreservations> fetchRangeOfReservationId(Long lowerInclusive, Long upperInclusive) {
+        return fetchRange(Stockreservations.STOCKRESERVATIONS.RESERVATION_ID, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>reservation_id IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Stockreservations> fetchByReservationId(Long... values) {
+        return fetch(Stockreservations.STOCKRESERVATIONS.RESERVATION_ID, values);
+    }
+
+    /**
+     * Fetch a unique record that has <code>reservation_id = value</code>
+     */
+    public com.basariatpos.db.generated.tables.pojos.Stockreservations fetchOneByReservationId(Long value) {
+        return fetchOne(Stockreservations.STOCKRESERVATIONS.RESERVATION_ID, value);
+    }
+
+    /**
+     * Fetch a unique record that has <code>reservation_id = value</code>
+     */
+    public Optional<com.basariatpos.db.generated.tables.pojos.Stockreservations> fetchOptionalByReservationId(Long value) {
+        return fetchOptional(Stockreservations.STOCKRESERVATIONS.RESERVATION_ID, value);
+    }
+
+    /**
+     * Fetch records that have <code>inventory_item_id BETWEEN lowerInclusive
+     * AND upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Stockreservations> fetchRangeOfInventoryItemId(Integer lowerInclusive, Integer upperInclusive) {
+        return fetchRange(Stockreservations.STOCKRESERVATIONS.INVENTORY_ITEM_ID, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>inventory_item_id IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Stockreservations> fetchByInventoryItemId(Integer... values) {
+        return fetch(Stockreservations.STOCKRESERVATIONS.INVENTORY_ITEM_ID, values);
+    }
+
+    /**
+     * Fetch records that have <code>quantity BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Stockreservations> fetchRangeOfQuantity(Integer lowerInclusive, Integer upperInclusive) {
+        return fetchRange(Stockreservations.STOCKRESERVATIONS.QUANTITY, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>quantity IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Stockreservations> fetchByQuantity(Integer... values) {
+        return fetch(Stockreservations.STOCKRESERVATIONS.QUANTITY, values);
+    }
+
+    /**
+     * Fetch records that have <code>sales_order_id BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Stockreservations> fetchRangeOfSalesOrderId(Integer lowerInclusive, Integer upperInclusive) {
+        return fetchRange(Stockreservations.STOCKRESERVATIONS.SALES_ORDER_ID, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>sales_order_id IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Stockreservations> fetchBySalesOrderId(Integer... values) {
+        return fetch(Stockreservations.STOCKRESERVATIONS.SALES_ORDER_ID, values);
+    }
+
+    /**
+     * Fetch records that have <code>reserved_by_user_id BETWEEN lowerInclusive
+     * AND upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Stockreservations> fetchRangeOfReservedByUserId(Integer lowerInclusive, Integer upperInclusive) {
+        return fetchRange(Stockreservations.STOCKRESERVATIONS.RESERVED_BY_USER_ID, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>reserved_by_user_id IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Stockreservations> fetchByReservedByUserId(Integer... values) {
+        return fetch(Stockreservations.STOCKRESERVATIONS.RESERVED_BY_USER_ID, values);
+    }
+
+    /**
+     * Fetch records that have <code>expires_at BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Stockreservations> fetchRangeOfExpiresAt(OffsetDateTime lowerInclusive, OffsetDateTime upperInclusive) {
+        return fetchRange(Stockreservations.STOCKRESERVATIONS.EXPIRES_AT, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>expires_at IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Stockreservations> fetchByExpiresAt(OffsetDateTime... values) {
+        return fetch(Stockreservations.STOCKRESERVATIONS.EXPIRES_AT, values);
+    }
+
+    /**
+     * Fetch records that have <code>created_at BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Stockreservations> fetchRangeOfCreatedAt(OffsetDateTime lowerInclusive, OffsetDateTime upperInclusive) {
+        return fetchRange(Stockreservations.STOCKRESERVATIONS.CREATED_AT, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>created_at IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Stockreservations> fetchByCreatedAt(OffsetDateTime... values) {
+        return fetch(Stockreservations.STOCKRESERVATIONS.CREATED_AT, values);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables.daos;
+
+
+import com.basariatpos.db.generated.tables.Stockreservationtotals;
+import com.basariatpos.db.generated.tables.records.StockreservationtotalsRecord;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.jooq.Configuration;
+import org.jooq.impl.DAOImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class StockreservationtotalsDao extends DAOImpl<StockreservationtotalsRecord, com.basariatpos.db.generated.tables.pojos.Stockreservationtotals, Integer> {
+
+    /**
+     * Create a new StockreservationtotalsDao without any configuration
+     */
+    public StockreservationtotalsDao() {
+        super(Stockreservationtotals.STOCKRESERVATIONTOTALS, com.basariatpos.db.generated.tables.pojos.Stockreservationtotals.class);
+    }
+
+    /**
+     * Create a new StockreservationtotalsDao with an attached configuration
+     */
+    public StockreservationtotalsDao(Configuration configuration) {
+        super(Stockreservationtotals.STOCKRESERVATIONTOTALS, com.basariatpos.db.generated.tables.pojos.Stockreservationtotals.class, configuration);
+    }
+
+    @Override
+    public Integer getId(com.basariatpos.db.generated.tables.pojos.Stockreservationtotals object) {
+        return object.getInventoryItemId();
+    }
+
+    /**
+     * Fetch records that have <code>inventory_item_id BETWEEN lowerInclusive
+     * AND upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Stockreservationtotals> fetchRangeOfInventoryItemId(Integer lowerInclusive, Integer upperInclusive) {
+        return fetchRange(Stockreservationtotals.STOCKRESERVATIONTOTALS.INVENTORY_ITEM_ID, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>inventory_item_id IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Stockreservationtotals> fetchByInventoryItemId(Integer... values) {
+        return fetch(Stockreservationtotals.STOCKRESERVATIONTOTALS.INVENTORY_ITEM_ID, values);
+    }
+
+    /**
+     * Fetch a unique record that has <code>inventory_item_id = value</code>
+     */
+    public com.basariatpos.db.generated.tables.pojos.Stockreservationtotals fetchOneByInventoryItemId(Integer value) {
+        return fetchOne(Stockreservationtotals.STOCKRESERVATIONTOTALS.INVENTORY_ITEM_ID, value);
+    }
+
+    /**
+     * Fetch a unique record that has <code>inventory_item_id = value</code>
+     */
+    public Optional<com.basariatpos.db.generated.tables.pojos.Stockreservationtotals> fetchOptionalByInventoryItemId(Integer value) {
+        return fetchOptional(Stockreservationtotals.STOCKRESERVATIONTOTALS.INVENTORY_ITEM_ID, value);
+    }
+
+    /**
+     * Fetch records that have <code>quantity_reserved BETWEEN lowerInclusive
+     * AND upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Stockreservationtotals> fetchRangeOfQuantityReserved(Integer lowerInclusive, Integer upperInclusive) {
+        return fetchRange(Stockreservationtotals.STOCKRESERVATIONTOTALS.QUANTITY_RESERVED, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>quantity_reserved IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Stockreservationtotals> fetchByQuantityReserved(Integer... values) {
+        return fetch(Stockreservationtotals.STOCKRESERVATIONTOTALS.QUANTITY_RESERVED, values);
+    }
+
+    /**
+     * Fetch records that have <code>version BETWEEN lowerInclusive AND
+     * upperInclusive</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Stockreservationtotals> fetchRangeOfVersion(Long lowerInclusive, Long upperInclusive) {
+        return fetchRange(Stockreservationtotals.STOCKRESERVATIONTOTALS.VERSION, lowerInclusive, upperInclusive);
+    }
+
+    /**
+     * Fetch records that have <code>version IN (values)</code>
+     */
+    public List<com.basariatpos.db.generated.tables.pojos.Stockreservationtotals> fetchByVersion(Long... values) {
+        return fetch(Stockreservationtotals.STOCKRESERVATIONTOTALS.VERSION, values);
+    }
+}
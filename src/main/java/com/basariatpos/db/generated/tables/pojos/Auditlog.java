@@ -7,6 +7,8 @@ package com.basariatpos.db.generated.tables.pojos;
 import java.io.Serializable;
 import java.time.OffsetDateTime;
 
+import org.jooq.JSONB;
+
 
 /**
  * This class is generated by jOOQ.
@@ -20,8 +22,8 @@ public class Auditlog implements Serializable {
     private String tableName;
     private String recordPk;
     private String columnName;
-    private String oldValue;
-    private String newValue;
+    private JSONB oldValue;
+    private JSONB newValue;
     private String actionType;
     private OffsetDateTime actionTimestamp;
     private Integer userId;
@@ -47,8 +49,8 @@ public class Auditlog implements Serializable {
         String tableName,
         String recordPk,
         String columnName,
-        String oldValue,
-        String newValue,
+        JSONB oldValue,
+        JSONB newValue,
         String actionType,
         OffsetDateTime actionTimestamp,
         Integer userId,
@@ -125,28 +127,28 @@ public class Auditlog implements Serializable {
     /**
      * Getter for <code>public.auditlog.old_value</code>.
      */
-    public String getOldValue() {
+    public JSONB getOldValue() {
         return this.oldValue;
     }
 
     /**
      * Setter for <code>public.auditlog.old_value</code>.
      */
-    public void setOldValue(String oldValue) {
+    public void setOldValue(JSONB oldValue) {
         this.oldValue = oldValue;
     }
 
     /**
      * Getter for <code>public.auditlog.new_value</code>.
      */
-    public String getNewValue() {
+    public JSONB getNewValue() {
         return this.newValue;
     }
 
     /**
      * Setter for <code>public.auditlog.new_value</code>.
      */
-    public void setNewValue(String newValue) {
+    public void setNewValue(JSONB newValue) {
         this.newValue = newValue;
     }
 
@@ -0,0 +1,187 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables.pojos;
+
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class Dailycategorysalesrollup implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private LocalDate rollupDate;
+    private Integer categoryId;
+    private Integer quantitySold;
+    private BigDecimal salesAmount;
+    private BigDecimal cogs;
+
+    public Dailycategorysalesrollup() {}
+
+    public Dailycategorysalesrollup(Dailycategorysalesrollup value) {
+        this.rollupDate = value.rollupDate;
+        this.categoryId = value.categoryId;
+        this.quantitySold = value.quantitySold;
+        this.salesAmount = value.salesAmount;
+        this.cogs = value.cogs;
+    }
+
+    public Dailycategorysalesrollup(
+        LocalDate rollupDate,
+        Integer categoryId,
+        Integer quantitySold,
+        BigDecimal salesAmount,
+        BigDecimal cogs
+    ) {
+        this.rollupDate = rollupDate;
+        this.categoryId = categoryId;
+        this.quantitySold = quantitySold;
+        this.salesAmount = salesAmount;
+        this.cogs = cogs;
+    }
+
+    /**
+     * Getter for <code>public.dailycategorysalesrollup.rollup_date</code>.
+     */
+    public LocalDate getRollupDate() {
+        return this.rollupDate;
+    }
+
+    /**
+     * Setter for <code>public.dailycategorysalesrollup.rollup_date</code>.
+     */
+    public void setRollupDate(LocalDate rollupDate) {
+        this.rollupDate = rollupDate;
+    }
+
+    /**
+     * Getter for <code>public.dailycategorysalesrollup.category_id</code>.
+     */
+    public Integer getCategoryId() {
+        return this.categoryId;
+    }
+
+    /**
+     * Setter for <code>public.dailycategorysalesrollup.category_id</code>.
+     */
+    public void setCategoryId(Integer categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    /**
+     * Getter for <code>public.dailycategorysalesrollup.quantity_sold</code>.
+     */
+    public Integer getQuantitySold() {
+        return this.quantitySold;
+    }
+
+    /**
+     * Setter for <code>public.dailycategorysalesrollup.quantity_sold</code>.
+     */
+    public void setQuantitySold(Integer quantitySold) {
+        this.quantitySold = quantitySold;
+    }
+
+    /**
+     * Getter for <code>public.dailycategorysalesrollup.sales_amount</code>.
+     */
+    public BigDecimal getSalesAmount() {
+        return this.salesAmount;
+    }
+
+    /**
+     * Setter for <code>public.dailycategorysalesrollup.sales_amount</code>.
+     */
+    public void setSalesAmount(BigDecimal salesAmount) {
+        this.salesAmount = salesAmount;
+    }
+
+    /**
+     * Getter for <code>public.dailycategorysalesrollup.cogs</code>.
+     */
+    public BigDecimal getCogs() {
+        return this.cogs;
+    }
+
+    /**
+     * Setter for <code>public.dailycategorysalesrollup.cogs</code>.
+     */
+    public void setCogs(BigDecimal cogs) {
+        this.cogs = cogs;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        final Dailycategorysalesrollup other = (Dailycategorysalesrollup) obj;
+        if (this.rollupDate == null) {
+            if (other.rollupDate != null)
+                return false;
+        }
+        else if (!this.rollupDate.equals(other.rollupDate))
+            return false;
+        if (this.categoryId == null) {
+            if (other.categoryId != null)
+                return false;
+        }
+        else if (!this.categoryId.equals(other.categoryId))
+            return false;
+        if (this.quantitySold == null) {
+            if (other.quantitySold != null)
+                return false;
+        }
+        else if (!this.quantitySold.equals(other.quantitySold))
+            return false;
+        if (this.salesAmount == null) {
+            if (other.salesAmount != null)
+                return false;
+        }
+        else if (!this.salesAmount.equals(other.salesAmount))
+            return false;
+        if (this.cogs == null) {
+            if (other.cogs != null)
+                return false;
+        }
+        else if (!this.cogs.equals(other.cogs))
+            return false;
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((this.rollupDate == null) ? 0 : this.rollupDate.hashCode());
+        result = prime * result + ((this.categoryId == null) ? 0 : this.categoryId.hashCode());
+        result = prime * result + ((this.quantitySold == null) ? 0 : this.quantitySold.hashCode());
+        result = prime * result + ((this.salesAmount == null) ? 0 : this.salesAmount.hashCode());
+        result = prime * result + ((this.cogs == null) ? 0 : this.cogs.hashCode());
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Dailycategorysalesrollup (");
+
+        sb.append(rollupDate);
+        sb.append(", ").append(categoryId);
+        sb.append(", ").append(quantitySold);
+        sb.append(", ").append(salesAmount);
+        sb.append(", ").append(cogs);
+
+        sb.append(")");
+        return sb.toString();
+    }
+}
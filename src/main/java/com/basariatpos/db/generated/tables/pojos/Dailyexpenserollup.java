@@ -0,0 +1,213 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables.pojos;
+
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class Dailyexpenserollup implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private LocalDate rollupDate;
+    private Integer expenseCategoryId;
+    private Integer userId;
+    private Integer expenseCount;
+    private BigDecimal cashAmount;
+    private BigDecimal bankAmount;
+
+    public Dailyexpenserollup() {}
+
+    public Dailyexpenserollup(Dailyexpenserollup value) {
+        this.rollupDate = value.rollupDate;
+        this.expenseCategoryId = value.expenseCategoryId;
+        this.userId = value.userId;
+        this.expenseCount = value.expenseCount;
+        this.cashAmount = value.cashAmount;
+        this.bankAmount = value.bankAmount;
+    }
+
+    public Dailyexpenserollup(
+        LocalDate rollupDate,
+        Integer expenseCategoryId,
+        Integer userId,
+        Integer expenseCount,
+        BigDecimal cashAmount,
+        BigDecimal bankAmount
+    ) {
+        this.rollupDate = rollupDate;
+        this.expenseCategoryId = expenseCategoryId;
+        this.userId = userId;
+        this.expenseCount = expenseCount;
+        this.cashAmount = cashAmount;
+        this.bankAmount = bankAmount;
+    }
+
+    /**
+     * Getter for <code>public.dailyexpenserollup.rollup_date</code>.
+     */
+    public LocalDate getRollupDate() {
+        return this.rollupDate;
+    }
+
+    /**
+     * Setter for <code>public.dailyexpenserollup.rollup_date</code>.
+     */
+    public void setRollupDate(LocalDate rollupDate) {
+        this.rollupDate = rollupDate;
+    }
+
+    /**
+     * Getter for <code>public.dailyexpenserollup.expense_category_id</code>.
+     */
+    public Integer getExpenseCategoryId() {
+        return this.expenseCategoryId;
+    }
+
+    /**
+     * Setter for <code>public.dailyexpenserollup.expense_category_id</code>.
+     */
+    public void setExpenseCategoryId(Integer expenseCategoryId) {
+        this.expenseCategoryId = expenseCategoryId;
+    }
+
+    /**
+     * Getter for <code>public.dailyexpenserollup.user_id</code>.
+     */
+    public Integer getUserId() {
+        return this.userId;
+    }
+
+    /**
+     * Setter for <code>public.dailyexpenserollup.user_id</code>.
+     */
+    public void setUserId(Integer userId) {
+        this.userId = userId;
+    }
+
+    /**
+     * Getter for <code>public.dailyexpenserollup.expense_count</code>.
+     */
+    public Integer getExpenseCount() {
+        return this.expenseCount;
+    }
+
+    /**
+     * Setter for <code>public.dailyexpenserollup.expense_count</code>.
+     */
+    public void setExpenseCount(Integer expenseCount) {
+        this.expenseCount = expenseCount;
+    }
+
+    /**
+     * Getter for <code>public.dailyexpenserollup.cash_amount</code>.
+     */
+    public BigDecimal getCashAmount() {
+        return this.cashAmount;
+    }
+
+    /**
+     * Setter for <code>public.dailyexpenserollup.cash_amount</code>.
+     */
+    public void setCashAmount(BigDecimal cashAmount) {
+        this.cashAmount = cashAmount;
+    }
+
+    /**
+     * Getter for <code>public.dailyexpenserollup.bank_amount</code>.
+     */
+    public BigDecimal getBankAmount() {
+        return this.bankAmount;
+    }
+
+    /**
+     * Setter for <code>public.dailyexpenserollup.bank_amount</code>.
+     */
+    public void setBankAmount(BigDecimal bankAmount) {
+        this.bankAmount = bankAmount;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        final Dailyexpenserollup other = (Dailyexpenserollup) obj;
+        if (this.rollupDate == null) {
+            if (other.rollupDate != null)
+                return false;
+        }
+        else if (!this.rollupDate.equals(other.rollupDate))
+            return false;
+        if (this.expenseCategoryId == null) {
+            if (other.expenseCategoryId != null)
+                return false;
+        }
+        else if (!this.expenseCategoryId.equals(other.expenseCategoryId))
+            return false;
+        if (this.userId == null) {
+            if (other.userId != null)
+                return false;
+        }
+        else if (!this.userId.equals(other.userId))
+            return false;
+        if (this.expenseCount == null) {
+            if (other.expenseCount != null)
+                return false;
+        }
+        else if (!this.expenseCount.equals(other.expenseCount))
+            return false;
+        if (this.cashAmount == null) {
+            if (other.cashAmount != null)
+                return false;
+        }
+        else if (!this.cashAmount.equals(other.cashAmount))
+            return false;
+        if (this.bankAmount == null) {
+            if (other.bankAmount != null)
+                return false;
+        }
+        else if (!this.bankAmount.equals(other.bankAmount))
+            return false;
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((this.rollupDate == null) ? 0 : this.rollupDate.hashCode());
+        result = prime * result + ((this.expenseCategoryId == null) ? 0 : this.expenseCategoryId.hashCode());
+        result = prime * result + ((this.userId == null) ? 0 : this.userId.hashCode());
+        result = prime * result + ((this.expenseCount == null) ? 0 : this.expenseCount.hashCode());
+        result = prime * result + ((this.cashAmount == null) ? 0 : this.cashAmount.hashCode());
+        result = prime * result + ((this.bankAmount == null) ? 0 : this.bankAmount.hashCode());
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Dailyexpenserollup (");
+
+        sb.append(rollupDate);
+        sb.append(", ").append(expenseCategoryId);
+        sb.append(", ").append(userId);
+        sb.append(", ").append(expenseCount);
+        sb.append(", ").append(cashAmount);
+        sb.append(", ").append(bankAmount);
+
+        sb.append(")");
+        return sb.toString();
+    }
+}
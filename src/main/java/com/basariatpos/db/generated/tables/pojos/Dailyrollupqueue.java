@@ -0,0 +1,135 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables.pojos;
+
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class Dailyrollupqueue implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long queueId;
+    private LocalDate rollupDate;
+    private OffsetDateTime queuedAt;
+
+    public Dailyrollupqueue() {}
+
+    public Dailyrollupqueue(Dailyrollupqueue value) {
+        this.queueId = value.queueId;
+        this.rollupDate = value.rollupDate;
+        this.queuedAt = value.queuedAt;
+    }
+
+    public Dailyrollupqueue(
+        Long queueId,
+        LocalDate rollupDate,
+        OffsetDateTime queuedAt
+    ) {
+        this.queueId = queueId;
+        this.rollupDate = rollupDate;
+        this.queuedAt = queuedAt;
+    }
+
+    /**
+     * Getter for <code>public.dailyrollupqueue.queue_id</code>.
+     */
+    public Long getQueueId() {
+        return this.queueId;
+    }
+
+    /**
+     * Setter for <code>public.dailyrollupqueue.queue_id</code>.
+     */
+    public void setQueueId(Long queueId) {
+        this.queueId = queueId;
+    }
+
+    /**
+     * Getter for <code>public.dailyrollupqueue.rollup_date</code>.
+     */
+    public LocalDate getRollupDate() {
+        return this.rollupDate;
+    }
+
+    /**
+     * Setter for <code>public.dailyrollupqueue.rollup_date</code>.
+     */
+    public void setRollupDate(LocalDate rollupDate) {
+        this.rollupDate = rollupDate;
+    }
+
+    /**
+     * Getter for <code>public.dailyrollupqueue.queued_at</code>.
+     */
+    public OffsetDateTime getQueuedAt() {
+        return this.queuedAt;
+    }
+
+    /**
+     * Setter for <code>public.dailyrollupqueue.queued_at</code>.
+     */
+    public void setQueuedAt(OffsetDateTime queuedAt) {
+        this.queuedAt = queuedAt;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        final Dailyrollupqueue other = (Dailyrollupqueue) obj;
+        if (this.queueId == null) {
+            if (other.queueId != null)
+                return false;
+        }
+        else if (!this.queueId.equals(other.queueId))
+            return false;
+        if (this.rollupDate == null) {
+            if (other.rollupDate != null)
+                return false;
+        }
+        else if (!this.rollupDate.equals(other.rollupDate))
+            return false;
+        if (this.queuedAt == null) {
+            if (other.queuedAt != null)
+                return false;
+        }
+        else if (!this.queuedAt.equals(other.queuedAt))
+            return false;
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((this.queueId == null) ? 0 : this.queueId.hashCode());
+        result = prime * result + ((this.rollupDate == null) ? 0 : this.rollupDate.hashCode());
+        result = prime * result + ((this.queuedAt == null) ? 0 : this.queuedAt.hashCode());
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Dailyrollupqueue (");
+
+        sb.append(queueId);
+        sb.append(", ").append(rollupDate);
+        sb.append(", ").append(queuedAt);
+
+        sb.append(")");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables.pojos;
+
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class Dailysalesrollup implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private LocalDate rollupDate;
+    private Integer userId;
+    private Integer salesOrders;
+    private BigDecimal grossSales;
+    private BigDecimal discounts;
+    private BigDecimal cashReceived;
+    private BigDecimal bankReceived;
+    private BigDecimal revenue;
+
+    public Dailysalesrollup() {}
+
+    public Dailysalesrollup(Dailysalesrollup value) {
+        this.rollupDate = value.rollupDate;
+        this.userId = value.userId;
+        this.salesOrders = value.salesOrders;
+        this.grossSales = value.grossSales;
+        this.discounts = value.discounts;
+        this.cashReceived = value.cashReceived;
+        this.bankReceived = value.bankReceived;
+        this.revenue = value.revenue;
+    }
+
+    public Dailysalesrollup(
+        LocalDate rollupDate,
+        Integer userId,
+        Integer salesOrders,
+        BigDecimal grossSales,
+        BigDecimal discounts,
+        BigDecimal cashReceived,
+        BigDecimal bankReceived,
+        BigDecimal revenue
+    ) {
+        this.rollupDate = rollupDate;
+        this.userId = userId;
+        this.salesOrders = salesOrders;
+        this.grossSales = grossSales;
+        this.discounts = discounts;
+        this.cashReceived = cashReceived;
+        this.bankReceived = bankReceived;
+        this.revenue = revenue;
+    }
+
+    /**
+     * Getter for <code>public.dailysalesrollup.rollup_date</code>.
+     */
+    public LocalDate getRollupDate() {
+        return this.rollupDate;
+    }
+
+    /**
+     * Setter for <code>public.dailysalesrollup.rollup_date</code>.
+     */
+    public void setRollupDate(LocalDate rollupDate) {
+        this.rollupDate = rollupDate;
+    }
+
+    /**
+     * Getter for <code>public.dailysalesrollup.user_id</code>.
+     */
+    public Integer getUserId() {
+        return this.userId;
+    }
+
+    /**
+     * Setter for <code>public.dailysalesrollup.user_id</code>.
+     */
+    public void setUserId(Integer userId) {
+        this.userId = userId;
+    }
+
+    /**
+     * Getter for <code>public.dailysalesrollup.sales_orders</code>.
+     */
+    public Integer getSalesOrders() {
+        return this.salesOrders;
+    }
+
+    /**
+     * Setter for <code>public.dailysalesrollup.sales_orders</code>.
+     */
+    public void setSalesOrders(Integer salesOrders) {
+        this.salesOrders = salesOrders;
+    }
+
+    /**
+     * Getter for <code>public.dailysalesrollup.gross_sales</code>.
+     */
+    public BigDecimal getGrossSales() {
+        return this.grossSales;
+    }
+
+    /**
+     * Setter for <code>public.dailysalesrollup.gross_sales</code>.
+     */
+    public void setGrossSales(BigDecimal grossSales) {
+        this.grossSales = grossSales;
+    }
+
+    /**
+     * Getter for <code>public.dailysalesrollup.discounts</code>.
+     */
+    public BigDecimal getDiscounts() {
+        return this.discounts;
+    }
+
+    /**
+     * Setter for <code>public.dailysalesrollup.discounts</code>.
+     */
+    public void setDiscounts(BigDecimal discounts) {
+        this.discounts = discounts;
+    }
+
+    /**
+     * Getter for <code>public.dailysalesrollup.cash_received</code>.
+     */
+    public BigDecimal getCashReceived() {
+        return this.cashReceived;
+    }
+
+    /**
+     * Setter for <code>public.dailysalesrollup.cash_received</code>.
+     */
+    public void setCashReceived(BigDecimal cashReceived) {
+        this.cashReceived = cashReceived;
+    }
+
+    /**
+     * Getter for <code>public.dailysalesrollup.bank_received</code>.
+     */
+    public BigDecimal getBankReceived() {
+        return this.bankReceived;
+    }
+
+    /**
+     * Setter for <code>public.dailysalesrollup.bank_received</code>.
+     */
+    public void setBankReceived(BigDecimal bankReceived) {
+        this.bankReceived = bankReceived;
+    }
+
+    /**
+     * Getter for <code>public.dailysalesrollup.revenue</code>.
+     */
+    public BigDecimal getRevenue() {
+        return this.revenue;
+    }
+
+    /**
+     * Setter for <code>public.dailysalesrollup.revenue</code>.
+     */
+    public void setRevenue(BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        final Dailysalesrollup other = (Dailysalesrollup) obj;
+        if (this.rollupDate == null) {
+            if (other.rollupDate != null)
+                return false;
+        }
+        else if (!this.rollupDate.equals(other.rollupDate))
+            return false;
+        if (this.userId == null) {
+            if (other.userId != null)
+                return false;
+        }
+        else if (!this.userId.equals(other.userId))
+            return false;
+        if (this.salesOrders == null) {
+            if (other.salesOrders != null)
+                return false;
+        }
+        else if (!this.salesOrders.equals(other.salesOrders))
+            return false;
+        if (this.grossSales == null) {
+            if (other.grossSales != null)
+                return false;
+        }
+        else if (!this.grossSales.equals(other.grossSales))
+            return false;
+        if (this.discounts == null) {
+            if (other.discounts != null)
+                return false;
+        }
+        else if (!this.discounts.equals(other.discounts))
+            return false;
+        if (this.cashReceived == null) {
+            if (other.cashReceived != null)
+                return false;
+        }
+        else if (!this.cashReceived.equals(other.cashReceived))
+            return false;
+        if (this.bankReceived == null) {
+            if (other.bankReceived != null)
+                return false;
+        }
+        else if (!this.bankReceived.equals(other.bankReceived))
+            return false;
+        if (this.revenue == null) {
+            if (other.revenue != null)
+                return false;
+        }
+        else if (!this.revenue.equals(other.revenue))
+            return false;
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((this.rollupDate == null) ? 0 : this.rollupDate.hashCode());
+        result = prime * result + ((this.userId == null) ? 0 : this.userId.hashCode());
+        result = prime * result + ((this.salesOrders == null) ? 0 : this.salesOrders.hashCode());
+        result = prime * result + ((this.grossSales == null) ? 0 : this.grossSales.hashCode());
+        result = prime * result + ((this.discounts == null) ? 0 : this.discounts.hashCode());
+        result = prime * result + ((this.cashReceived == null) ? 0 : this.cashReceived.hashCode());
+        result = prime * result + ((this.bankReceived == null) ? 0 : this.bankReceived.hashCode());
+        result = prime * result + ((this.revenue == null) ? 0 : this.revenue.hashCode());
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Dailysalesrollup (");
+
+        sb.append(rollupDate);
+        sb.append(", ").append(userId);
+        sb.append(", ").append(salesOrders);
+        sb.append(", ").append(grossSales);
+        sb.append(", ").append(discounts);
+        sb.append(", ").append(cashReceived);
+        sb.append(", ").append(bankReceived);
+        sb.append(", ").append(revenue);
+
+        sb.append(")");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables.pojos;
+
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class Findsalesordersubtotalmismatches implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Integer salesOrderId;
+    private BigDecimal storedSubtotal;
+    private BigDecimal expectedSubtotal;
+
+    public Findsalesordersubtotalmismatches() {}
+
+    public Findsalesordersubtotalmismatches(Findsalesordersubtotalmismatches value) {
+        this.salesOrderId = value.salesOrderId;
+        this.storedSubtotal = value.storedSubtotal;
+        this.expectedSubtotal = value.expectedSubtotal;
+    }
+
+    public Findsalesordersubtotalmismatches(
+        Integer salesOrderId,
+        BigDecimal storedSubtotal,
+        BigDecimal expectedSubtotal
+    ) {
+        this.salesOrderId = salesOrderId;
+        this.storedSubtotal = storedSubtotal;
+        this.expectedSubtotal = expectedSubtotal;
+    }
+
+    /**
+     * Getter for
+     * <code>public.findsalesordersubtotalmismatches.sales_order_id</code>.
+     */
+    public Integer getSalesOrderId() {
+        return this.salesOrderId;
+    }
+
+    /**
+     * Setter for
+     * <code>public.findsalesordersubtotalmismatches.sales_order_id</code>.
+     */
+    public void setSalesOrderId(Integer salesOrderId) {
+        this.salesOrderId = salesOrderId;
+    }
+
+    /**
+     * Getter for
+     * <code>public.findsalesordersubtotalmismatches.stored_subtotal</code>.
+     */
+    public BigDecimal getStoredSubtotal() {
+        return this.storedSubtotal;
+    }
+
+    /**
+     * Setter for
+     * <code>public.findsalesordersubtotalmismatches.stored_subtotal</code>.
+     */
+    public void setStoredSubtotal(BigDecimal storedSubtotal) {
+        this.storedSubtotal = storedSubtotal;
+    }
+
+    /**
+     * Getter for
+     * <code>public.findsalesordersubtotalmismatches.expected_subtotal</code>.
+     */
+    public BigDecimal getExpectedSubtotal() {
+        return this.expectedSubtotal;
+    }
+
+    /**
+     * Setter for
+     * <code>public.findsalesordersubtotalmismatches.expected_subtotal</code>.
+     */
+    public void setExpectedSubtotal(BigDecimal expectedSubtotal) {
+        this.expectedSubtotal = expectedSubtotal;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        final Findsalesordersubtotalmismatches other = (Findsalesordersubtotalmismatches) obj;
+        if (this.salesOrderId == null) {
+            if (other.salesOrderId != null)
+                return false;
+        }
+        else if (!this.salesOrderId.equals(other.salesOrderId))
+            return false;
+        if (this.storedSubtotal == null) {
+            if (other.storedSubtotal != null)
+                return false;
+        }
+        else if (!this.storedSubtotal.equals(other.storedSubtotal))
+            return false;
+        if (this.expectedSubtotal == null) {
+            if (other.expectedSubtotal != null)
+                return false;
+        }
+        else if (!this.expectedSubtotal.equals(other.expectedSubtotal))
+            return false;
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((this.salesOrderId == null) ? 0 : this.salesOrderId.hashCode());
+        result = prime * result + ((this.storedSubtotal == null) ? 0 : this.storedSubtotal.hashCode());
+        result = prime * result + ((this.expectedSubtotal == null) ? 0 : this.expectedSubtotal.hashCode());
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Findsalesordersubtotalmismatches (");
+
+        sb.append(salesOrderId);
+        sb.append(", ").append(storedSubtotal);
+        sb.append(", ").append(expectedSubtotal);
+
+        sb.append(")");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,362 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables.pojos;
+
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class Findshifttotalsmismatches implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Integer shiftId;
+    private BigDecimal storedCashReceived;
+    private BigDecimal actualCashReceived;
+    private BigDecimal storedBankReceived;
+    private BigDecimal actualBankReceived;
+    private BigDecimal storedCashExpenses;
+    private BigDecimal actualCashExpenses;
+    private Integer storedSalesOrders;
+    private Integer actualSalesOrders;
+    private BigDecimal storedDiscounts;
+    private BigDecimal actualDiscounts;
+
+    public Findshifttotalsmismatches() {}
+
+    public Findshifttotalsmismatches(Findshifttotalsmismatches value) {
+        this.shiftId = value.shiftId;
+        this.storedCashReceived = value.storedCashReceived;
+        this.actualCashReceived = value.actualCashReceived;
+        this.storedBankReceived = value.storedBankReceived;
+        this.actualBankReceived = value.actualBankReceived;
+        this.storedCashExpenses = value.storedCashExpenses;
+        this.actualCashExpenses = value.actualCashExpenses;
+        this.storedSalesOrders = value.storedSalesOrders;
+        this.actualSalesOrders = value.actualSalesOrders;
+        this.storedDiscounts = value.storedDiscounts;
+        this.actualDiscounts = value.actualDiscounts;
+    }
+
+    public Findshifttotalsmismatches(
+        Integer shiftId,
+        BigDecimal storedCashReceived,
+        BigDecimal actualCashReceived,
+        BigDecimal storedBankReceived,
+        BigDecimal actualBankReceived,
+        BigDecimal storedCashExpenses,
+        BigDecimal actualCashExpenses,
+        Integer storedSalesOrders,
+        Integer actualSalesOrders,
+        BigDecimal storedDiscounts,
+        BigDecimal actualDiscounts
+    ) {
+        this.shiftId = shiftId;
+        this.storedCashReceived = storedCashReceived;
+        this.actualCashReceived = actualCashReceived;
+        this.storedBankReceived = storedBankReceived;
+        this.actualBankReceived = actualBankReceived;
+        this.storedCashExpenses = storedCashExpenses;
+        this.actualCashExpenses = actualCashExpenses;
+        this.storedSalesOrders = storedSalesOrders;
+        this.actualSalesOrders = actualSalesOrders;
+        this.storedDiscounts = storedDiscounts;
+        this.actualDiscounts = actualDiscounts;
+    }
+
+    /**
+     * Getter for <code>public.findshifttotalsmismatches.shift_id</code>.
+     */
+    public Integer getShiftId() {
+        return this.shiftId;
+    }
+
+    /**
+     * Setter for <code>public.findshifttotalsmismatches.shift_id</code>.
+     */
+    public void setShiftId(Integer shiftId) {
+        this.shiftId = shiftId;
+    }
+
+    /**
+     * Getter for
+     * <code>public.findshifttotalsmismatches.stored_cash_received</code>.
+     */
+    public BigDecimal getStoredCashReceived() {
+        return this.storedCashReceived;
+    }
+
+    /**
+     * Setter for
+     * <code>public.findshifttotalsmismatches.stored_cash_received</code>.
+     */
+    public void setStoredCashReceived(BigDecimal storedCashReceived) {
+        this.storedCashReceived = storedCashReceived;
+    }
+
+    /**
+     * Getter for
+     * <code>public.findshifttotalsmismatches.actual_cash_received</code>.
+     */
+    public BigDecimal getActualCashReceived() {
+        return this.actualCashReceived;
+    }
+
+    /**
+     * Setter for
+     * <code>public.findshifttotalsmismatches.actual_cash_received</code>.
+     */
+    public void setActualCashReceived(BigDecimal actualCashReceived) {
+        this.actualCashReceived = actualCashReceived;
+    }
+
+    /**
+     * Getter for
+     * <code>public.findshifttotalsmismatches.stored_bank_received</code>.
+     */
+    public BigDecimal getStoredBankReceived() {
+        return this.storedBankReceived;
+    }
+
+    /**
+     * Setter for
+     * <code>public.findshifttotalsmismatches.stored_bank_received</code>.
+     */
+    public void setStoredBankReceived(BigDecimal storedBankReceived) {
+        this.storedBankReceived = storedBankReceived;
+    }
+
+    /**
+     * Getter for
+     * <code>public.findshifttotalsmismatches.actual_bank_received</code>.
+     */
+    public BigDecimal getActualBankReceived() {
+        return this.actualBankReceived;
+    }
+
+    /**
+     * Setter for
+     * <code>public.findshifttotalsmismatches.actual_bank_received</code>.
+     */
+    public void setActualBankReceived(BigDecimal actualBankReceived) {
+        this.actualBankReceived = actualBankReceived;
+    }
+
+    /**
+     * Getter for
+     * <code>public.findshifttotalsmismatches.stored_cash_expenses</code>.
+     */
+    public BigDecimal getStoredCashExpenses() {
+        return this.storedCashExpenses;
+    }
+
+    /**
+     * Setter for
+     * <code>public.findshifttotalsmismatches.stored_cash_expenses</code>.
+     */
+    public void setStoredCashExpenses(BigDecimal storedCashExpenses) {
+        this.storedCashExpenses = storedCashExpenses;
+    }
+
+    /**
+     * Getter for
+     * <code>public.findshifttotalsmismatches.actual_cash_expenses</code>.
+     */
+    public BigDecimal getActualCashExpenses() {
+        return this.actualCashExpenses;
+    }
+
+    /**
+     * Setter for
+     * <code>public.findshifttotalsmismatches.actual_cash_expenses</code>.
+     */
+    public void setActualCashExpenses(BigDecimal actualCashExpenses) {
+        this.actualCashExpenses = actualCashExpenses;
+    }
+
+    /**
+     * Getter for
+     * <code>public.findshifttotalsmismatches.stored_sales_orders</code>.
+     */
+    public Integer getStoredSalesOrders() {
+        return this.storedSalesOrders;
+    }
+
+    /**
+     * Setter for
+     * <code>public.findshifttotalsmismatches.stored_sales_orders</code>.
+     */
+    public void setStoredSalesOrders(Integer storedSalesOrders) {
+        this.storedSalesOrders = storedSalesOrders;
+    }
+
+    /**
+     * Getter for
+     * <code>public.findshifttotalsmismatches.actual_sales_orders</code>.
+     */
+    public Integer getActualSalesOrders() {
+        return this.actualSalesOrders;
+    }
+
+    /**
+     * Setter for
+     * <code>public.findshifttotalsmismatches.actual_sales_orders</code>.
+     */
+    public void setActualSalesOrders(Integer actualSalesOrders) {
+        this.actualSalesOrders = actualSalesOrders;
+    }
+
+    /**
+     * Getter for
+     * <code>public.findshifttotalsmismatches.stored_discounts</code>.
+     */
+    public BigDecimal getStoredDiscounts() {
+        return this.storedDiscounts;
+    }
+
+    /**
+     * Setter for
+     * <code>public.findshifttotalsmismatches.stored_discounts</code>.
+     */
+    public void setStoredDiscounts(BigDecimal storedDiscounts) {
+        this.storedDiscounts = storedDiscounts;
+    }
+
+    /**
+     * Getter for
+     * <code>public.findshifttotalsmismatches.actual_discounts</code>.
+     */
+    public BigDecimal getActualDiscounts() {
+        return this.actualDiscounts;
+    }
+
+    /**
+     * Setter for
+     * <code>public.findshifttotalsmismatches.actual_discounts</code>.
+     */
+    public void setActualDiscounts(BigDecimal actualDiscounts) {
+        this.actualDiscounts = actualDiscounts;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        final Findshifttotalsmismatches other = (Findshifttotalsmismatches) obj;
+        if (this.shiftId == null) {
+            if (other.shiftId != null)
+                return false;
+        }
+        else if (!this.shiftId.equals(other.shiftId))
+            return false;
+        if (this.storedCashReceived == null) {
+            if (other.storedCashReceived != null)
+                return false;
+        }
+        else if (!this.storedCashReceived.equals(other.storedCashReceived))
+            return false;
+        if (this.actualCashReceived == null) {
+            if (other.actualCashReceived != null)
+                return false;
+        }
+        else if (!this.actualCashReceived.equals(other.actualCashReceived))
+            return false;
+        if (this.storedBankReceived == null) {
+            if (other.storedBankReceived != null)
+                return false;
+        }
+        else if (!this.storedBankReceived.equals(other.storedBankReceived))
+            return false;
+        if (this.actualBankReceived == null) {
+            if (other.actualBankReceived != null)
+                return false;
+        }
+        else if (!this.actualBankReceived.equals(other.actualBankReceived))
+            return false;
+        if (this.storedCashExpenses == null) {
+            if (other.storedCashExpenses != null)
+                return false;
+        }
+        else if (!this.storedCashExpenses.equals(other.storedCashExpenses))
+            return false;
+        if (this.actualCashExpenses == null) {
+            if (other.actualCashExpenses != null)
+                return false;
+        }
+        else if (!this.actualCashExpenses.equals(other.actualCashExpenses))
+            return false;
+        if (this.storedSalesOrders == null) {
+            if (other.storedSalesOrders != null)
+                return false;
+        }
+        else if (!this.storedSalesOrders.equals(other.storedSalesOrders))
+            return false;
+        if (this.actualSalesOrders == null) {
+            if (other.actualSalesOrders != null)
+                return false;
+        }
+        else if (!this.actualSalesOrders.equals(other.actualSalesOrders))
+            return false;
+        if (this.storedDiscounts == null) {
+            if (other.storedDiscounts != null)
+                return false;
+        }
+        else if (!this.storedDiscounts.equals(other.storedDiscounts))
+            return false;
+        if (this.actualDiscounts == null) {
+            if (other.actualDiscounts != null)
+                return false;
+        }
+        else if (!this.actualDiscounts.equals(other.actualDiscounts))
+            return false;
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((this.shiftId == null) ? 0 : this.shiftId.hashCode());
+        result = prime * result + ((this.storedCashReceived == null) ? 0 : this.storedCashReceived.hashCode());
+        result = prime * result + ((this.actualCashReceived == null) ? 0 : this.actualCashReceived.hashCode());
+        result = prime * result + ((this.storedBankReceived == null) ? 0 : this.storedBankReceived.hashCode());
+        result = prime * result + ((this.actualBankReceived == null) ? 0 : this.actualBankReceived.hashCode());
+        result = prime * result + ((this.storedCashExpenses == null) ? 0 : this.storedCashExpenses.hashCode());
+        result = prime * result + ((this.actualCashExpenses == null) ? 0 : this.actualCashExpenses.hashCode());
+        result = prime * result + ((this.storedSalesOrders == null) ? 0 : this.storedSalesOrders.hashCode());
+        result = prime * result + ((this.actualSalesOrders == null) ? 0 : this.actualSalesOrders.hashCode());
+        result = prime * result + ((this.storedDiscounts == null) ? 0 : this.storedDiscounts.hashCode());
+        result = prime * result + ((this.actualDiscounts == null) ? 0 : this.actualDiscounts.hashCode());
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Findshifttotalsmismatches (");
+
+        sb.append(shiftId);
+        sb.append(", ").append(storedCashReceived);
+        sb.append(", ").append(actualCashReceived);
+        sb.append(", ").append(storedBankReceived);
+        sb.append(", ").append(actualBankReceived);
+        sb.append(", ").append(storedCashExpenses);
+        sb.append(", ").append(actualCashExpenses);
+        sb.append(", ").append(storedSalesOrders);
+        sb.append(", ").append(actualSalesOrders);
+        sb.append(", ").append(storedDiscounts);
+        sb.append(", ").append(actualDiscounts);
+
+        sb.append(")");
+        return sb.toString();
+    }
+}
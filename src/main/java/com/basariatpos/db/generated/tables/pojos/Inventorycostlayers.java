@@ -0,0 +1,265 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables.pojos;
+
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class Inventorycostlayers implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long costLayerId;
+    private Integer inventoryItemId;
+    private String source;
+    private Integer poItemId;
+    private BigDecimal unitCost;
+    private Integer quantityReceived;
+    private Integer quantityRemaining;
+    private OffsetDateTime createdAt;
+
+    public Inventorycostlayers() {}
+
+    public Inventorycostlayers(Inventorycostlayers value) {
+        this.costLayerId = value.costLayerId;
+        this.inventoryItemId = value.inventoryItemId;
+        this.source = value.source;
+        this.poItemId = value.poItemId;
+        this.unitCost = value.unitCost;
+        this.quantityReceived = value.quantityReceived;
+        this.quantityRemaining = value.quantityRemaining;
+        this.createdAt = value.createdAt;
+    }
+
+    public Inventorycostlayers(
+        Long costLayerId,
+        Integer inventoryItemId,
+        String source,
+        Integer poItemId,
+        BigDecimal unitCost,
+        Integer quantityReceived,
+        Integer quantityRemaining,
+        OffsetDateTime createdAt
+    ) {
+        this.costLayerId = costLayerId;
+        this.inventoryItemId = inventoryItemId;
+        this.source = source;
+        this.poItemId = poItemId;
+        this.unitCost = unitCost;
+        this.quantityReceived = quantityReceived;
+        this.quantityRemaining = quantityRemaining;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Getter for <code>public.inventorycostlayers.cost_layer_id</code>.
+     */
+    public Long getCostLayerId() {
+        return this.costLayerId;
+    }
+
+    /**
+     * Setter for <code>public.inventorycostlayers.cost_layer_id</code>.
+     */
+    public void setCostLayerId(Long costLayerId) {
+        this.costLayerId = costLayerId;
+    }
+
+    /**
+     * Getter for <code>public.inventorycostlayers.inventory_item_id</code>.
+     */
+    public Integer getInventoryItemId() {
+        return this.inventoryItemId;
+    }
+
+    /**
+     * Setter for <code>public.inventorycostlayers.inventory_item_id</code>.
+     */
+    public void setInventoryItemId(Integer inventoryItemId) {
+        this.inventoryItemId = inventoryItemId;
+    }
+
+    /**
+     * Getter for <code>public.inventorycostlayers.source</code>.
+     */
+    public String getSource() {
+        return this.source;
+    }
+
+    /**
+     * Setter for <code>public.inventorycostlayers.source</code>.
+     */
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    /**
+     * Getter for <code>public.inventorycostlayers.po_item_id</code>.
+     */
+    public Integer getPoItemId() {
+        return this.poItemId;
+    }
+
+    /**
+     * Setter for <code>public.inventorycostlayers.po_item_id</code>.
+     */
+    public void setPoItemId(Integer poItemId) {
+        this.poItemId = poItemId;
+    }
+
+    /**
+     * Getter for <code>public.inventorycostlayers.unit_cost</code>.
+     */
+    public BigDecimal getUnitCost() {
+        return this.unitCost;
+    }
+
+    /**
+     * Setter for <code>public.inventorycostlayers.unit_cost</code>.
+     */
+    public void setUnitCost(BigDecimal unitCost) {
+        this.unitCost = unitCost;
+    }
+
+    /**
+     * Getter for <code>public.inventorycostlayers.quantity_received</code>.
+     */
+    public Integer getQuantityReceived() {
+        return this.quantityReceived;
+    }
+
+    /**
+     * Setter for <code>public.inventorycostlayers.quantity_received</code>.
+     */
+    public void setQuantityReceived(Integer quantityReceived) {
+        this.quantityReceived = quantityReceived;
+    }
+
+    /**
+     * Getter for <code>public.inventorycostlayers.quantity_remaining</code>.
+     */
+    public Integer getQuantityRemaining() {
+        return this.quantityRemaining;
+    }
+
+    /**
+     * Setter for <code>public.inventorycostlayers.quantity_remaining</code>.
+     */
+    public void setQuantityRemaining(Integer quantityRemaining) {
+        this.quantityRemaining = quantityRemaining;
+    }
+
+    /**
+     * Getter for <code>public.inventorycostlayers.created_at</code>.
+     */
+    public OffsetDateTime getCreatedAt() {
+        return this.createdAt;
+    }
+
+    /**
+     * Setter for <code>public.inventorycostlayers.created_at</code>.
+     */
+    public void setCreatedAt(OffsetDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        final Inventorycostlayers other = (Inventorycostlayers) obj;
+        if (this.costLayerId == null) {
+            if (other.costLayerId != null)
+                return false;
+        }
+        else if (!this.costLayerId.equals(other.costLayerId))
+            return false;
+        if (this.inventoryItemId == null) {
+            if (other.inventoryItemId != null)
+                return false;
+        }
+        else if (!this.inventoryItemId.equals(other.inventoryItemId))
+            return false;
+        if (this.source == null) {
+            if (other.source != null)
+                return false;
+        }
+        else if (!this.source.equals(other.source))
+            return false;
+        if (this.poItemId == null) {
+            if (other.poItemId != null)
+                return false;
+        }
+        else if (!this.poItemId.equals(other.poItemId))
+            return false;
+        if (this.unitCost == null) {
+            if (other.unitCost != null)
+                return false;
+        }
+        else if (!this.unitCost.equals(other.unitCost))
+            return false;
+        if (this.quantityReceived == null) {
+            if (other.quantityReceived != null)
+                return false;
+        }
+        else if (!this.quantityReceived.equals(other.quantityReceived))
+            return false;
+        if (this.quantityRemaining == null) {
+            if (other.quantityRemaining != null)
+                return false;
+        }
+        else if (!this.quantityRemaining.equals(other.quantityRemaining))
+            return false;
+        if (this.createdAt == null) {
+            if (other.createdAt != null)
+                return false;
+        }
+        else if (!this.createdAt.equals(other.createdAt))
+            return false;
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((this.costLayerId == null) ? 0 : this.costLayerId.hashCode());
+        result = prime * result + ((this.inventoryItemId == null) ? 0 : this.inventoryItemId.hashCode());
+        result = prime * result + ((this.source == null) ? 0 : this.source.hashCode());
+        result = prime * result + ((this.poItemId == null) ? 0 : this.poItemId.hashCode());
+        result = prime * result + ((this.unitCost == null) ? 0 : this.unitCost.hashCode());
+        result = prime * result + ((this.quantityReceived == null) ? 0 : this.quantityReceived.hashCode());
+        result = prime * result + ((this.quantityRemaining == null) ? 0 : this.quantityRemaining.hashCode());
+        result = prime * result + ((this.createdAt == null) ? 0 : this.createdAt.hashCode());
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Inventorycostlayers (");
+
+        sb.append(costLayerId);
+        sb.append(", ").append(inventoryItemId);
+        sb.append(", ").append(source);
+        sb.append(", ").append(poItemId);
+        sb.append(", ").append(unitCost);
+        sb.append(", ").append(quantityReceived);
+        sb.append(", ").append(quantityRemaining);
+        sb.append(", ").append(createdAt);
+
+        sb.append(")");
+        return sb.toString();
+    }
+}
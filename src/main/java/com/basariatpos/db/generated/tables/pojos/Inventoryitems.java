@@ -33,6 +33,7 @@ public class Inventoryitems implements Serializable {
     private Boolean isActive;
     private OffsetDateTime createdAt;
     private OffsetDateTime updatedAt;
+    private Long changeXid;
 
     public Inventoryitems() {}
 
@@ -51,6 +52,7 @@ public class Inventoryitems implements Serializable {
         this.isActive = value.isActive;
         this.createdAt = value.createdAt;
         this.updatedAt = value.updatedAt;
+        this.changeXid = value.changeXid;
     }
 
     public Inventoryitems(
@@ -67,7 +69,8 @@ public class Inventoryitems implements Serializable {
         String unitOfMeasure,
         Boolean isActive,
         OffsetDateTime createdAt,
-        OffsetDateTime updatedAt
+        OffsetDateTime updatedAt,
+        Long changeXid
     ) {
         this.inventoryItemId = inventoryItemId;
         this.productId = productId;
@@ -83,6 +86,7 @@ public class Inventoryitems implements Serializable {
         this.isActive = isActive;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.changeXid = changeXid;
     }
 
     /**
@@ -281,6 +285,20 @@ public class Inventoryitems implements Serializable {
         this.updatedAt = updatedAt;
     }
 
+    /**
+     * Getter for <code>public.inventoryitems.change_xid</code>.
+     */
+    public Long getChangeXid() {
+        return this.changeXid;
+    }
+
+    /**
+     * Setter for <code>public.inventoryitems.change_xid</code>.
+     */
+    public void setChangeXid(Long changeXid) {
+        this.changeXid = changeXid;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj)
@@ -374,6 +392,12 @@ public class Inventoryitems implements Serializable {
         }
         else if (!this.updatedAt.equals(other.updatedAt))
             return false;
+        if (this.changeXid == null) {
+            if (other.changeXid != null)
+                return false;
+        }
+        else if (!this.changeXid.equals(other.changeXid))
+            return false;
         return true;
     }
 
@@ -395,6 +419,7 @@ public class Inventoryitems implements Serializable {
         result = prime * result + ((this.isActive == null) ? 0 : this.isActive.hashCode());
         result = prime * result + ((this.createdAt == null) ? 0 : this.createdAt.hashCode());
         result = prime * result + ((this.updatedAt == null) ? 0 : this.updatedAt.hashCode());
+        result = prime * result + ((this.changeXid == null) ? 0 : this.changeXid.hashCode());
         return result;
     }
 
@@ -416,6 +441,7 @@ public class Inventoryitems implements Serializable {
         sb.append(", ").append(isActive);
         sb.append(", ").append(createdAt);
         sb.append(", ").append(updatedAt);
+        sb.append(", ").append(changeXid);
 
         sb.append(")");
         return sb.toString();
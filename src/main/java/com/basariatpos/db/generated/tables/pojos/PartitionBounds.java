@@ -0,0 +1,134 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables.pojos;
+
+
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class PartitionBounds implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String partitionName;
+    private OffsetDateTime lowerBound;
+    private OffsetDateTime upperBound;
+
+    public PartitionBounds() {}
+
+    public PartitionBounds(PartitionBounds value) {
+        this.partitionName = value.partitionName;
+        this.lowerBound = value.lowerBound;
+        this.upperBound = value.upperBound;
+    }
+
+    public PartitionBounds(
+        String partitionName,
+        OffsetDateTime lowerBound,
+        OffsetDateTime upperBound
+    ) {
+        this.partitionName = partitionName;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+    }
+
+    /**
+     * Getter for <code>public.partition_bounds.partition_name</code>.
+     */
+    public String getPartitionName() {
+        return this.partitionName;
+    }
+
+    /**
+     * Setter for <code>public.partition_bounds.partition_name</code>.
+     */
+    public void setPartitionName(String partitionName) {
+        this.partitionName = partitionName;
+    }
+
+    /**
+     * Getter for <code>public.partition_bounds.lower_bound</code>.
+     */
+    public OffsetDateTime getLowerBound() {
+        return this.lowerBound;
+    }
+
+    /**
+     * Setter for <code>public.partition_bounds.lower_bound</code>.
+     */
+    public void setLowerBound(OffsetDateTime lowerBound) {
+        this.lowerBound = lowerBound;
+    }
+
+    /**
+     * Getter for <code>public.partition_bounds.upper_bound</code>.
+     */
+    public OffsetDateTime getUpperBound() {
+        return this.upperBound;
+    }
+
+    /**
+     * Setter for <code>public.partition_bounds.upper_bound</code>.
+     */
+    public void setUpperBound(OffsetDateTime upperBound) {
+        this.upperBound = upperBound;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        final PartitionBounds other = (PartitionBounds) obj;
+        if (this.partitionName == null) {
+            if (other.partitionName != null)
+                return false;
+        }
+        else if (!this.partitionName.equals(other.partitionName))
+            return false;
+        if (this.lowerBound == null) {
+            if (other.lowerBound != null)
+                return false;
+        }
+        else if (!this.lowerBound.equals(other.lowerBound))
+            return false;
+        if (this.upperBound == null) {
+            if (other.upperBound != null)
+                return false;
+        }
+        else if (!this.upperBound.equals(other.upperBound))
+            return false;
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((this.partitionName == null) ? 0 : this.partitionName.hashCode());
+        result = prime * result + ((this.lowerBound == null) ? 0 : this.lowerBound.hashCode());
+        result = prime * result + ((this.upperBound == null) ? 0 : this.upperBound.hashCode());
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("PartitionBounds (");
+
+        sb.append(partitionName);
+        sb.append(", ").append(lowerBound);
+        sb.append(", ").append(upperBound);
+
+        sb.append(")");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables.pojos;
+
+
+import java.io.Serializable;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class Partitionedtables implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String tableName;
+    private String partitionColumn;
+    private String partitionInterval;
+    private Integer periodsAhead;
+    private Boolean archiveWithFiscalYear;
+
+    public Partitionedtables() {}
+
+    public Partitionedtables(Partitionedtables value) {
+        this.tableName = value.tableName;
+        this.partitionColumn = value.partitionColumn;
+        this.partitionInterval = value.partitionInterval;
+        this.periodsAhead = value.periodsAhead;
+        this.archiveWithFiscalYear = value.archiveWithFiscalYear;
+    }
+
+    public Partitionedtables(
+        String tableName,
+        String partitionColumn,
+        String partitionInterval,
+        Integer periodsAhead,
+        Boolean archiveWithFiscalYear
+    ) {
+        this.tableName = tableName;
+        this.partitionColumn = partitionColumn;
+        this.partitionInterval = partitionInterval;
+        this.periodsAhead = periodsAhead;
+        this.archiveWithFiscalYear = archiveWithFiscalYear;
+    }
+
+    /**
+     * Getter for <code>public.partitionedtables.table_name</code>.
+     */
+    public String getTableName() {
+        return this.tableName;
+    }
+
+    /**
+     * Setter for <code>public.partitionedtables.table_name</code>.
+     */
+    public void setTableName(String tableName) {
+        this.tableName = tableName;
+    }
+
+    /**
+     * Getter for <code>public.partitionedtables.partition_column</code>.
+     */
+    public String getPartitionColumn() {
+        return this.partitionColumn;
+    }
+
+    /**
+     * Setter for <code>public.partitionedtables.partition_column</code>.
+     */
+    public void setPartitionColumn(String partitionColumn) {
+        this.partitionColumn = partitionColumn;
+    }
+
+    /**
+     * Getter for <code>public.partitionedtables.partition_interval</code>.
+     */
+    public String getPartitionInterval() {
+        return this.partitionInterval;
+    }
+
+    /**
+     * Setter for <code>public.partitionedtables.partition_interval</code>.
+     */
+    public void setPartitionInterval(String partitionInterval) {
+        this.partitionInterval = partitionInterval;
+    }
+
+    /**
+     * Getter for <code>public.partitionedtables.periods_ahead</code>.
+     */
+    public Integer getPeriodsAhead() {
+        return this.periodsAhead;
+    }
+
+    /**
+     * Setter for <code>public.partitionedtables.periods_ahead</code>.
+     */
+    public void setPeriodsAhead(Integer periodsAhead) {
+        this.periodsAhead = periodsAhead;
+    }
+
+    /**
+     * Getter for
+     * <code>public.partitionedtables.archive_with_fiscal_year</code>.
+     */
+    public Boolean getArchiveWithFiscalYear() {
+        return this.archiveWithFiscalYear;
+    }
+
+    /**
+     * Setter for
+     * <code>public.partitionedtables.archive_with_fiscal_year</code>.
+     */
+    public void setArchiveWithFiscalYear(Boolean archiveWithFiscalYear) {
+        this.archiveWithFiscalYear = archiveWithFiscalYear;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        final Partitionedtables other = (Partitionedtables) obj;
+        if (this.tableName == null) {
+            if (other.tableName != null)
+                return false;
+        }
+        else if (!this.tableName.equals(other.tableName))
+            return false;
+        if (this.partitionColumn == null) {
+            if (other.partitionColumn != null)
+                return false;
+        }
+        else if (!this.partitionColumn.equals(other.partitionColumn))
+            return false;
+        if (this.partitionInterval == null) {
+            if (other.partitionInterval != null)
+                return false;
+        }
+        else if (!this.partitionInterval.equals(other.partitionInterval))
+            return false;
+        if (this.periodsAhead == null) {
+            if (other.periodsAhead != null)
+                return false;
+        }
+        else if (!this.periodsAhead.equals(other.periodsAhead))
+            return false;
+        if (this.archiveWithFiscalYear == null) {
+            if (other.archiveWithFiscalYear != null)
+                return false;
+        }
+        else if (!this.archiveWithFiscalYear.equals(other.archiveWithFiscalYear))
+            return false;
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((this.tableName == null) ? 0 : this.tableName.hashCode());
+        result = prime * result + ((this.partitionColumn == null) ? 0 : this.partitionColumn.hashCode());
+        result = prime * result + ((this.partitionInterval == null) ? 0 : this.partitionInterval.hashCode());
+        result = prime * result + ((this.periodsAhead == null) ? 0 : this.periodsAhead.hashCode());
+        result = prime * result + ((this.archiveWithFiscalYear == null) ? 0 : this.archiveWithFiscalYear.hashCode());
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Partitionedtables (");
+
+        sb.append(tableName);
+        sb.append(", ").append(partitionColumn);
+        sb.append(", ").append(partitionInterval);
+        sb.append(", ").append(periodsAhead);
+        sb.append(", ").append(archiveWithFiscalYear);
+
+        sb.append(")");
+        return sb.toString();
+    }
+}
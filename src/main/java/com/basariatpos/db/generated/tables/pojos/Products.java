@@ -27,6 +27,7 @@ public class Products implements Serializable {
     private Boolean isStockItem;
     private OffsetDateTime createdAt;
     private OffsetDateTime updatedAt;
+    private Long changeXid;
 
     public Products() {}
 
@@ -42,6 +43,7 @@ public class Products implements Serializable {
         this.isStockItem = value.isStockItem;
         this.createdAt = value.createdAt;
         this.updatedAt = value.updatedAt;
+        this.changeXid = value.changeXid;
     }
 
     public Products(
@@ -55,7 +57,8 @@ public class Products implements Serializable {
         Boolean isService,
         Boolean isStockItem,
         OffsetDateTime createdAt,
-        OffsetDateTime updatedAt
+        OffsetDateTime updatedAt,
+        Long changeXid
     ) {
         this.productId = productId;
         this.productCode = productCode;
@@ -68,6 +71,7 @@ public class Products implements Serializable {
         this.isStockItem = isStockItem;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.changeXid = changeXid;
     }
 
     /**
@@ -224,6 +228,20 @@ public class Products implements Serializable {
         this.updatedAt = updatedAt;
     }
 
+    /**
+     * Getter for <code>public.products.change_xid</code>.
+     */
+    public Long getChangeXid() {
+        return this.changeXid;
+    }
+
+    /**
+     * Setter for <code>public.products.change_xid</code>.
+     */
+    public void setChangeXid(Long changeXid) {
+        this.changeXid = changeXid;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj)
@@ -299,6 +317,12 @@ public class Products implements Serializable {
         }
         else if (!this.updatedAt.equals(other.updatedAt))
             return false;
+        if (this.changeXid == null) {
+            if (other.changeXid != null)
+                return false;
+        }
+        else if (!this.changeXid.equals(other.changeXid))
+            return false;
         return true;
     }
 
@@ -317,6 +341,7 @@ public class Products implements Serializable {
         result = prime * result + ((this.isStockItem == null) ? 0 : this.isStockItem.hashCode());
         result = prime * result + ((this.createdAt == null) ? 0 : this.createdAt.hashCode());
         result = prime * result + ((this.updatedAt == null) ? 0 : this.updatedAt.hashCode());
+        result = prime * result + ((this.changeXid == null) ? 0 : this.changeXid.hashCode());
         return result;
     }
 
@@ -335,6 +360,7 @@ public class Products implements Serializable {
         sb.append(", ").append(isStockItem);
         sb.append(", ").append(createdAt);
         sb.append(", ").append(updatedAt);
+        sb.append(", ").append(changeXid);
 
         sb.append(")");
         return sb.toString();
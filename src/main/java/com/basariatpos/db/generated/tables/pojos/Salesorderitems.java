@@ -29,6 +29,7 @@ public class Salesorderitems implements Serializable {
     private JSONB prescriptionDetails;
     private Boolean isCustomLenses;
     private Boolean isRestockedOnAbandonment;
+    private BigDecimal costAmount;
 
     public Salesorderitems() {}
 
@@ -44,6 +45,7 @@ public class Salesorderitems implements Serializable {
         this.prescriptionDetails = value.prescriptionDetails;
         this.isCustomLenses = value.isCustomLenses;
         this.isRestockedOnAbandonment = value.isRestockedOnAbandonment;
+        this.costAmount = value.costAmount;
     }
 
     public Salesorderitems(
@@ -57,7 +59,8 @@ public class Salesorderitems implements Serializable {
         BigDecimal itemSubtotal,
         JSONB prescriptionDetails,
         Boolean isCustomLenses,
-        Boolean isRestockedOnAbandonment
+        Boolean isRestockedOnAbandonment,
+        BigDecimal costAmount
     ) {
         this.soItemId = soItemId;
         this.salesOrderId = salesOrderId;
@@ -70,6 +73,7 @@ public class Salesorderitems implements Serializable {
         this.prescriptionDetails = prescriptionDetails;
         this.isCustomLenses = isCustomLenses;
         this.isRestockedOnAbandonment = isRestockedOnAbandonment;
+        this.costAmount = costAmount;
     }
 
     /**
@@ -228,6 +232,20 @@ public class Salesorderitems implements Serializable {
         this.isRestockedOnAbandonment = isRestockedOnAbandonment;
     }
 
+    /**
+     * Getter for <code>public.salesorderitems.cost_amount</code>.
+     */
+    public BigDecimal getCostAmount() {
+        return this.costAmount;
+    }
+
+    /**
+     * Setter for <code>public.salesorderitems.cost_amount</code>.
+     */
+    public void setCostAmount(BigDecimal costAmount) {
+        this.costAmount = costAmount;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj)
@@ -303,6 +321,12 @@ public class Salesorderitems implements Serializable {
         }
         else if (!this.isRestockedOnAbandonment.equals(other.isRestockedOnAbandonment))
             return false;
+        if (this.costAmount == null) {
+            if (other.costAmount != null)
+                return false;
+        }
+        else if (!this.costAmount.equals(other.costAmount))
+            return false;
         return true;
     }
 
@@ -321,6 +345,7 @@ public class Salesorderitems implements Serializable {
         result = prime * result + ((this.prescriptionDetails == null) ? 0 : this.prescriptionDetails.hashCode());
         result = prime * result + ((this.isCustomLenses == null) ? 0 : this.isCustomLenses.hashCode());
         result = prime * result + ((this.isRestockedOnAbandonment == null) ? 0 : this.isRestockedOnAbandonment.hashCode());
+        result = prime * result + ((this.costAmount == null) ? 0 : this.costAmount.hashCode());
         return result;
     }
 
@@ -339,6 +364,7 @@ public class Salesorderitems implements Serializable {
         sb.append(", ").append(prescriptionDetails);
         sb.append(", ").append(isCustomLenses);
         sb.append(", ").append(isRestockedOnAbandonment);
+        sb.append(", ").append(costAmount);
 
         sb.append(")");
         return sb.toString();
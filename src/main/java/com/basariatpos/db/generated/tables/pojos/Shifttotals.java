@@ -0,0 +1,239 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables.pojos;
+
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class Shifttotals implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Integer shiftId;
+    private BigDecimal totalCashReceived;
+    private BigDecimal totalBankReceived;
+    private BigDecimal totalCashExpenses;
+    private Integer totalSalesOrders;
+    private BigDecimal totalDiscounts;
+    private OffsetDateTime updatedAt;
+
+    public Shifttotals() {}
+
+    public Shifttotals(Shifttotals value) {
+        this.shiftId = value.shiftId;
+        this.totalCashReceived = value.totalCashReceived;
+        this.totalBankReceived = value.totalBankReceived;
+        this.totalCashExpenses = value.totalCashExpenses;
+        this.totalSalesOrders = value.totalSalesOrders;
+        this.totalDiscounts = value.totalDiscounts;
+        this.updatedAt = value.updatedAt;
+    }
+
+    public Shifttotals(
+        Integer shiftId,
+        BigDecimal totalCashReceived,
+        BigDecimal totalBankReceived,
+        BigDecimal totalCashExpenses,
+        Integer totalSalesOrders,
+        BigDecimal totalDiscounts,
+        OffsetDateTime updatedAt
+    ) {
+        this.shiftId = shiftId;
+        this.totalCashReceived = totalCashReceived;
+        this.totalBankReceived = totalBankReceived;
+        this.totalCashExpenses = totalCashExpenses;
+        this.totalSalesOrders = totalSalesOrders;
+        this.totalDiscounts = totalDiscounts;
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * Getter for <code>public.shifttotals.shift_id</code>.
+     */
+    public Integer getShiftId() {
+        return this.shiftId;
+    }
+
+    /**
+     * Setter for <code>public.shifttotals.shift_id</code>.
+     */
+    public void setShiftId(Integer shiftId) {
+        this.shiftId = shiftId;
+    }
+
+    /**
+     * Getter for <code>public.shifttotals.total_cash_received</code>.
+     */
+    public BigDecimal getTotalCashReceived() {
+        return this.totalCashReceived;
+    }
+
+    /**
+     * Setter for <code>public.shifttotals.total_cash_received</code>.
+     */
+    public void setTotalCashReceived(BigDecimal totalCashReceived) {
+        this.totalCashReceived = totalCashReceived;
+    }
+
+    /**
+     * Getter for <code>public.shifttotals.total_bank_received</code>.
+     */
+    public BigDecimal getTotalBankReceived() {
+        return this.totalBankReceived;
+    }
+
+    /**
+     * Setter for <code>public.shifttotals.total_bank_received</code>.
+     */
+    public void setTotalBankReceived(BigDecimal totalBankReceived) {
+        this.totalBankReceived = totalBankReceived;
+    }
+
+    /**
+     * Getter for <code>public.shifttotals.total_cash_expenses</code>.
+     */
+    public BigDecimal getTotalCashExpenses() {
+        return this.totalCashExpenses;
+    }
+
+    /**
+     * Setter for <code>public.shifttotals.total_cash_expenses</code>.
+     */
+    public void setTotalCashExpenses(BigDecimal totalCashExpenses) {
+        this.totalCashExpenses = totalCashExpenses;
+    }
+
+    /**
+     * Getter for <code>public.shifttotals.total_sales_orders</code>.
+     */
+    public Integer getTotalSalesOrders() {
+        return this.totalSalesOrders;
+    }
+
+    /**
+     * Setter for <code>public.shifttotals.total_sales_orders</code>.
+     */
+    public void setTotalSalesOrders(Integer totalSalesOrders) {
+        this.totalSalesOrders = totalSalesOrders;
+    }
+
+    /**
+     * Getter for <code>public.shifttotals.total_discounts</code>.
+     */
+    public BigDecimal getTotalDiscounts() {
+        return this.totalDiscounts;
+    }
+
+    /**
+     * Setter for <code>public.shifttotals.total_discounts</code>.
+     */
+    public void setTotalDiscounts(BigDecimal totalDiscounts) {
+        this.totalDiscounts = totalDiscounts;
+    }
+
+    /**
+     * Getter for <code>public.shifttotals.updated_at</code>.
+     */
+    public OffsetDateTime getUpdatedAt() {
+        return this.updatedAt;
+    }
+
+    /**
+     * Setter for <code>public.shifttotals.updated_at</code>.
+     */
+    public void setUpdatedAt(OffsetDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        final Shifttotals other = (Shifttotals) obj;
+        if (this.shiftId == null) {
+            if (other.shiftId != null)
+                return false;
+        }
+        else if (!this.shiftId.equals(other.shiftId))
+            return false;
+        if (this.totalCashReceived == null) {
+            if (other.totalCashReceived != null)
+                return false;
+        }
+        else if (!this.totalCashReceived.equals(other.totalCashReceived))
+            return false;
+        if (this.totalBankReceived == null) {
+            if (other.totalBankReceived != null)
+                return false;
+        }
+        else if (!this.totalBankReceived.equals(other.totalBankReceived))
+            return false;
+        if (this.totalCashExpenses == null) {
+            if (other.totalCashExpenses != null)
+                return false;
+        }
+        else if (!this.totalCashExpenses.equals(other.totalCashExpenses))
+            return false;
+        if (this.totalSalesOrders == null) {
+            if (other.totalSalesOrders != null)
+                return false;
+        }
+        else if (!this.totalSalesOrders.equals(other.totalSalesOrders))
+            return false;
+        if (this.totalDiscounts == null) {
+            if (other.totalDiscounts != null)
+                return false;
+        }
+        else if (!this.totalDiscounts.equals(other.totalDiscounts))
+            return false;
+        if (this.updatedAt == null) {
+            if (other.updatedAt != null)
+                return false;
+        }
+        else if (!this.updatedAt.equals(other.updatedAt))
+            return false;
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((this.shiftId == null) ? 0 : this.shiftId.hashCode());
+        result = prime * result + ((this.totalCashReceived == null) ? 0 : this.totalCashReceived.hashCode());
+        result = prime * result + ((this.totalBankReceived == null) ? 0 : this.totalBankReceived.hashCode());
+        result = prime * result + ((this.totalCashExpenses == null) ? 0 : this.totalCashExpenses.hashCode());
+        result = prime * result + ((this.totalSalesOrders == null) ? 0 : this.totalSalesOrders.hashCode());
+        result = prime * result + ((this.totalDiscounts == null) ? 0 : this.totalDiscounts.hashCode());
+        result = prime * result + ((this.updatedAt == null) ? 0 : this.updatedAt.hashCode());
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Shifttotals (");
+
+        sb.append(shiftId);
+        sb.append(", ").append(totalCashReceived);
+        sb.append(", ").append(totalBankReceived);
+        sb.append(", ").append(totalCashExpenses);
+        sb.append(", ").append(totalSalesOrders);
+        sb.append(", ").append(totalDiscounts);
+        sb.append(", ").append(updatedAt);
+
+        sb.append(")");
+        return sb.toString();
+    }
+}
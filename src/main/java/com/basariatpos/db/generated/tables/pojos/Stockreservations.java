@@ -0,0 +1,238 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables.pojos;
+
+
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class Stockreservations implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long reservationId;
+    private Integer inventoryItemId;
+    private Integer quantity;
+    private Integer salesOrderId;
+    private Integer reservedByUserId;
+    private OffsetDateTime expiresAt;
+    private OffsetDateTime createdAt;
+
+    public Stockreservations() {}
+
+    public Stockreservations(Stockreservations value) {
+        this.reservationId = value.reservationId;
+        this.inventoryItemId = value.inventoryItemId;
+        this.quantity = value.quantity;
+        this.salesOrderId = value.salesOrderId;
+        this.reservedByUserId = value.reservedByUserId;
+        this.expiresAt = value.expiresAt;
+        this.createdAt = value.createdAt;
+    }
+
+    public Stockreservations(
+        Long reservationId,
+        Integer inventoryItemId,
+        Integer quantity,
+        Integer salesOrderId,
+        Integer reservedByUserId,
+        OffsetDateTime expiresAt,
+        OffsetDateTime createdAt
+    ) {
+        this.reservationId = reservationId;
+        this.inventoryItemId = inventoryItemId;
+        this.quantity = quantity;
+        this.salesOrderId = salesOrderId;
+        this.reservedByUserId = reservedByUserId;
+        this.expiresAt = expiresAt;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Getter for <code>public.stockreservations.reservation_id</code>.
+     */
+    public Long getReservationId() {
+        return this.reservationId;
+    }
+
+    /**
+     * Setter for <code>public.stockreservations.reservation_id</code>.
+     */
+    public void setReservationId(Long reservationId) {
+        this.reservationId = reservationId;
+    }
+
+    /**
+     * Getter for <code>public.stockreservations.inventory_item_id</code>.
+     */
+    public Integer getInventoryItemId() {
+        return this.inventoryItemId;
+    }
+
+    /**
+     * Setter for <code>public.stockreservations.inventory_item_id</code>.
+     */
+    public void setInventoryItemId(Integer inventoryItemId) {
+        this.inventoryItemId = inventoryItemId;
+    }
+
+    /**
+     * Getter for <code>public.stockreservations.quantity</code>.
+     */
+    public Integer getQuantity() {
+        return this.quantity;
+    }
+
+    /**
+     * Setter for <code>public.stockreservations.quantity</code>.
+     */
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    /**
+     * Getter for <code>public.stockreservations.sales_order_id</code>.
+     */
+    public Integer getSalesOrderId() {
+        return this.salesOrderId;
+    }
+
+    /**
+     * Setter for <code>public.stockreservations.sales_order_id</code>.
+     */
+    public void setSalesOrderId(Integer salesOrderId) {
+        this.salesOrderId = salesOrderId;
+    }
+
+    /**
+     * Getter for <code>public.stockreservations.reserved_by_user_id</code>.
+     */
+    public Integer getReservedByUserId() {
+        return this.reservedByUserId;
+    }
+
+    /**
+     * Setter for <code>public.stockreservations.reserved_by_user_id</code>.
+     */
+    public void setReservedByUserId(Integer reservedByUserId) {
+        this.reservedByUserId = reservedByUserId;
+    }
+
+    /**
+     * Getter for <code>public.stockreservations.expires_at</code>.
+     */
+    public OffsetDateTime getExpiresAt() {
+        return this.expiresAt;
+    }
+
+    /**
+     * Setter for <code>public.stockreservations.expires_at</code>.
+     */
+    public void setExpiresAt(OffsetDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Getter for <code>public.stockreservations.created_at</code>.
+     */
+    public OffsetDateTime getCreatedAt() {
+        return this.createdAt;
+    }
+
+    /**
+     * Setter for <code>public.stockreservations.created_at</code>.
+     */
+    public void setCreatedAt(OffsetDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        final Stockreservations other = (Stockreservations) obj;
+        if (this.reservationId == null) {
+            if (other.reservationId != null)
+                return false;
+        }
+        else if (!this.reservationId.equals(other.reservationId))
+            return false;
+        if (this.inventoryItemId == null) {
+            if (other.inventoryItemId != null)
+                return false;
+        }
+        else if (!this.inventoryItemId.equals(other.inventoryItemId))
+            return false;
+        if (this.quantity == null) {
+            if (other.quantity != null)
+                return false;
+        }
+        else if (!this.quantity.equals(other.quantity))
+            return false;
+        if (this.salesOrderId == null) {
+            if (other.salesOrderId != null)
+                return false;
+        }
+        else if (!this.salesOrderId.equals(other.salesOrderId))
+            return false;
+        if (this.reservedByUserId == null) {
+            if (other.reservedByUserId != null)
+                return false;
+        }
+        else if (!this.reservedByUserId.equals(other.reservedByUserId))
+            return false;
+        if (this.expiresAt == null) {
+            if (other.expiresAt != null)
+                return false;
+        }
+        else if (!this.expiresAt.equals(other.expiresAt))
+            return false;
+        if (this.createdAt == null) {
+            if (other.createdAt != null)
+                return false;
+        }
+        else if (!this.createdAt.equals(other.createdAt))
+            return false;
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((this.reservationId == null) ? 0 : this.reservationId.hashCode());
+        result = prime * result + ((this.inventoryItemId == null) ? 0 : this.inventoryItemId.hashCode());
+        result = prime * result + ((this.quantity == null) ? 0 : this.quantity.hashCode());
+        result = prime * result + ((this.salesOrderId == null) ? 0 : this.salesOrderId.hashCode());
+        result = prime * result + ((this.reservedByUserId == null) ? 0 : this.reservedByUserId.hashCode());
+        result = prime * result + ((this.expiresAt == null) ? 0 : this.expiresAt.hashCode());
+        result = prime * result + ((this.createdAt == null) ? 0 : this.createdAt.hashCode());
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Stockreservations (");
+
+        sb.append(reservationId);
+        sb.append(", ").append(inventoryItemId);
+        sb.append(", ").append(quantity);
+        sb.append(", ").append(salesOrderId);
+        sb.append(", ").append(reservedByUserId);
+        sb.append(", ").append(expiresAt);
+        sb.append(", ").append(createdAt);
+
+        sb.append(")");
+        return sb.toString();
+    }
+}
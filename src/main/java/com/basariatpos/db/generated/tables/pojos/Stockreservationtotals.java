@@ -0,0 +1,133 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables.pojos;
+
+
+import java.io.Serializable;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class Stockreservationtotals implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Integer inventoryItemId;
+    private Integer quantityReserved;
+    private Long version;
+
+    public Stockreservationtotals() {}
+
+    public Stockreservationtotals(Stockreservationtotals value) {
+        this.inventoryItemId = value.inventoryItemId;
+        this.quantityReserved = value.quantityReserved;
+        this.version = value.version;
+    }
+
+    public Stockreservationtotals(
+        Integer inventoryItemId,
+        Integer quantityReserved,
+        Long version
+    ) {
+        this.inventoryItemId = inventoryItemId;
+        this.quantityReserved = quantityReserved;
+        this.version = version;
+    }
+
+    /**
+     * Getter for <code>public.stockreservationtotals.inventory_item_id</code>.
+     */
+    public Integer getInventoryItemId() {
+        return this.inventoryItemId;
+    }
+
+    /**
+     * Setter for <code>public.stockreservationtotals.inventory_item_id</code>.
+     */
+    public void setInventoryItemId(Integer inventoryItemId) {
+        this.inventoryItemId = inventoryItemId;
+    }
+
+    /**
+     * Getter for <code>public.stockreservationtotals.quantity_reserved</code>.
+     */
+    public Integer getQuantityReserved() {
+        return this.quantityReserved;
+    }
+
+    /**
+     * Setter for <code>public.stockreservationtotals.quantity_reserved</code>.
+     */
+    public void setQuantityReserved(Integer quantityReserved) {
+        this.quantityReserved = quantityReserved;
+    }
+
+    /**
+     * Getter for <code>public.stockreservationtotals.version</code>.
+     */
+    public Long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Setter for <code>public.stockreservationtotals.version</code>.
+     */
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        final Stockreservationtotals other = (Stockreservationtotals) obj;
+        if (this.inventoryItemId == null) {
+            if (other.inventoryItemId != null)
+                return false;
+        }
+        else if (!this.inventoryItemId.equals(other.inventoryItemId))
+            return false;
+        if (this.quantityReserved == null) {
+            if (other.quantityReserved != null)
+                return false;
+        }
+        else if (!this.quantityReserved.equals(other.quantityReserved))
+            return false;
+        if (this.version == null) {
+            if (other.version != null)
+                return false;
+        }
+        else if (!this.version.equals(other.version))
+            return false;
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((this.inventoryItemId == null) ? 0 : this.inventoryItemId.hashCode());
+        result = prime * result + ((this.quantityReserved == null) ? 0 : this.quantityReserved.hashCode());
+        result = prime * result + ((this.version == null) ? 0 : this.version.hashCode());
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Stockreservationtotals (");
+
+        sb.append(inventoryItemId);
+        sb.append(", ").append(quantityReserved);
+        sb.append(", ").append(version);
+
+        sb.append(")");
+        return sb.toString();
+    }
+}
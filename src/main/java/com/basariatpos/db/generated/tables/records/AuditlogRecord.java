@@ -8,7 +8,8 @@ import com.basariatpos.db.generated.tables.Auditlog;
 
 import java.time.OffsetDateTime;
 
-import org.jooq.Record1;
+import org.jooq.JSONB;
+import org.jooq.Record2;
 import org.jooq.impl.UpdatableRecordImpl;
 
 
@@ -79,29 +80,29 @@ public class AuditlogRecord extends UpdatableRecordImpl<AuditlogRecord> {
     /**
      * Setter for <code>public.auditlog.old_value</code>.
      */
-    public void setOldValue(String value) {
+    public void setOldValue(JSONB value) {
         set(4, value);
     }
 
     /**
      * Getter for <code>public.auditlog.old_value</code>.
      */
-    public String getOldValue() {
-        return (String) get(4);
+    public JSONB getOldValue() {
+        return (JSONB) get(4);
     }
 
     /**
      * Setter for <code>public.auditlog.new_value</code>.
      */
-    public void setNewValue(String value) {
+    public void setNewValue(JSONB value) {
         set(5, value);
     }
 
     /**
      * Getter for <code>public.auditlog.new_value</code>.
      */
-    public String getNewValue() {
-        return (String) get(5);
+    public JSONB getNewValue() {
+        return (JSONB) get(5);
     }
 
     /**
@@ -165,8 +166,8 @@ public class AuditlogRecord extends UpdatableRecordImpl<AuditlogRecord> {
     // -------------------------------------------------------------------------
 
     @Override
-    public Record1<Long> key() {
-        return (Record1) super.key();
+    public Record2<OffsetDateTime, Long> key() {
+        return (Record2) super.key();
     }
 
     // -------------------------------------------------------------------------
@@ -183,7 +184,7 @@ public class AuditlogRecord extends UpdatableRecordImpl<AuditlogRecord> {
     /**
      * Create a detached, initialised AuditlogRecord
      */
-    public AuditlogRecord(Long auditLogId, String tableName, String recordPk, String columnName, String oldValue, String newValue, String actionType, OffsetDateTime actionTimestamp, Integer userId, String details) {
+    public AuditlogRecord(Long auditLogId, String tableName, String recordPk, String columnName, JSONB oldValue, JSONB newValue, String actionType, OffsetDateTime actionTimestamp, Integer userId, String details) {
         super(Auditlog.AUDITLOG);
 
         setAuditLogId(auditLogId);
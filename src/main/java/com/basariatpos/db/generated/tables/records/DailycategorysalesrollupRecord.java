@@ -0,0 +1,143 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables.records;
+
+
+import com.basariatpos.db.generated.tables.Dailycategorysalesrollup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.jooq.Record2;
+import org.jooq.impl.UpdatableRecordImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class DailycategorysalesrollupRecord extends UpdatableRecordImpl<DailycategorysalesrollupRecord> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Setter for <code>public.dailycategorysalesrollup.rollup_date</code>.
+     */
+    public void setRollupDate(LocalDate value) {
+        set(0, value);
+    }
+
+    /**
+     * Getter for <code>public.dailycategorysalesrollup.rollup_date</code>.
+     */
+    public LocalDate getRollupDate() {
+        return (LocalDate) get(0);
+    }
+
+    /**
+     * Setter for <code>public.dailycategorysalesrollup.category_id</code>.
+     */
+    public void setCategoryId(Integer value) {
+        set(1, value);
+    }
+
+    /**
+     * Getter for <code>public.dailycategorysalesrollup.category_id</code>.
+     */
+    public Integer getCategoryId() {
+        return (Integer) get(1);
+    }
+
+    /**
+     * Setter for <code>public.dailycategorysalesrollup.quantity_sold</code>.
+     */
+    public void setQuantitySold(Integer value) {
+        set(2, value);
+    }
+
+    /**
+     * Getter for <code>public.dailycategorysalesrollup.quantity_sold</code>.
+     */
+    public Integer getQuantitySold() {
+        return (Integer) get(2);
+    }
+
+    /**
+     * Setter for <code>public.dailycategorysalesrollup.sales_amount</code>.
+     */
+    public void setSalesAmount(BigDecimal value) {
+        set(3, value);
+    }
+
+    /**
+     * Getter for <code>public.dailycategorysalesrollup.sales_amount</code>.
+     */
+    public BigDecimal getSalesAmount() {
+        return (BigDecimal) get(3);
+    }
+
+    /**
+     * Setter for <code>public.dailycategorysalesrollup.cogs</code>.
+     */
+    public void setCogs(BigDecimal value) {
+        set(4, value);
+    }
+
+    /**
+     * Getter for <code>public.dailycategorysalesrollup.cogs</code>.
+     */
+    public BigDecimal getCogs() {
+        return (BigDecimal) get(4);
+    }
+
+    // -------------------------------------------------------------------------
+    // Primary key information
+    // -------------------------------------------------------------------------
+
+    @Override
+    public Record2<LocalDate, Integer> key() {
+        return (Record2) super.key();
+    }
+
+    // -------------------------------------------------------------------------
+    // Constructors
+    // -------------------------------------------------------------------------
+
+    /**
+     * Create a detached DailycategorysalesrollupRecord
+     */
+    public DailycategorysalesrollupRecord() {
+        super(Dailycategorysalesrollup.DAILYCATEGORYSALESROLLUP);
+    }
+
+    /**
+     * Create a detached, initialised DailycategorysalesrollupRecord
+     */
+    public DailycategorysalesrollupRecord(LocalDate rollupDate, Integer categoryId, Integer quantitySold, BigDecimal salesAmount, BigDecimal cogs) {
+        super(Dailycategorysalesrollup.DAILYCATEGORYSALESROLLUP);
+
+        setRollupDate(rollupDate);
+        setCategoryId(categoryId);
+        setQuantitySold(quantitySold);
+        setSalesAmount(salesAmount);
+        setCogs(cogs);
+        resetChangedOnNotNull();
+    }
+
+    /**
+     * Create a detached, initialised DailycategorysalesrollupRecord
+     */
+    public DailycategorysalesrollupRecord(com.basariatpos.db.generated.tables.pojos.Dailycategorysalesrollup value) {
+        super(Dailycategorysalesrollup.DAILYCATEGORYSALESROLLUP);
+
+        if (value != null) {
+            setRollupDate(value.getRollupDate());
+            setCategoryId(value.getCategoryId());
+            setQuantitySold(value.getQuantitySold());
+            setSalesAmount(value.getSalesAmount());
+            setCogs(value.getCogs());
+            resetChangedOnNotNull();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables.records;
+
+
+import com.basariatpos.db.generated.tables.Dailyexpenserollup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.jooq.Record3;
+import org.jooq.impl.UpdatableRecordImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class DailyexpenserollupRecord extends UpdatableRecordImpl<DailyexpenserollupRecord> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Setter for <code>public.dailyexpenserollup.rollup_date</code>.
+     */
+    public void setRollupDate(LocalDate value) {
+        set(0, value);
+    }
+
+    /**
+     * Getter for <code>public.dailyexpenserollup.rollup_date</code>.
+     */
+    public LocalDate getRollupDate() {
+        return (LocalDate) get(0);
+    }
+
+    /**
+     * Setter for <code>public.dailyexpenserollup.expense_category_id</code>.
+     */
+    public void setExpenseCategoryId(Integer value) {
+        set(1, value);
+    }
+
+    /**
+     * Getter for <code>public.dailyexpenserollup.expense_category_id</code>.
+     */
+    public Integer getExpenseCategoryId() {
+        return (Integer) get(1);
+    }
+
+    /**
+     * Setter for <code>public.dailyexpenserollup.user_id</code>.
+     */
+    public void setUserId(Integer value) {
+        set(2, value);
+    }
+
+    /**
+     * Getter for <code>public.dailyexpenserollup.user_id</code>.
+     */
+    public Integer getUserId() {
+        return (Integer) get(2);
+    }
+
+    /**
+     * Setter for <code>public.dailyexpenserollup.expense_count</code>.
+     */
+    public void setExpenseCount(Integer value) {
+        set(3, value);
+    }
+
+    /**
+     * Getter for <code>public.dailyexpenserollup.expense_count</code>.
+     */
+    public Integer getExpenseCount() {
+        return (Integer) get(3);
+    }
+
+    /**
+     * Setter for <code>public.dailyexpenserollup.cash_amount</code>.
+     */
+    public void setCashAmount(BigDecimal value) {
+        set(4, value);
+    }
+
+    /**
+     * Getter for <code>public.dailyexpenserollup.cash_amount</code>.
+     */
+    public BigDecimal getCashAmount() {
+        return (BigDecimal) get(4);
+    }
+
+    /**
+     * Setter for <code>public.dailyexpenserollup.bank_amount</code>.
+     */
+    public void setBankAmount(BigDecimal value) {
+        set(5, value);
+    }
+
+    /**
+     * Getter for <code>public.dailyexpenserollup.bank_amount</code>.
+     */
+    public BigDecimal getBankAmount() {
+        return (BigDecimal) get(5);
+    }
+
+    // -------------------------------------------------------------------------
+    // Primary key information
+    // -------------------------------------------------------------------------
+
+    @Override
+    public Record3<LocalDate, Integer, Integer> key() {
+        return (Record3) super.key();
+    }
+
+    // -------------------------------------------------------------------------
+    // Constructors
+    // -------------------------------------------------------------------------
+
+    /**
+     * Create a detached DailyexpenserollupRecord
+     */
+    public DailyexpenserollupRecord() {
+        super(Dailyexpenserollup.DAILYEXPENSEROLLUP);
+    }
+
+    /**
+     * Create a detached, initialised DailyexpenserollupRecord
+     */
+    public DailyexpenserollupRecord(LocalDate rollupDate, Integer expenseCategoryId, Integer userId, Integer expenseCount, BigDecimal cashAmount, BigDecimal bankAmount) {
+        super(Dailyexpenserollup.DAILYEXPENSEROLLUP);
+
+        setRollupDate(rollupDate);
+        setExpenseCategoryId(expenseCategoryId);
+        setUserId(userId);
+        setExpenseCount(expenseCount);
+        setCashAmount(cashAmount);
+        setBankAmount(bankAmount);
+        resetChangedOnNotNull();
+    }
+
+    /**
+     * Create a detached, initialised DailyexpenserollupRecord
+     */
+    public DailyexpenserollupRecord(com.basariatpos.db.generated.tables.pojos.Dailyexpenserollup value) {
+        super(Dailyexpenserollup.DAILYEXPENSEROLLUP);
+
+        if (value != null) {
+            setRollupDate(value.getRollupDate());
+            setExpenseCategoryId(value.getExpenseCategoryId());
+            setUserId(value.getUserId());
+            setExpenseCount(value.getExpenseCount());
+            setCashAmount(value.getCashAmount());
+            setBankAmount(value.getBankAmount());
+            resetChangedOnNotNull();
+        }
+    }
+}
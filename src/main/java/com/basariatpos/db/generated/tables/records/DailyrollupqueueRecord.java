@@ -0,0 +1,111 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables.records;
+
+
+import com.basariatpos.db.generated.tables.Dailyrollupqueue;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+import org.jooq.Record1;
+import org.jooq.impl.UpdatableRecordImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class DailyrollupqueueRecord extends UpdatableRecordImpl<DailyrollupqueueRecord> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Setter for <code>public.dailyrollupqueue.queue_id</code>.
+     */
+    public void setQueueId(Long value) {
+        set(0, value);
+    }
+
+    /**
+     * Getter for <code>public.dailyrollupqueue.queue_id</code>.
+     */
+    public Long getQueueId() {
+        return (Long) get(0);
+    }
+
+    /**
+     * Setter for <code>public.dailyrollupqueue.rollup_date</code>.
+     */
+    public void setRollupDate(LocalDate value) {
+        set(1, value);
+    }
+
+    /**
+     * Getter for <code>public.dailyrollupqueue.rollup_date</code>.
+     */
+    public LocalDate getRollupDate() {
+        return (LocalDate) get(1);
+    }
+
+    /**
+     * Setter for <code>public.dailyrollupqueue.queued_at</code>.
+     */
+    public void setQueuedAt(OffsetDateTime value) {
+        set(2, value);
+    }
+
+    /**
+     * Getter for <code>public.dailyrollupqueue.queued_at</code>.
+     */
+    public OffsetDateTime getQueuedAt() {
+        return (OffsetDateTime) get(2);
+    }
+
+    // -------------------------------------------------------------------------
+    // Primary key information
+    // -------------------------------------------------------------------------
+
+    @Override
+    public Record1<Long> key() {
+        return (Record1) super.key();
+    }
+
+    // -------------------------------------------------------------------------
+    // Constructors
+    // -------------------------------------------------------------------------
+
+    /**
+     * Create a detached DailyrollupqueueRecord
+     */
+    public DailyrollupqueueRecord() {
+        super(Dailyrollupqueue.DAILYROLLUPQUEUE);
+    }
+
+    /**
+     * Create a detached, initialised DailyrollupqueueRecord
+     */
+    public DailyrollupqueueRecord(Long queueId, LocalDate rollupDate, OffsetDateTime queuedAt) {
+        super(Dailyrollupqueue.DAILYROLLUPQUEUE);
+
+        setQueueId(queueId);
+        setRollupDate(rollupDate);
+        setQueuedAt(queuedAt);
+        resetChangedOnNotNull();
+    }
+
+    /**
+     * Create a detached, initialised DailyrollupqueueRecord
+     */
+    public DailyrollupqueueRecord(com.basariatpos.db.generated.tables.pojos.Dailyrollupqueue value) {
+        super(Dailyrollupqueue.DAILYROLLUPQUEUE);
+
+        if (value != null) {
+            setQueueId(value.getQueueId());
+            setRollupDate(value.getRollupDate());
+            setQueuedAt(value.getQueuedAt());
+            resetChangedOnNotNull();
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables.records;
+
+
+import com.basariatpos.db.generated.tables.Dailysalesrollup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.jooq.Record2;
+import org.jooq.impl.UpdatableRecordImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class DailysalesrollupRecord extends UpdatableRecordImpl<DailysalesrollupRecord> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Setter for <code>public.dailysalesrollup.rollup_date</code>.
+     */
+    public void setRollupDate(LocalDate value) {
+        set(0, value);
+    }
+
+    /**
+     * Getter for <code>public.dailysalesrollup.rollup_date</code>.
+     */
+    public LocalDate getRollupDate() {
+        return (LocalDate) get(0);
+    }
+
+    /**
+     * Setter for <code>public.dailysalesrollup.user_id</code>.
+     */
+    public void setUserId(Integer value) {
+        set(1, value);
+    }
+
+    /**
+     * Getter for <code>public.dailysalesrollup.user_id</code>.
+     */
+    public Integer getUserId() {
+        return (Integer) get(1);
+    }
+
+    /**
+     * Setter for <code>public.dailysalesrollup.sales_orders</code>.
+     */
+    public void setSalesOrders(Integer value) {
+        set(2, value);
+    }
+
+    /**
+     * Getter for <code>public.dailysalesrollup.sales_orders</code>.
+     */
+    public Integer getSalesOrders() {
+        return (Integer) get(2);
+    }
+
+    /**
+     * Setter for <code>public.dailysalesrollup.gross_sales</code>.
+     */
+    public void setGrossSales(BigDecimal value) {
+        set(3, value);
+    }
+
+    /**
+     * Getter for <code>public.dailysalesrollup.gross_sales</code>.
+     */
+    public BigDecimal getGrossSales() {
+        return (BigDecimal) get(3);
+    }
+
+    /**
+     * Setter for <code>public.dailysalesrollup.discounts</code>.
+     */
+    public void setDiscounts(BigDecimal value) {
+        set(4, value);
+    }
+
+    /**
+     * Getter for <code>public.dailysalesrollup.discounts</code>.
+     */
+    public BigDecimal getDiscounts() {
+        return (BigDecimal) get(4);
+    }
+
+    /**
+     * Setter for <code>public.dailysalesrollup.cash_received</code>.
+     */
+    public void setCashReceived(BigDecimal value) {
+        set(5, value);
+    }
+
+    /**
+     * Getter for <code>public.dailysalesrollup.cash_received</code>.
+     */
+    public BigDecimal getCashReceived() {
+        return (BigDecimal) get(5);
+    }
+
+    /**
+     * Setter for <code>public.dailysalesrollup.bank_received</code>.
+     */
+    public void setBankReceived(BigDecimal value) {
+        set(6, value);
+    }
+
+    /**
+     * Getter for <code>public.dailysalesrollup.bank_received</code>.
+     */
+    public BigDecimal getBankReceived() {
+        return (BigDecimal) get(6);
+    }
+
+    /**
+     * Setter for <code>public.dailysalesrollup.revenue</code>.
+     */
+    public void setRevenue(BigDecimal value) {
+        set(7, value);
+    }
+
+    /**
+     * Getter for <code>public.dailysalesrollup.revenue</code>.
+     */
+    public BigDecimal getRevenue() {
+        return (BigDecimal) get(7);
+    }
+
+    // -------------------------------------------------------------------------
+    // Primary key information
+    // -------------------------------------------------------------------------
+
+    @Override
+    public Record2<LocalDate, Integer> key() {
+        return (Record2) super.key();
+    }
+
+    // -------------------------------------------------------------------------
+    // Constructors
+    // -------------------------------------------------------------------------
+
+    /**
+     * Create a detached DailysalesrollupRecord
+     */
+    public DailysalesrollupRecord() {
+        super(Dailysalesrollup.DAILYSALESROLLUP);
+    }
+
+    /**
+     * Create a detached, initialised DailysalesrollupRecord
+     */
+    public DailysalesrollupRecord(LocalDate rollupDate, Integer userId, Integer salesOrders, BigDecimal grossSales, BigDecimal discounts, BigDecimal cashReceived, BigDecimal bankReceived, BigDecimal revenue) {
+        super(Dailysalesrollup.DAILYSALESROLLUP);
+
+        setRollupDate(rollupDate);
+        setUserId(userId);
+        setSalesOrders(salesOrders);
+        setGrossSales(grossSales);
+        setDiscounts(discounts);
+        setCashReceived(cashReceived);
+        setBankReceived(bankReceived);
+        setRevenue(revenue);
+        resetChangedOnNotNull();
+    }
+
+    /**
+     * Create a detached, initialised DailysalesrollupRecord
+     */
+    public DailysalesrollupRecord(com.basariatpos.db.generated.tables.pojos.Dailysalesrollup value) {
+        super(Dailysalesrollup.DAILYSALESROLLUP);
+
+        if (value != null) {
+            setRollupDate(value.getRollupDate());
+            setUserId(value.getUserId());
+            setSalesOrders(value.getSalesOrders());
+            setGrossSales(value.getGrossSales());
+            setDiscounts(value.getDiscounts());
+            setCashReceived(value.getCashReceived());
+            setBankReceived(value.getBankReceived());
+            setRevenue(value.getRevenue());
+            resetChangedOnNotNull();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables.records;
+
+
+import com.basariatpos.db.generated.tables.Findsalesordersubtotalmismatches;
+
+import java.math.BigDecimal;
+
+import org.jooq.impl.TableRecordImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class FindsalesordersubtotalmismatchesRecord extends TableRecordImpl<FindsalesordersubtotalmismatchesRecord> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Setter for
+     * <code>public.findsalesordersubtotalmismatches.sales_order_id</code>.
+     */
+    public void setSalesOrderId(Integer value) {
+        set(0, value);
+    }
+
+    /**
+     * Getter for
+     * <code>public.findsalesordersubtotalmismatches.sales_order_id</code>.
+     */
+    public Integer getSalesOrderId() {
+        return (Integer) get(0);
+    }
+
+    /**
+     * Setter for
+     * <code>public.findsalesordersubtotalmismatches.stored_subtotal</code>.
+     */
+    public void setStoredSubtotal(BigDecimal value) {
+        set(1, value);
+    }
+
+    /**
+     * Getter for
+     * <code>public.findsalesordersubtotalmismatches.stored_subtotal</code>.
+     */
+    public BigDecimal getStoredSubtotal() {
+        return (BigDecimal) get(1);
+    }
+
+    /**
+     * Setter for
+     * <code>public.findsalesordersubtotalmismatches.expected_subtotal</code>.
+     */
+    public void setExpectedSubtotal(BigDecimal value) {
+        set(2, value);
+    }
+
+    /**
+     * Getter for
+     * <code>public.findsalesordersubtotalmismatches.expected_subtotal</code>.
+     */
+    public BigDecimal getExpectedSubtotal() {
+        return (BigDecimal) get(2);
+    }
+
+    // -------------------------------------------------------------------------
+    // Constructors
+    // -------------------------------------------------------------------------
+
+    /**
+     * Create a detached FindsalesordersubtotalmismatchesRecord
+     */
+    public FindsalesordersubtotalmismatchesRecord() {
+        super(Findsalesordersubtotalmismatches.FINDSALESORDERSUBTOTALMISMATCHES);
+    }
+
+    /**
+     * Create a detached, initialised FindsalesordersubtotalmismatchesRecord
+     */
+    public FindsalesordersubtotalmismatchesRecord(Integer salesOrderId, BigDecimal storedSubtotal, BigDecimal expectedSubtotal) {
+        super(Findsalesordersubtotalmismatches.FINDSALESORDERSUBTOTALMISMATCHES);
+
+        setSalesOrderId(salesOrderId);
+        setStoredSubtotal(storedSubtotal);
+        setExpectedSubtotal(expectedSubtotal);
+        resetChangedOnNotNull();
+    }
+
+    /**
+     * Create a detached, initialised FindsalesordersubtotalmismatchesRecord
+     */
+    public FindsalesordersubtotalmismatchesRecord(com.basariatpos.db.generated.tables.pojos.Findsalesordersubtotalmismatches value) {
+        super(Findsalesordersubtotalmismatches.FINDSALESORDERSUBTOTALMISMATCHES);
+
+        if (value != null) {
+            setSalesOrderId(value.getSalesOrderId());
+            setStoredSubtotal(value.getStoredSubtotal());
+            setExpectedSubtotal(value.getExpectedSubtotal());
+            resetChangedOnNotNull();
+        }
+    }
+}
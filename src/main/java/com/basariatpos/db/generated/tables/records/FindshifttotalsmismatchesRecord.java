@@ -0,0 +1,248 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables.records;
+
+
+import com.basariatpos.db.generated.tables.Findshifttotalsmismatches;
+
+import java.math.BigDecimal;
+
+import org.jooq.impl.TableRecordImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class FindshifttotalsmismatchesRecord extends TableRecordImpl<FindshifttotalsmismatchesRecord> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Setter for <code>public.findshifttotalsmismatches.shift_id</code>.
+     */
+    public void setShiftId(Integer value) {
+        set(0, value);
+    }
+
+    /**
+     * Getter for <code>public.findshifttotalsmismatches.shift_id</code>.
+     */
+    public Integer getShiftId() {
+        return (Integer) get(0);
+    }
+
+    /**
+     * Setter for
+     * <code>public.findshifttotalsmismatches.stored_cash_received</code>.
+     */
+    public void setStoredCashReceived(BigDecimal value) {
+        set(1, value);
+    }
+
+    /**
+     * Getter for
+     * <code>public.findshifttotalsmismatches.stored_cash_received</code>.
+     */
+    public BigDecimal getStoredCashReceived() {
+        return (BigDecimal) get(1);
+    }
+
+    /**
+     * Setter for
+     * <code>public.findshifttotalsmismatches.actual_cash_received</code>.
+     */
+    public void setActualCashReceived(BigDecimal value) {
+        set(2, value);
+    }
+
+    /**
+     * Getter for
+     * <code>public.findshifttotalsmismatches.actual_cash_received</code>.
+     */
+    public BigDecimal getActualCashReceived() {
+        return (BigDecimal) get(2);
+    }
+
+    /**
+     * Setter for
+     * <code>public.findshifttotalsmismatches.stored_bank_received</code>.
+     */
+    public void setStoredBankReceived(BigDecimal value) {
+        set(3, value);
+    }
+
+    /**
+     * Getter for
+     * <code>public.findshifttotalsmismatches.stored_bank_received</code>.
+     */
+    public BigDecimal getStoredBankReceived() {
+        return (BigDecimal) get(3);
+    }
+
+    /**
+     * Setter for
+     * <code>public.findshifttotalsmismatches.actual_bank_received</code>.
+     */
+    public void setActualBankReceived(BigDecimal value) {
+        set(4, value);
+    }
+
+    /**
+     * Getter for
+     * <code>public.findshifttotalsmismatches.actual_bank_received</code>.
+     */
+    public BigDecimal getActualBankReceived() {
+        return (BigDecimal) get(4);
+    }
+
+    /**
+     * Setter for
+     * <code>public.findshifttotalsmismatches.stored_cash_expenses</code>.
+     */
+    public void setStoredCashExpenses(BigDecimal value) {
+        set(5, value);
+    }
+
+    /**
+     * Getter for
+     * <code>public.findshifttotalsmismatches.stored_cash_expenses</code>.
+     */
+    public BigDecimal getStoredCashExpenses() {
+        return (BigDecimal) get(5);
+    }
+
+    /**
+     * Setter for
+     * <code>public.findshifttotalsmismatches.actual_cash_expenses</code>.
+     */
+    public void setActualCashExpenses(BigDecimal value) {
+        set(6, value);
+    }
+
+    /**
+     * Getter for
+     * <code>public.findshifttotalsmismatches.actual_cash_expenses</code>.
+     */
+    public BigDecimal getActualCashExpenses() {
+        return (BigDecimal) get(6);
+    }
+
+    /**
+     * Setter for
+     * <code>public.findshifttotalsmismatches.stored_sales_orders</code>.
+     */
+    public void setStoredSalesOrders(Integer value) {
+        set(7, value);
+    }
+
+    /**
+     * Getter for
+     * <code>public.findshifttotalsmismatches.stored_sales_orders</code>.
+     */
+    public Integer getStoredSalesOrders() {
+        return (Integer) get(7);
+    }
+
+    /**
+     * Setter for
+     * <code>public.findshifttotalsmismatches.actual_sales_orders</code>.
+     */
+    public void setActualSalesOrders(Integer value) {
+        set(8, value);
+    }
+
+    /**
+     * Getter for
+     * <code>public.findshifttotalsmismatches.actual_sales_orders</code>.
+     */
+    public Integer getActualSalesOrders() {
+        return (Integer) get(8);
+    }
+
+    /**
+     * Setter for
+     * <code>public.findshifttotalsmismatches.stored_discounts</code>.
+     */
+    public void setStoredDiscounts(BigDecimal value) {
+        set(9, value);
+    }
+
+    /**
+     * Getter for
+     * <code>public.findshifttotalsmismatches.stored_discounts</code>.
+     */
+    public BigDecimal getStoredDiscounts() {
+        return (BigDecimal) get(9);
+    }
+
+    /**
+     * Setter for
+     * <code>public.findshifttotalsmismatches.actual_discounts</code>.
+     */
+    public void setActualDiscounts(BigDecimal value) {
+        set(10, value);
+    }
+
+    /**
+     * Getter for
+     * <code>public.findshifttotalsmismatches.actual_discounts</code>.
+     */
+    public BigDecimal getActualDiscounts() {
+        return (BigDecimal) get(10);
+    }
+
+    // -------------------------------------------------------------------------
+    // Constructors
+    // -------------------------------------------------------------------------
+
+    /**
+     * Create a detached FindshifttotalsmismatchesRecord
+     */
+    public FindshifttotalsmismatchesRecord() {
+        super(Findshifttotalsmismatches.FINDSHIFTTOTALSMISMATCHES);
+    }
+
+    /**
+     * Create a detached, initialised FindshifttotalsmismatchesRecord
+     */
+    public FindshifttotalsmismatchesRecord(Integer shiftId, BigDecimal storedCashReceived, BigDecimal actualCashReceived, BigDecimal storedBankReceived, BigDecimal actualBankReceived, BigDecimal storedCashExpenses, BigDecimal actualCashExpenses, Integer storedSalesOrders, Integer actualSalesOrders, BigDecimal storedDiscounts, BigDecimal actualDiscounts) {
+        super(Findshifttotalsmismatches.FINDSHIFTTOTALSMISMATCHES);
+
+        setShiftId(shiftId);
+        setStoredCashReceived(storedCashReceived);
+        setActualCashReceived(actualCashReceived);
+        setStoredBankReceived(storedBankReceived);
+        setActualBankReceived(actualBankReceived);
+        setStoredCashExpenses(storedCashExpenses);
+        setActualCashExpenses(actualCashExpenses);
+        setStoredSalesOrders(storedSalesOrders);
+        setActualSalesOrders(actualSalesOrders);
+        setStoredDiscounts(storedDiscounts);
+        setActualDiscounts(actualDiscounts);
+        resetChangedOnNotNull();
+    }
+
+    /**
+     * Create a detached, initialised FindshifttotalsmismatchesRecord
+     */
+    public FindshifttotalsmismatchesRecord(com.basariatpos.db.generated.tables.pojos.Findshifttotalsmismatches value) {
+        super(Findshifttotalsmismatches.FINDSHIFTTOTALSMISMATCHES);
+
+        if (value != null) {
+            setShiftId(value.getShiftId());
+            setStoredCashReceived(value.getStoredCashReceived());
+            setActualCashReceived(value.getActualCashReceived());
+            setStoredBankReceived(value.getStoredBankReceived());
+            setActualBankReceived(value.getActualBankReceived());
+            setStoredCashExpenses(value.getStoredCashExpenses());
+            setActualCashExpenses(value.getActualCashExpenses());
+            setStoredSalesOrders(value.getStoredSalesOrders());
+            setActualSalesOrders(value.getActualSalesOrders());
+            setStoredDiscounts(value.getStoredDiscounts());
+            setActualDiscounts(value.getActualDiscounts());
+            resetChangedOnNotNull();
+        }
+    }
+}
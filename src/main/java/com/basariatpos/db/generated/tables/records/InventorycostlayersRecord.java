@@ -0,0 +1,191 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables.records;
+
+
+import com.basariatpos.db.generated.tables.Inventorycostlayers;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+import org.jooq.Record1;
+import org.jooq.impl.UpdatableRecordImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class InventorycostlayersRecord extends UpdatableRecordImpl<InventorycostlayersRecord> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Setter for <code>public.inventorycostlayers.cost_layer_id</code>.
+     */
+    public void setCostLayerId(Long value) {
+        set(0, value);
+    }
+
+    /**
+     * Getter for <code>public.inventorycostlayers.cost_layer_id</code>.
+     */
+    public Long getCostLayerId() {
+        return (Long) get(0);
+    }
+
+    /**
+     * Setter for <code>public.inventorycostlayers.inventory_item_id</code>.
+     */
+    public void setInventoryItemId(Integer value) {
+        set(1, value);
+    }
+
+    /**
+     * Getter for <code>public.inventorycostlayers.inventory_item_id</code>.
+     */
+    public Integer getInventoryItemId() {
+        return (Integer) get(1);
+    }
+
+    /**
+     * Setter for <code>public.inventorycostlayers.source</code>.
+     */
+    public void setSource(String value) {
+        set(2, value);
+    }
+
+    /**
+     * Getter for <code>public.inventorycostlayers.source</code>.
+     */
+    public String getSource() {
+        return (String) get(2);
+    }
+
+    /**
+     * Setter for <code>public.inventorycostlayers.po_item_id</code>.
+     */
+    public void setPoItemId(Integer value) {
+        set(3, value);
+    }
+
+    /**
+     * Getter for <code>public.inventorycostlayers.po_item_id</code>.
+     */
+    public Integer getPoItemId() {
+        return (Integer) get(3);
+    }
+
+    /**
+     * Setter for <code>public.inventorycostlayers.unit_cost</code>.
+     */
+    public void setUnitCost(BigDecimal value) {
+        set(4, value);
+    }
+
+    /**
+     * Getter for <code>public.inventorycostlayers.unit_cost</code>.
+     */
+    public BigDecimal getUnitCost() {
+        return (BigDecimal) get(4);
+    }
+
+    /**
+     * Setter for <code>public.inventorycostlayers.quantity_received</code>.
+     */
+    public void setQuantityReceived(Integer value) {
+        set(5, value);
+    }
+
+    /**
+     * Getter for <code>public.inventorycostlayers.quantity_received</code>.
+     */
+    public Integer getQuantityReceived() {
+        return (Integer) get(5);
+    }
+
+    /**
+     * Setter for <code>public.inventorycostlayers.quantity_remaining</code>.
+     */
+    public void setQuantityRemaining(Integer value) {
+        set(6, value);
+    }
+
+    /**
+     * Getter for <code>public.inventorycostlayers.quantity_remaining</code>.
+     */
+    public Integer getQuantityRemaining() {
+        return (Integer) get(6);
+    }
+
+    /**
+     * Setter for <code>public.inventorycostlayers.created_at</code>.
+     */
+    public void setCreatedAt(OffsetDateTime value) {
+        set(7, value);
+    }
+
+    /**
+     * Getter for <code>public.inventorycostlayers.created_at</code>.
+     */
+    public OffsetDateTime getCreatedAt() {
+        return (OffsetDateTime) get(7);
+    }
+
+    // -------------------------------------------------------------------------
+    // Primary key information
+    // -------------------------------------------------------------------------
+
+    @Override
+    public Record1<Long> key() {
+        return (Record1) super.key();
+    }
+
+    // -------------------------------------------------------------------------
+    // Constructors
+    // -------------------------------------------------------------------------
+
+    /**
+     * Create a detached InventorycostlayersRecord
+     */
+    public InventorycostlayersRecord() {
+        super(Inventorycostlayers.INVENTORYCOSTLAYERS);
+    }
+
+    /**
+     * Create a detached, initialised InventorycostlayersRecord
+     */
+    public InventorycostlayersRecord(Long costLayerId, Integer inventoryItemId, String source, Integer poItemId, BigDecimal unitCost, Integer quantityReceived, Integer quantityRemaining, OffsetDateTime createdAt) {
+        super(Inventorycostlayers.INVENTORYCOSTLAYERS);
+
+        setCostLayerId(costLayerId);
+        setInventoryItemId(inventoryItemId);
+        setSource(source);
+        setPoItemId(poItemId);
+        setUnitCost(unitCost);
+        setQuantityReceived(quantityReceived);
+        setQuantityRemaining(quantityRemaining);
+        setCreatedAt(createdAt);
+        resetChangedOnNotNull();
+    }
+
+    /**
+     * Create a detached, initialised InventorycostlayersRecord
+     */
+    public InventorycostlayersRecord(com.basariatpos.db.generated.tables.pojos.Inventorycostlayers value) {
+        super(Inventorycostlayers.INVENTORYCOSTLAYERS);
+
+        if (value != null) {
+            setCostLayerId(value.getCostLayerId());
+            setInventoryItemId(value.getInventoryItemId());
+            setSource(value.getSource());
+            setPoItemId(value.getPoItemId());
+            setUnitCost(value.getUnitCost());
+            setQuantityReceived(value.getQuantityReceived());
+            setQuantityRemaining(value.getQuantityRemaining());
+            setCreatedAt(value.getCreatedAt());
+            resetChangedOnNotNull();
+        }
+    }
+}
@@ -218,6 +218,20 @@ public class InventoryitemsRecord extends UpdatableRecordImpl<InventoryitemsReco
         return (OffsetDateTime) get(13);
     }
 
+    /**
+     * Setter for <code>public.inventoryitems.change_xid</code>.
+     */
+    public void setChangeXid(Long value) {
+        set(14, value);
+    }
+
+    /**
+     * Getter for <code>public.inventoryitems.change_xid</code>.
+     */
+    public Long getChangeXid() {
+        return (Long) get(14);
+    }
+
     // -------------------------------------------------------------------------
     // Primary key information
     // -------------------------------------------------------------------------
@@ -241,7 +255,7 @@ public class InventoryitemsRecord extends UpdatableRecordImpl<InventoryitemsReco
     /**
      * Create a detached, initialised InventoryitemsRecord
      */
-    public InventoryitemsRecord(Integer inventoryItemId, Integer productId, String brandName, String itemSpecificNameEn, String itemSpecificNameAr, JSONB attributes, Integer quantityOnHand, BigDecimal sellingPrice, BigDecimal costPrice, Integer minStockLevel, String unitOfMeasure, Boolean isActive, OffsetDateTime createdAt, OffsetDateTime updatedAt) {
+    public InventoryitemsRecord(Integer inventoryItemId, Integer productId, String brandName, String itemSpecificNameEn, String itemSpecificNameAr, JSONB attributes, Integer quantityOnHand, BigDecimal sellingPrice, BigDecimal costPrice, Integer minStockLevel, String unitOfMeasure, Boolean isActive, OffsetDateTime createdAt, OffsetDateTime updatedAt, Long changeXid) {
         super(Inventoryitems.INVENTORYITEMS);
 
         setInventoryItemId(inventoryItemId);
@@ -258,6 +272,7 @@ public class InventoryitemsRecord extends UpdatableRecordImpl<InventoryitemsReco
         setIsActive(isActive);
         setCreatedAt(createdAt);
         setUpdatedAt(updatedAt);
+        setChangeXid(changeXid);
         resetChangedOnNotNull();
     }
 
@@ -282,6 +297,7 @@ public class InventoryitemsRecord extends UpdatableRecordImpl<InventoryitemsReco
             setIsActive(value.getIsActive());
             setCreatedAt(value.getCreatedAt());
             setUpdatedAt(value.getUpdatedAt());
+            setChangeXid(value.getChangeXid());
             resetChangedOnNotNull();
         }
     }
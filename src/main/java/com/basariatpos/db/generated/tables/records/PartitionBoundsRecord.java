@@ -0,0 +1,100 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables.records;
+
+
+import com.basariatpos.db.generated.tables.PartitionBounds;
+
+import java.time.OffsetDateTime;
+
+import org.jooq.impl.TableRecordImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class PartitionBoundsRecord extends TableRecordImpl<PartitionBoundsRecord> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Setter for <code>public.partition_bounds.partition_name</code>.
+     */
+    public void setPartitionName(String value) {
+        set(0, value);
+    }
+
+    /**
+     * Getter for <code>public.partition_bounds.partition_name</code>.
+     */
+    public String getPartitionName() {
+        return (String) get(0);
+    }
+
+    /**
+     * Setter for <code>public.partition_bounds.lower_bound</code>.
+     */
+    public void setLowerBound(OffsetDateTime value) {
+        set(1, value);
+    }
+
+    /**
+     * Getter for <code>public.partition_bounds.lower_bound</code>.
+     */
+    public OffsetDateTime getLowerBound() {
+        return (OffsetDateTime) get(1);
+    }
+
+    /**
+     * Setter for <code>public.partition_bounds.upper_bound</code>.
+     */
+    public void setUpperBound(OffsetDateTime value) {
+        set(2, value);
+    }
+
+    /**
+     * Getter for <code>public.partition_bounds.upper_bound</code>.
+     */
+    public OffsetDateTime getUpperBound() {
+        return (OffsetDateTime) get(2);
+    }
+
+    // -------------------------------------------------------------------------
+    // Constructors
+    // -------------------------------------------------------------------------
+
+    /**
+     * Create a detached PartitionBoundsRecord
+     */
+    public PartitionBoundsRecord() {
+        super(PartitionBounds.PARTITION_BOUNDS);
+    }
+
+    /**
+     * Create a detached, initialised PartitionBoundsRecord
+     */
+    public PartitionBoundsRecord(String partitionName, OffsetDateTime lowerBound, OffsetDateTime upperBound) {
+        super(PartitionBounds.PARTITION_BOUNDS);
+
+        setPartitionName(partitionName);
+        setLowerBound(lowerBound);
+        setUpperBound(upperBound);
+        resetChangedOnNotNull();
+    }
+
+    /**
+     * Create a detached, initialised PartitionBoundsRecord
+     */
+    public PartitionBoundsRecord(com.basariatpos.db.generated.tables.pojos.PartitionBounds value) {
+        super(PartitionBounds.PARTITION_BOUNDS);
+
+        if (value != null) {
+            setPartitionName(value.getPartitionName());
+            setLowerBound(value.getLowerBound());
+            setUpperBound(value.getUpperBound());
+            resetChangedOnNotNull();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables.records;
+
+
+import com.basariatpos.db.generated.tables.Partitionedtables;
+
+import org.jooq.Record1;
+import org.jooq.impl.UpdatableRecordImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class PartitionedtablesRecord extends UpdatableRecordImpl<PartitionedtablesRecord> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Setter for <code>public.partitionedtables.table_name</code>.
+     */
+    public void setTableName(String value) {
+        set(0, value);
+    }
+
+    /**
+     * Getter for <code>public.partitionedtables.table_name</code>.
+     */
+    public String getTableName() {
+        return (String) get(0);
+    }
+
+    /**
+     * Setter for <code>public.partitionedtables.partition_column</code>.
+     */
+    public void setPartitionColumn(String value) {
+        set(1, value);
+    }
+
+    /**
+     * Getter for <code>public.partitionedtables.partition_column</code>.
+     */
+    public String getPartitionColumn() {
+        return (String) get(1);
+    }
+
+    /**
+     * Setter for <code>public.partitionedtables.partition_interval</code>.
+     */
+    public void setPartitionInterval(String value) {
+        set(2, value);
+    }
+
+    /**
+     * Getter for <code>public.partitionedtables.partition_interval</code>.
+     */
+    public String getPartitionInterval() {
+        return (String) get(2);
+    }
+
+    /**
+     * Setter for <code>public.partitionedtables.periods_ahead</code>.
+     */
+    public void setPeriodsAhead(Integer value) {
+        set(3, value);
+    }
+
+    /**
+     * Getter for <code>public.partitionedtables.periods_ahead</code>.
+     */
+    public Integer getPeriodsAhead() {
+        return (Integer) get(3);
+    }
+
+    /**
+     * Setter for
+     * <code>public.partitionedtables.archive_with_fiscal_year</code>.
+     */
+    public void setArchiveWithFiscalYear(Boolean value) {
+        set(4, value);
+    }
+
+    /**
+     * Getter for
+     * <code>public.partitionedtables.archive_with_fiscal_year</code>.
+     */
+    public Boolean getArchiveWithFiscalYear() {
+        return (Boolean) get(4);
+    }
+
+    // -------------------------------------------------------------------------
+    // Primary key information
+    // -------------------------------------------------------------------------
+
+    @Override
+    public Record1<String> key() {
+        return (Record1) super.key();
+    }
+
+    // -------------------------------------------------------------------------
+    // Constructors
+    // -------------------------------------------------------------------------
+
+    /**
+     * Create a detached PartitionedtablesRecord
+     */
+    public PartitionedtablesRecord() {
+        super(Partitionedtables.PARTITIONEDTABLES);
+    }
+
+    /**
+     * Create a detached, initialised PartitionedtablesRecord
+     */
+    public PartitionedtablesRecord(String tableName, String partitionColumn, String partitionInterval, Integer periodsAhead, Boolean archiveWithFiscalYear) {
+        super(Partitionedtables.PARTITIONEDTABLES);
+
+        setTableName(tableName);
+        setPartitionColumn(partitionColumn);
+        setPartitionInterval(partitionInterval);
+        setPeriodsAhead(periodsAhead);
+        setArchiveWithFiscalYear(archiveWithFiscalYear);
+        resetChangedOnNotNull();
+    }
+
+    /**
+     * Create a detached, initialised PartitionedtablesRecord
+     */
+    public PartitionedtablesRecord(com.basariatpos.db.generated.tables.pojos.Partitionedtables value) {
+        super(Partitionedtables.PARTITIONEDTABLES);
+
+        if (value != null) {
+            setTableName(value.getTableName());
+            setPartitionColumn(value.getPartitionColumn());
+            setPartitionInterval(value.getPartitionInterval());
+            setPeriodsAhead(value.getPeriodsAhead());
+            setArchiveWithFiscalYear(value.getArchiveWithFiscalYear());
+            resetChangedOnNotNull();
+        }
+    }
+}
@@ -174,6 +174,20 @@ public class ProductsRecord extends UpdatableRecordImpl<ProductsRecord> {
         return (OffsetDateTime) get(10);
     }
 
+    /**
+     * Setter for <code>public.products.change_xid</code>.
+     */
+    public void setChangeXid(Long value) {
+        set(11, value);
+    }
+
+    /**
+     * Getter for <code>public.products.change_xid</code>.
+     */
+    public Long getChangeXid() {
+        return (Long) get(11);
+    }
+
     // -------------------------------------------------------------------------
     // Primary key information
     // -------------------------------------------------------------------------
@@ -197,7 +211,7 @@ public class ProductsRecord extends UpdatableRecordImpl<ProductsRecord> {
     /**
      * Create a detached, initialised ProductsRecord
      */
-    public ProductsRecord(Integer productId, String productCode, String productNameEn, String productNameAr, Integer categoryId, String descriptionEn, String descriptionAr, Boolean isService, Boolean isStockItem, OffsetDateTime createdAt, OffsetDateTime updatedAt) {
+    public ProductsRecord(Integer productId, String productCode, String productNameEn, String productNameAr, Integer categoryId, String descriptionEn, String descriptionAr, Boolean isService, Boolean isStockItem, OffsetDateTime createdAt, OffsetDateTime updatedAt, Long changeXid) {
         super(Products.PRODUCTS);
 
         setProductId(productId);
@@ -211,6 +225,7 @@ public class ProductsRecord extends UpdatableRecordImpl<ProductsRecord> {
         setIsStockItem(isStockItem);
         setCreatedAt(createdAt);
         setUpdatedAt(updatedAt);
+        setChangeXid(changeXid);
         resetChangedOnNotNull();
     }
 
@@ -232,6 +247,7 @@ public class ProductsRecord extends UpdatableRecordImpl<ProductsRecord> {
             setIsStockItem(value.getIsStockItem());
             setCreatedAt(value.getCreatedAt());
             setUpdatedAt(value.getUpdatedAt());
+            setChangeXid(value.getChangeXid());
             resetChangedOnNotNull();
         }
     }
@@ -177,6 +177,20 @@ public class SalesorderitemsRecord extends UpdatableRecordImpl<SalesorderitemsRe
         return (Boolean) get(10);
     }
 
+    /**
+     * Setter for <code>public.salesorderitems.cost_amount</code>.
+     */
+    public void setCostAmount(BigDecimal value) {
+        set(11, value);
+    }
+
+    /**
+     * Getter for <code>public.salesorderitems.cost_amount</code>.
+     */
+    public BigDecimal getCostAmount() {
+        return (BigDecimal) get(11);
+    }
+
     // -------------------------------------------------------------------------
     // Primary key information
     // -------------------------------------------------------------------------
@@ -200,7 +214,7 @@ public class SalesorderitemsRecord extends UpdatableRecordImpl<SalesorderitemsRe
     /**
      * Create a detached, initialised SalesorderitemsRecord
      */
-    public SalesorderitemsRecord(Integer soItemId, Integer salesOrderId, Integer inventoryItemId, Integer serviceProductId, String description, Integer quantity, BigDecimal unitPrice, BigDecimal itemSubtotal, JSONB prescriptionDetails, Boolean isCustomLenses, Boolean isRestockedOnAbandonment) {
+    public SalesorderitemsRecord(Integer soItemId, Integer salesOrderId, Integer inventoryItemId, Integer serviceProductId, String description, Integer quantity, BigDecimal unitPrice, BigDecimal itemSubtotal, JSONB prescriptionDetails, Boolean isCustomLenses, Boolean isRestockedOnAbandonment, BigDecimal costAmount) {
         super(Salesorderitems.SALESORDERITEMS);
 
         setSoItemId(soItemId);
@@ -214,6 +228,7 @@ public class SalesorderitemsRecord extends UpdatableRecordImpl<SalesorderitemsRe
         setPrescriptionDetails(prescriptionDetails);
         setIsCustomLenses(isCustomLenses);
         setIsRestockedOnAbandonment(isRestockedOnAbandonment);
+        setCostAmount(costAmount);
         resetChangedOnNotNull();
     }
 
@@ -235,6 +250,7 @@ public class SalesorderitemsRecord extends UpdatableRecordImpl<SalesorderitemsRe
             setPrescriptionDetails(value.getPrescriptionDetails());
             setIsCustomLenses(value.getIsCustomLenses());
             setIsRestockedOnAbandonment(value.getIsRestockedOnAbandonment());
+            setCostAmount(value.getCostAmount());
             resetChangedOnNotNull();
         }
     }
@@ -0,0 +1,175 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables.records;
+
+
+import com.basariatpos.db.generated.tables.Shifttotals;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+import org.jooq.Record1;
+import org.jooq.impl.UpdatableRecordImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class ShifttotalsRecord extends UpdatableRecordImpl<ShifttotalsRecord> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Setter for <code>public.shifttotals.shift_id</code>.
+     */
+    public void setShiftId(Integer value) {
+        set(0, value);
+    }
+
+    /**
+     * Getter for <code>public.shifttotals.shift_id</code>.
+     */
+    public Integer getShiftId() {
+        return (Integer) get(0);
+    }
+
+    /**
+     * Setter for <code>public.shifttotals.total_cash_received</code>.
+     */
+    public void setTotalCashReceived(BigDecimal value) {
+        set(1, value);
+    }
+
+    /**
+     * Getter for <code>public.shifttotals.total_cash_received</code>.
+     */
+    public BigDecimal getTotalCashReceived() {
+        return (BigDecimal) get(1);
+    }
+
+    /**
+     * Setter for <code>public.shifttotals.total_bank_received</code>.
+     */
+    public void setTotalBankReceived(BigDecimal value) {
+        set(2, value);
+    }
+
+    /**
+     * Getter for <code>public.shifttotals.total_bank_received</code>.
+     */
+    public BigDecimal getTotalBankReceived() {
+        return (BigDecimal) get(2);
+    }
+
+    /**
+     * Setter for <code>public.shifttotals.total_cash_expenses</code>.
+     */
+    public void setTotalCashExpenses(BigDecimal value) {
+        set(3, value);
+    }
+
+    /**
+     * Getter for <code>public.shifttotals.total_cash_expenses</code>.
+     */
+    public BigDecimal getTotalCashExpenses() {
+        return (BigDecimal) get(3);
+    }
+
+    /**
+     * Setter for <code>public.shifttotals.total_sales_orders</code>.
+     */
+    public void setTotalSalesOrders(Integer value) {
+        set(4, value);
+    }
+
+    /**
+     * Getter for <code>public.shifttotals.total_sales_orders</code>.
+     */
+    public Integer getTotalSalesOrders() {
+        return (Integer) get(4);
+    }
+
+    /**
+     * Setter for <code>public.shifttotals.total_discounts</code>.
+     */
+    public void setTotalDiscounts(BigDecimal value) {
+        set(5, value);
+    }
+
+    /**
+     * Getter for <code>public.shifttotals.total_discounts</code>.
+     */
+    public BigDecimal getTotalDiscounts() {
+        return (BigDecimal) get(5);
+    }
+
+    /**
+     * Setter for <code>public.shifttotals.updated_at</code>.
+     */
+    public void setUpdatedAt(OffsetDateTime value) {
+        set(6, value);
+    }
+
+    /**
+     * Getter for <code>public.shifttotals.updated_at</code>.
+     */
+    public OffsetDateTime getUpdatedAt() {
+        return (OffsetDateTime) get(6);
+    }
+
+    // -------------------------------------------------------------------------
+    // Primary key information
+    // -------------------------------------------------------------------------
+
+    @Override
+    public Record1<Integer> key() {
+        return (Record1) super.key();
+    }
+
+    // -------------------------------------------------------------------------
+    // Constructors
+    // -------------------------------------------------------------------------
+
+    /**
+     * Create a detached ShifttotalsRecord
+     */
+    public ShifttotalsRecord() {
+        super(Shifttotals.SHIFTTOTALS);
+    }
+
+    /**
+     * Create a detached, initialised ShifttotalsRecord
+     */
+    public ShifttotalsRecord(Integer shiftId, BigDecimal totalCashReceived, BigDecimal totalBankReceived, BigDecimal totalCashExpenses, Integer totalSalesOrders, BigDecimal totalDiscounts, OffsetDateTime updatedAt) {
+        super(Shifttotals.SHIFTTOTALS);
+
+        setShiftId(shiftId);
+        setTotalCashReceived(totalCashReceived);
+        setTotalBankReceived(totalBankReceived);
+        setTotalCashExpenses(totalCashExpenses);
+        setTotalSalesOrders(totalSalesOrders);
+        setTotalDiscounts(totalDiscounts);
+        setUpdatedAt(updatedAt);
+        resetChangedOnNotNull();
+    }
+
+    /**
+     * Create a detached, initialised ShifttotalsRecord
+     */
+    public ShifttotalsRecord(com.basariatpos.db.generated.tables.pojos.Shifttotals value) {
+        super(Shifttotals.SHIFTTOTALS);
+
+        if (value != null) {
+            setShiftId(value.getShiftId());
+            setTotalCashReceived(value.getTotalCashReceived());
+            setTotalBankReceived(value.getTotalBankReceived());
+            setTotalCashExpenses(value.getTotalCashExpenses());
+            setTotalSalesOrders(value.getTotalSalesOrders());
+            setTotalDiscounts(value.getTotalDiscounts());
+            setUpdatedAt(value.getUpdatedAt());
+            resetChangedOnNotNull();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables.records;
+
+
+import com.basariatpos.db.generated.tables.Shifttotalsrecomputedview;
+
+import java.math.BigDecimal;
+
+import org.jooq.impl.TableRecordImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class ShifttotalsrecomputedviewRecord extends TableRecordImpl<ShifttotalsrecomputedviewRecord> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Setter for <code>public.shifttotalsrecomputedview.shift_id</code>.
+     */
+    public void setShiftId(Integer value) {
+        set(0, value);
+    }
+
+    /**
+     * Getter for <code>public.shifttotalsrecomputedview.shift_id</code>.
+     */
+    public Integer getShiftId() {
+        return (Integer) get(0);
+    }
+
+    /**
+     * Setter for
+     * <code>public.shifttotalsrecomputedview.total_cash_received</code>.
+     */
+    public void setTotalCashReceived(BigDecimal value) {
+        set(1, value);
+    }
+
+    /**
+     * Getter for
+     * <code>public.shifttotalsrecomputedview.total_cash_received</code>.
+     */
+    public BigDecimal getTotalCashReceived() {
+        return (BigDecimal) get(1);
+    }
+
+    /**
+     * Setter for
+     * <code>public.shifttotalsrecomputedview.total_bank_received</code>.
+     */
+    public void setTotalBankReceived(BigDecimal value) {
+        set(2, value);
+    }
+
+    /**
+     * Getter for
+     * <code>public.shifttotalsrecomputedview.total_bank_received</code>.
+     */
+    public BigDecimal getTotalBankReceived() {
+        return (BigDecimal) get(2);
+    }
+
+    /**
+     * Setter for
+     * <code>public.shifttotalsrecomputedview.total_cash_expenses</code>.
+     */
+    public void setTotalCashExpenses(BigDecimal value) {
+        set(3, value);
+    }
+
+    /**
+     * Getter for
+     * <code>public.shifttotalsrecomputedview.total_cash_expenses</code>.
+     */
+    public BigDecimal getTotalCashExpenses() {
+        return (BigDecimal) get(3);
+    }
+
+    /**
+     * Setter for
+     * <code>public.shifttotalsrecomputedview.total_sales_orders</code>.
+     */
+    public void setTotalSalesOrders(Integer value) {
+        set(4, value);
+    }
+
+    /**
+     * Getter for
+     * <code>public.shifttotalsrecomputedview.total_sales_orders</code>.
+     */
+    public Integer getTotalSalesOrders() {
+        return (Integer) get(4);
+    }
+
+    /**
+     * Setter for <code>public.shifttotalsrecomputedview.total_discounts</code>.
+     */
+    public void setTotalDiscounts(BigDecimal value) {
+        set(5, value);
+    }
+
+    /**
+     * Getter for <code>public.shifttotalsrecomputedview.total_discounts</code>.
+     */
+    public BigDecimal getTotalDiscounts() {
+        return (BigDecimal) get(5);
+    }
+
+    // -------------------------------------------------------------------------
+    // Constructors
+    // -------------------------------------------------------------------------
+
+    /**
+     * Create a detached ShifttotalsrecomputedviewRecord
+     */
+    public ShifttotalsrecomputedviewRecord() {
+        super(Shifttotalsrecomputedview.SHIFTTOTALSRECOMPUTEDVIEW);
+    }
+
+    /**
+     * Create a detached, initialised ShifttotalsrecomputedviewRecord
+     */
+    public ShifttotalsrecomputedviewRecord(Integer shiftId, BigDecimal totalCashReceived, BigDecimal totalBankReceived, BigDecimal totalCashExpenses, Integer totalSalesOrders, BigDecimal totalDiscounts) {
+        super(Shifttotalsrecomputedview.SHIFTTOTALSRECOMPUTEDVIEW);
+
+        setShiftId(shiftId);
+        setTotalCashReceived(totalCashReceived);
+        setTotalBankReceived(totalBankReceived);
+        setTotalCashExpenses(totalCashExpenses);
+        setTotalSalesOrders(totalSalesOrders);
+        setTotalDiscounts(totalDiscounts);
+        resetChangedOnNotNull();
+    }
+
+    /**
+     * Create a detached, initialised ShifttotalsrecomputedviewRecord
+     */
+    public ShifttotalsrecomputedviewRecord(com.basariatpos.db.generated.tables.pojos.Shifttotalsrecomputedview value) {
+        super(Shifttotalsrecomputedview.SHIFTTOTALSRECOMPUTEDVIEW);
+
+        if (value != null) {
+            setShiftId(value.getShiftId());
+            setTotalCashReceived(value.getTotalCashReceived());
+            setTotalBankReceived(value.getTotalBankReceived());
+            setTotalCashExpenses(value.getTotalCashExpenses());
+            setTotalSalesOrders(value.getTotalSalesOrders());
+            setTotalDiscounts(value.getTotalDiscounts());
+            resetChangedOnNotNull();
+        }
+    }
+}
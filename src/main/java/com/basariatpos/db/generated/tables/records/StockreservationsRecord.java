@@ -0,0 +1,174 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables.records;
+
+
+import com.basariatpos.db.generated.tables.Stockreservations;
+
+import java.time.OffsetDateTime;
+
+import org.jooq.Record1;
+import org.jooq.impl.UpdatableRecordImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class StockreservationsRecord extends UpdatableRecordImpl<StockreservationsRecord> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Setter for <code>public.stockreservations.reservation_id</code>.
+     */
+    public void setReservationId(Long value) {
+        set(0, value);
+    }
+
+    /**
+     * Getter for <code>public.stockreservations.reservation_id</code>.
+     */
+    public Long getReservationId() {
+        return (Long) get(0);
+    }
+
+    /**
+     * Setter for <code>public.stockreservations.inventory_item_id</code>.
+     */
+    public void setInventoryItemId(Integer value) {
+        set(1, value);
+    }
+
+    /**
+     * Getter for <code>public.stockreservations.inventory_item_id</code>.
+     */
+    public Integer getInventoryItemId() {
+        return (Integer) get(1);
+    }
+
+    /**
+     * Setter for <code>public.stockreservations.quantity</code>.
+     */
+    public void setQuantity(Integer value) {
+        set(2, value);
+    }
+
+    /**
+     * Getter for <code>public.stockreservations.quantity</code>.
+     */
+    public Integer getQuantity() {
+        return (Integer) get(2);
+    }
+
+    /**
+     * Setter for <code>public.stockreservations.sales_order_id</code>.
+     */
+    public void setSalesOrderId(Integer value) {
+        set(3, value);
+    }
+
+    /**
+     * Getter for <code>public.stockreservations.sales_order_id</code>.
+     */
+    public Integer getSalesOrderId() {
+        return (Integer) get(3);
+    }
+
+    /**
+     * Setter for <code>public.stockreservations.reserved_by_user_id</code>.
+     */
+    public void setReservedByUserId(Integer value) {
+        set(4, value);
+    }
+
+    /**
+     * Getter for <code>public.stockreservations.reserved_by_user_id</code>.
+     */
+    public Integer getReservedByUserId() {
+        return (Integer) get(4);
+    }
+
+    /**
+     * Setter for <code>public.stockreservations.expires_at</code>.
+     */
+    public void setExpiresAt(OffsetDateTime value) {
+        set(5, value);
+    }
+
+    /**
+     * Getter for <code>public.stockreservations.expires_at</code>.
+     */
+    public OffsetDateTime getExpiresAt() {
+        return (OffsetDateTime) get(5);
+    }
+
+    /**
+     * Setter for <code>public.stockreservations.created_at</code>.
+     */
+    public void setCreatedAt(OffsetDateTime value) {
+        set(6, value);
+    }
+
+    /**
+     * Getter for <code>public.stockreservations.created_at</code>.
+     */
+    public OffsetDateTime getCreatedAt() {
+        return (OffsetDateTime) get(6);
+    }
+
+    // -------------------------------------------------------------------------
+    // Primary key information
+    // -------------------------------------------------------------------------
+
+    @Override
+    public Record1<Long> key() {
+        return (Record1) super.key();
+    }
+
+    // -------------------------------------------------------------------------
+    // Constructors
+    // -------------------------------------------------------------------------
+
+    /**
+     * Create a detached StockreservationsRecord
+     */
+    public StockreservationsRecord() {
+        super(Stockreservations.STOCKRESERVATIONS);
+    }
+
+    /**
+     * Create a detached, initialised StockreservationsRecord
+     */
+    public StockreservationsRecord(Long reservationId, Integer inventoryItemId, Integer quantity, Integer salesOrderId, Integer reservedByUserId, OffsetDateTime expiresAt, OffsetDateTime createdAt) {
+        super(Stockreservations.STOCKRESERVATIONS);
+
+        setReservationId(reservationId);
+        setInventoryItemId(inventoryItemId);
+        setQuantity(quantity);
+        setSalesOrderId(salesOrderId);
+        setReservedByUserId(reservedByUserId);
+        setExpiresAt(expiresAt);
+        setCreatedAt(createdAt);
+        resetChangedOnNotNull();
+    }
+
+    /**
+     * Create a detached, initialised StockreservationsRecord
+     */
+    public StockreservationsRecord(com.basariatpos.db.generated.tables.pojos.Stockreservations value) {
+        super(Stockreservations.STOCKRESERVATIONS);
+
+        if (value != null) {
+            setReservationId(value.getReservationId());
+            setInventoryItemId(value.getInventoryItemId());
+            setQuantity(value.getQuantity());
+            setSalesOrderId(value.getSalesOrderId());
+            setReservedByUserId(value.getReservedByUserId());
+            setExpiresAt(value.getExpiresAt());
+            setCreatedAt(value.getCreatedAt());
+            resetChangedOnNotNull();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * This file is generated by jOOQ.
+ */
+package com.basariatpos.db.generated.tables.records;
+
+
+import com.basariatpos.db.generated.tables.Stockreservationtotals;
+
+import org.jooq.Record1;
+import org.jooq.impl.UpdatableRecordImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@SuppressWarnings({ "all", "unchecked", "rawtypes", "this-escape" })
+public class StockreservationtotalsRecord extends UpdatableRecordImpl<StockreservationtotalsRecord> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Setter for <code>public.stockreservationtotals.inventory_item_id</code>.
+     */
+    public void setInventoryItemId(Integer value) {
+        set(0, value);
+    }
+
+    /**
+     * Getter for <code>public.stockreservationtotals.inventory_item_id</code>.
+     */
+    public Integer getInventoryItemId() {
+        return (Integer) get(0);
+    }
+
+    /**
+     * Setter for <code>public.stockreservationtotals.quantity_reserved</code>.
+     */
+    public void setQuantityReserved(Integer value) {
+        set(1, value);
+    }
+
+    /**
+     * Getter for <code>public.stockreservationtotals.quantity_reserved</code>.
+     */
+    public Integer getQuantityReserved() {
+        return (Integer) get(1);
+    }
+
+    /**
+     * Setter for <code>public.stockreservationtotals.version</code>.
+     */
+    public void setVersion(Long value) {
+        set(2, value);
+    }
+
+    /**
+     * Getter for <code>public.stockreservationtotals.version</code>.
+     */
+    public Long getVersion() {
+        return (Long) get(2);
+    }
+
+    // -------------------------------------------------------------------------
+    // Primary key information
+    // -------------------------------------------------------------------------
+
+    @Override
+    public Record1<Integer> key() {
+        return (Record1) super.key();
+    }
+
+    // -------------------------------------------------------------------------
+    // Constructors
+    // -------------------------------------------------------------------------
+
+    /**
+     * Create a detached StockreservationtotalsRecord
+     */
+    public StockreservationtotalsRecord() {
+        super(Stockreservationtotals.STOCKRESERVATIONTOTALS);
+    }
+
+    /**
+     * Create a detached, initialised StockreservationtotalsRecord
+     */
+    public StockreservationtotalsRecord(Integer inventoryItemId, Integer quantityReserved, Long version) {
+        super(Stockreservationtotals.STOCKRESERVATIONTOTALS);
+
+        setInventoryItemId(inventoryItemId);
+        setQuantityReserved(quantityReserved);
+        setVersion(version);
+        resetChangedOnNotNull();
+    }
+
+    /**
+     * Create a detached, initialised StockreservationtotalsRecord
+     */
+    public StockreservationtotalsRecord(com.basariatpos.db.generated.tables.pojos.Stockreservationtotals value) {
+        super(Stockreservationtotals.STOCKRESERVATIONTOTALS);
+
+        if (value != null) {
+            setInventoryItemId(value.getInventoryItemId());
+            setQuantityReserved(value.getQuantityReserved());
+            setVersion(value.getVersion());
+            resetChangedOnNotNull();
+        }
+    }
+}
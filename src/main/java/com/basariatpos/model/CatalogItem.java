@@ -0,0 +1,33 @@
+package com.basariatpos.model;
+
+import java.math.BigDecimal;
+
+/**
+ * An immutable, sellable inventory item as shown on cashier screens: the
+ * {@code InventoryItems} row together with its product and category names.
+ *
+ * @param inventoryItemId the inventory item ID.
+ * @param productId       the master product ID.
+ * @param productCode     the product SKU/internal code, may be {@code null}.
+ * @param productNameEn   the product name in English.
+ * @param productNameAr   the product name in Arabic.
+ * @param categoryId      the product category ID.
+ * @param categoryNameEn  the category name in English.
+ * @param categoryNameAr  the category name in Arabic.
+ * @param brandName       the brand, may be {@code null}.
+ * @param itemNameEn      the item-specific name in English, may be {@code null}.
+ * @param itemNameAr      the item-specific name in Arabic, may be {@code null}.
+ * @param attributesJson  the item attributes as a JSON string, may be {@code null}.
+ * @param quantityOnHand  the stock level when the item was last loaded.
+ * @param sellingPrice    the current selling price.
+ * @param unitOfMeasure   the unit of measure, e.g. "Unit" or "Pair".
+ * @param service         {@code true} if the product is a service.
+ * @param stockItem       {@code true} if the product tracks inventory.
+ */
+public record CatalogItem(int inventoryItemId, int productId, String productCode,
+                          String productNameEn, String productNameAr,
+                          int categoryId, String categoryNameEn, String categoryNameAr,
+                          String brandName, String itemNameEn, String itemNameAr,
+                          String attributesJson, int quantityOnHand, BigDecimal sellingPrice,
+                          String unitOfMeasure, boolean service, boolean stockItem) {
+}
@@ -0,0 +1,95 @@
+package com.basariatpos.model;
+
+import org.jooq.JSONB;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A new order as entered at the till, saved in one call by
+ * {@link com.basariatpos.service.CheckoutService}.
+ *
+ * @param patientId      the patient, or {@code null} for an anonymous sale.
+ * @param status         {@code "Pending"}, {@code "Awaiting Lenses"}, {@code "Ready for Pickup"}
+ *                       or {@code "Completed"}; a completed order takes its goods off stock at once.
+ * @param discountAmount the discount on the whole order.
+ * @param remarks        free-text remarks, or {@code null}.
+ * @param lines          the order lines, at least one.
+ * @param payments       the payments taken now; empty for an order paid later.
+ * @param reservationIds the stock reservations of the lines, see
+ *                       {@link com.basariatpos.service.StockReservationService}.
+ */
+public record CheckoutRequest(Integer patientId, String status, BigDecimal discountAmount, String remarks,
+                              List<Line> lines, List<Payment> payments, List<Long> reservationIds) {
+
+    public CheckoutRequest {
+        Objects.requireNonNull(status, "status");
+        Objects.requireNonNull(discountAmount, "discountAmount");
+        lines = List.copyOf(lines);
+        payments = List.copyOf(payments);
+        reservationIds = List.copyOf(reservationIds);
+        if (lines.isEmpty()) {
+            throw new IllegalArgumentException("An order needs at least one line");
+        }
+    }
+
+    /**
+     * One order line: a stock item or a service, never both.
+     *
+     * @param inventoryItemId     the stock item sold, or {@code null} for a service.
+     * @param serviceProductId    the service product sold, or {@code null} for a stock item.
+     * @param description         the text printed on the receipt.
+     * @param quantity            the number of units, at least 1.
+     * @param unitPrice           the price of one unit at the time of sale.
+     * @param prescriptionDetails the Rx, material and options of custom lenses, or {@code null}.
+     * @param customLenses        whether the line is for custom-made lenses.
+     */
+    public record Line(Integer inventoryItemId, Integer serviceProductId, String description, int quantity,
+                       BigDecimal unitPrice, JSONB prescriptionDetails, boolean customLenses) {
+
+        public Line {
+            if ((inventoryItemId == null) == (serviceProductId == null)) {
+                throw new IllegalArgumentException("A line sells either a stock item or a service");
+            }
+            if (quantity < 1) {
+                throw new IllegalArgumentException("Quantity must be at least 1, was " + quantity);
+            }
+            Objects.requireNonNull(unitPrice, "unitPrice");
+        }
+
+        public static Line stockItem(int inventoryItemId, String description, int quantity, BigDecimal unitPrice) {
+            return new Line(inventoryItemId, null, description, quantity, unitPrice, null, false);
+        }
+
+        public static Line service(int serviceProductId, String description, int quantity, BigDecimal unitPrice) {
+            return new Line(null, serviceProductId, description, quantity, unitPrice, null, false);
+        }
+    }
+
+    /**
+     * A payment towards the order.
+     *
+     * @param amount        the amount, more than zero.
+     * @param paymentMethod {@code "Cash"} or {@code "Bank Transaction"}.
+     * @param bankNameId    the bank of a bank transaction, otherwise {@code null}.
+     * @param transactionId the reference of a bank transaction, otherwise {@code null}.
+     * @param notes         free-text notes, or {@code null}.
+     */
+    public record Payment(BigDecimal amount, String paymentMethod, Integer bankNameId, String transactionId,
+                          String notes) {
+
+        public Payment {
+            Objects.requireNonNull(amount, "amount");
+            Objects.requireNonNull(paymentMethod, "paymentMethod");
+        }
+
+        public static Payment cash(BigDecimal amount) {
+            return new Payment(amount, "Cash", null, null, null);
+        }
+
+        public static Payment bankTransaction(BigDecimal amount, int bankNameId, String transactionId) {
+            return new Payment(amount, "Bank Transaction", bankNameId, transactionId, null);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.basariatpos.model;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * The saved order as returned by {@link com.basariatpos.service.CheckoutService}.
+ *
+ * @param salesOrderId     the new order's ID.
+ * @param itemIds          the IDs of the new lines, in the order of the request's lines.
+ * @param paymentIds       the IDs of the new payments, in the order of the request's payments.
+ * @param reservationsHeld the reservations now held for the order; fewer than requested if some
+ *                         had lapsed, whose lines should be reserved again. Always 0 for a
+ *                         completed order, whose goods have left the stock.
+ * @param status           the order's status.
+ * @param subtotalAmount   the sum of the lines.
+ * @param discountAmount   the discount.
+ * @param totalAmount      the subtotal less the discount.
+ * @param amountPaid       the sum of the payments.
+ * @param balanceDue       what the patient still owes.
+ */
+public record CheckoutResult(int salesOrderId, List<Integer> itemIds, List<Integer> paymentIds, int reservationsHeld,
+                             String status, BigDecimal subtotalAmount, BigDecimal discountAmount,
+                             BigDecimal totalAmount, BigDecimal amountPaid, BigDecimal balanceDue) {
+
+    public CheckoutResult {
+        itemIds = List.copyOf(itemIds);
+        paymentIds = List.copyOf(paymentIds);
+    }
+}
@@ -0,0 +1,55 @@
+package com.basariatpos.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Financial key figures for a range of days, as shown on the dashboard. Revenue and cost of
+ * goods sold follow the rules of the profit and loss statement; the other figures count all
+ * orders that were not cancelled and all money received or spent.
+ *
+ * @param startDate       the first day of the range.
+ * @param endDate         the last day of the range, inclusive.
+ * @param salesOrders     the number of orders placed, excluding cancelled ones.
+ * @param grossSales      the subtotals of those orders before discount.
+ * @param discounts       the discounts given on those orders.
+ * @param cashReceived    cash payments received.
+ * @param bankReceived    bank payments received.
+ * @param revenue         payments received for completed or abandoned orders.
+ * @param costOfGoodsSold the cost of stock items on orders placed in the range and completed.
+ * @param cashExpenses    expenses paid in cash.
+ * @param bankExpenses    expenses paid by bank transaction.
+ */
+public record DashboardMetrics(LocalDate startDate, LocalDate endDate, int salesOrders,
+                               BigDecimal grossSales, BigDecimal discounts,
+                               BigDecimal cashReceived, BigDecimal bankReceived, BigDecimal revenue,
+                               BigDecimal costOfGoodsSold, BigDecimal cashExpenses, BigDecimal bankExpenses) {
+
+    /**
+     * @return gross sales minus discounts.
+     */
+    public BigDecimal netSales() {
+        return grossSales.subtract(discounts);
+    }
+
+    /**
+     * @return cash and bank payments received.
+     */
+    public BigDecimal totalReceived() {
+        return cashReceived.add(bankReceived);
+    }
+
+    /**
+     * @return cash and bank expenses.
+     */
+    public BigDecimal totalExpenses() {
+        return cashExpenses.add(bankExpenses);
+    }
+
+    /**
+     * @return revenue minus cost of goods sold and expenses, as on the profit and loss statement.
+     */
+    public BigDecimal netProfit() {
+        return revenue.subtract(costOfGoodsSold).subtract(totalExpenses());
+    }
+}
@@ -0,0 +1,98 @@
+package com.basariatpos.model;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Rows of one table changed by any terminal, as delivered by
+ * {@link com.basariatpos.config.DbEventBus}; the notifications of a short window are merged.
+ *
+ * @param table      the table.
+ * @param operations the kinds of change; never empty.
+ * @param ids        the primary keys of the changed rows; empty if {@code allRows}.
+ * @param allRows    {@code true} if any row may have changed: a statement touched too many rows
+ *                   to list, or the bus reconnected and may have missed notifications.
+ */
+public record DbEvent(Table table, Set<Operation> operations, Set<Long> ids, boolean allRows) {
+
+    public DbEvent {
+        Objects.requireNonNull(table, "table");
+        operations = Set.copyOf(operations);
+        ids = allRows ? Set.of() : Set.copyOf(ids);
+        if (operations.isEmpty()) {
+            throw new IllegalArgumentException("An event needs at least one operation");
+        }
+    }
+
+    /**
+     * @param id a primary key of the event's table.
+     * @return whether the row may have changed.
+     */
+    public boolean affects(long id) {
+        return allRows || ids.contains(id);
+    }
+
+    /** The kind of a change. */
+    public enum Operation {
+        INSERT, UPDATE, DELETE;
+
+        /**
+         * @param code {@code I}, {@code U} or {@code D}, as sent by the database.
+         * @return the operation.
+         * @throws IllegalArgumentException if the code is unknown.
+         */
+        public static Operation ofCode(char code) {
+            return switch (code) {
+                case 'I' -> INSERT;
+                case 'U' -> UPDATE;
+                case 'D' -> DELETE;
+                default -> throw new IllegalArgumentException("Unknown operation code: " + code);
+            };
+        }
+    }
+
+    /** The tables whose changes are announced (migration V15). */
+    public enum Table {
+        SALES_ORDERS("salesorders"),
+        SALES_ORDER_ITEMS("salesorderitems"),
+        PAYMENTS("payments"),
+        STOCK_RESERVATIONS("stockreservations"),
+        INVENTORY_ITEMS("inventoryitems"),
+        PRODUCTS("products"),
+        PRODUCT_CATEGORIES("productcategories"),
+        PATIENTS("patients"),
+        OPTICAL_DIAGNOSTICS("opticaldiagnostics"),
+        APPOINTMENTS("appointments"),
+        SHIFTS("shifts"),
+        EXPENSES("expenses"),
+        PURCHASE_ORDERS("purchaseorders");
+
+        private static final Map<String, Table> BY_SQL_NAME = Arrays.stream(values())
+                .collect(Collectors.toUnmodifiableMap(Table::sqlName, Function.identity()));
+
+        private final String sqlName;
+
+        Table(String sqlName) {
+            this.sqlName = sqlName;
+        }
+
+        /**
+         * @return the table's name in the database, in lower case.
+         */
+        public String sqlName() {
+            return sqlName;
+        }
+
+        /**
+         * @param sqlName a table name in lower case.
+         * @return the table, or {@code null} if its changes are not announced.
+         */
+        public static Table ofSqlName(String sqlName) {
+            return BY_SQL_NAME.get(sqlName);
+        }
+    }
+}
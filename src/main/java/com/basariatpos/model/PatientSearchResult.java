@@ -0,0 +1,15 @@
+package com.basariatpos.model;
+
+/**
+ * One patient matched by a search, with its relevance.
+ *
+ * @param patientId       the patient ID.
+ * @param systemPatientId the application-generated patient number.
+ * @param fullName        the patient's full name as stored.
+ * @param phoneNumber     the phone number as stored.
+ * @param score           the relevance; higher is better. Only meaningful relative to other
+ *                        results of the same search.
+ */
+public record PatientSearchResult(int patientId, String systemPatientId, String fullName,
+                                  String phoneNumber, double score) {
+}
@@ -0,0 +1,446 @@
+package com.basariatpos.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A patient's latest prescriptions, newest first, as loaded by
+ * {@link com.basariatpos.service.PrescriptionHistoryService}.
+ * <p>
+ * Measurements are held column by column in one {@code short} array instead of one object with
+ * nine {@link BigDecimal}s per diagnostic. Powers and the IPD are stored in hundredths, the scale
+ * of their {@code NUMERIC(5,2)} columns, so quarter-diopter steps and typed values such as 62.5 mm
+ * are exact; axes are stored in whole degrees. A measurement that was not recorded is
+ * {@link #MISSING}. Deltas and trends are computed from the arrays directly and box nothing.
+ * <p>
+ * The columns accept up to +/-999.99, beyond the +/-327.67 a {@code short} holds in hundredths.
+ * Such values are typing errors in practice but must not keep the history from loading, so the
+ * few that occur are kept in a side table sorted by their position in the array.
+ * <p>
+ * Instances are immutable.
+ */
+public final class PrescriptionHistory {
+
+    /** Value of a measurement that was not recorded. */
+    public static final int MISSING = Integer.MIN_VALUE;
+
+    /** Stored for a measurement that was not recorded. */
+    private static final short EMPTY = Short.MIN_VALUE;
+    /** Stored for a value a {@code short} cannot hold; the value is in the side table. */
+    private static final short OVERFLOW = Short.MIN_VALUE + 1;
+
+    private static final double DAYS_PER_YEAR = 365.25;
+
+    /** The measurements of a diagnostic; OD is the right eye and OS the left. */
+    public enum Measure {
+        OD_SPHERE(2), OD_CYLINDER(2), OD_AXIS(0),
+        OS_SPHERE(2), OS_CYLINDER(2), OS_AXIS(0),
+        OD_ADD(2), OS_ADD(2), IPD(2);
+
+        private final int scale;
+
+        Measure(int scale) {
+            this.scale = scale;
+        }
+
+        /**
+         * @return the number of decimal places of the stored value: 2 for powers in diopters and
+         *         the IPD in millimetres, 0 for axes in degrees.
+         */
+        public int scale() {
+            return scale;
+        }
+
+        /**
+         * @return whether this is a cylinder axis, which wraps around at 180 degrees.
+         */
+        public boolean isAxis() {
+            return this == OD_AXIS || this == OS_AXIS;
+        }
+    }
+
+    private static final Measure[] MEASURES = Measure.values();
+
+    private final int patientId;
+    private final int size;
+    private final int[] diagnosticIds;
+    private final int[] epochDays;
+    private final boolean[] contactLens;
+    /** Measure {@code m} of diagnostic {@code i} is at {@code m.ordinal() * size + i}. */
+    private final short[] values;
+    /** Positions in {@link #values} of the {@link #OVERFLOW} entries, ascending. */
+    private final int[] overflowSlots;
+    /** The values of the {@link #OVERFLOW} entries, in the order of {@link #overflowSlots}. */
+    private final int[] overflowValues;
+
+    private PrescriptionHistory(Builder builder) {
+        this.patientId = builder.patientId;
+        this.size = builder.size;
+        this.diagnosticIds = Arrays.copyOf(builder.diagnosticIds, size);
+        this.epochDays = Arrays.copyOf(builder.epochDays, size);
+        this.contactLens = Arrays.copyOf(builder.contactLens, size);
+        this.values = new short[MEASURES.length * size];
+        for (int m = 0; m < MEASURES.length; m++) {
+            System.arraycopy(builder.values, m * builder.capacity, values, m * size, size);
+        }
+        // Slot and value packed into one long, so that sorting by slot boxes nothing
+        long[] overflows = new long[builder.overflowCount];
+        for (int o = 0; o < overflows.length; o++) {
+            int key = builder.overflowKeys[o];
+            int slot = key % MEASURES.length * size + key / MEASURES.length;
+            overflows[o] = (long) slot << 32 | builder.overflowValues[o] & 0xFFFF_FFFFL;
+        }
+        Arrays.sort(overflows);
+        this.overflowSlots = new int[overflows.length];
+        this.overflowValues = new int[overflows.length];
+        for (int o = 0; o < overflows.length; o++) {
+            overflowSlots[o] = (int) (overflows[o] >>> 32);
+            overflowValues[o] = (int) overflows[o];
+        }
+    }
+
+    /**
+     * @param patientId the patient.
+     * @return a history without diagnostics.
+     */
+    public static PrescriptionHistory empty(int patientId) {
+        return new Builder(patientId, 0).build();
+    }
+
+    /**
+     * @param patientId the patient.
+     * @param capacity  the expected number of diagnostics; the builder grows past it if needed.
+     * @return a builder for diagnostics added newest first.
+     */
+    public static Builder builder(int patientId, int capacity) {
+        return new Builder(patientId, capacity);
+    }
+
+    public int patientId() {
+        return patientId;
+    }
+
+    /**
+     * @return the number of diagnostics.
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param index the diagnostic, 0 for the newest.
+     * @return its ID, e.g. to load its remarks.
+     */
+    public int diagnosticId(int index) {
+        return diagnosticIds[Objects.checkIndex(index, size)];
+    }
+
+    /**
+     * @param index the diagnostic, 0 for the newest.
+     * @return the date of the examination.
+     */
+    public LocalDate date(int index) {
+        return LocalDate.ofEpochDay(epochDays[Objects.checkIndex(index, size)]);
+    }
+
+    /**
+     * @param index the diagnostic, 0 for the newest.
+     * @return whether it is a contact lens prescription.
+     */
+    public boolean isContactLens(int index) {
+        return contactLens[Objects.checkIndex(index, size)];
+    }
+
+    /**
+     * @param index   the diagnostic, 0 for the newest.
+     * @param measure the measurement.
+     * @return whether the measurement was recorded.
+     */
+    public boolean has(int index, Measure measure) {
+        return values[measure.ordinal() * size + Objects.checkIndex(index, size)] != EMPTY;
+    }
+
+    /**
+     * @param index   the diagnostic, 0 for the newest.
+     * @param measure the measurement.
+     * @return the value in units of the measure's {@linkplain Measure#scale() scale}, e.g. -125
+     *         for -1.25 D or 90 for an axis of 90 degrees; {@link #MISSING} if not recorded.
+     */
+    public int get(int index, Measure measure) {
+        return valueAt(measure.ordinal() * size + Objects.checkIndex(index, size));
+    }
+
+    /**
+     * @param index   the diagnostic, 0 for the newest.
+     * @param measure the measurement.
+     * @return the value for display, or {@code null} if not recorded.
+     */
+    public BigDecimal decimal(int index, Measure measure) {
+        int value = get(index, measure);
+        return value == MISSING ? null : BigDecimal.valueOf(value, measure.scale());
+    }
+
+    /**
+     * Change of a measurement since the diagnostic before, e.g. +25 when a sphere went from
+     * -1.50 D to -1.25 D. An axis change is the shorter way round, between -89 and +90 degrees.
+     *
+     * @param index   the diagnostic, 0 for the newest.
+     * @param measure the measurement.
+     * @return the change in units of the measure's scale; {@link #MISSING} for the oldest
+     *         diagnostic or when either value was not recorded.
+     */
+    public int delta(int index, Measure measure) {
+        int current = get(index, measure);
+        if (index + 1 >= size) {
+            return MISSING;
+        }
+        int previous = get(index + 1, measure);
+        if (current == MISSING || previous == MISSING) {
+            return MISSING;
+        }
+        long delta = (long) current - previous;
+        if (measure.isAxis()) {
+            return Math.floorMod(delta + 89, 180) - 89;
+        }
+        return (int) delta;
+    }
+
+    /**
+     * Copies the points of a trend chart, oldest first, skipping diagnostics where the
+     * measurement was not recorded.
+     *
+     * @param measure   the measurement.
+     * @param epochDays receives the dates as {@link LocalDate#toEpochDay()}; at least
+     *                  {@link #size()} long.
+     * @param values    receives the values in diopters, millimetres or degrees; at least
+     *                  {@link #size()} long.
+     * @return the number of points copied.
+     * @throws IllegalArgumentException if an array is shorter than {@link #size()}.
+     */
+    public int trend(Measure measure, int[] epochDays, double[] values) {
+        if (epochDays.length < size || values.length < size) {
+            throw new IllegalArgumentException("Trend arrays must hold " + size + " points");
+        }
+        double divisor = Math.pow(10, measure.scale());
+        int offset = measure.ordinal() * size;
+        int points = 0;
+        for (int i = size - 1; i >= 0; i--) {
+            int value = valueAt(offset + i);
+            if (value != MISSING) {
+                epochDays[points] = this.epochDays[i];
+                values[points] = value / divisor;
+                points++;
+            }
+        }
+        return points;
+    }
+
+    /**
+     * Least-squares rate of change of a measurement over the history, e.g. -0.50 for a myopia
+     * that progresses by half a diopter a year.
+     *
+     * @param measure the measurement; not an axis, which has no linear trend.
+     * @return the change per year in diopters or millimetres; {@link Double#NaN} unless the
+     *         measurement was recorded on at least two different dates.
+     * @throws IllegalArgumentException if the measure is an axis.
+     */
+    public double changePerYear(Measure measure) {
+        if (measure.isAxis()) {
+            throw new IllegalArgumentException(measure + " wraps around and has no linear trend");
+        }
+        int offset = measure.ordinal() * size;
+        int points = 0;
+        double sumX = 0;
+        double sumY = 0;
+        for (int i = 0; i < size; i++) {
+            int value = valueAt(offset + i);
+            if (value != MISSING) {
+                points++;
+                sumX += epochDays[i];
+                sumY += value;
+            }
+        }
+        if (points < 2) {
+            return Double.NaN;
+        }
+        double meanX = sumX / points;
+        double meanY = sumY / points;
+        double covariance = 0;
+        double variance = 0;
+        for (int i = 0; i < size; i++) {
+            int value = valueAt(offset + i);
+            if (value != MISSING) {
+                double dx = epochDays[i] - meanX;
+                covariance += dx * (value - meanY);
+                variance += dx * dx;
+            }
+        }
+        if (variance == 0) {
+            return Double.NaN;
+        }
+        return covariance / variance * DAYS_PER_YEAR / Math.pow(10, measure.scale());
+    }
+
+    private int valueAt(int slot) {
+        short value = values[slot];
+        if (value == EMPTY) {
+            return MISSING;
+        }
+        return value == OVERFLOW ? overflowValues[Arrays.binarySearch(overflowSlots, slot)] : value;
+    }
+
+    @Override
+    public String toString() {
+        return "PrescriptionHistory[patientId=" + patientId + ", size=" + size + "]";
+    }
+
+    /** Collects diagnostics, newest first, into a {@link PrescriptionHistory}. */
+    public static final class Builder {
+
+        private final int patientId;
+        private int capacity;
+        private int size;
+        private int[] diagnosticIds;
+        private int[] epochDays;
+        private boolean[] contactLens;
+        private short[] values;
+        /** {@code index * MEASURES.length + measure} of each value a {@code short} cannot hold. */
+        private int[] overflowKeys = new int[0];
+        private int[] overflowValues = new int[0];
+        private int overflowCount;
+
+        private Builder(int patientId, int capacity) {
+            if (capacity < 0) {
+                throw new IllegalArgumentException("Capacity must not be negative, was " + capacity);
+            }
+            this.patientId = patientId;
+            allocate(capacity);
+        }
+
+        /**
+         * Starts the next, older diagnostic; its measurements are then set with
+         * {@link #set(Measure, Number)} and are {@link #MISSING} until set.
+         *
+         * @param diagnosticId the diagnostic ID.
+         * @param date         the date of the examination.
+         * @param contactLens  whether it is a contact lens prescription.
+         * @return this builder.
+         */
+        public Builder add(int diagnosticId, LocalDate date, boolean contactLens) {
+            if (size == capacity) {
+                allocate(Math.max(4, capacity * 2));
+            }
+            diagnosticIds[size] = diagnosticId;
+            epochDays[size] = Math.toIntExact(date.toEpochDay());
+            this.contactLens[size] = contactLens;
+            for (int m = 0; m < MEASURES.length; m++) {
+                values[m * capacity + size] = EMPTY;
+            }
+            size++;
+            return this;
+        }
+
+        /**
+         * Sets a measurement of the diagnostic added last.
+         *
+         * @param measure the measurement.
+         * @param value   the value as stored, e.g. a {@link BigDecimal} power or an
+         *                {@link Integer} axis; {@code null} if not recorded.
+         * @return this builder.
+         * @throws IllegalStateException    if no diagnostic has been added.
+         * @throws IllegalArgumentException if the value has more decimals than the measure's
+         *                                  scale, which its column does not allow either.
+         */
+        public Builder set(Measure measure, Number value) {
+            if (size == 0) {
+                throw new IllegalStateException("No diagnostic added");
+            }
+            int key = (size - 1) * MEASURES.length + measure.ordinal();
+            int units = encode(measure, value);
+            short stored;
+            if (value == null) {
+                stored = EMPTY;
+            } else if (units > OVERFLOW && units <= Short.MAX_VALUE) {
+                stored = (short) units;
+            } else {
+                stored = OVERFLOW;
+                setOverflow(key, units);
+            }
+            values[measure.ordinal() * capacity + size - 1] = stored;
+            if (stored != OVERFLOW) {
+                removeOverflow(key);
+            }
+            return this;
+        }
+
+        public PrescriptionHistory build() {
+            return new PrescriptionHistory(this);
+        }
+
+        private static int encode(Measure measure, Number value) {
+            if (value == null) {
+                return MISSING;
+            }
+            BigDecimal decimal = value instanceof BigDecimal d ? d : BigDecimal.valueOf(value.longValue());
+            try {
+                return decimal.setScale(measure.scale(), RoundingMode.UNNECESSARY).unscaledValue().intValueExact();
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException(measure + " of " + value + " cannot be stored", e);
+            }
+        }
+
+        private void setOverflow(int key, int units) {
+            for (int o = 0; o < overflowCount; o++) {
+                if (overflowKeys[o] == key) {
+                    overflowValues[o] = units;
+                    return;
+                }
+            }
+            if (overflowCount == overflowKeys.length) {
+                overflowKeys = Arrays.copyOf(overflowKeys, Math.max(4, overflowCount * 2));
+                overflowValues = Arrays.copyOf(overflowValues, overflowKeys.length);
+            }
+            overflowKeys[overflowCount] = key;
+            overflowValues[overflowCount] = units;
+            overflowCount++;
+        }
+
+        private void removeOverflow(int key) {
+            for (int o = 0; o < overflowCount; o++) {
+                if (overflowKeys[o] == key) {
+                    overflowCount--;
+                    overflowKeys[o] = overflowKeys[overflowCount];
+                    overflowValues[o] = overflowValues[overflowCount];
+                    return;
+                }
+            }
+        }
+
+        private void allocate(int newCapacity) {
+            int[] ids = new int[newCapacity];
+            int[] days = new int[newCapacity];
+            boolean[] lens = new boolean[newCapacity];
+            short[] measures = new short[MEASURES.length * newCapacity];
+            if (size > 0) {
+                System.arraycopy(diagnosticIds, 0, ids, 0, size);
+                System.arraycopy(epochDays, 0, days, 0, size);
+                System.arraycopy(contactLens, 0, lens, 0, size);
+                for (int m = 0; m < MEASURES.length; m++) {
+                    System.arraycopy(values, m * capacity, measures, m * newCapacity, size);
+                }
+            }
+            diagnosticIds = ids;
+            epochDays = days;
+            contactLens = lens;
+            values = measures;
+            capacity = newCapacity;
+        }
+    }
+}
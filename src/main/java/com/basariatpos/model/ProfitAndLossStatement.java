@@ -0,0 +1,54 @@
+package com.basariatpos.model;
+
+import com.basariatpos.db.generated.tables.pojos.Generateprofitandlossstatement;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * The totals of a profit and loss statement for a range of days. The individual
+ * operating-expense lines are not kept here; they are streamed while the statement is
+ * computed.
+ *
+ * @param startDate         the first day of the statement.
+ * @param endDate           the last day of the statement, inclusive.
+ * @param revenue           payments received in the range for completed or abandoned orders.
+ * @param costOfGoodsSold   the cost of stock items on orders completed in the range.
+ * @param operatingExpenses the sum of all expenses dated in the range.
+ * @param expenseLineCount  the number of expense lines that were streamed.
+ */
+public record ProfitAndLossStatement(LocalDate startDate, LocalDate endDate, BigDecimal revenue,
+                                     BigDecimal costOfGoodsSold, BigDecimal operatingExpenses,
+                                     long expenseLineCount) {
+
+    /**
+     * @return revenue minus cost of goods sold.
+     */
+    public BigDecimal grossProfit() {
+        return revenue.subtract(costOfGoodsSold);
+    }
+
+    /**
+     * @return gross profit minus operating expenses; negative for a loss.
+     */
+    public BigDecimal netProfit() {
+        return grossProfit().subtract(operatingExpenses);
+    }
+
+    /**
+     * Returns the summary rows in the shape {@code GenerateProfitAndLossStatement} produces,
+     * so report screens can show them unchanged.
+     *
+     * @return the revenue, COGS and gross profit rows, followed by the total operating
+     *         expenses and net profit rows.
+     */
+    public List<Generateprofitandlossstatement> summaryLines() {
+        return List.of(
+                new Generateprofitandlossstatement("Revenue", "Total Cash Revenue Received", revenue),
+                new Generateprofitandlossstatement("COGS", "Cost of Goods Sold (Completed Orders)", costOfGoodsSold),
+                new Generateprofitandlossstatement("Gross Profit", "Gross Profit", grossProfit()),
+                new Generateprofitandlossstatement("Total Operating Expense", "Total Operating Expenses", operatingExpenses),
+                new Generateprofitandlossstatement("Net Profit", "Net Profit/(Loss)", netProfit()));
+    }
+}
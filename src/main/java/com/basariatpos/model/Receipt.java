@@ -0,0 +1,25 @@
+package com.basariatpos.model;
+
+import com.basariatpos.db.generated.tables.pojos.Centerprofile;
+import com.basariatpos.db.generated.tables.pojos.Payments;
+import com.basariatpos.db.generated.tables.pojos.Salesorderitems;
+import com.basariatpos.db.generated.tables.pojos.Salesorders;
+
+import java.util.List;
+
+/**
+ * Everything printed on the receipt of a sales order, as loaded by
+ * {@link com.basariatpos.service.ReceiptRenderer}.
+ *
+ * @param profile  the center's profile: name, address, logo, currency and footer message.
+ * @param order    the order header, with the amounts computed by the database.
+ * @param items    the order lines, in insertion order.
+ * @param payments the payments received for the order, oldest first.
+ */
+public record Receipt(Centerprofile profile, Salesorders order, List<Salesorderitems> items, List<Payments> payments) {
+
+    public Receipt {
+        items = List.copyOf(items);
+        payments = List.copyOf(payments);
+    }
+}
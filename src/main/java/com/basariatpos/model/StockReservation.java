@@ -0,0 +1,16 @@
+package com.basariatpos.model;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Stock set aside for one order line on one terminal, as placed by
+ * {@link com.basariatpos.service.StockReservationService}.
+ *
+ * @param reservationId   the reservation ID.
+ * @param inventoryItemId the reserved inventory item.
+ * @param quantity        the number of units reserved.
+ * @param expiresAt       when the reservation lapses unless renewed or attached to a saved
+ *                        order; {@code null} once it is held for an order.
+ */
+public record StockReservation(long reservationId, int inventoryItemId, int quantity, OffsetDateTime expiresAt) {
+}
@@ -0,0 +1,17 @@
+package com.basariatpos.model;
+
+import java.time.OffsetDateTime;
+
+/**
+ * One range partition of a partitioned table (migrations V8 and V16), as listed by
+ * {@link com.basariatpos.service.PartitionMaintenanceService}.
+ *
+ * @param tableName     the partitioned table, in lower case.
+ * @param partitionName the partition, e.g. {@code salesorders_y2026} or {@code auditlog_y2026m10}.
+ * @param from          the start of the partition's range, inclusive.
+ * @param to            the end of the partition's range, exclusive.
+ * @param totalBytes    the partition's size on disk, with its indexes.
+ */
+public record TablePartition(String tableName, String partitionName, OffsetDateTime from, OffsetDateTime to,
+                             long totalBytes) {
+}
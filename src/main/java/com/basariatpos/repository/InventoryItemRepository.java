@@ -0,0 +1,62 @@
+package com.basariatpos.repository;
+
+import com.basariatpos.db.generated.tables.pojos.Inventoryitems;
+import com.basariatpos.db.generated.tables.records.InventoryitemsRecord;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static com.basariatpos.db.generated.Tables.INVENTORYITEMS;
+import static com.basariatpos.db.generated.Tables.PRODUCTS;
+
+/**
+ * Looks up inventory items as a terminal adds them to an order, by ID or by the product code
+ * printed on the label. Both lookups run on every scan and use {@link QueryTemplate}s rendered
+ * when the repository is created.
+ */
+public class InventoryItemRepository {
+
+    private final DSLContext dsl;
+    private final QueryTemplate<InventoryitemsRecord> itemById;
+    private final QueryTemplate<InventoryitemsRecord> activeItemsByProductCode;
+
+    /**
+     * @param dsl the jOOQ context, normally from {@link com.basariatpos.config.DslContextFactory}.
+     */
+    public InventoryItemRepository(DSLContext dsl) {
+        this.dsl = Objects.requireNonNull(dsl, "dsl");
+        this.itemById = QueryTemplate.of(dsl, INVENTORYITEMS, dsl.selectFrom(INVENTORYITEMS)
+                .where(INVENTORYITEMS.INVENTORY_ITEM_ID.eq(DSL.param("inventoryItemId", Integer.class))));
+        this.activeItemsByProductCode = QueryTemplate.of(dsl, INVENTORYITEMS, dsl.select(INVENTORYITEMS.fields())
+                .from(INVENTORYITEMS)
+                .join(PRODUCTS).on(PRODUCTS.PRODUCT_ID.eq(INVENTORYITEMS.PRODUCT_ID))
+                .where(PRODUCTS.PRODUCT_CODE.eq(DSL.param("productCode", String.class)))
+                .and(INVENTORYITEMS.IS_ACTIVE.isTrue())
+                .orderBy(INVENTORYITEMS.INVENTORY_ITEM_ID));
+    }
+
+    /**
+     * Loads an inventory item, active or not.
+     *
+     * @param inventoryItemId the item ID.
+     * @return the item, or empty if it does not exist.
+     */
+    public Optional<Inventoryitems> findById(int inventoryItemId) {
+        return itemById.fetchOptional(dsl, inventoryItemId).map(item -> item.into(Inventoryitems.class));
+    }
+
+    /**
+     * Loads the active items of the product with the given code; a product can be stocked in
+     * several variants, e.g. one per brand.
+     *
+     * @param productCode the product code (SKU).
+     * @return the items in ID order; empty if there is no such product or none of its items is active.
+     */
+    public List<Inventoryitems> findActiveByProductCode(String productCode) {
+        Objects.requireNonNull(productCode, "productCode");
+        return activeItemsByProductCode.fetch(dsl, productCode).into(Inventoryitems.class);
+    }
+}
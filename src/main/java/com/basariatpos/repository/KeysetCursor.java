@@ -0,0 +1,24 @@
+package com.basariatpos.repository;
+
+import java.util.List;
+
+/**
+ * The sort-key values of one row, used as the boundary of the next or previous page
+ * in keyset pagination (see {@link KeysetPager}).
+ *
+ * @param values the key values in the same order as the pager's key fields; never {@code null}.
+ */
+public record KeysetCursor(List<Object> values) {
+
+    /**
+     * @param values the key values; must not be empty or contain {@code null}.
+     * @throws IllegalArgumentException if {@code values} is empty.
+     * @throws NullPointerException if {@code values} or one of its elements is {@code null}.
+     */
+    public KeysetCursor {
+        values = List.copyOf(values);
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException("A keyset cursor needs at least one value");
+        }
+    }
+}
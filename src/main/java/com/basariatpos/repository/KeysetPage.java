@@ -0,0 +1,28 @@
+package com.basariatpos.repository;
+
+import java.util.List;
+
+/**
+ * One page of rows read by a {@link KeysetPager}, always in display order.
+ *
+ * @param rows  the rows of the page; empty if nothing lies beyond the requested boundary.
+ * @param first the cursor of the first row, or {@code null} if the page is empty.
+ * @param last  the cursor of the last row, or {@code null} if the page is empty.
+ * @param more  {@code true} if further rows exist in the direction the page was read,
+ *              i.e. after {@code last} for forward pages and before {@code first} for
+ *              backward pages.
+ * @param <T>   the row type.
+ */
+public record KeysetPage<T>(List<T> rows, KeysetCursor first, KeysetCursor last, boolean more) {
+
+    public KeysetPage {
+        rows = List.copyOf(rows);
+    }
+
+    /**
+     * @return {@code true} if the page has no rows.
+     */
+    public boolean isEmpty() {
+        return rows.isEmpty();
+    }
+}
@@ -0,0 +1,168 @@
+package com.basariatpos.repository;
+
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.RecordMapper;
+import org.jooq.Result;
+import org.jooq.RowN;
+import org.jooq.SortField;
+import org.jooq.SortOrder;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reads a table or view page by page using keyset ("seek") pagination.
+ * <p>
+ * Instead of {@code OFFSET}, each page starts right after the sort key of the previous
+ * page's last row, e.g. {@code WHERE (order_date, sales_order_id) < (?, ?) ORDER BY order_date
+ * DESC, sales_order_id DESC LIMIT ?}. With an index on the key columns every page is a single
+ * index range scan, so the first page of a table with millions of rows is as cheap as the first
+ * page of an empty one and only one page of POJOs is ever held per call.
+ * <p>
+ * The key columns must be {@code NOT NULL}, share one sort direction and end in a unique
+ * column (normally the primary key) so that every row has a distinct position.
+ * Instances are immutable and thread-safe.
+ *
+ * @param <R> the jOOQ record type of the table.
+ * @param <T> the row type handed to callers, e.g. a generated POJO.
+ */
+public class KeysetPager<R extends Record, T> {
+
+    /** Upper bound for a single page, to keep one request from loading a whole table. */
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private final DSLContext dsl;
+    private final Table<R> table;
+    private final Condition filter;
+    private final List<Field<?>> keys;
+    private final SortOrder order;
+    private final RecordMapper<? super R, ? extends T> mapper;
+
+    /**
+     * @param dsl    the jOOQ context used for all queries.
+     * @param table  the table or view to read.
+     * @param filter the condition every row must match; {@link DSL#noCondition()} for all rows.
+     * @param order  the display order of the keys, {@link SortOrder#ASC} or {@link SortOrder#DESC}.
+     * @param mapper converts each record into the row type.
+     * @param keys   the sort key columns, most significant first, ending in a unique column.
+     * @throws IllegalArgumentException if no key is given or {@code order} is {@link SortOrder#DEFAULT}.
+     */
+    public KeysetPager(DSLContext dsl, Table<R> table, Condition filter, SortOrder order,
+                       RecordMapper<? super R, ? extends T> mapper, List<? extends Field<?>> keys) {
+        this.dsl = Objects.requireNonNull(dsl, "dsl");
+        this.table = Objects.requireNonNull(table, "table");
+        this.filter = Objects.requireNonNull(filter, "filter");
+        this.order = Objects.requireNonNull(order, "order");
+        this.mapper = Objects.requireNonNull(mapper, "mapper");
+        this.keys = List.copyOf(keys);
+        if (this.keys.isEmpty()) {
+            throw new IllegalArgumentException("At least one key field is required");
+        }
+        if (order == SortOrder.DEFAULT) {
+            throw new IllegalArgumentException("Sort order must be ASC or DESC");
+        }
+    }
+
+    /**
+     * Returns a pager over the same table and keys with a different filter, e.g. when the
+     * user types into a search box.
+     *
+     * @param newFilter the condition replacing the current filter.
+     * @return a new pager.
+     */
+    public KeysetPager<R, T> withFilter(Condition newFilter) {
+        return new KeysetPager<>(dsl, table, newFilter, order, mapper, keys);
+    }
+
+    /**
+     * Reads the first page in display order.
+     *
+     * @param pageSize the maximum number of rows, 1 to {@link #MAX_PAGE_SIZE}.
+     * @return the page.
+     */
+    public KeysetPage<T> firstPage(int pageSize) {
+        return fetch(null, true, pageSize);
+    }
+
+    /**
+     * Reads the rows that follow {@code after} in display order.
+     *
+     * @param after    the cursor of the last row already shown, usually {@link KeysetPage#last()}.
+     * @param pageSize the maximum number of rows, 1 to {@link #MAX_PAGE_SIZE}.
+     * @return the page.
+     */
+    public KeysetPage<T> pageAfter(KeysetCursor after, int pageSize) {
+        return fetch(Objects.requireNonNull(after, "after"), true, pageSize);
+    }
+
+    /**
+     * Reads the rows that precede {@code before} in display order. The returned rows are
+     * still in display order, ending with the row just before {@code before}.
+     *
+     * @param before   the cursor of the first row already shown, usually {@link KeysetPage#first()}.
+     * @param pageSize the maximum number of rows, 1 to {@link #MAX_PAGE_SIZE}.
+     * @return the page.
+     */
+    public KeysetPage<T> pageBefore(KeysetCursor before, int pageSize) {
+        return fetch(Objects.requireNonNull(before, "before"), false, pageSize);
+    }
+
+    private KeysetPage<T> fetch(KeysetCursor boundary, boolean forward, int pageSize) {
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE + ": " + pageSize);
+        }
+        if (boundary != null && boundary.values().size() != keys.size()) {
+            throw new IllegalArgumentException("Cursor has " + boundary.values().size() + " value(s) but the pager has "
+                    + keys.size() + " key field(s)");
+        }
+
+        // Reading backwards is a forward read in the opposite direction, reversed afterwards.
+        boolean ascending = (order == SortOrder.ASC) == forward;
+        Condition condition = filter;
+        if (boundary != null) {
+            RowN key = DSL.row(keys);
+            Object[] values = boundary.values().toArray();
+            condition = condition.and(ascending ? key.gt(values) : key.lt(values));
+        }
+        List<SortField<?>> orderBy = new ArrayList<>(keys.size());
+        for (Field<?> key : keys) {
+            orderBy.add(ascending ? key.asc() : key.desc());
+        }
+
+        // One extra row tells whether another page exists without a COUNT query.
+        Result<R> result = dsl.selectFrom(table)
+                .where(condition)
+                .orderBy(orderBy)
+                .limit(pageSize + 1)
+                .fetch();
+        boolean more = result.size() > pageSize;
+        List<R> records = new ArrayList<>(more ? result.subList(0, pageSize) : result);
+        if (!forward) {
+            Collections.reverse(records);
+        }
+        if (records.isEmpty()) {
+            return new KeysetPage<>(List.of(), null, null, false);
+        }
+
+        List<T> rows = new ArrayList<>(records.size());
+        for (R record : records) {
+            rows.add(mapper.map(record));
+        }
+        return new KeysetPage<>(rows, cursorOf(records.get(0)), cursorOf(records.get(records.size() - 1)), more);
+    }
+
+    private KeysetCursor cursorOf(R record) {
+        List<Object> values = new ArrayList<>(keys.size());
+        for (Field<?> key : keys) {
+            values.add(record.get(key));
+        }
+        return new KeysetCursor(values);
+    }
+}
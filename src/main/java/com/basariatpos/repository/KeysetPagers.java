@@ -0,0 +1,62 @@
+package com.basariatpos.repository;
+
+import com.basariatpos.db.generated.tables.pojos.Auditlog;
+import com.basariatpos.db.generated.tables.pojos.Patients;
+import com.basariatpos.db.generated.tables.pojos.Salesorders;
+import com.basariatpos.db.generated.tables.records.AuditlogRecord;
+import com.basariatpos.db.generated.tables.records.PatientsRecord;
+import com.basariatpos.db.generated.tables.records.SalesordersRecord;
+import org.jooq.DSLContext;
+import org.jooq.SortOrder;
+import org.jooq.impl.DSL;
+
+import java.util.List;
+
+import static com.basariatpos.db.generated.Tables.AUDITLOG;
+import static com.basariatpos.db.generated.Tables.PATIENTS;
+import static com.basariatpos.db.generated.Tables.SALESORDERS;
+
+/**
+ * Keyset pagers for the large list screens. Each key is backed by an index
+ * (migration V6, or the primary key); add a filter with {@link KeysetPager#withFilter}.
+ */
+public final class KeysetPagers {
+
+    private KeysetPagers() {
+    }
+
+    /**
+     * Sales history, newest first, keyed on {@code (order_date, sales_order_id)}.
+     *
+     * @param dsl the jOOQ context.
+     * @return a pager over all sales orders.
+     */
+    public static KeysetPager<SalesordersRecord, Salesorders> salesHistory(DSLContext dsl) {
+        return new KeysetPager<>(dsl, SALESORDERS, DSL.noCondition(), SortOrder.DESC,
+                r -> r.into(Salesorders.class), List.of(SALESORDERS.ORDER_DATE, SALESORDERS.SALES_ORDER_ID));
+    }
+
+    /**
+     * Patients in alphabetical order, keyed on {@code (full_name, patient_id)}.
+     *
+     * @param dsl the jOOQ context.
+     * @return a pager over all patients.
+     */
+    public static KeysetPager<PatientsRecord, Patients> patients(DSLContext dsl) {
+        return new KeysetPager<>(dsl, PATIENTS, DSL.noCondition(), SortOrder.ASC,
+                r -> r.into(Patients.class), List.of(PATIENTS.FULL_NAME, PATIENTS.PATIENT_ID));
+    }
+
+    /**
+     * Audit log, newest first, keyed on {@code (action_timestamp, audit_log_id)}, the primary key
+     * of the partitioned table (migration V8), so every page is a merge of backward scans over
+     * each month's primary-key index.
+     *
+     * @param dsl the jOOQ context.
+     * @return a pager over the whole audit log.
+     */
+    public static KeysetPager<AuditlogRecord, Auditlog> auditLog(DSLContext dsl) {
+        return new KeysetPager<>(dsl, AUDITLOG, DSL.noCondition(), SortOrder.DESC,
+                r -> r.into(Auditlog.class), List.of(AUDITLOG.ACTION_TIMESTAMP, AUDITLOG.AUDIT_LOG_ID));
+    }
+}
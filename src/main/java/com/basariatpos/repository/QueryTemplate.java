@@ -0,0 +1,149 @@
+package com.basariatpos.repository;
+
+import org.jooq.DSLContext;
+import org.jooq.Param;
+import org.jooq.QueryPart;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.ResultQuery;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A query whose SQL is rendered once and then executed with new bind values, for the lookups a
+ * terminal runs on every scan and every order.
+ * <p>
+ * Building and rendering a jOOQ query walks its whole expression tree on each call, and jOOQ
+ * 3.19 has no render cache. A template is built from an ordinary query whose variable parts are
+ * named parameters, e.g. {@code DSL.param("itemId", Integer.class)}; the SQL string is kept and
+ * turned into a plain SQL query once, which later executions reuse, only binding new values
+ * with the parameters' data types. The driver sees the same SQL and parameter types every time
+ * and keeps using one server-side prepared statement per connection (see
+ * {@link com.basariatpos.config.DslContextFactory}).
+ * <p>
+ * Values that are not named parameters, e.g. the statuses in {@code status IN ('Active',
+ * 'Paused')}, keep the values they were built with. Each parameter name may occur only once.
+ * Instances are thread-safe: a jOOQ query holds its bind values, so each concurrent execution
+ * takes a built query of its own from a free list and returns it afterwards.
+ *
+ * @param <R> the jOOQ record type the rows are returned as.
+ */
+public final class QueryTemplate<R extends Record> {
+
+    private final String sql;
+    private final Table<R> table;
+    private final List<Param<?>> params;
+    private final List<String> placeholderNames;
+    /** Built queries not currently executing; at most one per concurrent caller is ever built. */
+    private final Queue<ResultQuery<R>> idleQueries = new ConcurrentLinkedQueue<>();
+
+    private QueryTemplate(String sql, Table<R> table, List<Param<?>> params) {
+        this.sql = sql;
+        this.table = table;
+        this.params = params;
+        this.placeholderNames = params.stream().map(Param::getParamName).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * Renders a template.
+     *
+     * @param dsl   the jOOQ context whose dialect and settings are used to render the SQL; it should
+     *              be configured like the contexts the template is executed with.
+     * @param table the table whose records the rows are returned as; the query must select
+     *              columns of that table by their own names.
+     * @param query the query, with a named parameter for every value that changes between calls.
+     * @param <R>   the record type.
+     * @return the template.
+     * @throws IllegalArgumentException if a parameter name occurs more than once.
+     */
+    public static <R extends Record> QueryTemplate<R> of(DSLContext dsl, Table<R> table, ResultQuery<?> query) {
+        Objects.requireNonNull(dsl, "dsl");
+        Objects.requireNonNull(table, "table");
+        Objects.requireNonNull(query, "query");
+        // getParams() also lists inlined values, which are part of the SQL text
+        List<Param<?>> params = query.getParams().values().stream().filter(param -> !param.isInline()).toList();
+        if (params.size() != query.getBindValues().size()) {
+            throw new IllegalArgumentException("Each parameter name may occur only once in a query template");
+        }
+        return new QueryTemplate<>(dsl.render(query), table, params);
+    }
+
+    /**
+     * Runs the query.
+     *
+     * @param dsl    the jOOQ context to run the query with.
+     * @param values the values of the named parameters, in the order they occur in the query.
+     * @return the rows.
+     * @throws IllegalArgumentException if the number of values does not match the parameters.
+     */
+    public Result<R> fetch(DSLContext dsl, Object... values) {
+        ResultQuery<R> query = bind(dsl, values);
+        try {
+            return query.fetch();
+        } finally {
+            release(query);
+        }
+    }
+
+    /**
+     * Runs a query that returns at most one row.
+     *
+     * @param dsl    the jOOQ context to run the query with.
+     * @param values the values of the named parameters, in the order they occur in the query.
+     * @return the row, or empty if there is none.
+     * @throws IllegalArgumentException if the number of values does not match the parameters.
+     * @throws org.jooq.exception.TooManyRowsException if the query returns more than one row.
+     */
+    public Optional<R> fetchOptional(DSLContext dsl, Object... values) {
+        ResultQuery<R> query = bind(dsl, values);
+        try {
+            return query.fetchOptional();
+        } finally {
+            release(query);
+        }
+    }
+
+    /**
+     * @return the rendered SQL, with a {@code ?} for every bind value.
+     */
+    public String sql() {
+        return sql;
+    }
+
+    private ResultQuery<R> bind(DSLContext dsl, Object... values) {
+        if (values.length != placeholderNames.size()) {
+            throw new IllegalArgumentException("Expected " + placeholderNames.size() + " value(s) but got " + values.length);
+        }
+        ResultQuery<R> query = idleQueries.poll();
+        if (query == null) {
+            query = build();
+        }
+        // Binding finds the parameters with the attached configuration
+        query.attach(dsl.configuration());
+        for (int i = 0; i < values.length; i++) {
+            query.bind(placeholderNames.get(i), values[i]);
+        }
+        return query;
+    }
+
+    private void release(ResultQuery<R> query) {
+        // Keeps the query from holding on to a transaction's configuration while idle
+        query.detach();
+        idleQueries.offer(query);
+    }
+
+    private ResultQuery<R> build() {
+        QueryPart[] bindings = new QueryPart[params.size()];
+        for (int i = 0; i < bindings.length; i++) {
+            Param<?> param = params.get(i);
+            bindings[i] = param.getParamName() == null ? param : DSL.param(param.getParamName(), param.getDataType());
+        }
+        return DSL.resultQuery(sql, (Object[]) bindings).coerce(table);
+    }
+}
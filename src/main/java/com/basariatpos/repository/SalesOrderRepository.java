@@ -0,0 +1,194 @@
+package com.basariatpos.repository;
+
+import com.basariatpos.db.generated.tables.pojos.Salesorderitems;
+import com.basariatpos.db.generated.tables.pojos.Salesorders;
+import com.basariatpos.db.generated.tables.records.SalesorderitemsRecord;
+import com.basariatpos.db.generated.tables.records.SalesordersRecord;
+import org.jooq.DSLContext;
+import org.jooq.InsertValuesStep8;
+import org.jooq.JSONB;
+import org.jooq.Record1;
+import org.jooq.Result;
+import org.jooq.impl.DSL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static com.basariatpos.db.generated.Tables.SALESORDERITEMS;
+import static com.basariatpos.db.generated.Tables.SALESORDERS;
+
+/**
+ * Data access for sales orders and their line items.
+ * <p>
+ * Orders are written with a fixed number of round trips regardless of how many lines
+ * they have: one INSERT for the header and one multi-row INSERT ... RETURNING for all
+ * lines, both inside a single transaction. The subtotal and audit triggers on
+ * {@code SalesOrderItems} therefore fire for one statement instead of once per line.
+ * Orders are loaded with {@link QueryTemplate}s rendered when the repository is created.
+ */
+public class SalesOrderRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(SalesOrderRepository.class);
+
+    private final DSLContext dsl;
+    private final QueryTemplate<SalesordersRecord> orderById;
+    private final QueryTemplate<SalesorderitemsRecord> itemsByOrderId;
+
+    /**
+     * @param dsl the jOOQ context; its connection must carry the current user and shift
+     *            context (see {@link com.basariatpos.config.PooledDataSource}).
+     */
+    public SalesOrderRepository(DSLContext dsl) {
+        this.dsl = Objects.requireNonNull(dsl, "dsl");
+        this.orderById = QueryTemplate.of(dsl, SALESORDERS, dsl.selectFrom(SALESORDERS)
+                .where(SALESORDERS.SALES_ORDER_ID.eq(DSL.param("salesOrderId", Integer.class))));
+        this.itemsByOrderId = QueryTemplate.of(dsl, SALESORDERITEMS, dsl.selectFrom(SALESORDERITEMS)
+                .where(SALESORDERITEMS.SALES_ORDER_ID.eq(DSL.param("salesOrderId", Integer.class)))
+                .orderBy(SALESORDERITEMS.SO_ITEM_ID));
+    }
+
+    /**
+     * Saves a new sales order header together with all of its lines in one transaction.
+     * <p>
+     * On success the generated {@code sales_order_id}, {@code shift_id} (assigned by the
+     * active-shift trigger) and {@code order_date} are copied back into {@code order}, and
+     * every item receives its {@code so_item_id} and {@code sales_order_id}. Amount columns
+     * ({@code subtotal_amount}, {@code total_amount}, {@code balance_due}) are maintained by
+     * the database and should be re-read with {@link #findById(int)} when needed.
+     *
+     * @param order the order header; {@code status} and {@code createdByUserId} are required.
+     *              A {@code null} order date or discount uses the column default.
+     * @param items the order lines, in display order. May be empty.
+     * @return the generated {@code so_item_id}s, in the same order as {@code items}.
+     * @throws IllegalArgumentException if the header or a line is missing required values.
+     * @throws org.jooq.exception.DataAccessException if the database rejects the order,
+     *         e.g. because no shift is active or a constraint is violated; nothing is saved.
+     */
+    public List<Integer> saveOrderWithItems(Salesorders order, List<Salesorderitems> items) {
+        Objects.requireNonNull(order, "order");
+        Objects.requireNonNull(items, "items");
+        validateHeader(order);
+        items.forEach(SalesOrderRepository::validateItem);
+
+        return dsl.transactionResult(configuration -> {
+            DSLContext tx = configuration.dsl();
+
+            SalesordersRecord saved = tx.insertInto(SALESORDERS)
+                    .set(toHeaderRecord(order))
+                    .returning(SALESORDERS.SALES_ORDER_ID, SALESORDERS.SHIFT_ID, SALESORDERS.ORDER_DATE)
+                    .fetchOne();
+            if (saved == null) {
+                throw new IllegalStateException("INSERT into SalesOrders returned no row");
+            }
+            int salesOrderId = saved.getSalesOrderId();
+            order.setSalesOrderId(salesOrderId);
+            order.setShiftId(saved.getShiftId());
+            order.setOrderDate(saved.getOrderDate());
+
+            List<Integer> itemIds = insertItems(tx, salesOrderId, items);
+            logger.debug("Saved sales order {} with {} line(s)", salesOrderId, itemIds.size());
+            return itemIds;
+        });
+    }
+
+    /**
+     * Loads a sales order header, including the amounts computed by the database.
+     *
+     * @param salesOrderId the order ID.
+     * @return the order, or empty if it does not exist.
+     */
+    public Optional<Salesorders> findById(int salesOrderId) {
+        return orderById.fetchOptional(dsl, salesOrderId).map(order -> order.into(Salesorders.class));
+    }
+
+    /**
+     * Loads the lines of a sales order in insertion order.
+     *
+     * @param salesOrderId the order ID.
+     * @return the lines; empty if the order has none or does not exist.
+     */
+    public List<Salesorderitems> findItems(int salesOrderId) {
+        return itemsByOrderId.fetch(dsl, salesOrderId).into(Salesorderitems.class);
+    }
+
+    private static List<Integer> insertItems(DSLContext tx, int salesOrderId, List<Salesorderitems> items) {
+        if (items.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        InsertValuesStep8<SalesorderitemsRecord, Integer, Integer, Integer, String, Integer, BigDecimal, JSONB, Boolean> insert =
+                tx.insertInto(SALESORDERITEMS,
+                        SALESORDERITEMS.SALES_ORDER_ID, SALESORDERITEMS.INVENTORY_ITEM_ID,
+                        SALESORDERITEMS.SERVICE_PRODUCT_ID, SALESORDERITEMS.DESCRIPTION,
+                        SALESORDERITEMS.QUANTITY, SALESORDERITEMS.UNIT_PRICE,
+                        SALESORDERITEMS.PRESCRIPTION_DETAILS, SALESORDERITEMS.IS_CUSTOM_LENSES);
+        for (Salesorderitems item : items) {
+            insert = insert.values(salesOrderId, item.getInventoryItemId(), item.getServiceProductId(),
+                    item.getDescription(), item.getQuantity(), item.getUnitPrice(),
+                    item.getPrescriptionDetails(), Objects.requireNonNullElse(item.getIsCustomLenses(), false));
+        }
+        Result<Record1<Integer>> returned = insert.returningResult(SALESORDERITEMS.SO_ITEM_ID).fetch();
+
+        // so_item_id comes from a sequence that a single INSERT consumes in VALUES order,
+        // so ascending IDs line up with the input list even if RETURNING reorders rows.
+        List<Integer> itemIds = new ArrayList<>(returned.getValues(SALESORDERITEMS.SO_ITEM_ID));
+        if (itemIds.size() != items.size()) {
+            throw new IllegalStateException("Expected " + items.size() + " inserted lines but got " + itemIds.size());
+        }
+        itemIds.sort(Comparator.naturalOrder());
+        for (int i = 0; i < items.size(); i++) {
+            items.get(i).setSoItemId(itemIds.get(i));
+            items.get(i).setSalesOrderId(salesOrderId);
+        }
+        return itemIds;
+    }
+
+    private static SalesordersRecord toHeaderRecord(Salesorders order) {
+        // Only touched fields are inserted, so column defaults and generated columns
+        // (total_amount, balance_due) are left to the database.
+        SalesordersRecord header = new SalesordersRecord();
+        header.setPatientId(order.getPatientId());
+        header.setStatus(order.getStatus());
+        header.setCreatedByUserId(order.getCreatedByUserId());
+        header.setDeliveryAppointmentId(order.getDeliveryAppointmentId());
+        header.setRemarks(order.getRemarks());
+        if (order.getOrderDate() != null) {
+            header.setOrderDate(order.getOrderDate());
+        }
+        if (order.getDiscountAmount() != null) {
+            header.setDiscountAmount(order.getDiscountAmount());
+        }
+        return header;
+    }
+
+    private static void validateHeader(Salesorders order) {
+        if (order.getSalesOrderId() != null) {
+            throw new IllegalArgumentException("Order has already been saved (ID " + order.getSalesOrderId() + ")");
+        }
+        if (order.getStatus() == null || order.getStatus().isBlank()) {
+            throw new IllegalArgumentException("Order status is required");
+        }
+        if (order.getCreatedByUserId() == null) {
+            throw new IllegalArgumentException("Order createdByUserId is required");
+        }
+    }
+
+    private static void validateItem(Salesorderitems item) {
+        Objects.requireNonNull(item, "item");
+        if ((item.getInventoryItemId() == null) == (item.getServiceProductId() == null)) {
+            throw new IllegalArgumentException("A line must reference exactly one of inventoryItemId or serviceProductId");
+        }
+        if (item.getQuantity() == null || item.getQuantity() <= 0) {
+            throw new IllegalArgumentException("Line quantity must be positive");
+        }
+        if (item.getUnitPrice() == null) {
+            throw new IllegalArgumentException("Line unitPrice is required");
+        }
+    }
+}
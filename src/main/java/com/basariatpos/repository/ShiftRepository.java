@@ -0,0 +1,44 @@
+package com.basariatpos.repository;
+
+import com.basariatpos.db.generated.tables.pojos.Shifts;
+import com.basariatpos.db.generated.tables.records.ShiftsRecord;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import static com.basariatpos.db.generated.Tables.SHIFTS;
+
+/**
+ * Reads shifts. Starting, pausing and ending a shift go through the shift procedures, which
+ * also keep the session's shift setting up to date.
+ */
+public class ShiftRepository {
+
+    private final DSLContext dsl;
+    private final QueryTemplate<ShiftsRecord> openShiftByUser;
+
+    /**
+     * @param dsl the jOOQ context, normally from {@link com.basariatpos.config.DslContextFactory}.
+     */
+    public ShiftRepository(DSLContext dsl) {
+        this.dsl = Objects.requireNonNull(dsl, "dsl");
+        // idx_unique_active_paused_shift_per_user allows at most one such shift per user; the
+        // statuses are inlined so that generic plans still match that partial index
+        this.openShiftByUser = QueryTemplate.of(dsl, SHIFTS, dsl.selectFrom(SHIFTS)
+                .where(SHIFTS.STARTED_BY_USER_ID.eq(DSL.param("userId", Integer.class)))
+                .and(SHIFTS.STATUS.in(DSL.inline("Active"), DSL.inline("Paused"))));
+    }
+
+    /**
+     * Finds the shift a user has open, i.e. active or paused, as checked at login and before
+     * every sale.
+     *
+     * @param userId the user who started the shift.
+     * @return the shift, or empty if the user has none open.
+     */
+    public Optional<Shifts> findOpenShift(int userId) {
+        return openShiftByUser.fetchOptional(dsl, userId).map(shift -> shift.into(Shifts.class));
+    }
+}
@@ -0,0 +1,266 @@
+package com.basariatpos.service;
+
+import com.basariatpos.db.generated.tables.PartitionBounds;
+import com.basariatpos.db.generated.tables.pojos.Auditlog;
+import com.basariatpos.db.generated.tables.records.AuditlogRecord;
+import com.basariatpos.db.generated.tables.records.PartitionBoundsRecord;
+import org.jooq.Condition;
+import org.jooq.Cursor;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.basariatpos.db.generated.Tables.AUDITLOG;
+
+/**
+ * Keeps AuditLog small by moving entries older than a retention window into compressed segment
+ * files on disk, and reads a record's history from the live table and the segments alike.
+ * <p>
+ * AuditLog is partitioned by month (migration V8). {@link #archive()} writes each month that
+ * ended more than the retention window ago to one segment file named after its partition, e.g.
+ * {@code auditlog_y2025m10.seg}, then detaches and drops the partition. Segments are written
+ * once, sorted by table, record and time, in blocks of about 64 KB that compress to a fraction
+ * of the table's size; a sparse index of each block's first record and time range lets a lookup
+ * inflate only the blocks it needs from the memory-mapped file. Entries left in the default
+ * partition stay in the table.
+ * <p>
+ * {@link #history(String, String)} returns live and archived entries in one list, so a record
+ * history screen does not need to know where they are. Each terminal that shows history needs
+ * the archive directory, so it should be a shared folder, and only one machine should archive.
+ */
+public class AuditArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditArchiveService.class);
+
+    /** How long entries stay in the table, unless set otherwise. */
+    public static final Period DEFAULT_RETENTION = Period.ofMonths(12);
+
+    /** Rows fetched from the cursor per round trip while archiving. */
+    private static final int FETCH_SIZE = 2000;
+
+    private static final Comparator<Auditlog> BY_TIME = Comparator.comparing(Auditlog::getActionTimestamp)
+            .thenComparing(Auditlog::getAuditLogId);
+
+    private final DSLContext dsl;
+    private final Path directory;
+    private final Period retention;
+    private final Map<Path, AuditSegment> segments = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a service that keeps {@link #DEFAULT_RETENTION} in the table.
+     *
+     * @param dsl       the jOOQ context.
+     * @param directory holds the segment files; created when first archiving.
+     */
+    public AuditArchiveService(DSLContext dsl, Path directory) {
+        this(dsl, directory, DEFAULT_RETENTION);
+    }
+
+    /**
+     * @param dsl       the jOOQ context.
+     * @param directory holds the segment files; created when first archiving.
+     * @param retention how long entries stay in the table; whole months are archived once they
+     *                  ended longer ago than this.
+     * @throws IllegalArgumentException if {@code retention} is negative.
+     */
+    public AuditArchiveService(DSLContext dsl, Path directory, Period retention) {
+        this.dsl = Objects.requireNonNull(dsl, "dsl");
+        this.directory = Objects.requireNonNull(directory, "directory");
+        this.retention = Objects.requireNonNull(retention, "retention");
+        if (retention.isNegative()) {
+            throw new IllegalArgumentException("Retention must not be negative: " + retention);
+        }
+    }
+
+    /**
+     * Archives every AuditLog month that ended more than the retention window ago, oldest first.
+     * A month whose segment was written by an earlier, interrupted run is not written again.
+     *
+     * @return the segments written or completed by this run.
+     * @throws IOException if a segment cannot be written; that month stays in the table.
+     * @throws IllegalStateException if a month changed while it was archived; it stays in the table.
+     */
+    public List<Path> archive() throws IOException {
+        Files.createDirectories(directory);
+        OffsetDateTime cutoff = dsl.select(DSL.currentOffsetDateTime()).fetchSingle().value1().minus(retention);
+        PartitionBounds bounds = PartitionBounds.PARTITION_BOUNDS.call(AUDITLOG.getName());
+        List<PartitionBoundsRecord> months = dsl.selectFrom(bounds)
+                .where(bounds.UPPER_BOUND.le(cutoff))
+                .orderBy(bounds.LOWER_BOUND)
+                .fetch();
+        List<Path> archived = new ArrayList<>();
+        for (PartitionBoundsRecord month : months) {
+            archived.add(archive(month.getPartitionName(), month.getLowerBound(), month.getUpperBound()));
+        }
+        return archived;
+    }
+
+    /**
+     * Reads the history of one record from the table and the archive.
+     *
+     * @param tableName the audited table, e.g. {@code salesorders}.
+     * @param recordPk  the record's primary key as text.
+     * @return the record's audit entries, oldest first.
+     * @throws UncheckedIOException if a segment cannot be read.
+     */
+    public List<Auditlog> history(String tableName, String recordPk) {
+        String table = tableName.toLowerCase(Locale.ROOT);
+        Objects.requireNonNull(recordPk, "recordPk");
+        List<Auditlog> entries = new ArrayList<>();
+        try {
+            for (AuditSegment segment : segments()) {
+                entries.addAll(segment.history(table, recordPk));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        entries.addAll(fetchLive(AUDITLOG.TABLE_NAME.eq(table).and(AUDITLOG.RECORD_PK.eq(recordPk))));
+        return merge(entries);
+    }
+
+    /**
+     * Reads the entries of a period from the table and the archive, e.g. for an audit report.
+     *
+     * @param from the start of the period.
+     * @param to   the end of the period, exclusive.
+     * @return the entries, oldest first.
+     * @throws UncheckedIOException if a segment cannot be read.
+     */
+    public List<Auditlog> between(OffsetDateTime from, OffsetDateTime to) {
+        Objects.requireNonNull(from, "from");
+        Objects.requireNonNull(to, "to");
+        List<Auditlog> entries = new ArrayList<>();
+        try {
+            for (AuditSegment segment : segments()) {
+                entries.addAll(segment.between(from, to));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        entries.addAll(fetchLive(AUDITLOG.ACTION_TIMESTAMP.ge(from).and(AUDITLOG.ACTION_TIMESTAMP.lt(to))));
+        return merge(entries);
+    }
+
+    private Path archive(String partition, OffsetDateTime from, OffsetDateTime to) throws IOException {
+        Path target = directory.resolve(partition + AuditSegment.EXTENSION);
+        Condition inMonth = AUDITLOG.ACTION_TIMESTAMP.ge(from).and(AUDITLOG.ACTION_TIMESTAMP.lt(to));
+        long start = System.nanoTime();
+        long entries = Files.exists(target) ? segment(target).entryCount() : write(target, inMonth, from, to);
+
+        dsl.transaction(configuration -> {
+            DSLContext tx = configuration.dsl();
+            // Keeps the month from changing between the count and the drop
+            tx.execute("LOCK TABLE {0} IN SHARE MODE", DSL.name(partition));
+            int live = tx.fetchCount(AUDITLOG, inMonth);
+            if (live != entries) {
+                throw new IllegalStateException("Audit log " + partition + " has " + live
+                        + " entries but its segment " + target + " has " + entries);
+            }
+            tx.execute("ALTER TABLE {0} DETACH PARTITION {1}", AUDITLOG, DSL.name(partition));
+            tx.dropTable(DSL.name(partition)).execute();
+        });
+        logger.info("Archived {} audit entries of {} to {} in {} ms", entries, partition, target,
+                (System.nanoTime() - start) / 1_000_000);
+        return target;
+    }
+
+    private long write(Path target, Condition inMonth, OffsetDateTime from, OffsetDateTime to) throws IOException {
+        Path partial = target.resolveSibling(target.getFileName() + ".part");
+        Files.deleteIfExists(partial);
+        boolean complete = false;
+        try {
+            long entries = dsl.transactionResult(configuration -> {
+                // COLLATE "C" sorts as the segment compares keys, by their UTF-8 bytes
+                try (Cursor<AuditlogRecord> cursor = configuration.dsl().selectFrom(AUDITLOG)
+                        .where(inMonth)
+                        .orderBy(AUDITLOG.TABLE_NAME.collate("C"), AUDITLOG.RECORD_PK.collate("C"),
+                                AUDITLOG.ACTION_TIMESTAMP, AUDITLOG.AUDIT_LOG_ID)
+                        .fetchSize(FETCH_SIZE)
+                        .fetchLazy();
+                     AuditSegment.Writer writer = new AuditSegment.Writer(partial, from, to)) {
+                    for (AuditlogRecord entry : cursor) {
+                        writer.add(entry.into(Auditlog.class));
+                    }
+                    return writer.finish();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            move(partial, target);
+            complete = true;
+            return entries;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            if (!complete) {
+                Files.deleteIfExists(partial);
+            }
+        }
+    }
+
+    private List<AuditSegment> segments() throws IOException {
+        List<AuditSegment> found = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return found;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + AuditSegment.EXTENSION)) {
+            for (Path file : files) {
+                found.add(segment(file));
+            }
+        }
+        return found;
+    }
+
+    private AuditSegment segment(Path file) throws IOException {
+        AuditSegment segment = segments.get(file);
+        if (segment == null) {
+            segment = AuditSegment.open(file);
+            segments.put(file, segment);
+        }
+        return segment;
+    }
+
+    private List<Auditlog> fetchLive(Condition condition) {
+        return dsl.selectFrom(AUDITLOG).where(condition).fetchInto(Auditlog.class);
+    }
+
+    /**
+     * Sorts by time; an entry found both in the table and in a segment, because archiving was
+     * interrupted before the month was dropped, is listed once.
+     */
+    private static List<Auditlog> merge(List<Auditlog> entries) {
+        Map<Long, Auditlog> byId = new LinkedHashMap<>();
+        entries.sort(BY_TIME);
+        for (Auditlog entry : entries) {
+            byId.putIfAbsent(entry.getAuditLogId(), entry);
+        }
+        return new ArrayList<>(byId.values());
+    }
+
+    private static void move(Path partial, Path target) throws IOException {
+        try {
+            Files.move(partial, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(partial, target);
+        }
+    }
+}
@@ -0,0 +1,414 @@
+package com.basariatpos.service;
+
+import com.basariatpos.db.generated.tables.pojos.Auditlog;
+import org.jooq.JSONB;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * One archived AuditLog partition, as written by {@link AuditArchiveService}: a file of
+ * compressed blocks of entries sorted by table, record key and time, followed by a sparse index
+ * holding the first key and the time range of every block.
+ * <pre>
+ * header  int magic, int version
+ * block*  int length, int compressed length, int CRC-32 of the entries, the deflated entries
+ * index   long range start, long range end, int block count, and per block: bytes first table,
+ *         bytes first record key, int offset, int entries, long earliest, long latest
+ * footer  long index offset, long entries, int version, int magic
+ * </pre>
+ * Times are microseconds since the epoch, each entry's with the UTC offset it was read with;
+ * strings are UTF-8 bytes after an int length, -1 for {@code null}. A segment is never changed
+ * once written. Readers map the file and inflate only the blocks a lookup needs, straight from
+ * the mapping; the index is kept on the heap.
+ */
+final class AuditSegment {
+
+    static final String EXTENSION = ".seg";
+
+    private static final int MAGIC = 0x42504153; // "BPAS"
+    private static final int VERSION = 1;
+    private static final int FOOTER_SIZE = 24;
+
+    /** Uncompressed bytes collected before a block is written; a lookup inflates whole blocks. */
+    private static final int BLOCK_SIZE = 64 * 1024;
+
+    private final Path path;
+    private final MappedByteBuffer data;
+    private final long rangeStart;
+    private final long rangeEnd;
+    private final long entryCount;
+    private final Block[] blocks;
+
+    private AuditSegment(Path path, MappedByteBuffer data, long rangeStart, long rangeEnd, long entryCount,
+                         Block[] blocks) {
+        this.path = path;
+        this.data = data;
+        this.rangeStart = rangeStart;
+        this.rangeEnd = rangeEnd;
+        this.entryCount = entryCount;
+        this.blocks = blocks;
+    }
+
+    /**
+     * Maps a segment and reads its index.
+     *
+     * @throws IOException if the file cannot be read or is not a complete segment.
+     */
+    static AuditSegment open(Path path) throws IOException {
+        MappedByteBuffer data;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < 8 + FOOTER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("Not an audit segment: " + path);
+            }
+            data = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        int size = data.capacity();
+        if (data.getInt(0) != MAGIC || data.getInt(size - 4) != MAGIC || data.getInt(size - 8) != VERSION) {
+            throw new IOException("Not an audit segment, or an incomplete one: " + path);
+        }
+        long indexOffset = data.getLong(size - FOOTER_SIZE);
+        long entryCount = data.getLong(size - FOOTER_SIZE + 8);
+        ByteBuffer index = data.slice((int) indexOffset, size - FOOTER_SIZE - (int) indexOffset);
+        long rangeStart = index.getLong();
+        long rangeEnd = index.getLong();
+        Block[] blocks = new Block[index.getInt()];
+        for (int i = 0; i < blocks.length; i++) {
+            blocks[i] = new Block(bytes(index), bytes(index), index.getInt(), index.getInt(), index.getLong(),
+                    index.getLong());
+        }
+        return new AuditSegment(path, data, rangeStart, rangeEnd, entryCount, blocks);
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long entryCount() {
+        return entryCount;
+    }
+
+    /**
+     * @return the entries of one record, oldest first.
+     */
+    List<Auditlog> history(String tableName, String recordPk) throws IOException {
+        byte[] table = utf8(tableName);
+        byte[] record = utf8(recordPk);
+        // The record's entries start in the last block beginning before it, or in the first
+        // block beginning with it, and may run on into the following blocks
+        int low = 0;
+        int high = blocks.length - 1;
+        int first = 0;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (compare(blocks[mid].firstTable, blocks[mid].firstRecord, table, record) < 0) {
+                first = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        List<Auditlog> entries = new ArrayList<>();
+        for (int i = first; i < blocks.length
+                && compare(blocks[i].firstTable, blocks[i].firstRecord, table, record) <= 0; i++) {
+            for (Auditlog entry : read(blocks[i])) {
+                if (entry.getTableName().equals(tableName) && entry.getRecordPk().equals(recordPk)) {
+                    entries.add(entry);
+                }
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * @return the entries logged at or after {@code from} and before {@code to}, in no particular order.
+     */
+    List<Auditlog> between(OffsetDateTime from, OffsetDateTime to) throws IOException {
+        long start = micros(from);
+        long end = micros(to);
+        List<Auditlog> entries = new ArrayList<>();
+        if (start >= rangeEnd || end <= rangeStart) {
+            return entries;
+        }
+        for (Block block : blocks) {
+            if (block.latest < start || block.earliest >= end) {
+                continue;
+            }
+            for (Auditlog entry : read(block)) {
+                long at = micros(entry.getActionTimestamp());
+                if (at >= start && at < end) {
+                    entries.add(entry);
+                }
+            }
+        }
+        return entries;
+    }
+
+    private List<Auditlog> read(Block block) throws IOException {
+        ByteBuffer header = data.slice(block.offset, 12);
+        int length = header.getInt();
+        int compressedLength = header.getInt();
+        int checksum = header.getInt();
+        byte[] bytes = new byte[length];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data.slice(block.offset + 12, compressedLength));
+            if (inflater.inflate(bytes) != length || !inflater.finished()) {
+                throw new IOException("Corrupt block at " + block.offset + " in " + path);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt block at " + block.offset + " in " + path, e);
+        } finally {
+            inflater.end();
+        }
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        if ((int) crc.getValue() != checksum) {
+            throw new IOException("Checksum mismatch in block at " + block.offset + " in " + path);
+        }
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        List<Auditlog> entries = new ArrayList<>(block.entries);
+        for (int i = 0; i < block.entries; i++) {
+            long auditLogId = in.readLong();
+            OffsetDateTime at = timestamp(in.readLong(), in.readInt());
+            String tableName = readString(in);
+            String recordPk = readString(in);
+            String columnName = readString(in);
+            String oldValue = readString(in);
+            String newValue = readString(in);
+            String actionType = readString(in);
+            Integer userId = in.readBoolean() ? in.readInt() : null;
+            String details = readString(in);
+            entries.add(new Auditlog(auditLogId, tableName, recordPk, columnName, json(oldValue), json(newValue),
+                    actionType, at, userId, details));
+        }
+        return entries;
+    }
+
+    /**
+     * Writes a segment sequentially; entries must arrive sorted by table and record key, each
+     * compared as UTF-8 bytes, then by time.
+     */
+    static final class Writer implements AutoCloseable {
+
+        private final FileChannel channel;
+        private final DataOutputStream file;
+        private final long rangeStart;
+        private final long rangeEnd;
+        private final List<Block> blocks = new ArrayList<>();
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(BLOCK_SIZE + 8192);
+        private final DataOutputStream entries = new DataOutputStream(buffer);
+        private final Deflater deflater = new Deflater();
+        private final byte[] deflated = new byte[BLOCK_SIZE];
+
+        private long position;
+        private long entryCount;
+        private int blockEntries;
+        private byte[] firstTable;
+        private byte[] firstRecord;
+        private byte[] lastTable;
+        private byte[] lastRecord;
+        private long earliest;
+        private long latest;
+
+        /**
+         * Creates the file, which must not exist.
+         *
+         * @param from the start of the time range the segment covers.
+         * @param to   the end of the range, exclusive.
+         */
+        Writer(Path path, OffsetDateTime from, OffsetDateTime to) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            this.file = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+            this.rangeStart = micros(from);
+            this.rangeEnd = micros(to);
+            file.writeInt(MAGIC);
+            file.writeInt(VERSION);
+            position = 8;
+        }
+
+        /**
+         * @throws IllegalStateException if the entry is out of order.
+         */
+        void add(Auditlog entry) throws IOException {
+            byte[] table = utf8(entry.getTableName());
+            byte[] record = utf8(entry.getRecordPk());
+            if (lastTable != null && compare(lastTable, lastRecord, table, record) > 0) {
+                throw new IllegalStateException("Audit entry " + entry.getAuditLogId() + " is out of order");
+            }
+            long at = micros(entry.getActionTimestamp());
+            if (blockEntries == 0) {
+                firstTable = table;
+                firstRecord = record;
+                earliest = at;
+                latest = at;
+            }
+            entries.writeLong(entry.getAuditLogId());
+            entries.writeLong(at);
+            entries.writeInt(entry.getActionTimestamp().getOffset().getTotalSeconds());
+            writeString(entries, table);
+            writeString(entries, record);
+            writeString(entries, utf8(entry.getColumnName()));
+            writeString(entries, utf8(entry.getOldValue() == null ? null : entry.getOldValue().data()));
+            writeString(entries, utf8(entry.getNewValue() == null ? null : entry.getNewValue().data()));
+            writeString(entries, utf8(entry.getActionType()));
+            entries.writeBoolean(entry.getUserId() != null);
+            if (entry.getUserId() != null) {
+                entries.writeInt(entry.getUserId());
+            }
+            writeString(entries, utf8(entry.getDetails()));
+            earliest = Math.min(earliest, at);
+            latest = Math.max(latest, at);
+            lastTable = table;
+            lastRecord = record;
+            entryCount++;
+            blockEntries++;
+            if (buffer.size() >= BLOCK_SIZE) {
+                flushBlock();
+            }
+        }
+
+        /**
+         * Writes the index and footer and forces the file to disk.
+         *
+         * @return the number of entries written.
+         */
+        long finish() throws IOException {
+            flushBlock();
+            long indexOffset = position;
+            file.writeLong(rangeStart);
+            file.writeLong(rangeEnd);
+            file.writeInt(blocks.size());
+            for (Block block : blocks) {
+                writeString(file, block.firstTable);
+                writeString(file, block.firstRecord);
+                file.writeInt(block.offset);
+                file.writeInt(block.entries);
+                file.writeLong(block.earliest);
+                file.writeLong(block.latest);
+            }
+            file.writeLong(indexOffset);
+            file.writeLong(entryCount);
+            file.writeInt(VERSION);
+            file.writeInt(MAGIC);
+            file.flush();
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Audit segment exceeds 2 GB");
+            }
+            channel.force(true);
+            return entryCount;
+        }
+
+        @Override
+        public void close() throws IOException {
+            deflater.end();
+            file.close();
+        }
+
+        private void flushBlock() throws IOException {
+            if (blockEntries == 0) {
+                return;
+            }
+            byte[] bytes = buffer.toByteArray();
+            CRC32 crc = new CRC32();
+            crc.update(bytes);
+            deflater.reset();
+            deflater.setInput(bytes);
+            deflater.finish();
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 4);
+            while (!deflater.finished()) {
+                compressed.write(deflated, 0, deflater.deflate(deflated));
+            }
+            if (position > Integer.MAX_VALUE) {
+                throw new IOException("Audit segment exceeds 2 GB");
+            }
+            blocks.add(new Block(firstTable, firstRecord, (int) position, blockEntries, earliest, latest));
+            file.writeInt(bytes.length);
+            file.writeInt(compressed.size());
+            file.writeInt((int) crc.getValue());
+            compressed.writeTo(file);
+            position += 12 + compressed.size();
+            buffer.reset();
+            blockEntries = 0;
+        }
+    }
+
+    /** The sparse index entry of one block. */
+    private record Block(byte[] firstTable, byte[] firstRecord, int offset, int entries, long earliest, long latest) {
+    }
+
+    /** Compares keys as PostgreSQL does with {@code COLLATE "C"}. */
+    private static int compare(byte[] table1, byte[] record1, byte[] table2, byte[] record2) {
+        int byTable = Arrays.compareUnsigned(table1, table2);
+        return byTable != 0 ? byTable : Arrays.compareUnsigned(record1, record2);
+    }
+
+    static long micros(OffsetDateTime time) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, time.toInstant());
+    }
+
+    private static OffsetDateTime timestamp(long micros, int offsetSeconds) {
+        return Instant.EPOCH.plus(micros, ChronoUnit.MICROS).atOffset(ZoneOffset.ofTotalSeconds(offsetSeconds));
+    }
+
+    private static JSONB json(String value) {
+        return value == null ? null : JSONB.valueOf(value);
+    }
+
+    private static byte[] utf8(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(DataOutputStream out, byte[] value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(value.length);
+        out.write(value);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] value = new byte[length];
+        in.readFully(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] bytes(ByteBuffer buffer) throws IOException {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new EOFException("Corrupt audit segment index");
+        }
+        byte[] value = new byte[length];
+        buffer.get(value);
+        return value;
+    }
+}
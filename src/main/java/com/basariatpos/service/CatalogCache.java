@@ -0,0 +1,391 @@
+package com.basariatpos.service;
+
+import com.basariatpos.config.DbEventBus;
+import com.basariatpos.model.CatalogItem;
+import com.basariatpos.model.DbEvent;
+import com.basariatpos.model.DbEvent.Table;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.JSONB;
+import org.jooq.Record;
+import org.jooq.Record2;
+import org.jooq.SelectField;
+import org.jooq.SelectOnConditionStep;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.basariatpos.db.generated.Tables.INVENTORYITEMS;
+import static com.basariatpos.db.generated.Tables.PRODUCTCATEGORIES;
+import static com.basariatpos.db.generated.Tables.PRODUCTS;
+
+/**
+ * An in-memory snapshot of the active product catalog for cashier screens.
+ * <p>
+ * Lookups by inventory item ID, product code and brand read an immutable snapshot
+ * through a single volatile field, so they never touch the database and never block.
+ * The snapshot is replaced wholesale by {@link #refresh()}, which only fetches rows
+ * whose {@code InventoryItems.change_xid} or {@code Products.change_xid}, the ID of the
+ * transaction that last wrote them (migration V22), is at or above the last watermark.
+ * Each load reads under a single repeatable-read snapshot and takes that snapshot's xmin
+ * as the next watermark: any change the load could not see was written by a transaction
+ * with an ID at least that high, however late it commits. Hard deletes are not visible
+ * to a watermark, so a refresh that ends up with a different number of active items, or a
+ * different sum of their IDs, than the database falls back to {@link #reloadAll()}. The IDs
+ * come from a sequence, so an item inserted after a delete always has a larger ID and the
+ * sums cannot match by chance when the counts do.
+ * <p>
+ * Refreshes are driven by the change events of the catalog tables, see
+ * {@link #subscribeTo(DbEventBus)}, so another terminal's price or stock change shows up
+ * without polling. Requests arriving while a refresh is pending are coalesced.
+ */
+public class CatalogCache implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogCache.class);
+
+    /** The tables the snapshot is read from. */
+    private static final Set<Table> CATALOG_TABLES =
+            EnumSet.of(Table.INVENTORY_ITEMS, Table.PRODUCTS, Table.PRODUCT_CATEGORIES);
+
+    /**
+     * The oldest transaction still running when the reading transaction took its snapshot;
+     * every transaction from there on may have written rows the snapshot does not show.
+     */
+    private static final Field<Long> SNAPSHOT_XMIN =
+            DSL.field("pg_snapshot_xmin(pg_current_snapshot())::TEXT::BIGINT", Long.class);
+
+    private static final Field<Long> ID_SUM =
+            DSL.coalesce(DSL.sum(INVENTORYITEMS.INVENTORY_ITEM_ID).cast(Long.class), 0L);
+
+    private static final List<SelectField<?>> CATALOG_FIELDS = List.of(
+            INVENTORYITEMS.INVENTORY_ITEM_ID, INVENTORYITEMS.PRODUCT_ID, PRODUCTS.PRODUCT_CODE,
+            PRODUCTS.PRODUCT_NAME_EN, PRODUCTS.PRODUCT_NAME_AR, PRODUCTS.CATEGORY_ID,
+            PRODUCTCATEGORIES.CATEGORY_NAME_EN, PRODUCTCATEGORIES.CATEGORY_NAME_AR,
+            INVENTORYITEMS.BRAND_NAME, INVENTORYITEMS.ITEM_SPECIFIC_NAME_EN, INVENTORYITEMS.ITEM_SPECIFIC_NAME_AR,
+            INVENTORYITEMS.ATTRIBUTES, INVENTORYITEMS.QUANTITY_ON_HAND, INVENTORYITEMS.SELLING_PRICE,
+            INVENTORYITEMS.UNIT_OF_MEASURE, INVENTORYITEMS.IS_ACTIVE, PRODUCTS.IS_SERVICE, PRODUCTS.IS_STOCK_ITEM);
+
+    private final DSLContext dsl;
+    private final ExecutorService refresher;
+    private final AtomicBoolean refreshQueued = new AtomicBoolean();
+    private final AtomicBoolean fullReloadQueued = new AtomicBoolean();
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile DbEventBus.Subscription subscription;
+    private volatile boolean closed;
+
+    /**
+     * Creates an empty cache. Call {@link #reloadAll()} or {@link #subscribeTo(DbEventBus)} to
+     * load it.
+     *
+     * @param dsl the jOOQ context used for refreshes.
+     */
+    public CatalogCache(DSLContext dsl) {
+        this.dsl = dsl;
+        this.refresher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "catalog-cache-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // --- Hot-path lookups (no database access) ------------------------------------
+
+    /**
+     * @param inventoryItemId the inventory item ID.
+     * @return the active item, or empty if it is unknown or inactive.
+     */
+    public Optional<CatalogItem> findById(int inventoryItemId) {
+        return Optional.ofNullable(snapshot.byId.get(inventoryItemId));
+    }
+
+    /**
+     * @param productCode the product SKU/internal code (exact match).
+     * @return all active inventory items of that product, ordered by ID; empty if none.
+     */
+    public List<CatalogItem> findByProductCode(String productCode) {
+        return productCode == null ? List.of() : snapshot.byProductCode.getOrDefault(productCode, List.of());
+    }
+
+    /**
+     * @param brandName the brand (case-insensitive exact match).
+     * @return all active inventory items of that brand, ordered by ID; empty if none.
+     */
+    public List<CatalogItem> findByBrand(String brandName) {
+        return brandName == null ? List.of() : snapshot.byBrand.getOrDefault(brandKey(brandName), List.of());
+    }
+
+    /**
+     * @return every active item in the current snapshot; the collection is immutable.
+     */
+    public Collection<CatalogItem> allItems() {
+        return snapshot.byId.values();
+    }
+
+    /**
+     * @return the number of active items in the current snapshot.
+     */
+    public int size() {
+        return snapshot.byId.size();
+    }
+
+    // --- Refresh ------------------------------------------------------------------
+
+    /**
+     * Replaces the snapshot with a full read of all active items.
+     *
+     * @throws DataAccessException if the catalog could not be read; the old snapshot is kept.
+     */
+    public synchronized void reloadAll() {
+        long started = System.nanoTime();
+        Map<Integer, CatalogItem> items = new HashMap<>();
+        long watermark = inSnapshot(tx -> {
+            for (Record record : catalogQuery(tx).where(INVENTORYITEMS.IS_ACTIVE.isTrue()).fetch()) {
+                items.put(record.get(INVENTORYITEMS.INVENTORY_ITEM_ID), toItem(record));
+            }
+            return tx.select(SNAPSHOT_XMIN).fetchSingle().value1();
+        });
+        snapshot = Snapshot.of(items, watermark);
+        logger.info("Catalog cache loaded {} active items in {} ms", items.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    /**
+     * Applies rows changed since the last watermark to a copy of the snapshot and
+     * publishes it. Loads everything if the cache is still empty.
+     *
+     * @throws DataAccessException if the changes could not be read; the old snapshot is kept.
+     */
+    public synchronized void refresh() {
+        Snapshot current = snapshot;
+        if (current.watermark == Snapshot.NOT_LOADED) {
+            reloadAll();
+            return;
+        }
+
+        Changes changes = inSnapshot(tx -> {
+            List<Record> rows = catalogQuery(tx)
+                    .where(INVENTORYITEMS.CHANGE_XID.ge(current.watermark)
+                            .or(PRODUCTS.CHANGE_XID.ge(current.watermark)))
+                    .fetch();
+            Record2<Integer, Long> active = tx.select(DSL.count(), ID_SUM)
+                    .from(INVENTORYITEMS)
+                    .where(INVENTORYITEMS.IS_ACTIVE.isTrue())
+                    .fetchSingle();
+            return new Changes(rows, active.value1(), active.value2(),
+                    tx.select(SNAPSHOT_XMIN).fetchSingle().value1());
+        });
+
+        Map<Integer, CatalogItem> items = current.byId;
+        if (!changes.rows.isEmpty()) {
+            items = new HashMap<>(current.byId);
+            for (Record record : changes.rows) {
+                Integer id = record.get(INVENTORYITEMS.INVENTORY_ITEM_ID);
+                if (Boolean.TRUE.equals(record.get(INVENTORYITEMS.IS_ACTIVE))) {
+                    items.put(id, toItem(record));
+                } else {
+                    items.remove(id);
+                }
+            }
+        }
+
+        long idSum = items == current.byId ? current.idSum : Snapshot.idSum(items);
+        if (changes.activeInDatabase != items.size() || changes.activeIdSum != idSum) {
+            logger.debug("Catalog cache holds {} items with ID sum {} but database has {} active with {}; reloading",
+                    items.size(), idSum, changes.activeInDatabase, changes.activeIdSum);
+            reloadAll();
+            return;
+        }
+        if (!changes.rows.isEmpty()) {
+            snapshot = Snapshot.of(items, changes.watermark);
+            logger.debug("Catalog cache applied {} changed row(s)", changes.rows.size());
+        } else if (changes.watermark != current.watermark) {
+            snapshot = current.withWatermark(changes.watermark);
+        }
+    }
+
+    /**
+     * Schedules an asynchronous refresh. Calls made while one is already queued are
+     * merged into it.
+     *
+     * @param fullReload {@code true} to reload everything, e.g. after a category rename,
+     *                   which does not move any item's watermark.
+     */
+    public void requestRefresh(boolean fullReload) {
+        if (fullReload) {
+            fullReloadQueued.set(true);
+        }
+        if (closed || !refreshQueued.compareAndSet(false, true)) {
+            return;
+        }
+        refresher.execute(this::runQueuedRefresh);
+    }
+
+    /**
+     * Refreshes the cache whenever another terminal, or this one, changes the catalog. The bus
+     * sends a change event for every table when it connects, which loads the cache if it is
+     * still empty; a category change reloads everything, since it does not move any item's
+     * watermark. Calling it again does nothing.
+     *
+     * @param bus the event bus; started by the caller.
+     */
+    public synchronized void subscribeTo(DbEventBus bus) {
+        if (subscription != null || closed) {
+            return;
+        }
+        subscription = bus.subscribe(CATALOG_TABLES, this::onCatalogChanged);
+    }
+
+    /**
+     * Stops refreshing. Lookups keep serving the last snapshot.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        DbEventBus.Subscription current = subscription;
+        if (current != null) {
+            current.close();
+        }
+        refresher.shutdownNow();
+    }
+
+    private void onCatalogChanged(DbEvent event) {
+        requestRefresh(event.table() == Table.PRODUCT_CATEGORIES);
+    }
+
+    private void runQueuedRefresh() {
+        refreshQueued.set(false);
+        try {
+            if (fullReloadQueued.getAndSet(false)) {
+                reloadAll();
+            } else {
+                refresh();
+            }
+        } catch (DataAccessException e) {
+            logger.warn("Catalog cache refresh failed; keeping the previous snapshot", e);
+        }
+    }
+
+    /**
+     * Runs {@code work} in a read-only transaction whose statements all see one snapshot, so
+     * the rows read and the {@link #SNAPSHOT_XMIN} taken as the next watermark agree.
+     */
+    private <T> T inSnapshot(Function<DSLContext, T> work) {
+        return dsl.transactionResult(configuration -> {
+            DSLContext tx = configuration.dsl();
+            tx.execute("SET TRANSACTION ISOLATION LEVEL REPEATABLE READ, READ ONLY");
+            return work.apply(tx);
+        });
+    }
+
+    private static SelectOnConditionStep<Record> catalogQuery(DSLContext tx) {
+        return tx.select(CATALOG_FIELDS)
+                .from(INVENTORYITEMS)
+                .join(PRODUCTS).on(PRODUCTS.PRODUCT_ID.eq(INVENTORYITEMS.PRODUCT_ID))
+                .join(PRODUCTCATEGORIES).on(PRODUCTCATEGORIES.CATEGORY_ID.eq(PRODUCTS.CATEGORY_ID));
+    }
+
+    private static CatalogItem toItem(Record record) {
+        JSONB attributes = record.get(INVENTORYITEMS.ATTRIBUTES);
+        Integer quantity = record.get(INVENTORYITEMS.QUANTITY_ON_HAND);
+        return new CatalogItem(
+                record.get(INVENTORYITEMS.INVENTORY_ITEM_ID),
+                record.get(INVENTORYITEMS.PRODUCT_ID),
+                record.get(PRODUCTS.PRODUCT_CODE),
+                record.get(PRODUCTS.PRODUCT_NAME_EN),
+                record.get(PRODUCTS.PRODUCT_NAME_AR),
+                record.get(PRODUCTS.CATEGORY_ID),
+                record.get(PRODUCTCATEGORIES.CATEGORY_NAME_EN),
+                record.get(PRODUCTCATEGORIES.CATEGORY_NAME_AR),
+                record.get(INVENTORYITEMS.BRAND_NAME),
+                record.get(INVENTORYITEMS.ITEM_SPECIFIC_NAME_EN),
+                record.get(INVENTORYITEMS.ITEM_SPECIFIC_NAME_AR),
+                attributes == null ? null : attributes.data(),
+                quantity == null ? 0 : quantity,
+                record.get(INVENTORYITEMS.SELLING_PRICE),
+                record.get(INVENTORYITEMS.UNIT_OF_MEASURE),
+                Boolean.TRUE.equals(record.get(PRODUCTS.IS_SERVICE)),
+                Boolean.TRUE.equals(record.get(PRODUCTS.IS_STOCK_ITEM)));
+    }
+
+    private static String brandKey(String brandName) {
+        return brandName.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * What one refresh read under its snapshot.
+     */
+    private record Changes(List<Record> rows, int activeInDatabase, long activeIdSum, long watermark) {
+    }
+
+    /**
+     * One immutable generation of the catalog and its secondary indexes.
+     */
+    private static final class Snapshot {
+
+        static final long NOT_LOADED = -1;
+        static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of(), Map.of(), 0, NOT_LOADED);
+
+        final Map<Integer, CatalogItem> byId;
+        final Map<String, List<CatalogItem>> byProductCode;
+        final Map<String, List<CatalogItem>> byBrand;
+        /** Sum of the IDs in {@link #byId}, compared with the database to detect deletes. */
+        final long idSum;
+        /**
+         * The xmin of the snapshot the items were read under, or {@link #NOT_LOADED}; rows with
+         * a {@code change_xid} below it are already reflected.
+         */
+        final long watermark;
+
+        private Snapshot(Map<Integer, CatalogItem> byId, Map<String, List<CatalogItem>> byProductCode,
+                         Map<String, List<CatalogItem>> byBrand, long idSum, long watermark) {
+            this.byId = byId;
+            this.byProductCode = byProductCode;
+            this.byBrand = byBrand;
+            this.idSum = idSum;
+            this.watermark = watermark;
+        }
+
+        Snapshot withWatermark(long newWatermark) {
+            return new Snapshot(byId, byProductCode, byBrand, idSum, newWatermark);
+        }
+
+        static long idSum(Map<Integer, CatalogItem> items) {
+            long sum = 0;
+            for (int id : items.keySet()) {
+                sum += id;
+            }
+            return sum;
+        }
+
+        static Snapshot of(Map<Integer, CatalogItem> items, long watermark) {
+            List<CatalogItem> sorted = new ArrayList<>(items.values());
+            sorted.sort(Comparator.comparingInt(CatalogItem::inventoryItemId));
+            Map<String, List<CatalogItem>> byCode = sorted.stream()
+                    .filter(item -> item.productCode() != null)
+                    .collect(Collectors.groupingBy(CatalogItem::productCode, Collectors.toUnmodifiableList()));
+            Map<String, List<CatalogItem>> byBrand = sorted.stream()
+                    .filter(item -> item.brandName() != null && !item.brandName().isBlank())
+                    .collect(Collectors.groupingBy(item -> brandKey(item.brandName()), Collectors.toUnmodifiableList()));
+            return new Snapshot(Map.copyOf(items), Map.copyOf(byCode), Map.copyOf(byBrand), idSum(items), watermark);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.basariatpos.service;
+
+import com.basariatpos.db.generated.Routines;
+import com.basariatpos.db.generated.routines.Checkoutorder;
+import com.basariatpos.model.CheckoutRequest;
+import com.basariatpos.model.CheckoutResult;
+import org.jooq.DSLContext;
+import org.jooq.JSONB;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Saves a new order with its lines and payments, and completes it if it is handed over at once,
+ * in a single call of the database function {@code CheckoutOrder} (migration V14).
+ * <p>
+ * The whole checkout is one statement and therefore one round trip and one transaction: either
+ * everything is saved or, on any error, nothing. Errors raised by the database, e.g. when no
+ * shift is active or an item is out of stock, surface as jOOQ
+ * {@link org.jooq.exception.DataAccessException}s with the database's message.
+ * <p>
+ * The order is recorded for the user and shift of the connection's session, like every other
+ * sale, so the {@link DSLContext} must come from the session's data source.
+ */
+public class CheckoutService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CheckoutService.class);
+
+    private final DSLContext dsl;
+
+    /**
+     * @param dsl the jOOQ context; its connection must carry the current user and shift.
+     */
+    public CheckoutService(DSLContext dsl) {
+        this.dsl = Objects.requireNonNull(dsl, "dsl");
+    }
+
+    /**
+     * Saves an order.
+     *
+     * @param request the order.
+     * @return the new IDs and the order's amounts as saved.
+     */
+    public CheckoutResult checkout(CheckoutRequest request) {
+        Objects.requireNonNull(request, "request");
+        long start = System.nanoTime();
+        Checkoutorder call = Routines.checkoutorder(dsl.configuration(), toJson(request));
+        CheckoutResult result = new CheckoutResult(call.getSalesOrderId(), Arrays.asList(call.getSoItemIds()),
+                Arrays.asList(call.getPaymentIds()), call.getReservationsHeld(), call.getStatus(),
+                call.getSubtotalAmount(), call.getDiscountAmount(), call.getTotalAmount(), call.getAmountPaid(),
+                call.getBalanceDue());
+        logger.debug("Checked out order {} with {} lines and {} payments in {} ms", result.salesOrderId(),
+                result.itemIds().size(), result.paymentIds().size(), (System.nanoTime() - start) / 1_000_000);
+        if (result.reservationsHeld() < request.reservationIds().size() && !"Completed".equals(result.status())) {
+            logger.info("Order {} holds {} of {} stock reservations; the others had lapsed", result.salesOrderId(),
+                    result.reservationsHeld(), request.reservationIds().size());
+        }
+        return result;
+    }
+
+    private static JSONB toJson(CheckoutRequest request) {
+        JsonObject order = new JsonObject()
+                .put("patient_id", request.patientId())
+                .put("status", request.status())
+                .put("discount_amount", request.discountAmount())
+                .put("remarks", request.remarks());
+        order.array("items", request.lines(), (line, item) -> item
+                .put("inventory_item_id", line.inventoryItemId())
+                .put("service_product_id", line.serviceProductId())
+                .put("description", line.description())
+                .put("quantity", line.quantity())
+                .put("unit_price", line.unitPrice())
+                .putRaw("prescription_details", line.prescriptionDetails())
+                .put("is_custom_lenses", line.customLenses()));
+        order.array("payments", request.payments(), (payment, item) -> item
+                .put("amount", payment.amount())
+                .put("payment_method", payment.paymentMethod())
+                .put("bank_name_id", payment.bankNameId())
+                .put("transaction_id", payment.transactionId())
+                .put("notes", payment.notes()));
+        order.numbers("reservation_ids", request.reservationIds());
+        return JSONB.valueOf(order.end().toString());
+    }
+
+    /** Writes one JSON object; just enough JSON for the checkout document. */
+    private static final class JsonObject {
+
+        private final StringBuilder json;
+        private boolean empty = true;
+
+        JsonObject() {
+            this(new StringBuilder(512));
+        }
+
+        private JsonObject(StringBuilder json) {
+            this.json = json;
+            json.append('{');
+        }
+
+        JsonObject put(String name, Object value) {
+            name(name);
+            switch (value) {
+                case null -> json.append("null");
+                case BigDecimal decimal -> json.append(decimal.toPlainString());
+                case Number number -> json.append(number);
+                case Boolean bool -> json.append(bool);
+                default -> string(value.toString());
+            }
+            return this;
+        }
+
+        JsonObject putRaw(String name, JSONB value) {
+            name(name);
+            json.append(value == null ? "null" : value.data());
+            return this;
+        }
+
+        JsonObject numbers(String name, List<? extends Number> values) {
+            name(name);
+            json.append('[');
+            for (int i = 0; i < values.size(); i++) {
+                json.append(i == 0 ? "" : ",").append(values.get(i));
+            }
+            json.append(']');
+            return this;
+        }
+
+        <T> JsonObject array(String name, List<T> elements, ElementWriter<T> writer) {
+            name(name);
+            json.append('[');
+            for (int i = 0; i < elements.size(); i++) {
+                if (i > 0) {
+                    json.append(',');
+                }
+                writer.write(elements.get(i), new JsonObject(json)).end();
+            }
+            json.append(']');
+            return this;
+        }
+
+        JsonObject end() {
+            json.append('}');
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return json.toString();
+        }
+
+        private void name(String name) {
+            if (!empty) {
+                json.append(',');
+            }
+            empty = false;
+            string(name);
+            json.append(':');
+        }
+
+        private void string(String value) {
+            json.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '"' -> json.append("\\\"");
+                    case '\\' -> json.append("\\\\");
+                    case '\n' -> json.append("\\n");
+                    case '\r' -> json.append("\\r");
+                    case '\t' -> json.append("\\t");
+                    default -> {
+                        if (c < 0x20) {
+                            json.append(String.format("\\u%04x", (int) c));
+                        } else {
+                            json.append(c);
+                        }
+                    }
+                }
+            }
+            json.append('"');
+        }
+
+        @FunctionalInterface
+        interface ElementWriter<T> {
+            JsonObject write(T element, JsonObject object);
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.basariatpos.service;
+
+import com.basariatpos.db.generated.Routines;
+import com.basariatpos.db.generated.tables.pojos.Dailycategorysalesrollup;
+import com.basariatpos.db.generated.tables.pojos.Dailyexpenserollup;
+import com.basariatpos.db.generated.tables.pojos.Dailysalesrollup;
+import com.basariatpos.model.DashboardMetrics;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record1;
+import org.jooq.Record2;
+import org.jooq.Record6;
+import org.jooq.impl.DSL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.time.temporal.WeekFields;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+
+import static com.basariatpos.db.generated.Tables.DAILYCATEGORYSALESROLLUP;
+import static com.basariatpos.db.generated.Tables.DAILYEXPENSEROLLUP;
+import static com.basariatpos.db.generated.Tables.DAILYSALESROLLUP;
+
+/**
+ * Dashboard figures read from the daily rollup tables of migration V9.
+ * <p>
+ * Each query sums at most one row per day and user or category, so a month or a year costs
+ * the same whether the shop took ten orders or ten thousand. Before reading, the service
+ * calls {@code TryRefreshDailyRollups()} (migration V20) in the same transaction; it recomputes
+ * only the days touched since the last refresh, so the figures include every committed sale and
+ * expense. If another terminal is refreshing at that moment the read does not wait for it but
+ * reads the rollups as they are, without the days that terminal is about to commit.
+ * <p>
+ * Days are calendar days in the session time zone, and "this week" starts on the
+ * configured first day of the week.
+ */
+public class DashboardMetricsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardMetricsService.class);
+
+    private final DSLContext dsl;
+    private final Clock clock;
+    private final DayOfWeek firstDayOfWeek;
+
+    /**
+     * Creates a service using the system clock and the default locale's first day of the week.
+     *
+     * @param dsl the jOOQ context used for all queries.
+     */
+    public DashboardMetricsService(DSLContext dsl) {
+        this(dsl, Clock.systemDefaultZone(), WeekFields.of(Locale.getDefault()).getFirstDayOfWeek());
+    }
+
+    /**
+     * @param dsl            the jOOQ context used for all queries.
+     * @param clock          determines today's date.
+     * @param firstDayOfWeek the day a week starts on, e.g. {@link DayOfWeek#SATURDAY}.
+     */
+    public DashboardMetricsService(DSLContext dsl, Clock clock, DayOfWeek firstDayOfWeek) {
+        this.dsl = Objects.requireNonNull(dsl, "dsl");
+        this.clock = Objects.requireNonNull(clock, "clock");
+        this.firstDayOfWeek = Objects.requireNonNull(firstDayOfWeek, "firstDayOfWeek");
+    }
+
+    /**
+     * Figures for one period together with the same days one year earlier.
+     *
+     * @param current      the figures for the requested period.
+     * @param previousYear the figures for the same dates one year earlier.
+     */
+    public record YearOverYear(DashboardMetrics current, DashboardMetrics previousYear) {
+
+        /**
+         * @return the change in revenue as a percentage of last year's, rounded to one decimal;
+         *         empty if there was no revenue last year.
+         */
+        public Optional<BigDecimal> revenueChangePercent() {
+            BigDecimal before = previousYear.revenue();
+            if (before.signum() == 0) {
+                return Optional.empty();
+            }
+            return Optional.of(current.revenue().subtract(before)
+                    .multiply(BigDecimal.valueOf(100))
+                    .divide(before, 1, RoundingMode.HALF_UP));
+        }
+    }
+
+    /**
+     * @return the figures for today so far.
+     */
+    public DashboardMetrics today() {
+        LocalDate today = LocalDate.now(clock);
+        return metrics(today, today);
+    }
+
+    /**
+     * @return the figures from the start of the current week to today.
+     */
+    public DashboardMetrics thisWeek() {
+        LocalDate today = LocalDate.now(clock);
+        return metrics(today.with(TemporalAdjusters.previousOrSame(firstDayOfWeek)), today);
+    }
+
+    /**
+     * @return the figures from the first of the current month to today.
+     */
+    public DashboardMetrics thisMonth() {
+        LocalDate today = LocalDate.now(clock);
+        return metrics(today.withDayOfMonth(1), today);
+    }
+
+    /**
+     * Compares the current month to date with the same days of the month one year earlier.
+     *
+     * @return the two sets of figures.
+     */
+    public YearOverYear monthYearOverYear() {
+        LocalDate today = LocalDate.now(clock);
+        return yearOverYear(today.withDayOfMonth(1), today);
+    }
+
+    /**
+     * Compares a range of days with the same dates one year earlier, in one transaction.
+     *
+     * @param startDate the first day of the range.
+     * @param endDate   the last day of the range, inclusive.
+     * @return the two sets of figures.
+     * @throws IllegalArgumentException if {@code endDate} is before {@code startDate}.
+     */
+    public YearOverYear yearOverYear(LocalDate startDate, LocalDate endDate) {
+        checkRange(startDate, endDate);
+        return dsl.transactionResult(configuration -> {
+            DSLContext tx = refreshed(configuration.dsl());
+            return new YearOverYear(read(tx, startDate, endDate),
+                    read(tx, startDate.minusYears(1), endDate.minusYears(1)));
+        });
+    }
+
+    /**
+     * Sums the rollups over a range of days.
+     *
+     * @param startDate the first day of the range.
+     * @param endDate   the last day of the range, inclusive.
+     * @return the figures; all zero if nothing happened in the range.
+     * @throws IllegalArgumentException if {@code endDate} is before {@code startDate}.
+     */
+    public DashboardMetrics metrics(LocalDate startDate, LocalDate endDate) {
+        checkRange(startDate, endDate);
+        return dsl.transactionResult(configuration -> read(refreshed(configuration.dsl()), startDate, endDate));
+    }
+
+    /**
+     * Lists the order and payment figures per day and user, e.g. for a sales chart.
+     *
+     * @param startDate the first day of the range.
+     * @param endDate   the last day of the range, inclusive.
+     * @return one row per day and user with activity, ordered by day and user.
+     * @throws IllegalArgumentException if {@code endDate} is before {@code startDate}.
+     */
+    public List<Dailysalesrollup> dailySales(LocalDate startDate, LocalDate endDate) {
+        checkRange(startDate, endDate);
+        return dsl.transactionResult(configuration -> refreshed(configuration.dsl())
+                .selectFrom(DAILYSALESROLLUP)
+                .where(DAILYSALESROLLUP.ROLLUP_DATE.between(startDate, endDate))
+                .orderBy(DAILYSALESROLLUP.ROLLUP_DATE, DAILYSALESROLLUP.USER_ID)
+                .fetchInto(Dailysalesrollup.class));
+    }
+
+    /**
+     * Lists quantities, sales and cost of goods sold per day and product category.
+     *
+     * @param startDate the first day of the range.
+     * @param endDate   the last day of the range, inclusive.
+     * @return one row per day and category with sales, ordered by day and category.
+     * @throws IllegalArgumentException if {@code endDate} is before {@code startDate}.
+     */
+    public List<Dailycategorysalesrollup> dailyCategorySales(LocalDate startDate, LocalDate endDate) {
+        checkRange(startDate, endDate);
+        return dsl.transactionResult(configuration -> refreshed(configuration.dsl())
+                .selectFrom(DAILYCATEGORYSALESROLLUP)
+                .where(DAILYCATEGORYSALESROLLUP.ROLLUP_DATE.between(startDate, endDate))
+                .orderBy(DAILYCATEGORYSALESROLLUP.ROLLUP_DATE, DAILYCATEGORYSALESROLLUP.CATEGORY_ID)
+                .fetchInto(Dailycategorysalesrollup.class));
+    }
+
+    /**
+     * Lists expense totals per day, expense category and user.
+     *
+     * @param startDate the first day of the range.
+     * @param endDate   the last day of the range, inclusive.
+     * @return one row per day, category and user with expenses, ordered by day and category.
+     * @throws IllegalArgumentException if {@code endDate} is before {@code startDate}.
+     */
+    public List<Dailyexpenserollup> dailyExpenses(LocalDate startDate, LocalDate endDate) {
+        checkRange(startDate, endDate);
+        return dsl.transactionResult(configuration -> refreshed(configuration.dsl())
+                .selectFrom(DAILYEXPENSEROLLUP)
+                .where(DAILYEXPENSEROLLUP.ROLLUP_DATE.between(startDate, endDate))
+                .orderBy(DAILYEXPENSEROLLUP.ROLLUP_DATE, DAILYEXPENSEROLLUP.EXPENSE_CATEGORY_ID, DAILYEXPENSEROLLUP.USER_ID)
+                .fetchInto(Dailyexpenserollup.class));
+    }
+
+    /**
+     * Brings the rollups up to date without reading them, e.g. from a timer so the first
+     * dashboard query after a busy hour stays fast.
+     *
+     * @return the number of days that were recomputed; 0 if another terminal was refreshing.
+     */
+    public int refresh() {
+        return dsl.transactionResult(configuration -> tryRefresh(configuration.dsl()));
+    }
+
+    private static DSLContext refreshed(DSLContext tx) {
+        tryRefresh(tx);
+        return tx;
+    }
+
+    private static int tryRefresh(DSLContext tx) {
+        Integer days = Routines.tryrefreshdailyrollups(tx.configuration());
+        if (days == null) {
+            logger.debug("Daily rollups are being refreshed by another transaction; reading them as they are");
+            return 0;
+        }
+        if (days > 0) {
+            logger.debug("Refreshed daily rollups for {} day(s)", days);
+        }
+        return days;
+    }
+
+    private static DashboardMetrics read(DSLContext tx, LocalDate startDate, LocalDate endDate) {
+        Record6<Integer, BigDecimal, BigDecimal, BigDecimal, BigDecimal, BigDecimal> sales = tx
+                .select(DSL.coalesce(DSL.sum(DAILYSALESROLLUP.SALES_ORDERS), BigDecimal.ZERO).cast(Integer.class),
+                        sumOrZero(DAILYSALESROLLUP.GROSS_SALES),
+                        sumOrZero(DAILYSALESROLLUP.DISCOUNTS),
+                        sumOrZero(DAILYSALESROLLUP.CASH_RECEIVED),
+                        sumOrZero(DAILYSALESROLLUP.BANK_RECEIVED),
+                        sumOrZero(DAILYSALESROLLUP.REVENUE))
+                .from(DAILYSALESROLLUP)
+                .where(DAILYSALESROLLUP.ROLLUP_DATE.between(startDate, endDate))
+                .fetchSingle();
+        Record1<BigDecimal> cogs = tx
+                .select(sumOrZero(DAILYCATEGORYSALESROLLUP.COGS))
+                .from(DAILYCATEGORYSALESROLLUP)
+                .where(DAILYCATEGORYSALESROLLUP.ROLLUP_DATE.between(startDate, endDate))
+                .fetchSingle();
+        Record2<BigDecimal, BigDecimal> expenses = tx
+                .select(sumOrZero(DAILYEXPENSEROLLUP.CASH_AMOUNT), sumOrZero(DAILYEXPENSEROLLUP.BANK_AMOUNT))
+                .from(DAILYEXPENSEROLLUP)
+                .where(DAILYEXPENSEROLLUP.ROLLUP_DATE.between(startDate, endDate))
+                .fetchSingle();
+        return new DashboardMetrics(startDate, endDate, sales.value1(),
+                sales.value2(), sales.value3(), sales.value4(), sales.value5(), sales.value6(),
+                cogs.value1(), expenses.value1(), expenses.value2());
+    }
+
+    private static Field<BigDecimal> sumOrZero(Field<BigDecimal> field) {
+        return DSL.coalesce(DSL.sum(field), BigDecimal.ZERO);
+    }
+
+    private static void checkRange(LocalDate startDate, LocalDate endDate) {
+        Objects.requireNonNull(startDate, "startDate");
+        Objects.requireNonNull(endDate, "endDate");
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("End date " + endDate + " is before start date " + startDate);
+        }
+    }
+}
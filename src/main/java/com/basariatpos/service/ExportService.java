@@ -0,0 +1,181 @@
+package com.basariatpos.service;
+
+import com.basariatpos.util.export.CsvTableWriter;
+import com.basariatpos.util.export.TableWriter;
+import com.basariatpos.util.export.XlsxTableWriter;
+import org.jooq.Condition;
+import org.jooq.Cursor;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.SortField;
+import org.jooq.Table;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongConsumer;
+
+import static com.basariatpos.db.generated.Tables.INVENTORYSUMMARYVIEW;
+import static com.basariatpos.db.generated.Tables.OUTSTANDINGPAYMENTSVIEW;
+import static com.basariatpos.db.generated.Tables.SALESDETAILEDVIEW;
+import static com.basariatpos.db.generated.Tables.SHIFTREPORTDETAILEDTRANSACTIONSVIEW;
+
+/**
+ * Exports reporting views to CSV or Excel files of any size.
+ * <p>
+ * Rows are read through a server-side cursor, {@link #FETCH_SIZE} at a time, and written to the
+ * file as they arrive, so memory use does not grow with the number of rows. The PostgreSQL
+ * driver only uses a cursor inside a transaction, so each export holds one pooled connection
+ * and one transaction until it ends.
+ * <p>
+ * The file is written next to the target under a temporary name and moved into place when
+ * complete; a failed or cancelled export leaves no partial file behind. Exports are meant to run
+ * on a {@link com.basariatpos.util.BackgroundExecutor}, passing the task's cancellation flag
+ * and a progress callback that updates the UI.
+ */
+public class ExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportService.class);
+
+    /** The reporting views offered for export. */
+    public static final List<Table<?>> REPORT_VIEWS = List.of(SALESDETAILEDVIEW, INVENTORYSUMMARYVIEW,
+            OUTSTANDINGPAYMENTSVIEW, SHIFTREPORTDETAILEDTRANSACTIONSVIEW);
+
+    /** Rows fetched from the cursor per round trip. */
+    public static final int FETCH_SIZE = 2000;
+
+    /** Rows between two progress reports. */
+    public static final int PROGRESS_INTERVAL = 10_000;
+
+    /** File formats an export can be written in. */
+    public enum Format {
+        /** UTF-8 CSV with a byte order mark; see {@link CsvTableWriter}. */
+        CSV,
+        /** Excel workbook; see {@link XlsxTableWriter}. */
+        XLSX
+    }
+
+    private final DSLContext dsl;
+    private final Locale locale;
+    private final ZoneId zone;
+
+    /**
+     * @param dsl    the jOOQ context.
+     * @param locale the locale numbers are formatted for; Arabic also makes Excel sheets open right
+     *               to left.
+     * @param zone   the time zone times are exported in.
+     */
+    public ExportService(DSLContext dsl, Locale locale, ZoneId zone) {
+        this.dsl = Objects.requireNonNull(dsl, "dsl");
+        this.locale = Objects.requireNonNull(locale, "locale");
+        this.zone = Objects.requireNonNull(zone, "zone");
+    }
+
+    /**
+     * Exports the rows of a table or view that match a filter.
+     *
+     * @param source    the table or view, e.g. one of {@link #REPORT_VIEWS}.
+     * @param filter    the rows to export; {@link org.jooq.impl.DSL#noCondition()} for all.
+     * @param orderBy   the row order; empty for the order the database returns them in.
+     * @param format    the file format.
+     * @param target    the file to write; replaced if it exists.
+     * @param cancelled checked before every row; once it returns {@code true} the export stops.
+     * @param progress  receives the number of rows written so far, every
+     *                  {@link #PROGRESS_INTERVAL} rows and once at the end.
+     * @return the number of rows exported.
+     * @throws CancellationException if the export was cancelled; no file is written.
+     * @throws IOException           if the file cannot be written; no file is written.
+     */
+    public long export(Table<?> source, Condition filter, List<? extends SortField<?>> orderBy, Format format,
+                       Path target, BooleanSupplier cancelled, LongConsumer progress) throws IOException {
+        Objects.requireNonNull(source, "source");
+        Objects.requireNonNull(filter, "filter");
+        Objects.requireNonNull(orderBy, "orderBy");
+        Objects.requireNonNull(format, "format");
+        Objects.requireNonNull(cancelled, "cancelled");
+        Objects.requireNonNull(progress, "progress");
+        // Not Files.createTempFile: its owner-only permissions would carry over to the export
+        Path partial = target.resolveSibling(target.getFileName() + ".part");
+
+        long start = System.nanoTime();
+        boolean complete = false;
+        try {
+            long rows = dsl.transactionResult(configuration -> {
+                try (Cursor<? extends Record> cursor = configuration.dsl().selectFrom(source)
+                        .where(filter)
+                        .orderBy(orderBy)
+                        .fetchSize(FETCH_SIZE)
+                        .fetchLazy();
+                     TableWriter writer = open(format, source, partial)) {
+                    return copy(cursor, writer, cancelled, progress);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            move(partial, target);
+            complete = true;
+            logger.info("Exported {} rows of {} to {} in {} ms", rows, source.getName(), target,
+                    (System.nanoTime() - start) / 1_000_000);
+            return rows;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            if (!complete) {
+                Files.deleteIfExists(partial);
+            }
+        }
+    }
+
+    private static long copy(Cursor<? extends Record> cursor, TableWriter writer, BooleanSupplier cancelled,
+                             LongConsumer progress) throws IOException {
+        writer.writeHeader(Arrays.stream(cursor.fields()).map(Field::getName).toList());
+        long rows = 0;
+        for (Record record : cursor) {
+            if (cancelled.getAsBoolean()) {
+                throw new CancellationException("Export cancelled after " + rows + " rows");
+            }
+            writer.writeRow(record);
+            if (++rows % PROGRESS_INTERVAL == 0) {
+                progress.accept(rows);
+            }
+        }
+        progress.accept(rows);
+        return rows;
+    }
+
+    private TableWriter open(Format format, Table<?> source, Path file) throws IOException {
+        OutputStream out = new BufferedOutputStream(Files.newOutputStream(file));
+        try {
+            return switch (format) {
+                case CSV -> new CsvTableWriter(out, locale, zone);
+                case XLSX -> new XlsxTableWriter(out, source.getName(), zone, "ar".equals(locale.getLanguage()));
+            };
+        } catch (IOException | RuntimeException e) {
+            out.close();
+            throw e;
+        }
+    }
+
+    private static void move(Path partial, Path target) throws IOException {
+        try {
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.basariatpos.service;
+
+import com.basariatpos.db.generated.Routines;
+import com.basariatpos.db.generated.tables.PartitionBounds;
+import com.basariatpos.model.TablePartition;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.impl.DSL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.basariatpos.db.generated.Tables.PARTITIONEDTABLES;
+
+/**
+ * Looks after the partitioned tables: AuditLog by month, SalesOrders, Payments and Expenses by
+ * year (migrations V8 and V16).
+ * <p>
+ * Rows are stored in the partition covering their date, and a row whose partition does not exist
+ * yet lands in the table's default partition, which is slower to query. {@link #ensurePartitions()}
+ * therefore creates the partitions of the current and the next periods ahead of time, and moves
+ * rows found in a default partition, e.g. back-dated ones, into partitions of their own;
+ * {@link #start()} runs it now and daily.
+ * <p>
+ * A closed fiscal year can be moved out of the live tables with {@link #archiveFiscalYear(int)}.
+ */
+public class PartitionMaintenanceService implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PartitionMaintenanceService.class);
+
+    /** How often {@link #start()} ensures the partitions. */
+    public static final Duration MAINTENANCE_INTERVAL = Duration.ofDays(1);
+
+    private final DSLContext dsl;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * @param dsl the jOOQ context used for all maintenance.
+     */
+    public PartitionMaintenanceService(DSLContext dsl) {
+        this.dsl = Objects.requireNonNull(dsl, "dsl");
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "partition-maintenance");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Ensures the partitions now and then every {@link #MAINTENANCE_INTERVAL} in the background,
+     * e.g. at application startup. Failures are logged and retried at the next run.
+     */
+    public void start() {
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                ensurePartitions();
+            } catch (RuntimeException e) {
+                logger.warn("Could not create upcoming table partitions", e);
+            }
+        }, 0, MAINTENANCE_INTERVAL.toMinutes(), TimeUnit.MINUTES);
+    }
+
+    /**
+     * Creates the partitions of the current and the next periods of every partitioned table
+     * that do not exist yet, and those of the periods that have rows in a default partition,
+     * moving the rows into them. Safe to run from several terminals.
+     *
+     * @return the number of partitions created.
+     */
+    public int ensurePartitions() {
+        int created = Routines.ensurepartitions(dsl.configuration());
+        if (created > 0) {
+            logger.info("Created {} table partition(s)", created);
+        }
+        return created;
+    }
+
+    /**
+     * Lists the range partitions of every partitioned table; default partitions are not listed.
+     *
+     * @return the partitions, by table and then by range.
+     */
+    public List<TablePartition> partitions() {
+        List<TablePartition> partitions = new ArrayList<>();
+        for (String table : dsl.select(PARTITIONEDTABLES.TABLE_NAME).from(PARTITIONEDTABLES)
+                .orderBy(PARTITIONEDTABLES.TABLE_NAME).fetch(PARTITIONEDTABLES.TABLE_NAME)) {
+            PartitionBounds bounds = PartitionBounds.PARTITION_BOUNDS.call(table);
+            Field<Long> totalBytes = DSL.field("pg_total_relation_size({0}::regclass)", Long.class,
+                    bounds.PARTITION_NAME);
+            dsl.select(bounds.PARTITION_NAME, bounds.LOWER_BOUND, bounds.UPPER_BOUND, totalBytes)
+                    .from(bounds)
+                    .fetch()
+                    .forEach(r -> partitions.add(new TablePartition(table, r.value1(), r.value2(), r.value3(),
+                            r.value4())));
+        }
+        return partitions;
+    }
+
+    /**
+     * Moves a closed fiscal (calendar) year out of the live tables into schema {@code archive}:
+     * the year's partitions of SalesOrders, Payments and Expenses, and the lines of its orders.
+     * Reports and the daily rollups of the year stay as they are. The archived tables can then be
+     * dumped and dropped by the administrator.
+     *
+     * @param year the fiscal year; earlier years must have been archived already.
+     * @return the archived tables, qualified with their schema.
+     * @throws org.jooq.exception.DataAccessException if the year is not closed yet, still has
+     *         open orders or rows in a default partition, or an earlier year is still live.
+     */
+    public List<String> archiveFiscalYear(int year) {
+        List<String> archived = List.of(Routines.archivefiscalyear(dsl.configuration(), year));
+        logger.info("Archived fiscal year {}: {}", year, archived);
+        return archived;
+    }
+
+    /**
+     * Stops the background maintenance.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
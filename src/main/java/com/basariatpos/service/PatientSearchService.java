@@ -0,0 +1,345 @@
+package com.basariatpos.service;
+
+import com.basariatpos.db.generated.Routines;
+import com.basariatpos.model.PatientSearchResult;
+import com.basariatpos.util.ArabicTextNormalizer;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record5;
+import org.jooq.ResultQuery;
+import org.jooq.Table;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static com.basariatpos.db.generated.Tables.PATIENTS;
+
+/**
+ * Searches patients by name or phone number using the trigram indexes of migration V7.
+ * <p>
+ * Search text is normalized with {@link ArabicTextNormalizer} and compared against the
+ * same normalization of the stored values, so hamza, diacritic, taa marbuta and digit
+ * variants match. Text containing letters is a name search in up to three tiers: names
+ * starting with the text, then names containing it, then fuzzy word matches for typos.
+ * Later tiers only run if the earlier ones did not fill the limit, and are ranked by
+ * trigram word similarity among a bounded number of candidates. Text made of digits (and
+ * phone punctuation) is a phone search on the digits of the stored number; exact numbers
+ * rank first, then trailing digits. One- and two-letter searches only match name
+ * prefixes, since they contain no trigram.
+ * <p>
+ * Search-as-you-type screens use a {@link SearchSession}: keystrokes are debounced, and a
+ * query still running when the text changes is cancelled on the server.
+ */
+public class PatientSearchService implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PatientSearchService.class);
+
+    /** Default pause after the last keystroke before a session searches. */
+    public static final Duration DEFAULT_DEBOUNCE = Duration.ofMillis(250);
+
+    /** Phone searches need this many digits; fewer would match most of the table. */
+    private static final int MIN_PHONE_DIGITS = 3;
+
+    /** Name searches shorter than this have no trigram and only match name prefixes. */
+    private static final int MIN_TRIGRAM_LENGTH = 3;
+
+    private static final String QUERY_CANCELED = "57014";
+
+    private static final Field<String> NORMALIZED_NAME = Routines.normalizeSearchText(PATIENTS.FULL_NAME);
+    private static final Field<String> NORMALIZED_PHONE = Routines.normalizePhone(PATIENTS.PHONE_NUMBER);
+    /** Matches the expression of idx_patients_name_norm_prefix, which serves LIKE 'x%' and ORDER BY. */
+    private static final Field<String> NORMALIZED_NAME_C = NORMALIZED_NAME.collate("C");
+    private static final String NORMALIZED = "normalized";
+
+    /**
+     * Substring, fuzzy and phone matches are ranked among at most this many candidates, which
+     * bounds the cost of very common name parts such as a tribal family name.
+     */
+    private static final int MAX_RANKED_CANDIDATES = 200;
+
+    private final DSLContext dsl;
+    private final Duration debounce;
+    private final Executor callbackExecutor;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * @param dsl              the jOOQ context used for all queries.
+     * @param debounce         the pause after the last keystroke before a session searches.
+     * @param callbackExecutor runs session callbacks, e.g. {@code Platform::runLater}.
+     */
+    public PatientSearchService(DSLContext dsl, Duration debounce, Executor callbackExecutor) {
+        this.dsl = Objects.requireNonNull(dsl, "dsl");
+        this.debounce = Objects.requireNonNull(debounce, "debounce");
+        this.callbackExecutor = Objects.requireNonNull(callbackExecutor, "callbackExecutor");
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "patient-search");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Searches patients synchronously.
+     *
+     * @param text  the search text as typed; a name, part of a name or part of a phone number.
+     * @param limit the maximum number of results, at least 1.
+     * @return the best matches, best first; empty if the text is blank.
+     * @throws IllegalArgumentException if {@code limit} is less than 1.
+     */
+    public List<PatientSearchResult> search(String text, int limit) {
+        return runSearch(text, limit, query -> query.fetch().map(PatientSearchService::toResult));
+    }
+
+    /**
+     * Starts a search-as-you-type session. Results and errors are delivered on the callback
+     * executor, and only for the most recent text: results of superseded searches are dropped.
+     *
+     * @param limit     the maximum number of results per search.
+     * @param onResults receives the results of each completed search.
+     * @param onError   receives errors other than cancellations.
+     * @return the session; close it when the screen closes.
+     */
+    public SearchSession openSession(int limit, Consumer<List<PatientSearchResult>> onResults,
+                                     Consumer<Throwable> onError) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1: " + limit);
+        }
+        return new SearchSession(limit, Objects.requireNonNull(onResults, "onResults"),
+                Objects.requireNonNull(onError, "onError"));
+    }
+
+    /**
+     * Stops the debounce thread. Open sessions stop delivering results.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * The search box of one screen. {@link #update(String)} is called on every keystroke.
+     */
+    public final class SearchSession implements AutoCloseable {
+
+        private final int limit;
+        private final Consumer<List<PatientSearchResult>> onResults;
+        private final Consumer<Throwable> onError;
+        private final AtomicLong sequence = new AtomicLong();
+
+        private ScheduledFuture<?> pending; // guarded by this
+        private ResultQuery<?> running;     // guarded by this
+        private boolean closed;             // guarded by this
+
+        private SearchSession(int limit, Consumer<List<PatientSearchResult>> onResults, Consumer<Throwable> onError) {
+            this.limit = limit;
+            this.onResults = onResults;
+            this.onError = onError;
+        }
+
+        /**
+         * Schedules a search for the new text after the debounce delay, cancelling the
+         * pending or running search for the previous text.
+         *
+         * @param text the current search text.
+         */
+        public synchronized void update(String text) {
+            if (closed) {
+                return;
+            }
+            long seq = sequence.incrementAndGet();
+            cancelInFlight();
+            pending = scheduler.schedule(() -> execute(text, seq), debounce.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        /**
+         * Cancels any pending or running search; no further callbacks are made.
+         */
+        @Override
+        public synchronized void close() {
+            closed = true;
+            sequence.incrementAndGet();
+            cancelInFlight();
+        }
+
+        private void cancelInFlight() {
+            if (pending != null) {
+                pending.cancel(false);
+                pending = null;
+            }
+            if (running != null) {
+                // Cancelling opens a separate connection to the server; keep it off the caller's thread.
+                ResultQuery<?> superseded = running;
+                CompletableFuture.runAsync(superseded::cancel);
+                running = null;
+            }
+        }
+
+        private void execute(String text, long seq) {
+            if (seq != sequence.get()) {
+                return;
+            }
+            try {
+                List<PatientSearchResult> results = runSearch(text, limit, query -> fetchTracked(query, seq));
+                deliver(seq, () -> onResults.accept(results));
+            } catch (CancellationException e) {
+                logger.trace("Superseded patient search skipped");
+            } catch (DataAccessException e) {
+                if (seq != sequence.get() && QUERY_CANCELED.equals(e.sqlState())) {
+                    logger.trace("Superseded patient search cancelled");
+                } else {
+                    deliver(seq, () -> onError.accept(e));
+                }
+            }
+        }
+
+        private List<PatientSearchResult> fetchTracked(ResultQuery<Record5<Integer, String, String, String, Double>> query, long seq) {
+            synchronized (this) {
+                if (seq != sequence.get()) {
+                    throw new CancellationException();
+                }
+                running = query;
+            }
+            try {
+                return query.fetch().map(PatientSearchService::toResult);
+            } finally {
+                synchronized (this) {
+                    if (running == query) {
+                        running = null;
+                    }
+                }
+            }
+        }
+
+        private void deliver(long seq, Runnable callback) {
+            callbackExecutor.execute(() -> {
+                if (seq == sequence.get()) {
+                    callback.run();
+                }
+            });
+        }
+    }
+
+    /** Executes one search query; lets a session track and cancel the query in flight. */
+    @FunctionalInterface
+    private interface Fetcher {
+        List<PatientSearchResult> fetch(ResultQuery<Record5<Integer, String, String, String, Double>> query);
+    }
+
+    private List<PatientSearchResult> runSearch(String text, int limit, Fetcher fetcher) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1: " + limit);
+        }
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        if (ArabicTextNormalizer.isPhoneQuery(text)) {
+            String digits = ArabicTextNormalizer.normalizePhone(text);
+            return digits.length() < MIN_PHONE_DIGITS ? List.of() : fetcher.fetch(phoneQuery(digits, limit));
+        }
+
+        String name = ArabicTextNormalizer.normalize(text);
+        if (name.isEmpty()) {
+            return List.of();
+        }
+        // Prefix matches come straight off the B-tree in index order, so common first names
+        // cost the same as rare ones. Substring matches, then fuzzy matches for typos, only
+        // fill what is left; each tier excludes the rows of the tiers before it.
+        List<PatientSearchResult> results = new ArrayList<>(fetcher.fetch(prefixQuery(name, limit)));
+        if (results.size() < limit && name.length() >= MIN_TRIGRAM_LENGTH) {
+            results.addAll(fetcher.fetch(substringQuery(name, limit - results.size())));
+        }
+        if (results.size() < limit && name.length() >= MIN_TRIGRAM_LENGTH) {
+            results.addAll(fetcher.fetch(fuzzyQuery(name, limit - results.size())));
+        }
+        return results;
+    }
+
+    private ResultQuery<Record5<Integer, String, String, String, Double>> prefixQuery(String name, int limit) {
+        Field<Double> score = DSL.inline(1.0).plus(wordSimilarity(DSL.val(name), NORMALIZED_NAME)).as("score");
+        return dsl.select(PATIENTS.PATIENT_ID, PATIENTS.SYSTEM_PATIENT_ID, PATIENTS.FULL_NAME, PATIENTS.PHONE_NUMBER, score)
+                .from(PATIENTS)
+                .where(NORMALIZED_NAME_C.like(escapeLike(name) + "%", '\\'))
+                .orderBy(NORMALIZED_NAME_C, PATIENTS.PATIENT_ID)
+                .limit(limit);
+    }
+
+    private ResultQuery<Record5<Integer, String, String, String, Double>> substringQuery(String name, int limit) {
+        String escaped = escapeLike(name);
+        return rankedNameQuery(name,
+                NORMALIZED_NAME.like("%" + escaped + "%", '\\').andNot(NORMALIZED_NAME_C.like(escaped + "%", '\\')),
+                limit);
+    }
+
+    private ResultQuery<Record5<Integer, String, String, String, Double>> fuzzyQuery(String name, int limit) {
+        return rankedNameQuery(name,
+                DSL.condition("{0} <% {1}", DSL.val(name), NORMALIZED_NAME)
+                        .andNot(NORMALIZED_NAME.like("%" + escapeLike(name) + "%", '\\')),
+                limit);
+    }
+
+    private ResultQuery<Record5<Integer, String, String, String, Double>> rankedNameQuery(String name, Condition condition, int limit) {
+        Table<?> candidates = dsl.select(PATIENTS.PATIENT_ID, PATIENTS.SYSTEM_PATIENT_ID, PATIENTS.FULL_NAME,
+                        PATIENTS.PHONE_NUMBER, NORMALIZED_NAME.as(NORMALIZED))
+                .from(PATIENTS)
+                .where(condition)
+                .limit(MAX_RANKED_CANDIDATES)
+                .asTable("c");
+        return rankCandidates(candidates, wordSimilarity(DSL.val(name), candidates.field(NORMALIZED, String.class)), limit);
+    }
+
+    private ResultQuery<Record5<Integer, String, String, String, Double>> phoneQuery(String digits, int limit) {
+        Table<?> candidates = dsl.select(PATIENTS.PATIENT_ID, PATIENTS.SYSTEM_PATIENT_ID, PATIENTS.FULL_NAME,
+                        PATIENTS.PHONE_NUMBER, NORMALIZED_PHONE.as(NORMALIZED))
+                .from(PATIENTS)
+                .where(NORMALIZED_PHONE.like("%" + digits + "%"))
+                .limit(MAX_RANKED_CANDIDATES)
+                .asTable("c");
+        Field<String> phone = candidates.field(NORMALIZED, String.class);
+        Field<Double> score = DSL.when(phone.eq(digits), DSL.inline(2.0))
+                .when(phone.like("%" + digits), DSL.inline(1.0))
+                .otherwise(DSL.inline(0.5));
+        return rankCandidates(candidates, score, limit);
+    }
+
+    private ResultQuery<Record5<Integer, String, String, String, Double>> rankCandidates(Table<?> candidates, Field<Double> score, int limit) {
+        Field<String> fullName = candidates.field(PATIENTS.FULL_NAME);
+        Field<Integer> patientId = candidates.field(PATIENTS.PATIENT_ID);
+        Field<Double> rank = score.as("score");
+        return dsl.select(patientId, candidates.field(PATIENTS.SYSTEM_PATIENT_ID), fullName,
+                        candidates.field(PATIENTS.PHONE_NUMBER), rank)
+                .from(candidates)
+                .orderBy(rank.desc(), fullName, patientId)
+                .limit(limit);
+    }
+
+    private static Field<Double> wordSimilarity(Field<String> term, Field<String> text) {
+        return DSL.field("word_similarity({0}, {1})", SQLDataType.DOUBLE, term, text);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static PatientSearchResult toResult(Record5<Integer, String, String, String, Double> r) {
+        return new PatientSearchResult(r.value1(), r.value2(), r.value3(), r.value4(),
+                r.value5() == null ? 0.0 : r.value5());
+    }
+}
@@ -0,0 +1,272 @@
+package com.basariatpos.service;
+
+import com.basariatpos.config.DbEventBus;
+import com.basariatpos.db.generated.tables.pojos.Opticaldiagnostics;
+import com.basariatpos.model.DbEvent;
+import com.basariatpos.model.DbEvent.Operation;
+import com.basariatpos.model.PrescriptionHistory;
+import com.basariatpos.model.PrescriptionHistory.Measure;
+import com.basariatpos.util.BackgroundExecutor;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.ResultQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+
+import static com.basariatpos.db.generated.Tables.OPTICALDIAGNOSTICS;
+
+/**
+ * Loads a patient's latest prescriptions as a compact {@link PrescriptionHistory}.
+ * <p>
+ * The history query reads only the measurements, which the covering index of migration V13
+ * holds in the order they are shown, so it is answered by an index-only scan. Remarks and
+ * contact lens details are loaded for one diagnostic with {@link #findDiagnostic(int)}.
+ * <p>
+ * Patient lists call {@link #prefetch(int)} when a patient is selected, so that the history is
+ * usually loaded by the time the patient is opened and {@link #history(int)} returns it at once.
+ * Prefetches replace each other: moving through the list only keeps the latest one running.
+ * Loaded histories are kept for the {@link #CACHED_PATIENTS} most recently used patients, for
+ * at most {@link #MAX_AGE}. Once {@link #subscribeTo(DbEventBus) subscribed}, histories are
+ * dropped as soon as any terminal changes a diagnostic; otherwise call {@link #invalidate(int)}
+ * after changing one on this terminal.
+ */
+public class PrescriptionHistoryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PrescriptionHistoryService.class);
+
+    /** Diagnostics loaded per patient unless a limit is given. */
+    public static final int DEFAULT_LIMIT = 20;
+
+    /** Patients whose history is kept once loaded. */
+    public static final int CACHED_PATIENTS = 32;
+
+    /** How long a loaded history is reused. */
+    public static final Duration MAX_AGE = Duration.ofMinutes(1);
+
+    private static final String OPERATION = "prescriptionHistory";
+
+    /** The column of each {@link Measure}, by ordinal. */
+    private static final List<Field<? extends Number>> MEASURE_FIELDS = List.of(
+            OPTICALDIAGNOSTICS.OD_SPH_DIST, OPTICALDIAGNOSTICS.OD_CYL_DIST, OPTICALDIAGNOSTICS.OD_AXIS_DIST,
+            OPTICALDIAGNOSTICS.OS_SPH_DIST, OPTICALDIAGNOSTICS.OS_CYL_DIST, OPTICALDIAGNOSTICS.OS_AXIS_DIST,
+            OPTICALDIAGNOSTICS.OD_ADD, OPTICALDIAGNOSTICS.OS_ADD, OPTICALDIAGNOSTICS.IPD);
+
+    private static final List<Field<?>> HISTORY_FIELDS;
+
+    static {
+        List<Field<?>> fields = new ArrayList<>(List.of(OPTICALDIAGNOSTICS.DIAGNOSTIC_ID,
+                OPTICALDIAGNOSTICS.DIAGNOSTIC_DATE, OPTICALDIAGNOSTICS.IS_CONTACT_LENS_RX));
+        fields.addAll(MEASURE_FIELDS);
+        HISTORY_FIELDS = List.copyOf(fields);
+    }
+
+    private final DSLContext dsl;
+    private final BackgroundExecutor executor;
+    private final Map<Integer, CachedHistory> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, CachedHistory> eldest) {
+            return size() > CACHED_PATIENTS;
+        }
+    }; // guarded by itself
+
+    /** A loaded or loading history and when its load started. */
+    private record CachedHistory(CompletableFuture<PrescriptionHistory> future, long loadedAtNanos) {
+    }
+
+    /**
+     * @param dsl      the jOOQ context.
+     * @param executor runs prefetches and background loads.
+     */
+    public PrescriptionHistoryService(DSLContext dsl, BackgroundExecutor executor) {
+        this.dsl = Objects.requireNonNull(dsl, "dsl");
+        this.executor = Objects.requireNonNull(executor, "executor");
+    }
+
+    /**
+     * Loads a patient's latest diagnostics synchronously, bypassing the cache.
+     *
+     * @param patientId the patient.
+     * @param limit     the maximum number of diagnostics, at least 1.
+     * @return the diagnostics, newest first; empty if the patient has none.
+     * @throws IllegalArgumentException if {@code limit} is less than 1.
+     */
+    public PrescriptionHistory load(int patientId, int limit) {
+        return toHistory(patientId, historyQuery(patientId, limit).fetch());
+    }
+
+    /**
+     * Starts loading a patient's history in the background, e.g. when the patient is selected
+     * in a list, unless it is already loaded or loading. A prefetch still running is cancelled
+     * by the next one.
+     *
+     * @param patientId the selected patient.
+     * @return the history of the {@link #DEFAULT_LIMIT} latest diagnostics; cancelled if
+     *         superseded by another prefetch.
+     */
+    public CompletableFuture<PrescriptionHistory> prefetch(int patientId) {
+        synchronized (cache) {
+            CachedHistory cached = cached(patientId);
+            if (cached != null) {
+                return cached.future();
+            }
+            return remember(patientId, executor.submitLatest(this, OPERATION,
+                    scope -> toHistory(patientId, scope.fetch(historyQuery(patientId, DEFAULT_LIMIT)))));
+        }
+    }
+
+    /**
+     * Returns a patient's history, e.g. when the patient is opened: the prefetched one if it is
+     * loaded or loading, otherwise from a new background load. Deliver the result to the
+     * screen with e.g. {@code thenAcceptAsync(..., Platform::runLater)}.
+     *
+     * @param patientId the patient.
+     * @return the history of the {@link #DEFAULT_LIMIT} latest diagnostics.
+     */
+    public CompletableFuture<PrescriptionHistory> history(int patientId) {
+        CompletableFuture<PrescriptionHistory> future;
+        synchronized (cache) {
+            CachedHistory cached = cached(patientId);
+            if (cached == null) {
+                return remember(patientId, executor.submitCancellable(OPERATION,
+                        scope -> toHistory(patientId, scope.fetch(historyQuery(patientId, DEFAULT_LIMIT)))));
+            }
+            future = cached.future();
+        }
+        // A prefetch is cancelled when the next patient is selected, even if this one was opened
+        return future.exceptionallyCompose(failure -> isCancellation(failure)
+                ? history(patientId)
+                : CompletableFuture.failedFuture(failure));
+    }
+
+    /**
+     * Loads the full record of one diagnostic, including remarks and contact lens details.
+     *
+     * @param diagnosticId the diagnostic, e.g. {@link PrescriptionHistory#diagnosticId(int)}.
+     * @return the diagnostic, or empty if it does not exist.
+     */
+    public Optional<Opticaldiagnostics> findDiagnostic(int diagnosticId) {
+        return dsl.selectFrom(OPTICALDIAGNOSTICS)
+                .where(OPTICALDIAGNOSTICS.DIAGNOSTIC_ID.eq(diagnosticId))
+                .fetchOptionalInto(Opticaldiagnostics.class);
+    }
+
+    /**
+     * Drops a patient's loaded history, e.g. after a diagnostic was added or corrected.
+     *
+     * @param patientId the patient.
+     */
+    public void invalidate(int patientId) {
+        synchronized (cache) {
+            cache.remove(patientId);
+        }
+    }
+
+    /**
+     * Drops loaded histories whenever a terminal adds, corrects or deletes a diagnostic.
+     * Corrections and deletions drop the histories that show the diagnostic. The events name
+     * diagnostics, not patients, so a new diagnostic drops every loaded history.
+     *
+     * @param bus the event bus.
+     * @return the subscription; close it when the service is no longer used.
+     */
+    public DbEventBus.Subscription subscribeTo(DbEventBus bus) {
+        return bus.subscribe(EnumSet.of(DbEvent.Table.OPTICAL_DIAGNOSTICS), this::onDiagnosticsChanged);
+    }
+
+    private void onDiagnosticsChanged(DbEvent event) {
+        synchronized (cache) {
+            if (event.allRows() || event.operations().contains(Operation.INSERT)) {
+                cache.clear();
+                return;
+            }
+            // A history still loading may have read the diagnostic before it changed
+            cache.values().removeIf(cached -> cached.future().state() != Future.State.SUCCESS
+                    || showsAny(cached.future().resultNow(), event));
+        }
+    }
+
+    private static boolean showsAny(PrescriptionHistory history, DbEvent event) {
+        for (int i = 0; i < history.size(); i++) {
+            if (event.affects(history.diagnosticId(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private CachedHistory cached(int patientId) {
+        CachedHistory cached = cache.get(patientId);
+        if (cached == null) {
+            return null;
+        }
+        boolean expired = System.nanoTime() - cached.loadedAtNanos() > MAX_AGE.toNanos();
+        boolean failed = cached.future().isCompletedExceptionally();
+        if (expired || failed) {
+            cache.remove(patientId);
+            return null;
+        }
+        return cached;
+    }
+
+    private CompletableFuture<PrescriptionHistory> remember(int patientId, CompletableFuture<PrescriptionHistory> future) {
+        CachedHistory entry = new CachedHistory(future, System.nanoTime());
+        cache.put(patientId, entry);
+        future.whenComplete((history, failure) -> {
+            if (failure != null) {
+                synchronized (cache) {
+                    cache.remove(patientId, entry);
+                }
+                if (!isCancellation(failure)) {
+                    logger.warn("Loading the prescription history of patient {} failed", patientId, failure);
+                }
+            }
+        });
+        return future;
+    }
+
+    private ResultQuery<Record> historyQuery(int patientId, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1, was " + limit);
+        }
+        // Matches idx_opticaldiagnostics_patient_date, including the tie-breaker on the ID
+        return dsl.select(HISTORY_FIELDS)
+                .from(OPTICALDIAGNOSTICS)
+                .where(OPTICALDIAGNOSTICS.PATIENT_ID.eq(patientId))
+                .orderBy(OPTICALDIAGNOSTICS.DIAGNOSTIC_DATE.desc(), OPTICALDIAGNOSTICS.DIAGNOSTIC_ID.desc())
+                .limit(limit);
+    }
+
+    private static PrescriptionHistory toHistory(int patientId, Result<Record> records) {
+        Measure[] measures = Measure.values();
+        PrescriptionHistory.Builder builder = PrescriptionHistory.builder(patientId, records.size());
+        for (Record record : records) {
+            builder.add(record.get(OPTICALDIAGNOSTICS.DIAGNOSTIC_ID), record.get(OPTICALDIAGNOSTICS.DIAGNOSTIC_DATE),
+                    Boolean.TRUE.equals(record.get(OPTICALDIAGNOSTICS.IS_CONTACT_LENS_RX)));
+            for (Measure measure : measures) {
+                builder.set(measure, record.get(MEASURE_FIELDS.get(measure.ordinal())));
+            }
+        }
+        return builder.build();
+    }
+
+    private static boolean isCancellation(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause() : failure;
+        return cause instanceof CancellationException;
+    }
+}
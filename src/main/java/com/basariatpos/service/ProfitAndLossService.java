@@ -0,0 +1,200 @@
+package com.basariatpos.service;
+
+import com.basariatpos.db.generated.tables.pojos.Generateprofitandlossstatement;
+import com.basariatpos.model.ProfitAndLossStatement;
+import org.jooq.Cursor;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record2;
+import org.jooq.Record3;
+import org.jooq.impl.DSL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import static com.basariatpos.db.generated.Tables.EXPENSECATEGORIES;
+import static com.basariatpos.db.generated.Tables.EXPENSES;
+import static com.basariatpos.db.generated.Tables.INVENTORYITEMS;
+import static com.basariatpos.db.generated.Tables.PAYMENTS;
+import static com.basariatpos.db.generated.Tables.SALESORDERITEMS;
+import static com.basariatpos.db.generated.Tables.SALESORDERS;
+
+/**
+ * Computes profit and loss statements with the same figures as the
+ * {@code GenerateProfitAndLossStatement} database function, at a cost that grows with the
+ * activity in the range rather than with the size of the tables.
+ * <p>
+ * The function compares {@code DATE(payment_date)} and {@code DATE(order_date)} with the
+ * range, which no index can serve, and reads {@code Expenses} twice. Here the range is
+ * turned into half-open timestamp bounds at midnight in the shop's time zone, so
+ * {@code idx_payments_payment_date} and {@code idx_salesorders_order_date} find the rows,
+ * and revenue and cost of goods sold are computed by one statement. Operating-expense
+ * lines are then read through a server-side cursor and totalled as they are handed to the
+ * caller, so a statement over several years never holds all its expense lines in memory.
+ * <p>
+ * Statements over long ranges take seconds; screens should use
+ * {@link #generateAsync(LocalDate, LocalDate, Consumer, Executor)}.
+ */
+public class ProfitAndLossService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProfitAndLossService.class);
+
+    /** Expense lines fetched per round trip while streaming. */
+    private static final int EXPENSE_FETCH_SIZE = 500;
+
+    private static final String OPERATING_EXPENSE = "Operating Expense";
+
+    private final DSLContext dsl;
+    private final ZoneId zone;
+
+    /**
+     * Creates a service that counts days in the JVM's default time zone, which is also the
+     * session time zone the PostgreSQL driver sets, so results match the database function.
+     *
+     * @param dsl the jOOQ context used for all queries.
+     */
+    public ProfitAndLossService(DSLContext dsl) {
+        this(dsl, ZoneId.systemDefault());
+    }
+
+    /**
+     * @param dsl  the jOOQ context used for all queries.
+     * @param zone the time zone in which a day of the statement starts and ends.
+     */
+    public ProfitAndLossService(DSLContext dsl, ZoneId zone) {
+        this.dsl = Objects.requireNonNull(dsl, "dsl");
+        this.zone = Objects.requireNonNull(zone, "zone");
+    }
+
+    /**
+     * Computes a statement, handing each operating-expense line to {@code expenseLines} as it
+     * is read. Lines arrive ordered by expense date.
+     *
+     * @param startDate    the first day of the statement.
+     * @param endDate      the last day of the statement, inclusive.
+     * @param expenseLines receives the operating-expense lines on the calling thread.
+     * @return the statement totals.
+     * @throws IllegalArgumentException if {@code endDate} is before {@code startDate}.
+     */
+    public ProfitAndLossStatement generate(LocalDate startDate, LocalDate endDate,
+                                           Consumer<Generateprofitandlossstatement> expenseLines) {
+        return generate(startDate, endDate, expenseLines, () -> false);
+    }
+
+    /**
+     * Computes a statement on {@code executor}. Expense lines are handed to
+     * {@code expenseLines} on the executor's thread; a screen that shows them should collect
+     * them there and publish them with the result. Cancelling the returned future stops
+     * reading expense lines at the next line.
+     *
+     * @param startDate    the first day of the statement.
+     * @param endDate      the last day of the statement, inclusive.
+     * @param expenseLines receives the operating-expense lines on the executor's thread.
+     * @param executor     runs the queries, e.g. a background executor; never the FX thread.
+     * @return the statement totals; completes exceptionally with
+     *         {@link IllegalArgumentException} if the range is invalid.
+     */
+    public CompletableFuture<ProfitAndLossStatement> generateAsync(LocalDate startDate, LocalDate endDate,
+                                                                   Consumer<Generateprofitandlossstatement> expenseLines,
+                                                                   Executor executor) {
+        Objects.requireNonNull(executor, "executor");
+        CompletableFuture<ProfitAndLossStatement> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            if (future.isDone()) {
+                return;
+            }
+            try {
+                future.complete(generate(startDate, endDate, expenseLines, future::isCancelled));
+            } catch (CancellationException e) {
+                logger.debug("Profit and loss statement {} to {} cancelled", startDate, endDate);
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    private ProfitAndLossStatement generate(LocalDate startDate, LocalDate endDate,
+                                            Consumer<Generateprofitandlossstatement> expenseLines,
+                                            BooleanSupplier cancelled) {
+        Objects.requireNonNull(startDate, "startDate");
+        Objects.requireNonNull(endDate, "endDate");
+        Objects.requireNonNull(expenseLines, "expenseLines");
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("End date " + endDate + " is before start date " + startDate);
+        }
+        OffsetDateTime from = startDate.atStartOfDay(zone).toOffsetDateTime();
+        OffsetDateTime to = endDate.plusDays(1).atStartOfDay(zone).toOffsetDateTime();
+        long started = System.nanoTime();
+
+        // The driver only fetches in batches inside a transaction; otherwise it reads the whole result
+        ProfitAndLossStatement statement = dsl.transactionResult(configuration -> {
+            DSLContext tx = configuration.dsl();
+            Record2<BigDecimal, BigDecimal> sales = tx.select(revenue(from, to), costOfGoodsSold(from, to)).fetchSingle();
+
+            BigDecimal operatingExpenses = BigDecimal.ZERO;
+            long lines = 0;
+            try (Cursor<Record3<String, String, BigDecimal>> cursor = tx
+                    .select(EXPENSECATEGORIES.CATEGORY_NAME_EN, EXPENSES.DESCRIPTION, EXPENSES.AMOUNT)
+                    .from(EXPENSES)
+                    .join(EXPENSECATEGORIES).on(EXPENSECATEGORIES.EXPENSE_CATEGORY_ID.eq(EXPENSES.EXPENSE_CATEGORY_ID))
+                    .where(EXPENSES.EXPENSE_DATE.between(startDate, endDate))
+                    .orderBy(EXPENSES.EXPENSE_DATE)
+                    .fetchSize(EXPENSE_FETCH_SIZE)
+                    .fetchLazy()) {
+                for (Record3<String, String, BigDecimal> expense : cursor) {
+                    if (cancelled.getAsBoolean()) {
+                        throw new CancellationException();
+                    }
+                    String description = expense.value2() == null
+                            ? expense.value1() : expense.value1() + ": " + expense.value2();
+                    expenseLines.accept(new Generateprofitandlossstatement(OPERATING_EXPENSE, description, expense.value3()));
+                    operatingExpenses = operatingExpenses.add(expense.value3());
+                    lines++;
+                }
+            }
+            return new ProfitAndLossStatement(startDate, endDate, sales.value1(), sales.value2(), operatingExpenses, lines);
+        });
+
+        logger.debug("Profit and loss statement {} to {}: {} expense lines in {} ms", startDate, endDate,
+                statement.expenseLineCount(), (System.nanoTime() - started) / 1_000_000);
+        return statement;
+    }
+
+    /** Payments received in the range for orders that ended completed or abandoned. */
+    private static Field<BigDecimal> revenue(OffsetDateTime from, OffsetDateTime to) {
+        return DSL.field(DSL.select(DSL.coalesce(DSL.sum(PAYMENTS.AMOUNT), BigDecimal.ZERO))
+                .from(PAYMENTS)
+                .join(SALESORDERS).on(SALESORDERS.SALES_ORDER_ID.eq(PAYMENTS.SALES_ORDER_ID))
+                .where(PAYMENTS.PAYMENT_DATE.ge(from))
+                .and(PAYMENTS.PAYMENT_DATE.lt(to))
+                .and(SALESORDERS.STATUS.in("Completed", "Abandoned")));
+    }
+
+    /**
+     * Cost of the stock items on orders placed in the range and since completed: the FIFO cost
+     * recorded on completion (migration V10), or today's cost for lines completed without it.
+     */
+    private static Field<BigDecimal> costOfGoodsSold(OffsetDateTime from, OffsetDateTime to) {
+        return DSL.field(DSL.select(DSL.coalesce(
+                        DSL.sum(DSL.coalesce(SALESORDERITEMS.COST_AMOUNT,
+                                SALESORDERITEMS.QUANTITY.mul(DSL.coalesce(INVENTORYITEMS.COST_PRICE, BigDecimal.ZERO)))),
+                        BigDecimal.ZERO))
+                .from(SALESORDERS)
+                .join(SALESORDERITEMS).on(SALESORDERITEMS.SALES_ORDER_ID.eq(SALESORDERS.SALES_ORDER_ID))
+                .join(INVENTORYITEMS).on(INVENTORYITEMS.INVENTORY_ITEM_ID.eq(SALESORDERITEMS.INVENTORY_ITEM_ID))
+                .where(SALESORDERS.ORDER_DATE.ge(from))
+                .and(SALESORDERS.ORDER_DATE.lt(to))
+                .and(SALESORDERS.STATUS.eq("Completed")));
+    }
+}
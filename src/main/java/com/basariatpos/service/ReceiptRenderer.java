@@ -0,0 +1,451 @@
+package com.basariatpos.service;
+
+import com.basariatpos.db.generated.tables.pojos.Centerprofile;
+import com.basariatpos.db.generated.tables.pojos.Payments;
+import com.basariatpos.db.generated.tables.pojos.Salesorderitems;
+import com.basariatpos.db.generated.tables.pojos.Salesorders;
+import com.basariatpos.db.generated.tables.records.CenterprofileRecord;
+import com.basariatpos.db.generated.tables.records.PaymentsRecord;
+import com.basariatpos.model.Receipt;
+import com.basariatpos.repository.QueryTemplate;
+import com.basariatpos.repository.SalesOrderRepository;
+import com.basariatpos.util.BackgroundExecutor;
+import com.basariatpos.util.receipt.EscPosEncoder;
+import com.basariatpos.util.receipt.PdfReceiptWriter;
+import com.basariatpos.util.receipt.ReceiptLayout;
+import com.basariatpos.util.receipt.ReceiptLayout.Align;
+import com.basariatpos.util.receipt.ReceiptRasterizer;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.basariatpos.db.generated.Tables.CENTERPROFILE;
+import static com.basariatpos.db.generated.Tables.PAYMENTS;
+import static com.basariatpos.db.generated.Tables.SALESORDERS;
+import static com.basariatpos.util.receipt.ReceiptLayout.leftToRight;
+
+/**
+ * Renders sales order receipts for the thermal printer (ESC/POS) and as PDF.
+ * <p>
+ * A receipt has three sections: the center's header (logo, name, address), the order and the
+ * footer message. The header and footer only change with {@code CenterProfile}, so they are
+ * compiled once, i.e. laid out, rasterized and encoded for the printer, and reused until the
+ * profile's {@code updated_at} changes; the logo is decoded, scaled and dithered once per file.
+ * Printing a receipt then loads the order with four indexed queries and rasterizes only the
+ * order section. Both outputs are drawn from the same {@link ReceiptLayout}s by
+ * {@link ReceiptRasterizer}, which also shapes Arabic text and lays it out right to left.
+ * <p>
+ * Compiling the template, and the first rasterization in a JVM, which loads the fonts and the
+ * text shaper, take far longer than a receipt may. Call {@link #precompile(BackgroundExecutor)}
+ * at startup so the first receipt after a payment does not pay for them.
+ * <p>
+ * Instances are thread-safe.
+ */
+public class ReceiptRenderer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReceiptRenderer.class);
+
+    /** The logo is scaled down, keeping its aspect ratio, to this share of the printable width. */
+    private static final double LOGO_MAX_WIDTH_SHARE = 0.6;
+
+    /** The logo is scaled down, keeping its aspect ratio, to this height in dots. */
+    private static final int LOGO_MAX_HEIGHT = 160;
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private static final Labels ENGLISH = new Labels("Receipt", "Subtotal", "Discount", "Total",
+            "Cash", "Bank transfer", "Paid", "Balance due", "Tax ID");
+    private static final Labels ARABIC = new Labels("إيصال", "المجموع الفرعي", "الخصم", "الإجمالي",
+            "نقداً", "تحويل بنكي", "المدفوع", "المتبقي", "الرقم الضريبي");
+
+    private final DSLContext dsl;
+    private final SalesOrderRepository orders;
+    private final ReceiptRasterizer rasterizer;
+    private final Labels labels;
+    private final boolean rightToLeft;
+    private final ZoneId zone;
+    private final QueryTemplate<CenterprofileRecord> profileQuery;
+    private final QueryTemplate<PaymentsRecord> paymentsByOrderId;
+
+    private final AtomicReference<CompiledTemplate> compiled = new AtomicReference<>();
+    private final AtomicReference<CachedLogo> logo = new AtomicReference<>();
+
+    /**
+     * @param dsl        the jOOQ context.
+     * @param rasterizer the rasterizer for the printer's paper width.
+     * @param locale     the receipt language; Arabic receipts read right to left, all others use
+     *                   the English labels.
+     * @param zone       the time zone order and payment times are printed in.
+     */
+    public ReceiptRenderer(DSLContext dsl, ReceiptRasterizer rasterizer, Locale locale, ZoneId zone) {
+        this.dsl = Objects.requireNonNull(dsl, "dsl");
+        this.rasterizer = Objects.requireNonNull(rasterizer, "rasterizer");
+        this.zone = Objects.requireNonNull(zone, "zone");
+        this.rightToLeft = "ar".equals(locale.getLanguage());
+        this.labels = rightToLeft ? ARABIC : ENGLISH;
+        this.orders = new SalesOrderRepository(dsl);
+        this.profileQuery = QueryTemplate.of(dsl, CENTERPROFILE,
+                dsl.selectFrom(CENTERPROFILE).orderBy(CENTERPROFILE.PROFILE_ID).limit(DSL.inline(1)));
+        this.paymentsByOrderId = QueryTemplate.of(dsl, PAYMENTS, dsl.selectFrom(PAYMENTS)
+                .where(PAYMENTS.SALES_ORDER_ID.eq(DSL.param("salesOrderId", Integer.class)))
+                .orderBy(PAYMENTS.PAYMENT_DATE, PAYMENTS.PAYMENT_ID));
+    }
+
+    /**
+     * Loads what the receipt of an order shows. Call it after the payment has committed so the
+     * receipt includes it.
+     *
+     * @param salesOrderId the order ID.
+     * @return the receipt data.
+     * @throws IllegalArgumentException if the order does not exist.
+     * @throws IllegalStateException    if the center profile has not been set up.
+     */
+    public Receipt load(int salesOrderId) {
+        Centerprofile profile = profileQuery.fetchOptional(dsl)
+                .map(record -> record.into(Centerprofile.class))
+                .orElseThrow(() -> new IllegalStateException("The center profile has not been set up"));
+        Salesorders order = orders.findById(salesOrderId)
+                .orElseThrow(() -> new IllegalArgumentException("No sales order with ID " + salesOrderId));
+        List<Salesorderitems> items = orders.findItems(salesOrderId);
+        List<Payments> payments = paymentsByOrderId.fetch(dsl, salesOrderId).into(Payments.class);
+        return new Receipt(profile, order, items, payments);
+    }
+
+    /**
+     * Renders a receipt as a print job for an ESC/POS thermal printer, ending with a paper cut.
+     *
+     * @param receipt the receipt data.
+     * @return the bytes to send to the printer.
+     */
+    public byte[] toEscPos(Receipt receipt) {
+        CompiledTemplate template = template(receipt.profile());
+        byte[] body = EscPosEncoder.raster(rasterizer.rasterize(orderSection(receipt)));
+
+        ByteArrayOutputStream job = new ByteArrayOutputStream(
+                template.headerEscPos().length + body.length + template.footerEscPos().length + 16);
+        job.writeBytes(EscPosEncoder.initialize());
+        job.writeBytes(template.headerEscPos());
+        job.writeBytes(body);
+        job.writeBytes(template.footerEscPos());
+        job.writeBytes(EscPosEncoder.feedAndCut());
+        return job.toByteArray();
+    }
+
+    /**
+     * Renders a receipt as a one-page PDF the width of the paper roll.
+     *
+     * @param receipt the receipt data.
+     * @return the PDF file.
+     */
+    public byte[] toPdf(Receipt receipt) {
+        CompiledTemplate template = template(receipt.profile());
+        BufferedImage body = rasterizer.rasterize(orderSection(receipt));
+        return PdfReceiptWriter.write(List.of(template.header(), body, template.footer()),
+                ReceiptRasterizer.DOTS_PER_INCH);
+    }
+
+    /**
+     * Runs {@link #precompile()} on the executor, e.g. from application startup.
+     *
+     * @param executor the executor to run it on.
+     * @return completes with the result of {@link #precompile()}.
+     */
+    public CompletableFuture<Boolean> precompile(BackgroundExecutor executor) {
+        Objects.requireNonNull(executor, "executor");
+        return executor.submit("precompileReceiptTemplate", this::precompile);
+    }
+
+    /**
+     * Compiles the header and footer of the current center profile, then loads the newest order,
+     * or makes up one if there is none yet, and renders it in both formats. This prepares the
+     * queries and loads the fonts, text shaping and encoders before the first real receipt.
+     *
+     * @return {@code true} if the template was compiled, {@code false} if the center profile has
+     *         not been set up yet.
+     */
+    public boolean precompile() {
+        long start = System.nanoTime();
+        Centerprofile profile = profileQuery.fetchOptional(dsl)
+                .map(record -> record.into(Centerprofile.class))
+                .orElse(null);
+        if (profile == null) {
+            logger.info("No center profile yet; the receipt template is compiled with the first receipt");
+            return false;
+        }
+        Integer newestOrderId = dsl.select(DSL.max(SALESORDERS.SALES_ORDER_ID)).from(SALESORDERS).fetchSingle().value1();
+        Receipt sample = newestOrderId == null ? sampleReceipt(profile) : load(newestOrderId);
+        toEscPos(sample);
+        toPdf(sample);
+        logger.info("Precompiled receipt template for profile {} in {} ms", profile.getProfileId(),
+                (System.nanoTime() - start) / 1_000_000);
+        return true;
+    }
+
+    /**
+     * Drops the compiled header and footer and the logo, e.g. after the logo file was replaced
+     * without changing the profile; they are rebuilt for the next receipt.
+     */
+    public void invalidate() {
+        compiled.set(null);
+        logo.set(null);
+    }
+
+    private CompiledTemplate template(Centerprofile profile) {
+        CompiledTemplate current = compiled.get();
+        if (current != null && current.matches(profile)) {
+            return current;
+        }
+        // Two threads may compile at the same time after a profile change; both results are equal
+        long start = System.nanoTime();
+        BufferedImage header = rasterizer.rasterize(headerSection(profile));
+        BufferedImage footer = rasterizer.rasterize(footerSection(profile));
+        CompiledTemplate template = new CompiledTemplate(profile.getProfileId(), profile.getUpdatedAt(), header, footer, EscPosEncoder.raster(header), EscPosEncoder.raster(footer));
+        compiled.set(template);
+        logger.debug("Compiled receipt template for profile {} in {} ms", profile.getProfileId(),
+                (System.nanoTime() - start) / 1_000_000);
+        return template;
+    }
+
+    /** A receipt with a line and a payment in the receipt language, for {@link #precompile()} on an empty database. */
+    private Receipt sampleReceipt(Centerprofile profile) {
+        OffsetDateTime now = OffsetDateTime.now(zone);
+        BigDecimal price = new BigDecimal("10.00");
+        Salesorders order = new Salesorders();
+        order.setSalesOrderId(0);
+        order.setOrderDate(now);
+        order.setSubtotalAmount(price.add(price));
+        order.setTotalAmount(price.add(price));
+        order.setAmountPaid(price.add(price));
+        order.setBalanceDue(BigDecimal.ZERO);
+        Salesorderitems item = new Salesorderitems();
+        item.setSoItemId(0);
+        item.setDescription(labels.receipt());
+        item.setQuantity(2);
+        item.setUnitPrice(price);
+        Payments payment = new Payments();
+        payment.setPaymentDate(now);
+        payment.setAmount(price.add(price));
+        payment.setPaymentMethod("Cash");
+        return new Receipt(profile, order, List.of(item), List.of(payment));
+    }
+
+    private ReceiptLayout headerSection(Centerprofile profile) {
+        List<ReceiptLayout.Block> blocks = new ArrayList<>();
+        BufferedImage logoBitmap = logo(profile.getLogoImagePath());
+        if (logoBitmap != null) {
+            blocks.add(new ReceiptLayout.Image(logoBitmap));
+        }
+        blocks.add(new ReceiptLayout.Text(Objects.toString(profile.getCenterName(), ""), Align.CENTER, true, true));
+        addCentered(blocks, profile.getAddressLine1());
+        addCentered(blocks, profile.getAddressLine2());
+        addCentered(blocks, joined(" ", profile.getCity(), profile.getPostalCode(), profile.getCountry()));
+        addCentered(blocks, leftToRight(joined(" / ", profile.getPhonePrimary(), profile.getPhoneSecondary())));
+        addCentered(blocks, profile.getWebsite());
+        if (profile.getTaxIdentifier() != null && !profile.getTaxIdentifier().isBlank()) {
+            addCentered(blocks, labels.taxId() + ": " + leftToRight(profile.getTaxIdentifier().strip()));
+        }
+        return new ReceiptLayout(rightToLeft, blocks);
+    }
+
+    private ReceiptLayout footerSection(Centerprofile profile) {
+        List<ReceiptLayout.Block> blocks = new ArrayList<>();
+        String message = profile.getReceiptFooterMessage();
+        if (message != null && !message.isBlank()) {
+            blocks.add(new ReceiptLayout.Rule());
+            blocks.add(new ReceiptLayout.Text(message.strip(), Align.CENTER, false, false));
+        }
+        return new ReceiptLayout(rightToLeft, blocks);
+    }
+
+    private ReceiptLayout orderSection(Receipt receipt) {
+        Salesorders order = receipt.order();
+        String currency = Objects.toString(receipt.profile().getCurrencySymbol(), "");
+        DecimalFormat amounts = amountFormat();
+
+        List<ReceiptLayout.Block> blocks = new ArrayList<>();
+        blocks.add(new ReceiptLayout.Rule());
+        blocks.add(new ReceiptLayout.Text(labels.receipt() + " " + leftToRight("#" + order.getSalesOrderId()), Align.CENTER, true, false));
+        if (order.getOrderDate() != null) {
+            blocks.add(new ReceiptLayout.Text(leftToRight(DATE_TIME.format(order.getOrderDate().atZoneSameInstant(zone))),
+                    Align.CENTER, false, false));
+        }
+        blocks.add(new ReceiptLayout.Rule());
+        for (Salesorderitems item : receipt.items()) {
+            String description = item.getDescription() == null || item.getDescription().isBlank()
+                    ? "#" + item.getSoItemId() : item.getDescription();
+            String label = item.getQuantity() == 1 ? description
+                    : description + "\n" + leftToRight(item.getQuantity() + " × " + amounts.format(item.getUnitPrice()));
+            blocks.add(new ReceiptLayout.Row(label, amounts.format(lineTotal(item)), false));
+        }
+        blocks.add(new ReceiptLayout.Rule());
+        blocks.add(new ReceiptLayout.Row(labels.subtotal(), amounts.format(zeroIfNull(order.getSubtotalAmount())), false));
+        BigDecimal discount = zeroIfNull(order.getDiscountAmount());
+        if (discount.signum() != 0) {
+            blocks.add(new ReceiptLayout.Row(labels.discount(), "-" + amounts.format(discount), false));
+        }
+        blocks.add(new ReceiptLayout.Row(labels.total(),
+                amounts.format(zeroIfNull(order.getTotalAmount())) + " " + currency, true));
+        for (Payments payment : receipt.payments()) {
+            String method = "Cash".equals(payment.getPaymentMethod()) ? labels.cash() : labels.bankTransfer();
+            String when = payment.getPaymentDate() == null ? ""
+                    : " " + leftToRight(DATE_TIME.format(payment.getPaymentDate().atZoneSameInstant(zone)));
+            blocks.add(new ReceiptLayout.Row(method + when, amounts.format(payment.getAmount()), false));
+        }
+        blocks.add(new ReceiptLayout.Row(labels.paid(), amounts.format(zeroIfNull(order.getAmountPaid())), false));
+        BigDecimal balance = zeroIfNull(order.getBalanceDue());
+        blocks.add(new ReceiptLayout.Row(labels.balanceDue(), amounts.format(balance) + " " + currency,
+                balance.signum() > 0));
+        return new ReceiptLayout(rightToLeft, blocks);
+    }
+
+    private BufferedImage logo(String path) {
+        if (path == null || path.isBlank()) {
+            return null;
+        }
+        File file = new File(path);
+        long lastModified = file.lastModified();
+        CachedLogo cached = logo.get();
+        if (cached != null && cached.path().equals(path) && cached.lastModified() == lastModified) {
+            return cached.bitmap();
+        }
+        BufferedImage bitmap = null;
+        try {
+            BufferedImage decoded = ImageIO.read(file);
+            if (decoded == null) {
+                logger.warn("Receipt logo {} is not in a supported image format; printing without it", path);
+            } else {
+                bitmap = dither(scale(decoded, (int) (rasterizer.printableWidth() * LOGO_MAX_WIDTH_SHARE), LOGO_MAX_HEIGHT));
+            }
+        } catch (IOException e) {
+            logger.warn("Could not read receipt logo {}; printing without it", path, e);
+        }
+        logo.set(new CachedLogo(path, lastModified, bitmap));
+        return bitmap;
+    }
+
+    private static BufferedImage scale(BufferedImage image, int maxWidth, int maxHeight) {
+        double factor = Math.min(1.0, Math.min((double) maxWidth / image.getWidth(), (double) maxHeight / image.getHeight()));
+        int width = Math.max(1, (int) Math.round(image.getWidth() * factor));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * factor));
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = scaled.createGraphics();
+        try {
+            // Transparent parts of the logo print as paper
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(image.getScaledInstance(width, height, Image.SCALE_AREA_AVERAGING), 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return scaled;
+    }
+
+    /** Floyd-Steinberg dithering, so that shades in the logo come out as dot patterns. */
+    private static BufferedImage dither(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        float[] luminance = new float[width * height];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int rgb = image.getRGB(x, y);
+                luminance[y * width + x] = 0.299f * ((rgb >> 16) & 0xFF) + 0.587f * ((rgb >> 8) & 0xFF) + 0.114f * (rgb & 0xFF);
+            }
+        }
+        BufferedImage bitmap = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_BINARY);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int i = y * width + x;
+                boolean white = luminance[i] >= 128;
+                bitmap.setRGB(x, y, white ? 0xFFFFFF : 0);
+                float error = luminance[i] - (white ? 255 : 0);
+                if (x + 1 < width) {
+                    luminance[i + 1] += error * 7 / 16;
+                }
+                if (y + 1 < height) {
+                    if (x > 0) {
+                        luminance[i + width - 1] += error * 3 / 16;
+                    }
+                    luminance[i + width] += error * 5 / 16;
+                    if (x + 1 < width) {
+                        luminance[i + width + 1] += error / 16;
+                    }
+                }
+            }
+        }
+        return bitmap;
+    }
+
+    private static void addCentered(List<ReceiptLayout.Block> blocks, String text) {
+        if (text != null && !text.isBlank()) {
+            blocks.add(new ReceiptLayout.Text(text.strip(), Align.CENTER, false, false));
+        }
+    }
+
+    private static String joined(String separator, String... parts) {
+        StringJoiner joiner = new StringJoiner(separator);
+        for (String part : parts) {
+            if (part != null && !part.isBlank()) {
+                joiner.add(part.strip());
+            }
+        }
+        return joiner.toString();
+    }
+
+    private static BigDecimal lineTotal(Salesorderitems item) {
+        return item.getItemSubtotal() != null ? item.getItemSubtotal()
+                : item.getUnitPrice().multiply(BigDecimal.valueOf(item.getQuantity()));
+    }
+
+    private static BigDecimal zeroIfNull(BigDecimal amount) {
+        return amount == null ? BigDecimal.ZERO : amount;
+    }
+
+    private static DecimalFormat amountFormat() {
+        // DecimalFormat is not thread-safe; Western digits as on the center's invoices
+        return new DecimalFormat("#,##0.00", DecimalFormatSymbols.getInstance(Locale.ROOT));
+    }
+
+    /** Receipt labels in one language. */
+    private record Labels(String receipt, String subtotal, String discount, String total,
+                          String cash, String bankTransfer, String paid, String balanceDue, String taxId) {
+    }
+
+    /**
+     * The header and footer for one version of the center profile, rasterized and encoded.
+     */
+    private record CompiledTemplate(Integer profileId, OffsetDateTime updatedAt,
+                                    BufferedImage header, BufferedImage footer,
+                                    byte[] headerEscPos, byte[] footerEscPos) {
+
+        boolean matches(Centerprofile profile) {
+            return Objects.equals(profileId, profile.getProfileId()) && Objects.equals(updatedAt, profile.getUpdatedAt());
+        }
+    }
+
+    /** A decoded, scaled and dithered logo; {@code bitmap} is {@code null} if the file could not be read. */
+    private record CachedLogo(String path, long lastModified, BufferedImage bitmap) {
+    }
+}
@@ -0,0 +1,153 @@
+package com.basariatpos.service;
+
+import com.basariatpos.db.generated.Routines;
+import com.basariatpos.db.generated.tables.pojos.Findshifttotalsmismatches;
+import com.basariatpos.db.generated.tables.pojos.Shiftreportsummaryview;
+import com.basariatpos.db.generated.tables.pojos.Shifttotals;
+import org.jooq.DSLContext;
+import org.jooq.Record2;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static com.basariatpos.db.generated.Tables.FINDSHIFTTOTALSMISMATCHES;
+import static com.basariatpos.db.generated.Tables.SHIFTREPORTSUMMARYVIEW;
+import static com.basariatpos.db.generated.Tables.SHIFTS;
+import static com.basariatpos.db.generated.Tables.SHIFTTOTALS;
+
+/**
+ * Shift reports backed by the {@code ShiftTotals} rollup (migration V5).
+ * <p>
+ * Payment, cash expense and order totals are kept current by triggers, so reading a
+ * shift summary costs one primary-key lookup no matter how many transactions the shift
+ * has. {@code EndShift} reads the same totals, which means the expected cash shown by
+ * {@link #expectedCashInDrawer(int)} before closing is exactly what the shift is closed with.
+ * <p>
+ * {@link #findTotalsMismatches()} and {@link #rebuildTotals()} compare the rollup against the
+ * base tables and repair it; they scan every shift and are meant for maintenance, not for
+ * cashier screens.
+ */
+public class ShiftReportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShiftReportService.class);
+
+    private final DSLContext dsl;
+
+    /**
+     * @param dsl the jOOQ context used for all queries.
+     */
+    public ShiftReportService(DSLContext dsl) {
+        this.dsl = Objects.requireNonNull(dsl, "dsl");
+    }
+
+    /**
+     * Loads the summary of one shift.
+     *
+     * @param shiftId the shift ID.
+     * @return the summary, or empty if the shift does not exist.
+     */
+    public Optional<Shiftreportsummaryview> findSummary(int shiftId) {
+        return dsl.selectFrom(SHIFTREPORTSUMMARYVIEW)
+                .where(SHIFTREPORTSUMMARYVIEW.SHIFT_ID.eq(shiftId))
+                .fetchOptionalInto(Shiftreportsummaryview.class);
+    }
+
+    /**
+     * Lists the summaries of shifts started in a time range, newest first.
+     *
+     * @param from the inclusive lower bound of {@code start_time}.
+     * @param to   the exclusive upper bound of {@code start_time}.
+     * @return the summaries; empty if no shift started in the range.
+     * @throws IllegalArgumentException if {@code to} is before {@code from}.
+     */
+    public List<Shiftreportsummaryview> findSummaries(OffsetDateTime from, OffsetDateTime to) {
+        Objects.requireNonNull(from, "from");
+        Objects.requireNonNull(to, "to");
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Range end " + to + " is before range start " + from);
+        }
+        return dsl.selectFrom(SHIFTREPORTSUMMARYVIEW)
+                .where(SHIFTREPORTSUMMARYVIEW.START_TIME.ge(from))
+                .and(SHIFTREPORTSUMMARYVIEW.START_TIME.lt(to))
+                .orderBy(SHIFTREPORTSUMMARYVIEW.START_TIME.desc(), SHIFTREPORTSUMMARYVIEW.SHIFT_ID.desc())
+                .fetchInto(Shiftreportsummaryview.class);
+    }
+
+    /**
+     * Returns the running totals of a shift.
+     *
+     * @param shiftId the shift ID.
+     * @return the totals; all zero if the shift has no transactions yet or does not exist.
+     */
+    public Shifttotals currentTotals(int shiftId) {
+        return dsl.selectFrom(SHIFTTOTALS)
+                .where(SHIFTTOTALS.SHIFT_ID.eq(shiftId))
+                .fetchOptionalInto(Shifttotals.class)
+                .orElseGet(() -> new Shifttotals(shiftId, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO,
+                        0, BigDecimal.ZERO, null));
+    }
+
+    /**
+     * Computes the cash that should be in the drawer right now, using the same formula as
+     * {@code EndShift}: opening float plus cash received minus cash expenses.
+     *
+     * @param shiftId the shift ID.
+     * @return the expected cash, or empty if the shift does not exist.
+     */
+    public Optional<BigDecimal> expectedCashInDrawer(int shiftId) {
+        return dsl.select(SHIFTS.OPENING_FLOAT,
+                        SHIFTTOTALS.TOTAL_CASH_RECEIVED.minus(SHIFTTOTALS.TOTAL_CASH_EXPENSES))
+                .from(SHIFTS)
+                .leftJoin(SHIFTTOTALS).on(SHIFTTOTALS.SHIFT_ID.eq(SHIFTS.SHIFT_ID))
+                .where(SHIFTS.SHIFT_ID.eq(shiftId))
+                .fetchOptional()
+                .map(ShiftReportService::openingFloatPlusNetCash);
+    }
+
+    /**
+     * Compares the rollup with totals recomputed from {@code Payments}, {@code Expenses}
+     * and {@code SalesOrders}.
+     *
+     * @return one row per inconsistent shift; empty when the rollup is correct.
+     */
+    public List<Findshifttotalsmismatches> findTotalsMismatches() {
+        return dsl.selectFrom(FINDSHIFTTOTALSMISMATCHES())
+                .fetchInto(Findshifttotalsmismatches.class);
+    }
+
+    /**
+     * Recomputes the rollup for every shift from the base tables and reports what was wrong.
+     * Concurrent writers to the three base tables wait until the rebuild commits.
+     *
+     * @return the mismatches found before the rebuild; empty if nothing needed repair.
+     */
+    public List<Findshifttotalsmismatches> rebuildTotals() {
+        return dsl.transactionResult(configuration -> {
+            List<Findshifttotalsmismatches> mismatches = configuration.dsl()
+                    .selectFrom(FINDSHIFTTOTALSMISMATCHES())
+                    .fetchInto(Findshifttotalsmismatches.class);
+            for (Findshifttotalsmismatches m : mismatches) {
+                logger.warn("Shift {} totals out of sync: cash {} -> {}, bank {} -> {}, cash expenses {} -> {}, orders {} -> {}, discounts {} -> {}",
+                        m.getShiftId(),
+                        m.getStoredCashReceived(), m.getActualCashReceived(),
+                        m.getStoredBankReceived(), m.getActualBankReceived(),
+                        m.getStoredCashExpenses(), m.getActualCashExpenses(),
+                        m.getStoredSalesOrders(), m.getActualSalesOrders(),
+                        m.getStoredDiscounts(), m.getActualDiscounts());
+            }
+            Routines.rebuildshifttotals(configuration);
+            logger.info("Rebuilt shift totals; {} shift(s) needed repair", mismatches.size());
+            return mismatches;
+        });
+    }
+
+    private static BigDecimal openingFloatPlusNetCash(Record2<BigDecimal, BigDecimal> row) {
+        BigDecimal openingFloat = Objects.requireNonNullElse(row.value1(), BigDecimal.ZERO);
+        return row.value2() == null ? openingFloat : openingFloat.add(row.value2());
+    }
+}
@@ -0,0 +1,339 @@
+package com.basariatpos.service;
+
+import com.basariatpos.db.generated.Routines;
+import com.basariatpos.model.StockReservation;
+import com.basariatpos.util.BackgroundExecutor;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record3;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static com.basariatpos.db.generated.Tables.INVENTORYITEMS;
+import static com.basariatpos.db.generated.Tables.STOCKRESERVATIONS;
+import static com.basariatpos.db.generated.Tables.STOCKRESERVATIONTOTALS;
+
+/**
+ * Reserves stock for order lines while a sale is being entered, so that two terminals cannot
+ * both sell the last unit of an item (migration V12).
+ * <p>
+ * A reservation is placed when a stock line is added to an order and lapses after a short
+ * time unless it is renewed or attached to the saved order; attached reservations are held
+ * until the order is completed, cancelled or abandoned, when the database releases them.
+ * Available stock is the quantity on hand minus everything reserved.
+ * <p>
+ * Placing a reservation does not lock the item. The service reads the item's reserved total
+ * with its version and claims the stock with an update that only succeeds if the version is
+ * unchanged and the stock is still available; if another terminal got there first it reads
+ * again. Expiry is measured on the database clock, so all terminals agree on it. Lapsed
+ * reservations count as released straight away; {@link #scheduleExpiry(BackgroundExecutor)}
+ * deletes them periodically.
+ */
+public class StockReservationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StockReservationService.class);
+
+    /** How long a reservation lasts by default before it must be renewed or attached. */
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(15);
+
+    /** Pause between the sweeps of {@link #scheduleExpiry(BackgroundExecutor)}. */
+    public static final Duration EXPIRY_INTERVAL = Duration.ofMinutes(1);
+
+    /** Claims attempted before giving up on an item other terminals keep reserving. */
+    private static final int MAX_CLAIM_ATTEMPTS = 10;
+
+    private final DSLContext dsl;
+    private final Duration timeToLive;
+
+    /**
+     * Creates a service whose reservations last {@link #DEFAULT_TIME_TO_LIVE}.
+     *
+     * @param dsl the jOOQ context; its connection should carry the current user, who is
+     *            recorded as the one who reserved.
+     */
+    public StockReservationService(DSLContext dsl) {
+        this(dsl, DEFAULT_TIME_TO_LIVE);
+    }
+
+    /**
+     * @param dsl        the jOOQ context; its connection should carry the current user.
+     * @param timeToLive how long a reservation lasts before it must be renewed or attached.
+     * @throws IllegalArgumentException if {@code timeToLive} is not positive.
+     */
+    public StockReservationService(DSLContext dsl, Duration timeToLive) {
+        this.dsl = Objects.requireNonNull(dsl, "dsl");
+        this.timeToLive = Objects.requireNonNull(timeToLive, "timeToLive");
+        if (timeToLive.isNegative() || timeToLive.isZero()) {
+            throw new IllegalArgumentException("Time to live must be positive: " + timeToLive);
+        }
+    }
+
+    /**
+     * Reserves units of a stock item if that many are available.
+     *
+     * @param inventoryItemId the item to reserve.
+     * @param quantity        the number of units, at least 1.
+     * @return the reservation, or empty if fewer than {@code quantity} units are available.
+     * @throws IllegalArgumentException if the quantity is not positive or the item does not exist.
+     * @throws IllegalStateException if other terminals changed the item's reservations on every attempt.
+     */
+    public Optional<StockReservation> reserve(int inventoryItemId, int quantity) {
+        checkQuantity(quantity);
+        return dsl.transactionResult(configuration -> {
+            DSLContext tx = configuration.dsl();
+            if (!claim(tx, inventoryItemId, quantity)) {
+                return Optional.<StockReservation>empty();
+            }
+            return Optional.of(tx.insertInto(STOCKRESERVATIONS)
+                    .set(STOCKRESERVATIONS.INVENTORY_ITEM_ID, inventoryItemId)
+                    .set(STOCKRESERVATIONS.QUANTITY, quantity)
+                    .set(STOCKRESERVATIONS.EXPIRES_AT, expiry())
+                    .returning(STOCKRESERVATIONS.RESERVATION_ID, STOCKRESERVATIONS.EXPIRES_AT)
+                    .fetchSingle()
+                    .map(r -> new StockReservation(r.get(STOCKRESERVATIONS.RESERVATION_ID), inventoryItemId,
+                            quantity, r.get(STOCKRESERVATIONS.EXPIRES_AT))));
+        });
+    }
+
+    /**
+     * Changes the quantity of a reservation, e.g. when the cashier edits the line. More units
+     * are only reserved if they are available; an unattached reservation is also renewed.
+     *
+     * @param reservationId the reservation to change.
+     * @param quantity      the new number of units, at least 1.
+     * @return the changed reservation, or empty if the extra units are not available or the
+     *         reservation has lapsed or no longer exists; the reservation is then left as it was.
+     * @throws IllegalArgumentException if the quantity is not positive.
+     * @throws IllegalStateException if other terminals changed the item's reservations on every attempt.
+     */
+    public Optional<StockReservation> changeQuantity(long reservationId, int quantity) {
+        checkQuantity(quantity);
+        return dsl.transactionResult(configuration -> {
+            DSLContext tx = configuration.dsl();
+            Record3<Integer, Integer, OffsetDateTime> current = tx
+                    .select(STOCKRESERVATIONS.INVENTORY_ITEM_ID, STOCKRESERVATIONS.QUANTITY, STOCKRESERVATIONS.EXPIRES_AT)
+                    .from(STOCKRESERVATIONS)
+                    .where(STOCKRESERVATIONS.RESERVATION_ID.eq(reservationId))
+                    .and(STOCKRESERVATIONS.EXPIRES_AT.isNull().or(STOCKRESERVATIONS.EXPIRES_AT.gt(DSL.currentOffsetDateTime())))
+                    .fetchOne();
+            if (current == null) {
+                return Optional.<StockReservation>empty();
+            }
+            int more = quantity - current.value2();
+            if (more > 0 && !claim(tx, current.value1(), more)) {
+                return Optional.<StockReservation>empty();
+            }
+            return tx.update(STOCKRESERVATIONS)
+                    .set(STOCKRESERVATIONS.QUANTITY, quantity)
+                    .set(STOCKRESERVATIONS.EXPIRES_AT, DSL.when(STOCKRESERVATIONS.EXPIRES_AT.isNotNull(), expiry()))
+                    .where(STOCKRESERVATIONS.RESERVATION_ID.eq(reservationId))
+                    .returning(STOCKRESERVATIONS.EXPIRES_AT)
+                    .fetchOptional()
+                    .map(r -> new StockReservation(reservationId, current.value1(), quantity, r.get(STOCKRESERVATIONS.EXPIRES_AT)));
+        });
+    }
+
+    /**
+     * Extends unattached reservations by the time to live from now, e.g. while the cashier is
+     * still working on the order. Reservations that have already lapsed are not revived.
+     *
+     * @param reservationIds the reservations to renew.
+     * @return the number of reservations renewed.
+     */
+    public int renew(Collection<Long> reservationIds) {
+        Objects.requireNonNull(reservationIds, "reservationIds");
+        if (reservationIds.isEmpty()) {
+            return 0;
+        }
+        return dsl.update(STOCKRESERVATIONS)
+                .set(STOCKRESERVATIONS.EXPIRES_AT, expiry())
+                .where(STOCKRESERVATIONS.RESERVATION_ID.in(reservationIds))
+                .and(STOCKRESERVATIONS.EXPIRES_AT.gt(DSL.currentOffsetDateTime()))
+                .execute();
+    }
+
+    /**
+     * Holds reservations for a saved order until it is completed, cancelled or abandoned.
+     * Call it in the transaction that saves the order, or right after.
+     *
+     * @param reservationIds the reservations of the order's lines.
+     * @param salesOrderId   the saved order.
+     * @return the number of reservations attached; fewer than requested if some had lapsed,
+     *         whose lines should be reserved again.
+     */
+    public int attachToOrder(Collection<Long> reservationIds, int salesOrderId) {
+        Objects.requireNonNull(reservationIds, "reservationIds");
+        if (reservationIds.isEmpty()) {
+            return 0;
+        }
+        return dsl.update(STOCKRESERVATIONS)
+                .set(STOCKRESERVATIONS.SALES_ORDER_ID, salesOrderId)
+                .setNull(STOCKRESERVATIONS.EXPIRES_AT)
+                .where(STOCKRESERVATIONS.RESERVATION_ID.in(reservationIds))
+                .and(STOCKRESERVATIONS.EXPIRES_AT.gt(DSL.currentOffsetDateTime()))
+                .execute();
+    }
+
+    /**
+     * Gives reserved stock back, e.g. when a line is removed or the order is discarded before it
+     * is saved. Reservations attached to an order are left alone: they belong to that order and
+     * are released when it is completed, cancelled or abandoned.
+     *
+     * @param reservationIds the reservations to release; unknown IDs and IDs of reservations
+     *                       attached to an order are ignored.
+     * @return the number of reservations released.
+     */
+    public int release(Collection<Long> reservationIds) {
+        Objects.requireNonNull(reservationIds, "reservationIds");
+        if (reservationIds.isEmpty()) {
+            return 0;
+        }
+        return dsl.deleteFrom(STOCKRESERVATIONS)
+                .where(STOCKRESERVATIONS.RESERVATION_ID.in(reservationIds))
+                .and(STOCKRESERVATIONS.SALES_ORDER_ID.isNull())
+                .execute();
+    }
+
+    /**
+     * @param inventoryItemId the item.
+     * @return the units on hand that are not reserved; 0 for an unknown item.
+     */
+    public int available(int inventoryItemId) {
+        return available(List.of(inventoryItemId)).getOrDefault(inventoryItemId, 0);
+    }
+
+    /**
+     * Reads the available stock of several items with one query, e.g. for the lines of an order.
+     * Reservations that have lapsed do not count, whether or not they have been deleted yet.
+     *
+     * @param inventoryItemIds the items.
+     * @return the units on hand minus the units reserved, per existing item.
+     */
+    public Map<Integer, Integer> available(Collection<Integer> inventoryItemIds) {
+        Objects.requireNonNull(inventoryItemIds, "inventoryItemIds");
+        // The totals still include lapsed reservations until they are deleted; add those back
+        Table<?> lapsed = dsl.select(STOCKRESERVATIONS.INVENTORY_ITEM_ID,
+                        DSL.sum(STOCKRESERVATIONS.QUANTITY).cast(Integer.class).as("quantity"))
+                .from(STOCKRESERVATIONS)
+                .where(STOCKRESERVATIONS.EXPIRES_AT.le(DSL.currentOffsetDateTime()))
+                .and(STOCKRESERVATIONS.INVENTORY_ITEM_ID.in(inventoryItemIds))
+                .groupBy(STOCKRESERVATIONS.INVENTORY_ITEM_ID)
+                .asTable("lapsed");
+        Field<Integer> available = INVENTORYITEMS.QUANTITY_ON_HAND
+                .minus(DSL.coalesce(STOCKRESERVATIONTOTALS.QUANTITY_RESERVED, 0))
+                .plus(DSL.coalesce(lapsed.field("quantity", Integer.class), 0))
+                .as("available");
+        return dsl.select(INVENTORYITEMS.INVENTORY_ITEM_ID, available)
+                .from(INVENTORYITEMS)
+                .leftJoin(STOCKRESERVATIONTOTALS).on(STOCKRESERVATIONTOTALS.INVENTORY_ITEM_ID.eq(INVENTORYITEMS.INVENTORY_ITEM_ID))
+                .leftJoin(lapsed).on(lapsed.field(STOCKRESERVATIONS.INVENTORY_ITEM_ID).eq(INVENTORYITEMS.INVENTORY_ITEM_ID))
+                .where(INVENTORYITEMS.INVENTORY_ITEM_ID.in(inventoryItemIds))
+                .fetchMap(INVENTORYITEMS.INVENTORY_ITEM_ID, available);
+    }
+
+    /**
+     * Releases every reservation whose time is up. Reserving an item that looks short also
+     * releases that item's lapsed reservations first.
+     *
+     * @return the number of reservations released.
+     * @see #scheduleExpiry(BackgroundExecutor)
+     */
+    public int expireReservations() {
+        int expired = Routines.expirestockreservations(dsl.configuration());
+        if (expired > 0) {
+            logger.debug("Released {} expired stock reservation(s)", expired);
+        }
+        return expired;
+    }
+
+    /**
+     * Runs {@link #expireReservations()} now and every {@link #EXPIRY_INTERVAL}, e.g. from
+     * application startup, so lapsed reservations do not pile up in the totals.
+     *
+     * @param executor the executor to run the sweeps on.
+     * @return the schedule; cancel it to stop the sweeps.
+     */
+    public CompletableFuture<Void> scheduleExpiry(BackgroundExecutor executor) {
+        Objects.requireNonNull(executor, "executor");
+        return executor.scheduleWithFixedDelay("expireStockReservations", EXPIRY_INTERVAL, this::expireReservations);
+    }
+
+    /**
+     * Claims {@code quantity} units of an item for a reservation inserted in the same
+     * transaction, by bumping the version of the item's reserved total if it is still the one
+     * read and the units are still available. The row stays locked by the update until the
+     * transaction ends, so a competing claim waits, sees the new version and reads again.
+     */
+    private boolean claim(DSLContext tx, int inventoryItemId, int quantity) {
+        boolean expiredReleased = false;
+        for (int attempt = 1; attempt <= MAX_CLAIM_ATTEMPTS; attempt++) {
+            Record3<Integer, Integer, Long> stock = tx
+                    .select(INVENTORYITEMS.QUANTITY_ON_HAND, STOCKRESERVATIONTOTALS.QUANTITY_RESERVED, STOCKRESERVATIONTOTALS.VERSION)
+                    .from(INVENTORYITEMS)
+                    .leftJoin(STOCKRESERVATIONTOTALS).on(STOCKRESERVATIONTOTALS.INVENTORY_ITEM_ID.eq(INVENTORYITEMS.INVENTORY_ITEM_ID))
+                    .where(INVENTORYITEMS.INVENTORY_ITEM_ID.eq(inventoryItemId))
+                    .fetchOne();
+            if (stock == null) {
+                throw new IllegalArgumentException("Inventory item " + inventoryItemId + " does not exist");
+            }
+            if (stock.value3() == null) {
+                // First reservation of the item: create its total, then read it like any other
+                tx.insertInto(STOCKRESERVATIONTOTALS, STOCKRESERVATIONTOTALS.INVENTORY_ITEM_ID)
+                        .values(inventoryItemId)
+                        .onConflictDoNothing()
+                        .execute();
+                continue;
+            }
+            if (stock.value1() - stock.value2() < quantity) {
+                if (expiredReleased || releaseExpired(tx, inventoryItemId) == 0) {
+                    return false;
+                }
+                expiredReleased = true;
+                continue;
+            }
+            int claimed = tx.update(STOCKRESERVATIONTOTALS)
+                    .set(STOCKRESERVATIONTOTALS.VERSION, STOCKRESERVATIONTOTALS.VERSION.plus(1L))
+                    .from(INVENTORYITEMS)
+                    .where(STOCKRESERVATIONTOTALS.INVENTORY_ITEM_ID.eq(inventoryItemId))
+                    .and(STOCKRESERVATIONTOTALS.VERSION.eq(stock.value3()))
+                    .and(INVENTORYITEMS.INVENTORY_ITEM_ID.eq(STOCKRESERVATIONTOTALS.INVENTORY_ITEM_ID))
+                    .and(INVENTORYITEMS.QUANTITY_ON_HAND.minus(STOCKRESERVATIONTOTALS.QUANTITY_RESERVED).ge(quantity))
+                    .execute();
+            if (claimed == 1) {
+                return true;
+            }
+            logger.debug("Stock of item {} changed while reserving, attempt {}", inventoryItemId, attempt);
+        }
+        throw new IllegalStateException("Could not reserve item " + inventoryItemId + " after "
+                + MAX_CLAIM_ATTEMPTS + " attempts; its reservations kept changing");
+    }
+
+    private static int releaseExpired(DSLContext tx, int inventoryItemId) {
+        return tx.deleteFrom(STOCKRESERVATIONS)
+                .where(STOCKRESERVATIONS.INVENTORY_ITEM_ID.eq(inventoryItemId))
+                .and(STOCKRESERVATIONS.EXPIRES_AT.le(DSL.currentOffsetDateTime()))
+                .execute();
+    }
+
+    private Field<OffsetDateTime> expiry() {
+        return DSL.field("CURRENT_TIMESTAMP + make_interval(secs => {0})", OffsetDateTime.class,
+                DSL.val((double) timeToLive.toMillis() / 1000));
+    }
+
+    private static void checkQuantity(int quantity) {
+        if (quantity < 1) {
+            throw new IllegalArgumentException("Quantity must be at least 1: " + quantity);
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package com.basariatpos.ui.utilui;
+
+import com.basariatpos.repository.KeysetCursor;
+import com.basariatpos.repository.KeysetPage;
+import com.basariatpos.repository.KeysetPager;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.collections.ObservableListBase;
+import javafx.scene.control.IndexedCell;
+import javafx.scene.control.TableRow;
+import javafx.scene.control.TableView;
+import javafx.scene.control.skin.VirtualFlow;
+import javafx.util.Callback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * A read-only {@link javafx.collections.ObservableList} for {@link TableView} that loads
+ * rows from a {@link KeysetPager} as the user scrolls.
+ * <p>
+ * Only the first page is read when the model is (re)loaded, so the first rows appear
+ * after one indexed query whatever the size of the table. The table's rows report their
+ * index as they are laid out (see {@link #attach(TableView)}); when a row on screen comes
+ * within {@code prefetch} rows of either end of what is loaded, the neighbouring page is
+ * fetched on the given executor and appended or prepended on the FX thread. Reading rows
+ * through the list itself never loads anything. At most
+ * {@code maxPages} pages are kept; the page furthest from the viewport is dropped and
+ * re-read if the user scrolls back to it, which keeps memory bounded on long lists.
+ * <p>
+ * All methods must be called on the JavaFX application thread.
+ *
+ * @param <T> the row type.
+ */
+public class LazyTableModel<T> extends ObservableListBase<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(LazyTableModel.class);
+
+    /** Boundaries of one loaded page; its rows are a contiguous slice of {@link #rows}. */
+    private record LoadedPage(KeysetCursor first, KeysetCursor last, int size) {
+    }
+
+    private final int pageSize;
+    private final int maxPages;
+    private final int prefetch;
+    private final Executor executor;
+
+    private final List<T> rows = new ArrayList<>();
+    private final Deque<LoadedPage> pages = new ArrayDeque<>();
+    private final ReadOnlyBooleanWrapper loading = new ReadOnlyBooleanWrapper();
+
+    private KeysetPager<?, T> pager;
+    private TableView<T> table;
+    private Consumer<Throwable> onLoadFailed = e -> logger.error("Failed to load table page", e);
+    private boolean hasBefore;
+    private boolean hasAfter;
+    private boolean failed; // Stops scroll-triggered loads from retrying a failing query until reload()
+    private int generation;
+
+    /**
+     * @param pager    the source of rows.
+     * @param pageSize the number of rows per query, 1 to {@link KeysetPager#MAX_PAGE_SIZE}.
+     * @param maxPages the number of pages kept in memory, at least 3.
+     * @param executor runs the queries off the FX thread.
+     * @throws IllegalArgumentException if {@code pageSize} or {@code maxPages} is out of range.
+     */
+    public LazyTableModel(KeysetPager<?, T> pager, int pageSize, int maxPages, Executor executor) {
+        if (pageSize < 1 || pageSize > KeysetPager.MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + KeysetPager.MAX_PAGE_SIZE + ": " + pageSize);
+        }
+        if (maxPages < 3) {
+            throw new IllegalArgumentException("At least 3 pages must be kept: " + maxPages);
+        }
+        this.pager = Objects.requireNonNull(pager, "pager");
+        this.pageSize = pageSize;
+        this.maxPages = maxPages;
+        this.prefetch = Math.max(1, pageSize / 4);
+        this.executor = Objects.requireNonNull(executor, "executor");
+    }
+
+    /**
+     * Shows this model in a table and loads the first page. The table's row factory, or the
+     * default one, is wrapped so each row calls {@link #rowShown(int)} when it is given a new
+     * index. The table is also used to keep the same rows on screen when pages are added or
+     * dropped above the viewport. Set a custom row factory before attaching.
+     *
+     * @param tableView the table to populate.
+     * @throws IllegalStateException if the model is already attached to a table.
+     */
+    public void attach(TableView<T> tableView) {
+        Objects.requireNonNull(tableView, "tableView");
+        if (table != null) {
+            throw new IllegalStateException("Already attached to a table");
+        }
+        this.table = tableView;
+        Callback<TableView<T>, TableRow<T>> rowFactory = tableView.getRowFactory();
+        tableView.setRowFactory(view -> {
+            TableRow<T> row = rowFactory == null ? new TableRow<>() : rowFactory.call(view);
+            row.indexProperty().addListener((observable, oldIndex, newIndex) -> rowShown(newIndex.intValue()));
+            return row;
+        });
+        tableView.setItems(this);
+        reload();
+    }
+
+    /**
+     * Loads the neighbouring page if {@code index} is within the prefetch distance of either
+     * end of the loaded rows and no load is running. Called by the rows of the attached table;
+     * other views of the model call it for the rows they show.
+     *
+     * @param index the index of a row now on screen; out-of-range indexes, e.g. of empty rows
+     *              below the last one, are ignored.
+     */
+    public void rowShown(int index) {
+        if (index < 0 || index >= rows.size() || loading.get() || failed) {
+            return;
+        }
+        if (hasAfter && index >= rows.size() - prefetch) {
+            KeysetPager<?, T> source = pager;
+            KeysetCursor after = pages.getLast().last();
+            load(() -> source.pageAfter(after, pageSize), true);
+        } else if (hasBefore && index < prefetch) {
+            KeysetPager<?, T> source = pager;
+            KeysetCursor before = pages.getFirst().first();
+            load(() -> source.pageBefore(before, pageSize), false);
+        }
+    }
+
+    /**
+     * Replaces the row source, e.g. after the search filter changed, and reloads from the top.
+     *
+     * @param newPager the new source of rows.
+     */
+    public void setPager(KeysetPager<?, T> newPager) {
+        this.pager = Objects.requireNonNull(newPager, "newPager");
+        reload();
+    }
+
+    /**
+     * Discards all loaded rows and loads the first page again, also after a failed load.
+     * Pages still in flight from before the reload are ignored when they arrive.
+     */
+    public void reload() {
+        generation++;
+        if (!rows.isEmpty()) {
+            List<T> removed = new ArrayList<>(rows);
+            rows.clear();
+            beginChange();
+            nextRemove(0, removed);
+            endChange();
+        }
+        pages.clear();
+        hasBefore = false;
+        hasAfter = false;
+        failed = false;
+        KeysetPager<?, T> source = pager;
+        load(() -> source.firstPage(pageSize), true);
+    }
+
+    /**
+     * Sets the handler for failed page loads. It runs on the FX thread; the default logs the error.
+     *
+     * @param handler the handler.
+     */
+    public void setOnLoadFailed(Consumer<Throwable> handler) {
+        this.onLoadFailed = Objects.requireNonNull(handler, "handler");
+    }
+
+    /**
+     * @return {@code true} while a page query is running, e.g. to show a progress indicator.
+     */
+    public ReadOnlyBooleanProperty loadingProperty() {
+        return loading.getReadOnlyProperty();
+    }
+
+    @Override
+    public T get(int index) {
+        return rows.get(index);
+    }
+
+    @Override
+    public int size() {
+        return rows.size();
+    }
+
+    private void load(PageQuery<T> query, boolean append) {
+        int requestGeneration = generation;
+        loading.set(true);
+        executor.execute(() -> {
+            try {
+                KeysetPage<T> page = query.fetch();
+                Platform.runLater(() -> {
+                    if (requestGeneration == generation) {
+                        loading.set(false);
+                        if (append) {
+                            append(page);
+                        } else {
+                            prepend(page);
+                        }
+                        visibleRowsShown();
+                    }
+                });
+            } catch (RuntimeException e) {
+                Platform.runLater(() -> {
+                    if (requestGeneration == generation) {
+                        loading.set(false);
+                        failed = true;
+                        onLoadFailed.accept(e);
+                    }
+                });
+            }
+        });
+    }
+
+    private void append(KeysetPage<T> page) {
+        hasAfter = page.more();
+        if (page.isEmpty()) {
+            return;
+        }
+        int firstVisible = firstVisibleIndex();
+        int dropped = 0;
+        if (pages.size() == maxPages) {
+            dropped = pages.removeFirst().size();
+            List<T> removed = new ArrayList<>(rows.subList(0, dropped));
+            rows.subList(0, dropped).clear();
+            beginChange();
+            nextRemove(0, removed);
+            endChange();
+            hasBefore = true;
+        }
+        int from = rows.size();
+        rows.addAll(page.rows());
+        pages.addLast(new LoadedPage(page.first(), page.last(), page.rows().size()));
+        beginChange();
+        nextAdd(from, rows.size());
+        endChange();
+        if (dropped > 0 && firstVisible >= 0) {
+            table.scrollTo(Math.max(0, firstVisible - dropped));
+        }
+    }
+
+    private void prepend(KeysetPage<T> page) {
+        hasBefore = page.more();
+        if (page.isEmpty()) {
+            return;
+        }
+        int firstVisible = firstVisibleIndex();
+        if (pages.size() == maxPages) {
+            int dropped = pages.removeLast().size();
+            int from = rows.size() - dropped;
+            List<T> removed = new ArrayList<>(rows.subList(from, rows.size()));
+            rows.subList(from, rows.size()).clear();
+            beginChange();
+            nextRemove(from, removed);
+            endChange();
+            hasAfter = true;
+        }
+        int added = page.rows().size();
+        rows.addAll(0, page.rows());
+        pages.addFirst(new LoadedPage(page.first(), page.last(), added));
+        beginChange();
+        nextAdd(0, added);
+        endChange();
+        if (firstVisible >= 0) {
+            table.scrollTo(firstVisible + added);
+        }
+    }
+
+    /**
+     * Passes the rows at both ends of the viewport to {@link #rowShown(int)}. Rows already on
+     * screen keep their index when a page lands beside them, e.g. the empty rows below a first
+     * page shorter than the viewport, so they would not report it themselves.
+     */
+    private void visibleRowsShown() {
+        VirtualFlow<?> flow = flow();
+        if (flow == null) {
+            return;
+        }
+        IndexedCell<?> last = flow.getLastVisibleCell();
+        if (last != null) {
+            rowShown(Math.min(last.getIndex(), rows.size() - 1));
+        }
+        IndexedCell<?> first = flow.getFirstVisibleCell();
+        if (first != null) {
+            rowShown(first.getIndex());
+        }
+    }
+
+    /** Index of the topmost row on screen, or -1 if the table is not attached or not yet shown. */
+    private int firstVisibleIndex() {
+        VirtualFlow<?> flow = flow();
+        IndexedCell<?> cell = flow == null ? null : flow.getFirstVisibleCell();
+        return cell == null ? -1 : cell.getIndex();
+    }
+
+    private VirtualFlow<?> flow() {
+        return table != null && table.lookup(".virtual-flow") instanceof VirtualFlow<?> flow ? flow : null;
+    }
+
+    @FunctionalInterface
+    private interface PageQuery<T> {
+        KeysetPage<T> fetch();
+    }
+}
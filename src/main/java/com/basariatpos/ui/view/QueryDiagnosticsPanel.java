@@ -0,0 +1,169 @@
+package com.basariatpos.ui.view;
+
+import com.basariatpos.config.QueryDiagnostics;
+import com.basariatpos.config.QueryStats;
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.collections.FXCollections;
+import javafx.geometry.Insets;
+import javafx.geometry.Orientation;
+import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
+import javafx.scene.control.SplitPane;
+import javafx.scene.control.TableCell;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.control.ToolBar;
+import javafx.scene.control.Tooltip;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.VBox;
+import javafx.util.Duration;
+
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Admin panel listing what {@link QueryDiagnostics} recorded: one row per query shape with its
+ * latency percentiles, rows, mapped bytes and failures, the shapes with the most total time
+ * first, and below it the latest N+1 patterns found.
+ * <p>
+ * The panel takes a snapshot when shown and, while auto refresh is on, every few seconds. It
+ * must be created with {@link #create(QueryDiagnostics)} and used on the JavaFX application
+ * thread; call {@link #stop()} when it is closed.
+ */
+public class QueryDiagnosticsPanel extends BorderPane {
+
+    private static final Duration REFRESH_INTERVAL = Duration.seconds(5);
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm:ss")
+            .withZone(ZoneId.systemDefault());
+
+    private final QueryDiagnostics diagnostics;
+    private final TableView<QueryStats> queries = new TableView<>();
+    private final ListView<String> repeated = new ListView<>();
+    private final Label summary = new Label();
+    private final Timeline autoRefresh = new Timeline();
+
+    private QueryDiagnosticsPanel(QueryDiagnostics diagnostics) {
+        this.diagnostics = diagnostics;
+    }
+
+    /**
+     * Creates the panel and takes the first snapshot.
+     *
+     * @param diagnostics the diagnostics to show, normally
+     *                    {@link com.basariatpos.config.DslContextFactory#diagnostics()}.
+     * @return the panel.
+     */
+    public static QueryDiagnosticsPanel create(QueryDiagnostics diagnostics) {
+        QueryDiagnosticsPanel panel = new QueryDiagnosticsPanel(Objects.requireNonNull(diagnostics, "diagnostics"));
+        // Handlers and children refer to the panel, so they are added once it is constructed
+        panel.build();
+        panel.refresh();
+        return panel;
+    }
+
+    private void build() {
+        autoRefresh.getKeyFrames().add(new KeyFrame(REFRESH_INTERVAL, event -> refresh()));
+        Button refreshButton = new Button("Refresh");
+        refreshButton.setOnAction(event -> refresh());
+        Button resetButton = new Button("Reset");
+        resetButton.setTooltip(new Tooltip("Forget all recorded queries"));
+        resetButton.setOnAction(event -> {
+            diagnostics.reset();
+            refresh();
+        });
+        CheckBox autoRefreshBox = new CheckBox("Auto refresh");
+        autoRefreshBox.selectedProperty().addListener((observable, wasOn, on) -> {
+            if (on) {
+                autoRefresh.play();
+            } else {
+                autoRefresh.stop();
+            }
+        });
+        autoRefresh.setCycleCount(Animation.INDEFINITE);
+        setTop(new ToolBar(refreshButton, resetButton, autoRefreshBox, summary));
+
+        TableColumn<QueryStats, String> sql = textColumn("Query", QueryStats::sql);
+        sql.setPrefWidth(420);
+        sql.setCellFactory(column -> new TableCell<>() {
+            @Override
+            protected void updateItem(String item, boolean empty) {
+                super.updateItem(item, empty);
+                setText(empty ? null : item);
+                setTooltip(empty ? null : new Tooltip(item));
+            }
+        });
+        queries.getColumns().add(sql);
+        queries.getColumns().add(numberColumn("Count", QueryStats::count));
+        queries.getColumns().add(millisColumn("Total ms", QueryStats::totalNanos));
+        queries.getColumns().add(millisColumn("p50 ms", QueryStats::p50Nanos));
+        queries.getColumns().add(millisColumn("p95 ms", QueryStats::p95Nanos));
+        queries.getColumns().add(millisColumn("p99 ms", QueryStats::p99Nanos));
+        queries.getColumns().add(millisColumn("Max ms", QueryStats::maxNanos));
+        queries.getColumns().add(numberColumn("Rows", QueryStats::rows));
+        queries.getColumns().add(numberColumn("KB", stats -> stats.bytesMapped() / 1024));
+        queries.getColumns().add(numberColumn("Failures", QueryStats::failures));
+        queries.getColumns().add(numberColumn("N+1", QueryStats::repeatedInAction));
+        queries.setPlaceholder(new Label("No queries recorded yet"));
+
+        repeated.setPlaceholder(new Label("No N+1 patterns found"));
+        VBox repeatedBox = new VBox(4, new Label("Queries repeated within one action (N+1)"), repeated);
+        repeatedBox.setPadding(new Insets(4));
+
+        SplitPane split = new SplitPane(queries, repeatedBox);
+        split.setOrientation(Orientation.VERTICAL);
+        split.setDividerPositions(0.7);
+        setCenter(split);
+    }
+
+    /**
+     * Takes a new snapshot of the diagnostics, keeping the table's sort order.
+     */
+    public void refresh() {
+        List<QueryStats> stats = diagnostics.snapshot();
+        queries.getItems().setAll(stats);
+        queries.sort();
+        repeated.setItems(FXCollections.observableArrayList(diagnostics.repeatedQueries().stream()
+                .map(query -> String.format("%s  %s: %d x %s", TIME.format(query.at()), query.action(),
+                        query.executions(), query.sql()))
+                .toList()));
+        long executions = stats.stream().mapToLong(QueryStats::count).sum();
+        summary.setText(String.format("%d shapes, %d executions", stats.size(), executions));
+    }
+
+    /**
+     * Stops the auto refresh; call when the panel is closed.
+     */
+    public void stop() {
+        autoRefresh.stop();
+    }
+
+    private static TableColumn<QueryStats, String> textColumn(String title, Function<QueryStats, String> value) {
+        TableColumn<QueryStats, String> column = new TableColumn<>(title);
+        column.setCellValueFactory(cell -> new ReadOnlyStringWrapper(value.apply(cell.getValue())));
+        return column;
+    }
+
+    private static TableColumn<QueryStats, Long> numberColumn(String title, Function<QueryStats, Long> value) {
+        TableColumn<QueryStats, Long> column = new TableColumn<>(title);
+        column.setCellValueFactory(cell -> new ReadOnlyObjectWrapper<>(value.apply(cell.getValue())));
+        column.setStyle("-fx-alignment: CENTER-RIGHT;");
+        return column;
+    }
+
+    private static TableColumn<QueryStats, Double> millisColumn(String title, Function<QueryStats, Long> nanos) {
+        TableColumn<QueryStats, Double> column = new TableColumn<>(title);
+        column.setCellValueFactory(cell ->
+                new ReadOnlyObjectWrapper<>(Math.round(nanos.apply(cell.getValue()) / 10_000d) / 100d));
+        column.setStyle("-fx-alignment: CENTER-RIGHT;");
+        return column;
+    }
+}
@@ -0,0 +1,125 @@
+package com.basariatpos.util;
+
+import java.util.Locale;
+
+/**
+ * Normalizes names and phone numbers for searching, so that spelling variants common in
+ * Arabic input match each other: "أحمد", "احمد" and "أَحْمَد" all become "احمد".
+ * <p>
+ * The rules mirror the database functions {@code normalize_search_text} and
+ * {@code normalize_phone} (migration V7) that the patient search indexes are built on;
+ * a change here must be made there too, or searches will stop using the indexes correctly.
+ */
+public final class ArabicTextNormalizer {
+
+    private ArabicTextNormalizer() {
+    }
+
+    /**
+     * Normalizes free text for searching: lower case; Arabic diacritics (U+064B to U+0652,
+     * U+0670) and tatweel removed; alef with hamza or madda and alef wasla folded to bare
+     * alef; alef maqsura folded to yaa; taa marbuta folded to haa; Arabic-Indic and Persian
+     * digits replaced by ASCII digits; runs of whitespace collapsed to one space and trimmed.
+     *
+     * @param text the text, may be {@code null}.
+     * @return the normalized text, or {@code null} if {@code text} is {@code null}.
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return null;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(lower.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = sb.length() > 0;
+                continue;
+            }
+            char mapped = fold(c);
+            if (mapped == 0) {
+                continue;
+            }
+            if (pendingSpace) {
+                sb.append(' ');
+                pendingSpace = false;
+            }
+            sb.append(mapped);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Extracts the digits of a phone number, converting Arabic-Indic and Persian digits
+     * to ASCII and dropping everything else ("+٩٦٤ 770-123" becomes "964770123").
+     *
+     * @param phone the phone number or partial number, may be {@code null}.
+     * @return the digits, or {@code null} if {@code phone} is {@code null}.
+     */
+    public static String normalizePhone(String phone) {
+        if (phone == null) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder(phone.length());
+        for (int i = 0; i < phone.length(); i++) {
+            char digit = asciiDigit(phone.charAt(i));
+            if (digit != 0) {
+                sb.append(digit);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Checks whether text looks like (part of) a phone number: at least one digit and no
+     * letters.
+     *
+     * @param text the search text, may be {@code null}.
+     * @return {@code true} if the text only contains digits, spaces and phone punctuation.
+     */
+    public static boolean isPhoneQuery(String text) {
+        if (text == null) {
+            return false;
+        }
+        boolean digit = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (asciiDigit(c) != 0) {
+                digit = true;
+            } else if (Character.isLetter(c)) {
+                return false;
+            }
+        }
+        return digit;
+    }
+
+    /** Returns the folded form of {@code c}, or 0 if it is dropped. */
+    private static char fold(char c) {
+        char digit = asciiDigit(c);
+        if (digit != 0) {
+            return digit;
+        }
+        return switch (c) {
+            case '\u0623', '\u0625', '\u0622', '\u0671' -> '\u0627'; // alef with hamza above/below, madda, wasla -> alef
+            case '\u0649' -> '\u064A'; // alef maqsura -> yaa
+            case '\u0629' -> '\u0647'; // taa marbuta -> haa
+            case '\u0640', '\u0670' -> 0; // tatweel, superscript alef
+            default -> (c >= '\u064B' && c <= '\u0652') ? 0 : c; // tanwin, harakat, shadda, sukun
+        };
+    }
+
+    /** Returns the ASCII form of an ASCII, Arabic-Indic or Persian digit, or 0 for other characters. */
+    private static char asciiDigit(char c) {
+        if (c >= '0' && c <= '9') {
+            return c;
+        }
+        if (c >= '\u0660' && c <= '\u0669') { // Arabic-Indic
+            return (char) ('0' + (c - '\u0660'));
+        }
+        if (c >= '\u06F0' && c <= '\u06F9') { // Persian
+            return (char) ('0' + (c - '\u06F0'));
+        }
+        return 0;
+    }
+}
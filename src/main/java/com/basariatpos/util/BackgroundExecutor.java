@@ -0,0 +1,513 @@
+package com.basariatpos.util;
+
+import com.basariatpos.config.DslContextFactory;
+import com.basariatpos.config.QueryDiagnostics;
+import javafx.concurrent.Task;
+import org.jooq.Query;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.ResultQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs database work off the JavaFX application thread, one virtual thread per task.
+ * <p>
+ * Virtual threads make a blocked task cheap, so tasks are never queued behind each other
+ * here; how many reach the database at once is bounded by the connection pool, whose
+ * checkout waits park the virtual thread rather than a platform thread.
+ * <p>
+ * Work comes in three shapes:
+ * <ul>
+ *   <li>{@link #submit(String, Callable)} and {@link #submitCancellable(String, CancellableWork)}
+ *       return a {@link CompletableFuture} that completes on the background thread; deliver
+ *       results to the screen with e.g. {@code thenAcceptAsync(..., Platform::runLater)}.</li>
+ *   <li>{@link #submitLatest(Object, String, CancellableWork)} coalesces requests per key, e.g.
+ *       one key per screen's search box: a new request cancels the previous one, so only the
+ *       latest runs to the end.</li>
+ *   <li>{@link #start(String, CancellableWork)} returns a running {@link Task} for binding
+ *       progress indicators and handlers in controllers.</li>
+ * </ul>
+ * Housekeeping such as releasing lapsed stock reservations runs periodically with
+ * {@link #scheduleWithFixedDelay(String, Duration, Callable)}, as background tasks like any other.
+ * Cancelling a task never interrupts its thread, which would close the socket of the pooled
+ * connection it is using. Queries run through the task's {@link CancellationScope} are
+ * cancelled on the server instead; other work runs to the end and its result is dropped.
+ * <p>
+ * The duration of every task is recorded per operation name; see {@link #latencies()}. Each task
+ * is also a {@link QueryDiagnostics#action(String) diagnostics action}, so a task that runs the
+ * same query over and over is reported as an N+1 pattern.
+ */
+public final class BackgroundExecutor implements Executor, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(BackgroundExecutor.class);
+
+    /** Operation name of tasks handed to {@link #execute(Runnable)}. */
+    public static final String UNNAMED_OPERATION = "unnamed";
+
+    /** Pause between attempts to cancel a query that has not reached the server yet. */
+    private static final long CANCEL_RETRY_MILLIS = 50;
+
+    private final ExecutorService threads = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("background-", 0).factory());
+    private final ConcurrentMap<String, LatencyRecorder> latencies = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Object, CompletableFuture<?>> latestByKey = new ConcurrentHashMap<>();
+    /** Only hands periodic work over to {@link #threads} when it is due. */
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("background-timer").daemon(true).factory());
+    private final QueryDiagnostics diagnostics;
+
+    /**
+     * Creates an executor whose tasks report to {@link DslContextFactory#diagnostics()}.
+     */
+    public BackgroundExecutor() {
+        this(DslContextFactory.diagnostics());
+    }
+
+    /**
+     * @param diagnostics counts the queries of each task, named by its operation.
+     */
+    public BackgroundExecutor(QueryDiagnostics diagnostics) {
+        this.diagnostics = Objects.requireNonNull(diagnostics, "diagnostics");
+    }
+
+    /**
+     * Work that can have its queries cancelled.
+     *
+     * @param <T> the result type.
+     */
+    @FunctionalInterface
+    public interface CancellableWork<T> {
+
+        /**
+         * @param scope runs queries so that cancelling the task cancels them on the server.
+         * @return the result.
+         * @throws Exception if the work fails.
+         */
+        T call(CancellationScope scope) throws Exception;
+    }
+
+    /**
+     * Handed to {@link CancellableWork}: tells whether the task was cancelled and runs the
+     * queries that a cancellation should stop. A query cancelled on the server fails with
+     * SQL state {@code 57014}; the task then ends as cancelled, not failed.
+     */
+    public interface CancellationScope {
+
+        /**
+         * @return {@code true} once the task has been cancelled; long loops should stop.
+         */
+        boolean isCancelled();
+
+        /**
+         * Fetches a query, cancelling it on the server if the task is cancelled meanwhile.
+         *
+         * @param query the query to fetch.
+         * @param <R>   the record type.
+         * @return the result.
+         * @throws CancellationException if the task was cancelled before the query started.
+         */
+        <R extends Record> Result<R> fetch(ResultQuery<R> query);
+
+        /**
+         * Executes a statement, cancelling it on the server if the task is cancelled meanwhile.
+         *
+         * @param query the statement to execute.
+         * @return the number of rows affected.
+         * @throws CancellationException if the task was cancelled before the statement started.
+         */
+        int execute(Query query);
+    }
+
+    /**
+     * Runs a command as an {@link #UNNAMED_OPERATION}, for code written against {@link Executor}.
+     * Failures are logged, since there is nobody else to report them to.
+     *
+     * @throws RejectedExecutionException if the executor has been closed.
+     */
+    @Override
+    public void execute(Runnable command) {
+        Objects.requireNonNull(command, "command");
+        submit(UNNAMED_OPERATION, Executors.callable(command)).whenComplete((result, failure) -> {
+            if (failure != null && !(failure instanceof CancellationException)) {
+                logger.warn("Background task failed", failure);
+            }
+        });
+    }
+
+    /**
+     * Runs work on a virtual thread. Cancelling the returned future before the work starts
+     * skips it; afterwards the work runs to the end and its result is dropped.
+     *
+     * @param operation the name the duration is recorded under, e.g. {@code "endShift"}.
+     * @param work      the work.
+     * @param <T>       the result type.
+     * @return the result, completed on the background thread.
+     * @throws RejectedExecutionException if the executor has been closed.
+     */
+    public <T> CompletableFuture<T> submit(String operation, Callable<T> work) {
+        Objects.requireNonNull(work, "work");
+        return submitCancellable(operation, scope -> work.call());
+    }
+
+    /**
+     * Runs work on a virtual thread. Cancelling the returned future skips work that has not
+     * started and cancels the query the work is running through its scope.
+     *
+     * @param operation the name the duration is recorded under.
+     * @param work      the work.
+     * @param <T>       the result type.
+     * @return the result, completed on the background thread.
+     * @throws RejectedExecutionException if the executor has been closed.
+     */
+    public <T> CompletableFuture<T> submitCancellable(String operation, CancellableWork<T> work) {
+        FutureJob<T> job = new FutureJob<>(operation, work);
+        threads.execute(job);
+        return job.future;
+    }
+
+    /**
+     * Runs work in place of the previous work submitted with the same key, which is cancelled
+     * as by {@link #submitCancellable(String, CancellableWork)}. Use one key per screen and
+     * purpose, e.g. the controller of a search box, so that only the latest search runs.
+     *
+     * @param key       identifies the requests that replace each other.
+     * @param operation the name the duration is recorded under.
+     * @param work      the work.
+     * @param <T>       the result type.
+     * @return the result, completed on the background thread; cancelled if superseded.
+     * @throws RejectedExecutionException if the executor has been closed.
+     */
+    public <T> CompletableFuture<T> submitLatest(Object key, String operation, CancellableWork<T> work) {
+        Objects.requireNonNull(key, "key");
+        FutureJob<T> job = new FutureJob<>(operation, work);
+        CompletableFuture<?> previous = latestByKey.put(key, job.future);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+        job.future.whenComplete((result, failure) -> latestByKey.remove(key, job.future));
+        threads.execute(job);
+        return job.future;
+    }
+
+    /**
+     * Starts work as a JavaFX {@link Task}, for binding {@code runningProperty()} or
+     * {@code setOnSucceeded} in a controller. Call it on the application thread; handlers set
+     * right after it returns are in place before the task reports its outcome. Cancelling the
+     * task cancels its running query as above, without interrupting the thread.
+     *
+     * @param operation the name the duration is recorded under.
+     * @param work      the work.
+     * @param <T>       the result type.
+     * @return the running task.
+     * @throws RejectedExecutionException if the executor has been closed.
+     */
+    public <T> Task<T> start(String operation, CancellableWork<T> work) {
+        FxTask<T> task = new FxTask<>(operation, work);
+        threads.execute(task);
+        return task;
+    }
+
+    /**
+     * Runs work now and then again each time {@code delay} has passed since the previous run
+     * ended, until the returned future is cancelled or the executor is closed. Each run is a
+     * task as by {@link #submit(String, Callable)}; a failed run is logged and the next one runs
+     * on schedule.
+     *
+     * @param operation the name the duration of each run is recorded under.
+     * @param delay     the pause between the end of a run and the start of the next.
+     * @param work      the work.
+     * @return a future that never completes normally; cancel it to stop the runs.
+     * @throws IllegalArgumentException if {@code delay} is not positive.
+     * @throws RejectedExecutionException if the executor has been closed.
+     */
+    public CompletableFuture<Void> scheduleWithFixedDelay(String operation, Duration delay, Callable<?> work) {
+        Objects.requireNonNull(operation, "operation");
+        Objects.requireNonNull(delay, "delay");
+        Objects.requireNonNull(work, "work");
+        if (delay.isNegative() || delay.isZero()) {
+            throw new IllegalArgumentException("Delay must be positive: " + delay);
+        }
+        CompletableFuture<Void> schedule = new CompletableFuture<>();
+        runScheduled(schedule, operation, delay, work);
+        return schedule;
+    }
+
+    /**
+     * @return a snapshot of the latency histogram of every operation run so far, by name.
+     */
+    public Map<String, OperationLatency> latencies() {
+        Map<String, OperationLatency> snapshot = new TreeMap<>();
+        latencies.forEach((operation, recorder) -> snapshot.put(operation, recorder.snapshot(operation)));
+        return snapshot;
+    }
+
+    /**
+     * Cancels pending coalesced requests and stops accepting work. Running tasks are
+     * interrupted, which is acceptable only because the application is shutting down.
+     */
+    @Override
+    public void close() {
+        latestByKey.values().forEach(future -> future.cancel(false));
+        timer.shutdownNow();
+        threads.shutdownNow();
+        logger.debug("Background executor closed. Latencies: {}", latencies().values());
+    }
+
+    private void runScheduled(CompletableFuture<Void> schedule, String operation, Duration delay, Callable<?> work) {
+        if (schedule.isDone()) {
+            return;
+        }
+        submit(operation, work).whenComplete((result, failure) -> {
+            if (failure != null && !(failure instanceof CancellationException)) {
+                logger.warn("Scheduled background {} failed", operation, failure);
+            }
+            if (schedule.isDone()) {
+                return;
+            }
+            try {
+                timer.schedule(() -> {
+                    try {
+                        runScheduled(schedule, operation, delay, work);
+                    } catch (RejectedExecutionException e) {
+                        schedule.cancel(false);
+                    }
+                }, delay.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                schedule.cancel(false);
+            }
+        });
+    }
+
+    private LatencyRecorder recorder(String operation) {
+        return latencies.computeIfAbsent(operation, name -> new LatencyRecorder());
+    }
+
+    /** A task's work together with the query it is running, so a cancellation can reach it. */
+    private abstract class Job<T> implements CancellationScope {
+
+        private final String operation;
+        private final CancellableWork<T> work;
+        private Query running; // guarded by this
+
+        Job(String operation, CancellableWork<T> work) {
+            this.operation = Objects.requireNonNull(operation, "operation");
+            this.work = Objects.requireNonNull(work, "work");
+        }
+
+        /** Runs the work and records its duration; throws CancellationException if cancelled. */
+        T invoke() throws Exception {
+            if (isCancelled()) {
+                throw new CancellationException();
+            }
+            LatencyRecorder recorder = recorder(operation);
+            long started = System.nanoTime();
+            QueryDiagnostics.Action action = diagnostics.action(operation);
+            try {
+                T result = work.call(this);
+                recorder.record(System.nanoTime() - started, false);
+                return result;
+            } catch (Exception e) {
+                if (isCancelled()) {
+                    recorder.cancelled();
+                    logger.trace("Background {} cancelled: {}", operation, e.toString());
+                    throw new CancellationException();
+                }
+                recorder.record(System.nanoTime() - started, true);
+                throw e;
+            } finally {
+                action.close();
+            }
+        }
+
+        @Override
+        public <R extends Record> Result<R> fetch(ResultQuery<R> query) {
+            track(query);
+            try {
+                return query.fetch();
+            } finally {
+                untrack(query);
+            }
+        }
+
+        @Override
+        public int execute(Query query) {
+            track(query);
+            try {
+                return query.execute();
+            } finally {
+                untrack(query);
+            }
+        }
+
+        private synchronized void track(Query query) {
+            if (isCancelled()) {
+                throw new CancellationException();
+            }
+            running = query;
+        }
+
+        private synchronized void untrack(Query query) {
+            if (running == query) {
+                running = null;
+            }
+        }
+
+        void cancelRunning() {
+            Query query;
+            synchronized (this) {
+                query = running;
+            }
+            if (query == null) {
+                return;
+            }
+            // Cancelling opens a separate connection to the server; keep it off the caller's thread.
+            // A query still waiting for its connection has no statement to cancel yet, so repeat
+            // until it ends.
+            try {
+                threads.execute(() -> {
+                    try {
+                        while (isRunning(query)) {
+                            query.cancel();
+                            Thread.sleep(CANCEL_RETRY_MILLIS);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } catch (RuntimeException e) {
+                        logger.debug("Could not cancel {} query", operation, e);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                logger.trace("Executor closed; {} query not cancelled", operation);
+            }
+        }
+
+        private synchronized boolean isRunning(Query query) {
+            return running == query;
+        }
+    }
+
+    private final class FutureJob<T> extends Job<T> implements Runnable {
+
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        FutureJob(String operation, CancellableWork<T> work) {
+            super(operation, work);
+            future.whenComplete((result, failure) -> {
+                if (future.isCancelled()) {
+                    cancelRunning();
+                }
+            });
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return future.isCancelled();
+        }
+
+        @Override
+        public void run() {
+            if (future.isDone()) {
+                return;
+            }
+            try {
+                future.complete(invoke());
+            } catch (CancellationException e) {
+                future.cancel(false);
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private final class FxTask<T> extends Task<T> {
+
+        private final Job<T> job;
+
+        FxTask(String operation, CancellableWork<T> work) {
+            job = new Job<>(operation, work) {
+                @Override
+                public boolean isCancelled() {
+                    return FxTask.this.isCancelled();
+                }
+            };
+        }
+
+        @Override
+        protected T call() throws Exception {
+            return job.invoke();
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(false);
+            if (cancelled) {
+                job.cancelRunning();
+            }
+            return cancelled;
+        }
+    }
+
+    /** Lock-free counters behind one {@link OperationLatency}. */
+    private static final class LatencyRecorder {
+
+        private static final List<Long> BOUNDS_NANOS = OperationLatency.BUCKET_UPPER_BOUNDS_MILLIS.stream()
+                .map(millis -> millis * 1_000_000)
+                .toList();
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder cancellations = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLongArray buckets = new AtomicLongArray(BOUNDS_NANOS.size() + 1);
+
+        void record(long nanos, boolean failed) {
+            count.increment();
+            if (failed) {
+                failures.increment();
+            }
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            int bucket = 0;
+            while (bucket < BOUNDS_NANOS.size() && nanos > BOUNDS_NANOS.get(bucket)) {
+                bucket++;
+            }
+            buckets.incrementAndGet(bucket);
+        }
+
+        void cancelled() {
+            cancellations.increment();
+        }
+
+        OperationLatency snapshot(String operation) {
+            List<Long> counts = new ArrayList<>(buckets.length());
+            for (int i = 0; i < buckets.length(); i++) {
+                counts.add(buckets.get(i));
+            }
+            return new OperationLatency(operation, count.sum(), failures.sum(), cancellations.sum(),
+                    totalNanos.sum(), maxNanos.get(), counts);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.basariatpos.util;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * A point-in-time latency histogram of one kind of {@link BackgroundExecutor} operation, e.g.
+ * {@code "patientSearch"} or {@code "endShift"}. Durations are measured from the start of the
+ * work to its end, without the time spent waiting to start.
+ *
+ * @param operation     the operation name.
+ * @param count         operations that ran to the end, successfully or not.
+ * @param failures      of those, operations that threw.
+ * @param cancellations operations cancelled while running; not part of the histogram.
+ * @param totalNanos    the accumulated duration of the counted operations.
+ * @param maxNanos      the longest single duration.
+ * @param bucketCounts  counted operations per bucket: one per bound of
+ *                      {@link #BUCKET_UPPER_BOUNDS_MILLIS}, then one for longer durations.
+ */
+public record OperationLatency(String operation, long count, long failures, long cancellations,
+                               long totalNanos, long maxNanos, List<Long> bucketCounts) {
+
+    /** Inclusive upper bounds of the histogram buckets, in milliseconds. */
+    public static final List<Long> BUCKET_UPPER_BOUNDS_MILLIS =
+            List.of(1L, 2L, 5L, 10L, 20L, 50L, 100L, 200L, 500L, 1_000L, 2_000L, 5_000L, 10_000L);
+
+    public OperationLatency {
+        bucketCounts = List.copyOf(bucketCounts);
+    }
+
+    /**
+     * @return the mean duration, or zero before the first operation.
+     */
+    public Duration mean() {
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos / count);
+    }
+
+    /**
+     * @return the longest single duration.
+     */
+    public Duration max() {
+        return Duration.ofNanos(maxNanos);
+    }
+
+    /**
+     * Estimates a percentile as the upper bound of the bucket it falls in, so that "p95 under
+     * 200 ms" can be read off directly; the estimate never exceeds the maximum.
+     *
+     * @param percentile the percentile, from 0 (exclusive) to 100 (inclusive), e.g. 95.
+     * @return the estimate, or zero before the first operation.
+     * @throws IllegalArgumentException if the percentile is out of range.
+     */
+    public Duration percentile(double percentile) {
+        if (!(percentile > 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("Percentile must be in (0, 100]: " + percentile);
+        }
+        if (count == 0) {
+            return Duration.ZERO;
+        }
+        long rank = (long) Math.ceil(count * percentile / 100);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_UPPER_BOUNDS_MILLIS.size(); i++) {
+            seen += bucketCounts.get(i);
+            if (seen >= rank) {
+                Duration bound = Duration.ofMillis(BUCKET_UPPER_BOUNDS_MILLIS.get(i));
+                return bound.compareTo(max()) < 0 ? bound : max();
+            }
+        }
+        return max();
+    }
+}
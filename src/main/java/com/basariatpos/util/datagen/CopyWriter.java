@@ -0,0 +1,122 @@
+package com.basariatpos.util.datagen;
+
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.temporal.TemporalAccessor;
+
+/**
+ * Streams rows into one table with {@code COPY ... FROM STDIN} in PostgreSQL's text format.
+ * <p>
+ * Rows are encoded into a buffer that is handed to the driver whenever it fills up, so
+ * memory use does not grow with the number of rows. Only one COPY can be in progress on a
+ * connection; {@link #finish()} must be called before the next writer is opened.
+ */
+final class CopyWriter {
+
+    private static final int BUFFER_SIZE = 256 * 1024;
+
+    private final CopyIn copy;
+    private final StringBuilder row = new StringBuilder(256);
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int buffered;
+    private boolean firstField = true;
+
+    private CopyWriter(CopyIn copy) {
+        this.copy = copy;
+    }
+
+    /**
+     * Starts a COPY into the given columns.
+     *
+     * @param copyManager the driver's COPY API for the connection.
+     * @param table       the table name.
+     * @param columns     the columns, in the order values will be added.
+     * @return the writer.
+     * @throws SQLException if the server rejects the COPY statement.
+     */
+    static CopyWriter open(CopyManager copyManager, String table, String... columns) throws SQLException {
+        String sql = "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN";
+        return new CopyWriter(copyManager.copyIn(sql));
+    }
+
+    /**
+     * Appends the next field of the current row. {@code null} becomes SQL NULL; numbers,
+     * booleans and {@code java.time} values use their {@code toString()} form, which
+     * PostgreSQL accepts as input.
+     *
+     * @param value the field value.
+     * @return this writer.
+     */
+    CopyWriter add(Object value) {
+        if (!firstField) {
+            row.append('\t');
+        }
+        firstField = false;
+        if (value == null) {
+            row.append("\\N");
+        } else if (value instanceof BigDecimal decimal) {
+            row.append(decimal.toPlainString());
+        } else if (value instanceof Number || value instanceof Boolean || value instanceof TemporalAccessor) {
+            row.append(value);
+        } else {
+            appendEscaped(value.toString());
+        }
+        return this;
+    }
+
+    /**
+     * Ends the current row.
+     *
+     * @throws SQLException if the buffered data could not be sent.
+     */
+    void endRow() throws SQLException {
+        row.append('\n');
+        byte[] bytes = row.toString().getBytes(StandardCharsets.UTF_8);
+        row.setLength(0);
+        firstField = true;
+        if (buffered + bytes.length > buffer.length) {
+            flush();
+        }
+        if (bytes.length > buffer.length) {
+            copy.writeToCopy(bytes, 0, bytes.length);
+        } else {
+            System.arraycopy(bytes, 0, buffer, buffered, bytes.length);
+            buffered += bytes.length;
+        }
+    }
+
+    /**
+     * Sends the remaining rows and completes the COPY.
+     *
+     * @return the number of rows the server loaded.
+     * @throws SQLException if the server rejected a row; the whole COPY is then void.
+     */
+    long finish() throws SQLException {
+        flush();
+        return copy.endCopy();
+    }
+
+    private void flush() throws SQLException {
+        if (buffered > 0) {
+            copy.writeToCopy(buffer, 0, buffered);
+            buffered = 0;
+        }
+    }
+
+    private void appendEscaped(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\' -> row.append("\\\\");
+                case '\t' -> row.append("\\t");
+                case '\n' -> row.append("\\n");
+                case '\r' -> row.append("\\r");
+                default -> row.append(c);
+            }
+        }
+    }
+}
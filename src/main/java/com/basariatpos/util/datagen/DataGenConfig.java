@@ -0,0 +1,96 @@
+package com.basariatpos.util.datagen;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * Volumes and randomness for {@link SyntheticDataGenerator}.
+ * <p>
+ * The same configuration always produces the same rows, so a dataset can be recreated on
+ * another machine from its settings alone. {@code lastDay} and {@code zone} are part of that
+ * configuration; only the generated IDs depend on what the database already contains.
+ *
+ * @param patients        number of patients; each gets zero to three optical diagnostics.
+ * @param products        number of stock products; five service products are added on top.
+ * @param inventoryItems  number of stock items, spread over the stock products.
+ * @param baseStock       stock every item opens with on top of a random 0 to 200, e.g. so that
+ *                        load tests selling from the catalog never run out.
+ * @param cashiers        number of cashier accounts that run the shifts.
+ * @param days            length of the generated history in days.
+ * @param shiftsPerDay    number of consecutive shifts per day, 1 to 4.
+ * @param salesOrders     number of sales orders, spread evenly over all shifts.
+ * @param expensesPerDay  number of expenses per day.
+ * @param lastDay         the last day of the history.
+ * @param zone            the time zone the shop's opening hours are in.
+ * @param seed            the random seed.
+ */
+public record DataGenConfig(int patients, int products, int inventoryItems, int baseStock, int cashiers,
+                            int days, int shiftsPerDay, int salesOrders, int expensesPerDay,
+                            LocalDate lastDay, ZoneId zone, long seed) {
+
+    public DataGenConfig {
+        Objects.requireNonNull(lastDay, "lastDay");
+        Objects.requireNonNull(zone, "zone");
+        if (patients < 1 || products < 1 || inventoryItems < 1 || cashiers < 1 || days < 1) {
+            throw new IllegalArgumentException("patients, products, inventoryItems, cashiers and days must be at least 1");
+        }
+        if (shiftsPerDay < 1 || shiftsPerDay > 4) {
+            throw new IllegalArgumentException("shiftsPerDay must be between 1 and 4, was " + shiftsPerDay);
+        }
+        if (baseStock < 0 || salesOrders < 0 || expensesPerDay < 0) {
+            throw new IllegalArgumentException("baseStock, salesOrders and expensesPerDay must not be negative");
+        }
+    }
+
+    /**
+     * Reads the configuration from properties. Recognised keys, with their defaults, are
+     * {@code datagen.patients} (100000), {@code datagen.products} (300),
+     * {@code datagen.inventoryItems} (3000), {@code datagen.baseStock} (0), {@code datagen.cashiers} (6),
+     * {@code datagen.days} (730), {@code datagen.shiftsPerDay} (2),
+     * {@code datagen.salesOrders} (500000), {@code datagen.expensesPerDay} (4),
+     * {@code datagen.lastDay} (yesterday), {@code datagen.zone} (the system zone) and
+     * {@code datagen.seed} (1). The defaults give roughly 2.5 million rows.
+     *
+     * @param properties the properties.
+     * @return the configuration.
+     * @throws IllegalArgumentException if a value is invalid.
+     */
+    public static DataGenConfig fromProperties(Properties properties) {
+        ZoneId zone = ZoneId.of(properties.getProperty("datagen.zone", ZoneId.systemDefault().getId()).trim());
+        String lastDay = properties.getProperty("datagen.lastDay");
+        return new DataGenConfig(
+                intProperty(properties, "datagen.patients", 100_000),
+                intProperty(properties, "datagen.products", 300),
+                intProperty(properties, "datagen.inventoryItems", 3_000),
+                intProperty(properties, "datagen.baseStock", 0),
+                intProperty(properties, "datagen.cashiers", 6),
+                intProperty(properties, "datagen.days", 730),
+                intProperty(properties, "datagen.shiftsPerDay", 2),
+                intProperty(properties, "datagen.salesOrders", 500_000),
+                intProperty(properties, "datagen.expensesPerDay", 4),
+                lastDay == null ? LocalDate.now(zone).minusDays(1) : LocalDate.parse(lastDay.trim()),
+                zone,
+                Long.parseLong(properties.getProperty("datagen.seed", "1").trim()));
+    }
+
+    /**
+     * @return the total number of shifts in the history.
+     */
+    public int shifts() {
+        return days * shiftsPerDay;
+    }
+
+    /**
+     * @return the first day of the history.
+     */
+    public LocalDate firstDay() {
+        return lastDay.minusDays(days - 1L);
+    }
+
+    private static int intProperty(Properties properties, String key, int defaultValue) {
+        String value = properties.getProperty(key);
+        return value == null ? defaultValue : Integer.parseInt(value.trim().replace("_", ""));
+    }
+}
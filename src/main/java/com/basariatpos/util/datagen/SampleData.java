@@ -0,0 +1,61 @@
+package com.basariatpos.util.datagen;
+
+import java.util.SplittableRandom;
+
+/**
+ * Word lists the generator draws names and descriptions from.
+ */
+final class SampleData {
+
+    static final String[] ARABIC_MALE_NAMES = {
+            "محمد", "أحمد", "علي", "عمر", "خالد", "يوسف", "إبراهيم", "حسن",
+            "حسين", "عبد الله", "عبد الرحمن", "سامي", "طارق", "ماجد", "فيصل", "زياد",
+            "مصطفى", "بلال", "حمزة", "أنس", "رامي", "وليد", "نبيل", "صالح"
+    };
+
+    static final String[] ARABIC_FEMALE_NAMES = {
+            "فاطمة", "مريم", "عائشة", "زينب", "سارة", "نور", "ليلى", "هدى",
+            "رنا", "دانة", "ريم", "سلمى", "آمنة", "خديجة", "رغد", "لمى",
+            "جنى", "هبة", "أسماء", "منى", "يارا", "رزان", "شهد", "إيمان"
+    };
+
+    static final String[] ARABIC_FAMILY_NAMES = {
+            "العلي", "الحسن", "الخطيب", "الحداد", "المنصور", "الصالح", "النجار", "الشامي",
+            "العمري", "الزعبي", "القاسم", "الرفاعي", "التميمي", "الحلبي", "المصري", "السوداني",
+            "العبد الله", "الأحمد", "الخليل", "البدوي", "الكردي", "الجابري", "الدباغ", "الطحان"
+    };
+
+    static final String[] ENGLISH_FIRST_NAMES = {
+            "Omar", "Sara", "Yousef", "Layla", "Hassan", "Nour", "Adam", "Lina",
+            "Karim", "Maya", "Sami", "Dina", "John", "Emma", "David", "Sophia"
+    };
+
+    static final String[] ENGLISH_LAST_NAMES = {
+            "Haddad", "Khoury", "Mansour", "Saleh", "Nasser", "Farah", "Aziz", "Hamdan",
+            "Smith", "Brown", "Taylor", "Wilson", "Said", "Rahman", "Karam", "Bishara", "Al-Khatib"
+    };
+
+    static final String[] BRANDS = {
+            "Ray-Ban", "Oakley", "Essilor", "Zeiss", "Hoya", "Rodenstock", "Silhouette", "Carrera",
+            "Police", "Vogue", "Prada", "Gucci", "Tom Ford", "Bausch & Lomb", "Acuvue", "Alcon"
+    };
+
+    static final String[] COLORS_EN = {"Black", "Brown", "Gold", "Silver", "Blue", "Tortoise", "Red", "Clear"};
+
+    static final String[] COLORS_AR = {"أسود", "بني", "ذهبي", "فضي", "أزرق", "صدفي", "أحمر", "شفاف"};
+
+    static final String[] MATERIALS = {"Acetate", "Metal", "Titanium", "TR90", "Polycarbonate", "CR-39"};
+
+    static final String[] SERVICES_EN = {"Eye Examination", "Frame Repair", "Lens Fitting", "Contact Lens Fitting", "Ultrasonic Cleaning"};
+
+    static final String[] SERVICES_AR = {"فحص نظر", "إصلاح إطار", "تركيب عدسات", "تركيب عدسات لاصقة", "تنظيف بالموجات"};
+
+    static final String[] STREETS = {"شارع الجامعة", "شارع المدينة", "شارع الملك عبد الله", "Main Street", "Al-Nahda Street", "شارع السلام"};
+
+    private SampleData() {
+    }
+
+    static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,746 @@
+package com.basariatpos.util.datagen;
+
+import com.basariatpos.config.DatabaseConfig;
+import com.basariatpos.db.generated.Routines;
+import org.jooq.DSLContext;
+import org.jooq.Record3;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.SplittableRandom;
+
+import static com.basariatpos.db.generated.Tables.APPOINTMENTS;
+import static com.basariatpos.db.generated.Tables.BANKNAMES;
+import static com.basariatpos.db.generated.Tables.EXPENSECATEGORIES;
+import static com.basariatpos.db.generated.Tables.EXPENSES;
+import static com.basariatpos.db.generated.Tables.INVENTORYITEMS;
+import static com.basariatpos.db.generated.Tables.PATIENTS;
+import static com.basariatpos.db.generated.Tables.PAYMENTS;
+import static com.basariatpos.db.generated.Tables.PRODUCTCATEGORIES;
+import static com.basariatpos.db.generated.Tables.PRODUCTS;
+import static com.basariatpos.db.generated.Tables.SALESORDERS;
+import static com.basariatpos.db.generated.Tables.SHIFTS;
+import static com.basariatpos.db.generated.Tables.USERS;
+
+/**
+ * Fills the schema with a synthetic but referentially consistent history: cashiers, their
+ * shifts, patients with optical diagnostics, products and stock items, sales orders with
+ * lines, payments and delivery appointments, and expenses. Names and descriptions mix
+ * Arabic and English.
+ * <p>
+ * Rows are streamed with {@code COPY ... FROM STDIN} rather than inserted, and user
+ * triggers on the loaded tables are disabled for the duration, so millions of rows load
+ * in minutes. What the triggers would have maintained is written directly instead: order
+ * subtotals and amounts paid, shift cash figures, {@code ShiftTotals} and the daily
+ * rollups. Each stock item gets an opening cost layer for its stock, and completed lines
+ * carry their cost at the item's cost price. No audit rows are written, and stock levels
+ * are not reduced by the generated sales.
+ * <p>
+ * Every entity draws from its own random stream keyed by the seed and its index, which
+ * makes the output reproducible and lets each table be written in a separate pass; a
+ * connection can only run one COPY at a time. Generated rows get IDs after the current
+ * maximum, and the sequences are moved past them at the end.
+ * <p>
+ * Everything runs in one transaction. Disabling triggers requires table ownership and
+ * locks the tables against other writers until it commits, so run this against a test
+ * database as its owner.
+ */
+public class SyntheticDataGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    // Independent random streams, one per kind of entity
+    private static final long USER_STREAM = 1;
+    private static final long PATIENT_STREAM = 2;
+    private static final long DIAGNOSTIC_STREAM = 3;
+    private static final long PRODUCT_STREAM = 4;
+    private static final long ITEM_STREAM = 5;
+    private static final long SHIFT_STREAM = 6;
+    private static final long ORDER_STREAM = 7;
+    private static final long EXPENSE_STREAM = 8;
+
+    /** Tables written by the generator, in load order; their user triggers are disabled while loading. */
+    private static final List<String> LOADED_TABLES = List.of("Users", "Patients", "OpticalDiagnostics", "Products",
+            "InventoryItems", "InventoryCostLayers", "Shifts", "SalesOrders", "SalesOrderItems", "Payments", "Expenses", "Appointments");
+
+    /** Loaded tables partitioned by year (migration V16). */
+    private static final List<String> YEAR_PARTITIONED_TABLES = List.of("SalesOrders", "Payments", "Expenses");
+
+    private static final LocalTime OPENING_TIME = LocalTime.of(9, 0);
+    private static final Duration OPENING_HOURS = Duration.ofHours(12);
+
+    /** Share of patients registered before the generated history starts. */
+    private static final double EXISTING_PATIENT_SHARE = 0.3;
+
+    private static final BigDecimal[] SERVICE_PRICES = {
+            new BigDecimal("15.00"), new BigDecimal("10.00"), new BigDecimal("20.00"), new BigDecimal("25.00"), new BigDecimal("5.00")
+    };
+
+    private final DataGenConfig config;
+    private final Duration shiftLength;
+
+    // Reference data read from the database before loading
+    private int[] stockCategoryIds;
+    private String[] stockCategoryNamesEn;
+    private String[] stockCategoryNamesAr;
+    private int serviceCategoryId;
+    private int[] expenseCategoryIds;
+    private String[] expenseCategoryNames;
+    private int[] bankIds;
+
+    // Highest existing IDs; generated rows are numbered after them
+    private int userBase;
+    private int patientBase;
+    private int productBase;
+    private int itemBase;
+    private int shiftBase;
+    private int orderBase;
+
+    // Catalog details needed to price order lines
+    private String[] productBrands;
+    private String[] itemNames;
+    private BigDecimal[] itemPrices;
+    private BigDecimal[] itemCosts;
+    private int[] itemStock;
+
+    /**
+     * @param config the volumes and seed.
+     */
+    public SyntheticDataGenerator(DataGenConfig config) {
+        this.config = Objects.requireNonNull(config, "config");
+        this.shiftLength = OPENING_HOURS.dividedBy(config.shiftsPerDay());
+    }
+
+    /**
+     * Generates the dataset in one transaction on the given connection.
+     *
+     * @param connection a connection to the target database, owned by the schema owner.
+     * @return the number of rows loaded per table, in load order.
+     * @throws SQLException if loading fails; nothing is kept in that case.
+     * @throws IllegalStateException if the database has no product or expense categories.
+     */
+    public Map<String, Long> generate(Connection connection) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            DSLContext dsl = DSL.using(connection, SQLDialect.POSTGRES);
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            long started = System.nanoTime();
+
+            createPartitions(dsl);
+            for (String table : LOADED_TABLES) {
+                dsl.execute("ALTER TABLE " + table + " DISABLE TRIGGER USER");
+            }
+            readReferenceData(dsl);
+
+            Map<String, Long> rows = new LinkedHashMap<>();
+            rows.put("Users", copyUsers(copyManager));
+            rows.put("Patients", copyPatients(copyManager));
+            rows.put("OpticalDiagnostics", copyDiagnostics(copyManager));
+            rows.put("Products", copyProducts(copyManager));
+            rows.put("InventoryItems", copyInventoryItems(copyManager));
+            rows.put("InventoryCostLayers", copyCostLayers(copyManager));
+            rows.put("Shifts", copyShifts(copyManager));
+            rows.put("SalesOrders", copySalesOrders(copyManager));
+            rows.put("SalesOrderItems", copySalesOrderItems(copyManager));
+            rows.put("Payments", copyPayments(copyManager));
+            rows.put("Expenses", copyExpenses(copyManager));
+            rows.put("Appointments", copyAppointments(copyManager));
+
+            completeDerivedData(dsl);
+            for (String table : LOADED_TABLES) {
+                dsl.execute("ALTER TABLE " + table + " ENABLE TRIGGER USER");
+            }
+            connection.commit();
+
+            long total = rows.values().stream().mapToLong(Long::longValue).sum();
+            logger.info("Generated {} rows in {} s: {}", total, (System.nanoTime() - started) / 1_000_000_000L, rows);
+            return rows;
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    /**
+     * Creates the partitions of the generated years, which are mostly past ones, so their rows do
+     * not land in the default partitions. A day is added on each side because the partitions
+     * follow the session time zone, not {@link DataGenConfig#zone()}.
+     */
+    private void createPartitions(DSLContext dsl) {
+        int firstYear = config.firstDay().minusDays(1).getYear();
+        int lastYear = config.lastDay().plusDays(1).getYear();
+        for (String table : YEAR_PARTITIONED_TABLES) {
+            for (int year = firstYear; year <= lastYear; year++) {
+                Routines.createRangePartition(dsl.configuration(), table, LocalDate.of(year, 1, 1));
+            }
+        }
+    }
+
+    private void readReferenceData(DSLContext dsl) {
+        Result<Record3<Integer, String, String>> categories = dsl
+                .select(PRODUCTCATEGORIES.CATEGORY_ID, PRODUCTCATEGORIES.CATEGORY_NAME_EN, PRODUCTCATEGORIES.CATEGORY_NAME_AR)
+                .from(PRODUCTCATEGORIES)
+                .orderBy(PRODUCTCATEGORIES.CATEGORY_ID)
+                .fetch();
+        if (categories.isEmpty()) {
+            throw new IllegalStateException("ProductCategories is empty; load the default data first");
+        }
+        // The default data has one services category; without it the last category takes the services
+        Record3<Integer, String, String> services = categories.stream()
+                .filter(c -> c.value2().startsWith("Services"))
+                .findFirst()
+                .orElse(categories.get(categories.size() - 1));
+        serviceCategoryId = services.value1();
+        List<Record3<Integer, String, String>> stock = categories.stream()
+                .filter(c -> c != services || categories.size() == 1)
+                .toList();
+        stockCategoryIds = stock.stream().mapToInt(Record3::value1).toArray();
+        stockCategoryNamesEn = stock.stream().map(Record3::value2).toArray(String[]::new);
+        stockCategoryNamesAr = stock.stream().map(Record3::value3).toArray(String[]::new);
+
+        expenseCategoryIds = dsl.select(EXPENSECATEGORIES.EXPENSE_CATEGORY_ID).from(EXPENSECATEGORIES)
+                .where(EXPENSECATEGORIES.IS_ACTIVE).orderBy(EXPENSECATEGORIES.EXPENSE_CATEGORY_ID)
+                .fetch(EXPENSECATEGORIES.EXPENSE_CATEGORY_ID).stream().mapToInt(Integer::intValue).toArray();
+        expenseCategoryNames = dsl.select(EXPENSECATEGORIES.CATEGORY_NAME_EN).from(EXPENSECATEGORIES)
+                .where(EXPENSECATEGORIES.IS_ACTIVE).orderBy(EXPENSECATEGORIES.EXPENSE_CATEGORY_ID)
+                .fetch(EXPENSECATEGORIES.CATEGORY_NAME_EN).toArray(String[]::new);
+        if (expenseCategoryIds.length == 0) {
+            throw new IllegalStateException("ExpenseCategories has no active category; load the default data first");
+        }
+        bankIds = dsl.select(BANKNAMES.BANK_NAME_ID).from(BANKNAMES)
+                .where(BANKNAMES.IS_ACTIVE).orderBy(BANKNAMES.BANK_NAME_ID)
+                .fetch(BANKNAMES.BANK_NAME_ID).stream().mapToInt(Integer::intValue).toArray();
+
+        userBase = maxId(dsl, USERS.USER_ID);
+        patientBase = maxId(dsl, PATIENTS.PATIENT_ID);
+        productBase = maxId(dsl, PRODUCTS.PRODUCT_ID);
+        itemBase = maxId(dsl, INVENTORYITEMS.INVENTORY_ITEM_ID);
+        shiftBase = maxId(dsl, SHIFTS.SHIFT_ID);
+        orderBase = maxId(dsl, SALESORDERS.SALES_ORDER_ID);
+    }
+
+    private long copyUsers(CopyManager copyManager) throws SQLException {
+        CopyWriter out = CopyWriter.open(copyManager, "Users",
+                "user_id", "username", "password_hash", "full_name", "role", "is_active", "created_at", "updated_at");
+        OffsetDateTime createdAt = atOpening(config.firstDay());
+        for (int c = 1; c <= config.cashiers(); c++) {
+            SplittableRandom random = random(USER_STREAM, c);
+            int userId = userBase + c;
+            // '!' never matches a password hash, so generated cashiers cannot sign in
+            out.add(userId).add("cashier" + userId).add("!").add(arabicName(random)).add("Cashier").add(true)
+                    .add(createdAt).add(createdAt);
+            out.endRow();
+        }
+        return out.finish();
+    }
+
+    private long copyPatients(CopyManager copyManager) throws SQLException {
+        CopyWriter out = CopyWriter.open(copyManager, "Patients",
+                "patient_id", "system_patient_id", "full_name", "phone_number", "address", "whatsapp_opt_in",
+                "created_by_user_id", "created_at", "updated_at");
+        for (int p = 1; p <= config.patients(); p++) {
+            SplittableRandom random = random(PATIENT_STREAM, p);
+            int patientId = patientBase + p;
+            String name = random.nextInt(100) < 75 ? arabicName(random) : englishName(random);
+            String phone = "07" + (7 + random.nextInt(3)) + String.format("%07d", random.nextInt(10_000_000));
+            String address = random.nextInt(100) < 60 ? SampleData.pick(random, SampleData.STREETS) + " " + (1 + random.nextInt(200)) : null;
+            OffsetDateTime registered = patientRegisteredAt(p, random);
+            out.add(patientId).add("G-" + patientId).add(name).add(phone).add(address).add(random.nextInt(100) < 60)
+                    .add(cashierId(random)).add(registered).add(registered);
+            out.endRow();
+        }
+        return out.finish();
+    }
+
+    private long copyDiagnostics(CopyManager copyManager) throws SQLException {
+        CopyWriter out = CopyWriter.open(copyManager, "OpticalDiagnostics",
+                "patient_id", "diagnostic_date", "is_contact_lens_rx", "contact_lens_details",
+                "od_sph_dist", "od_cyl_dist", "od_axis_dist", "os_sph_dist", "os_cyl_dist", "os_axis_dist",
+                "od_add", "os_add", "ipd", "created_by_user_id", "created_at");
+        long lastDayEpoch = config.lastDay().toEpochDay();
+        for (int p = 1; p <= config.patients(); p++) {
+            SplittableRandom random = random(DIAGNOSTIC_STREAM, p);
+            int count = random.nextInt(4);
+            if (count == 0) {
+                continue;
+            }
+            long registeredEpoch = patientRegisteredAt(p, random(PATIENT_STREAM, p)).toLocalDate().toEpochDay();
+            boolean presbyopic = random.nextInt(100) < 35;
+            for (int d = 0; d < count; d++) {
+                LocalDate date = LocalDate.ofEpochDay(registeredEpoch + random.nextLong(lastDayEpoch - registeredEpoch + 1));
+                boolean contactLens = random.nextInt(100) < 15;
+                BigDecimal odCyl = quarters(-random.nextInt(17));
+                BigDecimal osCyl = quarters(-random.nextInt(17));
+                BigDecimal add = presbyopic ? quarters(3 + random.nextInt(10)) : null;
+                out.add(patientBase + p).add(date).add(contactLens)
+                        .add(contactLens ? SampleData.pick(random, SampleData.BRANDS) + " monthly" : null)
+                        .add(quarters(random.nextInt(49) - 32)).add(odCyl).add(odCyl.signum() == 0 ? null : 1 + random.nextInt(180))
+                        .add(quarters(random.nextInt(49) - 32)).add(osCyl).add(osCyl.signum() == 0 ? null : 1 + random.nextInt(180))
+                        .add(add).add(add)
+                        .add(BigDecimal.valueOf(112 + random.nextInt(33) * 5L, 1))
+                        .add(cashierId(random)).add(atOpening(date).plusMinutes(random.nextInt((int) OPENING_HOURS.toMinutes())));
+                out.endRow();
+            }
+        }
+        return out.finish();
+    }
+
+    private long copyProducts(CopyManager copyManager) throws SQLException {
+        CopyWriter out = CopyWriter.open(copyManager, "Products",
+                "product_id", "product_code", "product_name_en", "product_name_ar", "category_id",
+                "is_service", "is_stock_item", "created_at", "updated_at");
+        OffsetDateTime createdAt = atOpening(config.firstDay());
+        productBrands = new String[config.products() + 1];
+        for (int p = 1; p <= config.products(); p++) {
+            SplittableRandom random = random(PRODUCT_STREAM, p);
+            int productId = productBase + p;
+            int category = (p - 1) % stockCategoryIds.length;
+            String brand = SampleData.pick(random, SampleData.BRANDS);
+            String model = brand.substring(0, 2).toUpperCase() + "-" + (1000 + random.nextInt(9000));
+            productBrands[p] = brand;
+            out.add(productId).add("G-P" + productId)
+                    .add(brand + " " + stockCategoryNamesEn[category] + " " + model)
+                    .add(stockCategoryNamesAr[category] + " " + brand + " " + model)
+                    .add(stockCategoryIds[category]).add(false).add(true).add(createdAt).add(createdAt);
+            out.endRow();
+        }
+        for (int s = 0; s < SampleData.SERVICES_EN.length; s++) {
+            int productId = serviceProductId(s);
+            out.add(productId).add("G-S" + productId).add(SampleData.SERVICES_EN[s]).add(SampleData.SERVICES_AR[s])
+                    .add(serviceCategoryId).add(true).add(false).add(createdAt).add(createdAt);
+            out.endRow();
+        }
+        return out.finish();
+    }
+
+    private long copyInventoryItems(CopyManager copyManager) throws SQLException {
+        CopyWriter out = CopyWriter.open(copyManager, "InventoryItems",
+                "inventory_item_id", "product_id", "brand_name", "item_specific_name_en", "item_specific_name_ar",
+                "attributes", "quantity_on_hand", "selling_price", "cost_price", "min_stock_level",
+                "unit_of_measure", "is_active", "created_at", "updated_at");
+        OffsetDateTime createdAt = atOpening(config.firstDay());
+        itemNames = new String[config.inventoryItems() + 1];
+        itemPrices = new BigDecimal[config.inventoryItems() + 1];
+        itemCosts = new BigDecimal[config.inventoryItems() + 1];
+        itemStock = new int[config.inventoryItems() + 1];
+        for (int i = 1; i <= config.inventoryItems(); i++) {
+            SplittableRandom random = random(ITEM_STREAM, i);
+            int product = 1 + (i - 1) % config.products();
+            int color = random.nextInt(SampleData.COLORS_EN.length);
+            String size = (48 + random.nextInt(10)) + "-" + (15 + random.nextInt(6)) + "-" + (135 + 5 * random.nextInt(3));
+            String material = SampleData.pick(random, SampleData.MATERIALS);
+            String attributes = "{\"color\": \"" + SampleData.COLORS_EN[color] + "\", \"size\": \"" + size
+                    + "\", \"material\": \"" + material + "\"}";
+            BigDecimal cost = BigDecimal.valueOf(500 + random.nextInt(14_500), 2);
+            BigDecimal price = cost.multiply(BigDecimal.valueOf(140 + random.nextInt(81), 2)).setScale(2, RoundingMode.HALF_UP);
+            itemNames[i] = productBrands[product] + " " + SampleData.COLORS_EN[color] + " " + size;
+            itemPrices[i] = price;
+            itemCosts[i] = cost;
+            itemStock[i] = config.baseStock() + random.nextInt(201);
+            out.add(itemBase + i).add(productBase + product).add(productBrands[product])
+                    .add(itemNames[i]).add(productBrands[product] + " " + SampleData.COLORS_AR[color] + " " + size)
+                    .add(attributes).add(itemStock[i]).add(price).add(cost).add(2 + random.nextInt(9))
+                    .add("Unit").add(random.nextInt(100) < 97).add(createdAt).add(createdAt);
+            out.endRow();
+        }
+        return out.finish();
+    }
+
+    private long copyCostLayers(CopyManager copyManager) throws SQLException {
+        CopyWriter out = CopyWriter.open(copyManager, "InventoryCostLayers",
+                "inventory_item_id", "source", "unit_cost", "quantity_received", "quantity_remaining", "created_at");
+        OffsetDateTime createdAt = atOpening(config.firstDay());
+        for (int i = 1; i <= config.inventoryItems(); i++) {
+            if (itemStock[i] > 0) {
+                out.add(itemBase + i).add("Opening").add(itemCosts[i]).add(itemStock[i]).add(itemStock[i]).add(createdAt);
+                out.endRow();
+            }
+        }
+        return out.finish();
+    }
+
+    private long copyShifts(CopyManager copyManager) throws SQLException {
+        // Cash figures are filled in by completeDerivedData once payments and expenses are loaded
+        CopyWriter out = CopyWriter.open(copyManager, "Shifts",
+                "shift_id", "started_by_user_id", "start_time", "end_time", "status", "opening_float",
+                "created_at", "updated_at");
+        for (int s = 0; s < config.shifts(); s++) {
+            SplittableRandom random = random(SHIFT_STREAM, s);
+            OffsetDateTime start = shiftStart(s);
+            OffsetDateTime end = start.plus(shiftLength);
+            out.add(shiftId(s)).add(shiftUserId(s)).add(start).add(end).add("Ended")
+                    .add(BigDecimal.valueOf(100 + 50 * random.nextInt(5)).setScale(2)).add(start).add(end);
+            out.endRow();
+        }
+        return out.finish();
+    }
+
+    private long copySalesOrders(CopyManager copyManager) throws SQLException {
+        CopyWriter out = CopyWriter.open(copyManager, "SalesOrders",
+                "sales_order_id", "patient_id", "order_date", "status", "subtotal_amount", "discount_amount",
+                "amount_paid", "created_by_user_id", "shift_id", "updated_at");
+        for (int k = 0; k < config.salesOrders(); k++) {
+            OrderPlan order = planOrder(k);
+            out.add(order.salesOrderId()).add(order.patientId()).add(order.orderDate()).add(order.status())
+                    .add(order.subtotal()).add(order.discount()).add(order.amountPaid())
+                    .add(order.userId()).add(order.shiftId()).add(order.orderDate());
+            out.endRow();
+        }
+        return out.finish();
+    }
+
+    private long copySalesOrderItems(CopyManager copyManager) throws SQLException {
+        CopyWriter out = CopyWriter.open(copyManager, "SalesOrderItems",
+                "sales_order_id", "inventory_item_id", "service_product_id", "description", "quantity", "unit_price",
+                "cost_amount");
+        for (int k = 0; k < config.salesOrders(); k++) {
+            OrderPlan order = planOrder(k);
+            boolean completed = "Completed".equals(order.status());
+            for (OrderLine line : order.lines()) {
+                BigDecimal cost = completed && line.unitCost() != null
+                        ? line.unitCost().multiply(BigDecimal.valueOf(line.quantity())) : null;
+                out.add(order.salesOrderId()).add(line.inventoryItemId()).add(line.serviceProductId())
+                        .add(line.description()).add(line.quantity()).add(line.unitPrice()).add(cost);
+                out.endRow();
+            }
+        }
+        return out.finish();
+    }
+
+    private long copyPayments(CopyManager copyManager) throws SQLException {
+        CopyWriter out = CopyWriter.open(copyManager, "Payments",
+                "sales_order_id", "payment_date", "amount", "payment_method", "bank_name_id", "transaction_id",
+                "received_by_user_id", "shift_id");
+        for (int k = 0; k < config.salesOrders(); k++) {
+            OrderPlan order = planOrder(k);
+            for (OrderPayment payment : order.payments()) {
+                out.add(order.salesOrderId()).add(payment.paidAt()).add(payment.amount())
+                        .add(payment.bankNameId() == null ? "Cash" : "Bank Transaction")
+                        .add(payment.bankNameId()).add(payment.transactionId())
+                        .add(order.userId()).add(order.shiftId());
+                out.endRow();
+            }
+        }
+        return out.finish();
+    }
+
+    private long copyExpenses(CopyManager copyManager) throws SQLException {
+        CopyWriter out = CopyWriter.open(copyManager, "Expenses",
+                "expense_date", "expense_category_id", "description", "amount", "payment_method", "bank_name_id",
+                "transaction_id_ref", "created_by_user_id", "shift_id", "created_at", "updated_at");
+        for (int d = 0; d < config.days(); d++) {
+            LocalDate date = config.firstDay().plusDays(d);
+            for (int e = 0; e < config.expensesPerDay(); e++) {
+                long index = (long) d * config.expensesPerDay() + e;
+                SplittableRandom random = random(EXPENSE_STREAM, index);
+                int category = random.nextInt(expenseCategoryIds.length);
+                String description = random.nextBoolean()
+                        ? expenseCategoryNames[category] + " - invoice " + (10_000 + index)
+                        : "فاتورة رقم " + (10_000 + index);
+                BigDecimal amount = BigDecimal.valueOf(500 + random.nextInt(49_500), 2);
+                boolean cash = bankIds.length == 0 || random.nextInt(100) < 70;
+                int shift = d * config.shiftsPerDay() + random.nextInt(config.shiftsPerDay());
+                OffsetDateTime createdAt = shiftStart(shift).plusMinutes(random.nextInt((int) shiftLength.toMinutes()));
+                out.add(date).add(expenseCategoryIds[category]).add(description).add(amount)
+                        .add(cash ? "Cash" : "Bank Transaction")
+                        .add(cash ? null : bankIds[random.nextInt(bankIds.length)])
+                        .add(cash ? null : "EXP" + (10_000 + index))
+                        .add(shiftUserId(shift)).add(cash ? shiftId(shift) : null).add(createdAt).add(createdAt);
+                out.endRow();
+            }
+        }
+        return out.finish();
+    }
+
+    private long copyAppointments(CopyManager copyManager) throws SQLException {
+        CopyWriter out = CopyWriter.open(copyManager, "Appointments",
+                "sales_order_id", "appointment_datetime", "status", "created_by_user_id", "created_at", "updated_at");
+        for (int k = 0; k < config.salesOrders(); k++) {
+            OrderPlan order = planOrder(k);
+            if (order.deliveryAt() != null) {
+                out.add(order.salesOrderId()).add(order.deliveryAt())
+                        .add("Completed".equals(order.status()) ? "Completed" : "Scheduled")
+                        .add(order.userId()).add(order.orderDate()).add(order.orderDate());
+                out.endRow();
+            }
+        }
+        return out.finish();
+    }
+
+    /** Writes what the disabled triggers would have maintained, and moves the sequences on. */
+    private void completeDerivedData(DSLContext dsl) {
+        dsl.execute("""
+                UPDATE SalesOrders so SET delivery_appointment_id = a.appointment_id
+                FROM Appointments a
+                WHERE a.sales_order_id = so.sales_order_id AND so.sales_order_id > ?""", orderBase);
+        // The generated cashiers always count exactly what is expected
+        dsl.execute("""
+                UPDATE Shifts s
+                SET expected_cash_in_drawer = s.opening_float + x.cash_in - x.cash_out,
+                    closing_cash_counted = s.opening_float + x.cash_in - x.cash_out,
+                    cash_variance = 0
+                FROM (SELECT sh.shift_id, COALESCE(p.amount, 0) AS cash_in, COALESCE(e.amount, 0) AS cash_out
+                      FROM Shifts sh
+                      LEFT JOIN (SELECT shift_id, sum(amount) AS amount FROM Payments
+                                 WHERE payment_method = 'Cash' AND shift_id > ? GROUP BY shift_id) p ON p.shift_id = sh.shift_id
+                      LEFT JOIN (SELECT shift_id, sum(amount) AS amount FROM Expenses
+                                 WHERE payment_method = 'Cash' AND shift_id > ? GROUP BY shift_id) e ON e.shift_id = sh.shift_id
+                      WHERE sh.shift_id > ?) x
+                WHERE x.shift_id = s.shift_id""", shiftBase, shiftBase, shiftBase);
+        Routines.rebuildshifttotals(dsl.configuration());
+        Routines.rebuilddailyrollups(dsl.configuration(), config.firstDay(), config.lastDay());
+
+        for (String[] serial : new String[][] {
+                {"users", "user_id"}, {"patients", "patient_id"}, {"products", "product_id"},
+                {"inventoryitems", "inventory_item_id"}, {"shifts", "shift_id"}, {"salesorders", "sales_order_id"}}) {
+            dsl.execute("SELECT setval(pg_get_serial_sequence(?, ?), (SELECT max(" + serial[1] + ") FROM " + serial[0] + "))",
+                    serial[0], serial[1]);
+        }
+    }
+
+    /** Everything about one sales order, derived from its own random stream so every pass sees the same order. */
+    private OrderPlan planOrder(int k) {
+        SplittableRandom random = random(ORDER_STREAM, k);
+        // Orders are spread evenly over the shifts and numbered in time order
+        double position = (double) k * config.shifts() / config.salesOrders();
+        int shift = (int) position;
+        OffsetDateTime orderDate = shiftStart(shift).plusSeconds((long) ((position - shift) * shiftLength.toSeconds()));
+
+        // Walk-in sales have no patient; others pick a patient registered before the order's day
+        Integer patientId = null;
+        int registered = patientsRegisteredBefore(shift / config.shiftsPerDay());
+        if (random.nextInt(100) >= 20 && registered > 0) {
+            patientId = patientBase + 1 + random.nextInt(registered);
+        }
+
+        int roll = random.nextInt(100);
+        String status = roll < 75 ? "Completed"
+                : roll < 80 ? "Pending"
+                : roll < 85 ? "Awaiting Lenses"
+                : roll < 90 ? "Ready for Pickup"
+                : roll < 95 ? "Cancelled"
+                : "Abandoned";
+
+        int lineCount = 1 + random.nextInt(4);
+        List<OrderLine> lines = new ArrayList<>(lineCount);
+        BigDecimal subtotal = BigDecimal.ZERO.setScale(2);
+        for (int l = 0; l < lineCount; l++) {
+            OrderLine line;
+            if (random.nextInt(100) < 15) {
+                int service = random.nextInt(SERVICE_PRICES.length);
+                line = new OrderLine(null, serviceProductId(service), SampleData.SERVICES_EN[service], 1, SERVICE_PRICES[service], null);
+            } else {
+                int item = 1 + random.nextInt(config.inventoryItems());
+                int quantity = random.nextInt(100) < 85 ? 1 : 2 + random.nextInt(2);
+                line = new OrderLine(itemBase + item, null, itemNames[item], quantity, itemPrices[item], itemCosts[item]);
+            }
+            lines.add(line);
+            subtotal = subtotal.add(line.unitPrice().multiply(BigDecimal.valueOf(line.quantity())));
+        }
+        BigDecimal discount = random.nextInt(10) == 0
+                ? subtotal.multiply(BigDecimal.valueOf(random.nextInt(11), 2)).setScale(2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO.setScale(2);
+        BigDecimal total = subtotal.subtract(discount);
+
+        // Completed orders are paid in full, sometimes as deposit plus balance; open and abandoned ones carry a deposit
+        List<OrderPayment> payments = new ArrayList<>(2);
+        boolean split = random.nextInt(100) < 30;
+        BigDecimal deposit = total.divide(BigDecimal.valueOf(2), 2, RoundingMode.HALF_UP);
+        switch (status) {
+            case "Completed" -> {
+                if (split) {
+                    payments.add(newPayment(random, k, 0, orderDate, deposit));
+                    payments.add(newPayment(random, k, 1, orderDate.plusMinutes(5 + random.nextInt(25)), total.subtract(deposit)));
+                } else {
+                    payments.add(newPayment(random, k, 0, orderDate, total));
+                }
+            }
+            case "Cancelled" -> {
+            }
+            default -> {
+                if (!"Pending".equals(status) || split) {
+                    payments.add(newPayment(random, k, 0, orderDate, deposit));
+                }
+            }
+        }
+        payments.removeIf(p -> p.amount().signum() <= 0);
+
+        OffsetDateTime deliveryAt = null;
+        if (("Completed".equals(status) || "Ready for Pickup".equals(status) || "Awaiting Lenses".equals(status))
+                && random.nextInt(100) < 30) {
+            deliveryAt = atOpening(orderDate.toLocalDate().plusDays(2 + random.nextInt(6))).plusHours(1 + random.nextInt(10));
+        }
+
+        return new OrderPlan(orderBase + 1 + k, shiftId(shift), shiftUserId(shift), patientId, orderDate, status,
+                lines, subtotal, discount, payments, deliveryAt);
+    }
+
+    private OrderPayment newPayment(SplittableRandom random, int order, int n, OffsetDateTime paidAt, BigDecimal amount) {
+        if (bankIds.length == 0 || random.nextInt(100) < 75) {
+            return new OrderPayment(paidAt, amount, null, null);
+        }
+        return new OrderPayment(paidAt, amount, bankIds[random.nextInt(bankIds.length)], "TRX" + (orderBase + 1L + order) + "-" + n);
+    }
+
+    private OffsetDateTime patientRegisteredAt(int p, SplittableRandom random) {
+        // Pre-existing patients registered in the year before the history, the rest in ID order across it
+        int existing = (int) (config.patients() * EXISTING_PATIENT_SHARE);
+        LocalDate day;
+        if (p <= existing) {
+            day = config.firstDay().minusDays(1 + random.nextInt(365));
+        } else {
+            double fraction = (double) (p - existing) / Math.max(1, config.patients() - existing);
+            day = config.firstDay().plusDays((long) (fraction * (config.days() - 1)));
+        }
+        return atOpening(day).plusMinutes(random.nextInt((int) OPENING_HOURS.toMinutes()));
+    }
+
+    /** The number of patients whose registration day is before the given day of the history. */
+    private int patientsRegisteredBefore(int day) {
+        int existing = (int) (config.patients() * EXISTING_PATIENT_SHARE);
+        if (day == 0 || config.days() == 1) {
+            return existing;
+        }
+        // Inverts the spreading in patientRegisteredAt: patient p falls on a day before 'day' iff this bound holds
+        long later = (long) (day - 1) * (config.patients() - existing) / (config.days() - 1);
+        return existing + (int) Math.min(later, config.patients() - existing);
+    }
+
+    private OffsetDateTime shiftStart(int shift) {
+        LocalDate day = config.firstDay().plusDays(shift / config.shiftsPerDay());
+        return atOpening(day).plus(shiftLength.multipliedBy(shift % config.shiftsPerDay()));
+    }
+
+    private OffsetDateTime atOpening(LocalDate day) {
+        return day.atTime(OPENING_TIME).atZone(config.zone()).toOffsetDateTime();
+    }
+
+    private int shiftId(int shift) {
+        return shiftBase + 1 + shift;
+    }
+
+    private int shiftUserId(int shift) {
+        return userBase + 1 + shift % config.cashiers();
+    }
+
+    private int cashierId(SplittableRandom random) {
+        return userBase + 1 + random.nextInt(config.cashiers());
+    }
+
+    private int serviceProductId(int service) {
+        return productBase + config.products() + 1 + service;
+    }
+
+    private SplittableRandom random(long stream, long index) {
+        return new SplittableRandom(mix(mix(config.seed() + stream * 0x9E3779B97F4A7C15L) + index));
+    }
+
+    /** SplitMix64 finalizer: spreads nearby seeds and indices over unrelated random streams. */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static BigDecimal quarters(int quarters) {
+        return BigDecimal.valueOf(quarters * 25L, 2);
+    }
+
+    private static String arabicName(SplittableRandom random) {
+        String[] first = random.nextBoolean() ? SampleData.ARABIC_MALE_NAMES : SampleData.ARABIC_FEMALE_NAMES;
+        return SampleData.pick(random, first) + " " + SampleData.pick(random, SampleData.ARABIC_MALE_NAMES)
+                + " " + SampleData.pick(random, SampleData.ARABIC_FAMILY_NAMES);
+    }
+
+    private static String englishName(SplittableRandom random) {
+        return SampleData.pick(random, SampleData.ENGLISH_FIRST_NAMES) + " " + SampleData.pick(random, SampleData.ENGLISH_LAST_NAMES);
+    }
+
+    private static int maxId(DSLContext dsl, org.jooq.TableField<?, Integer> id) {
+        Integer max = dsl.select(DSL.max(id)).from(id.getTable()).fetchOne(0, Integer.class);
+        return max == null ? 0 : max;
+    }
+
+    private record OrderLine(Integer inventoryItemId, Integer serviceProductId, String description,
+                             int quantity, BigDecimal unitPrice, BigDecimal unitCost) {
+    }
+
+    private record OrderPayment(OffsetDateTime paidAt, BigDecimal amount, Integer bankNameId, String transactionId) {
+    }
+
+    private record OrderPlan(int salesOrderId, int shiftId, int userId, Integer patientId, OffsetDateTime orderDate,
+                             String status, List<OrderLine> lines, BigDecimal subtotal, BigDecimal discount,
+                             List<OrderPayment> payments, OffsetDateTime deliveryAt) {
+
+        BigDecimal amountPaid() {
+            BigDecimal paid = BigDecimal.ZERO.setScale(2);
+            for (OrderPayment payment : payments) {
+                paid = paid.add(payment.amount());
+            }
+            return paid;
+        }
+    }
+
+    /**
+     * Command-line entry point: {@code SyntheticDataGenerator <properties-file> [key=value ...]}.
+     * The file holds the {@code db.*} keys read by {@link DatabaseConfig#fromProperties} and
+     * optionally the {@code datagen.*} keys read by {@link DataGenConfig#fromProperties};
+     * {@code key=value} arguments override it. Without arguments it logs the usage and
+     * generates nothing.
+     *
+     * @param args the properties file followed by overrides.
+     * @throws IllegalArgumentException if an override is not {@code key=value} or a setting is invalid.
+     * @throws IOException  if the properties file cannot be read.
+     * @throws SQLException if generation fails.
+     */
+    public static void main(String[] args) throws IOException, SQLException {
+        if (args.length < 1) {
+            logger.error("Usage: SyntheticDataGenerator <properties-file> [key=value ...]");
+            return;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(Path.of(args[0]))) {
+            properties.load(reader);
+        }
+        for (int i = 1; i < args.length; i++) {
+            int eq = args[i].indexOf('=');
+            if (eq < 1) {
+                throw new IllegalArgumentException("Expected key=value but got: " + args[i]);
+            }
+            properties.setProperty(args[i].substring(0, eq).trim(), args[i].substring(eq + 1).trim());
+        }
+        DatabaseConfig database = DatabaseConfig.fromProperties(properties);
+        DataGenConfig config = DataGenConfig.fromProperties(properties);
+        logger.info("Generating {} into {}", config, database.url());
+        try (Connection connection = DriverManager.getConnection(database.url(), database.username(), database.password())) {
+            new SyntheticDataGenerator(config).generate(connection);
+        }
+    }
+}
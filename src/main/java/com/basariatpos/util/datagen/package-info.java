@@ -0,0 +1,4 @@
+/**
+ * Generates large, referentially consistent synthetic datasets for load and scale testing.
+ */
+package com.basariatpos.util.datagen;
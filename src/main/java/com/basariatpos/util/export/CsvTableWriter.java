@@ -0,0 +1,125 @@
+package com.basariatpos.util.export;
+
+import org.jooq.JSONB;
+import org.jooq.Record;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.text.DecimalFormatSymbols;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Writes RFC 4180 CSV in UTF-8 with a byte order mark, which Excel needs to read Arabic text
+ * correctly instead of guessing the system code page.
+ * <p>
+ * Numbers use the decimal separator of the locale, limited to {@code .} or {@code ,}; when it
+ * is a comma, fields are separated by semicolons, as Excel expects in those locales. Digits are
+ * always ASCII, because Excel does not read Arabic-Indic digits as numbers. Times are converted
+ * to the given zone and written as {@code yyyy-MM-dd HH:mm:ss}, which Excel recognizes as a date
+ * in every locale, unlike the locales' own short formats.
+ * <p>
+ * Text that Excel would read as a formula, i.e. starting with {@code =}, {@code +}, {@code -},
+ * {@code @}, a tab or a carriage return, is prefixed with {@code '} so that it opens as text.
+ * NaN and infinite numbers are written as Excel's {@code #NUM!} error.
+ */
+public final class CsvTableWriter implements TableWriter {
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ISO_LOCAL_DATE;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Writer out;
+    private final ZoneId zone;
+    private final char decimalSeparator;
+    private final char delimiter;
+
+    /**
+     * @param out    the file; closed by {@link #close()}.
+     * @param locale the locale whose decimal separator numbers use.
+     * @param zone   the time zone times are written in.
+     * @throws IOException if the byte order mark cannot be written.
+     */
+    public CsvTableWriter(OutputStream out, Locale locale, ZoneId zone) throws IOException {
+        this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        this.zone = zone;
+        this.decimalSeparator = DecimalFormatSymbols.getInstance(locale).getDecimalSeparator() == ',' ? ',' : '.';
+        this.delimiter = decimalSeparator == ',' ? ';' : ',';
+        this.out.write('\uFEFF');
+    }
+
+    @Override
+    public void writeHeader(List<String> columns) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                out.write(delimiter);
+            }
+            writeText(columns.get(i));
+        }
+        out.write("\r\n");
+    }
+
+    @Override
+    public void writeRow(Record record) throws IOException {
+        for (int i = 0; i < record.size(); i++) {
+            if (i > 0) {
+                out.write(delimiter);
+            }
+            writeValue(record.get(i));
+        }
+        out.write("\r\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void writeValue(Object value) throws IOException {
+        switch (value) {
+            case null -> { }
+            case BigDecimal decimal -> writeNumber(decimal.toPlainString());
+            case Number number when SpreadsheetText.isNonFinite(number) -> out.write(SpreadsheetText.INVALID_NUMBER);
+            case Double number -> writeNumber(BigDecimal.valueOf(number).toPlainString());
+            case Float number -> writeNumber(BigDecimal.valueOf(number).toPlainString());
+            case Number number -> out.write(number.toString());
+            case OffsetDateTime time -> out.write(DATE_TIME.format(time.atZoneSameInstant(zone)));
+            case LocalDateTime time -> out.write(DATE_TIME.format(time));
+            case LocalDate date -> out.write(DATE.format(date));
+            case JSONB json -> writeText(json.data());
+            default -> writeText(String.valueOf(value));
+        }
+    }
+
+    private void writeNumber(String plain) throws IOException {
+        out.write(decimalSeparator == '.' ? plain : plain.replace('.', decimalSeparator));
+    }
+
+    private void writeText(String text) throws IOException {
+        if (SpreadsheetText.startsLikeFormula(text)) {
+            text = "'" + text;
+        }
+        boolean quote = false;
+        for (int i = 0; i < text.length() && !quote; i++) {
+            char c = text.charAt(i);
+            quote = c == delimiter || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            out.write(text);
+            return;
+        }
+        out.write('"');
+        out.write(text.replace("\"", "\"\""));
+        out.write('"');
+    }
+}
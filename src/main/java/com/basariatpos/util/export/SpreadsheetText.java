@@ -0,0 +1,40 @@
+package com.basariatpos.util.export;
+
+/**
+ * Spreadsheet rules for exported text and numbers that the writers share.
+ */
+final class SpreadsheetText {
+
+    /** Excel's error value for a number it cannot represent, written for NaN and infinities. */
+    static final String INVALID_NUMBER = "#NUM!";
+
+    private SpreadsheetText() {
+    }
+
+    /**
+     * Whether a spreadsheet would read the text as a formula when it is opened or its cell is
+     * edited, e.g. a patient name {@code =HYPERLINK(...)} typed at the counter. Tab and carriage
+     * return count too, because spreadsheets strip them before looking at the first character.
+     *
+     * @param text the cell text.
+     * @return {@code true} if it starts with {@code =}, {@code +}, {@code -}, {@code @}, a tab or
+     *         a carriage return.
+     */
+    static boolean startsLikeFormula(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        char first = text.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+
+    /**
+     * @param number the number.
+     * @return whether it is a NaN or infinite {@link Double} or {@link Float}, which spreadsheets
+     *         have no number for.
+     */
+    static boolean isNonFinite(Number number) {
+        return number instanceof Double d && !Double.isFinite(d)
+                || number instanceof Float f && !Float.isFinite(f);
+    }
+}
@@ -0,0 +1,34 @@
+package com.basariatpos.util.export;
+
+import org.jooq.Record;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes query results to a file format row by row, without holding more than one row, so that
+ * exports of millions of rows run in constant memory.
+ * <p>
+ * Values are written by type: numbers and dates as numbers and dates of the format where it has
+ * them, JSON as its text, everything else through {@link String#valueOf(Object)}.
+ * {@link #close()} completes the file; a file whose writer failed or was abandoned is incomplete.
+ */
+public interface TableWriter extends Closeable {
+
+    /**
+     * Writes the column names; must be called once, before the first row.
+     *
+     * @param columns the column names.
+     * @throws IOException if writing fails.
+     */
+    void writeHeader(List<String> columns) throws IOException;
+
+    /**
+     * Writes a row with as many values as there are columns.
+     *
+     * @param record the row.
+     * @throws IOException if writing fails.
+     */
+    void writeRow(Record record) throws IOException;
+}
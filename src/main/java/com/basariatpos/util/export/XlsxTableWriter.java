@@ -0,0 +1,301 @@
+package com.basariatpos.util.export;
+
+import org.jooq.JSONB;
+import org.jooq.Record;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes an Excel workbook (XLSX) as a stream, the way streaming spreadsheet libraries do:
+ * each worksheet's XML is written straight into the zip entry as rows arrive, with strings
+ * inline instead of in a shared string table, and the workbook parts that list the sheets are
+ * written at the end. Nothing but the current row is kept in memory.
+ * <p>
+ * Numbers are written as numbers and times, converted to the given zone, as date cells with
+ * Excel's built-in date formats, so Excel shows them in the format of the reader's own locale.
+ * A sheet holds at most {@link #MAX_ROWS_PER_SHEET} rows including its header; longer results
+ * continue on further sheets, each starting with the header again. The header row is bold and
+ * frozen, and sheets open right to left when requested, e.g. for Arabic.
+ * <p>
+ * Strings are stored as text, never as formulas. Those that Excel would read as a formula if
+ * the cell were edited, i.e. starting with {@code =}, {@code +}, {@code -}, {@code @}, a tab or
+ * a carriage return, also get a style with Excel's quote prefix, the {@code '} a user would
+ * type, so they stay text. NaN and infinite numbers are written as Excel's {@code #NUM!} error.
+ */
+public final class XlsxTableWriter implements TableWriter {
+
+    /** Excel's row limit per worksheet. */
+    public static final int MAX_ROWS_PER_SHEET = 1_048_576;
+
+    /** Excel's limit for the text of one cell. */
+    private static final int MAX_CELL_LENGTH = 32_767;
+
+    /** Excel's limit for a sheet name. */
+    private static final int MAX_SHEET_NAME_LENGTH = 31;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final LocalDate EXCEL_EPOCH = LocalDate.of(1899, 12, 30);
+
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+    private static final String MAIN_NAMESPACE = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+    private static final String RELATIONSHIPS_NAMESPACE = "http://schemas.openxmlformats.org/package/2006/relationships";
+    private static final String OFFICE_RELATIONSHIPS = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+
+    // Cell style indexes in styles.xml
+    private static final int STYLE_HEADER = 1;
+    private static final int STYLE_DATE_TIME = 2;
+    private static final int STYLE_DATE = 3;
+    private static final int STYLE_QUOTED = 4;
+
+    /**
+     * Styles: 0 default, 1 bold header, 2 date and time (built-in format 22), 3 date (built-in
+     * format 14), 4 quote-prefixed text. Built-in formats are shown in the reader's locale.
+     */
+    private static final String STYLES = XML_DECLARATION
+            + "<styleSheet xmlns=\"" + MAIN_NAMESPACE + "\">"
+            + "<fonts count=\"2\"><font><sz val=\"11\"/><name val=\"Calibri\"/></font>"
+            + "<font><b/><sz val=\"11\"/><name val=\"Calibri\"/></font></fonts>"
+            + "<fills count=\"2\"><fill><patternFill patternType=\"none\"/></fill>"
+            + "<fill><patternFill patternType=\"gray125\"/></fill></fills>"
+            + "<borders count=\"1\"><border><left/><right/><top/><bottom/><diagonal/></border></borders>"
+            + "<cellStyleXfs count=\"1\"><xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\"/></cellStyleXfs>"
+            + "<cellXfs count=\"5\">"
+            + "<xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\"/>"
+            + "<xf numFmtId=\"0\" fontId=\"1\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyFont=\"1\"/>"
+            + "<xf numFmtId=\"22\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyNumberFormat=\"1\"/>"
+            + "<xf numFmtId=\"14\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyNumberFormat=\"1\"/>"
+            + "<xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\" quotePrefix=\"1\"/>"
+            + "</cellXfs>"
+            + "<cellStyles count=\"1\"><cellStyle name=\"Normal\" xfId=\"0\" builtinId=\"0\"/></cellStyles>"
+            + "</styleSheet>";
+
+    private final ZipOutputStream zip;
+    private final Writer out;
+    private final ZoneId zone;
+    private final String sheetName;
+    private final boolean rightToLeft;
+
+    private List<String> columns;
+    private int sheets;
+    private int rowsInSheet;
+
+    /**
+     * @param out         the file; closed by {@link #close()}.
+     * @param sheetName   the name of the first sheet; further sheets get " (2)", " (3)" and so on.
+     * @param zone        the time zone times are written in.
+     * @param rightToLeft whether the sheets open right to left.
+     */
+    public XlsxTableWriter(OutputStream out, String sheetName, ZoneId zone, boolean rightToLeft) {
+        this.zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        // Exports are large and written once; fast compression keeps the writer ahead of the cursor
+        this.zip.setLevel(Deflater.BEST_SPEED);
+        this.out = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8), BUFFER_SIZE);
+        this.sheetName = sheetName;
+        this.zone = zone;
+        this.rightToLeft = rightToLeft;
+    }
+
+    @Override
+    public void writeHeader(List<String> columns) throws IOException {
+        if (this.columns != null) {
+            throw new IllegalStateException("The header has already been written");
+        }
+        this.columns = List.copyOf(columns);
+        startSheet();
+    }
+
+    @Override
+    public void writeRow(Record record) throws IOException {
+        if (columns == null) {
+            throw new IllegalStateException("The header must be written before the first row");
+        }
+        if (rowsInSheet == MAX_ROWS_PER_SHEET) {
+            endSheet();
+            startSheet();
+        }
+        out.write("<row>");
+        for (int i = 0; i < record.size(); i++) {
+            writeCell(record.get(i));
+        }
+        out.write("</row>\n");
+        rowsInSheet++;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (columns == null) {
+                writeHeader(List.of());
+            }
+            endSheet();
+            writeEntry("[Content_Types].xml", contentTypes());
+            writeEntry("_rels/.rels", XML_DECLARATION
+                    + "<Relationships xmlns=\"" + RELATIONSHIPS_NAMESPACE + "\">"
+                    + "<Relationship Id=\"rId1\" Type=\"" + OFFICE_RELATIONSHIPS + "/officeDocument\" Target=\"xl/workbook.xml\"/>"
+                    + "</Relationships>");
+            writeEntry("xl/workbook.xml", workbook());
+            writeEntry("xl/_rels/workbook.xml.rels", workbookRelationships());
+            writeEntry("xl/styles.xml", STYLES);
+        } finally {
+            out.close();
+        }
+    }
+
+    private void startSheet() throws IOException {
+        sheets++;
+        rowsInSheet = 0;
+        zip.putNextEntry(new ZipEntry("xl/worksheets/sheet" + sheets + ".xml"));
+        out.write(XML_DECLARATION);
+        out.write("<worksheet xmlns=\"" + MAIN_NAMESPACE + "\"><sheetViews><sheetView workbookViewId=\"0\""
+                + (rightToLeft ? " rightToLeft=\"1\"" : "") + ">"
+                + "<pane ySplit=\"1\" topLeftCell=\"A2\" activePane=\"bottomLeft\" state=\"frozen\"/>"
+                + "</sheetView></sheetViews><sheetData>\n");
+        out.write("<row>");
+        for (String column : columns) {
+            writeString(column, STYLE_HEADER);
+        }
+        out.write("</row>\n");
+        rowsInSheet++;
+    }
+
+    private void endSheet() throws IOException {
+        out.write("</sheetData></worksheet>");
+        out.flush();
+        zip.closeEntry();
+    }
+
+    private void writeCell(Object value) throws IOException {
+        switch (value) {
+            case null -> out.write("<c/>");
+            case BigDecimal decimal -> writeNumber(decimal.toPlainString(), 0);
+            case Number number when SpreadsheetText.isNonFinite(number) ->
+                    out.write("<c t=\"e\"><v>" + SpreadsheetText.INVALID_NUMBER + "</v></c>");
+            case Number number -> writeNumber(number.toString(), 0);
+            case Boolean flag -> out.write(flag ? "<c t=\"b\"><v>1</v></c>" : "<c t=\"b\"><v>0</v></c>");
+            case OffsetDateTime time -> writeNumber(serial(time.atZoneSameInstant(zone).toLocalDateTime()), STYLE_DATE_TIME);
+            case LocalDateTime time -> writeNumber(serial(time), STYLE_DATE_TIME);
+            case LocalDate date -> writeNumber(Long.toString(ChronoUnit.DAYS.between(EXCEL_EPOCH, date)), STYLE_DATE);
+            case JSONB json -> writeText(json.data());
+            default -> writeText(String.valueOf(value));
+        }
+    }
+
+    private void writeText(String text) throws IOException {
+        writeString(text, SpreadsheetText.startsLikeFormula(text) ? STYLE_QUOTED : 0);
+    }
+
+    private void writeNumber(String number, int style) throws IOException {
+        out.write(style == 0 ? "<c><v>" : "<c s=\"" + style + "\"><v>");
+        out.write(number);
+        out.write("</v></c>");
+    }
+
+    private void writeString(String text, int style) throws IOException {
+        out.write(style == 0 ? "<c t=\"inlineStr\"><is><t xml:space=\"preserve\">"
+                : "<c t=\"inlineStr\" s=\"" + style + "\"><is><t xml:space=\"preserve\">");
+        writeEscaped(text.length() > MAX_CELL_LENGTH ? text.substring(0, MAX_CELL_LENGTH) : text);
+        out.write("</t></is></c>");
+    }
+
+    private void writeEscaped(String text) throws IOException {
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            String replacement = switch (c) {
+                case '&' -> "&amp;";
+                case '<' -> "&lt;";
+                case '>' -> "&gt;";
+                case '"' -> "&quot;";
+                // XML 1.0 cannot contain other control characters, even escaped
+                default -> c < 0x20 && c != '\t' && c != '\n' && c != '\r' || c == '\uFFFE' || c == '\uFFFF' ? "" : null;
+            };
+            if (replacement != null) {
+                out.write(text, start, i - start);
+                out.write(replacement);
+                start = i + 1;
+            }
+        }
+        out.write(text, start, text.length() - start);
+    }
+
+    /** Excel stores times as days since 1899-12-30, with the time of day as the fraction. */
+    private static String serial(LocalDateTime time) {
+        long days = ChronoUnit.DAYS.between(EXCEL_EPOCH, time.toLocalDate());
+        double fraction = time.toLocalTime().toNanoOfDay() / 86_400_000_000_000.0;
+        return Double.toString(days + fraction);
+    }
+
+    private void writeEntry(String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        out.write(content);
+        out.flush();
+        zip.closeEntry();
+    }
+
+    private String contentTypes() {
+        StringBuilder xml = new StringBuilder(XML_DECLARATION)
+                .append("<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">")
+                .append("<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>")
+                .append("<Default Extension=\"xml\" ContentType=\"application/xml\"/>")
+                .append("<Override PartName=\"/xl/workbook.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>")
+                .append("<Override PartName=\"/xl/styles.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.styles+xml\"/>");
+        for (int sheet = 1; sheet <= sheets; sheet++) {
+            xml.append("<Override PartName=\"/xl/worksheets/sheet").append(sheet)
+                    .append(".xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>");
+        }
+        return xml.append("</Types>").toString();
+    }
+
+    private String workbook() {
+        StringBuilder xml = new StringBuilder(XML_DECLARATION)
+                .append("<workbook xmlns=\"").append(MAIN_NAMESPACE).append("\" xmlns:r=\"").append(OFFICE_RELATIONSHIPS)
+                .append("\"><sheets>");
+        for (int sheet = 1; sheet <= sheets; sheet++) {
+            xml.append("<sheet name=\"").append(escapeAttribute(sheetName(sheet)))
+                    .append("\" sheetId=\"").append(sheet).append("\" r:id=\"rId").append(sheet).append("\"/>");
+        }
+        return xml.append("</sheets></workbook>").toString();
+    }
+
+    private String workbookRelationships() {
+        StringBuilder xml = new StringBuilder(XML_DECLARATION)
+                .append("<Relationships xmlns=\"").append(RELATIONSHIPS_NAMESPACE).append("\">");
+        for (int sheet = 1; sheet <= sheets; sheet++) {
+            xml.append("<Relationship Id=\"rId").append(sheet).append("\" Type=\"").append(OFFICE_RELATIONSHIPS)
+                    .append("/worksheet\" Target=\"worksheets/sheet").append(sheet).append(".xml\"/>");
+        }
+        xml.append("<Relationship Id=\"rId").append(sheets + 1).append("\" Type=\"").append(OFFICE_RELATIONSHIPS)
+                .append("/styles\" Target=\"styles.xml\"/>");
+        return xml.append("</Relationships>").toString();
+    }
+
+    private String sheetName(int sheet) {
+        // Excel rejects these characters in sheet names
+        String base = sheetName.replaceAll("[\\[\\]:*?/\\\\]", "_");
+        String suffix = sheet == 1 ? "" : " (" + sheet + ")";
+        if (base.isBlank()) {
+            base = "Sheet";
+        }
+        return base.substring(0, Math.min(base.length(), MAX_SHEET_NAME_LENGTH - suffix.length())) + suffix;
+    }
+
+    private static String escapeAttribute(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+}
@@ -0,0 +1,77 @@
+package com.basariatpos.util.receipt;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Encodes rasterized receipts as ESC/POS commands for thermal printers.
+ * <p>
+ * Bitmaps are sent with the raster command {@code GS v 0}, in bands of at most
+ * {@link #MAX_BAND_ROWS} rows because many printers cannot buffer a whole receipt. The bits of a
+ * {@link BufferedImage#TYPE_BYTE_BINARY} image are already packed eight dots to a byte, most
+ * significant bit first, as the command expects; they only need inverting, since a set bit is a
+ * black dot to the printer and a white pixel in the image.
+ */
+public final class EscPosEncoder {
+
+    /** Rows per raster command. */
+    public static final int MAX_BAND_ROWS = 256;
+
+    private static final byte ESC = 0x1B;
+    private static final byte GS = 0x1D;
+
+    private EscPosEncoder() {
+    }
+
+    /**
+     * @return {@code ESC @}, which resets the printer to its default settings.
+     */
+    public static byte[] initialize() {
+        return new byte[] {ESC, '@'};
+    }
+
+    /**
+     * @return {@code GS V B 0}, which feeds the paper to the cutter and cuts it, leaving a
+     *         small uncut part so the receipt does not fall.
+     */
+    public static byte[] feedAndCut() {
+        return new byte[] {GS, 'V', 66, 0};
+    }
+
+    /**
+     * Encodes a bitmap as raster commands.
+     *
+     * @param bitmap a {@link BufferedImage#TYPE_BYTE_BINARY} image whose width is a multiple of 8,
+     *               as drawn by {@link ReceiptRasterizer}.
+     * @return the commands.
+     * @throws IllegalArgumentException if the image is not such an image.
+     */
+    public static byte[] raster(BufferedImage bitmap) {
+        if (bitmap.getType() != BufferedImage.TYPE_BYTE_BINARY || bitmap.getWidth() % 8 != 0
+                || bitmap.getColorModel().getPixelSize() != 1) {
+            throw new IllegalArgumentException("Expected a 1-bit image whose width is a multiple of 8");
+        }
+        byte[] bits = ((DataBufferByte) bitmap.getRaster().getDataBuffer()).getData();
+        int bytesPerRow = bitmap.getWidth() / 8;
+        int height = bitmap.getHeight();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bits.length + (height / MAX_BAND_ROWS + 1) * 8);
+        for (int top = 0; top < height; top += MAX_BAND_ROWS) {
+            int rows = Math.min(MAX_BAND_ROWS, height - top);
+            out.write(GS);
+            out.write('v');
+            out.write('0');
+            out.write(0); // Normal density
+            out.write(bytesPerRow & 0xFF);
+            out.write(bytesPerRow >> 8);
+            out.write(rows & 0xFF);
+            out.write(rows >> 8);
+            int offset = top * bytesPerRow;
+            for (int i = 0; i < rows * bytesPerRow; i++) {
+                out.write(~bits[offset + i]);
+            }
+        }
+        return out.toByteArray();
+    }
+}
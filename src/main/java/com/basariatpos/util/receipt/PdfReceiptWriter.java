@@ -0,0 +1,153 @@
+package com.basariatpos.util.receipt;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.Deflater;
+
+/**
+ * Writes rasterized receipt sections as a single-page PDF the width of the paper roll, for
+ * e-mailing a receipt or printing it on an office printer.
+ * <p>
+ * The page holds the same bitmaps the thermal printer gets, stacked from top to bottom, as
+ * compressed 1-bit images; printing text instead would need an embedded Arabic font and a
+ * shaping engine that the PDF viewer does not provide. A PDF 1.4 file with one image per section
+ * is small enough to write directly.
+ */
+public final class PdfReceiptWriter {
+
+    private static final double POINTS_PER_INCH = 72.0;
+
+    private PdfReceiptWriter() {
+    }
+
+    /**
+     * Writes the sections onto one page.
+     *
+     * @param sections     {@link BufferedImage#TYPE_BYTE_BINARY} images of equal width, from top
+     *                     to bottom, as drawn by {@link ReceiptRasterizer}.
+     * @param dotsPerInch  the printer resolution the sections were drawn at.
+     * @return the PDF file.
+     * @throws IllegalArgumentException if there are no sections or their widths differ.
+     */
+    public static byte[] write(List<BufferedImage> sections, int dotsPerInch) {
+        if (sections.isEmpty()) {
+            throw new IllegalArgumentException("A receipt needs at least one section");
+        }
+        int widthDots = sections.getFirst().getWidth();
+        int heightDots = 0;
+        for (BufferedImage section : sections) {
+            if (section.getWidth() != widthDots || section.getType() != BufferedImage.TYPE_BYTE_BINARY) {
+                throw new IllegalArgumentException("Sections must be 1-bit images of equal width");
+            }
+            heightDots += section.getHeight();
+        }
+        double scale = POINTS_PER_INCH / dotsPerInch;
+        double pageWidth = widthDots * scale;
+        double pageHeight = heightDots * scale;
+
+        Writer pdf = new Writer();
+        int firstImage = 5;
+        StringBuilder content = new StringBuilder();
+        StringBuilder xObjects = new StringBuilder();
+        double top = 0;
+        for (int i = 0; i < sections.size(); i++) {
+            BufferedImage section = sections.get(i);
+            double height = section.getHeight() * scale;
+            top += height;
+            content.append(format("q %.3f 0 0 %.3f 0 %.3f cm /Im%d Do Q\n", pageWidth, height, pageHeight - top, i));
+            xObjects.append(format("/Im%d %d 0 R ", i, firstImage + i));
+        }
+
+        pdf.header();
+        pdf.object(1, "<< /Type /Catalog /Pages 2 0 R >>");
+        pdf.object(2, "<< /Type /Pages /Kids [3 0 R] /Count 1 >>");
+        pdf.object(3, format("<< /Type /Page /Parent 2 0 R /MediaBox [0 0 %.3f %.3f] /Contents 4 0 R "
+                + "/Resources << /XObject << %s>> >> >>", pageWidth, pageHeight, xObjects));
+        pdf.stream(4, "", content.toString().getBytes(StandardCharsets.US_ASCII));
+        for (int i = 0; i < sections.size(); i++) {
+            BufferedImage section = sections.get(i);
+            // Both a 1-bit BufferedImage and PDF DeviceGray treat a 0 bit as black
+            byte[] bits = ((DataBufferByte) section.getRaster().getDataBuffer()).getData();
+            pdf.stream(firstImage + i, format("/Type /XObject /Subtype /Image /Width %d /Height %d "
+                    + "/ColorSpace /DeviceGray /BitsPerComponent 1 /Filter /FlateDecode ",
+                    section.getWidth(), section.getHeight()), deflate(bits));
+        }
+        return pdf.finish(1);
+    }
+
+    private static byte[] deflate(byte[] data) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 8 + 64);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static String format(String pattern, Object... args) {
+        return String.format(Locale.ROOT, pattern, args);
+    }
+
+    /** Tracks object offsets for the cross-reference table while the file is written. */
+    private static final class Writer {
+
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        private final List<Integer> offsets = new ArrayList<>();
+
+        void header() {
+            // The comment with bytes above 127 marks the file as binary for transfer tools
+            ascii("%PDF-1.4\n");
+            out.write('%');
+            out.writeBytes(new byte[] {(byte) 0xE2, (byte) 0xE3, (byte) 0xCF, (byte) 0xD3});
+            ascii("\n");
+        }
+
+        void object(int number, String body) {
+            begin(number);
+            ascii(body + "\nendobj\n");
+        }
+
+        void stream(int number, String dictionary, byte[] data) {
+            begin(number);
+            ascii("<< " + dictionary + "/Length " + data.length + " >>\nstream\n");
+            out.writeBytes(data);
+            ascii("\nendstream\nendobj\n");
+        }
+
+        byte[] finish(int root) {
+            int xref = out.size();
+            ascii("xref\n0 " + (offsets.size() + 1) + "\n0000000000 65535 f \n");
+            for (int offset : offsets) {
+                ascii(format("%010d 00000 n \n", offset));
+            }
+            ascii("trailer\n<< /Size " + (offsets.size() + 1) + " /Root " + root + " 0 R >>\nstartxref\n"
+                    + xref + "\n%%EOF\n");
+            return out.toByteArray();
+        }
+
+        private void begin(int number) {
+            if (number != offsets.size() + 1) {
+                throw new IllegalStateException("PDF objects must be written in order, expected "
+                        + (offsets.size() + 1) + " but got " + number);
+            }
+            offsets.add(out.size());
+            ascii(number + " 0 obj\n");
+        }
+
+        private void ascii(String text) {
+            out.writeBytes(text.getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+}
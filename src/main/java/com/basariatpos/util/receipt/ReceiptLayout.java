@@ -0,0 +1,90 @@
+package com.basariatpos.util.receipt;
+
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * One section of a printed receipt, e.g. the center's header or the order lines, as a list of
+ * blocks stacked from top to bottom. The same layout is rasterized for the thermal printer and
+ * for PDF by {@link ReceiptRasterizer}, so both outputs always look alike.
+ * <p>
+ * Text is given in logical order; the rasterizer shapes Arabic and orders mixed Arabic and Latin
+ * runs. Each paragraph reads in the direction of its first letter, so an English line stays left
+ * to right on an Arabic receipt; numbers, dates and codes inside Arabic text should be wrapped in
+ * {@link #leftToRight(String)}. The layout direction places the text: in a right-to-left layout
+ * {@link Align#START} means the right edge, and a {@link Row} puts its label on the right and its
+ * value on the left.
+ *
+ * @param rightToLeft whether the section reads from right to left.
+ * @param blocks      the blocks, from top to bottom.
+ */
+public record ReceiptLayout(boolean rightToLeft, List<Block> blocks) {
+
+    public ReceiptLayout {
+        blocks = List.copyOf(blocks);
+    }
+
+    /**
+     * Marks text as a left-to-right unit, e.g. "#1042", a date or a phone number, so that the
+     * bidirectional algorithm does not reverse its parts when it appears in right-to-left text.
+     *
+     * @param text the text.
+     * @return the text between a LEFT-TO-RIGHT ISOLATE and a POP DIRECTIONAL ISOLATE.
+     */
+    public static String leftToRight(String text) {
+        return "\u2066" + text + "\u2069";
+    }
+
+    /** Horizontal placement of a {@link Text} block. */
+    public enum Align { START, CENTER, END }
+
+    /** A part of a receipt section. */
+    public sealed interface Block permits Text, Row, Rule, Image {
+    }
+
+    /**
+     * A paragraph, wrapped at the paper width.
+     *
+     * @param text  the text.
+     * @param align the placement of each line.
+     * @param bold  whether the text is printed bold.
+     * @param large whether the text is printed in the heading size.
+     */
+    public record Text(String text, Align align, boolean bold, boolean large) implements Block {
+        public Text {
+            Objects.requireNonNull(text, "text");
+            Objects.requireNonNull(align, "align");
+        }
+    }
+
+    /**
+     * A label and a value on opposite edges, e.g. an order line and its amount. A label too long
+     * for the space beside the value is wrapped.
+     *
+     * @param label the label.
+     * @param value the value, kept on one line.
+     * @param bold  whether the row is printed bold.
+     */
+    public record Row(String label, String value, boolean bold) implements Block {
+        public Row {
+            Objects.requireNonNull(label, "label");
+            Objects.requireNonNull(value, "value");
+        }
+    }
+
+    /** A horizontal line across the paper. */
+    public record Rule() implements Block {
+    }
+
+    /**
+     * A centered bitmap, e.g. the center's logo, printed at one pixel per printer dot.
+     *
+     * @param bitmap the bitmap; it must not be wider than the printable width.
+     */
+    public record Image(BufferedImage bitmap) implements Block {
+        public Image {
+            Objects.requireNonNull(bitmap, "bitmap");
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.basariatpos.util.receipt;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.font.FontRenderContext;
+import java.awt.font.LineBreakMeasurer;
+import java.awt.font.TextAttribute;
+import java.awt.font.TextLayout;
+import java.awt.image.BufferedImage;
+import java.text.AttributedString;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Draws a {@link ReceiptLayout} into a black-and-white bitmap at printer resolution, one pixel
+ * per dot, which {@link EscPosEncoder} sends to a thermal printer and {@link PdfReceiptWriter}
+ * places on a PDF page.
+ * <p>
+ * Receipts are rasterized instead of printed as text because thermal printers have no Arabic
+ * shaping and their code pages differ between models. Java2D's {@link TextLayout} joins Arabic
+ * letters into their contextual forms and lays out mixed right-to-left and left-to-right runs
+ * with the Unicode bidirectional algorithm, with any font that has Arabic glyphs.
+ * <p>
+ * Instances are immutable and thread-safe; fonts and metrics are set up once.
+ */
+public final class ReceiptRasterizer {
+
+    /** Resolution of common 58 mm and 80 mm thermal printers. */
+    public static final int DOTS_PER_INCH = 203;
+
+    /** Printable width of an 80 mm roll at {@link #DOTS_PER_INCH}. */
+    public static final int WIDTH_80MM_DOTS = 576;
+
+    /** Printable width of a 58 mm roll at {@link #DOTS_PER_INCH}. */
+    public static final int WIDTH_58MM_DOTS = 384;
+
+    private static final int MARGIN = 8;
+    private static final int ROW_GAP = 16;
+    private static final int RULE_THICKNESS = 2;
+    private static final int RULE_PADDING = 6;
+    private static final int IMAGE_PADDING = 8;
+
+    private final int width;
+    private final Font regular;
+    private final Font bold;
+    private final Font large;
+    private final FontRenderContext frc = new FontRenderContext(null, false, true);
+
+    /**
+     * @param width      the paper width in dots, a multiple of 8, e.g. {@link #WIDTH_80MM_DOTS}.
+     * @param fontFamily a font family with Arabic glyphs, or a logical family such as
+     *                   {@link Font#SANS_SERIF}.
+     * @param fontSize   the body text size in dots; headings are half as large again.
+     * @throws IllegalArgumentException if the width is not a positive multiple of 8.
+     */
+    public ReceiptRasterizer(int width, String fontFamily, int fontSize) {
+        if (width <= 2 * MARGIN || width % 8 != 0) {
+            throw new IllegalArgumentException("Paper width must be a positive multiple of 8 dots, was " + width);
+        }
+        Objects.requireNonNull(fontFamily, "fontFamily");
+        this.width = width;
+        this.regular = new Font(fontFamily, Font.PLAIN, fontSize);
+        this.bold = regular.deriveFont(Font.BOLD);
+        this.large = bold.deriveFont(fontSize * 1.5f);
+    }
+
+    /**
+     * @return the paper width in dots.
+     */
+    public int width() {
+        return width;
+    }
+
+    /**
+     * @return the width available to text and images, between the side margins.
+     */
+    public int printableWidth() {
+        return width - 2 * MARGIN;
+    }
+
+    /**
+     * Draws a section.
+     *
+     * @param layout the section.
+     * @return a {@link BufferedImage#TYPE_BYTE_BINARY} image as wide as the paper and as tall as
+     *         the content, at least one dot.
+     */
+    public BufferedImage rasterize(ReceiptLayout layout) {
+        // Measure first so the image can be allocated at its final height
+        List<Consumer<Graphics2D>> drawing = new ArrayList<>();
+        int y = 0;
+        for (ReceiptLayout.Block block : layout.blocks()) {
+            y = switch (block) {
+                case ReceiptLayout.Text text -> placeText(text, layout.rightToLeft(), y, drawing);
+                case ReceiptLayout.Row row -> placeRow(row, layout.rightToLeft(), y, drawing);
+                case ReceiptLayout.Rule rule -> placeRule(y, drawing);
+                case ReceiptLayout.Image image -> placeImage(image, y, drawing);
+            };
+        }
+
+        BufferedImage bitmap = new BufferedImage(width, Math.max(y, 1), BufferedImage.TYPE_BYTE_BINARY);
+        Graphics2D g = bitmap.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, bitmap.getWidth(), bitmap.getHeight());
+            g.setColor(Color.BLACK);
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_OFF);
+            g.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS, RenderingHints.VALUE_FRACTIONALMETRICS_ON);
+            drawing.forEach(step -> step.accept(g));
+        } finally {
+            g.dispose();
+        }
+        return bitmap;
+    }
+
+    private int placeText(ReceiptLayout.Text text, boolean rightToLeft, int y, List<Consumer<Graphics2D>> drawing) {
+        Font font = text.large() ? large : text.bold() ? bold : regular;
+        for (TextLayout line : wrap(text.text(), font, printableWidth())) {
+            float advance = line.getVisibleAdvance();
+            float x = switch (text.align()) {
+                case CENTER -> (width - advance) / 2;
+                case START -> rightToLeft ? width - MARGIN - advance : MARGIN;
+                case END -> rightToLeft ? MARGIN : width - MARGIN - advance;
+            };
+            y = placeLine(line, x, y, drawing);
+        }
+        return y;
+    }
+
+    private int placeRow(ReceiptLayout.Row row, boolean rightToLeft, int y, List<Consumer<Graphics2D>> drawing) {
+        Font font = row.bold() ? bold : regular;
+        TextLayout value = row.value().isEmpty() ? null : layout(row.value(), font);
+        float valueAdvance = value == null ? 0 : value.getVisibleAdvance();
+        int labelWidth = Math.max(printableWidth() / 3, (int) (printableWidth() - valueAdvance - ROW_GAP));
+
+        int top = y;
+        for (TextLayout line : wrap(row.label(), font, labelWidth)) {
+            float x = rightToLeft ? width - MARGIN - line.getVisibleAdvance() : MARGIN;
+            y = placeLine(line, x, y, drawing);
+        }
+        if (value != null) {
+            float x = rightToLeft ? MARGIN : width - MARGIN - valueAdvance;
+            int valueBottom = placeLine(value, x, top, drawing);
+            y = Math.max(y, valueBottom);
+        }
+        return y;
+    }
+
+    private int placeRule(int y, List<Consumer<Graphics2D>> drawing) {
+        int top = y + RULE_PADDING;
+        drawing.add(g -> g.fillRect(MARGIN, top, printableWidth(), RULE_THICKNESS));
+        return top + RULE_THICKNESS + RULE_PADDING;
+    }
+
+    private int placeImage(ReceiptLayout.Image image, int y, List<Consumer<Graphics2D>> drawing) {
+        BufferedImage bitmap = image.bitmap();
+        if (bitmap.getWidth() > printableWidth()) {
+            throw new IllegalArgumentException("Image is " + bitmap.getWidth() + " dots wide, more than the printable "
+                    + printableWidth());
+        }
+        int x = (width - bitmap.getWidth()) / 2;
+        int top = y + IMAGE_PADDING;
+        drawing.add(g -> g.drawImage(bitmap, x, top, null));
+        return top + bitmap.getHeight() + IMAGE_PADDING;
+    }
+
+    private static int placeLine(TextLayout line, float x, int y, List<Consumer<Graphics2D>> drawing) {
+        float baseline = y + line.getAscent();
+        drawing.add(g -> line.draw(g, x, baseline));
+        return (int) Math.ceil(baseline + line.getDescent() + line.getLeading());
+    }
+
+    private TextLayout layout(String text, Font font) {
+        return new TextLayout(attributed(text, font).getIterator(), frc);
+    }
+
+    private List<TextLayout> wrap(String text, Font font, int wrapWidth) {
+        List<TextLayout> lines = new ArrayList<>();
+        for (String paragraph : text.split("\n", -1)) {
+            if (paragraph.isEmpty()) {
+                // TextLayout rejects empty text; an empty line still takes up a line
+                lines.add(layout(" ", font));
+                continue;
+            }
+            LineBreakMeasurer measurer = new LineBreakMeasurer(attributed(paragraph, font).getIterator(), frc);
+            while (measurer.getPosition() < paragraph.length()) {
+                lines.add(measurer.nextLayout(wrapWidth));
+            }
+        }
+        return lines;
+    }
+
+    private static AttributedString attributed(String text, Font font) {
+        // Without a RUN_DIRECTION the first strong character sets the paragraph direction, so an
+        // English footer line reads left to right even on an Arabic receipt
+        AttributedString attributed = new AttributedString(text);
+        attributed.addAttribute(TextAttribute.FONT, font);
+        return attributed;
+    }
+}
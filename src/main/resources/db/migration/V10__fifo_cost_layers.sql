@@ -0,0 +1,334 @@
+-- Basariat POS - Migration V10: point-in-time cost of goods sold from FIFO cost layers
+-- Applies on top of V9.
+--
+-- COGS in GenerateProfitAndLossStatement, SalesDetailedView.item_profit_on_item and the daily
+-- rollups multiplied quantities by the current InventoryItems.cost_price, which every purchase
+-- order receipt overwrites, so the profit of past sales changed after each delivery.
+--
+-- Stock now enters InventoryCostLayers at its purchase price: one layer per receipt, fed by
+-- update_inventory_on_po_receipt, plus an opening layer per item for the stock on hand today.
+-- ProcessOrderCompletionStockUpdate consumes the oldest layers first and records the cost on
+-- each sale line (SalesOrderItems.cost_amount), so reports sum a stored figure. Quantities
+-- sold beyond the layers left (stock adjusted outside purchase orders) are costed at the
+-- current cost_price. Lines of orders completed before this migration are given their cost at
+-- today's cost_price, the best figure still available.
+--
+-- InventoryItems.cost_price remains the latest purchase price, used for stock valuation and as
+-- the cost estimate of lines not completed yet.
+
+BEGIN;
+
+ALTER TABLE SalesOrderItems ADD COLUMN cost_amount DECIMAL(12,2); -- Cost of goods of a stock line, set on completion
+
+CREATE TABLE InventoryCostLayers (
+    cost_layer_id BIGSERIAL PRIMARY KEY,
+    inventory_item_id INT NOT NULL REFERENCES InventoryItems(inventory_item_id) ON DELETE CASCADE,
+    source VARCHAR(20) NOT NULL CHECK (source IN ('Opening', 'Purchase', 'Restock')),
+    po_item_id INT REFERENCES PurchaseOrderItems(po_item_id) ON DELETE SET NULL, -- Receipt that created a 'Purchase' layer
+    unit_cost DECIMAL(10,2) NOT NULL,
+    quantity_received INT NOT NULL CHECK (quantity_received > 0),
+    quantity_remaining INT NOT NULL CHECK (quantity_remaining BETWEEN 0 AND quantity_received),
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
+);
+
+-- FIFO reads the open layers of an item oldest first; exhausted layers drop out of the index
+CREATE INDEX idx_inventorycostlayers_open ON InventoryCostLayers(inventory_item_id, cost_layer_id) WHERE quantity_remaining > 0;
+CREATE INDEX idx_inventorycostlayers_po_item ON InventoryCostLayers(po_item_id) WHERE po_item_id IS NOT NULL;
+
+INSERT INTO InventoryCostLayers (inventory_item_id, source, unit_cost, quantity_received, quantity_remaining)
+SELECT inventory_item_id, 'Opening', COALESCE(cost_price, 0), quantity_on_hand, quantity_on_hand
+FROM InventoryItems
+WHERE quantity_on_hand > 0
+ORDER BY inventory_item_id;
+
+--------------------------------------------------------------------------------
+-- Receipts add layers
+--------------------------------------------------------------------------------
+CREATE OR REPLACE FUNCTION update_inventory_on_po_receipt() RETURNS TRIGGER AS $$
+DECLARE v_quantity_change INT;
+BEGIN
+    IF TG_OP = 'UPDATE' THEN
+        v_quantity_change := COALESCE(NEW.quantity_received, 0) - COALESCE(OLD.quantity_received, 0);
+    ELSE
+        v_quantity_change := COALESCE(NEW.quantity_received, 0);
+    END IF;
+    IF v_quantity_change = 0 OR (TG_OP = 'INSERT' AND v_quantity_change < 0) THEN
+        RETURN NEW;
+    END IF;
+
+    UPDATE InventoryItems SET quantity_on_hand = quantity_on_hand + v_quantity_change, cost_price = NEW.purchase_price_per_unit
+    WHERE inventory_item_id = NEW.inventory_item_id;
+
+    IF v_quantity_change > 0 THEN
+        INSERT INTO InventoryCostLayers (inventory_item_id, source, po_item_id, unit_cost, quantity_received, quantity_remaining)
+        VALUES (NEW.inventory_item_id, 'Purchase', NEW.po_item_id, NEW.purchase_price_per_unit, v_quantity_change, v_quantity_change);
+    ELSE
+        -- A corrected (lowered) receipt takes back what is left of this line's layers, newest first
+        UPDATE InventoryCostLayers l
+        SET quantity_remaining = l.quantity_remaining - t.take
+        FROM (
+            SELECT cost_layer_id,
+                   LEAST(quantity_remaining, GREATEST(-v_quantity_change - (SUM(quantity_remaining) OVER w - quantity_remaining), 0)) AS take
+            FROM InventoryCostLayers
+            WHERE po_item_id = NEW.po_item_id AND quantity_remaining > 0
+            WINDOW w AS (ORDER BY cost_layer_id DESC)
+        ) t
+        WHERE l.cost_layer_id = t.cost_layer_id AND t.take > 0;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+--------------------------------------------------------------------------------
+-- Completion consumes layers
+--------------------------------------------------------------------------------
+-- Costs the stock lines of an order that have no cost yet from the oldest open layers of their
+-- items. Lines of the same item take consecutive slices of the layers in so_item_id order.
+CREATE OR REPLACE FUNCTION consume_cost_layers(p_sales_order_id INT) RETURNS VOID AS $$
+BEGIN
+    -- Lock the layers in a fixed order so concurrent completions of the same items queue
+    -- instead of deadlocking; a waiting completion then sees what the first one consumed.
+    PERFORM 1 FROM InventoryCostLayers l
+    WHERE l.inventory_item_id IN (
+            SELECT inventory_item_id FROM SalesOrderItems
+            WHERE sales_order_id = p_sales_order_id AND inventory_item_id IS NOT NULL AND cost_amount IS NULL)
+      AND l.quantity_remaining > 0
+    ORDER BY l.inventory_item_id, l.cost_layer_id
+    FOR UPDATE;
+
+    WITH lines AS (
+        SELECT soi.so_item_id, soi.inventory_item_id, soi.quantity,
+               SUM(soi.quantity) OVER (PARTITION BY soi.inventory_item_id ORDER BY soi.so_item_id) - soi.quantity AS line_start
+        FROM SalesOrderItems soi
+        WHERE soi.sales_order_id = p_sales_order_id AND soi.inventory_item_id IS NOT NULL AND soi.cost_amount IS NULL
+    ), layers AS (
+        SELECT l.cost_layer_id, l.inventory_item_id, l.unit_cost, l.quantity_remaining,
+               SUM(l.quantity_remaining) OVER (PARTITION BY l.inventory_item_id ORDER BY l.cost_layer_id) - l.quantity_remaining AS layer_start
+        FROM InventoryCostLayers l
+        WHERE l.inventory_item_id IN (SELECT inventory_item_id FROM lines) AND l.quantity_remaining > 0
+    ), taken AS (
+        -- Overlap of each line's slice [line_start, line_start + quantity) with each layer's
+        SELECT li.so_item_id, la.cost_layer_id, la.unit_cost,
+               LEAST(li.line_start + li.quantity, la.layer_start + la.quantity_remaining)
+                   - GREATEST(li.line_start, la.layer_start) AS quantity
+        FROM lines li
+        JOIN layers la ON la.inventory_item_id = li.inventory_item_id
+        WHERE la.layer_start < li.line_start + li.quantity
+          AND li.line_start < la.layer_start + la.quantity_remaining
+    ), consumed AS (
+        UPDATE InventoryCostLayers l
+        SET quantity_remaining = l.quantity_remaining - t.quantity
+        FROM (SELECT cost_layer_id, SUM(quantity) AS quantity FROM taken GROUP BY cost_layer_id) t
+        WHERE l.cost_layer_id = t.cost_layer_id
+    )
+    UPDATE SalesOrderItems soi
+    SET cost_amount = COALESCE(c.cost, 0) + (li.quantity - COALESCE(c.quantity, 0)) * COALESCE(inv.cost_price, 0)
+    FROM lines li
+    JOIN InventoryItems inv ON inv.inventory_item_id = li.inventory_item_id
+    LEFT JOIN (
+        SELECT so_item_id, SUM(quantity) AS quantity, SUM(quantity * unit_cost) AS cost
+        FROM taken GROUP BY so_item_id
+    ) c ON c.so_item_id = li.so_item_id
+    WHERE soi.so_item_id = li.so_item_id;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE PROCEDURE ProcessOrderCompletionStockUpdate(p_sales_order_id INT)
+LANGUAGE plpgsql AS $$
+DECLARE item_record RECORD;
+BEGIN
+    PERFORM consume_cost_layers(p_sales_order_id);
+    FOR item_record IN SELECT soi.inventory_item_id, soi.quantity FROM SalesOrderItems soi
+                       WHERE soi.sales_order_id = p_sales_order_id AND soi.inventory_item_id IS NOT NULL
+    LOOP UPDATE InventoryItems SET quantity_on_hand = quantity_on_hand - item_record.quantity
+        WHERE inventory_item_id = item_record.inventory_item_id;
+    END LOOP;
+END;
+$$;
+
+-- Restocked goods of an abandoned order re-enter at the item's current cost
+CREATE OR REPLACE PROCEDURE ProcessAbandonedOrder(
+    p_sales_order_id INT, p_abandoned_by_user_id INT, p_restock_item_ids INT[] DEFAULT ARRAY[]::INT[]
+)
+LANGUAGE plpgsql AS $$
+DECLARE
+    v_item_record RECORD; v_total_loss_on_unrestocked_goods DECIMAL(12,2) := 0; v_loss_expense_category_id INT; v_order_exists BOOLEAN; v_current_shift_id INT;
+BEGIN
+    v_current_shift_id := get_current_app_shift_id();
+    IF v_current_shift_id IS NULL THEN RAISE EXCEPTION 'Cannot process abandoned order. No active shift for user ID %.', p_abandoned_by_user_id; END IF;
+
+    SELECT EXISTS (SELECT 1 FROM SalesOrders WHERE sales_order_id = p_sales_order_id AND status NOT IN ('Completed', 'Cancelled', 'Abandoned'))
+    INTO v_order_exists;
+    IF NOT v_order_exists THEN RAISE EXCEPTION 'Sales Order ID % cannot be abandoned or does not exist in an abandonable state.', p_sales_order_id; END IF;
+
+    UPDATE SalesOrders SET status = 'Abandoned', updated_at = NOW() WHERE sales_order_id = p_sales_order_id;
+
+    FOR v_item_record IN SELECT soi.so_item_id, soi.inventory_item_id, soi.quantity, COALESCE(inv.cost_price, 0) as cost_price
+        FROM SalesOrderItems soi LEFT JOIN InventoryItems inv ON soi.inventory_item_id = inv.inventory_item_id
+        WHERE soi.sales_order_id = p_sales_order_id AND soi.inventory_item_id IS NOT NULL
+    LOOP
+        IF v_item_record.so_item_id = ANY(p_restock_item_ids) THEN
+            UPDATE InventoryItems SET quantity_on_hand = quantity_on_hand + v_item_record.quantity
+            WHERE inventory_item_id = v_item_record.inventory_item_id;
+            UPDATE SalesOrderItems SET is_restocked_on_abandonment = TRUE WHERE so_item_id = v_item_record.so_item_id;
+            INSERT INTO InventoryCostLayers (inventory_item_id, source, unit_cost, quantity_received, quantity_remaining)
+            VALUES (v_item_record.inventory_item_id, 'Restock', v_item_record.cost_price, v_item_record.quantity, v_item_record.quantity);
+        ELSE
+            v_total_loss_on_unrestocked_goods := v_total_loss_on_unrestocked_goods + (v_item_record.quantity * v_item_record.cost_price);
+            UPDATE SalesOrderItems SET is_restocked_on_abandonment = FALSE WHERE so_item_id = v_item_record.so_item_id;
+        END IF;
+    END LOOP;
+
+    IF v_total_loss_on_unrestocked_goods > 0 THEN
+        SELECT expense_category_id INTO v_loss_expense_category_id FROM ExpenseCategories WHERE lower(category_name_en) = lower('Loss on Abandoned Orders');
+        IF v_loss_expense_category_id IS NULL THEN RAISE WARNING 'Expense category "Loss on Abandoned Orders" not found. Please create it to log this loss.';
+        ELSE INSERT INTO Expenses (expense_date, expense_category_id, description, amount, payment_method, created_by_user_id, shift_id)
+            VALUES (CURRENT_DATE, v_loss_expense_category_id, 'Loss from abandoned Sales Order ID: ' || p_sales_order_id,
+                    v_total_loss_on_unrestocked_goods, 'Cash', p_abandoned_by_user_id, v_current_shift_id); -- Assuming loss is from current shift's till if cash based
+        END IF;
+    END IF;
+END;
+$$;
+
+--------------------------------------------------------------------------------
+-- Reports read the snapshot
+--------------------------------------------------------------------------------
+-- Lines not completed yet keep showing an estimate at the current cost
+CREATE OR REPLACE VIEW SalesDetailedView AS
+SELECT
+    so.sales_order_id, so.order_date, p.system_patient_id, p.full_name AS patient_name,
+    u.full_name AS created_by_user, s.shift_id, us_shift.username as shift_user, so.status AS order_status, soi.so_item_id,
+    soi.description AS item_description, prod.product_name_en AS master_product_name_en,
+    prod.product_name_ar AS master_product_name_ar, pc.category_name_en AS category_en,
+    pc.category_name_ar AS category_ar, soi.quantity, soi.unit_price, soi.item_subtotal,
+    inv.brand_name, inv.attributes AS item_attributes,
+    COALESCE(ROUND(soi.cost_amount / soi.quantity, 2), inv.cost_price, 0) AS item_cost_price,
+    (soi.item_subtotal - COALESCE(soi.cost_amount, soi.quantity * COALESCE(inv.cost_price, 0))) AS item_profit_on_item,
+    so.subtotal_amount AS order_subtotal, so.discount_amount AS order_discount,
+    so.total_amount AS order_total, so.amount_paid AS order_amount_paid,
+    so.balance_due AS order_balance_due
+FROM SalesOrders so
+LEFT JOIN Patients p ON so.patient_id = p.patient_id
+JOIN Users u ON so.created_by_user_id = u.user_id
+JOIN SalesOrderItems soi ON so.sales_order_id = soi.sales_order_id
+LEFT JOIN InventoryItems inv ON soi.inventory_item_id = inv.inventory_item_id
+LEFT JOIN Products prod ON COALESCE(inv.product_id, soi.service_product_id) = prod.product_id
+LEFT JOIN ProductCategories pc ON prod.category_id = pc.category_id
+LEFT JOIN Shifts s ON so.shift_id = s.shift_id
+LEFT JOIN Users us_shift ON s.started_by_user_id = us_shift.user_id;
+
+CREATE OR REPLACE FUNCTION GenerateProfitAndLossStatement(p_start_date DATE, p_end_date DATE)
+RETURNS TABLE (category_type TEXT, item_description TEXT, amount DECIMAL)
+LANGUAGE plpgsql AS $$
+DECLARE
+    v_total_revenue DECIMAL; v_total_cogs DECIMAL; v_gross_profit DECIMAL; v_total_operating_expenses DECIMAL;
+BEGIN
+    SELECT COALESCE(SUM(pay.amount), 0) INTO v_total_revenue
+    FROM Payments pay JOIN SalesOrders so ON pay.sales_order_id = so.sales_order_id
+    WHERE DATE(pay.payment_date) BETWEEN p_start_date AND p_end_date AND so.status IN ('Completed', 'Abandoned');
+
+    -- Lines costed on completion carry their cost; lines completed some other way fall back to today's cost
+    SELECT COALESCE(SUM(COALESCE(soi.cost_amount, soi.quantity * COALESCE(inv.cost_price, 0))), 0) INTO v_total_cogs
+    FROM SalesOrderItems soi JOIN InventoryItems inv ON soi.inventory_item_id = inv.inventory_item_id
+    JOIN SalesOrders so ON soi.sales_order_id = so.sales_order_id
+    WHERE so.status = 'Completed' AND DATE(so.order_date) BETWEEN p_start_date AND p_end_date;
+
+    v_gross_profit := v_total_revenue - v_total_cogs;
+
+    SELECT COALESCE(SUM(e.amount), 0) INTO v_total_operating_expenses
+    FROM Expenses e WHERE e.expense_date BETWEEN p_start_date AND p_end_date;
+
+    RETURN QUERY SELECT 'Revenue' AS category_type, 'Total Cash Revenue Received' AS item_description, v_total_revenue AS amount;
+    RETURN QUERY SELECT 'COGS' AS category_type, 'Cost of Goods Sold (Completed Orders)' AS item_description, v_total_cogs AS amount;
+    RETURN QUERY SELECT 'Gross Profit' AS category_type, 'Gross Profit' AS item_description, v_gross_profit AS amount;
+
+    RETURN QUERY SELECT 'Operating Expense' AS category_type, ec.category_name_en || COALESCE(': ' || e.description, '') AS item_description, e.amount
+    FROM Expenses e JOIN ExpenseCategories ec ON e.expense_category_id = ec.expense_category_id
+    WHERE e.expense_date BETWEEN p_start_date AND p_end_date;
+
+    RETURN QUERY SELECT 'Total Operating Expense' AS category_type, 'Total Operating Expenses' AS item_description, v_total_operating_expenses AS amount;
+    RETURN QUERY SELECT 'Net Profit' AS category_type, 'Net Profit/(Loss)' AS item_description, (v_gross_profit - v_total_operating_expenses) AS amount;
+END;
+$$;
+
+-- Daily rollups (V9): COGS from the snapshot; only lines without one still depend on cost_price
+CREATE OR REPLACE FUNCTION daily_rollups_inventoryitems_trigger() RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM queue_daily_rollups(ARRAY(
+        SELECT DISTINCT so.order_date::DATE
+        FROM old_inventory o JOIN new_inventory n ON n.inventory_item_id = o.inventory_item_id
+        JOIN SalesOrderItems soi ON soi.inventory_item_id = n.inventory_item_id
+        JOIN SalesOrders so ON so.sales_order_id = soi.sales_order_id
+        WHERE (n.product_id IS DISTINCT FROM o.product_id AND so.status <> 'Cancelled')
+           OR (n.cost_price IS DISTINCT FROM o.cost_price AND so.status = 'Completed' AND soi.cost_amount IS NULL)));
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION RefreshDailyRollups()
+RETURNS INT
+LANGUAGE plpgsql AS $$
+DECLARE v_dates DATE[];
+BEGIN
+    LOCK TABLE DailySalesRollup IN EXCLUSIVE MODE; -- One refresh at a time; dashboard reads carry on
+
+    WITH taken AS (DELETE FROM DailyRollupQueue RETURNING rollup_date)
+    SELECT array_agg(DISTINCT rollup_date) INTO v_dates FROM taken;
+    IF v_dates IS NULL THEN RETURN 0; END IF;
+
+    DELETE FROM DailySalesRollup WHERE rollup_date = ANY(v_dates);
+    INSERT INTO DailySalesRollup (rollup_date, user_id, sales_orders, gross_sales, discounts, cash_received, bank_received, revenue)
+    SELECT d.day, t.user_id, SUM(t.sales_orders), SUM(t.gross_sales), SUM(t.discounts),
+           SUM(t.cash_received), SUM(t.bank_received), SUM(t.revenue)
+    FROM unnest(v_dates) AS d(day)
+    CROSS JOIN LATERAL (
+        SELECT so.created_by_user_id AS user_id, 1 AS sales_orders, so.subtotal_amount AS gross_sales,
+               COALESCE(so.discount_amount, 0) AS discounts, 0 AS cash_received, 0 AS bank_received, 0 AS revenue
+        FROM SalesOrders so
+        WHERE so.order_date >= d.day::TIMESTAMPTZ AND so.order_date < (d.day + 1)::TIMESTAMPTZ
+          AND so.status <> 'Cancelled'
+        UNION ALL
+        SELECT pay.received_by_user_id, 0, 0, 0,
+               CASE WHEN pay.payment_method = 'Cash' THEN pay.amount ELSE 0 END,
+               CASE WHEN pay.payment_method = 'Bank Transaction' THEN pay.amount ELSE 0 END,
+               CASE WHEN so.status IN ('Completed', 'Abandoned') THEN pay.amount ELSE 0 END
+        FROM Payments pay JOIN SalesOrders so ON so.sales_order_id = pay.sales_order_id
+        WHERE pay.payment_date >= d.day::TIMESTAMPTZ AND pay.payment_date < (d.day + 1)::TIMESTAMPTZ
+    ) t
+    GROUP BY d.day, t.user_id;
+
+    DELETE FROM DailyCategorySalesRollup WHERE rollup_date = ANY(v_dates);
+    INSERT INTO DailyCategorySalesRollup (rollup_date, category_id, quantity_sold, sales_amount, cogs)
+    SELECT d.day, p.category_id, SUM(soi.quantity), SUM(soi.item_subtotal),
+           SUM(CASE WHEN so.status = 'Completed' AND soi.inventory_item_id IS NOT NULL
+                    THEN COALESCE(soi.cost_amount, soi.quantity * COALESCE(inv.cost_price, 0)) ELSE 0 END)
+    FROM unnest(v_dates) AS d(day)
+    JOIN SalesOrders so ON so.order_date >= d.day::TIMESTAMPTZ AND so.order_date < (d.day + 1)::TIMESTAMPTZ
+    JOIN SalesOrderItems soi ON soi.sales_order_id = so.sales_order_id
+    LEFT JOIN InventoryItems inv ON inv.inventory_item_id = soi.inventory_item_id
+    JOIN Products p ON p.product_id = COALESCE(inv.product_id, soi.service_product_id)
+    WHERE so.status <> 'Cancelled'
+    GROUP BY d.day, p.category_id;
+
+    DELETE FROM DailyExpenseRollup WHERE rollup_date = ANY(v_dates);
+    INSERT INTO DailyExpenseRollup (rollup_date, expense_category_id, user_id, expense_count, cash_amount, bank_amount)
+    SELECT e.expense_date, e.expense_category_id, e.created_by_user_id, COUNT(*),
+           COALESCE(SUM(e.amount) FILTER (WHERE e.payment_method = 'Cash'), 0),
+           COALESCE(SUM(e.amount) FILTER (WHERE e.payment_method <> 'Cash'), 0)
+    FROM Expenses e
+    WHERE e.expense_date = ANY(v_dates)
+    GROUP BY e.expense_date, e.expense_category_id, e.created_by_user_id;
+
+    RETURN array_length(v_dates, 1);
+END;
+$$;
+
+-- Cost the lines of orders completed so far at today's cost price
+UPDATE SalesOrderItems soi
+SET cost_amount = soi.quantity * COALESCE(inv.cost_price, 0)
+FROM SalesOrders so, InventoryItems inv
+WHERE so.sales_order_id = soi.sales_order_id AND so.status = 'Completed'
+  AND inv.inventory_item_id = soi.inventory_item_id;
+SELECT RefreshDailyRollups();
+
+COMMIT;
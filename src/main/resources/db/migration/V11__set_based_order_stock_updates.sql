@@ -0,0 +1,123 @@
+-- Basariat POS - Migration V11: set-based stock updates on order completion and abandonment
+-- Applies on top of V10.
+--
+-- ProcessOrderCompletionStockUpdate and ProcessAbandonedOrder looped over the order lines and
+-- updated InventoryItems (and, on abandonment, SalesOrderItems and InventoryCostLayers) one line
+-- at a time, so every line paid for a statement, its row triggers (timestamp, audit) and its
+-- statement triggers (catalog notification, daily rollups). The rows were also locked in line
+-- order: two orders holding the same items in a different order could deadlock, and an order
+-- listing an item twice updated its row twice.
+--
+-- Both procedures now sum the quantities per item and apply them with one UPDATE ... FROM, and
+-- abandonment flags its lines and adds its 'Restock' layers with one statement each. Before
+-- anything else they lock the affected InventoryItems rows in inventory_item_id order; every
+-- stock change of an order therefore takes its locks in the same order, stock rows before cost
+-- layers (as update_inventory_on_po_receipt does), and concurrent orders queue instead of
+-- deadlocking. Behaviour is otherwise unchanged from V10.
+--
+-- The daily rollup trigger on InventoryItems (V9, V10) joined the changed items with every
+-- SalesOrderItems row, a sequential scan, before checking whether product_id or cost_price had
+-- changed at all. It now returns at once for the quantity-only updates made by sales.
+
+BEGIN;
+
+CREATE OR REPLACE PROCEDURE ProcessOrderCompletionStockUpdate(p_sales_order_id INT)
+LANGUAGE plpgsql AS $$
+BEGIN
+    PERFORM 1 FROM InventoryItems
+    WHERE inventory_item_id IN (
+            SELECT inventory_item_id FROM SalesOrderItems
+            WHERE sales_order_id = p_sales_order_id AND inventory_item_id IS NOT NULL)
+    ORDER BY inventory_item_id
+    FOR NO KEY UPDATE;
+
+    PERFORM consume_cost_layers(p_sales_order_id);
+
+    UPDATE InventoryItems inv SET quantity_on_hand = inv.quantity_on_hand - s.quantity
+    FROM (
+        SELECT inventory_item_id, SUM(quantity) AS quantity
+        FROM SalesOrderItems
+        WHERE sales_order_id = p_sales_order_id AND inventory_item_id IS NOT NULL
+        GROUP BY inventory_item_id
+    ) s
+    WHERE inv.inventory_item_id = s.inventory_item_id;
+END;
+$$;
+
+-- Restocked goods of an abandoned order re-enter at the item's current cost
+CREATE OR REPLACE PROCEDURE ProcessAbandonedOrder(
+    p_sales_order_id INT, p_abandoned_by_user_id INT, p_restock_item_ids INT[] DEFAULT ARRAY[]::INT[]
+)
+LANGUAGE plpgsql AS $$
+DECLARE
+    v_total_loss_on_unrestocked_goods DECIMAL(12,2); v_loss_expense_category_id INT; v_current_shift_id INT;
+BEGIN
+    p_restock_item_ids := COALESCE(p_restock_item_ids, ARRAY[]::INT[]);
+    v_current_shift_id := get_current_app_shift_id();
+    IF v_current_shift_id IS NULL THEN RAISE EXCEPTION 'Cannot process abandoned order. No active shift for user ID %.', p_abandoned_by_user_id; END IF;
+
+    UPDATE SalesOrders SET status = 'Abandoned', updated_at = NOW()
+    WHERE sales_order_id = p_sales_order_id AND status NOT IN ('Completed', 'Cancelled', 'Abandoned');
+    IF NOT FOUND THEN RAISE EXCEPTION 'Sales Order ID % cannot be abandoned or does not exist in an abandonable state.', p_sales_order_id; END IF;
+
+    PERFORM 1 FROM InventoryItems
+    WHERE inventory_item_id IN (
+            SELECT inventory_item_id FROM SalesOrderItems
+            WHERE sales_order_id = p_sales_order_id AND so_item_id = ANY(p_restock_item_ids) AND inventory_item_id IS NOT NULL)
+    ORDER BY inventory_item_id
+    FOR NO KEY UPDATE;
+
+    UPDATE InventoryItems inv SET quantity_on_hand = inv.quantity_on_hand + s.quantity
+    FROM (
+        SELECT inventory_item_id, SUM(quantity) AS quantity
+        FROM SalesOrderItems
+        WHERE sales_order_id = p_sales_order_id AND so_item_id = ANY(p_restock_item_ids) AND inventory_item_id IS NOT NULL
+        GROUP BY inventory_item_id
+    ) s
+    WHERE inv.inventory_item_id = s.inventory_item_id;
+
+    UPDATE SalesOrderItems SET is_restocked_on_abandonment = (so_item_id = ANY(p_restock_item_ids))
+    WHERE sales_order_id = p_sales_order_id AND inventory_item_id IS NOT NULL;
+
+    INSERT INTO InventoryCostLayers (inventory_item_id, source, unit_cost, quantity_received, quantity_remaining)
+    SELECT soi.inventory_item_id, 'Restock', COALESCE(inv.cost_price, 0), soi.quantity, soi.quantity
+    FROM SalesOrderItems soi JOIN InventoryItems inv ON inv.inventory_item_id = soi.inventory_item_id
+    WHERE soi.sales_order_id = p_sales_order_id AND soi.so_item_id = ANY(p_restock_item_ids)
+    ORDER BY soi.so_item_id;
+
+    SELECT COALESCE(SUM(soi.quantity * COALESCE(inv.cost_price, 0)), 0) INTO v_total_loss_on_unrestocked_goods
+    FROM SalesOrderItems soi JOIN InventoryItems inv ON inv.inventory_item_id = soi.inventory_item_id
+    WHERE soi.sales_order_id = p_sales_order_id AND NOT (soi.so_item_id = ANY(p_restock_item_ids));
+
+    IF v_total_loss_on_unrestocked_goods > 0 THEN
+        SELECT expense_category_id INTO v_loss_expense_category_id FROM ExpenseCategories WHERE lower(category_name_en) = lower('Loss on Abandoned Orders');
+        IF v_loss_expense_category_id IS NULL THEN RAISE WARNING 'Expense category "Loss on Abandoned Orders" not found. Please create it to log this loss.';
+        ELSE INSERT INTO Expenses (expense_date, expense_category_id, description, amount, payment_method, created_by_user_id, shift_id)
+            VALUES (CURRENT_DATE, v_loss_expense_category_id, 'Loss from abandoned Sales Order ID: ' || p_sales_order_id,
+                    v_total_loss_on_unrestocked_goods, 'Cash', p_abandoned_by_user_id, v_current_shift_id); -- Assuming loss is from current shift's till if cash based
+        END IF;
+    END IF;
+END;
+$$;
+
+-- Daily rollups (V9): only product and cost changes can move past figures
+CREATE OR REPLACE FUNCTION daily_rollups_inventoryitems_trigger() RETURNS TRIGGER AS $$
+BEGIN
+    IF NOT EXISTS (
+        SELECT 1 FROM old_inventory o JOIN new_inventory n ON n.inventory_item_id = o.inventory_item_id
+        WHERE n.product_id IS DISTINCT FROM o.product_id OR n.cost_price IS DISTINCT FROM o.cost_price) THEN
+        RETURN NULL;
+    END IF;
+
+    PERFORM queue_daily_rollups(ARRAY(
+        SELECT DISTINCT so.order_date::DATE
+        FROM old_inventory o JOIN new_inventory n ON n.inventory_item_id = o.inventory_item_id
+        JOIN SalesOrderItems soi ON soi.inventory_item_id = n.inventory_item_id
+        JOIN SalesOrders so ON so.sales_order_id = soi.sales_order_id
+        WHERE (n.product_id IS DISTINCT FROM o.product_id AND so.status <> 'Cancelled')
+           OR (n.cost_price IS DISTINCT FROM o.cost_price AND so.status = 'Completed' AND soi.cost_amount IS NULL)));
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+COMMIT;
@@ -0,0 +1,133 @@
+-- Basariat POS - Migration V12: short-lived stock reservations for multi-terminal sales
+-- Applies on top of V11.
+--
+-- InventoryItems.quantity_on_hand only drops when an order is completed, so two terminals could
+-- both sell the last unit of an item and the second one only failed at completion, on the
+-- quantity_on_hand >= 0 check. A terminal now reserves stock when a line is added
+-- (StockReservationService) and sells only what is available: on hand minus reserved.
+--
+-- StockReservations holds one row per reserved line. A reservation expires at expires_at unless
+-- it has been attached to a saved order, which clears the expiry; it is then held until the
+-- order is completed, cancelled or abandoned. Every way a reservation ends is a DELETE: release
+-- by the terminal, ExpireStockReservations(), or the status change of its order.
+--
+-- StockReservationTotals keeps the reserved quantity per item, maintained by statement triggers
+-- on StockReservations, and a version that changes with every change of the total. Terminals
+-- read the total with its version and claim stock by bumping the version only if it is still
+-- the one they read, instead of locking the item with SELECT ... FOR UPDATE. The rows live
+-- outside InventoryItems so reservations do not fire its audit, catalog and rollup triggers.
+
+BEGIN;
+
+CREATE TABLE StockReservations (
+    reservation_id BIGSERIAL PRIMARY KEY,
+    inventory_item_id INT NOT NULL REFERENCES InventoryItems(inventory_item_id) ON DELETE CASCADE,
+    quantity INT NOT NULL CHECK (quantity > 0),
+    sales_order_id INT REFERENCES SalesOrders(sales_order_id) ON DELETE CASCADE, -- Set once the order is saved
+    reserved_by_user_id INT REFERENCES Users(user_id) DEFAULT get_current_app_user_id(),
+    expires_at TIMESTAMP WITH TIME ZONE, -- NULL while held for a saved order
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    CHECK (expires_at IS NOT NULL OR sales_order_id IS NOT NULL)
+);
+
+CREATE INDEX idx_stockreservations_expires_at ON StockReservations(expires_at) WHERE expires_at IS NOT NULL;
+CREATE INDEX idx_stockreservations_salesorderid ON StockReservations(sales_order_id) WHERE sales_order_id IS NOT NULL;
+CREATE INDEX idx_stockreservations_inventoryitemid ON StockReservations(inventory_item_id);
+
+CREATE TABLE StockReservationTotals (
+    inventory_item_id INT PRIMARY KEY REFERENCES InventoryItems(inventory_item_id) ON DELETE CASCADE,
+    quantity_reserved INT NOT NULL DEFAULT 0 CHECK (quantity_reserved >= 0),
+    version BIGINT NOT NULL DEFAULT 0 -- Changes whenever quantity_reserved does; compared by optimistic claims
+);
+
+--------------------------------------------------------------------------------
+-- Totals
+--------------------------------------------------------------------------------
+-- Adds the signed quantities of a statement's reservations to their items' totals. Items are
+-- locked in inventory_item_id order; a release updates the total, which a reservation created.
+CREATE OR REPLACE FUNCTION apply_stock_reservation_deltas(p_item_ids INT[], p_quantities INT[]) RETURNS VOID AS $$
+BEGIN
+    INSERT INTO StockReservationTotals AS t (inventory_item_id, quantity_reserved, version)
+    SELECT d.inventory_item_id, SUM(d.quantity), 1
+    FROM unnest(p_item_ids, p_quantities) AS d(inventory_item_id, quantity)
+    GROUP BY d.inventory_item_id
+    HAVING SUM(d.quantity) > 0
+    ORDER BY d.inventory_item_id
+    ON CONFLICT (inventory_item_id) DO UPDATE SET
+        quantity_reserved = t.quantity_reserved + EXCLUDED.quantity_reserved,
+        version = t.version + 1;
+
+    -- A negative row would fail the CHECK before ON CONFLICT applies, so releases update
+    PERFORM 1 FROM StockReservationTotals t
+    JOIN (SELECT d.inventory_item_id
+          FROM unnest(p_item_ids, p_quantities) AS d(inventory_item_id, quantity)
+          GROUP BY d.inventory_item_id HAVING SUM(d.quantity) < 0) r ON r.inventory_item_id = t.inventory_item_id
+    ORDER BY t.inventory_item_id
+    FOR NO KEY UPDATE OF t;
+    UPDATE StockReservationTotals t SET quantity_reserved = t.quantity_reserved + r.quantity, version = t.version + 1
+    FROM (SELECT d.inventory_item_id, SUM(d.quantity) AS quantity
+          FROM unnest(p_item_ids, p_quantities) AS d(inventory_item_id, quantity)
+          GROUP BY d.inventory_item_id HAVING SUM(d.quantity) < 0) r
+    WHERE t.inventory_item_id = r.inventory_item_id;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION stock_reservation_totals_trigger() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        PERFORM apply_stock_reservation_deltas(ARRAY(SELECT inventory_item_id FROM new_reservations),
+                                               ARRAY(SELECT quantity FROM new_reservations));
+    ELSIF TG_OP = 'DELETE' THEN
+        PERFORM apply_stock_reservation_deltas(ARRAY(SELECT inventory_item_id FROM old_reservations),
+                                               ARRAY(SELECT -quantity FROM old_reservations));
+    ELSE
+        PERFORM apply_stock_reservation_deltas(
+            ARRAY(SELECT inventory_item_id FROM new_reservations UNION ALL SELECT inventory_item_id FROM old_reservations),
+            ARRAY(SELECT quantity FROM new_reservations UNION ALL SELECT -quantity FROM old_reservations));
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Transition tables require one trigger per event
+CREATE TRIGGER trg_stock_reservation_totals_ins AFTER INSERT ON StockReservations
+    REFERENCING NEW TABLE AS new_reservations
+    FOR EACH STATEMENT EXECUTE FUNCTION stock_reservation_totals_trigger();
+CREATE TRIGGER trg_stock_reservation_totals_upd AFTER UPDATE ON StockReservations
+    REFERENCING OLD TABLE AS old_reservations NEW TABLE AS new_reservations
+    FOR EACH STATEMENT EXECUTE FUNCTION stock_reservation_totals_trigger();
+CREATE TRIGGER trg_stock_reservation_totals_del AFTER DELETE ON StockReservations
+    REFERENCING OLD TABLE AS old_reservations
+    FOR EACH STATEMENT EXECUTE FUNCTION stock_reservation_totals_trigger();
+
+--------------------------------------------------------------------------------
+-- Release
+--------------------------------------------------------------------------------
+-- An order that is completed, cancelled or abandoned no longer holds stock: on completion
+-- ProcessOrderCompletionStockUpdate takes the goods off quantity_on_hand instead
+CREATE OR REPLACE FUNCTION release_order_stock_reservations_trigger() RETURNS TRIGGER AS $$
+BEGIN
+    DELETE FROM StockReservations r
+    USING new_orders n JOIN old_orders o ON o.sales_order_id = n.sales_order_id
+    WHERE r.sales_order_id = n.sales_order_id
+      AND n.status IN ('Completed', 'Cancelled', 'Abandoned')
+      AND o.status IS DISTINCT FROM n.status;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_release_order_stock_reservations AFTER UPDATE ON SalesOrders
+    REFERENCING OLD TABLE AS old_orders NEW TABLE AS new_orders
+    FOR EACH STATEMENT EXECUTE FUNCTION release_order_stock_reservations_trigger();
+
+-- Deletes the reservations whose time is up, returning how many there were
+CREATE OR REPLACE FUNCTION ExpireStockReservations() RETURNS INT AS $$
+DECLARE v_expired INT;
+BEGIN
+    DELETE FROM StockReservations WHERE expires_at <= NOW();
+    GET DIAGNOSTICS v_expired = ROW_COUNT;
+    RETURN v_expired;
+END;
+$$ LANGUAGE plpgsql;
+
+COMMIT;
@@ -0,0 +1,21 @@
+-- Basariat POS - Migration V13: covering index for a patient's prescription history
+-- Applies on top of V12.
+--
+-- Opening a returning patient loads their latest diagnostics newest first
+-- (PrescriptionHistoryService):
+--   WHERE patient_id = :id ORDER BY diagnostic_date DESC, diagnostic_id DESC LIMIT n
+-- idx_opticaldiagnostics_patientid finds the rows but leaves the sort and every column to the
+-- heap. The index below returns them already in order, and INCLUDEs the measurements, so the
+-- history is read with an index-only scan. Remarks and contact lens details are free text of
+-- any length and stay out of the index; they are read for one diagnostic when it is opened.
+-- The new index starts with patient_id and replaces the old one, e.g. for the foreign key.
+
+BEGIN;
+
+CREATE INDEX IF NOT EXISTS idx_opticaldiagnostics_patient_date
+    ON OpticalDiagnostics(patient_id, diagnostic_date DESC, diagnostic_id DESC)
+    INCLUDE (is_contact_lens_rx, od_sph_dist, od_cyl_dist, od_axis_dist, os_sph_dist, os_cyl_dist,
+             os_axis_dist, od_add, os_add, ipd);
+DROP INDEX IF EXISTS idx_opticaldiagnostics_patientid;
+
+COMMIT;
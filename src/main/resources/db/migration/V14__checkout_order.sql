@@ -0,0 +1,115 @@
+-- Basariat POS - Migration V14: check out an order in one call
+-- Applies on top of V13.
+--
+-- Saving a sale took a round trip per statement: the SalesOrders header, each SalesOrderItems
+-- line, RecordPaymentAndUpdateSalesOrder per payment, attaching the stock reservations and,
+-- for a sale handed over at once, ProcessOrderCompletionStockUpdate. Over a slow link to the
+-- back-office server these add up to hundreds of milliseconds, and every UPDATE of the header
+-- fired its audit, timestamp and rollup triggers again.
+--
+-- CheckoutOrder(p_order) does all of it in one call and one transaction, and answers with the
+-- new IDs and the order's final amounts. It is a function with OUT parameters rather than a
+-- procedure so that it can be called with a plain SELECT. The order is passed as JSONB:
+--   {
+--     "patient_id": 42,                      -- optional; NULL for anonymous sales
+--     "status": "Completed",                 -- Pending (default), Awaiting Lenses,
+--                                            -- Ready for Pickup or Completed
+--     "discount_amount": 5.00,               -- optional
+--     "remarks": "...",                      -- optional
+--     "items": [{"inventory_item_id": 7, "service_product_id": null, "description": "...",
+--                "quantity": 1, "unit_price": 120.00, "prescription_details": {...},
+--                "is_custom_lenses": false}],
+--     "payments": [{"amount": 100.00, "payment_method": "Cash", "bank_name_id": null,
+--                   "transaction_id": null, "notes": null}],
+--     "reservation_ids": [15, 16]            -- StockReservations of the stock lines
+--   }
+-- The header is inserted with its status and the sum of the payments, so it is written once
+-- more, by the subtotal trigger of the lines, instead of once per payment and status change.
+-- Lines and payments are inserted with one statement each. The reservations are attached to
+-- the order, or, for a completed order, released, since completion takes the goods off
+-- quantity_on_hand in the same transaction. The session's user and shift are used as with
+-- the separate statements, and the shift checks of the triggers apply unchanged.
+
+BEGIN;
+
+CREATE OR REPLACE FUNCTION CheckoutOrder(
+    p_order JSONB,
+    OUT sales_order_id INT, OUT so_item_ids INT[], OUT payment_ids INT[], OUT reservations_held INT,
+    OUT status VARCHAR, OUT subtotal_amount DECIMAL, OUT discount_amount DECIMAL,
+    OUT total_amount DECIMAL, OUT amount_paid DECIMAL, OUT balance_due DECIMAL
+)
+LANGUAGE plpgsql AS $$
+#variable_conflict use_column
+DECLARE
+    v_user_id INT := get_current_app_user_id();
+    v_status VARCHAR := COALESCE(p_order->>'status', 'Pending');
+    v_items JSONB := p_order->'items';
+    v_payments JSONB := COALESCE(p_order->'payments', '[]'::JSONB);
+    v_reservation_ids BIGINT[];
+    v_order_id INT;
+BEGIN
+    IF v_user_id IS NULL THEN
+        RAISE EXCEPTION 'Cannot check out an order. No application user is set for the session.';
+    END IF;
+    IF v_status NOT IN ('Pending', 'Awaiting Lenses', 'Ready for Pickup', 'Completed') THEN
+        RAISE EXCEPTION 'Cannot check out an order with status %.', v_status;
+    END IF;
+    IF jsonb_typeof(v_items) IS DISTINCT FROM 'array' OR jsonb_array_length(v_items) = 0 THEN
+        RAISE EXCEPTION 'Cannot check out an order without items.';
+    END IF;
+    IF jsonb_typeof(v_payments) <> 'array' THEN
+        RAISE EXCEPTION 'The payments of an order must be an array.';
+    END IF;
+    v_reservation_ids := ARRAY(
+        SELECT jsonb_array_elements_text(COALESCE(p_order->'reservation_ids', '[]'::JSONB))::BIGINT);
+
+    INSERT INTO SalesOrders (patient_id, status, discount_amount, amount_paid, created_by_user_id, remarks)
+    VALUES ((p_order->>'patient_id')::INT, v_status, COALESCE((p_order->>'discount_amount')::DECIMAL, 0),
+            (SELECT COALESCE(SUM((p->>'amount')::DECIMAL), 0) FROM jsonb_array_elements(v_payments) AS p),
+            v_user_id, p_order->>'remarks')
+    RETURNING sales_order_id INTO v_order_id;
+
+    -- IDs are drawn in insertion order, which follows the ORDER BY, so they match the input lines
+    WITH inserted AS (
+        INSERT INTO SalesOrderItems (sales_order_id, inventory_item_id, service_product_id, description, quantity,
+                                     unit_price, prescription_details, is_custom_lenses)
+        SELECT v_order_id, (i.item->>'inventory_item_id')::INT, (i.item->>'service_product_id')::INT,
+               i.item->>'description', (i.item->>'quantity')::INT, (i.item->>'unit_price')::DECIMAL,
+               NULLIF(i.item->'prescription_details', 'null'::JSONB),
+               COALESCE((i.item->>'is_custom_lenses')::BOOLEAN, FALSE)
+        FROM jsonb_array_elements(v_items) WITH ORDINALITY AS i(item, n)
+        ORDER BY i.n
+        RETURNING so_item_id
+    )
+    SELECT array_agg(so_item_id ORDER BY so_item_id) INTO so_item_ids FROM inserted;
+
+    WITH inserted AS (
+        INSERT INTO Payments (sales_order_id, amount, payment_method, bank_name_id, transaction_id,
+                              received_by_user_id, notes)
+        SELECT v_order_id, (p.payment->>'amount')::DECIMAL, p.payment->>'payment_method',
+               (p.payment->>'bank_name_id')::INT, p.payment->>'transaction_id', v_user_id, p.payment->>'notes'
+        FROM jsonb_array_elements(v_payments) WITH ORDINALITY AS p(payment, n)
+        ORDER BY p.n
+        RETURNING payment_id
+    )
+    SELECT COALESCE(array_agg(payment_id ORDER BY payment_id), ARRAY[]::INT[]) INTO payment_ids FROM inserted;
+
+    IF v_status = 'Completed' THEN
+        DELETE FROM StockReservations WHERE reservation_id = ANY (v_reservation_ids);
+        reservations_held := 0;
+        CALL ProcessOrderCompletionStockUpdate(v_order_id);
+    ELSE
+        -- As StockReservationService.attachToOrder: lapsed reservations are not revived
+        UPDATE StockReservations SET sales_order_id = v_order_id, expires_at = NULL
+        WHERE reservation_id = ANY (v_reservation_ids) AND expires_at > NOW();
+        GET DIAGNOSTICS reservations_held = ROW_COUNT;
+    END IF;
+
+    SELECT so.sales_order_id, so.status, so.subtotal_amount, so.discount_amount, so.total_amount,
+           so.amount_paid, so.balance_due
+    INTO sales_order_id, status, subtotal_amount, discount_amount, total_amount, amount_paid, balance_due
+    FROM SalesOrders so WHERE so.sales_order_id = v_order_id;
+END;
+$$;
+
+COMMIT;
@@ -0,0 +1,81 @@
+-- Basariat POS - Migration V15: row change events for cross-terminal refresh
+-- Applies on top of V14.
+--
+-- Terminals share one database, and each needs to learn about the others' sales, payments,
+-- stock and patient changes. Statement-level triggers on the shared tables send one NOTIFY per
+-- statement on channel 'db_events', which the client's DbEventBus LISTENs on. The payload is
+-- '<table>:<op>:<ids>':
+--   table  the table name in lower case, e.g. 'salesorders'.
+--   op     I, U or D.
+--   ids    the distinct primary key values of the affected rows, comma-separated, or '*' if a
+--          statement touched more than 200 rows, so the payload stays well below NOTIFY's
+--          8000 byte limit.
+-- A statement that affects no rows sends nothing. NOTIFY is delivered on commit, so a rolled-
+-- back change is never announced, and PostgreSQL collapses identical payloads within a
+-- transaction.
+--
+-- The triggers read the affected keys from transition tables; PostgreSQL only allows those on
+-- triggers for a single event, hence three triggers per table. Derived tables (rollups, totals,
+-- cost layers, the audit log) are left out; a change to them always comes with a change to a
+-- table that is watched.
+--
+-- The 'catalog_changed' channel of V4 is superseded: catalog tables now send db_events too.
+
+BEGIN;
+
+CREATE OR REPLACE FUNCTION notify_db_event() RETURNS TRIGGER AS $$
+DECLARE
+    v_key_column TEXT := TG_ARGV[0];
+    v_ids TEXT[];
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        EXECUTE format('SELECT array_agg(id) FROM (SELECT DISTINCT %I AS id FROM old_rows LIMIT 201) ids',
+                       v_key_column) INTO v_ids;
+    ELSE
+        EXECUTE format('SELECT array_agg(id) FROM (SELECT DISTINCT %I AS id FROM new_rows LIMIT 201) ids',
+                       v_key_column) INTO v_ids;
+    END IF;
+
+    IF v_ids IS NULL THEN
+        RETURN NULL;
+    END IF;
+    PERFORM pg_notify('db_events', TG_TABLE_NAME || ':' || left(TG_OP, 1) || ':'
+        || CASE WHEN cardinality(v_ids) > 200 THEN '*' ELSE array_to_string(v_ids, ',') END);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Creates the insert, update and delete triggers of one table.
+CREATE OR REPLACE FUNCTION create_db_event_triggers(p_table REGCLASS, p_key_column TEXT) RETURNS VOID AS $$
+DECLARE
+    v_name TEXT := 'trg_db_event_' || lower(p_table::TEXT);
+BEGIN
+    EXECUTE format('CREATE TRIGGER %I AFTER INSERT ON %s REFERENCING NEW TABLE AS new_rows '
+                   'FOR EACH STATEMENT EXECUTE FUNCTION notify_db_event(%L)', v_name || '_ins', p_table, p_key_column);
+    EXECUTE format('CREATE TRIGGER %I AFTER UPDATE ON %s REFERENCING NEW TABLE AS new_rows '
+                   'FOR EACH STATEMENT EXECUTE FUNCTION notify_db_event(%L)', v_name || '_upd', p_table, p_key_column);
+    EXECUTE format('CREATE TRIGGER %I AFTER DELETE ON %s REFERENCING OLD TABLE AS old_rows '
+                   'FOR EACH STATEMENT EXECUTE FUNCTION notify_db_event(%L)', v_name || '_del', p_table, p_key_column);
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT create_db_event_triggers('SalesOrders', 'sales_order_id');
+SELECT create_db_event_triggers('SalesOrderItems', 'so_item_id');
+SELECT create_db_event_triggers('Payments', 'payment_id');
+SELECT create_db_event_triggers('StockReservations', 'reservation_id');
+SELECT create_db_event_triggers('InventoryItems', 'inventory_item_id');
+SELECT create_db_event_triggers('Products', 'product_id');
+SELECT create_db_event_triggers('ProductCategories', 'category_id');
+SELECT create_db_event_triggers('Patients', 'patient_id');
+SELECT create_db_event_triggers('OpticalDiagnostics', 'diagnostic_id');
+SELECT create_db_event_triggers('Appointments', 'appointment_id');
+SELECT create_db_event_triggers('Shifts', 'shift_id');
+SELECT create_db_event_triggers('Expenses', 'expense_id');
+SELECT create_db_event_triggers('PurchaseOrders', 'purchase_order_id');
+
+DROP TRIGGER IF EXISTS trg_notify_catalog_inventoryitems ON InventoryItems;
+DROP TRIGGER IF EXISTS trg_notify_catalog_products ON Products;
+DROP TRIGGER IF EXISTS trg_notify_catalog_productcategories ON ProductCategories;
+DROP FUNCTION IF EXISTS notify_catalog_changed();
+
+COMMIT;
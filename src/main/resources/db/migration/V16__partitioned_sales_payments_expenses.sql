@@ -0,0 +1,378 @@
+-- Basariat POS - Migration V16: year-partitioned SalesOrders, Payments and Expenses, fiscal year archiving
+-- Applies on top of V15.
+--
+-- SalesOrders, Payments and Expenses only grow, and so do their indexes, which every insert and
+-- vacuum has to maintain. They become tables partitioned by range of their date, one partition
+-- per year (salesorders_y2026, ...) plus a default partition as a safety net, like AuditLog (V8),
+-- which keeps its monthly partitions. Yearly partitions keep lookups by ID, which carry no date
+-- and so visit every partition, down to one index probe per year, and a year is the unit that is
+-- closed and archived. Years are calendar years in the session time zone, as elsewhere.
+--
+-- PartitionedTables lists the partitioned tables; create_range_partition() and
+-- EnsurePartitions() generalize V8's AuditLog functions, which remain as wrappers.
+-- EnsurePartitions() creates the partitions of the current and the next periods_ahead periods
+-- and must run regularly; PartitionMaintenanceService runs it at startup and daily.
+--
+-- A partitioned table's primary key must include the partition key, so the keys become
+-- (sales_order_id, order_date), (payment_id, payment_date) and (expense_id, expense_date), and
+-- payment_date becomes NOT NULL. IDs still come from their sequences. Foreign keys can only
+-- reference a unique key, so the four references to SalesOrders(sales_order_id) are now
+-- enforced by triggers with the same effect: a referencing row needs an existing order, whose
+-- row it locks like a foreign key check does, and deleting orders deletes their lines, payments,
+-- appointments and reservations. The unique key on delivery_appointment_id is enforced by a
+-- trigger as well. The jOOQ code generator declares the IDs as synthetic primary keys, so the
+-- generated records and DAOs still work by ID; the implicit join paths from SalesOrders to the
+-- referencing tables are no longer generated.
+--
+-- ArchiveFiscalYear() detaches the partitions of a closed year into schema archive, from where
+-- they can be dumped and dropped, or attached again.
+
+BEGIN;
+
+--------------------------------------------------------------------------------
+-- Partition management
+--------------------------------------------------------------------------------
+CREATE TABLE PartitionedTables (
+    table_name VARCHAR(63) PRIMARY KEY, -- Lower case, as in pg_class
+    partition_column VARCHAR(63) NOT NULL,
+    partition_interval VARCHAR(5) NOT NULL CHECK (partition_interval IN ('month', 'year')),
+    periods_ahead INT NOT NULL CHECK (periods_ahead >= 1), -- Future periods EnsurePartitions() keeps ready
+    archive_with_fiscal_year BOOLEAN NOT NULL -- Whether ArchiveFiscalYear() detaches its partitions
+);
+
+INSERT INTO PartitionedTables (table_name, partition_column, partition_interval, periods_ahead, archive_with_fiscal_year) VALUES
+    ('auditlog', 'action_timestamp', 'month', 3, FALSE),
+    ('salesorders', 'order_date', 'year', 1, TRUE),
+    ('payments', 'payment_date', 'year', 1, TRUE),
+    ('expenses', 'expense_date', 'year', 1, TRUE);
+
+-- Creates the partition of p_table holding p_period unless it exists; returns whether it was created.
+-- Partitions are named <table>_yYYYY or <table>_yYYYYmMM.
+CREATE OR REPLACE FUNCTION create_range_partition(p_table TEXT, p_period DATE) RETURNS BOOLEAN AS $$
+DECLARE
+    v_interval TEXT;
+    v_start DATE;
+    v_name TEXT;
+BEGIN
+    SELECT partition_interval INTO v_interval FROM PartitionedTables WHERE table_name = lower(p_table);
+    IF v_interval IS NULL THEN
+        RAISE EXCEPTION 'Table % is not listed in PartitionedTables', p_table;
+    END IF;
+    v_start := date_trunc(v_interval, p_period)::DATE;
+    v_name := lower(p_table) || '_y' || to_char(v_start, 'YYYY')
+        || CASE WHEN v_interval = 'month' THEN 'm' || to_char(v_start, 'MM') ELSE '' END;
+    IF to_regclass(v_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+    EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                   v_name, lower(p_table), v_start, (v_start + ('1 ' || v_interval)::INTERVAL)::DATE);
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Creates the partitions of the current and the next periods_ahead periods of every partitioned
+-- table; returns the number created
+CREATE OR REPLACE FUNCTION EnsurePartitions() RETURNS INT AS $$
+DECLARE
+    v_table RECORD;
+    v_created INT := 0;
+BEGIN
+    FOR v_table IN SELECT * FROM PartitionedTables ORDER BY table_name LOOP
+        FOR i IN 0..v_table.periods_ahead LOOP
+            IF create_range_partition(v_table.table_name,
+                                      (CURRENT_DATE + (i || ' ' || v_table.partition_interval)::INTERVAL)::DATE) THEN
+                v_created := v_created + 1;
+            END IF;
+        END LOOP;
+    END LOOP;
+    RETURN v_created;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION create_audit_log_partition(p_month DATE) RETURNS VOID AS $$
+BEGIN
+    PERFORM create_range_partition('auditlog', p_month);
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE PROCEDURE EnsureAuditLogPartitions(p_months_ahead INT DEFAULT 3)
+LANGUAGE plpgsql AS $$
+BEGIN
+    FOR i IN 0..p_months_ahead LOOP
+        PERFORM create_range_partition('auditlog', (CURRENT_DATE + make_interval(months => i))::DATE);
+    END LOOP;
+END;
+$$;
+
+--------------------------------------------------------------------------------
+-- References to SalesOrders
+--------------------------------------------------------------------------------
+-- Row trigger on the referencing tables: the order must exist; locking it keeps it from being
+-- deleted until the transaction ends, as a foreign key check does
+CREATE OR REPLACE FUNCTION check_sales_order_reference() RETURNS TRIGGER AS $$
+BEGIN
+    IF NEW.sales_order_id IS NOT NULL THEN
+        PERFORM 1 FROM SalesOrders WHERE sales_order_id = NEW.sales_order_id FOR KEY SHARE;
+        IF NOT FOUND THEN
+            RAISE EXCEPTION 'Insert or update on table "%" violates reference to SalesOrders: sales order % does not exist',
+                TG_TABLE_NAME, NEW.sales_order_id
+                USING ERRCODE = 'foreign_key_violation';
+        END IF;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Statement trigger on SalesOrders: deletes what belonged to deleted orders. An UPDATE that moves
+-- an order to another partition fires UPDATE, not DELETE, statement triggers.
+CREATE OR REPLACE FUNCTION cascade_sales_order_delete() RETURNS TRIGGER AS $$
+BEGIN
+    DELETE FROM SalesOrderItems WHERE sales_order_id IN (SELECT sales_order_id FROM old_orders);
+    DELETE FROM Payments WHERE sales_order_id IN (SELECT sales_order_id FROM old_orders);
+    DELETE FROM Appointments WHERE sales_order_id IN (SELECT sales_order_id FROM old_orders);
+    DELETE FROM StockReservations WHERE sales_order_id IN (SELECT sales_order_id FROM old_orders);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION prevent_sales_order_id_change() RETURNS TRIGGER AS $$
+BEGIN
+    IF NEW.sales_order_id <> OLD.sales_order_id THEN
+        RAISE EXCEPTION 'Sales order IDs cannot be changed (order %)', OLD.sales_order_id
+            USING ERRCODE = 'foreign_key_violation';
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- An appointment is the delivery appointment of at most one order. Locking the appointment
+-- makes concurrent orders claiming it wait for each other, so the second one sees the first.
+CREATE OR REPLACE FUNCTION check_unique_delivery_appointment() RETURNS TRIGGER AS $$
+BEGIN
+    IF NEW.delivery_appointment_id IS NOT NULL THEN
+        PERFORM 1 FROM Appointments WHERE appointment_id = NEW.delivery_appointment_id FOR NO KEY UPDATE;
+        IF EXISTS (SELECT 1 FROM SalesOrders
+                   WHERE delivery_appointment_id = NEW.delivery_appointment_id
+                     AND sales_order_id <> NEW.sales_order_id) THEN
+            RAISE EXCEPTION 'Appointment % is already the delivery appointment of another order', NEW.delivery_appointment_id
+                USING ERRCODE = 'unique_violation', CONSTRAINT = 'salesorders_delivery_appointment_id_key';
+        END IF;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+--------------------------------------------------------------------------------
+-- Conversion
+--------------------------------------------------------------------------------
+-- Recreates p_table as a partitioned table with the same columns, defaults, checks, indexes,
+-- outgoing foreign keys and triggers, and copies its rows before the triggers exist, so the copy
+-- is neither audited nor counted again by the rollups
+CREATE FUNCTION pg_temp.partition_table(p_table TEXT, p_key_column TEXT) RETURNS VOID AS $$
+DECLARE
+    v_column TEXT;
+    v_interval TEXT;
+    v_old TEXT := p_table || '_unpartitioned';
+    v_sequence TEXT := pg_get_serial_sequence(p_table, p_key_column);
+    v_columns TEXT;
+    v_statements TEXT[];
+    v_statement TEXT;
+BEGIN
+    SELECT partition_column, partition_interval INTO v_column, v_interval
+    FROM PartitionedTables WHERE table_name = p_table;
+    SELECT string_agg(quote_ident(attname), ', ' ORDER BY attnum) INTO v_columns
+    FROM pg_attribute
+    WHERE attrelid = p_table::REGCLASS AND attnum > 0 AND NOT attisdropped AND attgenerated = '';
+
+    -- Indexes not backing a constraint, then foreign keys, then triggers
+    SELECT array_agg(pg_get_indexdef(i.indexrelid) ORDER BY i.indexrelid) INTO v_statements
+    FROM pg_index i
+    WHERE i.indrelid = p_table::REGCLASS
+      AND NOT EXISTS (SELECT 1 FROM pg_constraint c WHERE c.conindid = i.indexrelid);
+    v_statements := v_statements || ARRAY(
+        SELECT format('ALTER TABLE %I ADD CONSTRAINT %I %s', p_table, conname, pg_get_constraintdef(oid))
+        FROM pg_constraint WHERE conrelid = p_table::REGCLASS AND contype = 'f' ORDER BY conname);
+    v_statements := v_statements || ARRAY(
+        SELECT pg_get_triggerdef(oid)
+        FROM pg_trigger WHERE tgrelid = p_table::REGCLASS AND NOT tgisinternal ORDER BY tgname);
+
+    EXECUTE format('ALTER TABLE %I RENAME TO %I', p_table, v_old);
+    EXECUTE format('ALTER SEQUENCE %s OWNED BY NONE', v_sequence);
+    EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING GENERATED INCLUDING CONSTRAINTS INCLUDING STORAGE INCLUDING COMMENTS) '
+                   'PARTITION BY RANGE (%I)', p_table, v_old, v_column);
+    EXECUTE format('ALTER SEQUENCE %s OWNED BY %I.%I', v_sequence, p_table, p_key_column);
+    EXECUTE format('CREATE TABLE %I PARTITION OF %I DEFAULT', p_table || '_default', p_table);
+    EXECUTE format('SELECT count(create_range_partition(%L, period::DATE)) '
+                   'FROM (SELECT DISTINCT date_trunc(%L, %I) AS period FROM %I) periods',
+                   p_table, v_interval, v_column, v_old);
+    EXECUTE format('INSERT INTO %I (%s) SELECT %s FROM %I', p_table, v_columns, v_columns, v_old);
+    EXECUTE format('DROP TABLE %I', v_old);
+
+    EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I PRIMARY KEY (%I, %I)', p_table, p_table || '_pkey', p_key_column, v_column);
+    FOREACH v_statement IN ARRAY v_statements LOOP
+        EXECUTE v_statement;
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Views over the converted tables are recreated afterwards
+CREATE TEMPORARY TABLE saved_views ON COMMIT DROP AS
+SELECT c.relname AS view_name, pg_get_viewdef(c.oid) AS definition
+FROM pg_class c
+WHERE c.relkind = 'v'
+  AND c.oid IN (SELECT r.ev_class FROM pg_depend d JOIN pg_rewrite r ON r.oid = d.objid
+                WHERE d.refobjid IN ('salesorders'::REGCLASS, 'payments'::REGCLASS, 'expenses'::REGCLASS));
+
+DO $$
+DECLARE
+    v_view RECORD;
+BEGIN
+    FOR v_view IN SELECT view_name FROM saved_views LOOP
+        EXECUTE format('DROP VIEW %I', v_view.view_name);
+    END LOOP;
+END;
+$$;
+
+ALTER TABLE SalesOrderItems DROP CONSTRAINT salesorderitems_sales_order_id_fkey;
+ALTER TABLE Payments DROP CONSTRAINT payments_sales_order_id_fkey;
+ALTER TABLE Appointments DROP CONSTRAINT appointments_sales_order_id_fkey;
+ALTER TABLE StockReservations DROP CONSTRAINT stockreservations_sales_order_id_fkey;
+ALTER TABLE SalesOrders DROP CONSTRAINT salesorders_delivery_appointment_id_key;
+
+-- Payments without a date are dated like their order, since the partition key cannot be NULL
+UPDATE Payments p SET payment_date = o.order_date
+FROM SalesOrders o
+WHERE o.sales_order_id = p.sales_order_id AND p.payment_date IS NULL;
+
+SELECT pg_temp.partition_table('salesorders', 'sales_order_id');
+SELECT pg_temp.partition_table('payments', 'payment_id');
+SELECT pg_temp.partition_table('expenses', 'expense_id');
+SELECT EnsurePartitions();
+
+DO $$
+DECLARE
+    v_view RECORD;
+BEGIN
+    FOR v_view IN SELECT * FROM saved_views LOOP
+        EXECUTE format('CREATE VIEW %I AS %s', v_view.view_name, v_view.definition);
+    END LOOP;
+END;
+$$;
+
+CREATE INDEX idx_salesorders_delivery_appointment ON SalesOrders(delivery_appointment_id)
+    WHERE delivery_appointment_id IS NOT NULL;
+
+CREATE TRIGGER trg_check_sales_order_salesorderitems AFTER INSERT OR UPDATE OF sales_order_id ON SalesOrderItems
+    FOR EACH ROW EXECUTE FUNCTION check_sales_order_reference();
+CREATE TRIGGER trg_check_sales_order_payments AFTER INSERT OR UPDATE OF sales_order_id ON Payments
+    FOR EACH ROW EXECUTE FUNCTION check_sales_order_reference();
+CREATE TRIGGER trg_check_sales_order_appointments AFTER INSERT OR UPDATE OF sales_order_id ON Appointments
+    FOR EACH ROW EXECUTE FUNCTION check_sales_order_reference();
+CREATE TRIGGER trg_check_sales_order_stockreservations AFTER INSERT OR UPDATE OF sales_order_id ON StockReservations
+    FOR EACH ROW EXECUTE FUNCTION check_sales_order_reference();
+CREATE TRIGGER trg_cascade_sales_order_delete AFTER DELETE ON SalesOrders
+    REFERENCING OLD TABLE AS old_orders
+    FOR EACH STATEMENT EXECUTE FUNCTION cascade_sales_order_delete();
+CREATE TRIGGER trg_prevent_sales_order_id_change BEFORE UPDATE OF sales_order_id ON SalesOrders
+    FOR EACH ROW EXECUTE FUNCTION prevent_sales_order_id_change();
+CREATE TRIGGER trg_check_unique_delivery_appointment AFTER INSERT OR UPDATE OF delivery_appointment_id ON SalesOrders
+    FOR EACH ROW EXECUTE FUNCTION check_unique_delivery_appointment();
+
+ANALYZE SalesOrders;
+ANALYZE Payments;
+ANALYZE Expenses;
+
+--------------------------------------------------------------------------------
+-- Fiscal year archiving
+--------------------------------------------------------------------------------
+-- Moves the closed fiscal (calendar) year p_year out of the live tables into schema archive:
+-- the year's partitions of every table with archive_with_fiscal_year, and the lines of the
+-- year's orders into archive.salesorderitems_yYYYY. Years must be archived in order, and the year
+-- must have no open orders and no rows in a default partition. The lines are moved with the
+-- triggers of SalesOrderItems disabled, so the daily rollups and shift totals of the year stay as
+-- they are; do not rebuild them for an archived year. Payments and appointments of later years
+-- keep the IDs of archived orders. Returns the archived tables.
+CREATE OR REPLACE FUNCTION ArchiveFiscalYear(p_year INT) RETURNS TEXT[] AS $$
+DECLARE
+    v_start DATE := make_date(p_year, 1, 1);
+    v_end DATE := make_date(p_year + 1, 1, 1);
+    v_table RECORD;
+    v_partition RECORD;
+    v_count BIGINT;
+    v_archived TEXT[] := '{}';
+    v_items TEXT := 'salesorderitems_y' || p_year;
+BEGIN
+    IF v_end > CURRENT_DATE THEN
+        RAISE EXCEPTION 'Fiscal year % is not closed yet', p_year;
+    END IF;
+    SELECT count(*) INTO v_count FROM SalesOrders
+    WHERE order_date >= v_start AND order_date < v_end
+      AND status IN ('Pending', 'Awaiting Lenses', 'Ready for Pickup');
+    IF v_count > 0 THEN
+        RAISE EXCEPTION 'Fiscal year % still has % open orders', p_year, v_count;
+    END IF;
+
+    CREATE SCHEMA IF NOT EXISTS archive;
+    IF to_regclass('archive.' || v_items) IS NOT NULL THEN
+        RAISE EXCEPTION 'Fiscal year % has already been archived', p_year;
+    END IF;
+
+    FOR v_table IN SELECT * FROM PartitionedTables WHERE archive_with_fiscal_year ORDER BY table_name LOOP
+        EXECUTE format('SELECT count(*) FROM %I WHERE %I < %L', v_table.table_name || '_default',
+                       v_table.partition_column, v_end) INTO v_count;
+        IF v_count > 0 THEN
+            RAISE EXCEPTION '% has % rows up to fiscal year % in its default partition; move them first',
+                v_table.table_name, v_count, p_year;
+        END IF;
+        IF EXISTS (SELECT 1 FROM partition_bounds(v_table.table_name) WHERE upper_bound <= v_start) THEN
+            RAISE EXCEPTION '% has partitions before fiscal year %; archive the earlier years first',
+                v_table.table_name, p_year;
+        END IF;
+    END LOOP;
+
+    IF NOT EXISTS (SELECT 1 FROM PartitionedTables t, partition_bounds(t.table_name) b
+                   WHERE t.archive_with_fiscal_year AND b.lower_bound >= v_start AND b.upper_bound <= v_end) THEN
+        RAISE EXCEPTION 'Fiscal year % has no partitions to archive', p_year;
+    END IF;
+
+    -- Days of the year still queued must be computed while their rows are here
+    PERFORM RefreshDailyRollups();
+
+    EXECUTE format('CREATE TABLE archive.%I AS SELECT i.* FROM SalesOrderItems i JOIN SalesOrders o '
+                   'ON o.sales_order_id = i.sales_order_id WHERE o.order_date >= %L AND o.order_date < %L',
+                   v_items, v_start, v_end);
+    ALTER TABLE SalesOrderItems DISABLE TRIGGER USER;
+    EXECUTE format('DELETE FROM SalesOrderItems WHERE so_item_id IN (SELECT so_item_id FROM archive.%I)', v_items);
+    ALTER TABLE SalesOrderItems ENABLE TRIGGER USER;
+    v_archived := v_archived || ('archive.' || v_items);
+
+    DELETE FROM StockReservations r USING SalesOrders o
+    WHERE o.sales_order_id = r.sales_order_id AND o.order_date >= v_start AND o.order_date < v_end;
+
+    FOR v_table IN SELECT * FROM PartitionedTables WHERE archive_with_fiscal_year ORDER BY table_name LOOP
+        FOR v_partition IN SELECT * FROM partition_bounds(v_table.table_name)
+                           WHERE lower_bound >= v_start AND upper_bound <= v_end LOOP
+            EXECUTE format('ALTER TABLE %I DETACH PARTITION %I', v_table.table_name, v_partition.partition_name);
+            EXECUTE format('ALTER TABLE %I SET SCHEMA archive', v_partition.partition_name);
+            v_archived := v_archived || ('archive.' || v_partition.partition_name);
+        END LOOP;
+    END LOOP;
+    RETURN v_archived;
+END;
+$$ LANGUAGE plpgsql;
+
+-- The range partitions of p_table with their bounds; the default partition is not listed
+CREATE OR REPLACE FUNCTION partition_bounds(p_table TEXT)
+RETURNS TABLE (partition_name TEXT, lower_bound TIMESTAMPTZ, upper_bound TIMESTAMPTZ)
+LANGUAGE sql STABLE AS $$
+    SELECT c.relname::TEXT,
+           substring(pg_get_expr(c.relpartbound, c.oid) FROM 'FROM \(''([^'']+)''\)')::TIMESTAMPTZ,
+           substring(pg_get_expr(c.relpartbound, c.oid) FROM 'TO \(''([^'']+)''\)')::TIMESTAMPTZ
+    FROM pg_inherits i
+    JOIN pg_class c ON c.oid = i.inhrelid
+    WHERE i.inhparent = lower(p_table)::REGCLASS
+      AND pg_get_expr(c.relpartbound, c.oid) <> 'DEFAULT'
+    ORDER BY 2;
+$$;
+
+COMMIT;
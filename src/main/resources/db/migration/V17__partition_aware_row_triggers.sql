@@ -0,0 +1,90 @@
+-- Basariat POS - Migration V17: row triggers name the partitioned table, not the partition
+-- Applies on top of V16.
+--
+-- Row triggers on a partitioned table run on its partitions, so since V16 TG_TABLE_NAME is e.g.
+-- 'salesorders_y2026' for SalesOrders, Payments and Expenses. check_active_shift_for_transaction()
+-- therefore no longer assigned shift_id to new orders and payments, which also kept ShiftTotals
+-- from counting them, and audit_row_change() logged them under the partition's name. The
+-- functions now use trigger_table_name(TG_RELID), the partitioned table of a partition and the
+-- table itself otherwise.
+
+BEGIN;
+
+-- The table whose trigger fired: the partitioned table for a partition, the table itself otherwise
+CREATE OR REPLACE FUNCTION trigger_table_name(p_relid OID) RETURNS TEXT AS $$
+    SELECT relname::TEXT
+    FROM pg_class
+    WHERE oid = COALESCE((SELECT inhparent FROM pg_inherits WHERE inhrelid = p_relid), p_relid);
+$$ LANGUAGE sql STABLE;
+
+CREATE OR REPLACE FUNCTION check_active_shift_for_transaction() RETURNS TRIGGER AS $$
+DECLARE v_current_shift_id INT; v_shift_status VARCHAR(20); v_table TEXT := trigger_table_name(TG_RELID);
+BEGIN
+    v_current_shift_id := get_current_app_shift_id();
+    IF v_current_shift_id IS NULL THEN RAISE EXCEPTION 'No active shift found for the current user. Please start or resume a shift to process transactions.'; END IF;
+    SELECT status INTO v_shift_status FROM Shifts WHERE shift_id = v_current_shift_id;
+    IF v_shift_status != 'Active' THEN RAISE EXCEPTION 'The current shift (ID: %) is not active (Status: %). Transactions cannot be processed.', v_current_shift_id, v_shift_status; END IF;
+
+    IF TG_OP = 'INSERT' THEN
+        IF v_table IN ('salesorders', 'payments') THEN
+            NEW.shift_id := v_current_shift_id;
+        ELSIF v_table = 'expenses' THEN
+            IF NEW.payment_method = 'Cash' THEN NEW.shift_id := v_current_shift_id; END IF;
+        END IF;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- TG_ARGV[0] is the primary key column of the audited table
+CREATE OR REPLACE FUNCTION audit_row_change() RETURNS TRIGGER AS $$
+DECLARE
+    v_table TEXT := trigger_table_name(TG_RELID);
+    v_old JSONB;
+    v_new JSONB;
+    v_old_diff JSONB;
+    v_new_diff JSONB;
+    v_user_id INT := get_current_app_user_id();
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        v_new := to_jsonb(NEW) - '{created_at,updated_at}'::TEXT[];
+        INSERT INTO AuditLog (table_name, record_pk, new_value, action_type, user_id)
+        VALUES (v_table, v_new ->> TG_ARGV[0], v_new, TG_OP, v_user_id);
+        RETURN NEW;
+    ELSIF TG_OP = 'UPDATE' THEN
+        v_old := to_jsonb(OLD) - '{created_at,updated_at}'::TEXT[];
+        v_new := to_jsonb(NEW) - '{created_at,updated_at}'::TEXT[];
+        IF v_old = v_new THEN
+            RETURN NEW;
+        END IF;
+        SELECT jsonb_object_agg(n.key, o.value), jsonb_object_agg(n.key, n.value)
+        INTO v_old_diff, v_new_diff
+        FROM jsonb_each(v_new) n JOIN jsonb_each(v_old) o ON o.key = n.key
+        WHERE n.value IS DISTINCT FROM o.value;
+        INSERT INTO AuditLog (table_name, record_pk, old_value, new_value, action_type, user_id)
+        VALUES (v_table, v_old ->> TG_ARGV[0], v_old_diff, v_new_diff, TG_OP, v_user_id);
+        RETURN NEW;
+    ELSE
+        v_old := to_jsonb(OLD) - '{created_at,updated_at}'::TEXT[];
+        INSERT INTO AuditLog (table_name, record_pk, old_value, action_type, user_id)
+        VALUES (v_table, v_old ->> TG_ARGV[0], v_old, TG_OP, v_user_id);
+        RETURN OLD;
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION check_sales_order_reference() RETURNS TRIGGER AS $$
+BEGIN
+    IF NEW.sales_order_id IS NOT NULL THEN
+        PERFORM 1 FROM SalesOrders WHERE sales_order_id = NEW.sales_order_id FOR KEY SHARE;
+        IF NOT FOUND THEN
+            RAISE EXCEPTION 'Insert or update on table "%" violates reference to SalesOrders: sales order % does not exist',
+                trigger_table_name(TG_RELID), NEW.sales_order_id
+                USING ERRCODE = 'foreign_key_violation';
+        END IF;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+COMMIT;
@@ -0,0 +1,102 @@
+-- Basariat POS - Migration V18: move rows out of default partitions
+-- Applies on top of V17.
+--
+-- A row whose period has no partition lands in its table's default partition: an order entered
+-- back-dated to an earlier year, or audit entries of a month EnsurePartitions() has not run for.
+-- PostgreSQL then refuses to create that period's partition, since the default partition would
+-- hold rows belonging to it, and ArchiveFiscalYear() refuses the year.
+--
+-- create_range_partition() now moves such rows into the partition it creates: it detaches the
+-- default partition, copies the period's rows into a new table, attaches that table as the
+-- period's partition and attaches the default partition again. The new table has no triggers
+-- while the rows are copied, so moving them is neither audited nor counted by the rollups.
+-- EnsurePartitions() first creates the partitions of every period found in a default partition,
+-- so running it moves all of them.
+
+BEGIN;
+
+-- Creates the partition of p_table holding p_period unless it exists, moving the period's rows
+-- from the default partition into it; returns whether it was created.
+-- Partitions are named <table>_yYYYY or <table>_yYYYYmMM.
+CREATE OR REPLACE FUNCTION create_range_partition(p_table TEXT, p_period DATE) RETURNS BOOLEAN AS $$
+DECLARE
+    v_table TEXT := lower(p_table);
+    v_default TEXT := lower(p_table) || '_default';
+    v_column TEXT;
+    v_interval TEXT;
+    v_start DATE;
+    v_end DATE;
+    v_name TEXT;
+    v_columns TEXT;
+    v_in_default BOOLEAN;
+BEGIN
+    SELECT partition_column, partition_interval INTO v_column, v_interval
+    FROM PartitionedTables WHERE table_name = v_table;
+    IF v_interval IS NULL THEN
+        RAISE EXCEPTION 'Table % is not listed in PartitionedTables', p_table;
+    END IF;
+    v_start := date_trunc(v_interval, p_period)::DATE;
+    v_end := (v_start + ('1 ' || v_interval)::INTERVAL)::DATE;
+    v_name := v_table || '_y' || to_char(v_start, 'YYYY')
+        || CASE WHEN v_interval = 'month' THEN 'm' || to_char(v_start, 'MM') ELSE '' END;
+    IF to_regclass(v_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    EXECUTE format('SELECT EXISTS (SELECT 1 FROM %I WHERE %I >= %L AND %I < %L)',
+                   v_default, v_column, v_start, v_column, v_end) INTO v_in_default;
+    IF NOT v_in_default THEN
+        EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                       v_name, v_table, v_start, v_end);
+        RETURN TRUE;
+    END IF;
+
+    -- Detaching drops the triggers the default partition has from its table, so deleting the
+    -- rows from it runs none either
+    SELECT string_agg(quote_ident(attname), ', ' ORDER BY attnum) INTO v_columns
+    FROM pg_attribute
+    WHERE attrelid = v_table::REGCLASS AND attnum > 0 AND NOT attisdropped AND attgenerated = '';
+    EXECUTE format('ALTER TABLE %I DETACH PARTITION %I', v_table, v_default);
+    EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING GENERATED INCLUDING CONSTRAINTS INCLUDING STORAGE)',
+                   v_name, v_table);
+    EXECUTE format('WITH moved AS (DELETE FROM %I WHERE %I >= %L AND %I < %L RETURNING *) '
+                   'INSERT INTO %I (%s) SELECT %s FROM moved',
+                   v_default, v_column, v_start, v_column, v_end, v_name, v_columns, v_columns);
+    EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   v_table, v_name, v_start, v_end);
+    EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I DEFAULT', v_table, v_default);
+    RAISE NOTICE 'Moved the rows of % from % into %', v_start, v_default, v_name;
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Creates the partitions of every period with rows in a default partition, then those of the
+-- current and the next periods_ahead periods, of every partitioned table; returns the number created
+CREATE OR REPLACE FUNCTION EnsurePartitions() RETURNS INT AS $$
+DECLARE
+    v_table RECORD;
+    v_period DATE;
+    v_created INT := 0;
+BEGIN
+    FOR v_table IN SELECT * FROM PartitionedTables ORDER BY table_name LOOP
+        FOR v_period IN EXECUTE format('SELECT DISTINCT date_trunc(%L, %I)::DATE FROM %I ORDER BY 1',
+                                       v_table.partition_interval, v_table.partition_column,
+                                       v_table.table_name || '_default') LOOP
+            IF create_range_partition(v_table.table_name, v_period) THEN
+                v_created := v_created + 1;
+            END IF;
+        END LOOP;
+        FOR i IN 0..v_table.periods_ahead LOOP
+            IF create_range_partition(v_table.table_name,
+                                      (CURRENT_DATE + (i || ' ' || v_table.partition_interval)::INTERVAL)::DATE) THEN
+                v_created := v_created + 1;
+            END IF;
+        END LOOP;
+    END LOOP;
+    RETURN v_created;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT EnsurePartitions();
+
+COMMIT;
@@ -0,0 +1,14 @@
+-- Basariat POS - Migration V19: audit entries logged under a partition's name
+-- Applies on top of V18.
+--
+-- Until V17, changes to SalesOrders, Payments and Expenses made after V16 were logged under the
+-- name of the partition holding the row, e.g. 'salesorders_y2026', so a record's history, which
+-- is looked up by table name, missed them. They are renamed to their partitioned table.
+
+BEGIN;
+
+UPDATE AuditLog a SET table_name = t.table_name
+FROM PartitionedTables t
+WHERE a.table_name ~ ('^' || t.table_name || '_(y[0-9]{4}(m[0-9]{2})?|default)$');
+
+COMMIT;
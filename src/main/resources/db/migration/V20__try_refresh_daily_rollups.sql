@@ -0,0 +1,27 @@
+-- Basariat POS - Migration V20: dashboard reads do not wait for each other's rollup refresh
+-- Applies on top of V19.
+--
+-- Every dashboard read refreshed the daily rollups first, and RefreshDailyRollups() takes an
+-- EXCLUSIVE lock on DailySalesRollup, so terminals opening their dashboards at the same time
+-- queued behind each other's refresh. TryRefreshDailyRollups() refreshes only if no other
+-- transaction is doing so, and otherwise returns NULL at once; the caller then reads the rollups
+-- as they are, which lack at most the days the other transaction is about to commit.
+-- RefreshDailyRollups() still waits, for callers that need every queued day, such as
+-- ArchiveFiscalYear().
+
+BEGIN;
+
+-- Recomputes the queued days unless another transaction is refreshing them; returns the number
+-- of days refreshed, or NULL if it skipped
+CREATE OR REPLACE FUNCTION TryRefreshDailyRollups()
+RETURNS INT
+LANGUAGE plpgsql AS $$
+BEGIN
+    IF NOT pg_try_advisory_xact_lock(hashtext('RefreshDailyRollups')) THEN
+        RETURN NULL;
+    END IF;
+    RETURN RefreshDailyRollups();
+END;
+$$;
+
+COMMIT;
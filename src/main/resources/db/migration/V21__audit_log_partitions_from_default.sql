@@ -0,0 +1,28 @@
+-- Basariat POS - Migration V21: EnsureAuditLogPartitions() empties the default partition
+-- Applies on top of V20.
+--
+-- Audit entries of a month EnsureAuditLogPartitions() was not run for land in auditlog_default.
+-- Since V18 create_range_partition() moves them when their month's partition is created, but
+-- EnsureAuditLogPartitions() only created the current and upcoming months, so entries of a
+-- missed month stayed in the default partition until EnsurePartitions() ran. It now creates the
+-- partition of every month found in the default partition first, as EnsurePartitions() does.
+
+BEGIN;
+
+CREATE OR REPLACE PROCEDURE EnsureAuditLogPartitions(p_months_ahead INT DEFAULT 3)
+LANGUAGE plpgsql AS $$
+DECLARE
+    v_month DATE;
+BEGIN
+    FOR v_month IN SELECT DISTINCT date_trunc('month', action_timestamp)::DATE FROM auditlog_default ORDER BY 1 LOOP
+        PERFORM create_range_partition('auditlog', v_month);
+    END LOOP;
+    FOR i IN 0..p_months_ahead LOOP
+        PERFORM create_range_partition('auditlog', (CURRENT_DATE + make_interval(months => i))::DATE);
+    END LOOP;
+END;
+$$;
+
+CALL EnsureAuditLogPartitions(3);
+
+COMMIT;
@@ -0,0 +1,75 @@
+-- Basariat POS - Migration V22: commit-ordered change watermark for the catalog cache
+-- Applies on top of V21.
+--
+-- CatalogCache refreshed from the updated_at columns of InventoryItems and Products, re-reading
+-- a fixed window behind its watermark. updated_at is the start time of the writing transaction,
+-- so a transaction that commits more than that window after it started was never picked up.
+-- Each row now records the ID of the transaction that last wrote it. A refresh reads under one
+-- snapshot and keeps that snapshot's xmin as its watermark: every change it could not see was
+-- made by a transaction with an ID at or above it, whenever that transaction commits.
+--
+-- The IDs are stored as BIGINT (the 64-bit xid8, which does not wrap around). The column is
+-- bookkeeping, so audit_row_change() leaves it out of the audit log like the timestamps.
+
+BEGIN;
+
+ALTER TABLE InventoryItems ADD COLUMN IF NOT EXISTS change_xid BIGINT NOT NULL DEFAULT pg_current_xact_id()::TEXT::BIGINT;
+ALTER TABLE Products ADD COLUMN IF NOT EXISTS change_xid BIGINT NOT NULL DEFAULT pg_current_xact_id()::TEXT::BIGINT;
+
+CREATE OR REPLACE FUNCTION set_change_xid() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.change_xid := pg_current_xact_id()::TEXT::BIGINT;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS set_inventoryitems_change_xid ON InventoryItems;
+CREATE TRIGGER set_inventoryitems_change_xid BEFORE INSERT OR UPDATE ON InventoryItems
+    FOR EACH ROW EXECUTE FUNCTION set_change_xid();
+DROP TRIGGER IF EXISTS set_products_change_xid ON Products;
+CREATE TRIGGER set_products_change_xid BEFORE INSERT OR UPDATE ON Products
+    FOR EACH ROW EXECUTE FUNCTION set_change_xid();
+
+CREATE INDEX IF NOT EXISTS idx_inventoryitems_change_xid ON InventoryItems(change_xid);
+CREATE INDEX IF NOT EXISTS idx_products_change_xid ON Products(change_xid);
+DROP INDEX IF EXISTS idx_inventoryitems_updated_at;
+DROP INDEX IF EXISTS idx_products_updated_at;
+
+-- TG_ARGV[0] is the primary key column of the audited table
+CREATE OR REPLACE FUNCTION audit_row_change() RETURNS TRIGGER AS $$
+DECLARE
+    v_table TEXT := trigger_table_name(TG_RELID);
+    v_old JSONB;
+    v_new JSONB;
+    v_old_diff JSONB;
+    v_new_diff JSONB;
+    v_user_id INT := get_current_app_user_id();
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        v_new := to_jsonb(NEW) - '{created_at,updated_at,change_xid}'::TEXT[];
+        INSERT INTO AuditLog (table_name, record_pk, new_value, action_type, user_id)
+        VALUES (v_table, v_new ->> TG_ARGV[0], v_new, TG_OP, v_user_id);
+        RETURN NEW;
+    ELSIF TG_OP = 'UPDATE' THEN
+        v_old := to_jsonb(OLD) - '{created_at,updated_at,change_xid}'::TEXT[];
+        v_new := to_jsonb(NEW) - '{created_at,updated_at,change_xid}'::TEXT[];
+        IF v_old = v_new THEN
+            RETURN NEW;
+        END IF;
+        SELECT jsonb_object_agg(n.key, o.value), jsonb_object_agg(n.key, n.value)
+        INTO v_old_diff, v_new_diff
+        FROM jsonb_each(v_new) n JOIN jsonb_each(v_old) o ON o.key = n.key
+        WHERE n.value IS DISTINCT FROM o.value;
+        INSERT INTO AuditLog (table_name, record_pk, old_value, new_value, action_type, user_id)
+        VALUES (v_table, v_old ->> TG_ARGV[0], v_old_diff, v_new_diff, TG_OP, v_user_id);
+        RETURN NEW;
+    ELSE
+        v_old := to_jsonb(OLD) - '{created_at,updated_at,change_xid}'::TEXT[];
+        INSERT INTO AuditLog (table_name, record_pk, old_value, action_type, user_id)
+        VALUES (v_table, v_old ->> TG_ARGV[0], v_old, TG_OP, v_user_id);
+        RETURN OLD;
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+COMMIT;
@@ -0,0 +1,84 @@
+-- Basariat POS - Migration V2: statement-level SalesOrders subtotal maintenance
+-- Applies on top of the full database script (db_script_basariat_pos_final_v3, version 1.2).
+--
+-- trg_update_sales_order_subtotal fired FOR EACH ROW and called RecalculateSalesOrderSubtotal,
+-- which re-sums every line of the order each time. Saving an order with N lines therefore read
+-- about N^2 SalesOrderItems rows and updated the SalesOrders header N times.
+--
+-- The replacement fires once per statement, collects the affected orders from the transition
+-- tables and recalculates each of them exactly once. The result is identical to the per-row
+-- version: subtotal_amount = SUM(item_subtotal) of the order's lines, 0 when it has none.
+
+BEGIN;
+
+-- Set-based counterpart of RecalculateSalesOrderSubtotal for many orders at once
+CREATE OR REPLACE PROCEDURE RecalculateSalesOrderSubtotals(p_sales_order_ids INT[])
+LANGUAGE plpgsql AS $$
+BEGIN
+    UPDATE SalesOrders so
+    SET subtotal_amount = totals.subtotal
+    FROM (
+        SELECT ids.sales_order_id, COALESCE(SUM(soi.item_subtotal), 0) AS subtotal
+        FROM unnest(p_sales_order_ids) AS ids(sales_order_id)
+        LEFT JOIN SalesOrderItems soi ON soi.sales_order_id = ids.sales_order_id
+        GROUP BY ids.sales_order_id
+    ) totals
+    WHERE so.sales_order_id = totals.sales_order_id
+      AND so.subtotal_amount IS DISTINCT FROM totals.subtotal; -- Skip no-op header updates (and their audit/timestamp triggers)
+END;
+$$;
+
+CREATE OR REPLACE FUNCTION update_sales_order_subtotal_stmt_trigger() RETURNS TRIGGER AS $$
+DECLARE v_sales_order_ids INT[];
+BEGIN
+    IF (TG_OP = 'INSERT') THEN
+        SELECT array_agg(DISTINCT sales_order_id) INTO v_sales_order_ids FROM new_items;
+    ELSIF (TG_OP = 'UPDATE') THEN
+        -- Only lines whose subtotal or parent order changed can move a header subtotal;
+        -- flag-only updates (e.g. is_restocked_on_abandonment) are skipped entirely.
+        SELECT array_agg(DISTINCT changed.sales_order_id) INTO v_sales_order_ids
+        FROM (
+            SELECT o.sales_order_id FROM old_items o JOIN new_items n ON n.so_item_id = o.so_item_id
+            WHERE n.sales_order_id IS DISTINCT FROM o.sales_order_id OR n.item_subtotal IS DISTINCT FROM o.item_subtotal
+            UNION
+            SELECT n.sales_order_id FROM old_items o JOIN new_items n ON n.so_item_id = o.so_item_id
+            WHERE n.sales_order_id IS DISTINCT FROM o.sales_order_id OR n.item_subtotal IS DISTINCT FROM o.item_subtotal
+        ) changed;
+    ELSE
+        SELECT array_agg(DISTINCT sales_order_id) INTO v_sales_order_ids FROM old_items;
+    END IF;
+
+    IF v_sales_order_ids IS NOT NULL THEN
+        CALL RecalculateSalesOrderSubtotals(v_sales_order_ids);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Transition tables require one trigger per event
+DROP TRIGGER IF EXISTS trg_update_sales_order_subtotal ON SalesOrderItems;
+CREATE TRIGGER trg_update_sales_order_subtotal_ins AFTER INSERT ON SalesOrderItems
+    REFERENCING NEW TABLE AS new_items
+    FOR EACH STATEMENT EXECUTE FUNCTION update_sales_order_subtotal_stmt_trigger();
+CREATE TRIGGER trg_update_sales_order_subtotal_upd AFTER UPDATE ON SalesOrderItems
+    REFERENCING OLD TABLE AS old_items NEW TABLE AS new_items
+    FOR EACH STATEMENT EXECUTE FUNCTION update_sales_order_subtotal_stmt_trigger();
+CREATE TRIGGER trg_update_sales_order_subtotal_del AFTER DELETE ON SalesOrderItems
+    REFERENCING OLD TABLE AS old_items
+    FOR EACH STATEMENT EXECUTE FUNCTION update_sales_order_subtotal_stmt_trigger();
+
+-- Consistency check: lists orders whose stored subtotal differs from what the per-row
+-- RecalculateSalesOrderSubtotal procedure would compute. An empty result means the
+-- statement-level triggers and the original per-row behaviour agree.
+CREATE OR REPLACE FUNCTION FindSalesOrderSubtotalMismatches()
+RETURNS TABLE (sales_order_id INT, stored_subtotal DECIMAL, expected_subtotal DECIMAL)
+LANGUAGE sql STABLE AS $$
+    SELECT so.sales_order_id, so.subtotal_amount, COALESCE(SUM(soi.item_subtotal), 0)
+    FROM SalesOrders so
+    LEFT JOIN SalesOrderItems soi ON soi.sales_order_id = so.sales_order_id
+    GROUP BY so.sales_order_id, so.subtotal_amount
+    HAVING so.subtotal_amount IS DISTINCT FROM COALESCE(SUM(soi.item_subtotal), 0)
+    ORDER BY so.sales_order_id;
+$$;
+
+COMMIT;
@@ -0,0 +1,30 @@
+-- Basariat POS - Migration V3: make check_active_shift_for_transaction() usable on SalesOrders
+-- Applies on top of V2.
+--
+-- The original function evaluated "TG_TABLE_NAME = 'expenses' AND NEW.payment_method = 'Cash'"
+-- for every table. PL/pgSQL resolves NEW.payment_method when it plans that expression, so every
+-- INSERT into SalesOrders (which has no payment_method column) failed with
+-- 'record "new" has no field "payment_method"'. The column is now only read for Expenses.
+
+BEGIN;
+
+CREATE OR REPLACE FUNCTION check_active_shift_for_transaction() RETURNS TRIGGER AS $$
+DECLARE v_current_shift_id INT; v_shift_status VARCHAR(20);
+BEGIN
+    v_current_shift_id := get_current_app_shift_id();
+    IF v_current_shift_id IS NULL THEN RAISE EXCEPTION 'No active shift found for the current user. Please start or resume a shift to process transactions.'; END IF;
+    SELECT status INTO v_shift_status FROM Shifts WHERE shift_id = v_current_shift_id;
+    IF v_shift_status != 'Active' THEN RAISE EXCEPTION 'The current shift (ID: %) is not active (Status: %). Transactions cannot be processed.', v_current_shift_id, v_shift_status; END IF;
+
+    IF TG_OP = 'INSERT' THEN
+        IF TG_TABLE_NAME IN ('salesorders', 'payments') THEN
+            NEW.shift_id := v_current_shift_id;
+        ELSIF TG_TABLE_NAME = 'expenses' THEN
+            IF NEW.payment_method = 'Cash' THEN NEW.shift_id := v_current_shift_id; END IF;
+        END IF;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+COMMIT;
@@ -0,0 +1,29 @@
+-- Basariat POS - Migration V4: change signal for the client-side product catalog cache
+-- Applies on top of V3.
+--
+-- CatalogCache refreshes incrementally from the updated_at columns of InventoryItems and
+-- Products. The indexes keep that watermark query cheap, and the statement-level triggers
+-- send a NOTIFY on channel 'catalog_changed' (payload: table name) so clients that LISTEN can
+-- refresh immediately instead of waiting for their next poll. NOTIFY is delivered on commit
+-- and identical payloads within one transaction are collapsed by PostgreSQL.
+
+BEGIN;
+
+CREATE INDEX IF NOT EXISTS idx_inventoryitems_updated_at ON InventoryItems(updated_at);
+CREATE INDEX IF NOT EXISTS idx_products_updated_at ON Products(updated_at);
+
+CREATE OR REPLACE FUNCTION notify_catalog_changed() RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM pg_notify('catalog_changed', TG_TABLE_NAME);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_notify_catalog_inventoryitems AFTER INSERT OR UPDATE OR DELETE ON InventoryItems
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_catalog_changed();
+CREATE TRIGGER trg_notify_catalog_products AFTER INSERT OR UPDATE OR DELETE ON Products
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_catalog_changed();
+CREATE TRIGGER trg_notify_catalog_productcategories AFTER INSERT OR UPDATE OR DELETE ON ProductCategories
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_catalog_changed();
+
+COMMIT;
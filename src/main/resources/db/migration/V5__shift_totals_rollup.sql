@@ -0,0 +1,244 @@
+-- Basariat POS - Migration V5: incrementally maintained per-shift totals
+-- Applies on top of V4.
+--
+-- ShiftReportSummaryView ran five correlated sub-selects over Payments, Expenses and SalesOrders
+-- for every shift, and EndShift re-summed Payments and Expenses. Both now read ShiftTotals, a
+-- rollup kept current by small delta triggers: each inserted, updated or deleted payment, cash
+-- expense or sales order adds its signed contribution to exactly one ShiftTotals row.
+--
+-- ShiftTotalsRecomputedView still derives the same numbers from the base tables; it seeds the
+-- rollup below and backs RebuildShiftTotals() and FindShiftTotalsMismatches().
+
+BEGIN;
+
+CREATE TABLE ShiftTotals (
+    shift_id INT PRIMARY KEY REFERENCES Shifts(shift_id) ON DELETE CASCADE,
+    total_cash_received DECIMAL(12,2) NOT NULL DEFAULT 0.00,
+    total_bank_received DECIMAL(12,2) NOT NULL DEFAULT 0.00,
+    total_cash_expenses DECIMAL(12,2) NOT NULL DEFAULT 0.00, -- Cash expenses paid from the till
+    total_sales_orders INT NOT NULL DEFAULT 0,
+    total_discounts DECIMAL(12,2) NOT NULL DEFAULT 0.00,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Reference computation from the base tables (same rules as the original view)
+CREATE OR REPLACE VIEW ShiftTotalsRecomputedView AS
+SELECT
+    s.shift_id,
+    COALESCE(pay.cash_received, 0)::DECIMAL(12,2) AS total_cash_received,
+    COALESCE(pay.bank_received, 0)::DECIMAL(12,2) AS total_bank_received,
+    COALESCE(exp.cash_expenses, 0)::DECIMAL(12,2) AS total_cash_expenses,
+    COALESCE(ord.sales_orders, 0)::INT AS total_sales_orders,
+    COALESCE(ord.discounts, 0)::DECIMAL(12,2) AS total_discounts
+FROM Shifts s
+LEFT JOIN (
+    SELECT shift_id,
+           SUM(amount) FILTER (WHERE payment_method = 'Cash') AS cash_received,
+           SUM(amount) FILTER (WHERE payment_method = 'Bank Transaction') AS bank_received
+    FROM Payments GROUP BY shift_id
+) pay ON pay.shift_id = s.shift_id
+LEFT JOIN (
+    SELECT shift_id, SUM(amount) AS cash_expenses
+    FROM Expenses WHERE payment_method = 'Cash' GROUP BY shift_id
+) exp ON exp.shift_id = s.shift_id
+LEFT JOIN (
+    SELECT shift_id, COUNT(*) AS sales_orders, SUM(discount_amount) AS discounts
+    FROM SalesOrders GROUP BY shift_id
+) ord ON ord.shift_id = s.shift_id;
+
+-- Adds a signed contribution to one shift's totals
+CREATE OR REPLACE FUNCTION apply_shift_totals_delta(
+    p_shift_id INT, p_cash_received DECIMAL, p_bank_received DECIMAL,
+    p_cash_expenses DECIMAL, p_sales_orders INT, p_discounts DECIMAL
+) RETURNS VOID AS $$
+BEGIN
+    IF p_shift_id IS NULL THEN RETURN; END IF;
+    INSERT INTO ShiftTotals AS st (shift_id, total_cash_received, total_bank_received, total_cash_expenses, total_sales_orders, total_discounts)
+    VALUES (p_shift_id, p_cash_received, p_bank_received, p_cash_expenses, p_sales_orders, p_discounts)
+    ON CONFLICT (shift_id) DO UPDATE SET
+        total_cash_received = st.total_cash_received + EXCLUDED.total_cash_received,
+        total_bank_received = st.total_bank_received + EXCLUDED.total_bank_received,
+        total_cash_expenses = st.total_cash_expenses + EXCLUDED.total_cash_expenses,
+        total_sales_orders = st.total_sales_orders + EXCLUDED.total_sales_orders,
+        total_discounts = st.total_discounts + EXCLUDED.total_discounts,
+        updated_at = NOW();
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION shift_totals_payments_trigger() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        PERFORM apply_shift_totals_delta(OLD.shift_id,
+            CASE WHEN OLD.payment_method = 'Cash' THEN -OLD.amount ELSE 0 END,
+            CASE WHEN OLD.payment_method = 'Bank Transaction' THEN -OLD.amount ELSE 0 END, 0, 0, 0);
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        PERFORM apply_shift_totals_delta(NEW.shift_id,
+            CASE WHEN NEW.payment_method = 'Cash' THEN NEW.amount ELSE 0 END,
+            CASE WHEN NEW.payment_method = 'Bank Transaction' THEN NEW.amount ELSE 0 END, 0, 0, 0);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION shift_totals_expenses_trigger() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') AND OLD.payment_method = 'Cash' THEN
+        PERFORM apply_shift_totals_delta(OLD.shift_id, 0, 0, -OLD.amount, 0, 0);
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') AND NEW.payment_method = 'Cash' THEN
+        PERFORM apply_shift_totals_delta(NEW.shift_id, 0, 0, NEW.amount, 0, 0);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION shift_totals_salesorders_trigger() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        PERFORM apply_shift_totals_delta(OLD.shift_id, 0, 0, 0, -1, -COALESCE(OLD.discount_amount, 0));
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        PERFORM apply_shift_totals_delta(NEW.shift_id, 0, 0, 0, 1, COALESCE(NEW.discount_amount, 0));
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Updates only fire when a column that feeds the totals actually changed
+CREATE TRIGGER trg_shift_totals_payments AFTER INSERT OR DELETE ON Payments
+    FOR EACH ROW EXECUTE FUNCTION shift_totals_payments_trigger();
+CREATE TRIGGER trg_shift_totals_payments_upd AFTER UPDATE OF shift_id, amount, payment_method ON Payments
+    FOR EACH ROW WHEN (OLD.shift_id IS DISTINCT FROM NEW.shift_id OR OLD.amount IS DISTINCT FROM NEW.amount OR OLD.payment_method IS DISTINCT FROM NEW.payment_method)
+    EXECUTE FUNCTION shift_totals_payments_trigger();
+CREATE TRIGGER trg_shift_totals_expenses AFTER INSERT OR DELETE ON Expenses
+    FOR EACH ROW EXECUTE FUNCTION shift_totals_expenses_trigger();
+CREATE TRIGGER trg_shift_totals_expenses_upd AFTER UPDATE OF shift_id, amount, payment_method ON Expenses
+    FOR EACH ROW WHEN (OLD.shift_id IS DISTINCT FROM NEW.shift_id OR OLD.amount IS DISTINCT FROM NEW.amount OR OLD.payment_method IS DISTINCT FROM NEW.payment_method)
+    EXECUTE FUNCTION shift_totals_expenses_trigger();
+CREATE TRIGGER trg_shift_totals_salesorders AFTER INSERT OR DELETE ON SalesOrders
+    FOR EACH ROW EXECUTE FUNCTION shift_totals_salesorders_trigger();
+CREATE TRIGGER trg_shift_totals_salesorders_upd AFTER UPDATE OF shift_id, discount_amount ON SalesOrders
+    FOR EACH ROW WHEN (OLD.shift_id IS DISTINCT FROM NEW.shift_id OR OLD.discount_amount IS DISTINCT FROM NEW.discount_amount)
+    EXECUTE FUNCTION shift_totals_salesorders_trigger();
+
+-- Recomputes the rollup from the base tables (repair tool; takes a snapshot of all shifts)
+CREATE OR REPLACE PROCEDURE RebuildShiftTotals()
+LANGUAGE plpgsql AS $$
+BEGIN
+    LOCK TABLE ShiftTotals IN SHARE ROW EXCLUSIVE MODE; -- Blocks concurrent delta triggers until commit
+    INSERT INTO ShiftTotals AS st (shift_id, total_cash_received, total_bank_received, total_cash_expenses, total_sales_orders, total_discounts)
+    SELECT shift_id, total_cash_received, total_bank_received, total_cash_expenses, total_sales_orders, total_discounts
+    FROM ShiftTotalsRecomputedView
+    ON CONFLICT (shift_id) DO UPDATE SET
+        total_cash_received = EXCLUDED.total_cash_received,
+        total_bank_received = EXCLUDED.total_bank_received,
+        total_cash_expenses = EXCLUDED.total_cash_expenses,
+        total_sales_orders = EXCLUDED.total_sales_orders,
+        total_discounts = EXCLUDED.total_discounts,
+        updated_at = NOW()
+    WHERE (st.total_cash_received, st.total_bank_received, st.total_cash_expenses, st.total_sales_orders, st.total_discounts)
+          IS DISTINCT FROM (EXCLUDED.total_cash_received, EXCLUDED.total_bank_received, EXCLUDED.total_cash_expenses, EXCLUDED.total_sales_orders, EXCLUDED.total_discounts);
+END;
+$$;
+
+-- Consistency check: shifts whose rollup differs from the base tables (empty when consistent)
+CREATE OR REPLACE FUNCTION FindShiftTotalsMismatches()
+RETURNS TABLE (
+    shift_id INT,
+    stored_cash_received DECIMAL, actual_cash_received DECIMAL,
+    stored_bank_received DECIMAL, actual_bank_received DECIMAL,
+    stored_cash_expenses DECIMAL, actual_cash_expenses DECIMAL,
+    stored_sales_orders INT, actual_sales_orders INT,
+    stored_discounts DECIMAL, actual_discounts DECIMAL
+)
+LANGUAGE sql STABLE AS $$
+    SELECT r.shift_id,
+           COALESCE(st.total_cash_received, 0), r.total_cash_received,
+           COALESCE(st.total_bank_received, 0), r.total_bank_received,
+           COALESCE(st.total_cash_expenses, 0), r.total_cash_expenses,
+           COALESCE(st.total_sales_orders, 0), r.total_sales_orders,
+           COALESCE(st.total_discounts, 0), r.total_discounts
+    FROM ShiftTotalsRecomputedView r
+    LEFT JOIN ShiftTotals st ON st.shift_id = r.shift_id
+    WHERE (COALESCE(st.total_cash_received, 0), COALESCE(st.total_bank_received, 0), COALESCE(st.total_cash_expenses, 0),
+           COALESCE(st.total_sales_orders, 0), COALESCE(st.total_discounts, 0))
+          IS DISTINCT FROM
+          (r.total_cash_received, r.total_bank_received, r.total_cash_expenses, r.total_sales_orders, r.total_discounts)
+    ORDER BY r.shift_id;
+$$;
+
+-- Seed the rollup for existing shifts
+CALL RebuildShiftTotals();
+
+-- Same columns as before, now a single join instead of five sub-selects per shift
+CREATE OR REPLACE VIEW ShiftReportSummaryView AS
+SELECT
+    s.shift_id, s.start_time, s.end_time, u.username AS started_by_username, u.full_name AS started_by_fullname,
+    s.status AS shift_status, s.opening_float, s.closing_cash_counted, s.expected_cash_in_drawer, s.cash_variance,
+    s.notes AS shift_notes,
+    COALESCE(st.total_cash_received, 0)::NUMERIC AS total_cash_received_in_shift,
+    COALESCE(st.total_bank_received, 0)::NUMERIC AS total_bank_received_in_shift,
+    COALESCE(st.total_cash_expenses, 0)::NUMERIC AS total_cash_expenses_paid_from_shift,
+    COALESCE(st.total_sales_orders, 0)::BIGINT AS total_sales_orders_in_shift,
+    COALESCE(st.total_discounts, 0)::NUMERIC AS total_discounts_in_shift
+FROM Shifts s
+JOIN Users u ON s.started_by_user_id = u.user_id
+LEFT JOIN ShiftTotals st ON st.shift_id = s.shift_id;
+
+-- EndShift now reads the running totals instead of re-summing Payments and Expenses.
+-- (Also replaces the invalid UPDATE ... ORDER BY ... LIMIT on ShiftPauseLog.)
+CREATE OR REPLACE PROCEDURE EndShift(
+    p_shift_id INT,
+    p_user_id INT, -- User performing the end action (must be shift owner or Admin)
+    p_closing_cash_counted DECIMAL(12,2),
+    p_notes TEXT DEFAULT NULL
+)
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_current_status VARCHAR(20);
+    v_shift_owner_id INT;
+    v_opening_float DECIMAL(12,2);
+    v_total_cash_payments_received DECIMAL(12,2);
+    v_total_cash_expenses_paid DECIMAL(12,2);
+    v_expected_cash DECIMAL(12,2);
+    v_cash_variance DECIMAL(12,2);
+BEGIN
+    SELECT status, opening_float, started_by_user_id INTO v_current_status, v_opening_float, v_shift_owner_id
+    FROM Shifts WHERE shift_id = p_shift_id FOR UPDATE;
+    IF v_current_status IS NULL THEN RAISE EXCEPTION 'Shift ID % not found.', p_shift_id; END IF;
+    IF v_shift_owner_id != p_user_id AND (SELECT role FROM Users WHERE user_id = p_user_id) != 'Admin' THEN
+        RAISE EXCEPTION 'User ID % is not authorized to end shift ID %.', p_user_id, p_shift_id;
+    END IF;
+    IF v_current_status NOT IN ('Active', 'Paused', 'Interrupted') THEN
+        RAISE EXCEPTION 'Shift ID % is not in a state that can be ended. Current status: %', p_shift_id, v_current_status;
+    END IF;
+
+    SELECT COALESCE(MAX(total_cash_received), 0), COALESCE(MAX(total_cash_expenses), 0)
+    INTO v_total_cash_payments_received, v_total_cash_expenses_paid
+    FROM ShiftTotals WHERE shift_id = p_shift_id;
+
+    v_expected_cash := v_opening_float + v_total_cash_payments_received - v_total_cash_expenses_paid;
+    v_cash_variance := p_closing_cash_counted - v_expected_cash;
+
+    UPDATE Shifts
+    SET end_time = NOW(), status = 'Ended', closing_cash_counted = p_closing_cash_counted,
+        expected_cash_in_drawer = v_expected_cash, cash_variance = v_cash_variance,
+        notes = p_notes, updated_at = NOW()
+    WHERE shift_id = p_shift_id;
+
+    IF v_current_status = 'Paused' THEN -- If ending a paused shift, mark its latest pause log as resolved
+        UPDATE ShiftPauseLog SET resumed_at = NOW()
+        WHERE shift_pause_log_id = (SELECT shift_pause_log_id FROM ShiftPauseLog
+                                    WHERE shift_id = p_shift_id AND resumed_at IS NULL
+                                    ORDER BY paused_at DESC LIMIT 1);
+    END IF;
+
+    IF v_shift_owner_id = get_current_app_user_id() THEN -- Only clear session if current user ended their own shift
+        CALL set_app_shift(NULL);
+    END IF;
+END;
+$$;
+
+COMMIT;
@@ -0,0 +1,22 @@
+-- Basariat POS - Migration V6: indexes for keyset-paginated list screens
+-- Applies on top of V5.
+--
+-- List screens page with a row-value seek such as
+--   WHERE (order_date, sales_order_id) < (:last_date, :last_id) ORDER BY order_date DESC, sales_order_id DESC LIMIT n
+-- which PostgreSQL answers with a single index range scan when the index covers the whole key.
+-- The composite indexes replace the single-column ones they extend. Keys must not be NULL for
+-- a row comparison to see every row, so SalesOrders.order_date becomes NOT NULL (it always had a
+-- default). The audit log pages on audit_log_id alone and needs no new index.
+
+BEGIN;
+
+UPDATE SalesOrders SET order_date = COALESCE(updated_at, NOW()) WHERE order_date IS NULL;
+ALTER TABLE SalesOrders ALTER COLUMN order_date SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_salesorders_order_date_id ON SalesOrders(order_date, sales_order_id);
+DROP INDEX IF EXISTS idx_salesorders_order_date;
+
+CREATE INDEX IF NOT EXISTS idx_patients_name_id ON Patients(full_name, patient_id);
+DROP INDEX IF EXISTS idx_patients_name;
+
+COMMIT;
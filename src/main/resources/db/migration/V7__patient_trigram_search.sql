@@ -0,0 +1,49 @@
+-- Basariat POS - Migration V7: trigram patient search
+-- Applies on top of V6.
+--
+-- idx_patients_name and idx_patients_phone are plain B-trees, so substring searches such as
+-- ILIKE '%ahmed%' or a partial phone number scan the whole table. The GIN trigram indexes below
+-- are built over normalized expressions, so one index serves substring, typo-tolerant and
+-- Arabic spelling-variant matches:
+--   * normalize_search_text(): lower case, Arabic diacritics and tatweel removed, alef forms
+--     folded to bare alef, alef maqsura to yaa, taa marbuta to haa, Arabic-Indic and Persian
+--     digits to ASCII, whitespace collapsed.
+--   * normalize_phone(): the digits of a phone number only.
+-- com.basariatpos.util.ArabicTextNormalizer applies the same rules to the search text on the
+-- client; the two must be changed together.
+--
+-- pg_trgm only extracts trigrams from characters the database LC_CTYPE classifies as letters or
+-- digits. Under a UTF-8 ctype (e.g. en_US.UTF-8, ar_IQ.UTF-8, C.UTF-8) Arabic names are indexed;
+-- under LC_CTYPE=C they yield no trigrams and only the prefix index can find them.
+
+BEGIN;
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE OR REPLACE FUNCTION normalize_search_text(p_text TEXT)
+RETURNS TEXT
+LANGUAGE sql IMMUTABLE STRICT PARALLEL SAFE AS $$
+    -- translate() deletes characters of the first list that have no counterpart in the second,
+    -- which is how the diacritics (U+064B-U+0652, U+0670) and tatweel (U+0640) are removed.
+    SELECT btrim(regexp_replace(
+        translate(lower(p_text),
+                  'أإآٱىة٠١٢٣٤٥٦٧٨٩۰۱۲۳۴۵۶۷۸۹ًٌٍَُِّْٰـ',
+                  'اااايه01234567890123456789'),
+        '\s+', ' ', 'g'));
+$$;
+
+CREATE OR REPLACE FUNCTION normalize_phone(p_phone TEXT)
+RETURNS TEXT
+LANGUAGE sql IMMUTABLE STRICT PARALLEL SAFE AS $$
+    SELECT regexp_replace(translate(p_phone, '٠١٢٣٤٥٦٧٨٩۰۱۲۳۴۵۶۷۸۹', '01234567890123456789'), '[^0-9]', '', 'g');
+$$;
+
+-- Substring (LIKE '%..%') and word-similarity (<%) matches on names
+CREATE INDEX IF NOT EXISTS idx_patients_name_trgm ON Patients USING gin (normalize_search_text(full_name) gin_trgm_ops);
+-- Prefix matches (LIKE 'x%') returned in index order; the C collation makes the B-tree usable for
+-- LIKE whatever the database collation is
+CREATE INDEX IF NOT EXISTS idx_patients_name_norm_prefix ON Patients ((normalize_search_text(full_name) COLLATE "C"));
+-- Partial phone numbers
+CREATE INDEX IF NOT EXISTS idx_patients_phone_trgm ON Patients USING gin (normalize_phone(phone_number) gin_trgm_ops);
+
+COMMIT;
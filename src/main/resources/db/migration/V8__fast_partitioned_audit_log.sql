@@ -0,0 +1,164 @@
+-- Basariat POS - Migration V8: cheaper row auditing and a month-partitioned AuditLog
+-- Applies on top of V7.
+--
+-- audit_changes_trigger_function ran for every audited row and, each time, looked up the primary
+-- key in pg_index/pg_attribute, read it back with a dynamic EXECUTE, called
+-- get_current_app_user_id() (whose EXCEPTION block opens a subtransaction), and stored full
+-- before/after images as TEXT. This migration replaces it with audit_row_change():
+--   * the primary key column is passed as a trigger argument and read from the JSONB image;
+--   * the user ID is read from the session setting directly;
+--   * an UPDATE stores only the columns that changed, as JSONB (INSERT/DELETE keep the full row).
+-- AuditLog becomes a table partitioned by action_timestamp month (auditlog_yYYYYmMM) with a
+-- default partition as a safety net; EnsureAuditLogPartitions() creates upcoming months and
+-- should run at least monthly. Existing rows are copied over with their TEXT values cast to JSONB.
+
+BEGIN;
+
+-- Same results as before (NULL when unset or not a number) without a subtransaction per call
+CREATE OR REPLACE FUNCTION get_current_app_user_id()
+RETURNS INT
+LANGUAGE sql STABLE AS $$
+    SELECT CASE WHEN s ~ '^-?[0-9]{1,9}$' THEN s::INT END
+    FROM current_setting('app.current_user_id', TRUE) AS s;
+$$;
+
+CREATE OR REPLACE FUNCTION get_current_app_shift_id()
+RETURNS INT
+LANGUAGE sql STABLE AS $$
+    SELECT CASE WHEN s ~ '^-?[0-9]{1,9}$' THEN s::INT END
+    FROM current_setting('app.current_shift_id', TRUE) AS s;
+$$;
+
+--------------------------------------------------------------------------------
+-- Partitioned AuditLog
+--------------------------------------------------------------------------------
+ALTER TABLE AuditLog RENAME TO AuditLog_unpartitioned;
+ALTER TABLE AuditLog_unpartitioned RENAME CONSTRAINT auditlog_pkey TO auditlog_unpartitioned_pkey;
+ALTER TABLE AuditLog_unpartitioned RENAME CONSTRAINT auditlog_user_id_fkey TO auditlog_unpartitioned_user_id_fkey;
+ALTER SEQUENCE auditlog_audit_log_id_seq OWNED BY NONE;
+
+CREATE TABLE AuditLog (
+    audit_log_id BIGINT NOT NULL DEFAULT nextval('auditlog_audit_log_id_seq'),
+    table_name VARCHAR(100) NOT NULL,
+    record_pk TEXT NOT NULL, -- Primary key value of the affected record as text
+    column_name VARCHAR(100), -- Optional: if logging specific column changes, otherwise NULL
+    old_value JSONB, -- Full row for DELETE; changed columns only for UPDATE
+    new_value JSONB, -- Full row for INSERT; changed columns only for UPDATE
+    action_type VARCHAR(10) NOT NULL CHECK (action_type IN ('INSERT', 'UPDATE', 'DELETE')),
+    action_timestamp TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    user_id INT REFERENCES Users(user_id), -- User performing the action (via get_current_app_user_id)
+    details TEXT, -- Additional context if needed (e.g., reason for manual stock adjustment)
+    PRIMARY KEY (action_timestamp, audit_log_id) -- Must include the partition key; also serves keyset paging, newest first
+) PARTITION BY RANGE (action_timestamp);
+
+ALTER SEQUENCE auditlog_audit_log_id_seq OWNED BY AuditLog.audit_log_id;
+
+CREATE TABLE auditlog_default PARTITION OF AuditLog DEFAULT;
+
+-- Creates the partition holding the month of p_month if it does not exist yet
+CREATE OR REPLACE FUNCTION create_audit_log_partition(p_month DATE) RETURNS VOID AS $$
+DECLARE
+    v_start DATE := date_trunc('month', p_month)::DATE;
+    v_name TEXT := 'auditlog_y' || to_char(v_start, 'YYYY') || 'm' || to_char(v_start, 'MM');
+BEGIN
+    IF to_regclass(v_name) IS NULL THEN
+        EXECUTE format('CREATE TABLE %I PARTITION OF AuditLog FOR VALUES FROM (%L) TO (%L)',
+                       v_name, v_start, (v_start + INTERVAL '1 month')::DATE);
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Creates partitions for the current month and the next p_months_ahead months
+CREATE OR REPLACE PROCEDURE EnsureAuditLogPartitions(p_months_ahead INT DEFAULT 3)
+LANGUAGE plpgsql AS $$
+BEGIN
+    FOR i IN 0..p_months_ahead LOOP
+        PERFORM create_audit_log_partition((CURRENT_DATE + make_interval(months => i))::DATE);
+    END LOOP;
+END;
+$$;
+
+SELECT create_audit_log_partition(m::DATE)
+FROM (SELECT DISTINCT date_trunc('month', action_timestamp) AS m
+      FROM AuditLog_unpartitioned WHERE action_timestamp IS NOT NULL) months;
+CALL EnsureAuditLogPartitions(3);
+
+INSERT INTO AuditLog (audit_log_id, table_name, record_pk, column_name, old_value, new_value, action_type, action_timestamp, user_id, details)
+SELECT audit_log_id, table_name, record_pk, column_name, old_value::JSONB, new_value::JSONB, action_type,
+       COALESCE(action_timestamp, NOW()), user_id, details
+FROM AuditLog_unpartitioned;
+
+DROP TABLE AuditLog_unpartitioned;
+
+CREATE INDEX idx_auditlog_table_record ON AuditLog(table_name, record_pk);
+CREATE INDEX idx_auditlog_user_timestamp ON AuditLog(user_id, action_timestamp);
+
+--------------------------------------------------------------------------------
+-- Audit trigger
+--------------------------------------------------------------------------------
+-- TG_ARGV[0] is the primary key column of the audited table
+CREATE OR REPLACE FUNCTION audit_row_change() RETURNS TRIGGER AS $$
+DECLARE
+    v_old JSONB;
+    v_new JSONB;
+    v_old_diff JSONB;
+    v_new_diff JSONB;
+    v_user_id INT := get_current_app_user_id();
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        v_new := to_jsonb(NEW) - '{created_at,updated_at}'::TEXT[];
+        INSERT INTO AuditLog (table_name, record_pk, new_value, action_type, user_id)
+        VALUES (TG_TABLE_NAME, v_new ->> TG_ARGV[0], v_new, TG_OP, v_user_id);
+        RETURN NEW;
+    ELSIF TG_OP = 'UPDATE' THEN
+        v_old := to_jsonb(OLD) - '{created_at,updated_at}'::TEXT[];
+        v_new := to_jsonb(NEW) - '{created_at,updated_at}'::TEXT[];
+        IF v_old = v_new THEN
+            RETURN NEW;
+        END IF;
+        SELECT jsonb_object_agg(n.key, o.value), jsonb_object_agg(n.key, n.value)
+        INTO v_old_diff, v_new_diff
+        FROM jsonb_each(v_new) n JOIN jsonb_each(v_old) o ON o.key = n.key
+        WHERE n.value IS DISTINCT FROM o.value;
+        INSERT INTO AuditLog (table_name, record_pk, old_value, new_value, action_type, user_id)
+        VALUES (TG_TABLE_NAME, v_old ->> TG_ARGV[0], v_old_diff, v_new_diff, TG_OP, v_user_id);
+        RETURN NEW;
+    ELSE
+        v_old := to_jsonb(OLD) - '{created_at,updated_at}'::TEXT[];
+        INSERT INTO AuditLog (table_name, record_pk, old_value, action_type, user_id)
+        VALUES (TG_TABLE_NAME, v_old ->> TG_ARGV[0], v_old, TG_OP, v_user_id);
+        RETURN OLD;
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER trg_audit_centerprofile ON CenterProfile;
+DROP TRIGGER trg_audit_users ON Users;
+DROP TRIGGER trg_audit_userpermissions ON UserPermissions;
+DROP TRIGGER trg_audit_shifts ON Shifts;
+DROP TRIGGER trg_audit_patients ON Patients;
+DROP TRIGGER trg_audit_products ON Products;
+DROP TRIGGER trg_audit_inventoryitems ON InventoryItems;
+DROP TRIGGER trg_audit_purchaseorders ON PurchaseOrders;
+DROP TRIGGER trg_audit_salesorders ON SalesOrders;
+DROP TRIGGER trg_audit_payments ON Payments;
+DROP TRIGGER trg_audit_expenses ON Expenses;
+DROP TRIGGER trg_audit_appointments ON Appointments;
+DROP TRIGGER trg_audit_applicationsettings ON ApplicationSettings;
+DROP FUNCTION audit_changes_trigger_function();
+
+CREATE TRIGGER trg_audit_centerprofile AFTER INSERT OR UPDATE OR DELETE ON CenterProfile FOR EACH ROW EXECUTE FUNCTION audit_row_change('profile_id');
+CREATE TRIGGER trg_audit_users AFTER INSERT OR UPDATE OR DELETE ON Users FOR EACH ROW EXECUTE FUNCTION audit_row_change('user_id');
+CREATE TRIGGER trg_audit_userpermissions AFTER INSERT OR UPDATE OR DELETE ON UserPermissions FOR EACH ROW EXECUTE FUNCTION audit_row_change('permission_id');
+CREATE TRIGGER trg_audit_shifts AFTER INSERT OR UPDATE OR DELETE ON Shifts FOR EACH ROW EXECUTE FUNCTION audit_row_change('shift_id');
+CREATE TRIGGER trg_audit_patients AFTER INSERT OR UPDATE OR DELETE ON Patients FOR EACH ROW EXECUTE FUNCTION audit_row_change('patient_id');
+CREATE TRIGGER trg_audit_products AFTER INSERT OR UPDATE OR DELETE ON Products FOR EACH ROW EXECUTE FUNCTION audit_row_change('product_id');
+CREATE TRIGGER trg_audit_inventoryitems AFTER INSERT OR UPDATE OR DELETE ON InventoryItems FOR EACH ROW EXECUTE FUNCTION audit_row_change('inventory_item_id');
+CREATE TRIGGER trg_audit_purchaseorders AFTER INSERT OR UPDATE OR DELETE ON PurchaseOrders FOR EACH ROW EXECUTE FUNCTION audit_row_change('purchase_order_id');
+CREATE TRIGGER trg_audit_salesorders AFTER INSERT OR UPDATE OR DELETE ON SalesOrders FOR EACH ROW EXECUTE FUNCTION audit_row_change('sales_order_id');
+CREATE TRIGGER trg_audit_payments AFTER INSERT OR UPDATE OR DELETE ON Payments FOR EACH ROW EXECUTE FUNCTION audit_row_change('payment_id');
+CREATE TRIGGER trg_audit_expenses AFTER INSERT OR UPDATE OR DELETE ON Expenses FOR EACH ROW EXECUTE FUNCTION audit_row_change('expense_id');
+CREATE TRIGGER trg_audit_appointments AFTER INSERT OR UPDATE OR DELETE ON Appointments FOR EACH ROW EXECUTE FUNCTION audit_row_change('appointment_id');
+CREATE TRIGGER trg_audit_applicationsettings AFTER INSERT OR UPDATE OR DELETE ON ApplicationSettings FOR EACH ROW EXECUTE FUNCTION audit_row_change('setting_key');
+
+COMMIT;
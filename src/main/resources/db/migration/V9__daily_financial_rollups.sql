@@ -0,0 +1,280 @@
+-- Basariat POS - Migration V9: daily financial rollups for dashboard KPIs
+-- Applies on top of V8.
+--
+-- Dashboard figures (sales, discounts, cash vs bank takings, revenue, COGS and expenses per day,
+-- per user and per category) would otherwise be aggregated live from SalesDetailedView, at a
+-- cost that grows with the history. They are now read from three per-day rollup tables.
+--
+-- Unlike ShiftTotals (V5) the rollups are not updated in place by the triggers: a figure such as
+-- revenue depends on the status of the order a payment belongs to, and COGS on the current cost
+-- of its items, so a change to one row can move numbers on other days. Statement-level triggers
+-- instead append the affected days to DailyRollupQueue, and RefreshDailyRollups() recomputes
+-- each queued day from the base tables over index-friendly timestamp ranges. Writers never
+-- contend on a rollup row, and a refresh costs one day's activity per queued day.
+--
+-- Days are calendar days in the session time zone, as in GenerateProfitAndLossStatement, and
+-- use the same revenue and COGS rules. Existing history is rolled up at the end of the migration.
+
+BEGIN;
+
+--------------------------------------------------------------------------------
+-- Rollup tables
+--------------------------------------------------------------------------------
+-- Orders and takings per day and user: orders by the user who created them (cancelled orders
+-- excluded), payments by the user who received them
+CREATE TABLE DailySalesRollup (
+    rollup_date DATE NOT NULL,
+    user_id INT NOT NULL REFERENCES Users(user_id),
+    sales_orders INT NOT NULL DEFAULT 0,
+    gross_sales DECIMAL(14,2) NOT NULL DEFAULT 0.00,   -- Order subtotals before discount
+    discounts DECIMAL(14,2) NOT NULL DEFAULT 0.00,
+    cash_received DECIMAL(14,2) NOT NULL DEFAULT 0.00,
+    bank_received DECIMAL(14,2) NOT NULL DEFAULT 0.00,
+    revenue DECIMAL(14,2) NOT NULL DEFAULT 0.00,       -- Payments for completed or abandoned orders
+    PRIMARY KEY (rollup_date, user_id)
+);
+
+-- Order lines per day and product category (cancelled orders excluded)
+CREATE TABLE DailyCategorySalesRollup (
+    rollup_date DATE NOT NULL,
+    category_id INT NOT NULL REFERENCES ProductCategories(category_id),
+    quantity_sold INT NOT NULL DEFAULT 0,
+    sales_amount DECIMAL(14,2) NOT NULL DEFAULT 0.00,
+    cogs DECIMAL(14,2) NOT NULL DEFAULT 0.00,          -- Current cost of stock items on completed orders
+    PRIMARY KEY (rollup_date, category_id)
+);
+
+-- Expenses per day, expense category and user who recorded them
+CREATE TABLE DailyExpenseRollup (
+    rollup_date DATE NOT NULL,
+    expense_category_id INT NOT NULL REFERENCES ExpenseCategories(expense_category_id),
+    user_id INT NOT NULL REFERENCES Users(user_id),
+    expense_count INT NOT NULL DEFAULT 0,
+    cash_amount DECIMAL(14,2) NOT NULL DEFAULT 0.00,
+    bank_amount DECIMAL(14,2) NOT NULL DEFAULT 0.00,
+    PRIMARY KEY (rollup_date, expense_category_id, user_id)
+);
+
+-- Days whose rollups are out of date. Rows are appended, never upserted: a refresh only removes
+-- the rows it could see, so a day queued by a transaction that commits during the refresh stays
+-- queued for the next one.
+CREATE TABLE DailyRollupQueue (
+    queue_id BIGSERIAL PRIMARY KEY,
+    rollup_date DATE NOT NULL,
+    queued_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
+);
+
+--------------------------------------------------------------------------------
+-- Change capture
+--------------------------------------------------------------------------------
+CREATE OR REPLACE FUNCTION queue_daily_rollups(p_dates DATE[]) RETURNS VOID AS $$
+    INSERT INTO DailyRollupQueue (rollup_date)
+    SELECT DISTINCT d FROM unnest(p_dates) AS d WHERE d IS NOT NULL;
+$$ LANGUAGE sql;
+
+CREATE OR REPLACE FUNCTION daily_rollups_salesorders_trigger() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        PERFORM queue_daily_rollups(ARRAY(SELECT order_date::DATE FROM new_orders));
+    ELSIF TG_OP = 'UPDATE' THEN
+        PERFORM queue_daily_rollups(ARRAY(
+            SELECT order_date::DATE FROM old_orders
+            UNION SELECT order_date::DATE FROM new_orders
+            -- Revenue counts payments by their own date, but only once the order is completed or abandoned
+            UNION SELECT pay.payment_date::DATE
+                  FROM old_orders o JOIN new_orders n ON n.sales_order_id = o.sales_order_id
+                  JOIN Payments pay ON pay.sales_order_id = n.sales_order_id
+                  WHERE n.status IS DISTINCT FROM o.status));
+    ELSE
+        PERFORM queue_daily_rollups(ARRAY(SELECT order_date::DATE FROM old_orders));
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION daily_rollups_salesorderitems_trigger() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        PERFORM queue_daily_rollups(ARRAY(
+            SELECT so.order_date::DATE FROM SalesOrders so
+            WHERE so.sales_order_id IN (SELECT sales_order_id FROM new_items)));
+    ELSIF TG_OP = 'UPDATE' THEN
+        PERFORM queue_daily_rollups(ARRAY(
+            SELECT so.order_date::DATE FROM SalesOrders so
+            WHERE so.sales_order_id IN (SELECT sales_order_id FROM old_items UNION SELECT sales_order_id FROM new_items)));
+    ELSE
+        PERFORM queue_daily_rollups(ARRAY(
+            SELECT so.order_date::DATE FROM SalesOrders so
+            WHERE so.sales_order_id IN (SELECT sales_order_id FROM old_items)));
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION daily_rollups_payments_trigger() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        PERFORM queue_daily_rollups(ARRAY(SELECT payment_date::DATE FROM new_payments));
+    ELSIF TG_OP = 'UPDATE' THEN
+        PERFORM queue_daily_rollups(ARRAY(
+            SELECT payment_date::DATE FROM old_payments UNION SELECT payment_date::DATE FROM new_payments));
+    ELSE
+        PERFORM queue_daily_rollups(ARRAY(SELECT payment_date::DATE FROM old_payments));
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION daily_rollups_expenses_trigger() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        PERFORM queue_daily_rollups(ARRAY(SELECT expense_date FROM new_expenses));
+    ELSIF TG_OP = 'UPDATE' THEN
+        PERFORM queue_daily_rollups(ARRAY(
+            SELECT expense_date FROM old_expenses UNION SELECT expense_date FROM new_expenses));
+    ELSE
+        PERFORM queue_daily_rollups(ARRAY(SELECT expense_date FROM old_expenses));
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- COGS uses the current cost price, so a cost change affects every completed order with the item
+CREATE OR REPLACE FUNCTION daily_rollups_inventoryitems_trigger() RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM queue_daily_rollups(ARRAY(
+        SELECT DISTINCT so.order_date::DATE
+        FROM old_inventory o JOIN new_inventory n ON n.inventory_item_id = o.inventory_item_id
+        JOIN SalesOrderItems soi ON soi.inventory_item_id = n.inventory_item_id
+        JOIN SalesOrders so ON so.sales_order_id = soi.sales_order_id
+        WHERE (n.cost_price IS DISTINCT FROM o.cost_price OR n.product_id IS DISTINCT FROM o.product_id)
+          AND so.status <> 'Cancelled'));
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Transition tables require one trigger per event
+CREATE TRIGGER trg_daily_rollups_salesorders_ins AFTER INSERT ON SalesOrders
+    REFERENCING NEW TABLE AS new_orders
+    FOR EACH STATEMENT EXECUTE FUNCTION daily_rollups_salesorders_trigger();
+CREATE TRIGGER trg_daily_rollups_salesorders_upd AFTER UPDATE ON SalesOrders
+    REFERENCING OLD TABLE AS old_orders NEW TABLE AS new_orders
+    FOR EACH STATEMENT EXECUTE FUNCTION daily_rollups_salesorders_trigger();
+CREATE TRIGGER trg_daily_rollups_salesorders_del AFTER DELETE ON SalesOrders
+    REFERENCING OLD TABLE AS old_orders
+    FOR EACH STATEMENT EXECUTE FUNCTION daily_rollups_salesorders_trigger();
+
+CREATE TRIGGER trg_daily_rollups_salesorderitems_ins AFTER INSERT ON SalesOrderItems
+    REFERENCING NEW TABLE AS new_items
+    FOR EACH STATEMENT EXECUTE FUNCTION daily_rollups_salesorderitems_trigger();
+CREATE TRIGGER trg_daily_rollups_salesorderitems_upd AFTER UPDATE ON SalesOrderItems
+    REFERENCING OLD TABLE AS old_items NEW TABLE AS new_items
+    FOR EACH STATEMENT EXECUTE FUNCTION daily_rollups_salesorderitems_trigger();
+CREATE TRIGGER trg_daily_rollups_salesorderitems_del AFTER DELETE ON SalesOrderItems
+    REFERENCING OLD TABLE AS old_items
+    FOR EACH STATEMENT EXECUTE FUNCTION daily_rollups_salesorderitems_trigger();
+
+CREATE TRIGGER trg_daily_rollups_payments_ins AFTER INSERT ON Payments
+    REFERENCING NEW TABLE AS new_payments
+    FOR EACH STATEMENT EXECUTE FUNCTION daily_rollups_payments_trigger();
+CREATE TRIGGER trg_daily_rollups_payments_upd AFTER UPDATE ON Payments
+    REFERENCING OLD TABLE AS old_payments NEW TABLE AS new_payments
+    FOR EACH STATEMENT EXECUTE FUNCTION daily_rollups_payments_trigger();
+CREATE TRIGGER trg_daily_rollups_payments_del AFTER DELETE ON Payments
+    REFERENCING OLD TABLE AS old_payments
+    FOR EACH STATEMENT EXECUTE FUNCTION daily_rollups_payments_trigger();
+
+CREATE TRIGGER trg_daily_rollups_expenses_ins AFTER INSERT ON Expenses
+    REFERENCING NEW TABLE AS new_expenses
+    FOR EACH STATEMENT EXECUTE FUNCTION daily_rollups_expenses_trigger();
+CREATE TRIGGER trg_daily_rollups_expenses_upd AFTER UPDATE ON Expenses
+    REFERENCING OLD TABLE AS old_expenses NEW TABLE AS new_expenses
+    FOR EACH STATEMENT EXECUTE FUNCTION daily_rollups_expenses_trigger();
+CREATE TRIGGER trg_daily_rollups_expenses_del AFTER DELETE ON Expenses
+    REFERENCING OLD TABLE AS old_expenses
+    FOR EACH STATEMENT EXECUTE FUNCTION daily_rollups_expenses_trigger();
+
+CREATE TRIGGER trg_daily_rollups_inventoryitems_upd AFTER UPDATE ON InventoryItems
+    REFERENCING OLD TABLE AS old_inventory NEW TABLE AS new_inventory
+    FOR EACH STATEMENT EXECUTE FUNCTION daily_rollups_inventoryitems_trigger();
+
+--------------------------------------------------------------------------------
+-- Refresh
+--------------------------------------------------------------------------------
+-- Recomputes the rollups of every queued day and returns the number of days refreshed
+CREATE OR REPLACE FUNCTION RefreshDailyRollups()
+RETURNS INT
+LANGUAGE plpgsql AS $$
+DECLARE v_dates DATE[];
+BEGIN
+    LOCK TABLE DailySalesRollup IN EXCLUSIVE MODE; -- One refresh at a time; dashboard reads carry on
+
+    WITH taken AS (DELETE FROM DailyRollupQueue RETURNING rollup_date)
+    SELECT array_agg(DISTINCT rollup_date) INTO v_dates FROM taken;
+    IF v_dates IS NULL THEN RETURN 0; END IF;
+
+    DELETE FROM DailySalesRollup WHERE rollup_date = ANY(v_dates);
+    INSERT INTO DailySalesRollup (rollup_date, user_id, sales_orders, gross_sales, discounts, cash_received, bank_received, revenue)
+    SELECT d.day, t.user_id, SUM(t.sales_orders), SUM(t.gross_sales), SUM(t.discounts),
+           SUM(t.cash_received), SUM(t.bank_received), SUM(t.revenue)
+    FROM unnest(v_dates) AS d(day)
+    CROSS JOIN LATERAL (
+        SELECT so.created_by_user_id AS user_id, 1 AS sales_orders, so.subtotal_amount AS gross_sales,
+               COALESCE(so.discount_amount, 0) AS discounts, 0 AS cash_received, 0 AS bank_received, 0 AS revenue
+        FROM SalesOrders so
+        WHERE so.order_date >= d.day::TIMESTAMPTZ AND so.order_date < (d.day + 1)::TIMESTAMPTZ
+          AND so.status <> 'Cancelled'
+        UNION ALL
+        SELECT pay.received_by_user_id, 0, 0, 0,
+               CASE WHEN pay.payment_method = 'Cash' THEN pay.amount ELSE 0 END,
+               CASE WHEN pay.payment_method = 'Bank Transaction' THEN pay.amount ELSE 0 END,
+               CASE WHEN so.status IN ('Completed', 'Abandoned') THEN pay.amount ELSE 0 END
+        FROM Payments pay JOIN SalesOrders so ON so.sales_order_id = pay.sales_order_id
+        WHERE pay.payment_date >= d.day::TIMESTAMPTZ AND pay.payment_date < (d.day + 1)::TIMESTAMPTZ
+    ) t
+    GROUP BY d.day, t.user_id;
+
+    DELETE FROM DailyCategorySalesRollup WHERE rollup_date = ANY(v_dates);
+    INSERT INTO DailyCategorySalesRollup (rollup_date, category_id, quantity_sold, sales_amount, cogs)
+    SELECT d.day, p.category_id, SUM(soi.quantity), SUM(soi.item_subtotal),
+           SUM(CASE WHEN so.status = 'Completed' AND soi.inventory_item_id IS NOT NULL
+                    THEN soi.quantity * COALESCE(inv.cost_price, 0) ELSE 0 END)
+    FROM unnest(v_dates) AS d(day)
+    JOIN SalesOrders so ON so.order_date >= d.day::TIMESTAMPTZ AND so.order_date < (d.day + 1)::TIMESTAMPTZ
+    JOIN SalesOrderItems soi ON soi.sales_order_id = so.sales_order_id
+    LEFT JOIN InventoryItems inv ON inv.inventory_item_id = soi.inventory_item_id
+    JOIN Products p ON p.product_id = COALESCE(inv.product_id, soi.service_product_id)
+    WHERE so.status <> 'Cancelled'
+    GROUP BY d.day, p.category_id;
+
+    DELETE FROM DailyExpenseRollup WHERE rollup_date = ANY(v_dates);
+    INSERT INTO DailyExpenseRollup (rollup_date, expense_category_id, user_id, expense_count, cash_amount, bank_amount)
+    SELECT e.expense_date, e.expense_category_id, e.created_by_user_id, COUNT(*),
+           COALESCE(SUM(e.amount) FILTER (WHERE e.payment_method = 'Cash'), 0),
+           COALESCE(SUM(e.amount) FILTER (WHERE e.payment_method <> 'Cash'), 0)
+    FROM Expenses e
+    WHERE e.expense_date = ANY(v_dates)
+    GROUP BY e.expense_date, e.expense_category_id, e.created_by_user_id;
+
+    RETURN array_length(v_dates, 1);
+END;
+$$;
+
+-- Queues and recomputes a range of days, e.g. after products moved between categories
+CREATE OR REPLACE FUNCTION RebuildDailyRollups(p_start_date DATE, p_end_date DATE)
+RETURNS INT
+LANGUAGE plpgsql AS $$
+BEGIN
+    PERFORM queue_daily_rollups(ARRAY(SELECT generate_series(p_start_date, p_end_date, INTERVAL '1 day')::DATE));
+    RETURN RefreshDailyRollups();
+END;
+$$;
+
+-- Roll up the existing history
+SELECT queue_daily_rollups(ARRAY(
+    SELECT order_date::DATE FROM SalesOrders
+    UNION SELECT payment_date::DATE FROM Payments
+    UNION SELECT expense_date FROM Expenses));
+SELECT RefreshDailyRollups();
+
+COMMIT;
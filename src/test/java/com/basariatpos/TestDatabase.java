@@ -0,0 +1,134 @@
+package com.basariatpos;
+
+import com.basariatpos.config.AppSessionContext;
+import com.basariatpos.config.DatabaseConfig;
+import com.basariatpos.config.DslContextFactory;
+import com.basariatpos.config.PooledDataSource;
+import com.basariatpos.db.generated.Routines;
+import org.jooq.DSLContext;
+import org.jooq.Record2;
+import org.jooq.exception.DataAccessException;
+import org.junit.jupiter.api.Assumptions;
+
+import java.math.BigDecimal;
+
+import static com.basariatpos.db.generated.Tables.SHIFTS;
+import static com.basariatpos.db.generated.Tables.USERS;
+
+/**
+ * Connection to the database the integration tests run against, as a signed-in cashier with an
+ * active shift.
+ * <p>
+ * The database must contain the schema (the full database script plus the migrations in
+ * {@code db/migration}); tests create the rows they need and only assert on those. Connection
+ * settings are read from the system properties {@code test.db.url} (default
+ * {@code jdbc:postgresql://localhost:5433/basariat_pos_test}), {@code test.db.username} and
+ * {@code test.db.password}. When the database cannot be reached, the tests using it are skipped.
+ */
+public final class TestDatabase implements AutoCloseable {
+
+    /** Username of the account the tests work as. */
+    public static final String TEST_USERNAME = "test";
+
+    private final AppSessionContext sessionContext = new AppSessionContext();
+    private final PooledDataSource dataSource;
+    private final DSLContext dsl;
+    private final int userId;
+    private final int shiftId;
+
+    private TestDatabase(int maxPoolSize) {
+        DatabaseConfig config = new DatabaseConfig(
+                System.getProperty("test.db.url", "jdbc:postgresql://localhost:5433/basariat_pos_test"),
+                System.getProperty("test.db.username", "basariat_pos_user"),
+                System.getProperty("test.db.password", "POST"),
+                maxPoolSize, DatabaseConfig.DEFAULT_CONNECTION_TIMEOUT);
+        dataSource = new PooledDataSource(config, sessionContext);
+        dsl = DslContextFactory.create(dataSource);
+        try {
+            dsl.selectOne().fetch();
+        } catch (DataAccessException e) {
+            dataSource.close();
+            Assumptions.abort("Test database " + config + " is not available: " + e.getMessage());
+        }
+        userId = ensureUser();
+        sessionContext.setCurrentUser(userId);
+        shiftId = ensureActiveShift();
+        sessionContext.setCurrentShift(shiftId);
+    }
+
+    /**
+     * Connects to the test database, or aborts the calling test if it is not available.
+     *
+     * @return the open database.
+     */
+    public static TestDatabase open() {
+        return new TestDatabase(DatabaseConfig.DEFAULT_MAX_POOL_SIZE);
+    }
+
+    /**
+     * Connects with a larger pool, for tests that run statements concurrently.
+     *
+     * @param maxPoolSize the number of connections the pool may open.
+     * @return the open database.
+     */
+    public static TestDatabase open(int maxPoolSize) {
+        return new TestDatabase(maxPoolSize);
+    }
+
+    /**
+     * @return a context on the pool, carrying the test user and shift.
+     */
+    public DSLContext dsl() {
+        return dsl;
+    }
+
+    /**
+     * @return the pool behind {@link #dsl()}.
+     */
+    public PooledDataSource dataSource() {
+        return dataSource;
+    }
+
+    /**
+     * @return the ID of the {@value #TEST_USERNAME} user.
+     */
+    public int userId() {
+        return userId;
+    }
+
+    /**
+     * @return the ID of the test user's active shift.
+     */
+    public int shiftId() {
+        return shiftId;
+    }
+
+    @Override
+    public void close() {
+        dataSource.close();
+    }
+
+    private int ensureUser() {
+        dsl.insertInto(USERS, USERS.USERNAME, USERS.PASSWORD_HASH, USERS.FULL_NAME, USERS.ROLE)
+                .values(TEST_USERNAME, "!", "Test", "Admin")
+                .onConflict(USERS.USERNAME).doNothing()
+                .execute();
+        return dsl.select(USERS.USER_ID).from(USERS).where(USERS.USERNAME.eq(TEST_USERNAME)).fetchSingle(USERS.USER_ID);
+    }
+
+    /** Reuses the user's open shift, resuming it if paused, or starts a new one. */
+    private int ensureActiveShift() {
+        Record2<Integer, String> open = dsl.select(SHIFTS.SHIFT_ID, SHIFTS.STATUS)
+                .from(SHIFTS)
+                .where(SHIFTS.STARTED_BY_USER_ID.eq(userId))
+                .and(SHIFTS.STATUS.in("Active", "Paused"))
+                .fetchOne();
+        if (open == null) {
+            return Routines.startshift(dsl.configuration(), userId, new BigDecimal("500.00"));
+        }
+        if ("Paused".equals(open.value2())) {
+            Routines.resumeshift(dsl.configuration(), open.value1(), userId);
+        }
+        return open.value1();
+    }
+}
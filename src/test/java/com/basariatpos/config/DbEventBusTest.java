@@ -0,0 +1,128 @@
+package com.basariatpos.config;
+
+import com.basariatpos.TestDatabase;
+import com.basariatpos.model.DbEvent;
+import com.basariatpos.model.DbEvent.Operation;
+import com.basariatpos.model.DbEvent.Table;
+import org.jooq.DSLContext;
+import org.jooq.InsertValuesStep3;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static com.basariatpos.db.generated.Tables.INVENTORYITEMS;
+import static com.basariatpos.db.generated.Tables.PRODUCTS;
+import static com.basariatpos.db.generated.Tables.SALESORDERS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DbEventBusTest {
+
+    /** One more row than a notification lists by ID (migration V15). */
+    private static final int TOO_MANY_TO_LIST = 201;
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private static TestDatabase db;
+
+    @BeforeAll
+    static void open() {
+        db = TestDatabase.open();
+    }
+
+    @AfterAll
+    static void close() {
+        if (db != null) {
+            db.close();
+        }
+    }
+
+    @Test
+    void statementsArriveAsOneEventPerTable() throws InterruptedException, SQLException {
+        DSLContext dsl = db.dsl();
+        BlockingQueue<DbEvent> events = new LinkedBlockingQueue<>();
+        try (DbEventBus bus = new DbEventBus(db.dataSource(), Duration.ofMillis(50))) {
+            bus.subscribe(EnumSet.of(Table.INVENTORY_ITEMS, Table.SALES_ORDERS), events::add);
+            bus.start();
+            Set<Table> resynced = EnumSet.noneOf(Table.class);
+            while (resynced.size() < 2) {
+                DbEvent event = next(events);
+                assertTrue(event.allRows());
+                resynced.add(event.table());
+            }
+            // Each change is awaited before the next, so no two fall into one coalescing window
+
+            List<Integer> few = insertItems(dsl, 3);
+            assertEquals(new DbEvent(Table.INVENTORY_ITEMS, Set.of(Operation.INSERT), ids(few), false), next(events));
+
+            try (Connection connection = db.dataSource().getConnection()) {
+                connection.setAutoCommit(false);
+                insertItems(DSL.using(connection), 1);
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+            dsl.update(INVENTORYITEMS).set(INVENTORYITEMS.SELLING_PRICE, BigDecimal.TEN)
+                    .where(INVENTORYITEMS.INVENTORY_ITEM_ID.in(few)).execute();
+            assertEquals(new DbEvent(Table.INVENTORY_ITEMS, Set.of(Operation.UPDATE), ids(few), false), next(events));
+
+            List<Integer> many = insertItems(dsl, TOO_MANY_TO_LIST);
+            assertEquals(new DbEvent(Table.INVENTORY_ITEMS, Set.of(Operation.INSERT), Set.of(), true), next(events));
+            dsl.update(INVENTORYITEMS).set(INVENTORYITEMS.SELLING_PRICE, BigDecimal.TEN)
+                    .where(INVENTORYITEMS.INVENTORY_ITEM_ID.in(many)).execute();
+            DbEvent update = next(events);
+            assertEquals(Set.of(Operation.UPDATE), update.operations());
+            assertTrue(update.allRows());
+            dsl.deleteFrom(INVENTORYITEMS).where(INVENTORYITEMS.INVENTORY_ITEM_ID.in(many)).execute();
+            assertEquals(new DbEvent(Table.INVENTORY_ITEMS, Set.of(Operation.DELETE), Set.of(), true), next(events));
+
+            // The statement triggers are on the partitioned table, not on the partition the row is in
+            int orderId = dsl.insertInto(SALESORDERS)
+                    .set(SALESORDERS.STATUS, "Pending")
+                    .set(SALESORDERS.CREATED_BY_USER_ID, db.userId())
+                    .returning(SALESORDERS.SALES_ORDER_ID)
+                    .fetchSingle(SALESORDERS.SALES_ORDER_ID);
+            DbEvent order = next(events);
+            assertEquals(Table.SALES_ORDERS, order.table());
+            assertEquals(Set.of((long) orderId), order.ids());
+            assertFalse(order.allRows());
+            assertTrue(events.isEmpty(), events.toString());
+        }
+    }
+
+    private static DbEvent next(BlockingQueue<DbEvent> events) throws InterruptedException {
+        DbEvent event = events.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertNotNull(event, "No change event within " + TIMEOUT_SECONDS + " s");
+        return event;
+    }
+
+    private static List<Integer> insertItems(DSLContext dsl, int count) {
+        int productId = dsl.select(DSL.min(PRODUCTS.PRODUCT_ID)).from(PRODUCTS)
+                .where(PRODUCTS.IS_STOCK_ITEM).fetchSingle().value1();
+        InsertValuesStep3<?, Integer, Integer, BigDecimal> insert = dsl.insertInto(INVENTORYITEMS,
+                INVENTORYITEMS.PRODUCT_ID, INVENTORYITEMS.QUANTITY_ON_HAND, INVENTORYITEMS.SELLING_PRICE);
+        for (int i = 0; i < count; i++) {
+            insert = insert.values(productId, 1, new BigDecimal("20.00"));
+        }
+        return insert.returning(INVENTORYITEMS.INVENTORY_ITEM_ID).fetch(INVENTORYITEMS.INVENTORY_ITEM_ID);
+    }
+
+    private static Set<Long> ids(List<Integer> ids) {
+        Set<Long> longs = new HashSet<>();
+        ids.forEach(id -> longs.add(id.longValue()));
+        return longs;
+    }
+}
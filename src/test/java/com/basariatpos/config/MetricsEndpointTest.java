@@ -0,0 +1,82 @@
+package com.basariatpos.config;
+
+import com.basariatpos.TestDatabase;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetricsEndpointTest {
+
+    /** A sample line: name, optional labels with escaped values, and a number. */
+    private static final Pattern SAMPLE = Pattern.compile(
+            "[a-z_]+(\\{[a-z_]+=\"([^\"\\\\\\n]|\\\\[\\\\\"n])*\"(,[a-z_]+=\"([^\"\\\\\\n]|\\\\[\\\\\"n])*\")*})? -?\\d+(\\.\\d+)?");
+    private static final Pattern TYPE = Pattern.compile("# TYPE ([a-z_]+) (counter|gauge|summary)");
+
+    private static TestDatabase db;
+
+    @BeforeAll
+    static void open() {
+        db = TestDatabase.open();
+    }
+
+    @AfterAll
+    static void close() {
+        if (db != null) {
+            db.close();
+        }
+    }
+
+    @Test
+    void rendersTheTextFormatWithEscapedLabels() throws IOException, InterruptedException {
+        QueryDiagnostics diagnostics = new QueryDiagnostics();
+        DSLContext dsl = DslContextFactory.create(db.dataSource(), diagnostics);
+        dsl.fetch("select 'C:\\temp' as \"path\"\n, 1 as n");
+        String id = diagnostics.snapshot().get(0).id();
+
+        try (MetricsEndpoint endpoint = MetricsEndpoint.start(0, diagnostics, db.dataSource())) {
+            String metrics = endpoint.render();
+
+            Set<String> types = new HashSet<>();
+            for (String line : metrics.split("\n")) {
+                if (line.startsWith("# HELP ")) {
+                    continue;
+                }
+                var type = TYPE.matcher(line);
+                if (type.matches()) {
+                    assertTrue(types.add(type.group(1)), "Type of " + type.group(1) + " given twice");
+                } else {
+                    assertTrue(SAMPLE.matcher(line).matches(), line);
+                }
+            }
+            assertTrue(metrics.endsWith("\n"));
+            assertTrue(metrics.contains("basariat_query_info{query=\"" + id
+                    + "\",sql=\"select 'C:\\\\temp' as \\\"path\\\"\\n, 1 as n\"} 1\n"), metrics);
+            assertTrue(metrics.contains("basariat_query_duration_seconds{query=\"" + id + "\",quantile=\"0.99\"} "));
+            assertTrue(metrics.contains("basariat_query_duration_seconds_count{query=\"" + id + "\"} 1\n"));
+            assertTrue(metrics.contains("basariat_query_rows_total{query=\"" + id + "\"} 1\n"));
+            assertTrue(metrics.contains("basariat_pool_max_connections "
+                    + db.dataSource().metrics().maxPoolSize() + "\n"));
+
+            HttpResponse<String> response = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + endpoint.port() + MetricsEndpoint.PATH))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, response.statusCode());
+            assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("text/plain; version=0.0.4"));
+            assertTrue(response.body().contains("basariat_query_info{query=\"" + id + "\""));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.basariatpos.config;
+
+import com.basariatpos.TestDatabase;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PooledDataSourceTest {
+
+    private static final String OTHER_USER = "-42";
+
+    private static TestDatabase db;
+
+    @BeforeAll
+    static void open() {
+        // One connection, so every checkout gets the one whose session was changed
+        db = TestDatabase.open(1);
+    }
+
+    @AfterAll
+    static void close() {
+        if (db != null) {
+            db.close();
+        }
+    }
+
+    @Test
+    void contextChangedByAPlainStatementIsReplayed() throws SQLException {
+        try (Connection connection = db.dataSource().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("SELECT set_config('app.current_user_id', '" + OTHER_USER + "', false)");
+        }
+        assertEquals(String.valueOf(db.userId()), currentUserSetting());
+
+        try (Connection connection = db.dataSource().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet ignored = statement.executeQuery("SELECT set_config('app.current_user_id', '" + OTHER_USER + "', false)")) {
+            assertTrue(ignored.next());
+        }
+        assertEquals(String.valueOf(db.userId()), currentUserSetting());
+
+        try (Connection connection = db.dataSource().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.addBatch("SET app.current_user_id = '" + OTHER_USER + "'");
+            statement.executeBatch();
+        }
+        assertEquals(String.valueOf(db.userId()), currentUserSetting());
+    }
+
+    @Test
+    void otherPlainStatementsKeepTheContext() throws SQLException {
+        currentUserSetting();
+        long replays = db.dataSource().metrics().contextReplays();
+        try (Connection connection = db.dataSource().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("SELECT 1");
+        }
+        assertEquals(String.valueOf(db.userId()), currentUserSetting());
+        assertEquals(replays, db.dataSource().metrics().contextReplays());
+    }
+
+    private static String currentUserSetting() throws SQLException {
+        try (Connection connection = db.dataSource().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT current_setting('app.current_user_id', true)")) {
+            assertTrue(result.next());
+            return result.getString(1);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.basariatpos.config;
+
+import com.basariatpos.TestDatabase;
+import org.jooq.DSLContext;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.basariatpos.db.generated.Tables.USERS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QueryDiagnosticsTest {
+
+    /** The number of buckets; durations of 2^41 µs and more fall into the last one. */
+    private static final int BUCKETS = QueryDiagnostics.ShapeRecorder.bucketOf(Long.MAX_VALUE) + 1;
+
+    private static TestDatabase db;
+
+    @BeforeAll
+    static void open() {
+        db = TestDatabase.open();
+    }
+
+    @AfterAll
+    static void close() {
+        if (db != null) {
+            db.close();
+        }
+    }
+
+    @Test
+    void bucketsAreContiguousAndWithinAnEighth() {
+        for (long micros = 0; micros < 8; micros++) {
+            assertEquals(micros, QueryDiagnostics.ShapeRecorder.bucketOf(micros));
+            assertEquals(micros, QueryDiagnostics.ShapeRecorder.upperBoundMicros((int) micros));
+        }
+        assertEquals(0, QueryDiagnostics.ShapeRecorder.bucketOf(-5));
+        long lower = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            long upper = QueryDiagnostics.ShapeRecorder.upperBoundMicros(bucket);
+            assertEquals(bucket, QueryDiagnostics.ShapeRecorder.bucketOf(lower));
+            assertEquals(bucket, QueryDiagnostics.ShapeRecorder.bucketOf(upper));
+            assertTrue(upper - lower <= lower / 8, "bucket " + bucket + " spans " + lower + ".." + upper);
+            lower = upper + 1;
+        }
+        assertEquals(BUCKETS - 1, QueryDiagnostics.ShapeRecorder.bucketOf(lower));
+    }
+
+    @Test
+    void percentilesAreBucketBoundsCappedByTheMaximum() {
+        QueryDiagnostics.ShapeRecorder recorder = new QueryDiagnostics.ShapeRecorder();
+        assertEquals(0, recorder.snapshot("empty").p99Nanos());
+
+        for (int i = 0; i < 90; i++) {
+            recorder.record(100_000, 1, 8, false);
+        }
+        for (int i = 0; i < 10; i++) {
+            recorder.record(10_000_000, 1, 8, i == 0);
+        }
+        QueryStats stats = recorder.snapshot("select");
+
+        long bucketOf100Micros = QueryDiagnostics.ShapeRecorder.upperBoundMicros(
+                QueryDiagnostics.ShapeRecorder.bucketOf(100));
+        assertEquals((bucketOf100Micros + 1) * 1_000 - 1, stats.p50Nanos());
+        assertTrue(stats.p50Nanos() >= 100_000 && stats.p50Nanos() < 112_500, Long.toString(stats.p50Nanos()));
+        assertEquals(10_000_000, stats.p95Nanos());
+        assertEquals(10_000_000, stats.p99Nanos());
+        assertEquals(100, stats.count());
+        assertEquals(1, stats.failures());
+        assertEquals(800, stats.bytesMapped());
+    }
+
+    @Test
+    void repeatedQueriesOfAnActionAreReportedWhenItEnds() {
+        QueryDiagnostics diagnostics = new QueryDiagnostics();
+        DSLContext dsl = DslContextFactory.create(db.dataSource(), diagnostics);
+
+        for (int i = 0; i < 200; i++) {
+            dsl.select(DSL.val(i)).fetchSingle();
+        }
+        try (QueryDiagnostics.Action ignored = diagnostics.action("open patient")) {
+            for (int i = 0; i < 15; i++) {
+                dsl.select(USERS.USERNAME).from(USERS).where(USERS.USER_ID.eq(i)).fetchOne();
+            }
+            for (int i = 0; i < 3; i++) {
+                dsl.select(USERS.FULL_NAME).from(USERS).where(USERS.USER_ID.eq(i)).fetchOne();
+            }
+        }
+        for (int i = 0; i < 2; i++) {
+            assertThrows(DataAccessException.class, () -> dsl.fetch("select 1 / 0"));
+        }
+
+        List<QueryDiagnostics.RepeatedQuery> repeated = diagnostics.repeatedQueries();
+        assertEquals(1, repeated.size());
+        assertEquals("open patient", repeated.get(0).action());
+        assertEquals(15, repeated.get(0).executions());
+        assertTrue(repeated.get(0).sql().contains("username"), repeated.get(0).sql());
+
+        QueryStats values = stats(diagnostics, "select ?");
+        assertEquals(200, values.count());
+        assertEquals(200, values.rows());
+        assertEquals(0, values.failures());
+        assertTrue(values.p50Nanos() <= values.p95Nanos() && values.p95Nanos() <= values.p99Nanos()
+                && values.p99Nanos() <= values.maxNanos());
+        assertEquals(1, stats(diagnostics, repeated.get(0).sql()).repeatedInAction());
+        QueryStats failing = stats(diagnostics, "select 1 / 0");
+        assertEquals(2, failing.count());
+        assertEquals(2, failing.failures());
+    }
+
+    @Test
+    void onlyTheOutermostActionReportsAndOnlyOnItsThread() throws Exception {
+        QueryDiagnostics diagnostics = new QueryDiagnostics();
+        DSLContext dsl = DslContextFactory.create(db.dataSource(), diagnostics);
+
+        QueryDiagnostics.Action outer = diagnostics.action("outer");
+        try (QueryDiagnostics.Action inner = diagnostics.action("inner")) {
+            for (int i = 0; i < QueryDiagnostics.DEFAULT_REPEAT_THRESHOLD; i++) {
+                dsl.select(DSL.val(i)).fetchSingle();
+            }
+        }
+        assertTrue(diagnostics.repeatedQueries().isEmpty());
+
+        CompletableFuture.runAsync(outer::close).get();
+        assertTrue(diagnostics.repeatedQueries().isEmpty());
+
+        outer.close();
+        outer.close();
+        assertEquals(1, diagnostics.repeatedQueries().size());
+        assertEquals("outer", diagnostics.repeatedQueries().get(0).action());
+    }
+
+    private static QueryStats stats(QueryDiagnostics diagnostics, String sql) {
+        return diagnostics.snapshot().stream().filter(stats -> stats.sql().equals(sql)).findFirst()
+                .orElseThrow(() -> new AssertionError("No shape " + sql + " in " + diagnostics.snapshot()));
+    }
+}
@@ -0,0 +1,172 @@
+package com.basariatpos.db;
+
+import com.basariatpos.TestDatabase;
+import com.basariatpos.db.generated.Routines;
+import com.basariatpos.db.generated.tables.pojos.Salesorderitems;
+import com.basariatpos.db.generated.tables.pojos.Salesorders;
+import com.basariatpos.repository.SalesOrderRepository;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.basariatpos.db.generated.Tables.INVENTORYCOSTLAYERS;
+import static com.basariatpos.db.generated.Tables.INVENTORYITEMS;
+import static com.basariatpos.db.generated.Tables.PRODUCTS;
+import static com.basariatpos.db.generated.Tables.SALESORDERITEMS;
+import static com.basariatpos.db.generated.Tables.SALESORDERS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Many cashiers completing orders for the same few stock items at once (migration V11): each
+ * order is saved, marked completed and passed to {@code ProcessOrderCompletionStockUpdate} in one
+ * transaction. Lines pick the items in random order and may repeat one, so completions contend
+ * for the same stock rows and cost layers; any deadlock fails the test.
+ */
+class OrderCompletionConcurrencyTest {
+
+    private static final int ORDERS = 1000;
+    private static final int THREADS = 16;
+    private static final int HOT_ITEMS = 8;
+    private static final int LINES = 4;
+
+    /** Each item has an older, cheaper layer that runs out during the test and a newer one. */
+    private static final int FIRST_LAYER_QUANTITY = 500;
+    private static final BigDecimal FIRST_LAYER_COST = new BigDecimal("5.00");
+    private static final int SECOND_LAYER_QUANTITY = 10_000;
+    private static final BigDecimal SECOND_LAYER_COST = new BigDecimal("7.00");
+
+    private static TestDatabase db;
+
+    @BeforeAll
+    static void open() {
+        db = TestDatabase.open(THREADS);
+    }
+
+    @AfterAll
+    static void close() {
+        if (db != null) {
+            db.close();
+        }
+    }
+
+    @Test
+    void concurrentCompletionsConsumeStockExactlyOnce() throws InterruptedException {
+        DSLContext dsl = db.dsl();
+        List<Integer> items = createItems(dsl);
+        SalesOrderRepository repository = new SalesOrderRepository(dsl);
+
+        ExecutorService cashiers = Executors.newFixedThreadPool(THREADS);
+        List<Future<List<Salesorderitems>>> orders = new ArrayList<>();
+        for (int o = 0; o < ORDERS; o++) {
+            SplittableRandom random = new SplittableRandom(o);
+            orders.add(cashiers.submit(() -> completeOrder(dsl, repository, items, random)));
+        }
+        cashiers.shutdown();
+        assertTrue(cashiers.awaitTermination(5, TimeUnit.MINUTES), "orders did not complete in time");
+
+        long[] sold = new long[HOT_ITEMS];
+        List<Integer> orderIds = new ArrayList<>();
+        for (Future<List<Salesorderitems>> order : orders) {
+            List<Salesorderitems> lines;
+            try {
+                lines = order.get();
+            } catch (ExecutionException e) {
+                throw new AssertionError("An order failed to complete", e.getCause());
+            }
+            orderIds.add(lines.get(0).getSalesOrderId());
+            lines.forEach(line -> sold[items.indexOf(line.getInventoryItemId())] += line.getQuantity());
+        }
+
+        assertEquals(ORDERS, dsl.fetchCount(SALESORDERS,
+                SALESORDERS.SALES_ORDER_ID.in(orderIds).and(SALESORDERS.STATUS.eq("Completed"))));
+        Map<Integer, Integer> stock = dsl.select(INVENTORYITEMS.INVENTORY_ITEM_ID, INVENTORYITEMS.QUANTITY_ON_HAND)
+                .from(INVENTORYITEMS).where(INVENTORYITEMS.INVENTORY_ITEM_ID.in(items))
+                .fetchMap(INVENTORYITEMS.INVENTORY_ITEM_ID, INVENTORYITEMS.QUANTITY_ON_HAND);
+        Map<Integer, Integer> remaining = dsl.select(INVENTORYCOSTLAYERS.INVENTORY_ITEM_ID,
+                        DSL.sum(INVENTORYCOSTLAYERS.QUANTITY_REMAINING).cast(Integer.class))
+                .from(INVENTORYCOSTLAYERS).where(INVENTORYCOSTLAYERS.INVENTORY_ITEM_ID.in(items))
+                .groupBy(INVENTORYCOSTLAYERS.INVENTORY_ITEM_ID)
+                .fetchMap(r -> r.value1(), r -> r.value2());
+        Map<Integer, BigDecimal> cost = dsl.select(SALESORDERITEMS.INVENTORY_ITEM_ID, DSL.sum(SALESORDERITEMS.COST_AMOUNT))
+                .from(SALESORDERITEMS).where(SALESORDERITEMS.INVENTORY_ITEM_ID.in(items))
+                .groupBy(SALESORDERITEMS.INVENTORY_ITEM_ID)
+                .fetchMap(r -> r.value1(), r -> r.value2());
+        for (int i = 0; i < HOT_ITEMS; i++) {
+            int item = items.get(i);
+            long fromFirst = Math.min(sold[i], FIRST_LAYER_QUANTITY);
+            BigDecimal expectedCost = FIRST_LAYER_COST.multiply(BigDecimal.valueOf(fromFirst))
+                    .add(SECOND_LAYER_COST.multiply(BigDecimal.valueOf(sold[i] - fromFirst)));
+            assertEquals(FIRST_LAYER_QUANTITY + SECOND_LAYER_QUANTITY - sold[i], (long) stock.get(item),
+                    "stock of item " + item);
+            assertEquals(FIRST_LAYER_QUANTITY + SECOND_LAYER_QUANTITY - sold[i], (long) remaining.get(item),
+                    "cost layers of item " + item);
+            assertEquals(0, expectedCost.compareTo(cost.get(item)),
+                    "cost of item " + item + ": expected " + expectedCost + " but was " + cost.get(item));
+        }
+        assertEquals(0, dsl.fetchCount(SALESORDERITEMS,
+                SALESORDERITEMS.SALES_ORDER_ID.in(orderIds).and(SALESORDERITEMS.COST_AMOUNT.isNull())));
+    }
+
+    private static List<Salesorderitems> completeOrder(DSLContext dsl, SalesOrderRepository repository,
+                                                       List<Integer> items, SplittableRandom random) {
+        Salesorders order = new Salesorders();
+        order.setStatus("Pending");
+        order.setCreatedByUserId(db.userId());
+        List<Salesorderitems> lines = new ArrayList<>(LINES);
+        for (int l = 0; l < LINES; l++) {
+            Salesorderitems line = new Salesorderitems();
+            line.setInventoryItemId(items.get(random.nextInt(HOT_ITEMS)));
+            line.setQuantity(1 + random.nextInt(3));
+            line.setUnitPrice(new BigDecimal("20.00"));
+            lines.add(line);
+        }
+        repository.saveOrderWithItems(order, lines);
+        dsl.transaction(configuration -> {
+            configuration.dsl().update(SALESORDERS)
+                    .set(SALESORDERS.STATUS, "Completed")
+                    .where(SALESORDERS.SALES_ORDER_ID.eq(order.getSalesOrderId()))
+                    .execute();
+            Routines.processordercompletionstockupdate(configuration, order.getSalesOrderId());
+        });
+        lines.forEach(line -> line.setSalesOrderId(order.getSalesOrderId()));
+        return lines;
+    }
+
+    /** Creates the hot items with their stock in two cost layers. */
+    private static List<Integer> createItems(DSLContext dsl) {
+        int productId = dsl.select(DSL.min(PRODUCTS.PRODUCT_ID)).from(PRODUCTS)
+                .where(PRODUCTS.IS_STOCK_ITEM).fetchSingle().value1();
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < HOT_ITEMS; i++) {
+            int item = dsl.insertInto(INVENTORYITEMS)
+                    .set(INVENTORYITEMS.PRODUCT_ID, productId)
+                    .set(INVENTORYITEMS.QUANTITY_ON_HAND, FIRST_LAYER_QUANTITY + SECOND_LAYER_QUANTITY)
+                    .set(INVENTORYITEMS.SELLING_PRICE, new BigDecimal("20.00"))
+                    .set(INVENTORYITEMS.COST_PRICE, SECOND_LAYER_COST)
+                    .returning(INVENTORYITEMS.INVENTORY_ITEM_ID)
+                    .fetchSingle(INVENTORYITEMS.INVENTORY_ITEM_ID);
+            dsl.insertInto(INVENTORYCOSTLAYERS, INVENTORYCOSTLAYERS.INVENTORY_ITEM_ID, INVENTORYCOSTLAYERS.SOURCE,
+                            INVENTORYCOSTLAYERS.UNIT_COST, INVENTORYCOSTLAYERS.QUANTITY_RECEIVED,
+                            INVENTORYCOSTLAYERS.QUANTITY_REMAINING)
+                    .values(item, "Opening", FIRST_LAYER_COST, FIRST_LAYER_QUANTITY, FIRST_LAYER_QUANTITY)
+                    .values(item, "Purchase", SECOND_LAYER_COST, SECOND_LAYER_QUANTITY, SECOND_LAYER_QUANTITY)
+                    .execute();
+            items.add(item);
+        }
+        return items;
+    }
+}
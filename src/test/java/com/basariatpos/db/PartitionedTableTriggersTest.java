@@ -0,0 +1,91 @@
+package com.basariatpos.db;
+
+import com.basariatpos.TestDatabase;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static com.basariatpos.db.generated.Tables.AUDITLOG;
+import static com.basariatpos.db.generated.Tables.PAYMENTS;
+import static com.basariatpos.db.generated.Tables.SALESORDERS;
+import static com.basariatpos.db.generated.Tables.SHIFTTOTALS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Row triggers on the year-partitioned SalesOrders and Payments (migration V16) run on the
+ * partitions and must still treat rows as belonging to their partitioned table (migration V17).
+ */
+class PartitionedTableTriggersTest {
+
+    private static TestDatabase db;
+
+    @BeforeAll
+    static void open() {
+        db = TestDatabase.open();
+    }
+
+    @AfterAll
+    static void close() {
+        if (db != null) {
+            db.close();
+        }
+    }
+
+    @Test
+    void newOrderAndPaymentGetTheActiveShift() {
+        DSLContext dsl = db.dsl();
+        BigDecimal cashBefore = cashReceived(dsl);
+
+        int orderId = insertOrder(dsl);
+        Integer orderShift = dsl.select(SALESORDERS.SHIFT_ID).from(SALESORDERS)
+                .where(SALESORDERS.SALES_ORDER_ID.eq(orderId)).fetchSingle(SALESORDERS.SHIFT_ID);
+        Integer paymentShift = dsl.insertInto(PAYMENTS)
+                .set(PAYMENTS.SALES_ORDER_ID, orderId)
+                .set(PAYMENTS.AMOUNT, new BigDecimal("12.50"))
+                .set(PAYMENTS.PAYMENT_METHOD, "Cash")
+                .set(PAYMENTS.RECEIVED_BY_USER_ID, db.userId())
+                .returning(PAYMENTS.SHIFT_ID)
+                .fetchSingle(PAYMENTS.SHIFT_ID);
+
+        assertEquals(db.shiftId(), orderShift);
+        assertEquals(db.shiftId(), paymentShift);
+        assertEquals(cashBefore.add(new BigDecimal("12.50")), cashReceived(dsl));
+    }
+
+    @Test
+    void changesAreAuditedUnderThePartitionedTable() {
+        DSLContext dsl = db.dsl();
+        int orderId = insertOrder(dsl);
+        long paymentId = dsl.insertInto(PAYMENTS)
+                .set(PAYMENTS.SALES_ORDER_ID, orderId)
+                .set(PAYMENTS.AMOUNT, BigDecimal.ONE)
+                .set(PAYMENTS.PAYMENT_METHOD, "Cash")
+                .set(PAYMENTS.RECEIVED_BY_USER_ID, db.userId())
+                .returning(PAYMENTS.PAYMENT_ID)
+                .fetchSingle(PAYMENTS.PAYMENT_ID);
+        dsl.update(SALESORDERS).set(SALESORDERS.REMARKS, "audited")
+                .where(SALESORDERS.SALES_ORDER_ID.eq(orderId)).execute();
+
+        assertEquals(2, dsl.fetchCount(AUDITLOG, AUDITLOG.TABLE_NAME.eq("salesorders")
+                .and(AUDITLOG.RECORD_PK.eq(String.valueOf(orderId)))));
+        assertEquals(1, dsl.fetchCount(AUDITLOG, AUDITLOG.TABLE_NAME.eq("payments")
+                .and(AUDITLOG.RECORD_PK.eq(String.valueOf(paymentId)))));
+    }
+
+    private static int insertOrder(DSLContext dsl) {
+        return dsl.insertInto(SALESORDERS)
+                .set(SALESORDERS.STATUS, "Pending")
+                .set(SALESORDERS.CREATED_BY_USER_ID, db.userId())
+                .returning(SALESORDERS.SALES_ORDER_ID)
+                .fetchSingle(SALESORDERS.SALES_ORDER_ID);
+    }
+
+    private static BigDecimal cashReceived(DSLContext dsl) {
+        BigDecimal cash = dsl.select(SHIFTTOTALS.TOTAL_CASH_RECEIVED).from(SHIFTTOTALS)
+                .where(SHIFTTOTALS.SHIFT_ID.eq(db.shiftId())).fetchOne(SHIFTTOTALS.TOTAL_CASH_RECEIVED);
+        return cash == null ? BigDecimal.ZERO.setScale(2) : cash;
+    }
+}
@@ -0,0 +1,156 @@
+package com.basariatpos.db;
+
+import com.basariatpos.TestDatabase;
+import org.jooq.DSLContext;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+import static com.basariatpos.db.generated.Tables.APPOINTMENTS;
+import static com.basariatpos.db.generated.Tables.INVENTORYITEMS;
+import static com.basariatpos.db.generated.Tables.PAYMENTS;
+import static com.basariatpos.db.generated.Tables.SALESORDERITEMS;
+import static com.basariatpos.db.generated.Tables.SALESORDERS;
+import static com.basariatpos.db.generated.Tables.STOCKRESERVATIONS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Foreign keys cannot reference the partitioned SalesOrders, so migration V16 enforces the
+ * references to it with triggers; they must behave as the foreign keys did.
+ */
+class SalesOrderReferenceTriggersTest {
+
+    private static final String FOREIGN_KEY_VIOLATION = "23503";
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    private static TestDatabase db;
+
+    @BeforeAll
+    static void open() {
+        db = TestDatabase.open();
+    }
+
+    @AfterAll
+    static void close() {
+        if (db != null) {
+            db.close();
+        }
+    }
+
+    @Test
+    void referenceToAMissingOrderIsRejected() {
+        DSLContext dsl = db.dsl();
+        int missingId = dsl.select(DSL.max(SALESORDERS.SALES_ORDER_ID)).from(SALESORDERS).fetchSingle().value1() + 1_000;
+
+        DataAccessException line = assertThrows(DataAccessException.class, () -> insertLine(dsl, missingId));
+        DataAccessException payment = assertThrows(DataAccessException.class, () -> insertPayment(dsl, missingId));
+
+        assertEquals(FOREIGN_KEY_VIOLATION, line.sqlState());
+        assertEquals(FOREIGN_KEY_VIOLATION, payment.sqlState());
+    }
+
+    @Test
+    void deletingAnOrderDeletesWhatBelongedToIt() {
+        DSLContext dsl = db.dsl();
+        int orderId = insertOrder(dsl);
+        int otherOrderId = insertOrder(dsl);
+        insertLine(dsl, orderId);
+        insertPayment(dsl, orderId);
+        insertAppointment(dsl, orderId);
+        dsl.insertInto(STOCKRESERVATIONS)
+                .set(STOCKRESERVATIONS.INVENTORY_ITEM_ID, anyItem(dsl))
+                .set(STOCKRESERVATIONS.QUANTITY, 1)
+                .set(STOCKRESERVATIONS.SALES_ORDER_ID, orderId)
+                .execute();
+        insertLine(dsl, otherOrderId);
+
+        dsl.deleteFrom(SALESORDERS).where(SALESORDERS.SALES_ORDER_ID.eq(orderId)).execute();
+
+        assertEquals(0, dsl.fetchCount(SALESORDERITEMS, SALESORDERITEMS.SALES_ORDER_ID.eq(orderId)));
+        assertEquals(0, dsl.fetchCount(PAYMENTS, PAYMENTS.SALES_ORDER_ID.eq(orderId)));
+        assertEquals(0, dsl.fetchCount(APPOINTMENTS, APPOINTMENTS.SALES_ORDER_ID.eq(orderId)));
+        assertEquals(0, dsl.fetchCount(STOCKRESERVATIONS, STOCKRESERVATIONS.SALES_ORDER_ID.eq(orderId)));
+        assertEquals(1, dsl.fetchCount(SALESORDERITEMS, SALESORDERITEMS.SALES_ORDER_ID.eq(otherOrderId)));
+    }
+
+    @Test
+    void orderIdCannotBeChanged() {
+        DSLContext dsl = db.dsl();
+        int orderId = insertOrder(dsl);
+
+        DataAccessException e = assertThrows(DataAccessException.class, () -> dsl.update(SALESORDERS)
+                .set(SALESORDERS.SALES_ORDER_ID, SALESORDERS.SALES_ORDER_ID.plus(1_000_000))
+                .where(SALESORDERS.SALES_ORDER_ID.eq(orderId))
+                .execute());
+
+        assertEquals(FOREIGN_KEY_VIOLATION, e.sqlState());
+        assertEquals(1, dsl.fetchCount(SALESORDERS, SALESORDERS.SALES_ORDER_ID.eq(orderId)));
+    }
+
+    @Test
+    void appointmentIsTheDeliveryAppointmentOfOneOrderOnly() {
+        DSLContext dsl = db.dsl();
+        int firstOrderId = insertOrder(dsl);
+        int secondOrderId = insertOrder(dsl);
+        int appointmentId = insertAppointment(dsl, firstOrderId);
+        setDeliveryAppointment(dsl, firstOrderId, appointmentId);
+        setDeliveryAppointment(dsl, firstOrderId, appointmentId);
+
+        DataAccessException e = assertThrows(DataAccessException.class,
+                () -> setDeliveryAppointment(dsl, secondOrderId, appointmentId));
+
+        assertEquals(UNIQUE_VIOLATION, e.sqlState());
+        assertEquals(1, dsl.fetchCount(SALESORDERS, SALESORDERS.DELIVERY_APPOINTMENT_ID.eq(appointmentId)));
+    }
+
+    private static int insertOrder(DSLContext dsl) {
+        return dsl.insertInto(SALESORDERS)
+                .set(SALESORDERS.STATUS, "Pending")
+                .set(SALESORDERS.CREATED_BY_USER_ID, db.userId())
+                .returning(SALESORDERS.SALES_ORDER_ID)
+                .fetchSingle(SALESORDERS.SALES_ORDER_ID);
+    }
+
+    private static void insertLine(DSLContext dsl, int orderId) {
+        dsl.insertInto(SALESORDERITEMS, SALESORDERITEMS.SALES_ORDER_ID, SALESORDERITEMS.INVENTORY_ITEM_ID,
+                        SALESORDERITEMS.DESCRIPTION, SALESORDERITEMS.QUANTITY, SALESORDERITEMS.UNIT_PRICE)
+                .values(orderId, anyItem(dsl), "Frame", 1, new BigDecimal("10.00"))
+                .execute();
+    }
+
+    private static void insertPayment(DSLContext dsl, int orderId) {
+        dsl.insertInto(PAYMENTS)
+                .set(PAYMENTS.SALES_ORDER_ID, orderId)
+                .set(PAYMENTS.AMOUNT, BigDecimal.ONE)
+                .set(PAYMENTS.PAYMENT_METHOD, "Cash")
+                .set(PAYMENTS.RECEIVED_BY_USER_ID, db.userId())
+                .execute();
+    }
+
+    private static int insertAppointment(DSLContext dsl, int orderId) {
+        return dsl.insertInto(APPOINTMENTS)
+                .set(APPOINTMENTS.SALES_ORDER_ID, orderId)
+                .set(APPOINTMENTS.APPOINTMENT_DATETIME, OffsetDateTime.now().plusDays(3))
+                .set(APPOINTMENTS.CREATED_BY_USER_ID, db.userId())
+                .set(APPOINTMENTS.STATUS, "Scheduled")
+                .returning(APPOINTMENTS.APPOINTMENT_ID)
+                .fetchSingle(APPOINTMENTS.APPOINTMENT_ID);
+    }
+
+    private static void setDeliveryAppointment(DSLContext dsl, int orderId, int appointmentId) {
+        dsl.update(SALESORDERS)
+                .set(SALESORDERS.DELIVERY_APPOINTMENT_ID, appointmentId)
+                .where(SALESORDERS.SALES_ORDER_ID.eq(orderId))
+                .execute();
+    }
+
+    private static int anyItem(DSLContext dsl) {
+        return dsl.select(DSL.min(INVENTORYITEMS.INVENTORY_ITEM_ID)).from(INVENTORYITEMS).fetchSingle().value1();
+    }
+}
@@ -0,0 +1,123 @@
+package com.basariatpos.db;
+
+import com.basariatpos.TestDatabase;
+import com.basariatpos.db.generated.tables.Findsalesordersubtotalmismatches;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static com.basariatpos.db.generated.Tables.INVENTORYITEMS;
+import static com.basariatpos.db.generated.Tables.SALESORDERITEMS;
+import static com.basariatpos.db.generated.Tables.SALESORDERS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * SalesOrders.subtotal_amount is maintained by statement-level triggers on SalesOrderItems
+ * (migration V2); statements touching several lines of several orders must leave every subtotal
+ * as the per-row recalculation would.
+ */
+class SalesOrderSubtotalTest {
+
+    private static TestDatabase db;
+    private static int itemId;
+
+    private int first;
+    private int second;
+
+    @BeforeAll
+    static void open() {
+        db = TestDatabase.open();
+        itemId = db.dsl().select(DSL.min(INVENTORYITEMS.INVENTORY_ITEM_ID)).from(INVENTORYITEMS).fetchSingle().value1();
+    }
+
+    @AfterAll
+    static void close() {
+        if (db != null) {
+            db.close();
+        }
+    }
+
+    @BeforeEach
+    void createOrders() {
+        first = insertOrder();
+        second = insertOrder();
+        db.dsl().insertInto(SALESORDERITEMS, SALESORDERITEMS.SALES_ORDER_ID, SALESORDERITEMS.INVENTORY_ITEM_ID,
+                        SALESORDERITEMS.QUANTITY, SALESORDERITEMS.UNIT_PRICE)
+                .values(first, itemId, 1, new BigDecimal("10.00"))
+                .values(first, itemId, 2, new BigDecimal("15.50"))
+                .values(first, itemId, 3, new BigDecimal("1.25"))
+                .values(second, itemId, 1, new BigDecimal("99.99"))
+                .values(second, itemId, 4, new BigDecimal("2.00"))
+                .execute();
+    }
+
+    @Test
+    void insertOfManyLines() {
+        assertSubtotals("44.75", "107.99");
+    }
+
+    @Test
+    void updateOfManyLines() {
+        db.dsl().update(SALESORDERITEMS)
+                .set(SALESORDERITEMS.QUANTITY, SALESORDERITEMS.QUANTITY.plus(1))
+                .where(SALESORDERITEMS.SALES_ORDER_ID.in(first, second))
+                .execute();
+        assertSubtotals("71.50", "209.98");
+
+        // Moving a line to the other order changes both
+        db.dsl().update(SALESORDERITEMS)
+                .set(SALESORDERITEMS.SALES_ORDER_ID, second)
+                .where(SALESORDERITEMS.SALES_ORDER_ID.eq(first))
+                .and(SALESORDERITEMS.UNIT_PRICE.eq(new BigDecimal("15.50")))
+                .execute();
+        assertSubtotals("25.00", "256.48");
+
+        // Lines whose subtotal stays the same leave the headers alone
+        db.dsl().update(SALESORDERITEMS)
+                .set(SALESORDERITEMS.DESCRIPTION, "changed")
+                .where(SALESORDERITEMS.SALES_ORDER_ID.in(first, second))
+                .execute();
+        assertSubtotals("25.00", "256.48");
+    }
+
+    @Test
+    void deleteOfManyLines() {
+        db.dsl().deleteFrom(SALESORDERITEMS)
+                .where(SALESORDERITEMS.SALES_ORDER_ID.in(first, second))
+                .and(SALESORDERITEMS.QUANTITY.ge(2))
+                .execute();
+        assertSubtotals("10.00", "99.99");
+
+        db.dsl().deleteFrom(SALESORDERITEMS).where(SALESORDERITEMS.SALES_ORDER_ID.in(first, second)).execute();
+        assertSubtotals("0.00", "0.00");
+    }
+
+    private void assertSubtotals(String expectedFirst, String expectedSecond) {
+        DSLContext dsl = db.dsl();
+        Findsalesordersubtotalmismatches mismatches = Findsalesordersubtotalmismatches.FINDSALESORDERSUBTOTALMISMATCHES.call();
+        assertEquals(List.of(), dsl.selectFrom(mismatches)
+                .where(mismatches.SALES_ORDER_ID.in(first, second))
+                .fetch(mismatches.SALES_ORDER_ID));
+        assertEquals(new BigDecimal(expectedFirst), subtotal(dsl, first));
+        assertEquals(new BigDecimal(expectedSecond), subtotal(dsl, second));
+    }
+
+    private static BigDecimal subtotal(DSLContext dsl, int orderId) {
+        return dsl.select(SALESORDERS.SUBTOTAL_AMOUNT).from(SALESORDERS)
+                .where(SALESORDERS.SALES_ORDER_ID.eq(orderId)).fetchSingle(SALESORDERS.SUBTOTAL_AMOUNT);
+    }
+
+    private static int insertOrder() {
+        return db.dsl().insertInto(SALESORDERS)
+                .set(SALESORDERS.STATUS, "Pending")
+                .set(SALESORDERS.CREATED_BY_USER_ID, db.userId())
+                .returning(SALESORDERS.SALES_ORDER_ID)
+                .fetchSingle(SALESORDERS.SALES_ORDER_ID);
+    }
+}
@@ -0,0 +1,116 @@
+package com.basariatpos.model;
+
+import com.basariatpos.model.PrescriptionHistory.Measure;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrescriptionHistoryTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 1);
+
+    @Test
+    void valuesTheColumnsAcceptAreStoredExactly() {
+        BigDecimal[] spheres = {decimal("327.67"), decimal("327.68"), decimal("-327.66"), decimal("-327.67"),
+                decimal("999.99"), decimal("-999.99")};
+        PrescriptionHistory.Builder filled = PrescriptionHistory.builder(1, 1);
+        for (int i = 0; i < spheres.length; i++) {
+            filled.add(i, TODAY.minusYears(i), false)
+                    .set(Measure.OD_SPHERE, spheres[i])
+                    .set(Measure.IPD, decimal("62.5"))
+                    .set(Measure.OD_AXIS, i == 0 ? 40_000 : 90);
+        }
+        PrescriptionHistory history = filled.build();
+
+        for (int i = 0; i < spheres.length; i++) {
+            assertEquals(spheres[i], history.decimal(i, Measure.OD_SPHERE));
+            assertEquals(decimal("62.50"), history.decimal(i, Measure.IPD));
+            assertTrue(history.has(i, Measure.OD_SPHERE));
+        }
+        assertEquals(32_767, history.get(0, Measure.OD_SPHERE));
+        assertEquals(-99_999, history.get(5, Measure.OD_SPHERE));
+        assertEquals(40_000, history.get(0, Measure.OD_AXIS));
+        assertEquals(-1, history.delta(0, Measure.OD_SPHERE));
+        assertEquals(199_998, history.delta(4, Measure.OD_SPHERE));
+        assertThrows(IllegalArgumentException.class, () -> PrescriptionHistory.builder(1, 1)
+                .add(1, TODAY, false).set(Measure.OD_SPHERE, decimal("-1.125")));
+    }
+
+    @Test
+    void valueSetAgainReplacesTheOneBefore() {
+        PrescriptionHistory history = PrescriptionHistory.builder(1, 1)
+                .add(1, TODAY, false)
+                .set(Measure.OS_ADD, decimal("500.00"))
+                .set(Measure.OS_ADD, decimal("600.00"))
+                .set(Measure.OD_ADD, decimal("700.00"))
+                .set(Measure.OD_ADD, decimal("2.00"))
+                .set(Measure.OS_CYLINDER, decimal("800.00"))
+                .set(Measure.OS_CYLINDER, null)
+                .build();
+
+        assertEquals(decimal("600.00"), history.decimal(0, Measure.OS_ADD));
+        assertEquals(decimal("2.00"), history.decimal(0, Measure.OD_ADD));
+        assertFalse(history.has(0, Measure.OS_CYLINDER));
+    }
+
+    @Test
+    void axisDeltaIsTheShorterWayRound() {
+        PrescriptionHistory history = PrescriptionHistory.builder(1, 4)
+                .add(1, TODAY, false).set(Measure.OD_AXIS, 5)
+                .add(2, TODAY.minusYears(1), false).set(Measure.OD_AXIS, 175)
+                .add(3, TODAY.minusYears(2), false).set(Measure.OD_AXIS, 85)
+                .add(4, TODAY.minusYears(3), false).set(Measure.OD_AXIS, 175)
+                .build();
+
+        assertEquals(10, history.delta(0, Measure.OD_AXIS));
+        assertEquals(90, history.delta(1, Measure.OD_AXIS));
+        assertEquals(90, history.delta(2, Measure.OD_AXIS));
+        assertEquals(PrescriptionHistory.MISSING, history.delta(3, Measure.OD_AXIS));
+    }
+
+    @Test
+    void changePerYearIsTheSlopeOverRecordedValues() {
+        PrescriptionHistory history = PrescriptionHistory.builder(1, 2)
+                .add(1, TODAY, false).set(Measure.OS_SPHERE, decimal("-2.00"))
+                .add(2, TODAY.minusDays(365), false)
+                .add(3, TODAY.minusDays(730), false).set(Measure.OS_SPHERE, decimal("-1.00"))
+                .build();
+
+        assertEquals(-0.5, history.changePerYear(Measure.OS_SPHERE), 0.001);
+        assertTrue(Double.isNaN(history.changePerYear(Measure.OD_SPHERE)));
+        assertThrows(IllegalArgumentException.class, () -> history.changePerYear(Measure.OS_AXIS));
+
+        int[] days = new int[3];
+        double[] values = new double[3];
+        assertEquals(2, history.trend(Measure.OS_SPHERE, days, values));
+        assertEquals(TODAY.minusDays(730).toEpochDay(), days[0]);
+        assertEquals(-1.0, values[0]);
+        assertEquals(-2.0, values[1]);
+    }
+
+    @Test
+    void missingValuesHaveNoDelta() {
+        PrescriptionHistory history = PrescriptionHistory.builder(1, 2)
+                .add(1, TODAY, true).set(Measure.OD_CYLINDER, decimal("-0.75"))
+                .add(2, TODAY.minusYears(1), false)
+                .build();
+
+        assertFalse(history.has(1, Measure.OD_CYLINDER));
+        assertEquals(PrescriptionHistory.MISSING, history.get(1, Measure.OD_CYLINDER));
+        assertNull(history.decimal(1, Measure.OD_CYLINDER));
+        assertEquals(PrescriptionHistory.MISSING, history.delta(0, Measure.OD_CYLINDER));
+        assertTrue(history.isContactLens(0));
+        assertTrue(PrescriptionHistory.empty(1).isEmpty());
+    }
+
+    private static BigDecimal decimal(String value) {
+        return new BigDecimal(value);
+    }
+}
@@ -0,0 +1,80 @@
+package com.basariatpos.repository;
+
+import com.basariatpos.TestDatabase;
+import com.basariatpos.config.PoolMetrics;
+import com.basariatpos.db.generated.tables.records.InventoryitemsRecord;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.basariatpos.db.generated.Tables.INVENTORYITEMS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QueryTemplateTest {
+
+    private static final int THREADS = 4;
+
+    private static TestDatabase db;
+    private static QueryTemplate<InventoryitemsRecord> itemById;
+    private static List<Integer> itemIds;
+
+    @BeforeAll
+    static void open() {
+        db = TestDatabase.open(THREADS);
+        DSLContext dsl = db.dsl();
+        itemById = QueryTemplate.of(dsl, INVENTORYITEMS, dsl.selectFrom(INVENTORYITEMS)
+                .where(INVENTORYITEMS.INVENTORY_ITEM_ID.eq(DSL.param("inventoryItemId", Integer.class))));
+        itemIds = dsl.select(INVENTORYITEMS.INVENTORY_ITEM_ID).from(INVENTORYITEMS)
+                .orderBy(INVENTORYITEMS.INVENTORY_ITEM_ID).limit(20).fetch(INVENTORYITEMS.INVENTORY_ITEM_ID);
+    }
+
+    @AfterAll
+    static void close() {
+        if (db != null) {
+            db.close();
+        }
+    }
+
+    @Test
+    void eachExecutionBindsItsOwnValues() throws InterruptedException, ExecutionException {
+        ExecutorService terminals = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> lookups = new ArrayList<>();
+        for (int round = 0; round < 50; round++) {
+            for (int id : itemIds) {
+                lookups.add(terminals.submit(() -> assertEquals(id,
+                        itemById.fetchOptional(db.dsl(), id).orElseThrow().getInventoryItemId())));
+            }
+        }
+        terminals.shutdown();
+        for (Future<?> lookup : lookups) {
+            lookup.get();
+        }
+        assertTrue(itemById.fetchOptional(db.dsl(), -1).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> itemById.fetch(db.dsl()));
+    }
+
+    @Test
+    void repeatedLookupsReuseThePreparedStatement() {
+        PoolMetrics before = db.dataSource().metrics();
+        for (int i = 0; i < 10; i++) {
+            itemById.fetchOptional(db.dsl(), itemIds.get(i % itemIds.size()));
+        }
+        PoolMetrics after = db.dataSource().metrics();
+
+        long prepares = after.serverPrepares() - before.serverPrepares();
+        long hits = after.statementCacheHits() - before.statementCacheHits();
+        assertEquals(10, prepares + hits);
+        assertTrue(prepares <= THREADS, "prepared " + prepares + " times");
+    }
+}
@@ -0,0 +1,86 @@
+package com.basariatpos.service;
+
+import com.basariatpos.TestDatabase;
+import com.basariatpos.db.generated.tables.pojos.Auditlog;
+import org.jooq.DSLContext;
+import org.jooq.JSONB;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static com.basariatpos.db.generated.Tables.AUDITLOG;
+import static com.basariatpos.db.generated.Tables.SALESORDERS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuditArchiveServiceTest {
+
+    private static TestDatabase db;
+
+    @TempDir
+    Path directory;
+
+    @BeforeAll
+    static void open() {
+        db = TestDatabase.open();
+    }
+
+    @AfterAll
+    static void close() {
+        if (db != null) {
+            db.close();
+        }
+    }
+
+    @Test
+    void historyFindsChangesToAPartitionedTable() {
+        DSLContext dsl = db.dsl();
+        int orderId = dsl.insertInto(SALESORDERS)
+                .set(SALESORDERS.STATUS, "Pending")
+                .set(SALESORDERS.CREATED_BY_USER_ID, db.userId())
+                .returning(SALESORDERS.SALES_ORDER_ID)
+                .fetchSingle(SALESORDERS.SALES_ORDER_ID);
+        dsl.update(SALESORDERS).set(SALESORDERS.STATUS, "Cancelled")
+                .where(SALESORDERS.SALES_ORDER_ID.eq(orderId)).execute();
+
+        List<Auditlog> history = new AuditArchiveService(dsl, directory).history("SalesOrders", String.valueOf(orderId));
+
+        assertEquals(List.of("INSERT", "UPDATE"), history.stream().map(Auditlog::getActionType).toList());
+        assertTrue(history.stream().allMatch(e -> "salesorders".equals(e.getTableName())));
+    }
+
+    @Test
+    void historyReadsArchivedMonths() throws IOException {
+        DSLContext dsl = db.dsl();
+        String recordPk = UUID.randomUUID().toString();
+        OffsetDateTime old = OffsetDateTime.of(2001, 3, 15, 10, 30, 0, 0, ZoneOffset.UTC);
+        dsl.insertInto(AUDITLOG)
+                .set(AUDITLOG.TABLE_NAME, "patients")
+                .set(AUDITLOG.RECORD_PK, recordPk)
+                .set(AUDITLOG.NEW_VALUE, JSONB.valueOf("{\"full_name\": \"Archived\"}"))
+                .set(AUDITLOG.ACTION_TYPE, "INSERT")
+                .set(AUDITLOG.ACTION_TIMESTAMP, old)
+                .set(AUDITLOG.USER_ID, db.userId())
+                .execute();
+        new PartitionMaintenanceService(dsl).ensurePartitions();
+        AuditArchiveService service = new AuditArchiveService(dsl, directory, Period.ofYears(20));
+
+        List<Path> segments = service.archive();
+
+        assertTrue(segments.stream().anyMatch(p -> p.getFileName().toString().equals("auditlog_y2001m03.seg")));
+        assertEquals(0, dsl.fetchCount(AUDITLOG, AUDITLOG.RECORD_PK.eq(recordPk)));
+        List<Auditlog> history = service.history("patients", recordPk);
+        assertEquals(1, history.size());
+        assertEquals(old.toInstant(), history.get(0).getActionTimestamp().toInstant());
+        assertEquals("{\"full_name\": \"Archived\"}", history.get(0).getNewValue().data());
+    }
+}
@@ -0,0 +1,98 @@
+package com.basariatpos.service;
+
+import com.basariatpos.TestDatabase;
+import com.basariatpos.model.CatalogItem;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static com.basariatpos.db.generated.Tables.INVENTORYITEMS;
+import static com.basariatpos.db.generated.Tables.PRODUCTS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CatalogCacheTest {
+
+    private static final BigDecimal PRICE = new BigDecimal("20.00");
+    private static final BigDecimal NEW_PRICE = new BigDecimal("25.00");
+
+    private static TestDatabase db;
+
+    @BeforeAll
+    static void open() {
+        db = TestDatabase.open();
+    }
+
+    @AfterAll
+    static void close() {
+        if (db != null) {
+            db.close();
+        }
+    }
+
+    @Test
+    void changeCommittedAfterARefreshIsPickedUpByTheNext() throws SQLException {
+        int itemId = createItem();
+        try (CatalogCache cache = new CatalogCache(db.dsl())) {
+            cache.reloadAll();
+            assertEquals(PRICE, price(cache, itemId));
+
+            try (Connection connection = db.dataSource().getConnection()) {
+                connection.setAutoCommit(false);
+                DSL.using(connection).update(INVENTORYITEMS)
+                        .set(INVENTORYITEMS.SELLING_PRICE, NEW_PRICE)
+                        .where(INVENTORYITEMS.INVENTORY_ITEM_ID.eq(itemId))
+                        .execute();
+
+                // The writer started before this refresh and commits after it
+                cache.refresh();
+                assertEquals(PRICE, price(cache, itemId));
+                connection.commit();
+            }
+
+            cache.refresh();
+            assertEquals(NEW_PRICE, price(cache, itemId));
+            cache.refresh();
+            assertEquals(NEW_PRICE, price(cache, itemId));
+        }
+    }
+
+    @Test
+    void itemDeletedWhileAnotherIsAddedIsDropped() {
+        int deletedId = createItem();
+        try (CatalogCache cache = new CatalogCache(db.dsl())) {
+            cache.reloadAll();
+            int size = cache.size();
+
+            db.dsl().deleteFrom(INVENTORYITEMS).where(INVENTORYITEMS.INVENTORY_ITEM_ID.eq(deletedId)).execute();
+            int addedId = createItem();
+            cache.refresh();
+
+            assertEquals(size, cache.size());
+            assertTrue(cache.findById(deletedId).isEmpty());
+            assertEquals(PRICE, price(cache, addedId));
+        }
+    }
+
+    private static BigDecimal price(CatalogCache cache, int itemId) {
+        return cache.findById(itemId).map(CatalogItem::sellingPrice).orElseThrow();
+    }
+
+    private static int createItem() {
+        DSLContext dsl = db.dsl();
+        int productId = dsl.select(DSL.min(PRODUCTS.PRODUCT_ID)).from(PRODUCTS)
+                .where(PRODUCTS.IS_STOCK_ITEM).fetchSingle().value1();
+        return dsl.insertInto(INVENTORYITEMS)
+                .set(INVENTORYITEMS.PRODUCT_ID, productId)
+                .set(INVENTORYITEMS.QUANTITY_ON_HAND, 1)
+                .set(INVENTORYITEMS.SELLING_PRICE, PRICE)
+                .returning(INVENTORYITEMS.INVENTORY_ITEM_ID)
+                .fetchSingle(INVENTORYITEMS.INVENTORY_ITEM_ID);
+    }
+}
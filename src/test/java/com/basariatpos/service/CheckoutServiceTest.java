@@ -0,0 +1,202 @@
+package com.basariatpos.service;
+
+import com.basariatpos.TestDatabase;
+import com.basariatpos.model.CheckoutRequest;
+import com.basariatpos.model.CheckoutResult;
+import com.basariatpos.model.StockReservation;
+import org.jooq.DSLContext;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static com.basariatpos.db.generated.Tables.INVENTORYCOSTLAYERS;
+import static com.basariatpos.db.generated.Tables.INVENTORYITEMS;
+import static com.basariatpos.db.generated.Tables.PAYMENTS;
+import static com.basariatpos.db.generated.Tables.PRODUCTS;
+import static com.basariatpos.db.generated.Tables.SALESORDERITEMS;
+import static com.basariatpos.db.generated.Tables.SALESORDERS;
+import static com.basariatpos.db.generated.Tables.STOCKRESERVATIONS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CheckoutServiceTest {
+
+    private static final BigDecimal PRICE = new BigDecimal("20.00");
+    private static final BigDecimal OLD_COST = new BigDecimal("10.00");
+    private static final BigDecimal NEW_COST = new BigDecimal("12.00");
+    private static final int OLD_LAYER = 3;
+    private static final int NEW_LAYER = 5;
+
+    private static TestDatabase db;
+
+    private CheckoutService checkout;
+    private StockReservationService reservations;
+    private int itemId;
+    private long oldLayerId;
+    private long newLayerId;
+    private int otherOrderId;
+
+    @BeforeAll
+    static void open() {
+        db = TestDatabase.open();
+    }
+
+    @AfterAll
+    static void close() {
+        if (db != null) {
+            db.close();
+        }
+    }
+
+    @BeforeEach
+    void createItem() {
+        DSLContext dsl = db.dsl();
+        checkout = new CheckoutService(dsl);
+        reservations = new StockReservationService(dsl, Duration.ofMinutes(5));
+        int productId = dsl.select(DSL.min(PRODUCTS.PRODUCT_ID)).from(PRODUCTS)
+                .where(PRODUCTS.IS_STOCK_ITEM).fetchSingle().value1();
+        itemId = dsl.insertInto(INVENTORYITEMS)
+                .set(INVENTORYITEMS.PRODUCT_ID, productId)
+                .set(INVENTORYITEMS.QUANTITY_ON_HAND, OLD_LAYER + NEW_LAYER)
+                .set(INVENTORYITEMS.SELLING_PRICE, PRICE)
+                .set(INVENTORYITEMS.COST_PRICE, NEW_COST)
+                .returning(INVENTORYITEMS.INVENTORY_ITEM_ID)
+                .fetchSingle(INVENTORYITEMS.INVENTORY_ITEM_ID);
+        oldLayerId = insertLayer(OLD_COST, OLD_LAYER);
+        newLayerId = insertLayer(NEW_COST, NEW_LAYER);
+    }
+
+    @Test
+    void completedCheckoutSavesTheOrderAndTakesTheOldestCostFirst() {
+        StockReservation own = reservations.reserve(itemId, 4).orElseThrow();
+        StockReservation otherOrders = reserveForAnotherOrder(1);
+
+        CheckoutResult result = checkout.checkout(new CheckoutRequest(null, "Completed", new BigDecimal("5.00"), null,
+                List.of(CheckoutRequest.Line.stockItem(itemId, "Frame", 2, PRICE),
+                        CheckoutRequest.Line.stockItem(itemId, "Frame", 2, PRICE)),
+                List.of(CheckoutRequest.Payment.cash(new BigDecimal("50.00")),
+                        CheckoutRequest.Payment.cash(new BigDecimal("20.00"))),
+                List.of(own.reservationId(), otherOrders.reservationId())));
+
+        assertEquals("Completed", result.status());
+        assertEquals(new BigDecimal("80.00"), result.subtotalAmount());
+        assertEquals(new BigDecimal("75.00"), result.totalAmount());
+        assertEquals(new BigDecimal("70.00"), result.amountPaid());
+        assertEquals(new BigDecimal("5.00"), result.balanceDue());
+        assertEquals(0, result.reservationsHeld());
+        assertEquals(2, result.itemIds().size());
+        assertEquals(result.amountPaid(), db.dsl().select(DSL.sum(PAYMENTS.AMOUNT)).from(PAYMENTS)
+                .where(PAYMENTS.SALES_ORDER_ID.eq(result.salesOrderId())).fetchSingle().value1());
+        assertEquals(result.amountPaid(), db.dsl().select(SALESORDERS.AMOUNT_PAID).from(SALESORDERS)
+                .where(SALESORDERS.SALES_ORDER_ID.eq(result.salesOrderId())).fetchSingle().value1());
+
+        // 2 from the old layer, then the last old unit and one new one
+        assertEquals(List.of(new BigDecimal("20.00"), new BigDecimal("22.00")),
+                db.dsl().select(SALESORDERITEMS.COST_AMOUNT).from(SALESORDERITEMS)
+                        .where(SALESORDERITEMS.SALES_ORDER_ID.eq(result.salesOrderId()))
+                        .orderBy(SALESORDERITEMS.SO_ITEM_ID)
+                        .fetch(SALESORDERITEMS.COST_AMOUNT));
+        assertEquals(0, remaining(oldLayerId));
+        assertEquals(NEW_LAYER - 1, remaining(newLayerId));
+        assertEquals(OLD_LAYER + NEW_LAYER - 4, onHand());
+
+        assertEquals(0, db.dsl().fetchCount(STOCKRESERVATIONS,
+                STOCKRESERVATIONS.RESERVATION_ID.eq(own.reservationId())));
+        assertEquals(otherOrderId, salesOrderOf(otherOrders.reservationId()));
+    }
+
+    @Test
+    void pendingCheckoutAttachesOnlyUnattachedReservations() {
+        StockReservation own = reservations.reserve(itemId, 2).orElseThrow();
+        StockReservation otherOrders = reserveForAnotherOrder(1);
+
+        CheckoutResult result = checkout.checkout(new CheckoutRequest(null, "Pending", BigDecimal.ZERO, null,
+                List.of(CheckoutRequest.Line.stockItem(itemId, "Frame", 2, PRICE)), List.of(),
+                List.of(own.reservationId(), otherOrders.reservationId())));
+
+        assertEquals(1, result.reservationsHeld());
+        assertEquals(new BigDecimal("40.00"), result.balanceDue());
+        assertEquals(result.salesOrderId(), salesOrderOf(own.reservationId()));
+        assertNull(db.dsl().select(STOCKRESERVATIONS.EXPIRES_AT).from(STOCKRESERVATIONS)
+                .where(STOCKRESERVATIONS.RESERVATION_ID.eq(own.reservationId())).fetchSingle().value1());
+        assertEquals(otherOrderId, salesOrderOf(otherOrders.reservationId()));
+        assertEquals(OLD_LAYER + NEW_LAYER, onHand());
+        assertEquals(OLD_LAYER, remaining(oldLayerId));
+
+        assertEquals(0, reservations.release(List.of(own.reservationId(), otherOrders.reservationId())));
+        assertEquals(OLD_LAYER + NEW_LAYER - 3, reservations.available(itemId));
+    }
+
+    @Test
+    void failedCheckoutLeavesNothingBehind() {
+        StockReservation own = reservations.reserve(itemId, 2).orElseThrow();
+
+        String tooMany = UUID.randomUUID().toString();
+        assertThrows(DataAccessException.class, () -> checkout.checkout(new CheckoutRequest(null, "Completed",
+                BigDecimal.ZERO, tooMany,
+                List.of(CheckoutRequest.Line.stockItem(itemId, "Frame", OLD_LAYER + NEW_LAYER + 1, PRICE)),
+                List.of(CheckoutRequest.Payment.cash(PRICE)), List.of(own.reservationId()))));
+        String badPayment = UUID.randomUUID().toString();
+        assertThrows(DataAccessException.class, () -> checkout.checkout(new CheckoutRequest(null, "Pending",
+                BigDecimal.ZERO, badPayment, List.of(CheckoutRequest.Line.stockItem(itemId, "Frame", 1, PRICE)),
+                List.of(new CheckoutRequest.Payment(PRICE, "Cheque", null, null, null)),
+                List.of(own.reservationId()))));
+        assertThrows(DataAccessException.class, () -> checkout.checkout(new CheckoutRequest(null, "Shipped",
+                BigDecimal.ZERO, null, List.of(CheckoutRequest.Line.stockItem(itemId, "Frame", 1, PRICE)),
+                List.of(), List.of())));
+
+        assertEquals(0, db.dsl().fetchCount(SALESORDERS, SALESORDERS.REMARKS.in(tooMany, badPayment)));
+        assertEquals(0, db.dsl().fetchCount(SALESORDERITEMS, SALESORDERITEMS.INVENTORY_ITEM_ID.eq(itemId)));
+        assertEquals(OLD_LAYER + NEW_LAYER, onHand());
+        assertEquals(OLD_LAYER, remaining(oldLayerId));
+        assertEquals(NEW_LAYER, remaining(newLayerId));
+        assertNull(salesOrderOf(own.reservationId()));
+        assertEquals(OLD_LAYER + NEW_LAYER - 2, reservations.available(itemId));
+    }
+
+    private StockReservation reserveForAnotherOrder(int quantity) {
+        otherOrderId = db.dsl().insertInto(SALESORDERS)
+                .set(SALESORDERS.STATUS, "Pending")
+                .set(SALESORDERS.CREATED_BY_USER_ID, db.userId())
+                .returning(SALESORDERS.SALES_ORDER_ID)
+                .fetchSingle(SALESORDERS.SALES_ORDER_ID);
+        StockReservation reservation = reservations.reserve(itemId, quantity).orElseThrow();
+        assertEquals(1, reservations.attachToOrder(List.of(reservation.reservationId()), otherOrderId));
+        return reservation;
+    }
+
+    private long insertLayer(BigDecimal unitCost, int quantity) {
+        return db.dsl().insertInto(INVENTORYCOSTLAYERS)
+                .set(INVENTORYCOSTLAYERS.INVENTORY_ITEM_ID, itemId)
+                .set(INVENTORYCOSTLAYERS.SOURCE, "Opening")
+                .set(INVENTORYCOSTLAYERS.UNIT_COST, unitCost)
+                .set(INVENTORYCOSTLAYERS.QUANTITY_RECEIVED, quantity)
+                .set(INVENTORYCOSTLAYERS.QUANTITY_REMAINING, quantity)
+                .returning(INVENTORYCOSTLAYERS.COST_LAYER_ID)
+                .fetchSingle(INVENTORYCOSTLAYERS.COST_LAYER_ID);
+    }
+
+    private int remaining(long layerId) {
+        return db.dsl().select(INVENTORYCOSTLAYERS.QUANTITY_REMAINING).from(INVENTORYCOSTLAYERS)
+                .where(INVENTORYCOSTLAYERS.COST_LAYER_ID.eq(layerId)).fetchSingle().value1();
+    }
+
+    private int onHand() {
+        return db.dsl().select(INVENTORYITEMS.QUANTITY_ON_HAND).from(INVENTORYITEMS)
+                .where(INVENTORYITEMS.INVENTORY_ITEM_ID.eq(itemId)).fetchSingle().value1();
+    }
+
+    private Integer salesOrderOf(long reservationId) {
+        return db.dsl().select(STOCKRESERVATIONS.SALES_ORDER_ID).from(STOCKRESERVATIONS)
+                .where(STOCKRESERVATIONS.RESERVATION_ID.eq(reservationId)).fetchSingle().value1();
+    }
+}
@@ -0,0 +1,162 @@
+package com.basariatpos.service;
+
+import com.basariatpos.TestDatabase;
+import com.basariatpos.model.CheckoutRequest;
+import com.basariatpos.model.DashboardMetrics;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.basariatpos.db.generated.Tables.BANKNAMES;
+import static com.basariatpos.db.generated.Tables.EXPENSECATEGORIES;
+import static com.basariatpos.db.generated.Tables.EXPENSES;
+import static com.basariatpos.db.generated.Tables.INVENTORYCOSTLAYERS;
+import static com.basariatpos.db.generated.Tables.INVENTORYITEMS;
+import static com.basariatpos.db.generated.Tables.PAYMENTS;
+import static com.basariatpos.db.generated.Tables.PRODUCTS;
+import static com.basariatpos.db.generated.Tables.SALESDETAILEDVIEW;
+import static com.basariatpos.db.generated.Tables.SALESORDERS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class DashboardMetricsServiceTest {
+
+    private static final BigDecimal PRICE = new BigDecimal("20.00");
+    private static final BigDecimal UNIT_COST = new BigDecimal("7.50");
+
+    private static TestDatabase db;
+
+    @BeforeAll
+    static void open() {
+        db = TestDatabase.open();
+    }
+
+    @AfterAll
+    static void close() {
+        if (db != null) {
+            db.close();
+        }
+    }
+
+    @Test
+    void readsDoNotWaitForAnotherRefresh() throws SQLException {
+        DashboardMetricsService service = new DashboardMetricsService(db.dsl());
+        try (Connection other = db.dataSource().openUnpooledConnection();
+             Statement statement = other.createStatement()) {
+            // Holds the locks a refresh on another terminal holds until it commits
+            other.setAutoCommit(false);
+            statement.execute("SELECT pg_advisory_xact_lock(hashtext('RefreshDailyRollups'))");
+            statement.execute("LOCK TABLE DailySalesRollup IN EXCLUSIVE MODE");
+
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                assertNotNull(service.thisMonth());
+                assertEquals(0, service.refresh());
+            });
+            other.rollback();
+        }
+        assertNotNull(service.today());
+    }
+
+    @Test
+    void figuresMatchADirectAggregateOverTheDay() {
+        DSLContext dsl = db.dsl();
+        DashboardMetricsService service = new DashboardMetricsService(dsl);
+        // The rollups are by the database's day, which may not be the JVM's
+        LocalDate day = dsl.select(DSL.currentLocalDate()).fetchSingle().value1();
+        DashboardMetrics before = service.metrics(day, day);
+
+        int itemId = insertItem(dsl, 5);
+        int bankNameId = dsl.select(DSL.min(BANKNAMES.BANK_NAME_ID)).from(BANKNAMES).fetchSingle().value1();
+        CheckoutService checkout = new CheckoutService(dsl);
+        checkout.checkout(new CheckoutRequest(null, "Completed", BigDecimal.ZERO, null,
+                List.of(CheckoutRequest.Line.stockItem(itemId, "Frame", 2, PRICE)),
+                List.of(CheckoutRequest.Payment.cash(new BigDecimal("25.00")),
+                        CheckoutRequest.Payment.bankTransaction(new BigDecimal("15.00"), bankNameId, "DM-1")),
+                List.of()));
+        checkout.checkout(new CheckoutRequest(null, "Pending", BigDecimal.ZERO, null,
+                List.of(CheckoutRequest.Line.stockItem(itemId, "Frame", 1, PRICE)),
+                List.of(CheckoutRequest.Payment.cash(new BigDecimal("10.00"))), List.of()));
+        insertExpense(dsl, day, new BigDecimal("12.50"), "Cash", null);
+        insertExpense(dsl, day, new BigDecimal("30.00"), "Bank Transaction", bankNameId);
+
+        DashboardMetrics after = service.metrics(day, day);
+
+        // Only the completed order counts; the pending one's payment is not revenue yet
+        assertAmount(before.revenue().add(new BigDecimal("40.00")), after.revenue());
+        assertAmount(before.costOfGoodsSold().add(new BigDecimal("15.00")), after.costOfGoodsSold());
+        assertAmount(before.cashExpenses().add(new BigDecimal("12.50")), after.cashExpenses());
+        assertAmount(before.bankExpenses().add(new BigDecimal("30.00")), after.bankExpenses());
+
+        // Revenue is by the day of the payment, which SalesDetailedView does not list
+        assertAmount(dsl.select(DSL.sum(PAYMENTS.AMOUNT)).from(PAYMENTS)
+                .join(SALESORDERS).on(SALESORDERS.SALES_ORDER_ID.eq(PAYMENTS.SALES_ORDER_ID))
+                .where(SALESORDERS.STATUS.in("Completed", "Abandoned"))
+                .and(PAYMENTS.PAYMENT_DATE.cast(SQLDataType.LOCALDATE).eq(day))
+                .fetchSingle().value1(), after.revenue());
+        assertAmount(dsl.select(DSL.sum(SALESDETAILEDVIEW.ITEM_SUBTOTAL.minus(SALESDETAILEDVIEW.ITEM_PROFIT_ON_ITEM)))
+                .from(SALESDETAILEDVIEW)
+                .where(SALESDETAILEDVIEW.ORDER_STATUS.eq("Completed"))
+                .and(SALESDETAILEDVIEW.ORDER_DATE.cast(SQLDataType.LOCALDATE).eq(day))
+                .fetchSingle().value1(), after.costOfGoodsSold());
+        assertAmount(expenses(dsl, day, EXPENSES.PAYMENT_METHOD.eq("Cash")), after.cashExpenses());
+        assertAmount(expenses(dsl, day, EXPENSES.PAYMENT_METHOD.ne("Cash")), after.bankExpenses());
+    }
+
+    private static int insertItem(DSLContext dsl, int quantity) {
+        int productId = dsl.select(DSL.min(PRODUCTS.PRODUCT_ID)).from(PRODUCTS)
+                .where(PRODUCTS.IS_STOCK_ITEM).fetchSingle().value1();
+        int itemId = dsl.insertInto(INVENTORYITEMS)
+                .set(INVENTORYITEMS.PRODUCT_ID, productId)
+                .set(INVENTORYITEMS.QUANTITY_ON_HAND, quantity)
+                .set(INVENTORYITEMS.SELLING_PRICE, PRICE)
+                .set(INVENTORYITEMS.COST_PRICE, UNIT_COST)
+                .returning(INVENTORYITEMS.INVENTORY_ITEM_ID)
+                .fetchSingle(INVENTORYITEMS.INVENTORY_ITEM_ID);
+        dsl.insertInto(INVENTORYCOSTLAYERS)
+                .set(INVENTORYCOSTLAYERS.INVENTORY_ITEM_ID, itemId)
+                .set(INVENTORYCOSTLAYERS.SOURCE, "Opening")
+                .set(INVENTORYCOSTLAYERS.UNIT_COST, UNIT_COST)
+                .set(INVENTORYCOSTLAYERS.QUANTITY_RECEIVED, quantity)
+                .set(INVENTORYCOSTLAYERS.QUANTITY_REMAINING, quantity)
+                .execute();
+        return itemId;
+    }
+
+    private static void insertExpense(DSLContext dsl, LocalDate day, BigDecimal amount, String paymentMethod,
+                                      Integer bankNameId) {
+        dsl.insertInto(EXPENSES)
+                .set(EXPENSES.EXPENSE_DATE, day)
+                .set(EXPENSES.EXPENSE_CATEGORY_ID, dsl.select(DSL.min(EXPENSECATEGORIES.EXPENSE_CATEGORY_ID))
+                        .from(EXPENSECATEGORIES).fetchSingle().value1())
+                .set(EXPENSES.DESCRIPTION, "Dashboard test")
+                .set(EXPENSES.AMOUNT, amount)
+                .set(EXPENSES.PAYMENT_METHOD, paymentMethod)
+                .set(EXPENSES.BANK_NAME_ID, bankNameId)
+                .set(EXPENSES.TRANSACTION_ID_REF, bankNameId == null ? null : "DM-2")
+                .set(EXPENSES.CREATED_BY_USER_ID, db.userId())
+                .execute();
+    }
+
+    private static BigDecimal expenses(DSLContext dsl, LocalDate day, Condition paymentMethod) {
+        return dsl.select(DSL.sum(EXPENSES.AMOUNT)).from(EXPENSES)
+                .where(EXPENSES.EXPENSE_DATE.eq(day)).and(paymentMethod)
+                .fetchSingle().value1();
+    }
+
+    private static void assertAmount(BigDecimal expected, BigDecimal actual) {
+        assertEquals(0, expected.compareTo(actual), "expected " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,120 @@
+package com.basariatpos.service;
+
+import com.basariatpos.TestDatabase;
+import com.basariatpos.db.generated.Routines;
+import com.basariatpos.model.TablePartition;
+import org.jooq.DSLContext;
+import org.jooq.JSONB;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static com.basariatpos.db.generated.Tables.AUDITLOG;
+import static com.basariatpos.db.generated.Tables.SALESORDERS;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PartitionMaintenanceServiceTest {
+
+    private static final Table<?> DEFAULT_PARTITION = DSL.table(DSL.name("salesorders_default"));
+
+    private static TestDatabase db;
+
+    @BeforeAll
+    static void open() {
+        db = TestDatabase.open();
+    }
+
+    @AfterAll
+    static void close() {
+        if (db != null) {
+            db.close();
+        }
+    }
+
+    @Test
+    void backDatedRowsAreMovedOutOfTheDefaultPartition() throws SQLException {
+        inRolledBackTransaction(this::moveBackDatedOrder);
+    }
+
+    @Test
+    void auditEntriesOfAMissedMonthAreMovedOutOfTheDefaultPartition() throws SQLException {
+        inRolledBackTransaction(this::moveAuditEntryOfMissedMonth);
+    }
+
+    /**
+     * Runs {@code body} on one connection and rolls it back, so the partitions it creates before
+     * the oldest rows do not pile up in the test database run after run.
+     */
+    private static void inRolledBackTransaction(Consumer<DSLContext> body) throws SQLException {
+        try (Connection connection = db.dataSource().getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                body.accept(DSL.using(connection, SQLDialect.POSTGRES));
+            } finally {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    private void moveBackDatedOrder(DSLContext dsl) {
+        PartitionMaintenanceService service = new PartitionMaintenanceService(dsl);
+        int year = dsl.select(DSL.field("coalesce(min(extract(year FROM {0}))::int, 2020) - 1", Integer.class,
+                SALESORDERS.ORDER_DATE)).from(SALESORDERS).fetchSingle().value1();
+        OffsetDateTime orderDate = dsl.select(DSL.field("make_timestamptz({0}, 6, 15, 12, 0, 0)", OffsetDateTime.class,
+                DSL.val(year))).fetchSingle().value1();
+        int orderId = dsl.insertInto(SALESORDERS)
+                .set(SALESORDERS.STATUS, "Completed")
+                .set(SALESORDERS.ORDER_DATE, orderDate)
+                .set(SALESORDERS.CREATED_BY_USER_ID, db.userId())
+                .returning(SALESORDERS.SALES_ORDER_ID)
+                .fetchSingle(SALESORDERS.SALES_ORDER_ID);
+        assertEquals(1, dsl.fetchCount(DEFAULT_PARTITION, DSL.field(DSL.name("sales_order_id")).eq(orderId)));
+
+        assertTrue(service.ensurePartitions() >= 1);
+
+        assertEquals(0, dsl.fetchCount(DEFAULT_PARTITION));
+        assertTrue(service.partitions().stream().map(TablePartition::partitionName)
+                .anyMatch(("salesorders_y" + year)::equals));
+        assertEquals(1, dsl.fetchCount(SALESORDERS, SALESORDERS.SALES_ORDER_ID.eq(orderId)));
+    }
+
+    private void moveAuditEntryOfMissedMonth(DSLContext dsl) {
+        Table<?> auditDefault = DSL.table(DSL.name("auditlog_default"));
+        String recordPk = UUID.randomUUID().toString();
+        // The month before the oldest entry has no partition
+        OffsetDateTime missed = dsl.select(DSL.field(
+                        "date_trunc('month', coalesce(min({0}), now())) - interval '1 month' + interval '14 days'",
+                        OffsetDateTime.class, AUDITLOG.ACTION_TIMESTAMP))
+                .from(AUDITLOG).fetchSingle().value1();
+        dsl.insertInto(AUDITLOG)
+                .set(AUDITLOG.TABLE_NAME, "patients")
+                .set(AUDITLOG.RECORD_PK, recordPk)
+                .set(AUDITLOG.NEW_VALUE, JSONB.valueOf("{}"))
+                .set(AUDITLOG.ACTION_TYPE, "INSERT")
+                .set(AUDITLOG.ACTION_TIMESTAMP, missed)
+                .set(AUDITLOG.USER_ID, db.userId())
+                .execute();
+        assertEquals(1, dsl.fetchCount(auditDefault, DSL.field(DSL.name("record_pk")).eq(recordPk)));
+
+        Routines.ensureauditlogpartitions(dsl.configuration(), 3);
+
+        assertEquals(0, dsl.fetchCount(auditDefault));
+        String partition = dsl.select(DSL.field("'auditlog_y' || to_char({0}, 'YYYY\"m\"MM')", String.class,
+                DSL.val(missed))).fetchSingle().value1();
+        assertNotNull(dsl.select(DSL.field("to_regclass({0})::text", String.class, DSL.val(partition)))
+                .fetchSingle().value1(), partition);
+        assertEquals(1, dsl.fetchCount(AUDITLOG, AUDITLOG.RECORD_PK.eq(recordPk)));
+    }
+}
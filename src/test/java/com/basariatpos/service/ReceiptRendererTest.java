@@ -0,0 +1,81 @@
+package com.basariatpos.service;
+
+import com.basariatpos.TestDatabase;
+import com.basariatpos.config.DslContextFactory;
+import com.basariatpos.util.BackgroundExecutor;
+import com.basariatpos.util.receipt.EscPosEncoder;
+import com.basariatpos.util.receipt.ReceiptRasterizer;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Font;
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.basariatpos.db.generated.Tables.CENTERPROFILE;
+import static com.basariatpos.db.generated.Tables.INVENTORYITEMS;
+import static com.basariatpos.db.generated.Tables.SALESORDERITEMS;
+import static com.basariatpos.db.generated.Tables.SALESORDERS;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReceiptRendererTest {
+
+    private static TestDatabase db;
+
+    @BeforeAll
+    static void open() {
+        db = TestDatabase.open();
+        db.dsl().insertInto(CENTERPROFILE)
+                .set(CENTERPROFILE.CENTER_NAME, "مركز بصيرة للبصريات")
+                .set(CENTERPROFILE.PHONE_PRIMARY, "0790000000")
+                .set(CENTERPROFILE.CURRENCY_SYMBOL, "JOD")
+                .set(CENTERPROFILE.RECEIPT_FOOTER_MESSAGE, "شكراً لزيارتكم")
+                .onConflictDoNothing()
+                .execute();
+    }
+
+    @AfterAll
+    static void close() {
+        if (db != null) {
+            db.close();
+        }
+    }
+
+    @Test
+    void precompiledRendererPrintsTheFirstReceipt() throws InterruptedException, ExecutionException, TimeoutException {
+        ReceiptRenderer renderer = new ReceiptRenderer(db.dsl(),
+                new ReceiptRasterizer(ReceiptRasterizer.WIDTH_80MM_DOTS, Font.SANS_SERIF, 24),
+                Locale.forLanguageTag("ar"), ZoneId.systemDefault());
+        try (BackgroundExecutor executor = new BackgroundExecutor(DslContextFactory.diagnostics())) {
+            assertTrue(renderer.precompile(executor).get(30, TimeUnit.SECONDS));
+        }
+
+        byte[] job = renderer.toEscPos(renderer.load(insertOrder()));
+
+        assertArrayEquals(EscPosEncoder.initialize(), Arrays.copyOf(job, EscPosEncoder.initialize().length));
+        byte[] cut = EscPosEncoder.feedAndCut();
+        assertArrayEquals(cut, Arrays.copyOfRange(job, job.length - cut.length, job.length));
+    }
+
+    private static int insertOrder() {
+        int itemId = db.dsl().select(DSL.min(INVENTORYITEMS.INVENTORY_ITEM_ID)).from(INVENTORYITEMS).fetchSingle().value1();
+        int orderId = db.dsl().insertInto(SALESORDERS)
+                .set(SALESORDERS.STATUS, "Pending")
+                .set(SALESORDERS.CREATED_BY_USER_ID, db.userId())
+                .returning(SALESORDERS.SALES_ORDER_ID)
+                .fetchSingle(SALESORDERS.SALES_ORDER_ID);
+        db.dsl().insertInto(SALESORDERITEMS, SALESORDERITEMS.SALES_ORDER_ID, SALESORDERITEMS.INVENTORY_ITEM_ID,
+                        SALESORDERITEMS.DESCRIPTION, SALESORDERITEMS.QUANTITY, SALESORDERITEMS.UNIT_PRICE)
+                .values(orderId, itemId, "نظارة شمسية", 2, new BigDecimal("35.00"))
+                .execute();
+        return orderId;
+    }
+}
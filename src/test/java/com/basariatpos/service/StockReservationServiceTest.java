@@ -0,0 +1,91 @@
+package com.basariatpos.service;
+
+import com.basariatpos.TestDatabase;
+import com.basariatpos.config.DslContextFactory;
+import com.basariatpos.model.StockReservation;
+import com.basariatpos.util.BackgroundExecutor;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.basariatpos.db.generated.Tables.INVENTORYITEMS;
+import static com.basariatpos.db.generated.Tables.PRODUCTS;
+import static com.basariatpos.db.generated.Tables.STOCKRESERVATIONS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StockReservationServiceTest {
+
+    private static final int ON_HAND = 5;
+    private static final Duration TIME_TO_LIVE = Duration.ofMillis(300);
+
+    private static TestDatabase db;
+
+    private int itemId;
+
+    @BeforeAll
+    static void open() {
+        db = TestDatabase.open();
+    }
+
+    @AfterAll
+    static void close() {
+        if (db != null) {
+            db.close();
+        }
+    }
+
+    @BeforeEach
+    void createItem() {
+        DSLContext dsl = db.dsl();
+        int productId = dsl.select(DSL.min(PRODUCTS.PRODUCT_ID)).from(PRODUCTS)
+                .where(PRODUCTS.IS_STOCK_ITEM).fetchSingle().value1();
+        itemId = dsl.insertInto(INVENTORYITEMS)
+                .set(INVENTORYITEMS.PRODUCT_ID, productId)
+                .set(INVENTORYITEMS.QUANTITY_ON_HAND, ON_HAND)
+                .set(INVENTORYITEMS.SELLING_PRICE, new BigDecimal("20.00"))
+                .returning(INVENTORYITEMS.INVENTORY_ITEM_ID)
+                .fetchSingle(INVENTORYITEMS.INVENTORY_ITEM_ID);
+    }
+
+    @Test
+    void lapsedReservationsAreAvailableBeforeTheyAreDeleted() throws InterruptedException {
+        StockReservationService service = new StockReservationService(db.dsl(), TIME_TO_LIVE);
+        StockReservation reservation = service.reserve(itemId, ON_HAND).orElseThrow();
+        assertEquals(0, service.available(itemId));
+
+        Thread.sleep(TIME_TO_LIVE.multipliedBy(2).toMillis());
+
+        assertEquals(ON_HAND, service.available(itemId));
+        assertEquals(1, db.dsl().fetchCount(STOCKRESERVATIONS,
+                STOCKRESERVATIONS.RESERVATION_ID.eq(reservation.reservationId())));
+        assertTrue(service.reserve(itemId, ON_HAND).isPresent());
+    }
+
+    @Test
+    void scheduledExpiryDeletesLapsedReservations() throws InterruptedException {
+        StockReservationService service = new StockReservationService(db.dsl(), TIME_TO_LIVE);
+        StockReservation reservation = service.reserve(itemId, 2).orElseThrow();
+        Thread.sleep(TIME_TO_LIVE.multipliedBy(2).toMillis());
+
+        try (BackgroundExecutor executor = new BackgroundExecutor(DslContextFactory.diagnostics())) {
+            CompletableFuture<Void> schedule = service.scheduleExpiry(executor);
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (db.dsl().fetchExists(STOCKRESERVATIONS,
+                    STOCKRESERVATIONS.RESERVATION_ID.eq(reservation.reservationId()))) {
+                assertTrue(System.nanoTime() < deadline, "lapsed reservation was not deleted");
+                Thread.sleep(50);
+            }
+            schedule.cancel(false);
+        }
+        assertEquals(List.of(ON_HAND), List.copyOf(service.available(List.of(itemId)).values()));
+    }
+}
@@ -0,0 +1,87 @@
+package com.basariatpos.util.export;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TableWriterTest {
+
+    private static final DSLContext DSL_CONTEXT = DSL.using(SQLDialect.POSTGRES);
+    private static final Field<String> NAME = DSL.field("name", SQLDataType.VARCHAR);
+    private static final Field<Double> RATE = DSL.field("rate", SQLDataType.DOUBLE);
+    private static final Field<BigDecimal> AMOUNT = DSL.field("amount", SQLDataType.NUMERIC);
+
+    @Test
+    void csvKeepsFormulasAsTextAndWritesNonFiniteNumbersAsErrors() throws IOException {
+        ByteArrayOutputStream file = new ByteArrayOutputStream();
+        try (CsvTableWriter writer = new CsvTableWriter(file, Locale.ROOT, ZoneOffset.UTC)) {
+            writer.writeHeader(List.of("name", "rate", "amount"));
+            writer.writeRow(row("=HYPERLINK(\"http://x\",\"a,b\")", Double.NaN, new BigDecimal("-5.00")));
+            writer.writeRow(row("@SUM(A1)", Double.POSITIVE_INFINITY, BigDecimal.ONE));
+            writer.writeRow(row("-1+2", Double.NEGATIVE_INFINITY, BigDecimal.ONE));
+            writer.writeRow(row("محمد", 0.5, BigDecimal.ONE));
+        }
+
+        List<String> lines = file.toString(StandardCharsets.UTF_8).substring(1).lines().toList();
+        assertEquals(List.of(
+                "name,rate,amount",
+                "\"'=HYPERLINK(\"\"http://x\"\",\"\"a,b\"\")\",#NUM!,-5.00",
+                "'@SUM(A1),#NUM!,1",
+                "'-1+2,#NUM!,1",
+                "محمد,0.5,1"), lines);
+    }
+
+    @Test
+    void xlsxMarksFormulasAsQuotedTextAndWritesNonFiniteNumbersAsErrors() throws IOException {
+        ByteArrayOutputStream file = new ByteArrayOutputStream();
+        try (XlsxTableWriter writer = new XlsxTableWriter(file, "Export", ZoneOffset.UTC, false)) {
+            writer.writeHeader(List.of("name", "rate", "amount"));
+            writer.writeRow(row("+962 79", Double.NaN, new BigDecimal("-5.00")));
+            writer.writeRow(row("plain", 0.5, BigDecimal.ONE));
+        }
+
+        String sheet = entry(file.toByteArray(), "xl/worksheets/sheet1.xml");
+        assertTrue(sheet.contains("<row><c t=\"inlineStr\" s=\"4\"><is><t xml:space=\"preserve\">+962 79</t></is></c>"
+                + "<c t=\"e\"><v>#NUM!</v></c><c><v>-5.00</v></c></row>"), sheet);
+        assertTrue(sheet.contains("<row><c t=\"inlineStr\"><is><t xml:space=\"preserve\">plain</t></is></c>"
+                + "<c><v>0.5</v></c><c><v>1</v></c></row>"), sheet);
+        assertTrue(entry(file.toByteArray(), "xl/styles.xml").contains("quotePrefix=\"1\""));
+    }
+
+    private static Record row(String name, double rate, BigDecimal amount) {
+        Record record = DSL_CONTEXT.newRecord(NAME, RATE, AMOUNT);
+        record.set(NAME, name);
+        record.set(RATE, rate);
+        record.set(AMOUNT, amount);
+        return record;
+    }
+
+    private static String entry(byte[] zip, String name) throws IOException {
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip), StandardCharsets.UTF_8)) {
+            for (ZipEntry entry = in.getNextEntry(); entry != null; entry = in.getNextEntry()) {
+                if (entry.getName().equals(name)) {
+                    return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                }
+            }
+        }
+        throw new AssertionError("No " + name + " in the workbook");
+    }
+}